@@ -18,6 +18,9 @@ public final class Unsafe {
     public native char    getChar(   Object o, long offset);
     public native long    getLong(   Object o, long offset);
 
+    public native void    putByte(   Object o, long offset, byte x);
+    public native void    putLong(   Object o, long offset, long x);
+
     public native long objectFieldOffset(java.lang.reflect.Field f);
     public native int arrayBaseOffset(Class arrayClass);
 }
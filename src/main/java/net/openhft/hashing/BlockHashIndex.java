@@ -0,0 +1,550 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.Util.*;
+
+/**
+ * Index of the blocks of a byte sequence, for rsync-style delta detection. The sequence is split
+ * into blocks of {@link #blockSize()} bytes (the last block could be shorter), and every block is
+ * indexed by a cheap rolling <i>weak</i> checksum (the rsync one) and by a <i>strong</i> hash,
+ * {@link LongTupleHashFunction#xx128() XXH128}.
+ *
+ * <p>A new version of the sequence is compared against the index in a single streaming pass,
+ * with a {@link Differ}: the weak checksum is rolled over every position of the new version, and
+ * the windows having a block's weak checksum are confirmed by their strong hash. Blocks found at
+ * any position, not only at block boundaries, are reported as {@linkplain
+ * DiffListener#matched(long, long, long) matched}, and the bytes between as
+ * {@linkplain DiffListener#changed(long, long) changed}, so only the changed ranges need to be
+ * shipped to a replica holding the old version. The last block of the index, if shorter than
+ * the others, is only found at the end of the new version.
+ *
+ * <p>Indexes are immutable, thread-safe and serializable: an index could be computed where the
+ * old version is, and sent to where the new version is.
+ *
+ * @see #newDiffer(DiffListener)
+ */
+@ParametersAreNonnullByDefault
+public final class BlockHashIndex implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Receives the ranges of a new version of the byte sequence, in order of offsets; every byte
+     * of the new version is in exactly one reported range.
+     */
+    public interface DiffListener {
+        /**
+         * Reports that {@code length} bytes of the new version, starting at {@code offset}, are
+         * equal to the bytes of the indexed (old) version starting at {@code oldOffset}.
+         * Consecutive matching blocks are reported as a single range.
+         */
+        void matched(long offset, long length, long oldOffset);
+
+        /**
+         * Reports that {@code length} bytes of the new version, starting at {@code offset}, are
+         * not found in the indexed version.
+         */
+        void changed(long offset, long length);
+    }
+
+    // Factories
+    //
+
+    /**
+     * Returns the index of {@code len} continuous bytes of the given {@code input} object,
+     * starting from the given offset.
+     *
+     * @param input the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off offset to the first byte of the sequence to index
+     * @param len length of the sequence to index
+     * @param blockSize the size of blocks, in bytes
+     * @param <T> the type of the input
+     * @throws IllegalArgumentException if {@code blockSize <= 0} or {@code blockSize > 2^29}, or
+     *                                  if the sequence has more than
+     *                                  {@code (Integer.MAX_VALUE - 8) / 2} blocks
+     */
+    @NotNull
+    public static <T> BlockHashIndex of(@Nullable final T input, final Access<T> access,
+                                        final long off, final long len, final int blockSize) {
+        final BlockHashIndex index = new BlockHashIndex(len, blockSize);
+        index.hashBlocks(input, access, off, len, 0);
+        index.buildTable();
+        return index;
+    }
+
+    /**
+     * Returns the index of the given array.
+     *
+     * @see #of(Object, Access, long, long, int)
+     */
+    @NotNull
+    public static BlockHashIndex ofBytes(final byte[] input, final int blockSize) {
+        return of(input, UnsafeAccess.INSTANCE, BYTE_BASE, input.length, blockSize);
+    }
+
+    /**
+     * Returns the index of bytes of the wild memory from the given address. Use with caution.
+     *
+     * @see #of(Object, Access, long, long, int)
+     */
+    @NotNull
+    public static BlockHashIndex ofMemory(final long address, final long len,
+                                          final int blockSize) {
+        return of(null, UnsafeAccess.INSTANCE, address, len, blockSize);
+    }
+
+    /**
+     * Returns the index of {@code len} bytes of the given file, starting at the file position
+     * {@code pos}. The region is memory-mapped in windows of whole blocks, and hashed in place.
+     * The position of the channel is not changed.
+     *
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws IOException if mapping the file throws
+     * @see #of(Object, Access, long, long, int)
+     */
+    @NotNull
+    public static BlockHashIndex ofFile(final FileChannel channel, final long pos, final long len,
+                                        final int blockSize) throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        final BlockHashIndex index = new BlockHashIndex(len, blockSize);
+        final long windowSize = (MAP_WINDOW_SIZE / blockSize) * blockSize;
+        for (long done = 0; done < len; done += windowSize) {
+            final long n = len - done < windowSize ? len - done : windowSize;
+            final MappedByteBuffer window = channel.map(READ_ONLY, pos + done, n);
+            index.hashBlocks(null, UnsafeAccess.INSTANCE, getDirectBufferAddress(window), n,
+                    (int) (done / blockSize));
+            reachabilityFence(window);
+        }
+        index.buildTable();
+        return index;
+    }
+
+    // Instance
+    //
+
+    private final int blockSize;
+    private final long length;
+    @NotNull
+    private final long[] weakHashes;
+    // two longs per block, in the LongTupleHashFunction#xx128() layout
+    @NotNull
+    private final long[] strongHashes;
+
+    // weak hash table of the full blocks, rebuilt after deserialization: buckets[] holds the
+    // first block of every chain, and next[] the following one, or -1
+    @NotNull
+    private transient int[] buckets;
+    @NotNull
+    private transient int[] next;
+
+    // the two halves of the strong hashes of all blocks are stored in a single array
+    static final int MAX_BLOCK_COUNT = (Integer.MAX_VALUE - 8) / 2;
+
+    private BlockHashIndex(final long length, final int blockSize) {
+        // the differ's ring holds two blocks in an array
+        if (blockSize <= 0 || blockSize > (1 << 29)) {
+            throw new IllegalArgumentException("blockSize should be in (0, 2^29]: " + blockSize);
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("length should be non-negative: " + length);
+        }
+        final long blockCount = (length + blockSize - 1) / blockSize;
+        if (blockCount > MAX_BLOCK_COUNT) {
+            throw new IllegalArgumentException("Too many blocks: " + blockCount);
+        }
+        this.blockSize = blockSize;
+        this.length = length;
+        this.weakHashes = new long[(int) blockCount];
+        this.strongHashes = new long[(int) blockCount * 2];
+    }
+
+    /**
+     * Returns the size of blocks, in bytes.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the length of the indexed byte sequence.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of blocks, the last one could be shorter than {@link #blockSize()}.
+     */
+    public int blockCount() {
+        return weakHashes.length;
+    }
+
+    /**
+     * Returns the weak, rolling checksum of the given block.
+     *
+     * @throws IndexOutOfBoundsException if {@code block < 0} or {@code block >= blockCount()}
+     */
+    public long weakHash(final int block) {
+        return weakHashes[block];
+    }
+
+    /**
+     * Stores the strong, {@link LongTupleHashFunction#xx128() XXH128} hash of the given block in
+     * the {@code result} array.
+     *
+     * @throws IndexOutOfBoundsException if {@code block < 0} or {@code block >= blockCount()}
+     * @throws IllegalArgumentException if {@code result.length < 2}
+     */
+    public void strongHash(final int block, final long[] result) {
+        if (result.length < 2) {
+            throw new IllegalArgumentException("The input result array has not enough space!");
+        }
+        result[0] = strongHashes[block * 2];
+        result[1] = strongHashes[block * 2 + 1];
+    }
+
+    /**
+     * Returns a new differ, comparing the bytes fed to it against this index, and reporting the
+     * ranges to the given listener.
+     */
+    @NotNull
+    public Differ newDiffer(final DiffListener listener) {
+        return new Differ(this, listener);
+    }
+
+    /**
+     * Compares {@code len} continuous bytes of the given {@code input} object, starting from the
+     * given offset, against this index, and reports the ranges to the given listener. Offsets are
+     * reported relatively to {@code off}.
+     */
+    public <T> void diff(@Nullable final T input, final Access<T> access,
+                         final long off, final long len, final DiffListener listener) {
+        newDiffer(listener).update(input, access, off, len).finish();
+    }
+
+    /**
+     * Compares the given array against this index.
+     *
+     * @see #diff(Object, Access, long, long, DiffListener)
+     */
+    public void diffBytes(final byte[] input, final DiffListener listener) {
+        diff(input, UnsafeAccess.INSTANCE, BYTE_BASE, input.length, listener);
+    }
+
+    /**
+     * Compares the bytes of the wild memory from the given address against this index. Use with
+     * caution.
+     *
+     * @see #diff(Object, Access, long, long, DiffListener)
+     */
+    public void diffMemory(final long address, final long len, final DiffListener listener) {
+        diff(null, UnsafeAccess.INSTANCE, address, len, listener);
+    }
+
+    /**
+     * Compares {@code len} bytes of the given file, starting at the file position {@code pos},
+     * against this index. The region is memory-mapped in windows of at most 1 GB. Offsets are
+     * reported relatively to {@code pos}.
+     *
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws IOException if mapping the file throws
+     */
+    public void diffFile(final FileChannel channel, final long pos, final long len,
+                         final DiffListener listener) throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        final Differ differ = newDiffer(listener);
+        for (long done = 0; done < len; done += MAP_WINDOW_SIZE) {
+            final long n = len - done < MAP_WINDOW_SIZE ? len - done : MAP_WINDOW_SIZE;
+            final MappedByteBuffer window = channel.map(READ_ONLY, pos + done, n);
+            differ.updateMemory(getDirectBufferAddress(window), n);
+            reachabilityFence(window);
+        }
+        differ.finish();
+    }
+
+    /**
+     * Streaming comparison of a new version of the byte sequence against a {@link BlockHashIndex}.
+     * Bytes are fed in any number of {@code update} calls, and the ranges are reported to the
+     * listener as soon as they are known; {@link #finish()} reports the remaining ones. The differ
+     * keeps the last block of bytes in a buffer preallocated at construction, so neither updates
+     * nor the reports allocate. After {@code finish()}, the differ could be reused for another
+     * version. Differs are not thread-safe.
+     */
+    public static final class Differ {
+        @NotNull
+        private final BlockHashIndex index;
+        @NotNull
+        private final DiffListener listener;
+        private final int blockSize;
+        // every byte is written twice, at i and i + blockSize, so that the last blockSize bytes
+        // are always continuous in the buffer
+        @NotNull
+        private final byte[] ring;
+        @NotNull
+        private final long[] strongHash = new long[2];
+
+        private int writePos;
+        private int filled;
+        private int a;
+        private int b;
+        private long consumed;
+        // start of the bytes not reported yet
+        private long unreportedStart;
+        // the pending matched range, extended while the following blocks match too
+        private long matchOffset;
+        private long matchLength;
+        private long matchOldOffset;
+
+        private Differ(final BlockHashIndex index, final DiffListener listener) {
+            this.index = index;
+            this.listener = listener;
+            this.blockSize = index.blockSize;
+            this.ring = new byte[blockSize * 2];
+        }
+
+        /**
+         * Appends {@code len} continuous bytes of the given {@code input} object, starting from
+         * the given offset, to the compared version.
+         *
+         * @return this differ
+         */
+        @NotNull
+        public <T> Differ update(@Nullable final T input, final Access<T> access,
+                                 final long off, final long len) {
+            final int blockSize = this.blockSize;
+            final byte[] ring = this.ring;
+            int writePos = this.writePos;
+            int filled = this.filled;
+            int a = this.a;
+            int b = this.b;
+            for (long i = 0; i < len; i++) {
+                final int in = access.u8(input, off + i);
+                if (filled < blockSize) {
+                    a += in;
+                    b += a;
+                    filled++;
+                } else {
+                    final int out = ring[writePos] & 0xFF;
+                    a += in - out;
+                    b += a - blockSize * out;
+                }
+                ring[writePos] = ring[writePos + blockSize] = (byte) in;
+                if (++writePos == blockSize) {
+                    writePos = 0;
+                }
+                if (filled == blockSize) {
+                    final int block = index.find(weakHash(a, b), ring, writePos, strongHash);
+                    if (block >= 0) {
+                        final long end = consumed + i + 1;
+                        report(end - blockSize, block);
+                        unreportedStart = end;
+                        filled = 0;
+                        a = 0;
+                        b = 0;
+                    }
+                }
+            }
+            consumed += len;
+            this.writePos = writePos;
+            this.filled = filled;
+            this.a = a;
+            this.b = b;
+            return this;
+        }
+
+        /**
+         * Appends the given array to the compared version.
+         *
+         * @return this differ
+         */
+        @NotNull
+        public Differ updateBytes(final byte[] input, final int off, final int len) {
+            checkArrayOffs(input.length, off, len);
+            return update(input, UnsafeAccess.INSTANCE, BYTE_BASE + off, len);
+        }
+
+        /**
+         * Appends {@code len} bytes of the memory at the given {@code address} to the compared
+         * version.
+         *
+         * @return this differ
+         */
+        @NotNull
+        public Differ updateMemory(final long address, final long len) {
+            return update(null, UnsafeAccess.INSTANCE, address, len);
+        }
+
+        /**
+         * Reports the ranges not reported yet, including the last, shorter block of the index if
+         * the compared version ends with it, and resets the differ for another version.
+         */
+        public void finish() {
+            final int tailLen = (int) (index.length % blockSize);
+            if (tailLen > 0 && consumed - unreportedStart >= tailLen) {
+                int start = writePos - tailLen;
+                if (start < 0) {
+                    start += blockSize;
+                }
+                final int tail = index.blockCount() - 1;
+                strongHash(ring, start, tailLen, strongHash);
+                if (index.strongHashEquals(tail, strongHash)) {
+                    report(consumed - tailLen, tail);
+                    unreportedStart = consumed;
+                }
+            }
+            reportChanged(consumed);
+            reportMatch();
+            writePos = filled = a = b = 0;
+            consumed = unreportedStart = 0;
+        }
+
+        private void report(final long offset, final int block) {
+            reportChanged(offset);
+            final long oldOffset = (long) block * blockSize;
+            final long len = block == index.blockCount() - 1 ?
+                    index.length - oldOffset : blockSize;
+            if (matchLength > 0 && matchOffset + matchLength == offset &&
+                    matchOldOffset + matchLength == oldOffset) {
+                matchLength += len;
+            } else {
+                reportMatch();
+                matchOffset = offset;
+                matchOldOffset = oldOffset;
+                matchLength = len;
+            }
+        }
+
+        private void reportChanged(final long end) {
+            if (end > unreportedStart) {
+                reportMatch();
+                listener.changed(unreportedStart, end - unreportedStart);
+                unreportedStart = end;
+            }
+        }
+
+        private void reportMatch() {
+            if (matchLength > 0) {
+                listener.matched(matchOffset, matchLength, matchOldOffset);
+                matchLength = 0;
+            }
+        }
+    }
+
+    // Internal helper
+    //
+
+    @NotNull
+    private static final LongTupleHashFunction STRONG_HASH = LongTupleHashFunction.xx128();
+
+    private static long weakHash(final int a, final int b) {
+        return ((long) b << 32) | (a & 0xFFFFFFFFL);
+    }
+
+    private static void strongHash(final byte[] input, final int off, final int len,
+                                   final long[] result) {
+        STRONG_HASH.hash(input, UnsafeAccess.INSTANCE, BYTE_BASE + off, len, result);
+    }
+
+    private static int bucket(final long weakHash, final int mask) {
+        return (int) ((weakHash * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private <T> void hashBlocks(@Nullable final T input, final Access<T> access,
+                                final long off, final long len, final int firstBlock) {
+        final long[] result = new long[2];
+        int block = firstBlock;
+        for (long done = 0; done < len; done += blockSize, block++) {
+            final int n = len - done < blockSize ? (int) (len - done) : blockSize;
+            int a = 0;
+            int b = 0;
+            for (int i = 0; i < n; i++) {
+                a += access.u8(input, off + done + i);
+                b += a;
+            }
+            weakHashes[block] = weakHash(a, b);
+            STRONG_HASH.hash(input, access, off + done, n, result);
+            strongHashes[block * 2] = result[0];
+            strongHashes[block * 2 + 1] = result[1];
+        }
+    }
+
+    private void buildTable() {
+        // only full blocks are found at any offset, the last shorter block at the end only
+        final int fullBlocks = (int) (length / blockSize);
+        final int size = fullBlocks >= 1 << 29 ? 1 << 30 :
+                Integer.highestOneBit(fullBlocks * 2 | 1) << 1;
+        buckets = new int[size];
+        Arrays.fill(buckets, -1);
+        next = new int[fullBlocks];
+        // insert backwards, so that chains start from the first block
+        for (int block = fullBlocks - 1; block >= 0; block--) {
+            final int bucket = bucket(weakHashes[block], size - 1);
+            next[block] = buckets[bucket];
+            buckets[bucket] = block;
+        }
+    }
+
+    /**
+     * Returns the first full block equal to the window of {@code ring[off .. off+blockSize-1]},
+     * having the given weak hash, or -1; {@code strongHash} is the scratch for the window's hash.
+     */
+    private int find(final long weakHash, final byte[] ring, final int off,
+                     final long[] strongHash) {
+        boolean hashed = false;
+        for (int block = buckets[bucket(weakHash, buckets.length - 1)]; block >= 0;
+             block = next[block]) {
+            if (weakHashes[block] == weakHash) {
+                if (!hashed) {
+                    strongHash(ring, off, blockSize, strongHash);
+                    hashed = true;
+                }
+                if (strongHashEquals(block, strongHash)) {
+                    return block;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private boolean strongHashEquals(final int block, final long[] strongHash) {
+        return strongHashes[block * 2] == strongHash[0] &&
+                strongHashes[block * 2 + 1] == strongHash[1];
+    }
+
+    private void readObject(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        buildTable();
+    }
+}
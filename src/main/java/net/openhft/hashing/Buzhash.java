@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static net.openhft.hashing.RollingHashFunction.byteTable;
+import static net.openhft.hashing.RollingHashFunction.checkWindowSize;
+
+/**
+ * Buzhash (cyclic polynomial) rolling hash: {@code h = rotl(h, 1) ^ T[in] ^ rotl(T[out], w)},
+ * {@code T} being a table of 256 pseudo-random values.
+ */
+@ParametersAreNonnullByDefault
+class Buzhash {
+
+    static RollingHashFunction asRollingHashFunction(final int windowSize, final long seed) {
+        checkWindowSize(windowSize);
+        return new AsRollingHashFunction(windowSize, seed);
+    }
+
+    private static class AsRollingHashFunction extends RollingHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int windowSize;
+        @NotNull
+        private final long[] table;
+        // table values rotated by the window size, for the bytes going out
+        @NotNull
+        private final long[] outTable;
+
+        private AsRollingHashFunction(final int windowSize, final long seed) {
+            this.windowSize = windowSize;
+            this.table = byteTable(seed);
+            this.outTable = new long[256];
+            for (int i = 0; i < 256; i++) {
+                outTable[i] = Long.rotateLeft(table[i], windowSize);
+            }
+        }
+
+        @Override
+        public int windowSize() {
+            return windowSize;
+        }
+
+        @Override
+        public long append(final long hash, final byte in) {
+            return Long.rotateLeft(hash, 1) ^ table[in & 0xFF];
+        }
+
+        @Override
+        public long roll(final long hash, final byte out, final byte in) {
+            return Long.rotateLeft(hash, 1) ^ outTable[out & 0xFF] ^ table[in & 0xFF];
+        }
+    }
+}
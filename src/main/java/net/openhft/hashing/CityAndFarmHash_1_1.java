@@ -16,6 +16,9 @@
 
 package net.openhft.hashing;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import static java.lang.Long.reverseBytes;
 import static java.lang.Long.rotateRight;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
@@ -24,6 +27,9 @@ import static net.openhft.hashing.Primitives.NATIVE_LITTLE_ENDIAN;
 /**
  * Adapted from the C++ CityHash implementation from Google at
  * https://github.com/google/cityhash/blob/8af9b8c2b889d80c22d6bc26ba0df1afb79a30db/src/city.cc.
+ * FarmHash Fingerprint128() is defined as CityHash128() of this version, see farmhashcc in
+ * https://github.com/google/farmhash/blob/master/src/farmhash.cc. The 32-bit CityHash32() is
+ * farmhashcc Hash32(), and FarmHash Fingerprint32() is Hash32() of farmhashmk, in the same file.
  */
 class CityAndFarmHash_1_1 {
     static final long K0 = 0xc3a5c85c97cb3127L;
@@ -321,6 +327,299 @@ class CityAndFarmHash_1_1 {
     }
 
 
+    // CityHash128
+
+    private static long cityMurmurFinish(long a, long b, long c, long d, @Nullable long[] result) {
+        a = hashLen16(a, c);
+        b = hashLen16(d, b);
+        long low = a ^ b;
+        if (null != result) {
+            result[0] = low;
+            result[1] = hashLen16(b, a);
+        }
+        return low;
+    }
+
+    /**
+     * CityMurmur() for inputs of up to 16 bytes, when {@code hashLen0To16} is already computed.
+     */
+    private static long cityMurmur0To16(long seed0, long seed1, long len, long first8Bytes,
+                                        long hashLen0To16, @Nullable long[] result) {
+        long a = shiftMix(seed0 * K1) * K1;
+        long c = seed1 * K1 + hashLen0To16;
+        long d = shiftMix(a + (len >= 8L ? first8Bytes : c));
+        return cityMurmurFinish(a, seed1, c, d, result);
+    }
+
+    private static <T> long cityMurmur(Access<T> access, T in, long off, long len,
+                                       long seed0, long seed1, @Nullable long[] result) {
+        if (len <= 16L) {
+            return cityMurmur0To16(seed0, seed1, len, len >= 8L ? access.i64(in, off) : 0L,
+                    hashLen0To16(access, in, off, len), result);
+        }
+        long a = seed0;
+        long b = seed1;
+        long c = hashLen16(access.i64(in, off + len - 8L) + K1, a);
+        long d = hashLen16(b + len, c + access.i64(in, off + len - 16L));
+        a += d;
+        long l = len - 16L;
+        do {
+            a ^= shiftMix(access.i64(in, off) * K1) * K1;
+            a *= K1;
+            b ^= a;
+            c ^= shiftMix(access.i64(in, off + 8L) * K1) * K1;
+            c *= K1;
+            d ^= c;
+            off += 16L;
+            l -= 16L;
+        } while (l > 0L);
+        return cityMurmurFinish(a, b, c, d, result);
+    }
+
+    static <T> long cityHash128WithSeed(Access<T> access, T in, long off, long len,
+                                        long seed0, long seed1, @Nullable long[] result) {
+        if (len < 128L) {
+            return cityMurmur(access, in, off, len, seed0, seed1, result);
+        }
+
+        // We expect len >= 128 to be the common case. Keep 56 bytes of state:
+        // v, w, x, y, and z.
+        long x = seed0;
+        long y = seed1;
+        long z = len * K1;
+        long vFirst = rotateRight(y ^ K1, 49) * K1 + access.i64(in, off);
+        long vSecond = rotateRight(vFirst, 42) * K1 + access.i64(in, off + 8L);
+        long wFirst = rotateRight(y + z, 35) * K1 + x;
+        long wSecond = rotateRight(x + access.i64(in, off + 88L), 53) * K1;
+
+        // This is the same inner loop as CityHash64(), the C++ version unrolls it twice.
+        long end = off + (len & ~127L);
+        do {
+            x = rotateRight(x + y + vFirst + access.i64(in, off + 8L), 37) * K1;
+            y = rotateRight(y + vSecond + access.i64(in, off + 48L), 42) * K1;
+            x ^= wSecond;
+            y += vFirst + access.i64(in, off + 40L);
+            z = rotateRight(z + wFirst, 33) * K1;
+
+            // WeakHashLen32WithSeeds
+            long a1 = vSecond * K1;
+            long b1 = x + wFirst;
+            long w2 = access.i64(in, off);
+            long x2 = access.i64(in, off + 8L);
+            long y2 = access.i64(in, off + 16L);
+            long z2 = access.i64(in, off + 24L);
+            a1 += w2;
+            b1 = rotateRight(b1 + a1 + z2, 21);
+            long c1 = a1;
+            a1 += x2 + y2;
+            b1 += rotateRight(a1, 44);
+            vFirst = a1 + z2;
+            vSecond = b1 + c1;
+
+            // WeakHashLen32WithSeeds
+            long a = z + wSecond;
+            long b = y + access.i64(in, off + 16L);
+            long w1 = access.i64(in, off + 32L);
+            long x1 = access.i64(in, off + 32L + 8L);
+            long y1 = access.i64(in, off + 32L + 16L);
+            long z1 = access.i64(in, off + 32L + 24L);
+            a += w1;
+            b = rotateRight(b + a + z1, 21);
+            long c = a;
+            a += x1 + y1;
+            b += rotateRight(a, 44);
+            wFirst = a + z1;
+            wSecond = b + c;
+
+            long tmp = x;
+            x = z;
+            z = tmp;
+
+            off += 64L;
+        } while (off != end);
+        len &= 127L;
+
+        x += rotateRight(vFirst + z, 49) * K0;
+        y = y * K0 + rotateRight(wSecond, 37);
+        z = z * K0 + rotateRight(wFirst, 27);
+        wFirst *= 9L;
+        vFirst *= K0;
+        // If 0 < len < 128, hash up to 4 chunks of 32 bytes each from the end of input.
+        for (long tailDone = 0L; tailDone < len; ) {
+            tailDone += 32L;
+            long chunk = off + len - tailDone;
+            y = rotateRight(x + y, 42) * K0 + vSecond;
+            wFirst += access.i64(in, chunk + 16L);
+            x = x * K0 + wFirst;
+            z += wSecond + access.i64(in, chunk);
+            wSecond += vFirst;
+
+            // WeakHashLen32WithSeeds
+            long a = vFirst + z;
+            long b = vSecond;
+            long w1 = access.i64(in, chunk);
+            long x1 = access.i64(in, chunk + 8L);
+            long y1 = access.i64(in, chunk + 16L);
+            long z1 = access.i64(in, chunk + 24L);
+            a += w1;
+            b = rotateRight(b + a + z1, 21);
+            long c = a;
+            a += x1 + y1;
+            b += rotateRight(a, 44);
+            vFirst = (a + z1) * K0;
+            vSecond = b + c;
+        }
+        // At this point our 56 bytes of state should contain more than
+        // enough information for a strong 128-bit hash. We use two
+        // different 56-byte-to-8-byte hashes to get a good result.
+        x = hashLen16(x, vFirst);
+        y = hashLen16(y + z, wFirst);
+        long low = hashLen16(x + vSecond, wSecond) + y;
+        if (null != result) {
+            result[0] = low;
+            result[1] = hashLen16(x + wSecond, y + vSecond);
+        }
+        return low;
+    }
+
+    static <T> long cityHash128(Access<T> access, T in, long off, long len,
+                                @Nullable long[] result) {
+        if (len >= 16L) {
+            return cityHash128WithSeed(access, in, off + 16L, len - 16L,
+                    access.i64(in, off), access.i64(in, off + 8L) + K0, result);
+        }
+        return cityHash128WithSeed(access, in, off, len, K0, K1, result);
+    }
+
+    private static class AsLongTupleHashFunction extends DualHashFunction {
+        private static final long serialVersionUID = 0L;
+        @NotNull
+        private static final AsLongTupleHashFunction SEEDLESS_INSTANCE =
+                new AsLongTupleHashFunction();
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        @NotNull
+        public long[] newResultArray() {
+            return new long[2]; // override for a little performance
+        }
+
+        // Inputs shorter than 16 bytes are hashed with these seeds, longer inputs of the seedless
+        // version take the seeds from their first 16 bytes
+        long seed0() {
+            return K0;
+        }
+
+        long seed1() {
+            return K1;
+        }
+
+        @Override
+        protected long dualHashLong(long input, @Nullable long[] result) {
+            input = Primitives.nativeToLittleEndian(input);
+            long hash = hash8To16Bytes(8L, input, input);
+            return cityMurmur0To16(seed0(), seed1(), 8L, input, hash, result);
+        }
+
+        @Override
+        protected long dualHashInt(int input, @Nullable long[] result) {
+            input = Primitives.nativeToLittleEndian(input);
+            long unsignedInt = Primitives.unsignedInt(input);
+            long hash = hash4To7Bytes(4L, unsignedInt, unsignedInt);
+            return cityMurmur0To16(seed0(), seed1(), 4L, 0L, hash, result);
+        }
+
+        @Override
+        protected long dualHashShort(short input, @Nullable long[] result) {
+            return dualHashChar((char) input, result);
+        }
+
+        @Override
+        protected long dualHashChar(char input, @Nullable long[] result) {
+            int unsignedInput = (int) input;
+            int firstByte = (unsignedInput >> AsLongHashFunction.FIRST_SHORT_BYTE_SHIFT) &
+                    AsLongHashFunction.FIRST_SHORT_BYTE_MASK;
+            int secondByte = (unsignedInput >> AsLongHashFunction.SECOND_SHORT_BYTE_SHIFT) &
+                    AsLongHashFunction.SECOND_SHORT_BYTE_MASK;
+            long hash = hash1To3Bytes(2, firstByte, secondByte, secondByte);
+            return cityMurmur0To16(seed0(), seed1(), 2L, 0L, hash, result);
+        }
+
+        @Override
+        protected long dualHashByte(byte input, @Nullable long[] result) {
+            int unsignedByte = Primitives.unsignedByte(input);
+            long hash = hash1To3Bytes(1, unsignedByte, unsignedByte, unsignedByte);
+            return cityMurmur0To16(seed0(), seed1(), 1L, 0L, hash, result);
+        }
+
+        @Override
+        protected long dualHashVoid(@Nullable long[] result) {
+            return cityMurmur0To16(seed0(), seed1(), 0L, 0L, K2, result);
+        }
+
+        @Override
+        protected <T> long dualHash(@Nullable T input, Access<T> access, long off, long len,
+                                    @Nullable long[] result) {
+            return CityAndFarmHash_1_1.cityHash128(
+                    access.byteOrder(input, LITTLE_ENDIAN), input, off, len, result);
+        }
+    }
+
+    private static class AsLongTupleHashFunctionSeeded extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed0, seed1;
+
+        private AsLongTupleHashFunctionSeeded(long seed0, long seed1) {
+            this.seed0 = seed0;
+            this.seed1 = seed1;
+        }
+
+        @Override
+        long seed0() {
+            return seed0;
+        }
+
+        @Override
+        long seed1() {
+            return seed1;
+        }
+
+        @Override
+        protected <T> long dualHash(@Nullable T input, Access<T> access, long off, long len,
+                                    @Nullable long[] result) {
+            return CityAndFarmHash_1_1.cityHash128WithSeed(
+                    access.byteOrder(input, LITTLE_ENDIAN), input, off, len, seed0, seed1, result);
+        }
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunctionWithoutSeed() {
+        return AsLongTupleHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunctionWithSeeds(long seed0, long seed1) {
+        return new AsLongTupleHashFunctionSeeded(seed0, seed1);
+    }
+
+    static LongHashFunction asLongTupleLowHashFunctionWithoutSeed() {
+        return AsLongTupleHashFunction.SEEDLESS_INSTANCE.asLongHashFunction();
+    }
+
+    static LongHashFunction asLongTupleLowHashFunctionWithSeeds(long seed0, long seed1) {
+        return new AsLongTupleHashFunctionSeeded(seed0, seed1).asLongHashFunction();
+    }
+
+
     // FarmHash
 
     private static <T> long naHashLen33To64(Access<T> access, T in, long off, long len) {
@@ -681,4 +980,354 @@ class CityAndFarmHash_1_1 {
     static LongHashFunction uoWithSeeds(long seed0, long seed1) {
         return new UoSeeded(seed0, seed1);
     }
+
+
+    // CityHash32 and FarmHash Hash32 (farmhashmk)
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    private static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int mur(int a, int h) {
+        a *= C1;
+        a = Integer.rotateRight(a, 17);
+        a *= C2;
+        h ^= a;
+        h = Integer.rotateRight(h, 19);
+        return h * 5 + 0xe6546b64;
+    }
+
+    private static int hash32Len0To4Finish(int len, int b, int c) {
+        return fmix(mur(b, mur(len, c)));
+    }
+
+    private static <T> int hash32Len0To4(Access<T> access, T in, long off, int len, int seed) {
+        int b = seed;
+        int c = 9;
+        for (int i = 0; i < len; i++) {
+            b = b * C1 + access.i8(in, off + i); // signed char in the reference
+            c ^= b;
+        }
+        return hash32Len0To4Finish(len, b, c);
+    }
+
+    private static int hash32Len5To12(int len, int first4Bytes, int last4Bytes, int mid4Bytes,
+                                      int seed) {
+        int a = len, b = len * 5, c = 9, d = b + seed;
+        a += first4Bytes;
+        b += last4Bytes;
+        c += mid4Bytes;
+        return fmix(seed ^ mur(c, mur(b, mur(a, d))));
+    }
+
+    private static <T> int hash32Len5To12(Access<T> access, T in, long off, int len, int seed) {
+        return hash32Len5To12(len, access.i32(in, off), access.i32(in, off + len - 4),
+                access.i32(in, off + ((len >>> 1) & 4)), seed);
+    }
+
+    private static <T> int mkHash32Len13To24(Access<T> access, T in, long off, int len, int seed) {
+        int a = access.i32(in, off - 4 + (len >>> 1));
+        int b = access.i32(in, off + 4);
+        int c = access.i32(in, off + len - 8);
+        int d = access.i32(in, off + (len >>> 1));
+        int e = access.i32(in, off);
+        int f = access.i32(in, off + len - 4);
+        int h = d * C1 + len + seed;
+        a = Integer.rotateRight(a, 12) + f;
+        h = mur(c, h) + a;
+        a = Integer.rotateRight(a, 3) + c;
+        h = mur(e, h) + a;
+        a = Integer.rotateRight(a + f, 12) + d;
+        h = mur(b ^ seed, h) + a;
+        return fmix(h);
+    }
+
+    private static <T> int cityHash32Len13To24(Access<T> access, T in, long off, int len) {
+        int a = access.i32(in, off - 4 + (len >>> 1));
+        int b = access.i32(in, off + 4);
+        int c = access.i32(in, off + len - 8);
+        int d = access.i32(in, off + (len >>> 1));
+        int e = access.i32(in, off);
+        int f = access.i32(in, off + len - 4);
+        return fmix(mur(f, mur(e, mur(d, mur(c, mur(b, mur(a, len)))))));
+    }
+
+    private static int hash32Round(int h, int a) {
+        h ^= a;
+        h = Integer.rotateRight(h, 19);
+        return h * 5 + 0xe6546b64;
+    }
+
+    private static int mix32(int x) {
+        return Integer.rotateRight(x * C1, 17) * C2;
+    }
+
+    private static int hash32Finish(int h, int g, int f) {
+        g = Integer.rotateRight(g, 11) * C1;
+        g = Integer.rotateRight(g, 17) * C1;
+        f = Integer.rotateRight(f, 11) * C1;
+        f = Integer.rotateRight(f, 17) * C1;
+        h = Integer.rotateRight(h + g, 19);
+        h = h * 5 + 0xe6546b64;
+        h = Integer.rotateRight(h, 17) * C1;
+        h = Integer.rotateRight(h + f, 19);
+        h = h * 5 + 0xe6546b64;
+        h = Integer.rotateRight(h, 17) * C1;
+        return h;
+    }
+
+    static <T> int cityHash32(Access<T> access, T in, long off, long len) {
+        if (len <= 24) {
+            int l = (int) len;
+            return len <= 12 ?
+                    (len <= 4 ? hash32Len0To4(access, in, off, l, 0) :
+                            hash32Len5To12(access, in, off, l, 0)) :
+                    cityHash32Len13To24(access, in, off, l);
+        }
+
+        // len > 24
+        int h = (int) len, g = C1 * h, f = g;
+        h = hash32Round(hash32Round(h, mix32(access.i32(in, off + len - 4))),
+                mix32(access.i32(in, off + len - 16)));
+        g = hash32Round(hash32Round(g, mix32(access.i32(in, off + len - 8))),
+                mix32(access.i32(in, off + len - 12)));
+        f += mix32(access.i32(in, off + len - 20));
+        f = Integer.rotateRight(f, 19);
+        f = f * 5 + 0xe6546b64;
+        long iters = (len - 1) / 20;
+        do {
+            int a0 = mix32(access.i32(in, off));
+            int a1 = access.i32(in, off + 4);
+            int a2 = mix32(access.i32(in, off + 8));
+            int a3 = mix32(access.i32(in, off + 12));
+            int a4 = access.i32(in, off + 16);
+            h ^= a0;
+            h = Integer.rotateRight(h, 18);
+            h = h * 5 + 0xe6546b64;
+            f += a1;
+            f = Integer.rotateRight(f, 19);
+            f = f * C1;
+            g += a2;
+            g = Integer.rotateRight(g, 18);
+            g = g * 5 + 0xe6546b64;
+            h = hash32Round(h, a3 + a1);
+            g ^= a4;
+            g = Integer.reverseBytes(g) * 5;
+            h += a4 * 5;
+            h = Integer.reverseBytes(h);
+            f += a0;
+            // PERMUTE3(f, h, g)
+            int tmp = f;
+            f = g;
+            g = h;
+            h = tmp;
+            off += 20;
+        } while (--iters != 0);
+        return hash32Finish(h, g, f);
+    }
+
+    static <T> int mkHash32(Access<T> access, T in, long off, long len) {
+        if (len <= 24) {
+            int l = (int) len;
+            return len <= 12 ?
+                    (len <= 4 ? hash32Len0To4(access, in, off, l, 0) :
+                            hash32Len5To12(access, in, off, l, 0)) :
+                    mkHash32Len13To24(access, in, off, l, 0);
+        }
+
+        // len > 24
+        int h = (int) len, g = C1 * h, f = g;
+        h = hash32Round(hash32Round(h, mix32(access.i32(in, off + len - 4))),
+                mix32(access.i32(in, off + len - 16)));
+        g = hash32Round(hash32Round(g, mix32(access.i32(in, off + len - 8))),
+                mix32(access.i32(in, off + len - 12)));
+        f += mix32(access.i32(in, off + len - 20));
+        f = Integer.rotateRight(f, 19) + 113;
+        long iters = (len - 1) / 20;
+        do {
+            int a = access.i32(in, off);
+            int b = access.i32(in, off + 4);
+            int c = access.i32(in, off + 8);
+            int d = access.i32(in, off + 12);
+            int e = access.i32(in, off + 16);
+            h += a;
+            g += b;
+            f += c;
+            h = mur(d, h) + e;
+            g = mur(c, g) + a;
+            f = mur(b + e * C1, f) + d;
+            f += g;
+            g += f;
+            off += 20;
+        } while (--iters != 0);
+        return hash32Finish(h, g, f);
+    }
+
+    /**
+     * Hash32WithSeed() of farmhashmk, and of farmhashcc if {@code city}, which differ only in the
+     * unseeded hash of the bytes after the first 24.
+     */
+    static <T> int hash32WithSeed(Access<T> access, T in, long off, long len, int seed,
+                                  boolean city) {
+        if (len <= 24) {
+            int l = (int) len;
+            if (len >= 13) return mkHash32Len13To24(access, in, off, l, seed * C1);
+            else if (len >= 5) return hash32Len5To12(access, in, off, l, seed);
+            else return hash32Len0To4(access, in, off, l, seed);
+        }
+        int h = mkHash32Len13To24(access, in, off, 24, seed ^ (int) len);
+        int rest = city ? cityHash32(access, in, off + 24, len - 24) :
+                mkHash32(access, in, off + 24, len - 24);
+        return mur(rest + seed, h);
+    }
+
+    /**
+     * CityHash32(). Inputs of up to 12 bytes, including all primitives, are hashed the same way
+     * by CityHash32 and farmhashmk, with or without a seed.
+     */
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+        private static final AsIntHashFunction SEEDLESS_INSTANCE = new AsIntHashFunction();
+        private static final int VOID_HASH = hash32Len0To4Finish(0, 0, 9);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        int seed() {
+            return 0;
+        }
+
+        @Override
+        public int hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int low = (int) input;
+            int high = (int) (input >>> 32);
+            return hash32Len5To12(8, low, high, high, seed());
+        }
+
+        @Override
+        public int hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int b = seed();
+            int c = 9;
+            for (int shift = 0; shift < 32; shift += 8) {
+                b = b * C1 + (byte) (input >> shift);
+                c ^= b;
+            }
+            return hash32Len0To4Finish(4, b, c);
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int b = seed() * C1 + (byte) input;
+            int c = 9 ^ b;
+            b = b * C1 + (byte) (input >> 8);
+            c ^= b;
+            return hash32Len0To4Finish(2, b, c);
+        }
+
+        @Override
+        public int hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(byte input) {
+            int b = seed() * C1 + input;
+            return hash32Len0To4Finish(1, b, 9 ^ b);
+        }
+
+        @Override
+        public int hashVoid() {
+            return VOID_HASH;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return cityHash32(access.byteOrder(input, LITTLE_ENDIAN), input, off, len);
+        }
+    }
+
+    static IntHashFunction asIntHashFunctionWithoutSeed() {
+        return AsIntHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    /**
+     * Hash32WithSeed() of farmhashcc, CityHash32 having no seeded version.
+     */
+    private static class AsIntHashFunctionSeeded extends AsIntHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int seed;
+        private final transient int voidHash;
+
+        private AsIntHashFunctionSeeded(int seed) {
+            this.seed = seed;
+            voidHash = hash32Len0To4Finish(0, seed, 9);
+        }
+
+        @Override
+        int seed() {
+            return seed;
+        }
+
+        @Override
+        public int hashVoid() {
+            return voidHash;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return hash32WithSeed(access.byteOrder(input, LITTLE_ENDIAN), input, off, len, seed, true);
+        }
+    }
+
+    static IntHashFunction asIntHashFunctionWithSeed(int seed) {
+        return new AsIntHashFunctionSeeded(seed);
+    }
+
+    private static final class Mk extends AsIntHashFunction {
+        private static final long serialVersionUID = 0L;
+        private static final Mk SEEDLESS_MK = new Mk();
+
+        private Object readResolve() {
+            return SEEDLESS_MK;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return mkHash32(access.byteOrder(input, LITTLE_ENDIAN), input, off, len);
+        }
+    }
+
+    static IntHashFunction mkWithoutSeed() {
+        return Mk.SEEDLESS_MK;
+    }
+
+    private static final class MkSeeded extends AsIntHashFunctionSeeded {
+        private static final long serialVersionUID = 0L;
+
+        private MkSeeded(int seed) {
+            super(seed);
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return hash32WithSeed(access.byteOrder(input, LITTLE_ENDIAN), input, off, len, seed(), false);
+        }
+    }
+
+    static IntHashFunction mkWithSeed(int seed) {
+        return new MkSeeded(seed);
+    }
 }
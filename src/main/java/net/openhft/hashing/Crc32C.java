@@ -0,0 +1,261 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import java.lang.reflect.Constructor;
+import java.util.zip.Checksum;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+
+/**
+ * CRC-32C (Castagnoli), as of iSCSI, ext4 and many storage formats, see {@link
+ * IntHashFunction#crc32c()}, and the combination of the CRCs of adjacent byte sequences.
+ *
+ * <p>On Java 9+, byte arrays and heap {@code ByteBuffer}s of at least {@value
+ * #MIN_INTRINSIC_LENGTH} bytes are checksummed with {@code java.util.zip.CRC32C}, which HotSpot
+ * compiles to the CRC32 instructions of the CPU; one instance is kept per thread, so no garbage is
+ * produced. Other inputs: {@code CharSequence}s, direct buffers, memory at an address, and any
+ * {@link Access}, are checksummed with slicing-by-8, eight bytes at a time.
+ */
+@ParametersAreNonnullByDefault
+public final class Crc32C {
+
+    /**
+     * The reflected Castagnoli polynomial.
+     */
+    private static final int POLY = 0x82f63b78;
+
+    /**
+     * Shorter inputs are faster to checksum with the tables than to pass to the JDK.
+     */
+    static final int MIN_INTRINSIC_LENGTH = 64;
+
+    /**
+     * The slicing-by-8 tables: {@code TABLE[k * 256 + b]} is the CRC of the byte {@code b}
+     * followed by {@code k} zero bytes.
+     */
+    private static final int[] TABLE = new int[8 * 256];
+
+    /**
+     * {@code X2N[k]} is x^(2^k) modulo the polynomial.
+     */
+    private static final int[] X2N = new int[32];
+
+    @Nullable
+    private static final ThreadLocal<Checksum> JDK_CRC32C;
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            int crc = b;
+            for (int i = 0; i < 8; i++) {
+                crc = (crc >>> 1) ^ (POLY & -(crc & 1));
+            }
+            TABLE[b] = crc;
+        }
+        for (int k = 1; k < 8; k++) {
+            for (int b = 0; b < 256; b++) {
+                int crc = TABLE[(k - 1) * 256 + b];
+                TABLE[k * 256 + b] = (crc >>> 8) ^ TABLE[crc & 0xFF];
+            }
+        }
+
+        int p = 1 << 30; // x^1
+        X2N[0] = p;
+        for (int k = 1; k < 32; k++) {
+            X2N[k] = p = multModP(p, p);
+        }
+
+        ThreadLocal<Checksum> jdkCrc32C;
+        try {
+            final Constructor<?> constructor = Class.forName("java.util.zip.CRC32C").getConstructor();
+            constructor.newInstance();
+            jdkCrc32C = new ThreadLocal<Checksum>() {
+                @Override
+                protected Checksum initialValue() {
+                    try {
+                        return (Checksum) constructor.newInstance();
+                    } catch (final Exception e) {
+                        throw new AssertionError(e);
+                    }
+                }
+            };
+        } catch (final Throwable ignore) {
+            // before Java 9
+            jdkCrc32C = null;
+        }
+        JDK_CRC32C = jdkCrc32C;
+    }
+
+    private Crc32C() {
+    }
+
+    /**
+     * Returns the CRC-32C of the concatenation of two byte sequences, given their CRC-32Cs and the
+     * length of the second one, in time logarithmic in {@code lenB}, like {@code
+     * crc32c_combine()} of zlib. Sequences checksummed in parallel can so be merged.
+     *
+     * @param crcA the CRC-32C of the first sequence
+     * @param crcB the CRC-32C of the second sequence
+     * @param lenB the length of the second sequence, in bytes
+     * @return the CRC-32C of the first sequence followed by the second one
+     * @throws IllegalArgumentException if {@code lenB < 0}
+     */
+    public static int combine(int crcA, int crcB, long lenB) {
+        if (lenB < 0)
+            throw new IllegalArgumentException("lenB should be non-negative: " + lenB);
+        return multModP(x2nModP(lenB, 3), crcA) ^ crcB;
+    }
+
+    /**
+     * Returns a * b modulo the polynomial, in the reflected bit order.
+     */
+    private static int multModP(int a, int b) {
+        int m = 1 << 31;
+        int p = 0;
+        for (;;) {
+            if ((a & m) != 0) {
+                p ^= b;
+                if ((a & (m - 1)) == 0) {
+                    break;
+                }
+            }
+            m >>>= 1;
+            b = (b >>> 1) ^ (POLY & -(b & 1));
+        }
+        return p;
+    }
+
+    /**
+     * Returns x^(n * 2^k) modulo the polynomial.
+     */
+    private static int x2nModP(long n, int k) {
+        int p = 1 << 31; // x^0
+        while (n != 0) {
+            if ((n & 1) != 0) {
+                p = multModP(X2N[k & 31], p);
+            }
+            n >>>= 1;
+            k++;
+        }
+        return p;
+    }
+
+    /**
+     * Feeds four bytes, the first one in the lowest bits of {@code v}, to the non-inverted CRC.
+     */
+    private static int update4(int crc, int v) {
+        int x = crc ^ v;
+        return TABLE[3 * 256 + (x & 0xFF)] ^ TABLE[2 * 256 + ((x >>> 8) & 0xFF)] ^
+                TABLE[256 + ((x >>> 16) & 0xFF)] ^ TABLE[x >>> 24];
+    }
+
+    /**
+     * Feeds eight bytes, the first one in the lowest bits of {@code v}, to the non-inverted CRC.
+     */
+    private static int update8(int crc, long v) {
+        int lo = crc ^ (int) v;
+        int hi = (int) (v >>> 32);
+        return TABLE[7 * 256 + (lo & 0xFF)] ^ TABLE[6 * 256 + ((lo >>> 8) & 0xFF)] ^
+                TABLE[5 * 256 + ((lo >>> 16) & 0xFF)] ^ TABLE[4 * 256 + (lo >>> 24)] ^
+                TABLE[3 * 256 + (hi & 0xFF)] ^ TABLE[2 * 256 + ((hi >>> 8) & 0xFF)] ^
+                TABLE[256 + ((hi >>> 16) & 0xFF)] ^ TABLE[hi >>> 24];
+    }
+
+    private static int update1(int crc, int b) {
+        return (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+    }
+
+    private static <T> int crc32c(T input, Access<T> access, long off, long len) {
+        int crc = -1;
+        long remaining = len;
+        while (remaining >= 8L) {
+            crc = update8(crc, access.i64(input, off));
+            off += 8L;
+            remaining -= 8L;
+        }
+        if (remaining >= 4L) {
+            crc = update4(crc, access.i32(input, off));
+            off += 4L;
+            remaining -= 4L;
+        }
+        for (; remaining > 0L; remaining--, off++) {
+            crc = update1(crc, access.u8(input, off));
+        }
+        return ~crc;
+    }
+
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsIntHashFunction INSTANCE = new AsIntHashFunction();
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+
+        @Override
+        public int hashLong(long input) {
+            return ~update8(-1, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public int hashInt(int input) {
+            return ~update4(-1, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return ~update1(update1(-1, input & 0xFF), (input >>> 8) & 0xFF);
+        }
+
+        @Override
+        public int hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(byte input) {
+            return ~update1(-1, Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public int hashVoid() {
+            return 0;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            // byte arrays and heap buffers come from hashBytes() with the unsafe access
+            if (JDK_CRC32C != null && len >= MIN_INTRINSIC_LENGTH && input instanceof byte[] &&
+                    access == UnsafeAccess.INSTANCE) {
+                final Checksum checksum = JDK_CRC32C.get();
+                checksum.reset();
+                checksum.update((byte[]) input, (int) (off - BYTE_BASE), (int) len);
+                return (int) checksum.getValue();
+            }
+            return Crc32C.crc32c(input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static IntHashFunction asIntHashFunction() {
+        return AsIntHashFunction.INSTANCE;
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static net.openhft.hashing.TreeHashFunction.MIN_FORK_LEN;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.Util.*;
+
+/**
+ * 64-bit CRCs, reflected, with all-ones initial value and final XOR: CRC-64/XZ, over the
+ * ECMA-182 polynomial, see {@link LongHashFunction#crc64Xz()}, and CRC-64/NVME, see {@link
+ * LongHashFunction#crc64Nvme()}; the combination of the CRCs of adjacent byte sequences; and the
+ * checksumming of large regions on all cores. Bytes are consumed sixteen at a time with
+ * slicing-by-16 tables (32 KB per polynomial, computed on the first use).
+ *
+ * <p>CRCs of adjacent byte sequences can be {@linkplain #combine(LongHashFunction, long, long,
+ * long) combined} into the CRC of their concatenation, so parts of a sequence checksummed
+ * independently, for example by several writers, can be merged. The {@code hash*Parallel}
+ * methods use this: a region is split in halves on a {@link java.util.concurrent.ForkJoinPool},
+ * down to 256 KB, and the CRCs of the halves are combined. Their results are the same as of the
+ * sequential methods of the function.
+ *
+ * <p>The methods of this class take one of the CRC-64 functions, and throw {@code
+ * IllegalArgumentException} for other functions.
+ */
+@ParametersAreNonnullByDefault
+public final class Crc64 {
+
+    // the polynomials, in the normal bit order
+    private static final long ECMA_182 = 0x42f0e1eba9ea3693L;
+    private static final long NVME = 0xad93d23594c93659L;
+
+    private static class Xz {
+        static final AsLongHashFunction INSTANCE = new AsLongHashFunction(ECMA_182);
+    }
+
+    private static class Nvme {
+        static final AsLongHashFunction INSTANCE = new AsLongHashFunction(NVME);
+    }
+
+    private Crc64() {
+    }
+
+    @NotNull
+    static LongHashFunction xz() {
+        return Xz.INSTANCE;
+    }
+
+    @NotNull
+    static LongHashFunction nvme() {
+        return Nvme.INSTANCE;
+    }
+
+    @NotNull
+    private static AsLongHashFunction crc64(final LongHashFunction f) {
+        if (!(f instanceof AsLongHashFunction)) {
+            throw new IllegalArgumentException("Not a CRC-64 function: " + f);
+        }
+        return (AsLongHashFunction) f;
+    }
+
+    /**
+     * Returns the CRC of the concatenation of two byte sequences, given their CRCs computed by
+     * the {@code crc64} function and the length of the second one, in time logarithmic in
+     * {@code lenB}, like {@code crc32_combine()} of zlib.
+     *
+     * @param crc64 {@link LongHashFunction#crc64Xz()} or {@link LongHashFunction#crc64Nvme()}
+     * @param crcA the CRC of the first sequence
+     * @param crcB the CRC of the second sequence
+     * @param lenB the length of the second sequence, in bytes
+     * @return the CRC of the first sequence followed by the second one
+     * @throws IllegalArgumentException if {@code lenB < 0}, or if {@code crc64} isn't a CRC-64
+     *                                  function
+     */
+    public static long combine(final LongHashFunction crc64, final long crcA, final long crcB,
+                               final long lenB) {
+        final AsLongHashFunction f = crc64(crc64);
+        if (lenB < 0)
+            throw new IllegalArgumentException("lenB should be non-negative: " + lenB);
+        return f.combine(crcA, crcB, lenB);
+    }
+
+    // Parallel checksumming
+    //
+
+    /**
+     * Returns the CRC of {@code len} bytes of the given {@code input} object starting from the
+     * given offset, computed on all cores for large inputs; see {@link
+     * LongHashFunction#hash(Object, Access, long, long)}. The {@code access} must support
+     * concurrent reads.
+     *
+     * @throws IllegalArgumentException if {@code crc64} isn't a CRC-64 function
+     */
+    public static <T> long hashParallel(final LongHashFunction crc64, @Nullable final T input,
+                                        final Access<T> access, final long off, final long len) {
+        return run(new Segment<T>(crc64(crc64), input, access, null, off, len)).crc;
+    }
+
+    /**
+     * Returns the CRC of the remaining bytes of the given buffer, computed on all cores for large
+     * buffers. The state of the buffer is not changed.
+     *
+     * @throws IllegalArgumentException if {@code crc64} isn't a CRC-64 function
+     */
+    public static long hashBytesParallel(final LongHashFunction crc64, final ByteBuffer input) {
+        final AsLongHashFunction f = crc64(crc64);
+        final Segment<?> segment;
+        if (input.hasArray()) {
+            segment = new Segment<Object>(f, input.array(), UnsafeAccess.INSTANCE, null,
+                    BYTE_BASE + input.arrayOffset() + input.position(), input.remaining());
+        } else if (input instanceof DirectBuffer) {
+            segment = new Segment<Object>(f, null, UnsafeAccess.INSTANCE, null,
+                    ((DirectBuffer) input).address() + input.position(), input.remaining());
+        } else {
+            segment = new Segment<ByteBuffer>(f, input, ByteBufferAccess.INSTANCE, null,
+                    input.position(), input.remaining());
+        }
+        return run(segment).crc;
+    }
+
+    /**
+     * Returns the CRC of the bytes of the wild memory from the given address, computed on all
+     * cores for large regions. Use with caution.
+     *
+     * @throws IllegalArgumentException if {@code crc64} isn't a CRC-64 function
+     */
+    public static long hashMemoryParallel(final LongHashFunction crc64, final long address,
+                                          final long len) {
+        return run(new Segment<Object>(crc64(crc64), null, UnsafeAccess.INSTANCE, null, address,
+                len)).crc;
+    }
+
+    /**
+     * Returns the CRC of {@code len} bytes of the given file, starting at the file position
+     * {@code pos}, computed on all cores for large regions. The region is memory-mapped in
+     * windows of at most 1 GB, checksummed in place. The position of the channel is not changed.
+     *
+     * @throws IllegalArgumentException if {@code crc64} isn't a CRC-64 function
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws IOException if mapping the file throws
+     */
+    public static long hashFileParallel(final LongHashFunction crc64, final FileChannel channel,
+                                        final long pos, final long len) throws IOException {
+        final AsLongHashFunction f = crc64(crc64);
+        checkFileOffs(channel.size(), pos, len);
+        try {
+            return run(new Segment<Object>(f, null, UnsafeAccess.INSTANCE, channel, pos, len))
+                    .crc;
+        } catch (TreeHashFunction.MappingFailedException e) {
+            throw e.getCause();
+        }
+    }
+
+    @NotNull
+    private static <T> Segment<T> run(final Segment<T> segment) {
+        if (segment.len < MIN_FORK_LEN && null == segment.channel) {
+            segment.compute();
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            segment.invoke();
+        } else {
+            TreeHashFunction.DefaultPool.INSTANCE.invoke(segment);
+        }
+        return segment;
+    }
+
+    private static final class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long poly;
+        // reflected polynomial
+        private final transient long rPoly;
+        // table[k * 256 + b] is the CRC of the byte b followed by k zero bytes
+        private final transient long[] table;
+        // x2n[k] is x^(2^k) modulo the polynomial
+        private final transient long[] x2n;
+
+        private AsLongHashFunction(final long poly) {
+            this.poly = poly;
+            rPoly = Long.reverse(poly);
+            table = new long[16 * 256];
+            for (int b = 0; b < 256; b++) {
+                long crc = b;
+                for (int i = 0; i < 8; i++) {
+                    crc = (crc >>> 1) ^ (rPoly & -(crc & 1));
+                }
+                table[b] = crc;
+            }
+            for (int k = 1; k < 16; k++) {
+                for (int b = 0; b < 256; b++) {
+                    final long crc = table[(k - 1) * 256 + b];
+                    table[k * 256 + b] = (crc >>> 8) ^ table[(int) crc & 0xFF];
+                }
+            }
+            x2n = new long[64];
+            long p = 1L << 62; // x^1
+            x2n[0] = p;
+            for (int k = 1; k < 64; k++) {
+                x2n[k] = p = multModP(p, p);
+            }
+        }
+
+        private Object readResolve() {
+            return poly == NVME ? Nvme.INSTANCE : Xz.INSTANCE;
+        }
+
+        /**
+         * Returns the CRC of the concatenation of two byte sequences, given their CRCs and the
+         * length {@code lenB >= 0} of the second one.
+         */
+        long combine(final long crcA, final long crcB, final long lenB) {
+            return multModP(x2nModP(lenB, 3), crcA) ^ crcB;
+        }
+
+        /**
+         * Returns a * b modulo the polynomial, in the reflected bit order.
+         */
+        private long multModP(long a, long b) {
+            long m = 1L << 63;
+            long p = 0;
+            for (;;) {
+                if ((a & m) != 0) {
+                    p ^= b;
+                    if ((a & (m - 1)) == 0) {
+                        break;
+                    }
+                }
+                m >>>= 1;
+                b = (b >>> 1) ^ (rPoly & -(b & 1));
+            }
+            return p;
+        }
+
+        /**
+         * Returns x^(n * 2^k) modulo the polynomial.
+         */
+        private long x2nModP(long n, int k) {
+            long p = 1L << 63; // x^0
+            while (n != 0) {
+                if ((n & 1) != 0) {
+                    p = multModP(x2n[k & 63], p);
+                }
+                n >>>= 1;
+                k++;
+            }
+            return p;
+        }
+
+        // Slicing, over the non-inverted CRC; the first byte is in the lowest bits of the values
+
+        private long update1(final long crc, final int b) {
+            return (crc >>> 8) ^ table[(int) (crc ^ b) & 0xFF];
+        }
+
+        private long update4(final long crc, final int v) {
+            final int x = (int) crc ^ v;
+            return (crc >>> 32) ^
+                    table[3 * 256 + (x & 0xFF)] ^ table[2 * 256 + ((x >>> 8) & 0xFF)] ^
+                    table[256 + ((x >>> 16) & 0xFF)] ^ table[x >>> 24];
+        }
+
+        private long update8(final long crc, final long v) {
+            final long x = crc ^ v;
+            return table[7 * 256 + ((int) x & 0xFF)] ^ table[6 * 256 + ((int) (x >>> 8) & 0xFF)] ^
+                    table[5 * 256 + ((int) (x >>> 16) & 0xFF)] ^
+                    table[4 * 256 + ((int) (x >>> 24) & 0xFF)] ^
+                    table[3 * 256 + ((int) (x >>> 32) & 0xFF)] ^
+                    table[2 * 256 + ((int) (x >>> 40) & 0xFF)] ^
+                    table[256 + ((int) (x >>> 48) & 0xFF)] ^ table[(int) (x >>> 56)];
+        }
+
+        private long update16(final long crc, final long v0, final long v1) {
+            final long x = crc ^ v0;
+            return table[15 * 256 + ((int) x & 0xFF)] ^ table[14 * 256 + ((int) (x >>> 8) & 0xFF)] ^
+                    table[13 * 256 + ((int) (x >>> 16) & 0xFF)] ^
+                    table[12 * 256 + ((int) (x >>> 24) & 0xFF)] ^
+                    table[11 * 256 + ((int) (x >>> 32) & 0xFF)] ^
+                    table[10 * 256 + ((int) (x >>> 40) & 0xFF)] ^
+                    table[9 * 256 + ((int) (x >>> 48) & 0xFF)] ^ table[8 * 256 + (int) (x >>> 56)] ^
+                    update8(0L, v1);
+        }
+
+        /**
+         * Feeds {@code len} bytes to the non-inverted CRC.
+         */
+        private <T> long update(long crc, @Nullable final T input, final Access<T> access, long off,
+                                final long len) {
+            long remaining = len;
+            while (remaining >= 16L) {
+                crc = update16(crc, access.i64(input, off), access.i64(input, off + 8L));
+                off += 16L;
+                remaining -= 16L;
+            }
+            if (remaining >= 8L) {
+                crc = update8(crc, access.i64(input, off));
+                off += 8L;
+                remaining -= 8L;
+            }
+            if (remaining >= 4L) {
+                crc = update4(crc, access.i32(input, off));
+                off += 4L;
+                remaining -= 4L;
+            }
+            for (; remaining > 0L; remaining--, off++) {
+                crc = update1(crc, access.u8(input, off));
+            }
+            return crc;
+        }
+
+        @Override
+        public long hashLong(final long input) {
+            return ~update8(-1L, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public long hashInt(final int input) {
+            return ~update4(-1L, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return ~update1(update1(-1L, input & 0xFF), (input >>> 8) & 0xFF);
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            return ~update1(-1L, Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public long hashVoid() {
+            return 0L;
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return ~update(-1L, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return new AsStreamingHasher(this);
+        }
+    }
+
+    /**
+     * A part of the checksummed region, split in halves whose CRCs are combined.
+     */
+    private static final class Segment<T> extends RecursiveAction {
+        private static final long serialVersionUID = 0L;
+
+        @NotNull
+        private final AsLongHashFunction f;
+        @Nullable
+        private final T input;
+        @NotNull
+        private final Access<T> access;
+        // not null if the segment is a region of a file not mapped yet, off is the file position
+        @Nullable
+        private final FileChannel channel;
+        private final long off;
+        private final long len;
+        long crc;
+
+        Segment(final AsLongHashFunction f, @Nullable final T input, final Access<T> access,
+                @Nullable final FileChannel channel, final long off, final long len) {
+            this.f = f;
+            this.input = input;
+            this.access = access;
+            this.channel = channel;
+            this.off = off;
+            this.len = len;
+        }
+
+        @Override
+        protected void compute() {
+            if (null != channel && len <= MAP_WINDOW_SIZE) {
+                computeMapped(channel);
+                return;
+            }
+            if (len < 2 * MIN_FORK_LEN && null == channel) {
+                crc = f.hash(input, access, off, len);
+                return;
+            }
+            final long leftLen = len >>> 1;
+            final Segment<T> left = new Segment<T>(f, input, access, channel, off, leftLen);
+            final Segment<T> right = new Segment<T>(f, input, access, channel, off + leftLen,
+                    len - leftLen);
+            if (ForkJoinTask.inForkJoinPool()) {
+                left.fork();
+                right.compute();
+                left.join();
+            } else {
+                left.compute();
+                right.compute();
+            }
+            crc = f.combine(left.crc, right.crc, right.len);
+        }
+
+        private void computeMapped(final FileChannel channel) {
+            if (len == 0) {
+                crc = 0L;
+                return;
+            }
+            final MappedByteBuffer region;
+            try {
+                region = channel.map(READ_ONLY, off, len);
+            } catch (IOException e) {
+                throw new TreeHashFunction.MappingFailedException(e);
+            }
+            final Segment<Object> mapped = new Segment<Object>(f, null, UnsafeAccess.INSTANCE,
+                    null, getDirectBufferAddress(region), len);
+            mapped.compute();
+            reachabilityFence(region);
+            crc = mapped.crc;
+        }
+    }
+
+    /**
+     * The CRC state is the non-inverted CRC, so any split of the sequence is consumed as it
+     * comes, without buffering.
+     */
+    private static class AsStreamingHasher extends StreamingHasher {
+        private final AsLongHashFunction f;
+        private long crc;
+
+        private AsStreamingHasher(final AsLongHashFunction f) {
+            this.f = f;
+            reset();
+        }
+
+        @Override
+        public StreamingHasher reset() {
+            crc = -1L;
+            return this;
+        }
+
+        @Override
+        public <T> StreamingHasher update(@Nullable final T input, final Access<T> access,
+                                          final long off, final long len) {
+            crc = f.update(crc, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+            return this;
+        }
+
+        @Override
+        public long digest() {
+            return ~crc;
+        }
+    }
+}
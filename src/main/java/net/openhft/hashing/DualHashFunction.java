@@ -113,6 +113,11 @@ abstract class DualHashFunction extends LongTupleHashFunction {
         public <T> long hash(@Nullable final T input, final Access<T> access, final long off, final long len) {
             return dualHash(input, access, off, len, null);
         }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return DualHashFunction.this.newStreamingHasher();
+        }
     };
 
     @NotNull
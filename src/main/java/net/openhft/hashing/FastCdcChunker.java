@@ -0,0 +1,290 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.Util.*;
+
+/**
+ * Content-defined chunking with FastCDC: splits a byte sequence into chunks whose boundaries
+ * depend on the content around them, not on their offsets, so that an insertion or a deletion
+ * only changes the chunks around it. Every chunk is fingerprinted with
+ * {@link LongTupleHashFunction#xx128() XXH128} right after its boundary is found, while its bytes
+ * are still in the cache, and reported to a {@link ChunkSink} as primitives, so chunking doesn't
+ * allocate per chunk.
+ *
+ * <p>Boundaries are found with the {@linkplain RollingHashFunction#gear(long) Gear rolling hash}
+ * of the same seed, with the FastCDC cut-point skipping (the first {@code minSize} bytes of a
+ * chunk are not hashed) and normalized chunking: a boundary is harder to find before
+ * {@code avgSize}, and easier after, which narrows the distribution of chunk sizes. The masks
+ * test the highest bits of the hash, which depend on all the bytes of its 64-byte window, rather
+ * than the spread masks of the FastCDC paper.
+ *
+ * <p>Chunkers are immutable and thread-safe.
+ */
+@ParametersAreNonnullByDefault
+public final class FastCdcChunker {
+
+    /**
+     * Receives the chunks of a byte sequence, in order of offsets.
+     */
+    public interface ChunkSink {
+        /**
+         * Receives the chunk of {@code length} bytes starting at {@code offset}, relatively to
+         * the start of the chunked sequence, with the lower and the higher 64 bits of its XXH128
+         * fingerprint.
+         */
+        void chunk(long offset, long length, long fingerprintLow, long fingerprintHigh);
+    }
+
+    /**
+     * Returns a chunker with the given chunk sizes, normalization level 2, and the Gear table of
+     * the seed 0.
+     *
+     * @param minSize the minimum size of chunks, except the last one of a sequence
+     * @param avgSize the expected size of chunks, rounded down to a power of two
+     * @param maxSize the maximum size of chunks
+     * @throws IllegalArgumentException if not {@code 0 < minSize <= avgSize <= maxSize}, or if
+     *                                  {@code avgSize < 64}
+     * @see #of(int, int, int, int, long)
+     */
+    @NotNull
+    public static FastCdcChunker of(final int minSize, final int avgSize, final int maxSize) {
+        return new FastCdcChunker(minSize, avgSize, maxSize, 2, 0L);
+    }
+
+    /**
+     * Returns a chunker with the given chunk sizes, normalization level and Gear table seed.
+     *
+     * @param minSize the minimum size of chunks, except the last one of a sequence
+     * @param avgSize the expected size of chunks, rounded down to a power of two
+     * @param maxSize the maximum size of chunks
+     * @param normalization the normalization level, from 0 (none) to 3: the number of mask bits
+     *                      added before {@code avgSize}, and removed after
+     * @param seed the seed of the Gear table
+     * @throws IllegalArgumentException if not {@code 0 < minSize <= avgSize <= maxSize}, if
+     *                                  {@code avgSize < 64}, or if {@code normalization} is not
+     *                                  in {@code [0, 3]}
+     * @see #of(int, int, int)
+     */
+    @NotNull
+    public static FastCdcChunker of(final int minSize, final int avgSize, final int maxSize,
+                                    final int normalization, final long seed) {
+        return new FastCdcChunker(minSize, avgSize, maxSize, normalization, seed);
+    }
+
+    @NotNull
+    private static final LongTupleHashFunction FINGERPRINT = LongTupleHashFunction.xx128();
+
+    private final int minSize;
+    private final int avgSize;
+    private final int maxSize;
+    @NotNull
+    private final long[] gear;
+    // more bits before avgSize, less after
+    private final long maskS;
+    private final long maskL;
+
+    private FastCdcChunker(final int minSize, final int avgSize, final int maxSize,
+                           final int normalization, final long seed) {
+        if (minSize <= 0 || minSize > avgSize || avgSize > maxSize) {
+            throw new IllegalArgumentException("Should be 0 < minSize <= avgSize <= maxSize: " +
+                    minSize + ", " + avgSize + ", " + maxSize);
+        }
+        if (avgSize < 64) {
+            throw new IllegalArgumentException("avgSize should be at least 64: " + avgSize);
+        }
+        if (normalization < 0 || normalization > 3) {
+            throw new IllegalArgumentException("normalization should be in [0, 3]: " +
+                    normalization);
+        }
+        this.minSize = minSize;
+        this.avgSize = avgSize;
+        this.maxSize = maxSize;
+        this.gear = RollingHashFunction.byteTable(seed);
+        final int bits = 31 - Integer.numberOfLeadingZeros(avgSize);
+        this.maskS = -1L << (64 - (bits + normalization));
+        this.maskL = -1L << (64 - (bits - normalization));
+    }
+
+    /**
+     * Returns the minimum size of chunks, except the last one of a sequence.
+     */
+    public int minSize() {
+        return minSize;
+    }
+
+    /**
+     * Returns the expected size of chunks.
+     */
+    public int avgSize() {
+        return avgSize;
+    }
+
+    /**
+     * Returns the maximum size of chunks.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Splits {@code len} continuous bytes of the given {@code input} object, starting from the
+     * given offset, into chunks, and passes them to the sink. Offsets are reported relatively to
+     * {@code off}.
+     *
+     * @param input the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off offset to the first byte of the sequence to chunk
+     * @param len length of the sequence to chunk
+     * @param sink receives the chunks
+     * @param <T> the type of the input
+     */
+    public <T> void chunk(@Nullable final T input, final Access<T> access,
+                          final long off, final long len, final ChunkSink sink) {
+        chunk(input, access, off, len, 0L, true, sink, new long[2]);
+    }
+
+    /**
+     * Splits the given array into chunks.
+     *
+     * @see #chunk(Object, Access, long, long, ChunkSink)
+     */
+    public void chunkBytes(final byte[] input, final ChunkSink sink) {
+        chunk(input, UnsafeAccess.INSTANCE, BYTE_BASE, input.length, sink);
+    }
+
+    /**
+     * Splits the remaining bytes of the given buffer, from its position to its limit, into
+     * chunks. The state of the buffer is not changed, and offsets are reported relatively to its
+     * position.
+     *
+     * @see #chunk(Object, Access, long, long, ChunkSink)
+     */
+    public void chunkBytes(final ByteBuffer input, final ChunkSink sink) {
+        if (input.hasArray()) {
+            chunk(input.array(), UnsafeAccess.INSTANCE,
+                    BYTE_BASE + input.arrayOffset() + input.position(), input.remaining(), sink);
+        } else if (input instanceof DirectBuffer) {
+            chunk(null, UnsafeAccess.INSTANCE,
+                    ((DirectBuffer) input).address() + input.position(), input.remaining(), sink);
+        } else {
+            chunk(input, ByteBufferAccess.INSTANCE, input.position(), input.remaining(), sink);
+        }
+    }
+
+    /**
+     * Splits {@code len} bytes of the wild memory from the given address into chunks. Use with
+     * caution.
+     *
+     * @see #chunk(Object, Access, long, long, ChunkSink)
+     */
+    public void chunkMemory(final long address, final long len, final ChunkSink sink) {
+        chunk(null, UnsafeAccess.INSTANCE, address, len, sink);
+    }
+
+    /**
+     * Splits {@code len} bytes of the given file, starting at the file position {@code pos}, into
+     * chunks. The region is memory-mapped in windows of at most 1 GB, and chunked in place.
+     * Offsets are reported relatively to {@code pos}, and the position of the channel is not
+     * changed.
+     *
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws IOException if mapping the file throws
+     */
+    public void chunkFile(final FileChannel channel, final long pos, final long len,
+                          final ChunkSink sink) throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        chunkFile(channel, pos, len, MAP_WINDOW_SIZE, sink);
+    }
+
+    void chunkFile(final FileChannel channel, final long pos, final long len,
+                   final long windowSize, final ChunkSink sink) throws IOException {
+        final long[] fingerprint = new long[2];
+        // a window should fit the largest chunk
+        final long size = windowSize < maxSize ? maxSize : windowSize;
+        long done = 0;
+        while (done < len) {
+            final long n = len - done < size ? len - done : size;
+            final MappedByteBuffer window = channel.map(READ_ONLY, pos + done, n);
+            // a window which is not the last one is only chunked while a whole chunk fits, the
+            // next window starts at the first chunk not reported
+            done += chunk(null, UnsafeAccess.INSTANCE, getDirectBufferAddress(window), n, done,
+                    done + n == len, sink, fingerprint);
+            reachabilityFence(window);
+        }
+    }
+
+    /**
+     * Chunks the given bytes, stopping before the last {@code maxSize} bytes unless {@code last};
+     * returns the length of the reported chunks.
+     */
+    private <T> long chunk(@Nullable final T input, final Access<T> access,
+                           final long off, final long len, final long reportedOff,
+                           final boolean last, final ChunkSink sink, final long[] fingerprint) {
+        long done = 0;
+        while (done < len && (last || len - done >= maxSize)) {
+            final long start = off + done;
+            final long chunkLen = cutPoint(input, access, start, len - done);
+            FINGERPRINT.hash(input, access, start, chunkLen, fingerprint);
+            sink.chunk(reportedOff + done, chunkLen, fingerprint[0], fingerprint[1]);
+            done += chunkLen;
+        }
+        return done;
+    }
+
+    /**
+     * Returns the length of the chunk starting at {@code off}.
+     */
+    private <T> long cutPoint(@Nullable final T input, final Access<T> access,
+                              final long off, final long len) {
+        if (len <= minSize) {
+            return len;
+        }
+        final long n = len < maxSize ? len : maxSize;
+        final long normal = n < avgSize ? n : avgSize;
+        final long[] gear = this.gear;
+        long hash = 0L;
+        long i = minSize;
+        for (; i < normal; i++) {
+            hash = (hash << 1) + gear[access.u8(input, off + i)];
+            if ((hash & maskS) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < n; i++) {
+            hash = (hash << 1) + gear[access.u8(input, off + i)];
+            if ((hash & maskL) == 0) {
+                return i + 1;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * FNV-1a, 32 and 64-bit, see http://www.isthe.com/chongo/tech/comp/fnv/. The algorithm consumes
+ * one byte at a time, but the bytes are read eight at a time, as a little-endian {@code long}, and
+ * the steps over them are unrolled, as for the primitives, which skip the {@code Access} entirely.
+ */
+@ParametersAreNonnullByDefault
+class FnvHash {
+    private static final int OFFSET_BASIS_32 = 0x811c9dc5;
+    private static final int PRIME_32 = 0x01000193;
+    private static final long OFFSET_BASIS_64 = 0xcbf29ce484222325L;
+    private static final long PRIME_64 = 0x100000001b3L;
+
+    private static int step32(int h, int b) {
+        return (h ^ b) * PRIME_32;
+    }
+
+    /**
+     * Feeds the given number of the lowest bytes of {@code v}, from the lowest.
+     */
+    private static int steps32(int h, long v, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            h = step32(h, (int) v & 0xFF);
+            v >>>= 8;
+        }
+        return h;
+    }
+
+    private static int steps32(int h, long v) {
+        h = step32(h, (int) v & 0xFF);
+        h = step32(h, (int) (v >>> 8) & 0xFF);
+        h = step32(h, (int) (v >>> 16) & 0xFF);
+        h = step32(h, (int) (v >>> 24) & 0xFF);
+        h = step32(h, (int) (v >>> 32) & 0xFF);
+        h = step32(h, (int) (v >>> 40) & 0xFF);
+        h = step32(h, (int) (v >>> 48) & 0xFF);
+        h = step32(h, (int) (v >>> 56));
+        return h;
+    }
+
+    private static <T> int fnv1a32(T input, Access<T> access, long off, long len) {
+        int h = OFFSET_BASIS_32;
+        long remaining = len;
+        while (remaining >= 8L) {
+            h = steps32(h, access.i64(input, off));
+            off += 8L;
+            remaining -= 8L;
+        }
+        if (remaining >= 4L) {
+            h = steps32(h, access.u32(input, off), 4);
+            off += 4L;
+            remaining -= 4L;
+        }
+        for (; remaining > 0L; remaining--, off++) {
+            h = step32(h, access.u8(input, off));
+        }
+        return h;
+    }
+
+    private static long step64(long h, int b) {
+        return (h ^ b) * PRIME_64;
+    }
+
+    private static long steps64(long h, long v, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            h = step64(h, (int) v & 0xFF);
+            v >>>= 8;
+        }
+        return h;
+    }
+
+    private static long steps64(long h, long v) {
+        h = step64(h, (int) v & 0xFF);
+        h = step64(h, (int) (v >>> 8) & 0xFF);
+        h = step64(h, (int) (v >>> 16) & 0xFF);
+        h = step64(h, (int) (v >>> 24) & 0xFF);
+        h = step64(h, (int) (v >>> 32) & 0xFF);
+        h = step64(h, (int) (v >>> 40) & 0xFF);
+        h = step64(h, (int) (v >>> 48) & 0xFF);
+        h = step64(h, (int) (v >>> 56));
+        return h;
+    }
+
+    private static <T> long fnv1a64(T input, Access<T> access, long off, long len) {
+        long h = OFFSET_BASIS_64;
+        long remaining = len;
+        while (remaining >= 8L) {
+            h = steps64(h, access.i64(input, off));
+            off += 8L;
+            remaining -= 8L;
+        }
+        if (remaining >= 4L) {
+            h = steps64(h, access.u32(input, off), 4);
+            off += 4L;
+            remaining -= 4L;
+        }
+        for (; remaining > 0L; remaining--, off++) {
+            h = step64(h, access.u8(input, off));
+        }
+        return h;
+    }
+
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsIntHashFunction INSTANCE = new AsIntHashFunction();
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+
+        @Override
+        public int hashLong(long input) {
+            return steps32(OFFSET_BASIS_32, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public int hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int h = step32(OFFSET_BASIS_32, input & 0xFF);
+            h = step32(h, (input >>> 8) & 0xFF);
+            h = step32(h, (input >>> 16) & 0xFF);
+            return step32(h, input >>> 24);
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return step32(step32(OFFSET_BASIS_32, input & 0xFF), (input >>> 8) & 0xFF);
+        }
+
+        @Override
+        public int hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(byte input) {
+            return step32(OFFSET_BASIS_32, Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public int hashVoid() {
+            return OFFSET_BASIS_32;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return fnv1a32(input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static IntHashFunction asIntHashFunction() {
+        return AsIntHashFunction.INSTANCE;
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsLongHashFunction INSTANCE = new AsLongHashFunction();
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+
+        @Override
+        public long hashLong(long input) {
+            return steps64(OFFSET_BASIS_64, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public long hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            long h = step64(OFFSET_BASIS_64, input & 0xFF);
+            h = step64(h, (input >>> 8) & 0xFF);
+            h = step64(h, (input >>> 16) & 0xFF);
+            return step64(h, input >>> 24);
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return step64(step64(OFFSET_BASIS_64, input & 0xFF), (input >>> 8) & 0xFF);
+        }
+
+        @Override
+        public long hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(byte input) {
+            return step64(OFFSET_BASIS_64, Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public long hashVoid() {
+            return OFFSET_BASIS_64;
+        }
+
+        @Override
+        public <T> long hash(T input, Access<T> access, long off, long len) {
+            return fnv1a64(input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunction() {
+        return AsLongHashFunction.INSTANCE;
+    }
+}
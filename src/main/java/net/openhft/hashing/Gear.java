@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static net.openhft.hashing.RollingHashFunction.byteTable;
+
+/**
+ * Gear rolling hash, as used by FastCDC: {@code h = (h << 1) + G[in]}, {@code G} being a table of
+ * 256 pseudo-random values. A byte is shifted out of the hash after 64 more bytes, so the window
+ * is 64 bytes, and rolling ignores the byte going out.
+ */
+@ParametersAreNonnullByDefault
+class Gear {
+    static final int WINDOW_SIZE = 64;
+
+    static RollingHashFunction asRollingHashFunction(final long seed) {
+        return 0L == seed ? AsRollingHashFunction.SEEDLESS_INSTANCE :
+                new AsRollingHashFunction(byteTable(seed));
+    }
+
+    private static class AsRollingHashFunction extends RollingHashFunction {
+        private static final long serialVersionUID = 0L;
+        private static final AsRollingHashFunction SEEDLESS_INSTANCE =
+                new AsRollingHashFunction(byteTable(0L));
+
+        @NotNull
+        private final long[] table;
+
+        private AsRollingHashFunction(final long[] table) {
+            this.table = table;
+        }
+
+        @Override
+        public int windowSize() {
+            return WINDOW_SIZE;
+        }
+
+        @Override
+        public long append(final long hash, final byte in) {
+            return (hash << 1) + table[in & 0xFF];
+        }
+
+        @Override
+        public long roll(final long hash, final byte out, final byte in) {
+            return (hash << 1) + table[in & 0xFF];
+        }
+    }
+}
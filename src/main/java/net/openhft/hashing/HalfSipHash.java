@@ -0,0 +1,181 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of HalfSipHash-2-4 implementation with 32-bit output from
+ * https://github.com/veorq/SipHash. This implementation provides endian-independant hash values,
+ * but it's slower on big-endian platforms.
+ */
+class HalfSipHash {
+    private static final int V2 = 0x6c796765;
+    private static final int V3 = 0x74656462;
+
+    /**
+     *
+     * @param k0 the first 32 bits of the key
+     * @param k1 the last 32 bits of the key
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return hash result
+     */
+    static <T> int halfSipHash24(final int k0, final int k1,
+                                 final T input, final Access<T> access, final long off,
+                                 final long len) {
+        final long end = off + (len & ~3L);
+        int b = (int) len << 24;
+        switch ((int) (len & 3)) {
+            case 3:
+                b |= access.u8(input, end + 2) << 16;
+            case 2:
+                b |= access.u16(input, end);
+                break;
+            case 1:
+                b |= access.u8(input, end);
+        }
+        return halfSipHash24(k0, k1, 0L, 0, input, access, off, end, b);
+    }
+
+    /**
+     * Compresses the first {@code headBlocks} (up to 2) 4-byte blocks of the little-endian
+     * {@code head} of primitives, the full blocks of the input from {@code off} to {@code end},
+     * and the last block {@code b}, which holds the length and the remaining bytes, and finalizes.
+     */
+    private static <T> int halfSipHash24(final int k0, final int k1,
+                                         long head, int headBlocks,
+                                         @Nullable final T input, final Access<T> access,
+                                         long off, final long end, final int b) {
+        int v0 = k0;
+        int v1 = k1;
+        int v2 = V2 ^ k0;
+        int v3 = V3 ^ k1;
+
+        boolean lastBlock = true;
+        boolean finalization = true;
+        // Every block has the same rounds, only the source of the block differs: the head, the
+        // input, the last block and then an empty block for the finalization.
+        while (true) {
+            final int m;
+            int rounds = 2;
+            if (headBlocks != 0) {
+                m = (int) head;
+                head >>>= 32;
+                headBlocks--;
+            } else if (off < end) {
+                m = access.i32(input, off);
+                off += 4;
+            } else if (lastBlock) {
+                m = b;
+                lastBlock = false;
+            } else if (finalization) {
+                m = 0;
+                v2 ^= 0xff;
+                rounds = 4;
+                finalization = false;
+            } else {
+                break;
+            }
+
+            v3 ^= m;
+            for (int i = 0; i < rounds; i++) {
+                v0 += v1;
+                v1 = Integer.rotateLeft(v1, 5);
+                v1 ^= v0;
+                v0 = Integer.rotateLeft(v0, 16);
+                v2 += v3;
+                v3 = Integer.rotateLeft(v3, 8);
+                v3 ^= v2;
+                v0 += v3;
+                v3 = Integer.rotateLeft(v3, 7);
+                v3 ^= v0;
+                v2 += v1;
+                v1 = Integer.rotateLeft(v1, 13);
+                v1 ^= v2;
+                v2 = Integer.rotateLeft(v2, 16);
+            }
+            v0 ^= m;
+        }
+        return v1 ^ v3;
+    }
+
+    static IntHashFunction asIntHashFunction(final long key) {
+        return new AsIntHashFunction(key);
+    }
+
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int k0;
+        private final int k1;
+
+        private AsIntHashFunction(final long key) {
+            this.k0 = (int) key;
+            this.k1 = (int) (key >>> 32);
+        }
+
+        private int hashLastBlock(final int b) {
+            return halfSipHash24(k0, k1, 0L, 0, null, UnsafeAccess.INSTANCE, 0L, 0L, b);
+        }
+
+        @Override
+        public int hashLong(final long input) {
+            return halfSipHash24(k0, k1, Primitives.nativeToLittleEndian(input), 2,
+                    null, UnsafeAccess.INSTANCE, 0L, 0L, 8 << 24);
+        }
+
+        @Override
+        public int hashInt(final int input) {
+            return halfSipHash24(k0, k1, Primitives.nativeToLittleEndian(input), 1,
+                    null, UnsafeAccess.INSTANCE, 0L, 0L, 4 << 24);
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return hashLastBlock((2 << 24) | Primitives.unsignedShort(input));
+        }
+
+        @Override
+        public int hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(final byte input) {
+            return hashLastBlock((1 << 24) | Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public int hashVoid() {
+            return hashLastBlock(0);
+        }
+
+        @Override
+        public <T> int hash(final T input, final Access<T> access,
+                            final long off, final long len) {
+            return HalfSipHash.halfSipHash24(k0, k1,
+                    input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} passing through the bytes of the underlying stream, and appending every
+ * byte read (or skipped) to the given {@link StreamingHasher}. After reading the stream to its
+ * end, {@code hasher().digest()} returns the hash of the whole stream, without reading the data
+ * a second time.
+ *
+ * <p>Mark and reset are not supported, as the hasher can't go back.
+ *
+ * @see HashingOutputStream
+ */
+@ParametersAreNonnullByDefault
+public class HashingInputStream extends FilterInputStream {
+    @NotNull
+    private final StreamingHasher hasher;
+    @NotNull
+    private final byte[] single = new byte[1];
+    @Nullable
+    private byte[] skipBuffer;
+
+    /**
+     * Creates a stream reading from {@code in} and hashing the read bytes with {@code hasher}.
+     * The hasher is not reset, the read bytes are appended to the bytes it has already hashed.
+     */
+    public HashingInputStream(final InputStream in, final StreamingHasher hasher) {
+        super(in);
+        this.hasher = hasher;
+    }
+
+    /**
+     * Returns the hasher fed by this stream.
+     */
+    @NotNull
+    public StreamingHasher hasher() {
+        return hasher;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = in.read();
+        if (b >= 0) {
+            single[0] = (byte) b;
+            hasher.updateBytes(single);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int n = in.read(b, off, len);
+        if (n > 0) {
+            hasher.updateBytes(b, off, n);
+        }
+        return n;
+    }
+
+    /**
+     * Reads and hashes up to {@code n} bytes, so that skipped bytes are not missing in the hash.
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] buffer = skipBuffer;
+        if (null == buffer) {
+            skipBuffer = buffer = new byte[n < StreamingHasher.IO_BUFFER_SIZE ?
+                    (int) n : StreamingHasher.IO_BUFFER_SIZE];
+        }
+        long remaining = n;
+        while (remaining > 0) {
+            final int read = read(buffer, 0,
+                    remaining < buffer.length ? (int) remaining : buffer.length);
+            if (read < 0) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(final int readLimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} passing the written bytes through to the underlying stream, and
+ * appending them to the given {@link StreamingHasher}. After writing, {@code hasher().digest()}
+ * returns the hash of everything written, without reading the data a second time.
+ *
+ * @see HashingInputStream
+ * @see HashingWritableByteChannel
+ */
+@ParametersAreNonnullByDefault
+public class HashingOutputStream extends FilterOutputStream {
+    @NotNull
+    private final StreamingHasher hasher;
+    @NotNull
+    private final byte[] single = new byte[1];
+
+    /**
+     * Creates a stream writing to {@code out} and hashing the written bytes with {@code hasher}.
+     * The hasher is not reset, the written bytes are appended to the bytes it has already hashed.
+     */
+    public HashingOutputStream(final OutputStream out, final StreamingHasher hasher) {
+        super(out);
+        this.hasher = hasher;
+    }
+
+    /**
+     * Returns the hasher fed by this stream.
+     */
+    @NotNull
+    public StreamingHasher hasher() {
+        return hasher;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        out.write(b);
+        single[0] = (byte) b;
+        hasher.updateBytes(single);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        out.write(b, off, len);
+        hasher.updateBytes(b, off, len);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link WritableByteChannel} passing the written bytes through to the underlying channel, and
+ * appending the bytes actually written to the given {@link StreamingHasher}. Direct buffers are
+ * hashed in place through their address, like {@link LongHashFunction#hashBytes(ByteBuffer)}
+ * does. After writing, {@code hasher().digest()} returns the hash of everything written.
+ *
+ * @see HashingOutputStream
+ */
+@ParametersAreNonnullByDefault
+public class HashingWritableByteChannel implements WritableByteChannel {
+    @NotNull
+    private final WritableByteChannel channel;
+    @NotNull
+    private final StreamingHasher hasher;
+
+    /**
+     * Creates a channel writing to {@code channel} and hashing the written bytes with
+     * {@code hasher}. The hasher is not reset, the written bytes are appended to the bytes it has
+     * already hashed.
+     */
+    public HashingWritableByteChannel(final WritableByteChannel channel,
+                                      final StreamingHasher hasher) {
+        this.channel = channel;
+        this.hasher = hasher;
+    }
+
+    /**
+     * Returns the hasher fed by this channel.
+     */
+    @NotNull
+    public StreamingHasher hasher() {
+        return hasher;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        final int position = src.position();
+        final int written = channel.write(src);
+        if (written > 0) {
+            hasher.updateBytes(src, position, written);
+        }
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
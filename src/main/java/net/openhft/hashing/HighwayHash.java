@@ -0,0 +1,448 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of HighwayHash implementation from https://github.com/google/highwayhash, with
+ * 64, 128 and 256-bit results. This implementation provides endian-independant hash values, but
+ * it's slower on big-endian platforms.
+ */
+class HighwayHash {
+    private static final long INIT0_0 = 0xdbe6d5d5fe4cce2fL;
+    private static final long INIT0_1 = 0xa4093822299f31d0L;
+    private static final long INIT0_2 = 0x13198a2e03707344L;
+    private static final long INIT0_3 = 0x243f6a8885a308d3L;
+    private static final long INIT1_0 = 0x3bd39e10cb0ef593L;
+    private static final long INIT1_1 = 0xc0acf169b5f18a8cL;
+    private static final long INIT1_2 = 0xbe5466cf34e90c6cL;
+    private static final long INIT1_3 = 0x452821e638d01377L;
+
+    private static final long LOW32 = 0xffffffffL;
+
+    @NotNull
+    static long[] checkKey(@Nullable final long[] key) {
+        if (null == key) {
+            throw new NullPointerException();
+        }
+        if (key.length != 4) {
+            throw new IllegalArgumentException("HighwayHash needs a 256-bit key of 4 longs: " +
+                    key.length);
+        }
+        return key.clone();
+    }
+
+    private static long zipperMerge0(final long v1, final long v0) {
+        return (((v0 & 0xff000000L) | (v1 & 0xff00000000L)) >>> 24) |
+               (((v0 & 0xff0000000000L) | (v1 & 0xff000000000000L)) >>> 16) |
+               (v0 & 0xff0000L) | ((v0 & 0xff00L) << 32) |
+               ((v1 & 0xff00000000000000L) >>> 8) | (v0 << 56);
+    }
+
+    private static long zipperMerge1(final long v1, final long v0) {
+        return (((v1 & 0xff000000L) | (v0 & 0xff00000000L)) >>> 24) |
+               (v1 & 0xff0000L) | ((v1 & 0xff0000000000L) >>> 16) |
+               ((v1 & 0xff00L) << 24) | ((v0 & 0xff000000000000L) >>> 8) |
+               ((v1 & 0xffL) << 48) | (v0 & 0xff00000000000000L);
+    }
+
+    /**
+     * Rotates both 32-bit halves of the lane left by the same count.
+     */
+    private static long rotate32By(final long lane, final int count) {
+        final int half0 = Integer.rotateLeft((int) lane, count);
+        final int half1 = Integer.rotateLeft((int) (lane >>> 32), count);
+        return (half0 & LOW32) | ((long) half1 << 32);
+    }
+
+    /**
+     * Returns the {@code word}-th 32-bit word of the 32-byte packet, which
+     * {@code HighwayHashUpdateRemainder()} builds from the last {@code size < 32} bytes.
+     */
+    private static <T> long remainderWord(final Access<T> access, final T in, final long off,
+                                          final int size, final int word) {
+        final int remainder = size & ~3;
+        final int wordOff = word << 2;
+        if (wordOff < remainder) {
+            return access.u32(in, off + wordOff);
+        }
+        if ((size & 16) != 0) {
+            return word == 7 ? access.u32(in, off + size - 4) : 0;
+        }
+        final int sizeMod4 = size & 3;
+        if (word == 4 && sizeMod4 != 0) {
+            return access.u8(in, off + remainder) |
+                   ((long) access.u8(in, off + remainder + (sizeMod4 >>> 1)) << 8) |
+                   ((long) access.u8(in, off + remainder + sizeMod4 - 1) << 16);
+        }
+        return 0;
+    }
+
+    private static <T> long remainderLane(final Access<T> access, final T in, final long off,
+                                          final int size, final int lane) {
+        return remainderWord(access, in, off, size, lane << 1) |
+               (remainderWord(access, in, off, size, (lane << 1) + 1) << 32);
+    }
+
+    /**
+     *
+     * @param key 256-bit key
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param bitsLength 64, 128 or 256
+     * @param result array to store all the {@code bitsLength} bits of the result, or null
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return the first 64 bits of the result
+     */
+    static <T> long highwayHash(final long[] key, @Nullable final T input, final Access<T> access,
+                                final long off, final long len, final int bitsLength,
+                                @Nullable final long[] result) {
+        final long packetsLen = len & ~31L;
+        final int size = (int) (len - packetsLen);
+        long r0 = 0;
+        long r1 = 0;
+        long r2 = 0;
+        long r3 = 0;
+        if (size != 0) {
+            final long remainderOff = off + packetsLen;
+            r0 = remainderLane(access, input, remainderOff, size, 0);
+            r1 = remainderLane(access, input, remainderOff, size, 1);
+            r2 = remainderLane(access, input, remainderOff, size, 2);
+            r3 = remainderLane(access, input, remainderOff, size, 3);
+        }
+        return highwayHash(key, input, access, off, packetsLen, size, r0, r1, r2, r3,
+                bitsLength, result);
+    }
+
+    /**
+     * Hashes {@code packetsLen} bytes of the input, a multiple of 32, then the last packet
+     * {@code r0..r3} built from the remaining {@code size} bytes, if any, then finalizes.
+     */
+    static <T> long highwayHash(final long[] key, @Nullable final T input, final Access<T> access,
+                                long off, long packetsLen, int size,
+                                final long r0, final long r1, final long r2, final long r3,
+                                final int bitsLength, @Nullable final long[] result) {
+        final long k0 = key[0];
+        final long k1 = key[1];
+        final long k2 = key[2];
+        final long k3 = key[3];
+        long v0_0 = INIT0_0 ^ k0;
+        long v0_1 = INIT0_1 ^ k1;
+        long v0_2 = INIT0_2 ^ k2;
+        long v0_3 = INIT0_3 ^ k3;
+        long v1_0 = INIT1_0 ^ Long.rotateLeft(k0, 32);
+        long v1_1 = INIT1_1 ^ Long.rotateLeft(k1, 32);
+        long v1_2 = INIT1_2 ^ Long.rotateLeft(k2, 32);
+        long v1_3 = INIT1_3 ^ Long.rotateLeft(k3, 32);
+        long mul0_0 = INIT0_0;
+        long mul0_1 = INIT0_1;
+        long mul0_2 = INIT0_2;
+        long mul0_3 = INIT0_3;
+        long mul1_0 = INIT1_0;
+        long mul1_1 = INIT1_1;
+        long mul1_2 = INIT1_2;
+        long mul1_3 = INIT1_3;
+
+        int permutations = bitsLength == 64 ? 4 : bitsLength == 128 ? 6 : 10;
+        long a0;
+        long a1;
+        long a2;
+        long a3;
+        // Every update has the same rounds, only the source of the packet differs: the input,
+        // the remainder and then the permuted state for the finalization.
+        while (true) {
+            if (packetsLen != 0) {
+                a0 = access.i64(input, off);
+                a1 = access.i64(input, off + 8);
+                a2 = access.i64(input, off + 16);
+                a3 = access.i64(input, off + 24);
+                off += 32;
+                packetsLen -= 32;
+            } else if (size != 0) {
+                final long sizes = ((long) size << 32) + size;
+                v0_0 += sizes;
+                v0_1 += sizes;
+                v0_2 += sizes;
+                v0_3 += sizes;
+                v1_0 = rotate32By(v1_0, size);
+                v1_1 = rotate32By(v1_1, size);
+                v1_2 = rotate32By(v1_2, size);
+                v1_3 = rotate32By(v1_3, size);
+                a0 = r0;
+                a1 = r1;
+                a2 = r2;
+                a3 = r3;
+                size = 0;
+            } else if (permutations != 0) {
+                a0 = Long.rotateLeft(v0_2, 32);
+                a1 = Long.rotateLeft(v0_3, 32);
+                a2 = Long.rotateLeft(v0_0, 32);
+                a3 = Long.rotateLeft(v0_1, 32);
+                permutations--;
+            } else {
+                break;
+            }
+
+            v1_0 += mul0_0 + a0;
+            v1_1 += mul0_1 + a1;
+            v1_2 += mul0_2 + a2;
+            v1_3 += mul0_3 + a3;
+            mul0_0 ^= (v1_0 & LOW32) * (v0_0 >>> 32);
+            v0_0 += mul1_0;
+            mul1_0 ^= (v0_0 & LOW32) * (v1_0 >>> 32);
+            mul0_1 ^= (v1_1 & LOW32) * (v0_1 >>> 32);
+            v0_1 += mul1_1;
+            mul1_1 ^= (v0_1 & LOW32) * (v1_1 >>> 32);
+            mul0_2 ^= (v1_2 & LOW32) * (v0_2 >>> 32);
+            v0_2 += mul1_2;
+            mul1_2 ^= (v0_2 & LOW32) * (v1_2 >>> 32);
+            mul0_3 ^= (v1_3 & LOW32) * (v0_3 >>> 32);
+            v0_3 += mul1_3;
+            mul1_3 ^= (v0_3 & LOW32) * (v1_3 >>> 32);
+            v0_0 += zipperMerge0(v1_1, v1_0);
+            v0_1 += zipperMerge1(v1_1, v1_0);
+            v0_2 += zipperMerge0(v1_3, v1_2);
+            v0_3 += zipperMerge1(v1_3, v1_2);
+            v1_0 += zipperMerge0(v0_1, v0_0);
+            v1_1 += zipperMerge1(v0_1, v0_0);
+            v1_2 += zipperMerge0(v0_3, v0_2);
+            v1_3 += zipperMerge1(v0_3, v0_2);
+        }
+
+        if (bitsLength == 64) {
+            return v0_0 + v1_0 + mul0_0 + mul1_0;
+        }
+        if (bitsLength == 128) {
+            final long h0 = v0_0 + mul0_0 + v1_2 + mul1_2;
+            if (null != result) {
+                result[0] = h0;
+                result[1] = v0_1 + mul0_1 + v1_3 + mul1_3;
+            }
+            return h0;
+        }
+        // modular reduction of both 256-bit halves to 128 bits
+        final long a2Low = v1_0 + mul1_0;
+        final long h0 = modularReductionLow(a2Low, v0_0 + mul0_0);
+        if (null != result) {
+            result[0] = h0;
+            result[1] = modularReductionHigh(v1_1 + mul1_1, a2Low, v0_1 + mul0_1);
+            result[2] = modularReductionLow(v1_2 + mul1_2, v0_2 + mul0_2);
+            result[3] = modularReductionHigh(v1_3 + mul1_3, v1_2 + mul1_2, v0_3 + mul0_3);
+        }
+        return h0;
+    }
+
+    private static long modularReductionLow(final long a2, final long a0) {
+        return a0 ^ (a2 << 1) ^ (a2 << 2);
+    }
+
+    private static long modularReductionHigh(final long a3Unmasked, final long a2, final long a1) {
+        final long a3 = a3Unmasked & 0x3FFFFFFFFFFFFFFFL;
+        return a1 ^ ((a3 << 1) | (a2 >>> 63)) ^ ((a3 << 2) | (a2 >>> 62));
+    }
+
+    /**
+     * Hashes a primitive of {@code size < 32} bytes, given as the last packet {@code r0..r3}.
+     */
+    private static long highwayHashPrimitive(final long[] key, final int size,
+                                             final long r0, final long r2,
+                                             final int bitsLength, @Nullable final long[] result) {
+        return highwayHash(key, null, UnsafeAccess.INSTANCE, 0, 0, size, r0, 0, r2, 0,
+                bitsLength, result);
+    }
+
+    private static long hashNativeLong(final long[] key, final long nativeLong,
+                                       final int bitsLength, @Nullable final long[] result) {
+        return highwayHashPrimitive(key, 8, Primitives.nativeToLittleEndian(nativeLong), 0,
+                bitsLength, result);
+    }
+
+    private static long hashNativeInt(final long[] key, final int nativeInt,
+                                      final int bitsLength, @Nullable final long[] result) {
+        return highwayHashPrimitive(key, 4,
+                Primitives.unsignedInt(Primitives.nativeToLittleEndian(nativeInt)), 0,
+                bitsLength, result);
+    }
+
+    private static long hashNativeShort(final long[] key, final short nativeShort,
+                                        final int bitsLength, @Nullable final long[] result) {
+        final short input = Primitives.nativeToLittleEndian(nativeShort);
+        final long b0 = Primitives.unsignedByte(input);
+        final long b1 = Primitives.unsignedByte(input >> 8);
+        return highwayHashPrimitive(key, 2, 0, b0 | (b1 << 8) | (b1 << 16), bitsLength, result);
+    }
+
+    private static long hashByte(final long[] key, final byte input,
+                                 final int bitsLength, @Nullable final long[] result) {
+        final long b = Primitives.unsignedByte(input);
+        return highwayHashPrimitive(key, 1, 0, b | (b << 8) | (b << 16), bitsLength, result);
+    }
+
+    static LongHashFunction asLongHashFunction(final long[] key) {
+        return new AsLongHashFunction(checkKey(key));
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        @NotNull
+        private final long[] key;
+
+        private AsLongHashFunction(final long[] key) {
+            this.key = key;
+        }
+
+        @Override
+        public long hashLong(final long input) {
+            return hashNativeLong(key, input, 64, null);
+        }
+
+        @Override
+        public long hashInt(final int input) {
+            return hashNativeInt(key, input, 64, null);
+        }
+
+        @Override
+        public long hashShort(final short input) {
+            return hashNativeShort(key, input, 64, null);
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashNativeShort(key, (short) input, 64, null);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            return HighwayHash.hashByte(key, input, 64, null);
+        }
+
+        @Override
+        public long hashVoid() {
+            return highwayHashPrimitive(key, 0, 0, 0, 64, null);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return highwayHash(key, input, access.byteOrder(input, LITTLE_ENDIAN), off, len,
+                    64, null);
+        }
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunction128(final long[] key) {
+        return new AsLongTupleHashFunction128(checkKey(key));
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunction256(final long[] key) {
+        return new AsLongTupleHashFunction256(checkKey(key));
+    }
+
+    private abstract static class AsLongTupleHashFunction extends DualHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        @NotNull
+        private final long[] key;
+
+        private AsLongTupleHashFunction(final long[] key) {
+            this.key = key;
+        }
+
+        @Override
+        protected long dualHashLong(final long input, @Nullable final long[] result) {
+            return hashNativeLong(key, input, bitsLength(), result);
+        }
+
+        @Override
+        protected long dualHashInt(final int input, @Nullable final long[] result) {
+            return hashNativeInt(key, input, bitsLength(), result);
+        }
+
+        @Override
+        protected long dualHashShort(final short input, @Nullable final long[] result) {
+            return hashNativeShort(key, input, bitsLength(), result);
+        }
+
+        @Override
+        protected long dualHashChar(final char input, @Nullable final long[] result) {
+            return hashNativeShort(key, (short) input, bitsLength(), result);
+        }
+
+        @Override
+        protected long dualHashByte(final byte input, @Nullable final long[] result) {
+            return HighwayHash.hashByte(key, input, bitsLength(), result);
+        }
+
+        @Override
+        protected long dualHashVoid(@Nullable final long[] result) {
+            return highwayHashPrimitive(key, 0, 0, 0, bitsLength(), result);
+        }
+
+        @Override
+        protected <T> long dualHash(@Nullable final T input, final Access<T> access,
+                                    final long off, final long len, @Nullable final long[] result) {
+            return highwayHash(key, input, access.byteOrder(input, LITTLE_ENDIAN), off, len,
+                    bitsLength(), result);
+        }
+    }
+
+    private static class AsLongTupleHashFunction128 extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private AsLongTupleHashFunction128(final long[] key) {
+            super(key);
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        @NotNull
+        public long[] newResultArray() {
+            return new long[2]; // override for a little performance
+        }
+    }
+
+    private static class AsLongTupleHashFunction256 extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private AsLongTupleHashFunction256(final long[] key) {
+            super(key);
+        }
+
+        @Override
+        public int bitsLength() {
+            return 256;
+        }
+
+        @Override
+        @NotNull
+        public long[] newResultArray() {
+            return new long[4]; // override for a little performance
+        }
+    }
+}
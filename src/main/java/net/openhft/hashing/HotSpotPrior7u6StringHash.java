@@ -45,6 +45,13 @@ enum HotSpotPrior7u6StringHash implements StringHash {
         return hashFunction.hashChars(value, offset + off, len);
     }
 
+    @Override
+    public int intHash(String s, IntHashFunction hashFunction, int off, int len) {
+        char[] value = (char[]) UnsafeAccess.UNSAFE.getObject(s, valueOffset);
+        int offset = UnsafeAccess.UNSAFE.getInt(s, offsetOffset);
+        return hashFunction.hashChars(value, offset + off, len);
+    }
+
     @Override
     public void hash(final String s, final LongTupleHashFunction hashFunction,
                     final int off, final int len, final long[] result) {
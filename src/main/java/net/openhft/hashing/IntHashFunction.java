@@ -0,0 +1,685 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static net.openhft.hashing.CharSequenceAccess.nativeCharSequenceAccess;
+import static net.openhft.hashing.UnsafeAccess.*;
+import static net.openhft.hashing.Util.*;
+
+/**
+ * Hash function producing {@code int}-valued result from byte sequences of any length and
+ * a plenty of different sources which "feels like byte sequences". The notion of byte sequence
+ * is the same as for {@link LongHashFunction}: for arrays of Java primitives, {@code String}s
+ * and {@code StringBuilder}s it is how the input's bytes actually lay in memory, and for single
+ * primitive values it is how the primitive would be put into memory with {@link
+ * ByteOrder#nativeOrder() native} byte order.
+ *
+ * <p>32-bit hash functions are mostly useful for compatibility with existing formats and
+ * protocols (for example, LZ4 frame checksums use XXH32, and many hash-partitioning schemes
+ * use 32-bit MurmurHash3). For hash tables and fingerprints, a {@link LongHashFunction} is
+ * usually as fast and has much fewer collisions.
+ *
+ * <h2>Subclassing</h2>
+ * To implement a specific hash function algorithm, this class should be subclassed. Only methods
+ * that accept single primitives, {@link #hashVoid()}, and {@link #hash(Object, Access, long, long)}
+ * should be implemented; others have default implementations which ultimately delegate to the
+ * {@link #hash(Object, Access, long, long)} abstract method.
+ *
+ * <p>{@code IntHashFunction} implementations shouldn't assume that {@code Access} strategies
+ * do defensive checks and access only bytes within the requested range.
+ *
+ * @see LongHashFunction
+ */
+public abstract class IntHashFunction implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Returns a 32-bit hash function implementing the <a href="https://github.com/Cyan4973/xxHash">
+     * xxHash XXH32 algorithm</a> without a seed value (0 is used as default seed value). This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @return an {@code IntHashFunction} implementing the XXH32 algorithm without a seed value
+     * @see #xx32(int)
+     */
+    public static IntHashFunction xx32() {
+        return XxHash32.asIntHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the <a href="https://github.com/Cyan4973/xxHash">
+     * xxHash XXH32 algorithm</a> with the given seed value. This implementation produces equal
+     * results for equal input on platforms with different {@link ByteOrder}, but is slower on
+     * big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return an {@code IntHashFunction} implementing the XXH32 algorithm with the given seed value
+     * @see #xx32()
+     */
+    public static IntHashFunction xx32(int seed) {
+        return XxHash32.asIntHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp">MurmurHash2
+     * algorithm</a> without a seed value (0 is used as default seed value). This implementation
+     * produces equal results for equal input on platforms with different {@link ByteOrder}, but
+     * is slower on big-endian platforms than on little-endian.
+     *
+     * @return an {@code IntHashFunction} implementing the MurmurHash2 algorithm without a seed
+     *         value
+     * @see #murmur_2(int)
+     * @see KafkaPartitioner
+     */
+    public static IntHashFunction murmur_2() {
+        return MurmurHash_2_32.asIntHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp">MurmurHash2
+     * algorithm</a> with the given seed value. This implementation produces equal results for
+     * equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian. With the seed {@link KafkaPartitioner#SEED}, it is
+     * Kafka's {@code Utils.murmur2()}.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return an {@code IntHashFunction} implementing the MurmurHash2 algorithm with the given
+     *         seed value
+     * @see #murmur_2()
+     */
+    public static IntHashFunction murmur_2(int seed) {
+        return MurmurHash_2_32.asIntHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp">MurmurHash3
+     * x86_32 algorithm</a> without seed values. This implementation produces equal results for
+     * equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian.
+     *
+     * @return an {@code IntHashFunction} implementing the MurmurHash3 x86_32 algorithm without
+     *         seed values
+     * @see #murmur_3(int)
+     */
+    public static IntHashFunction murmur_3() {
+        return MurmurHash_3_32.asIntHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp">MurmurHash3
+     * x86_32 algorithm</a> with the given seed value. This implementation produces equal results
+     * for equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return an {@code IntHashFunction} implementing the MurmurHash3 x86_32 algorithm with the
+     *         given seed value
+     * @see #murmur_3()
+     */
+    public static IntHashFunction murmur_3(int seed) {
+        return MurmurHash_3_32.asIntHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="https://github.com/google/cityhash/blob/8af9b8c2b889d80c22d6bc26ba0df1afb79a30db/src/city.cc">
+     * CityHash32 algorithm, version 1.1</a>, which is also {@code Hash32()} of farmhashcc. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @return an {@code IntHashFunction} implementing the CityHash32 algorithm, version 1.1
+     * @see #city_1_1(int)
+     */
+    public static IntHashFunction city_1_1() {
+        return CityAndFarmHash_1_1.asIntHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing {@code Hash32WithSeed()} of
+     * <a href="https://github.com/google/farmhash/blob/master/src/farmhash.cc">farmhashcc</a>,
+     * the seeded variant of CityHash32 version 1.1, with the given seed value. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return an {@code IntHashFunction} implementing the farmhashcc Hash32WithSeed algorithm
+     *         with the given seed value
+     * @see #city_1_1()
+     */
+    public static IntHashFunction city_1_1(int seed) {
+        return CityAndFarmHash_1_1.asIntHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing so-called
+     * <a href="https://github.com/google/farmhash/blob/master/src/farmhash.cc">farmhashmk
+     * algorithm</a> without a seed value, which is FarmHash {@code Fingerprint32()}, and FarmHash
+     * {@code Hash32()} on platforms without SSE4.1 or SSE4.2. This implementation produces equal
+     * results for equal input on platforms with different {@link ByteOrder}, but is slower on
+     * big-endian platforms than on little-endian.
+     *
+     * <p>For inputs of up to 12 bytes its output is equivalent to {@link #city_1_1()} output.
+     *
+     * @return an {@code IntHashFunction} implementing the farmhashmk algorithm without a seed
+     *         value
+     * @see #farmMk(int)
+     */
+    public static IntHashFunction farmMk() {
+        return CityAndFarmHash_1_1.mkWithoutSeed();
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing so-called
+     * <a href="https://github.com/google/farmhash/blob/master/src/farmhash.cc">farmhashmk
+     * algorithm</a> with the given seed value, which is {@code Hash32WithSeed()} of farmhashmk.
+     * This implementation produces equal results for equal input on platforms with different
+     * {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return an {@code IntHashFunction} implementing the farmhashmk algorithm with the given seed
+     *         value
+     * @see #farmMk()
+     */
+    public static IntHashFunction farmMk(int seed) {
+        return CityAndFarmHash_1_1.mkWithSeed(seed);
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="http://www.isthe.com/chongo/tech/comp/fnv/">FNV-1a algorithm</a>. FNV-1a is cheap
+     * for keys of a few bytes, but mixes poorly; it is mostly useful for compatibility with
+     * existing formats and tools. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}.
+     *
+     * @return an {@code IntHashFunction} implementing the 32-bit FNV-1a algorithm
+     * @see LongHashFunction#fnv1a()
+     */
+    public static IntHashFunction fnv1a() {
+        return FnvHash.asIntHashFunction();
+    }
+
+    /**
+     * Returns a 32-bit function computing the CRC-32C (Castagnoli) checksum, as of
+     * {@code java.util.zip.CRC32C}, over any input supported by this class, without copying it.
+     * The checksums of adjacent byte sequences can be merged with {@link Crc32C#combine(int, int,
+     * long)}. This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}.
+     *
+     * <p>CRC-32C detects errors in stored or transmitted data; it isn't a good hash function for
+     * hash tables.
+     *
+     * @return an {@code IntHashFunction} computing CRC-32C
+     * @see Crc32C
+     */
+    public static IntHashFunction crc32c() {
+        return Crc32C.asIntHashFunction();
+    }
+
+    /**
+     * Returns a 32-bit hash function implementing the
+     * <a href="https://github.com/veorq/SipHash">HalfSipHash-2-4 algorithm</a> with 32-bit output
+     * and the given 64-bit key, a keyed hash function for hash tables exposed to untrusted input,
+     * as long as the key is secret. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @param key the 8 bytes of the key, as a little-endian {@code long}
+     * @return an {@code IntHashFunction} implementing the HalfSipHash-2-4 algorithm with the given
+     * key
+     * @see LongHashFunction#sip_2_4(long, long)
+     */
+    public static IntHashFunction halfSip_2_4(long key) {
+        return HalfSipHash.asIntHashFunction(key);
+    }
+
+    /**
+     * Constructor for use in subclasses.
+     */
+    protected IntHashFunction() {
+    }
+
+    /**
+     * Returns the hash code for the given {@code long} value; this method is consistent with
+     * {@code IntHashFunction} methods that accept sequences of bytes, assuming the {@code input}
+     * value is interpreted in {@linkplain ByteOrder#nativeOrder() native} byte order. For example,
+     * the result of {@code hashLong(v)} call is identical to the result of
+     * {@code hashLongs(new long[] {v})} call for any {@code long} value.
+ *
+ * @param input the long value to be hashed
+ * @return the hash code for the given long value
+     */
+    public abstract int hashLong(long input);
+
+    /**
+     * Returns the hash code for the given {@code int} value; this method is consistent with
+     * {@code IntHashFunction} methods that accept sequences of bytes, assuming the {@code input}
+     * value is interpreted in {@linkplain ByteOrder#nativeOrder() native} byte order. For example,
+     * the result of {@code hashInt(v)} call is identical to the result of
+     * {@code hashInts(new int[] {v})} call for any {@code int} value.
+ *
+ * @param input the int value to be hashed
+ * @return the hash code for the given int value
+     */
+    public abstract int hashInt(int input);
+
+    /**
+     * Returns the hash code for the given {@code short} value; this method is consistent with
+     * {@code IntHashFunction} methods that accept sequences of bytes, assuming the {@code input}
+     * value is interpreted in {@linkplain ByteOrder#nativeOrder() native} byte order. For example,
+     * the result of {@code hashShort(v)} call is identical to the result of
+     * {@code hashShorts(new short[] {v})} call for any {@code short} value.
+     * As a consequence, {@code hashShort(v)} call produce always the same result as {@code
+     * hashChar((char) v)}.
+ *
+ * @param input the short value to be hashed
+ * @return the hash code for the given short value
+     */
+    public abstract int hashShort(short input);
+
+    /**
+     * Returns the hash code for the given {@code char} value; this method is consistent with
+     * {@code IntHashFunction} methods that accept sequences of bytes, assuming the {@code input}
+     * value is interpreted in {@linkplain ByteOrder#nativeOrder() native} byte order. For example,
+     * the result of {@code hashChar(v)} call is identical to the result of
+     * {@code hashChars(new char[] {v})} call for any {@code char} value.
+     * As a consequence, {@code hashChar(v)} call produce always the same result as {@code
+     * hashShort((short) v)}.
+ *
+ * @param input the char value to be hashed
+ * @return the hash code for the given char value
+     */
+    public abstract int hashChar(char input);
+
+    /**
+     * Returns the hash code for the given {@code byte} value. This method is consistent with
+     * {@code IntHashFunction} methods that accept sequences of bytes. For example, the result of
+     * {@code hashByte(v)} call is identical to the result of
+     * {@code hashBytes(new byte[] {v})} call for any {@code byte} value.
+ *
+ * @param input the byte value to be hashed
+ * @return the hash code for the given byte value
+     */
+    public abstract int hashByte(byte input);
+
+    /**
+     * Returns the hash code for the empty (zero-length) bytes sequence,
+     * for example {@code hashBytes(new byte[0])}.
+ *
+ * @return the hash code for the empty bytes sequence
+     */
+    public abstract int hashVoid();
+
+    /**
+     * Returns the hash code for {@code len} continuous bytes of the given {@code input} object,
+     * starting from the given offset. The abstraction of input as ordered byte sequence and
+     * "offset within the input" is defined by the given {@code access} strategy.
+     *
+     * <p>This method doesn't promise to throw a {@code RuntimeException} if {@code
+     * [off, off + len - 1]} subsequence exceeds the bounds of the bytes sequence, defined by {@code
+     * access} strategy for the given {@code input}, so use this method with caution.
+     *
+     * @param input  the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off    offset to the first byte of the subsequence to hash
+     * @param len    length of the subsequence to hash
+     * @param <T>    the type of the input
+     * @return hash code for the specified bytes subsequence
+     */
+    public abstract <T> int hash(T input, Access<T> access, long off, long len);
+
+    private int unsafeHash(Object input, long off, long len) {
+        return hash(input, UnsafeAccess.INSTANCE, off, len);
+    }
+
+    /**
+     * Shortcut for {@link #hashBooleans(boolean[]) hashBooleans(new boolean[] &#123;input&#125;)}.
+     * Note that this is not necessarily equal to {@code hashByte(input ? (byte) 1 : (byte) 0)},
+     * because booleans could be stored differently in this JVM.
+ *
+ * @param input the boolean value to be hashed
+ * @return the hash code for the given boolean value
+     */
+    public int hashBoolean(boolean input) {
+        return hashByte(input ? TRUE_BYTE_VALUE : FALSE_BYTE_VALUE);
+    }
+
+    /**
+     * Shortcut for {@link #hashBooleans(boolean[], int, int) hashBooleans(input, 0, input.length)}.
+ *
+ * @param input the boolean array to be hashed
+ * @return the hash code for the given boolean array
+     */
+    public int hashBooleans(@NotNull boolean[] input) {
+        return unsafeHash(input, BOOLEAN_BASE, input.length);
+    }
+
+    /**
+     * Returns the hash code for the specified subsequence of the given {@code boolean} array.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param input the array to read data from
+     * @param off   index of the first {@code boolean} in the subsequence to hash
+     * @param len   length of the subsequence to hash
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     */
+    public int hashBooleans(@NotNull boolean[] input, int off, int len) {
+        checkArrayOffs(input.length, off, len);
+        return unsafeHash(input, BOOLEAN_BASE + off, len);
+    }
+
+    /**
+     * Shortcut for {@link #hashBytes(byte[], int, int) hashBytes(input, 0, input.length)}.
+ *
+ * @param input the byte array to be hashed
+ * @return the hash code for the given byte array
+     */
+    public int hashBytes(@NotNull byte[] input) {
+        return unsafeHash(input, BYTE_BASE, input.length);
+    }
+
+    /**
+     * Returns the hash code for the specified subsequence of the given {@code byte} array.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param input the array to read bytes from
+     * @param off   index of the first {@code byte} in the subsequence to hash
+     * @param len   length of the subsequence to hash
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     */
+    public int hashBytes(@NotNull byte[] input, int off, int len) {
+        checkArrayOffs(input.length, off, len);
+        return unsafeHash(input, BYTE_BASE + off, len);
+    }
+
+    /**
+     * Shortcut for {@link #hashBytes(ByteBuffer, int, int)
+     * hashBytes(input, input.position(), input.remaining())}.
+ *
+ * @param input the ByteBuffer to be hashed
+ * @return the hash code for the given ByteBuffer
+     */
+    public int hashBytes(ByteBuffer input) {
+        return hashByteBuffer(input, input.position(), input.remaining());
+    }
+
+    /**
+     * Returns the hash code for the specified subsequence of the given {@code ByteBuffer}.
+     *
+     * <p>This method doesn't alter the state (mark, position, limit or order) of the given
+     * {@code ByteBuffer}.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@link Access#toByteBuffer()}.
+     *
+     * @param input the buffer to read bytes from
+     * @param off   index of the first {@code byte} in the subsequence to hash
+     * @param len   length of the subsequence to hash
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.capacity()}
+     *                                   or {@code len < 0}
+     */
+    public int hashBytes(@NotNull ByteBuffer input, int off, int len) {
+        checkArrayOffs(input.capacity(), off, len);
+        return hashByteBuffer(input, off, len);
+    }
+
+    private int hashByteBuffer(@NotNull ByteBuffer input, int off, int len) {
+        if (input.hasArray()) {
+            return unsafeHash(input.array(), BYTE_BASE + input.arrayOffset() + off, len);
+        } else if (input instanceof DirectBuffer) {
+            return unsafeHash(null, ((DirectBuffer) input).address() + off, len);
+        } else {
+            return hash(input, ByteBufferAccess.INSTANCE, off, len);
+        }
+    }
+
+    /**
+     * Returns the hash code of bytes of the wild memory from the given address. Use with caution.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param address the address of the first byte to hash
+     * @param len     length of the byte sequence to hash
+     * @return hash code for the specified byte sequence
+     */
+    public int hashMemory(long address, long len) {
+        return unsafeHash(null, address, len);
+    }
+
+    /**
+     * Shortcut for {@link #hashChars(char[], int, int) hashChars(input, 0, input.length)}.
+ *
+ * @param input the char array to be hashed
+ * @return the hash code for the given char array
+     */
+    public int hashChars(@NotNull char[] input) {
+        return unsafeHash(input, CHAR_BASE, input.length * 2L);
+    }
+
+    /**
+     * Returns the hash code for bytes, as they lay in memory, of the specified subsequence
+     * of the given {@code char} array.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param input the array to read data from
+     * @param off   index of the first {@code char} in the subsequence to hash
+     * @param len   length of the subsequence to hash, in chars (i. e. the length of the bytes
+     *              sequence to hash is {@code len * 2L})
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     */
+    public int hashChars(@NotNull char[] input, int off, int len) {
+        checkArrayOffs(input.length, off, len);
+        return unsafeHash(input, CHAR_BASE + (off * 2L), len * 2L);
+    }
+
+    /**
+     * Shortcut for {@link #hashChars(String, int, int) hashChars(input, 0, input.length())}.
+ *
+ * @param input the String to be hashed
+ * @return the hash code for the given String
+     */
+    public int hashChars(@NotNull String input) {
+        return VALID_STRING_HASH.intHash(input, this, 0, input.length());
+    }
+
+    /**
+     * Returns the hash code for bytes of the specified subsequence of the given {@code String}'s
+     * underlying {@code char} array.
+     *
+     * <p>Default implementation could either delegate to {@link #hash(Object, Access, long, long)}
+     * using {@link Access#toNativeCharSequence()}, or to {@link #hashChars(char[], int, int)}.
+     *
+     * @param input the string which bytes to hash
+     * @param off   index of the first {@code char} in the subsequence to hash
+     * @param len   length of the subsequence to hash, in chars (i. e. the length of the bytes
+     *              sequence to hash is {@code len * 2L})
+     * @return the hash code of the given {@code String}'s bytes
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length()}
+     *                                   or {@code len < 0}
+     */
+    public int hashChars(@NotNull String input, int off, int len) {
+        checkArrayOffs(input.length(), off, len);
+        return VALID_STRING_HASH.intHash(input, this, off, len);
+    }
+
+    /**
+     * Shortcut for {@link #hashChars(StringBuilder, int, int) hashChars(input, 0, input.length())}.
+ *
+ * @param input the StringBuilder to be hashed
+ * @return the hash code for the given StringBuilder
+     */
+    public int hashChars(@NotNull StringBuilder input) {
+        return hashNativeChars(input);
+    }
+
+    /**
+     * Returns the hash code for bytes of the specified subsequence of the given
+     * {@code StringBuilder}'s underlying {@code char} array.
+     *
+     * <p>Default implementation could either delegate to {@link #hash(Object, Access, long, long)}
+     * using {@link Access#toNativeCharSequence()}, or to {@link #hashChars(char[], int, int)}.
+     *
+     * @param input the string builder which bytes to hash
+     * @param off   index of the first {@code char} in the subsequence to hash
+     * @param len   length of the subsequence to hash, in chars (i. e. the length of the bytes
+     *              sequence to hash is {@code len * 2L})
+     * @return the hash code of the given {@code String}'s bytes
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length()}
+     *                                   or {@code len < 0}
+     */
+    public int hashChars(@NotNull StringBuilder input, int off, int len) {
+        checkArrayOffs(input.length(), off, len);
+        return hashNativeChars(input, off, len);
+    }
+
+/**
+ * Returns the hash code for the entire CharSequence.
+ *
+ * @param input the CharSequence to be hashed
+ * @return the hash code for the given CharSequence
+ */
+    int hashNativeChars(CharSequence input) {
+        return hashNativeChars(input, 0, input.length());
+    }
+
+/**
+ * Returns the hash code for a subsequence of the given CharSequence.
+ *
+ * @param input the CharSequence to be hashed
+ * @param off   the index of the first char in the subsequence
+ * @param len   the length of the subsequence
+ * @return the hash code for the specified subsequence of the given CharSequence
+ */
+    int hashNativeChars(CharSequence input, int off, int len) {
+        return hash(input, nativeCharSequenceAccess(), off * 2L, len * 2L);
+    }
+
+    /**
+     * Shortcut for {@link #hashShorts(short[], int, int) hashShorts(input, 0, input.length)}.
+ *
+ * @param input the short array to be hashed
+ * @return the hash code for the given short array
+     */
+    public int hashShorts(@NotNull short[] input) {
+        return unsafeHash(input, SHORT_BASE, input.length * 2L);
+    }
+
+    /**
+     * Returns the hash code for bytes, as they lay in memory, of the specified subsequence
+     * of the given {@code short} array.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param input the array to read data from
+     * @param off   index of the first {@code short} in the subsequence to hash
+     * @param len   length of the subsequence to hash, in shorts (i. e. the length of the bytes
+     *              sequence to hash is {@code len * 2L})
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     */
+    public int hashShorts(@NotNull short[] input, int off, int len) {
+        checkArrayOffs(input.length, off, len);
+        return unsafeHash(input, SHORT_BASE + (off * 2L), len * 2L);
+    }
+
+    /**
+     * Shortcut for {@link #hashInts(int[], int, int) hashInts(input, 0, input.length)}.
+ *
+ * @param input the integer array to be hashed
+ * @return the hash code for the given integer array
+     */
+    public int hashInts(@NotNull int[] input) {
+        return unsafeHash(input, INT_BASE, input.length * 4L);
+    }
+
+    /**
+     * Returns the hash code for bytes, as they lay in memory, of the specified subsequence
+     * of the given {@code int} array.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param input the array to read data from
+     * @param off   index of the first {@code int} in the subsequence to hash
+     * @param len   length of the subsequence to hash, in ints (i. e. the length of the bytes
+     *              sequence to hash is {@code len * 4L})
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     */
+    public int hashInts(@NotNull int[] input, int off, int len) {
+        checkArrayOffs(input.length, off, len);
+        return unsafeHash(input, INT_BASE + (off * 4L), len * 4L);
+    }
+
+    /**
+     * Shortcut for {@link #hashLongs(long[], int, int) hashLongs(input, 0, input.length)}.
+ *
+ * @param input the long array to be hashed
+ * @return the hash code for the given long array
+     */
+    public int hashLongs(@NotNull long[] input) {
+        return unsafeHash(input, LONG_BASE, input.length * 8L);
+    }
+
+    /**
+     * Returns the hash code for bytes, as they lay in memory, of the specified subsequence
+     * of the given {@code long} array.
+     *
+     * <p>Default implementation delegates to {@link #hash(Object, Access, long, long)} method
+     * using {@linkplain Access#unsafe() unsafe} {@code Access}.
+     *
+     * @param input the array to read data from
+     * @param off   index of the first {@code long} in the subsequence to hash
+     * @param len   length of the subsequence to hash, in longs (i. e. the length of the bytes
+     *              sequence to hash is {@code len * 8L})
+     * @return hash code for the specified subsequence
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     */
+    public int hashLongs(@NotNull long[] input, int off, int len) {
+        checkArrayOffs(input.length, off, len);
+        return unsafeHash(input, LONG_BASE + (off * 8L), len * 8L);
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reproduces the partition choice of Kafka's default partitioner for keyed records,
+ * {@code toPositive(murmur2(keyBytes)) % numPartitions}, without serializing the keys: bytes are
+ * hashed in place with {@link IntHashFunction#murmur_2(int) MurmurHash2} of the {@link #SEED Kafka
+ * seed}, and {@code String} keys are hashed as their UTF-8 bytes, as if serialized with Kafka's
+ * {@code StringSerializer}, but encoded on the fly from their chars. None of the methods allocate.
+ */
+@ParametersAreNonnullByDefault
+public final class KafkaPartitioner {
+
+    /**
+     * The seed of MurmurHash2 used by Kafka's {@code Utils.murmur2()}.
+     */
+    public static final int SEED = 0x9747b28c;
+
+    private static final IntHashFunction MURMUR_2 = MurmurHash_2_32.asIntHashFunctionWithSeed(SEED);
+
+    private KafkaPartitioner() {
+    }
+
+    /**
+     * Returns Kafka's {@code Utils.murmur2()} of the UTF-8 bytes of the given key, as returned by
+     * {@code key.toString().getBytes(StandardCharsets.UTF_8)}: unpaired surrogates are encoded
+     * as {@code '?'}.
+     *
+     * @param key the key to hash
+     * @return the Kafka murmur2 hash of the key
+     */
+    public static int murmur2(CharSequence key) {
+        final int chars = key.length();
+        int i = 0;
+        while (i < chars && key.charAt(i) < 0x80) {
+            i++;
+        }
+        return i == chars ? murmur2Ascii(key, chars) : murmur2Utf8(key, chars, utf8Length(key, i, chars));
+    }
+
+    /**
+     * Returns Kafka's {@code Utils.murmur2()} of the given bytes.
+     *
+     * @param key the key to hash
+     * @return the Kafka murmur2 hash of the key
+     */
+    public static int murmur2(byte[] key) {
+        return MURMUR_2.hashBytes(key);
+    }
+
+    /**
+     * Returns Kafka's {@code Utils.murmur2()} of the specified subsequence of the given bytes.
+     *
+     * @param key the array to read the key from
+     * @param off index of the first byte of the key
+     * @param len length of the key
+     * @return the Kafka murmur2 hash of the key
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > key.length}
+     *                                   or {@code len < 0}
+     */
+    public static int murmur2(byte[] key, int off, int len) {
+        return MURMUR_2.hashBytes(key, off, len);
+    }
+
+    /**
+     * Returns Kafka's {@code Utils.murmur2()} of the remaining bytes of the given buffer, heap or
+     * direct. The state of the buffer is not changed.
+     *
+     * @param key the buffer to read the key from
+     * @return the Kafka murmur2 hash of the key
+     */
+    public static int murmur2(ByteBuffer key) {
+        return MURMUR_2.hashBytes(key);
+    }
+
+    /**
+     * Returns the partition of the given key, as chosen by Kafka's default partitioner for the key
+     * serialized with {@code StringSerializer}.
+     *
+     * @param key           the key of the record
+     * @param numPartitions the number of partitions of the topic
+     * @return the partition of the key, in {@code [0, numPartitions)}
+     * @throws IllegalArgumentException if {@code numPartitions <= 0}
+     */
+    public static int partition(CharSequence key, int numPartitions) {
+        checkNumPartitions(numPartitions);
+        return toPositive(murmur2(key)) % numPartitions;
+    }
+
+    /**
+     * Returns the partition of the given serialized key, as chosen by Kafka's default partitioner.
+     *
+     * @param key           the serialized key of the record
+     * @param numPartitions the number of partitions of the topic
+     * @return the partition of the key, in {@code [0, numPartitions)}
+     * @throws IllegalArgumentException if {@code numPartitions <= 0}
+     */
+    public static int partition(byte[] key, int numPartitions) {
+        checkNumPartitions(numPartitions);
+        return toPositive(murmur2(key)) % numPartitions;
+    }
+
+    /**
+     * Returns the partition of the serialized key in the specified subsequence of the given bytes,
+     * as chosen by Kafka's default partitioner.
+     *
+     * @param key           the array to read the serialized key from
+     * @param off           index of the first byte of the key
+     * @param len           length of the key
+     * @param numPartitions the number of partitions of the topic
+     * @return the partition of the key, in {@code [0, numPartitions)}
+     * @throws IllegalArgumentException  if {@code numPartitions <= 0}
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > key.length}
+     *                                   or {@code len < 0}
+     */
+    public static int partition(byte[] key, int off, int len, int numPartitions) {
+        checkNumPartitions(numPartitions);
+        return toPositive(murmur2(key, off, len)) % numPartitions;
+    }
+
+    /**
+     * Returns the partition of the serialized key in the remaining bytes of the given buffer, as
+     * chosen by Kafka's default partitioner. The state of the buffer is not changed.
+     *
+     * @param key           the buffer to read the serialized key from
+     * @param numPartitions the number of partitions of the topic
+     * @return the partition of the key, in {@code [0, numPartitions)}
+     * @throws IllegalArgumentException if {@code numPartitions <= 0}
+     */
+    public static int partition(ByteBuffer key, int numPartitions) {
+        checkNumPartitions(numPartitions);
+        return toPositive(murmur2(key)) % numPartitions;
+    }
+
+    /**
+     * Kafka's {@code Utils.toPositive()}: clears the sign bit, rather than negating, so that
+     * {@code Integer.MIN_VALUE} is mapped to 0.
+     *
+     * @param hash the hash to convert
+     * @return a non-negative int
+     */
+    public static int toPositive(int hash) {
+        return hash & 0x7fffffff;
+    }
+
+    private static void checkNumPartitions(int numPartitions) {
+        if (numPartitions <= 0)
+            throw new IllegalArgumentException("numPartitions should be positive: " + numPartitions);
+    }
+
+    private static int murmur2Ascii(CharSequence key, int len) {
+        int h = SEED ^ len;
+        int i = 0;
+        for (; i <= len - 4; i += 4) {
+            h = MurmurHash_2_32.mix(h, key.charAt(i) | key.charAt(i + 1) << 8 |
+                    key.charAt(i + 2) << 16 | key.charAt(i + 3) << 24);
+        }
+        if (i < len) {
+            int k = 0;
+            for (int shift = 0; i < len; i++, shift += 8) {
+                k |= key.charAt(i) << shift;
+            }
+            h = MurmurHash_2_32.mixTail(h, k);
+        }
+        return MurmurHash_2_32.finalize(h);
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoding of the key, the chars before {@code from} being
+     * ASCII.
+     */
+    private static int utf8Length(CharSequence key, int from, int chars) {
+        int len = from;
+        for (int i = from; i < chars; i++) {
+            final char c = key.charAt(i);
+            if (c < 0x80) {
+                len += 1;
+            } else if (c < 0x800) {
+                len += 2;
+            } else if (!Character.isSurrogate(c)) {
+                len += 3;
+            } else if (isSurrogatePair(key, i, chars)) {
+                len += 4;
+                i++;
+            } else {
+                len += 1; // '?'
+            }
+        }
+        return len;
+    }
+
+    private static boolean isSurrogatePair(CharSequence key, int i, int chars) {
+        return Character.isHighSurrogate(key.charAt(i)) && i + 1 < chars &&
+                Character.isLowSurrogate(key.charAt(i + 1));
+    }
+
+    /**
+     * Feeds the UTF-8 encoding of each char, up to 4 bytes packed little-endian in an int, to the
+     * 4-byte blocks of MurmurHash2.
+     */
+    private static int murmur2Utf8(CharSequence key, int chars, int len) {
+        int h = SEED ^ len;
+        int k = 0;
+        int shift = 0;
+        for (int i = 0; i < chars; i++) {
+            final int c = key.charAt(i);
+            final int bytes;
+            final int bits;
+            if (c < 0x80) {
+                bytes = c;
+                bits = 8;
+            } else if (c < 0x800) {
+                bytes = (0xc0 | c >>> 6) | (0x80 | c & 0x3f) << 8;
+                bits = 16;
+            } else if (!Character.isSurrogate((char) c)) {
+                bytes = (0xe0 | c >>> 12) | (0x80 | c >>> 6 & 0x3f) << 8 | (0x80 | c & 0x3f) << 16;
+                bits = 24;
+            } else if (isSurrogatePair(key, i, chars)) {
+                final int cp = Character.toCodePoint((char) c, key.charAt(++i));
+                bytes = (0xf0 | cp >>> 18) | (0x80 | cp >>> 12 & 0x3f) << 8 |
+                        (0x80 | cp >>> 6 & 0x3f) << 16 | (0x80 | cp & 0x3f) << 24;
+                bits = 32;
+            } else {
+                bytes = '?';
+                bits = 8;
+            }
+            k |= bytes << shift;
+            shift += bits;
+            if (shift >= 32) {
+                h = MurmurHash_2_32.mix(h, k);
+                shift -= 32;
+                // the bytes which didn't fit the block start the next one
+                k = shift == 0 ? 0 : bytes >>> (bits - shift);
+            }
+        }
+        if (shift != 0) {
+            h = MurmurHash_2_32.mixTail(h, k);
+        }
+        return MurmurHash_2_32.finalize(h);
+    }
+}
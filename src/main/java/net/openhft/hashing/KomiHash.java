@@ -0,0 +1,410 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of komihash (version 5) implementation from
+ * https://github.com/avaneev/komihash. This implementation provides endian-independant hash
+ * values, but it's slower on big-endian platforms.
+ */
+class KomiHash {
+    // The first 512 bits of the fractional part of pi, as in the reference implementation
+    private static final long S1 = 0x243F6A8885A308D3L;
+    private static final long S2 = 0x13198A2E03707344L;
+    private static final long S3 = 0xA4093822299F31D0L;
+    private static final long S4 = 0x082EFA98EC4E6C89L;
+    private static final long S5 = 0x452821E638D01377L;
+    private static final long S6 = 0xBE5466CF34E90C6CL;
+    private static final long S7 = 0xC0AC29B7C97C50DDL;
+    private static final long S8 = 0x3F84D5B5B5470917L;
+
+    /**
+     * {@code Seed1} after the initial {@code KOMIHASH_HASHROUND()} for the given seed.
+     */
+    static long initSeed1(final long seed) {
+        final long seed1 = S1 ^ (seed & 0x5555555555555555L);
+        final long seed5 = S5 ^ (seed & 0xAAAAAAAAAAAAAAAAL);
+        return (seed1 * seed5) ^ (seed5 + Maths.unsignedLongMulHigh(seed1, seed5));
+    }
+
+    /**
+     * {@code Seed5} after the initial {@code KOMIHASH_HASHROUND()} for the given seed.
+     */
+    static long initSeed5(final long seed) {
+        final long seed1 = S1 ^ (seed & 0x5555555555555555L);
+        final long seed5 = S5 ^ (seed & 0xAAAAAAAAAAAAAAAAL);
+        return seed5 + Maths.unsignedLongMulHigh(seed1, seed5);
+    }
+
+    /**
+     * Reads {@code len < 8} bytes as a little-endian value, padded with the "final byte" 1 just
+     * after them. Unlike the {@code kh_lpu64ec_*()} functions of the reference implementation,
+     * never reads before {@code off}.
+     */
+    private static <T> long kh_lpu64ec(final Access<T> access, final T in, final long off,
+                                       final long len) {
+        final long fb = 1L << (len << 3);
+        if (len < 4) {
+            if (len == 0) {
+                return fb;
+            }
+            long m = access.u8(in, off);
+            if (len > 1) {
+                m |= (long) access.u8(in, off + 1) << 8;
+                if (len > 2) {
+                    m |= (long) access.u8(in, off + 2) << 16;
+                }
+            }
+            return fb | m;
+        }
+        final long mh = access.u32(in, off + len - 4) >>> (64 - (len << 3));
+        return fb | access.u32(in, off) | (mh << 32);
+    }
+
+    /**
+     * {@code KOMIHASH_HASHFIN()}
+     */
+    private static long finish(final long r1h, final long r2h, long seed5) {
+        seed5 += Maths.unsignedLongMulHigh(r1h, r2h);
+        final long seed1 = (r1h * r2h) ^ seed5;
+        return (seed1 * seed5) ^ (seed5 + Maths.unsignedLongMulHigh(seed1, seed5));
+    }
+
+    /**
+     *
+     * @param seed1 {@code Seed1} returned by {@link #initSeed1(long)}
+     * @param seed5 {@code Seed5} returned by {@link #initSeed5(long)}
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return hash result
+     */
+    static <T> long komiHash64(long seed1, long seed5,
+                               final T input, final Access<T> access, long off, long len) {
+        if (len < 16) {
+            long r1h = seed1;
+            long r2h = seed5;
+            if (len > 7) {
+                r2h ^= kh_lpu64ec(access, input, off + 8, len - 8);
+                r1h ^= access.i64(input, off);
+            } else if (len != 0) {
+                r1h ^= kh_lpu64ec(access, input, off, len);
+            }
+            return finish(r1h, r2h, seed5);
+        }
+
+        if (len > 63) {
+            long seed2 = S2 ^ seed1;
+            long seed3 = S3 ^ seed1;
+            long seed4 = S4 ^ seed1;
+            long seed6 = S6 ^ seed5;
+            long seed7 = S7 ^ seed5;
+            long seed8 = S8 ^ seed5;
+            do {
+                final long m1 = seed1 ^ access.i64(input, off);
+                final long m5 = seed5 ^ access.i64(input, off + 32);
+                final long m2 = seed2 ^ access.i64(input, off + 8);
+                final long m6 = seed6 ^ access.i64(input, off + 40);
+                final long m3 = seed3 ^ access.i64(input, off + 16);
+                final long m7 = seed7 ^ access.i64(input, off + 48);
+                final long m4 = seed4 ^ access.i64(input, off + 24);
+                final long m8 = seed8 ^ access.i64(input, off + 56);
+                seed5 += Maths.unsignedLongMulHigh(m1, m5);
+                seed6 += Maths.unsignedLongMulHigh(m2, m6);
+                seed7 += Maths.unsignedLongMulHigh(m3, m7);
+                seed8 += Maths.unsignedLongMulHigh(m4, m8);
+                seed2 = (m2 * m6) ^ seed5;
+                seed3 = (m3 * m7) ^ seed6;
+                seed4 = (m4 * m8) ^ seed7;
+                seed1 = (m1 * m5) ^ seed8;
+                off += 64;
+                len -= 64;
+            } while (len > 63);
+            seed5 ^= seed6 ^ seed7 ^ seed8;
+            seed1 ^= seed2 ^ seed3 ^ seed4;
+        }
+        return hashTail(seed1, seed5, input, access, off, len);
+    }
+
+    /**
+     * Processes the last {@code len < 64} bytes and finalizes the hash.
+     */
+    private static <T> long hashTail(long seed1, long seed5,
+                                     final T input, final Access<T> access, long off, long len) {
+        if (len > 31) {
+            long m1 = seed1 ^ access.i64(input, off);
+            long m5 = seed5 ^ access.i64(input, off + 8);
+            seed5 += Maths.unsignedLongMulHigh(m1, m5);
+            seed1 = (m1 * m5) ^ seed5;
+            m1 = seed1 ^ access.i64(input, off + 16);
+            m5 = seed5 ^ access.i64(input, off + 24);
+            seed5 += Maths.unsignedLongMulHigh(m1, m5);
+            seed1 = (m1 * m5) ^ seed5;
+            off += 32;
+            len -= 32;
+        }
+        if (len > 15) {
+            final long m1 = seed1 ^ access.i64(input, off);
+            final long m5 = seed5 ^ access.i64(input, off + 8);
+            seed5 += Maths.unsignedLongMulHigh(m1, m5);
+            seed1 = (m1 * m5) ^ seed5;
+            off += 16;
+            len -= 16;
+        }
+        if (len > 7) {
+            return finish(seed1 ^ access.i64(input, off),
+                    seed5 ^ kh_lpu64ec(access, input, off + 8, len - 8), seed5);
+        }
+        return finish(seed1 ^ kh_lpu64ec(access, input, off, len), seed5, seed5);
+    }
+
+    static LongHashFunction asLongHashFunctionWithoutSeed() {
+        return AsLongHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsLongHashFunction SEEDLESS_INSTANCE = new AsLongHashFunction();
+        private static final long SEEDLESS_SEED1 = initSeed1(0L);
+        private static final long SEEDLESS_SEED5 = initSeed5(0L);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        public long seed() {
+            return 0L;
+        }
+
+        long seed1() {
+            return SEEDLESS_SEED1;
+        }
+
+        long seed5() {
+            return SEEDLESS_SEED5;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return asStreamingHasher(seed());
+        }
+
+        @Override
+        public long hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long seed5 = seed5();
+            return finish(seed1() ^ input, seed5 ^ 1L, seed5);
+        }
+
+        @Override
+        public long hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long seed5 = seed5();
+            return finish(seed1() ^ (Primitives.unsignedInt(input) | (1L << 32)), seed5, seed5);
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long seed5 = seed5();
+            return finish(seed1() ^ (Primitives.unsignedShort(input) | (1L << 16)), seed5, seed5);
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            final long seed5 = seed5();
+            return finish(seed1() ^ (Primitives.unsignedByte(input) | (1L << 8)), seed5, seed5);
+        }
+
+        @Override
+        public long hashVoid() {
+            final long seed5 = seed5();
+            return finish(seed1(), seed5, seed5);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return KomiHash.komiHash64(seed1(), seed5(),
+                    input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunctionWithSeed(final long seed) {
+        return new AsLongHashFunctionSeeded(seed);
+    }
+
+    private static class AsLongHashFunctionSeeded extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+        private final long seed1;
+        private final long seed5;
+
+        private AsLongHashFunctionSeeded(final long seed) {
+            this.seed = seed;
+            this.seed1 = initSeed1(seed);
+            this.seed5 = initSeed5(seed);
+        }
+
+        @Override
+        public long seed() {
+            return seed;
+        }
+
+        @Override
+        long seed1() {
+            return seed1;
+        }
+
+        @Override
+        long seed5() {
+            return seed5;
+        }
+    }
+
+    static StreamingHasher asStreamingHasher(final long seed) {
+        return new AsStreamingHasher(seed);
+    }
+
+    /**
+     * Streaming version of komihash: as the one-shot function consumes every full 64-byte block
+     * of inputs longer than 63 bytes, blocks are consumed as soon as they are available, fewer
+     * bytes are kept in the buffer until the next update or the digest.
+     */
+    private static class AsStreamingHasher extends StreamingHasher {
+        private static final Access<Object> unsafeLE = UnsafeAccess.INSTANCE.byteOrder(null, LITTLE_ENDIAN);
+
+        private final long initSeed1;
+        private final long initSeed5;
+        private final byte[] buffer = new byte[64];
+        private long seed1;
+        private long seed2;
+        private long seed3;
+        private long seed4;
+        private long seed5;
+        private long seed6;
+        private long seed7;
+        private long seed8;
+        private long totalLen;
+        private int bufferedSize;
+
+        private AsStreamingHasher(final long seed) {
+            this.initSeed1 = initSeed1(seed);
+            this.initSeed5 = initSeed5(seed);
+            reset();
+        }
+
+        @Override
+        public StreamingHasher reset() {
+            seed1 = initSeed1;
+            seed2 = S2 ^ initSeed1;
+            seed3 = S3 ^ initSeed1;
+            seed4 = S4 ^ initSeed1;
+            seed5 = initSeed5;
+            seed6 = S6 ^ initSeed5;
+            seed7 = S7 ^ initSeed5;
+            seed8 = S8 ^ initSeed5;
+            totalLen = 0;
+            bufferedSize = 0;
+            return this;
+        }
+
+        @Override
+        public <T> StreamingHasher update(final T input, final Access<T> access, long off, long len) {
+            final Access<T> accessLE = access.byteOrder(input, LITTLE_ENDIAN);
+            totalLen += len;
+
+            if (bufferedSize + len < 64) {
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, (int) len);
+                bufferedSize += (int) len;
+                return this;
+            }
+
+            if (0 != bufferedSize) {
+                final int loadSize = 64 - bufferedSize;
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, loadSize);
+                consumeBlocks(buffer, unsafeLE, UnsafeAccess.BYTE_BASE, 64);
+                off += loadSize;
+                len -= loadSize;
+                bufferedSize = 0;
+            }
+
+            final long blocksLen = len & ~63L;
+            consumeBlocks(input, accessLE, off, blocksLen);
+
+            bufferedSize = (int) (len - blocksLen);
+            Util.copyBytes(input, accessLE, off + blocksLen, buffer, 0, bufferedSize);
+            return this;
+        }
+
+        private <T> void consumeBlocks(final T input, final Access<T> access, long off, long len) {
+            long seed1 = this.seed1;
+            long seed2 = this.seed2;
+            long seed3 = this.seed3;
+            long seed4 = this.seed4;
+            long seed5 = this.seed5;
+            long seed6 = this.seed6;
+            long seed7 = this.seed7;
+            long seed8 = this.seed8;
+            for (; len >= 64; len -= 64, off += 64) {
+                final long m1 = seed1 ^ access.i64(input, off);
+                final long m5 = seed5 ^ access.i64(input, off + 32);
+                final long m2 = seed2 ^ access.i64(input, off + 8);
+                final long m6 = seed6 ^ access.i64(input, off + 40);
+                final long m3 = seed3 ^ access.i64(input, off + 16);
+                final long m7 = seed7 ^ access.i64(input, off + 48);
+                final long m4 = seed4 ^ access.i64(input, off + 24);
+                final long m8 = seed8 ^ access.i64(input, off + 56);
+                seed5 += Maths.unsignedLongMulHigh(m1, m5);
+                seed6 += Maths.unsignedLongMulHigh(m2, m6);
+                seed7 += Maths.unsignedLongMulHigh(m3, m7);
+                seed8 += Maths.unsignedLongMulHigh(m4, m8);
+                seed2 = (m2 * m6) ^ seed5;
+                seed3 = (m3 * m7) ^ seed6;
+                seed4 = (m4 * m8) ^ seed7;
+                seed1 = (m1 * m5) ^ seed8;
+            }
+            this.seed1 = seed1;
+            this.seed2 = seed2;
+            this.seed3 = seed3;
+            this.seed4 = seed4;
+            this.seed5 = seed5;
+            this.seed6 = seed6;
+            this.seed7 = seed7;
+            this.seed8 = seed8;
+        }
+
+        @Override
+        public long digest() {
+            if (totalLen < 64) {
+                return komiHash64(initSeed1, initSeed5, buffer, unsafeLE, UnsafeAccess.BYTE_BASE, bufferedSize);
+            }
+            return hashTail(seed1 ^ seed2 ^ seed3 ^ seed4, seed5 ^ seed6 ^ seed7 ^ seed8,
+                    buffer, unsafeLE, UnsafeAccess.BYTE_BASE, bufferedSize);
+        }
+    }
+}
@@ -17,16 +17,22 @@
 package net.openhft.hashing;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import sun.nio.ch.DirectBuffer;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static net.openhft.hashing.CharSequenceAccess.nativeCharSequenceAccess;
 import static net.openhft.hashing.UnsafeAccess.*;
-import static net.openhft.hashing.Util.VALID_STRING_HASH;
-import static net.openhft.hashing.Util.checkArrayOffs;
+import static net.openhft.hashing.Util.*;
 
 /**
  * Hash function producing {@code long}-valued result from byte sequences of any length and
@@ -117,6 +123,42 @@ public abstract class LongHashFunction implements Serializable {
         return CityAndFarmHash_1_1.asLongHashFunctionWithTwoSeeds(seed0, seed1);
     }
 
+    /**
+     * Returns a hash function implementing the low 64 bits of
+     * <a href="https://github.com/google/cityhash/blob/8af9b8c2b889d80c22d6bc26ba0df1afb79a30db/src/city.cc">
+     * CityHash128 algorithm, version 1.1</a> without seed values, that are also the low 64 bits of
+     * FarmHash Fingerprint128. This is not the same function as {@link #city_1_1()}, which
+     * implements CityHash64. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the low 64 bits of CityHash128 algorithm,
+     * version 1.1, without seed values
+     * @see #city128low(long, long)
+     * @see LongTupleHashFunction#city_1_1()
+     */
+    public static LongHashFunction city128low() {
+        return CityAndFarmHash_1_1.asLongTupleLowHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing the low 64 bits of
+     * <a href="https://github.com/google/cityhash/blob/8af9b8c2b889d80c22d6bc26ba0df1afb79a30db/src/city.cc">
+     * CityHash128WithSeed algorithm, version 1.1</a> using the 128-bit seed given as two
+     * {@code long}s. This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed0 the low 64 bits of the seed value to be used for hashing
+     * @param seed1 the high 64 bits of the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the low 64 bits of CityHash128WithSeed
+     * algorithm, version 1.1, with the provided seed values
+     * @see #city128low()
+     * @see LongTupleHashFunction#city_1_1(long, long)
+     */
+    public static LongHashFunction city128low(long seed0, long seed1) {
+        return CityAndFarmHash_1_1.asLongTupleLowHashFunctionWithSeeds(seed0, seed1);
+    }
+
     /**
      * Returns a hash function implementing so-called
      * <a href="https://github.com/google/farmhash/blob/a371645d2caa1685541d9963b94751c23b235c72/dev/farmhashna.cc">
@@ -228,6 +270,86 @@ public abstract class LongHashFunction implements Serializable {
         return CityAndFarmHash_1_1.uoWithSeeds(seed0, seed1);
     }
 
+    /**
+     * Returns a 64-bit hash function implementing the
+     * <a href="http://www.isthe.com/chongo/tech/comp/fnv/">FNV-1a algorithm</a>. FNV-1a is cheap
+     * for keys of a few bytes, but mixes poorly; it is mostly useful for compatibility with
+     * existing formats and tools. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}.
+     *
+     * @return a {@code LongHashFunction} implementing the 64-bit FNV-1a algorithm
+     * @see IntHashFunction#fnv1a()
+     */
+    public static LongHashFunction fnv1a() {
+        return FnvHash.asLongHashFunction();
+    }
+
+    /**
+     * Returns a 64-bit function computing the CRC-64/XZ checksum (also known as CRC-64/GO-ECMA),
+     * over the ECMA-182 polynomial, as computed by xz and by {@code hash/crc64} of Go with the
+     * {@code ECMA} table. It is the reflected variant with all-ones initial value and final XOR,
+     * not the non-reflected CRC-64/ECMA-182 of the CRC catalogue. The checksums of adjacent byte
+     * sequences can be merged with {@link Crc64#combine(LongHashFunction, long, long, long)}, and
+     * large regions checksummed on all cores with {@link Crc64}. This implementation produces
+     * equal results for equal input on platforms with different {@link ByteOrder}.
+     *
+     * <p>CRC-64 detects errors in stored or transmitted data; it isn't a good hash function for
+     * hash tables.
+     *
+     * @return a {@code LongHashFunction} computing CRC-64/XZ
+     * @see #crc64Nvme()
+     * @see Crc64
+     */
+    public static LongHashFunction crc64Xz() {
+        return Crc64.xz();
+    }
+
+    /**
+     * Returns a 64-bit function computing the CRC-64/NVME checksum, the end-to-end data
+     * protection CRC of NVMe. The checksums of adjacent byte sequences can be merged with {@link
+     * Crc64#combine(LongHashFunction, long, long, long)}, and large regions checksummed on all
+     * cores with {@link Crc64}. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}.
+     *
+     * @return a {@code LongHashFunction} computing CRC-64/NVME
+     * @see #crc64Xz()
+     * @see Crc64
+     */
+    public static LongHashFunction crc64Nvme() {
+        return Crc64.nvme();
+    }
+
+    /**
+     * Returns a 64-bit hash function implementing the
+     * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp">MurmurHash64A
+     * algorithm</a>, the 64-bit variant of MurmurHash2, without a seed value (0 is used as default
+     * seed value). This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the MurmurHash64A algorithm without a seed
+     *         value
+     * @see #murmur_2(long)
+     */
+    public static LongHashFunction murmur_2() {
+        return MurmurHash_2.asLongHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 64-bit hash function implementing the
+     * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp">MurmurHash64A
+     * algorithm</a>, the 64-bit variant of MurmurHash2, with the given seed value. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the MurmurHash64A algorithm with the given
+     *         seed value
+     * @see #murmur_2()
+     */
+    public static LongHashFunction murmur_2(long seed) {
+        return MurmurHash_2.asLongHashFunctionWithSeed(seed);
+    }
+
     /**
      * Returns a 64-bit hash function implementing the
      * <a href="https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp">MurmurHash3
@@ -311,6 +433,75 @@ public abstract class LongHashFunction implements Serializable {
         return XXH3.asLongHashFunctionWithSeed(seed);
     }
 
+    /**
+     * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">XXH3 64bit
+     * algorithm</a> with the given custom secret, equivalent to {@code XXH3_64bits_withSecret()}
+     * of the reference implementation. Secrets longer than the default 192 bytes let the algorithm
+     * process longer blocks between accumulator scrambles. This implementation produces equal
+     * results for equal input on platforms with different {@link ByteOrder}, but is slower on
+     * big-endian platforms than on little-endian.
+     *
+     * <p>The secret should look random, for example be produced by {@link
+     * #xx3GenerateSecret(byte[], int)}. The given array is copied.
+     *
+     * @param secret the secret, at least 136 bytes long
+     * @return a {@code LongHashFunction} implementing the XXH3 64-bit algorithm with the given secret
+     * @throws IllegalArgumentException if the secret is shorter than 136 bytes
+     * @see #xx3WithSecretAndSeed(byte[], long)
+     */
+    public static LongHashFunction xx3WithSecret(final byte[] secret) {
+        return XXH3.asLongHashFunctionWithSecret(secret);
+    }
+
+    /**
+     * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">XXH3 64bit
+     * algorithm</a> with the given custom secret and seed, equivalent to {@code
+     * XXH3_64bits_withSecretandSeed()} of the reference implementation: inputs up to 240 bytes are
+     * hashed as by {@link #xx3(long) xx3(seed)}, longer inputs with the given secret only. This is
+     * as fast as {@link #xx3(long)} for small inputs, and for long inputs saves deriving the secret
+     * from the seed; the results are equal to {@code xx3(seed)} for any input if the secret is
+     * {@link #xx3GenerateSecret(long) xx3GenerateSecret(seed)}. This implementation produces equal
+     * results for equal input on platforms with different {@link ByteOrder}, but is slower on
+     * big-endian platforms than on little-endian.
+     *
+     * @param secret the secret, at least 136 bytes long; the given array is copied
+     * @param seed the seed value to be used for hashing inputs up to 240 bytes
+     * @return a {@code LongHashFunction} implementing the XXH3 64-bit algorithm with the given secret
+     *         and seed
+     * @throws IllegalArgumentException if the secret is shorter than 136 bytes
+     * @see #xx3WithSecret(byte[])
+     */
+    public static LongHashFunction xx3WithSecretAndSeed(final byte[] secret, final long seed) {
+        return XXH3.asLongHashFunctionWithSecretAndSeed(secret, seed);
+    }
+
+    /**
+     * Derives an XXH3 secret of the given size from seed material of any length and quality,
+     * equivalent to {@code XXH3_generateSecret()} of the reference implementation. Empty seed
+     * material is replaced with the default XXH3 secret.
+     *
+     * @param seedMaterial the seed material
+     * @param secretSize the size of the secret to generate, at least 136 bytes
+     * @return the generated secret, for {@link #xx3WithSecret(byte[])} and similar methods
+     * @throws IllegalArgumentException if {@code secretSize} is less than 136
+     */
+    public static byte[] xx3GenerateSecret(final byte[] seedMaterial, final int secretSize) {
+        return XXH3.XXH3_generateSecret(seedMaterial, secretSize);
+    }
+
+    /**
+     * Returns the 192-byte secret which the seeded XXH3 and XXH128 functions use for inputs longer
+     * than 240 bytes, equivalent to {@code XXH3_generateSecret_fromSeed()} of the reference
+     * implementation.
+     *
+     * @param seed the seed value
+     * @return the secret derived from the given seed
+     * @see #xx3WithSecretAndSeed(byte[], long)
+     */
+    public static byte[] xx3GenerateSecret(final long seed) {
+        return XXH3.XXH3_generateSecret(seed);
+    }
+
     /**
      * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">XXH128 low
      * 64bit algorithm</a> without a seed value (0 is used as default seed value). This
@@ -367,6 +558,171 @@ public abstract class LongHashFunction implements Serializable {
         return WyHash.asLongHashFunctionWithSeed(seed);
     }
 
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/wangyi-fudan/wyhash/blob/ea3b25e1aef55d90f707c3a292eeb9162e2615d8/wyhash.h">
+     * wyhash algorithm, final version 4</a> with the default secret and without a seed value (0 is
+     * used as default seed value). This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the wyhash algorithm, final version 4,
+     * without a seed value
+     * @see #wy_4(long)
+     */
+    public static LongHashFunction wy_4() {
+        return WyHash_4.asLongHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/wangyi-fudan/wyhash/blob/ea3b25e1aef55d90f707c3a292eeb9162e2615d8/wyhash.h">
+     * wyhash algorithm, final version 4</a> with the default secret and the given seed value. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the wyhash algorithm, final version 4, with
+     * the given seed value
+     * @see #wy_4()
+     */
+    public static LongHashFunction wy_4(long seed) {
+        return WyHash_4.asLongHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/Nicoshev/rapidhash">rapidhash algorithm, version 1</a> without a
+     * seed value (the {@code RAPID_SEED} constant of the reference implementation is used, so the
+     * result equals {@code rapidhash()}). This implementation produces equal results for equal input
+     * on platforms with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the rapidhash algorithm without a seed value
+     * @see #rapid(long)
+     */
+    public static LongHashFunction rapid() {
+        return RapidHash.asLongHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/Nicoshev/rapidhash">rapidhash algorithm, version 1</a> with the
+     * given seed value, equal to {@code rapidhash_withSeed()}. This implementation produces equal
+     * results for equal input on platforms with different {@link ByteOrder}, but is slower on
+     * big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the rapidhash algorithm with the given seed
+     * value
+     * @see #rapid()
+     */
+    public static LongHashFunction rapid(long seed) {
+        return RapidHash.asLongHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/avaneev/komihash">komihash algorithm, version 5</a> without a
+     * seed value (0 is used as default seed value). This implementation produces equal results for
+     * equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian.
+     *
+     * <p>{@link StreamingHasher#komi()} computes the same hash incrementally.
+     *
+     * @return a {@code LongHashFunction} implementing the komihash algorithm without a seed value
+     * @see #komi(long)
+     */
+    public static LongHashFunction komi() {
+        return KomiHash.asLongHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/avaneev/komihash">komihash algorithm, version 5</a> with the
+     * given seed value. This implementation produces equal results for equal input on platforms
+     * with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * <p>{@link StreamingHasher#komi(long)} computes the same hash incrementally.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the komihash algorithm with the given seed
+     * value
+     * @see #komi()
+     */
+    public static LongHashFunction komi(long seed) {
+        return KomiHash.asLongHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a hash function implementing the 64-bit
+     * <a href="https://github.com/google/highwayhash">HighwayHash algorithm</a> with the given
+     * 256-bit key, a keyed hash intended to resist hash flooding by untrusted input. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param key the key, 4 longs which should be secret and random; the given array is copied
+     * @return a {@code LongHashFunction} implementing the 64-bit HighwayHash algorithm with the
+     * given key
+     * @throws IllegalArgumentException if the key length is not 4
+     * @see LongTupleHashFunction#highway128(long[])
+     * @see LongTupleHashFunction#highway256(long[])
+     */
+    public static LongHashFunction highway(long[] key) {
+        return HighwayHash.asLongHashFunction(key);
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/veorq/SipHash">SipHash-2-4 algorithm</a> with the given 128-bit
+     * key, a keyed hash function resistant to hash flooding by untrusted input as long as the key
+     * is secret. This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param k0 the first 8 bytes of the key, as a little-endian {@code long}
+     * @param k1 the last 8 bytes of the key, as a little-endian {@code long}
+     * @return a {@code LongHashFunction} implementing the SipHash-2-4 algorithm with the given key
+     * @see #sip_1_3(long, long)
+     * @see #randomlyKeyed()
+     */
+    public static LongHashFunction sip_2_4(long k0, long k1) {
+        return SipHash.asLongHashFunction(2, 4, k0, k1);
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/veorq/SipHash">SipHash-1-3 algorithm</a> with the given 128-bit
+     * key, a faster variant of {@link #sip_2_4(long, long) SipHash-2-4} with fewer rounds, still
+     * believed to be sufficient for hash tables. This implementation produces equal results for
+     * equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian.
+     *
+     * @param k0 the first 8 bytes of the key, as a little-endian {@code long}
+     * @param k1 the last 8 bytes of the key, as a little-endian {@code long}
+     * @return a {@code LongHashFunction} implementing the SipHash-1-3 algorithm with the given key
+     * @see #sip_2_4(long, long)
+     * @see #randomlyKeyed()
+     */
+    public static LongHashFunction sip_1_3(long k0, long k1) {
+        return SipHash.asLongHashFunction(1, 3, k0, k1);
+    }
+
+    /**
+     * Returns a hash function implementing the {@link #sip_1_3(long, long) SipHash-1-3 algorithm}
+     * with a random key, generated by {@link java.security.SecureRandom} once per JVM, at the first
+     * call of this method. Results are consistent within a JVM only, so this function is suitable
+     * for in-memory hash tables exposed to untrusted keys, but not for persisted or transmitted
+     * hashes. The key is not serialized: a serialized instance is deserialized as the randomly
+     * keyed function of the deserializing JVM.
+     *
+     * @return the randomly keyed SipHash-1-3 {@code LongHashFunction} of this JVM
+     * @see #sip_1_3(long, long)
+     */
+    public static LongHashFunction randomlyKeyed() {
+        return SipHash.asLongHashFunctionRandomlyKeyed();
+    }
+
     /**
      * Returns a hash function implementing the 64 bit version of
      * <a href="https://github.com/jandrewrogers/MetroHash">metrohash algorithm</a> without
@@ -396,6 +752,100 @@ public abstract class LongHashFunction implements Serializable {
         return MetroHash.asLongHashFunctionWithSeed(seed);
     }
 
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/erthink/t1ha">t1ha1_le algorithm</a> without a seed value (0 is
+     * used as default seed value), the "first generation" portable t1ha targeting little-endian
+     * platforms. This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the t1ha1_le algorithm without a seed value
+     * @see #t1ha1_le(long)
+     * @see #t1ha2_atonce()
+     */
+    public static LongHashFunction t1ha1_le() {
+        return T1ha.asT1ha1HashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/erthink/t1ha">t1ha1_le algorithm</a> with the given seed value.
+     * This implementation produces equal results for equal input on platforms with different
+     * {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the t1ha1_le algorithm with the given seed
+     * value
+     * @see #t1ha1_le()
+     */
+    public static LongHashFunction t1ha1_le(long seed) {
+        return T1ha.asT1ha1HashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/erthink/t1ha">t1ha2_atonce algorithm</a> without a seed value (0
+     * is used as default seed value), the recommended 64-bit t1ha. This implementation produces
+     * equal results for equal input on platforms with different {@link ByteOrder}, but is slower on
+     * big-endian platforms than on little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the t1ha2_atonce algorithm without a seed
+     * value
+     * @see #t1ha2_atonce(long)
+     * @see LongTupleHashFunction#t1ha2_atonce128()
+     */
+    public static LongHashFunction t1ha2_atonce() {
+        return T1ha.asT1ha2HashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing the
+     * <a href="https://github.com/erthink/t1ha">t1ha2_atonce algorithm</a> with the given seed
+     * value. This implementation produces equal results for equal input on platforms with different
+     * {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the t1ha2_atonce algorithm with the given
+     * seed value
+     * @see #t1ha2_atonce()
+     * @see LongTupleHashFunction#t1ha2_atonce128(long)
+     */
+    public static LongHashFunction t1ha2_atonce(long seed) {
+        return T1ha.asT1ha2HashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a hash function implementing
+     * <a href="http://burtleburtle.net/bob/hash/spooky.html">64-bit SpookyHash V2 algorithm</a>
+     * with seed 0, that is the first 64 bits of {@link LongTupleHashFunction#spooky_2()}. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @return a {@code LongHashFunction} implementing the 64-bit SpookyHash V2 algorithm with
+     * seed 0
+     * @see #spooky_2(long)
+     */
+    public static LongHashFunction spooky_2() {
+        return SpookyHash.asLongHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a hash function implementing
+     * <a href="http://burtleburtle.net/bob/hash/spooky.html">64-bit SpookyHash V2 algorithm</a>
+     * with the given seed value, as the reference {@code Hash64()}: the first 64 bits of
+     * {@link LongTupleHashFunction#spooky_2(long, long)} with both seeds equal to {@code seed}.
+     * This implementation produces equal results for equal input on platforms with different
+     * {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @return a {@code LongHashFunction} implementing the 64-bit SpookyHash V2 algorithm with the
+     * given seed value
+     * @see #spooky_2()
+     */
+    public static LongHashFunction spooky_2(long seed) {
+        return SpookyHash.asLongHashFunctionWithSeed(seed);
+    }
+
     /**
      * Constructor for use in subclasses.
      */
@@ -620,6 +1070,79 @@ public abstract class LongHashFunction implements Serializable {
         return unsafeHash(null, address, len);
     }
 
+    /**
+     * Shortcut for {@link #hashFile(FileChannel, long, long) hashFile(channel, 0, channel.size())},
+     * the file at the given path is opened for reading for the duration of the call.
+     *
+     * @param path the file to hash
+     * @return hash code of the whole file
+     * @throws IOException if opening or mapping the file throws
+     */
+    public long hashFile(@NotNull Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return hashFile(channel, 0, channel.size(), MAX_MAPPING_SIZE);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns the hash code of {@code len} bytes of the given file, starting at the file position
+     * {@code pos}. The region is memory-mapped and hashed in place through its address, as
+     * {@link #hashMemory(long, long)} does, without copying to the heap. The position of the
+     * channel is not changed.
+     *
+     * <p>A single mapping is limited to 2 GB, so larger regions are mapped in windows, which are
+     * fed to the {@link StreamingHasher} of the same algorithm; the result is still the hash of
+     * the whole region. This is supported by the functions having a streaming counterpart:
+     * {@link #xx()}, {@link #xx3()}, {@link #xx128low()}, {@link #metro()}, {@link #komi()},
+     * {@link #murmur_3()} and their seeded and custom secret variants, {@link #crc64Xz()} and
+     * {@link #crc64Nvme()}.
+     *
+     * @param channel the file to read bytes from
+     * @param pos     position of the first byte in the file to hash
+     * @param len     length of the region to hash
+     * @return hash code for the specified region
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws UnsupportedOperationException if the region doesn't fit a single mapping and this
+     *                                       function has no streaming counterpart
+     * @throws IOException if mapping the file throws
+     */
+    public long hashFile(@NotNull FileChannel channel, long pos, long len) throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        return hashFile(channel, pos, len, MAX_MAPPING_SIZE);
+    }
+
+    long hashFile(@NotNull FileChannel channel, long pos, long len, long windowSize)
+            throws IOException {
+        if (len == 0) {
+            return hashVoid();
+        }
+        if (len <= windowSize) {
+            final MappedByteBuffer region = channel.map(READ_ONLY, pos, len);
+            final long hash = unsafeHash(null, getDirectBufferAddress(region), len);
+            reachabilityFence(region);
+            return hash;
+        }
+        final StreamingHasher hasher = newStreamingHasher();
+        if (null == hasher) {
+            throw new UnsupportedOperationException(
+                    "Regions larger than " + windowSize + " bytes need a streaming hasher");
+        }
+        return hasher.updateFromMapped(channel, pos, len, windowSize).digest();
+    }
+
+    /**
+     * Returns a new {@link StreamingHasher} producing the same results as this function, or
+     * {@code null} if the algorithm has no streaming implementation.
+     */
+    @Nullable
+    StreamingHasher newStreamingHasher() {
+        return null;
+    }
+
     /**
      * Shortcut for {@link #hashChars(char[], int, int) hashChars(input, 0, input.length)}.
  *
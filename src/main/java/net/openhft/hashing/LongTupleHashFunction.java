@@ -5,10 +5,16 @@ import org.jetbrains.annotations.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import sun.nio.ch.DirectBuffer;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static net.openhft.hashing.CharSequenceAccess.nativeCharSequenceAccess;
 import static net.openhft.hashing.UnsafeAccess.*;
 import static net.openhft.hashing.Util.*;
@@ -118,6 +124,228 @@ public abstract class LongTupleHashFunction implements Serializable {
         return XXH3.asLongTupleHashFunctionWithSeed(seed);
     }
 
+    /**
+     * Returns a hash function implementing
+     * <a href="https://github.com/Cyan4973/xxHash">XXH3 128bit algorithm</a> with the given custom
+     * secret, equivalent to {@code XXH3_128bits_withSecret()} of the reference implementation. This
+     * implementation produces equal results for equal input on platforms with different {@link
+     * ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * <p>The secret should look random, for example be produced by {@link
+     * LongHashFunction#xx3GenerateSecret(byte[], int)}. The given array is copied.
+     *
+     * @param secret the secret, at least 136 bytes long
+     * @throws IllegalArgumentException if the secret is shorter than 136 bytes
+     * @see #xx128WithSecretAndSeed(byte[], long)
+     * @see LongHashFunction#xx3WithSecret(byte[])
+     */
+    @NotNull
+    public static LongTupleHashFunction xx128WithSecret(final byte[] secret) {
+        return XXH3.asLongTupleHashFunctionWithSecret(secret);
+    }
+
+    /**
+     * Returns a hash function implementing
+     * <a href="https://github.com/Cyan4973/xxHash">XXH3 128bit algorithm</a> with the given custom
+     * secret and seed, equivalent to {@code XXH3_128bits_withSecretandSeed()} of the reference
+     * implementation: inputs up to 240 bytes are hashed as by {@link #xx128(long) xx128(seed)},
+     * longer inputs with the given secret only. This implementation produces equal results for
+     * equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian.
+     *
+     * @param secret the secret, at least 136 bytes long; the given array is copied
+     * @param seed the seed value to be used for hashing inputs up to 240 bytes
+     * @throws IllegalArgumentException if the secret is shorter than 136 bytes
+     * @see #xx128WithSecret(byte[])
+     * @see LongHashFunction#xx3WithSecretAndSeed(byte[], long)
+     */
+    @NotNull
+    public static LongTupleHashFunction xx128WithSecretAndSeed(final byte[] secret, final long seed) {
+        return XXH3.asLongTupleHashFunctionWithSecretAndSeed(secret, seed);
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/google/highwayhash">HighwayHash algorithm</a> with the given
+     * 256-bit key. This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param key the key, 4 longs which should be secret and random; the given array is copied
+     * @throws IllegalArgumentException if the key length is not 4
+     * @see #highway256(long[])
+     * @see LongHashFunction#highway(long[])
+     */
+    @NotNull
+    public static LongTupleHashFunction highway128(final long[] key) {
+        return HighwayHash.asLongTupleHashFunction128(key);
+    }
+
+    /**
+     * Returns a 256-bit hash function implementing
+     * <a href="https://github.com/google/highwayhash">HighwayHash algorithm</a> with the given
+     * 256-bit key; {@link #bitsLength()} of the returned function is 256. This implementation
+     * produces equal results for equal input on platforms with different {@link ByteOrder}, but is
+     * slower on big-endian platforms than on little-endian.
+     *
+     * @param key the key, 4 longs which should be secret and random; the given array is copied
+     * @throws IllegalArgumentException if the key length is not 4
+     * @see #highway128(long[])
+     * @see LongHashFunction#highway(long[])
+     */
+    @NotNull
+    public static LongTupleHashFunction highway256(final long[] key) {
+        return HighwayHash.asLongTupleHashFunction256(key);
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/erthink/t1ha">t1ha2_atonce128 algorithm</a> without a seed value
+     * (0 is used as default seed value). The first {@code long} of the result is the value
+     * returned by the reference {@code t1ha2_atonce128()}, the second is its
+     * {@code extra_result}. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @see #t1ha2_atonce128(long)
+     * @see LongHashFunction#t1ha2_atonce()
+     */
+    @NotNull
+    public static LongTupleHashFunction t1ha2_atonce128() {
+        return T1ha.asT1ha2TupleHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/erthink/t1ha">t1ha2_atonce128 algorithm</a> with the given seed
+     * value. The first {@code long} of the result is the value returned by the reference
+     * {@code t1ha2_atonce128()}, the second is its {@code extra_result}. This implementation
+     * produces equal results for equal input on platforms with different {@link ByteOrder}, but is
+     * slower on big-endian platforms than on little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @see #t1ha2_atonce128()
+     * @see LongHashFunction#t1ha2_atonce(long)
+     */
+    @NotNull
+    public static LongTupleHashFunction t1ha2_atonce128(final long seed) {
+        return T1ha.asT1ha2TupleHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/google/cityhash/blob/8af9b8c2b889d80c22d6bc26ba0df1afb79a30db/src/city.cc">
+     * CityHash128 algorithm, version 1.1</a> without seed values. The first {@code long} of the
+     * result is the low 64 bits of the reference {@code uint128}. This implementation produces
+     * equal results for equal input on platforms with different {@link ByteOrder}, but is slower
+     * on big-endian platforms than on little-endian.
+     *
+     * @see #city_1_1(long, long)
+     * @see #farmFingerprint128()
+     * @see LongHashFunction#city128low()
+     */
+    @NotNull
+    public static LongTupleHashFunction city_1_1() {
+        return CityAndFarmHash_1_1.asLongTupleHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/google/cityhash/blob/8af9b8c2b889d80c22d6bc26ba0df1afb79a30db/src/city.cc">
+     * CityHash128WithSeed algorithm, version 1.1</a> using the 128-bit seed given as two
+     * {@code long}s. The first {@code long} of the result is the low 64 bits of the reference
+     * {@code uint128}. This implementation produces equal results for equal input on platforms
+     * with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @param seed0 the low 64 bits of the seed value to be used for hashing
+     * @param seed1 the high 64 bits of the seed value to be used for hashing
+     * @see #city_1_1()
+     * @see LongHashFunction#city128low(long, long)
+     */
+    @NotNull
+    public static LongTupleHashFunction city_1_1(final long seed0, final long seed1) {
+        return CityAndFarmHash_1_1.asLongTupleHashFunctionWithSeeds(seed0, seed1);
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/google/farmhash">FarmHash Fingerprint128 algorithm</a>. The
+     * fingerprint is defined as {@link #city_1_1() CityHash128, version 1.1}, so the same function
+     * is returned; it is stable across platforms and releases. The first {@code long} of the result
+     * is the low 64 bits of the reference {@code uint128_t}.
+     *
+     * @see #city_1_1()
+     * @see LongHashFunction#city128low()
+     */
+    @NotNull
+    public static LongTupleHashFunction farmFingerprint128() {
+        return CityAndFarmHash_1_1.asLongTupleHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/jandrewrogers/MetroHash">MetroHash128 algorithm</a> without a
+     * seed value (0 is used as default seed value). The result is the 16 bytes of the reference
+     * hash, read as two little-endian {@code long}s. This implementation produces equal results for
+     * equal input on platforms with different {@link ByteOrder}, but is slower on big-endian
+     * platforms than on little-endian.
+     *
+     * @see #metro128(long)
+     * @see LongHashFunction#metro()
+     */
+    @NotNull
+    public static LongTupleHashFunction metro128() {
+        return MetroHash128.asLongTupleHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="https://github.com/jandrewrogers/MetroHash">MetroHash128 algorithm</a> with the
+     * given seed value. The result is the 16 bytes of the reference hash, read as two
+     * little-endian {@code long}s. This implementation produces equal results for equal input on
+     * platforms with different {@link ByteOrder}, but is slower on big-endian platforms than on
+     * little-endian.
+     *
+     * @param seed the seed value to be used for hashing
+     * @see #metro128()
+     * @see LongHashFunction#metro(long)
+     */
+    @NotNull
+    public static LongTupleHashFunction metro128(final long seed) {
+        return MetroHash128.asLongTupleHashFunctionWithSeed(seed);
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="http://burtleburtle.net/bob/hash/spooky.html">SpookyHash V2 algorithm</a> with both
+     * seeds 0. This implementation produces equal results for equal input on platforms with
+     * different {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @see #spooky_2(long, long)
+     * @see LongHashFunction#spooky_2()
+     */
+    @NotNull
+    public static LongTupleHashFunction spooky_2() {
+        return SpookyHash.asLongTupleHashFunctionWithoutSeed();
+    }
+
+    /**
+     * Returns a 128-bit hash function implementing
+     * <a href="http://burtleburtle.net/bob/hash/spooky.html">SpookyHash V2 algorithm</a> with the
+     * given seed values, {@code *hash1} and {@code *hash2} of the reference {@code Hash128()}. This
+     * implementation produces equal results for equal input on platforms with different
+     * {@link ByteOrder}, but is slower on big-endian platforms than on little-endian.
+     *
+     * @param seed1 the first seed value to be used for hashing
+     * @param seed2 the second seed value to be used for hashing
+     * @see #spooky_2()
+     * @see LongHashFunction#spooky_2(long)
+     */
+    @NotNull
+    public static LongTupleHashFunction spooky_2(final long seed1, final long seed2) {
+        return SpookyHash.asLongTupleHashFunctionWithSeeds(seed1, seed2);
+    }
+
     /**
      * Constructor for use in subclasses.
      */
@@ -601,6 +829,117 @@ public abstract class LongTupleHashFunction implements Serializable {
         return result;
     }
 
+    /**
+     * Shortcut for {@link #hashFile(FileChannel, long, long, long[])
+     * hashFile(channel, 0, channel.size(), result)}, the file at the given path is opened for
+     * reading for the duration of the call.
+     *
+     * @param path the file to hash
+     * @param result the container array for storing the hash results,
+     *               should be alloced by {@link #newResultArray}
+     * @throws NullPointerException if {@code result == null}
+     * @throws IllegalArgumentException if {@code result.length < newResultArray().length}
+     * @throws IOException if opening or mapping the file throws
+     */
+    public void hashFile(final Path path, final long[] result) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            hashFile(channel, 0, channel.size(), MAX_MAPPING_SIZE, result);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * The result array is allocated on the fly.
+     *
+     * @see #hashFile(Path, long[])
+     */
+    @NotNull
+    public long[] hashFile(final Path path) throws IOException {
+        final long[] result = newResultArray();
+        hashFile(path, result);
+        return result;
+    }
+
+    /**
+     * Computes the hash code of {@code len} bytes of the given file, starting at the file position
+     * {@code pos}, and store the results in the {@code result} array. The region is memory-mapped
+     * and hashed in place through its address, as {@link #hashMemory(long, long, long[])} does,
+     * without copying to the heap. The position of the channel is not changed.
+     *
+     * <p>A single mapping is limited to 2 GB, so larger regions are mapped in windows, which are
+     * fed to the {@link StreamingHasher} of the same algorithm; the result is still the hash of
+     * the whole region. This is supported by the functions having a streaming counterpart:
+     * {@link #xx128()}, {@link #murmur_3()} and their seeded and custom secret variants.
+     *
+     * <p>The {@code result} array should be always created by {@link #newResultArray} method. When
+     * storing, the {@code result[0 .. newResultArray().length-1]} will be accessed, the rest
+     * elements of the array will not be touched when
+     * {@code result.length > newResultArray().length]}.
+     *
+     * @param channel the file to read bytes from
+     * @param pos position of the first byte in the file to hash
+     * @param len length of the region to hash
+     * @param result the container array for storing the hash results,
+     *               should be alloced by {@link #newResultArray}
+     * @throws NullPointerException if {@code result == null}
+     * @throws IllegalArgumentException if {@code result.length < newResultArray().length}
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws UnsupportedOperationException if the region doesn't fit a single mapping and this
+     *                                       function has no streaming counterpart
+     * @throws IOException if mapping the file throws
+     */
+    public void hashFile(final FileChannel channel, final long pos, final long len,
+                         final long[] result) throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        hashFile(channel, pos, len, MAX_MAPPING_SIZE, result);
+    }
+
+    /**
+     * The result array is allocated on the fly.
+     *
+     * @see #hashFile(FileChannel, long, long, long[])
+     */
+    @NotNull
+    public long[] hashFile(final FileChannel channel, final long pos, final long len)
+            throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        final long[] result = newResultArray();
+        hashFile(channel, pos, len, MAX_MAPPING_SIZE, result);
+        return result;
+    }
+
+    void hashFile(final FileChannel channel, final long pos, final long len,
+                  final long windowSize, final long[] result) throws IOException {
+        if (len == 0) {
+            hashVoid(result);
+            return;
+        }
+        if (len <= windowSize) {
+            final MappedByteBuffer region = channel.map(READ_ONLY, pos, len);
+            unsafeHash(this, null, getDirectBufferAddress(region), len, result);
+            reachabilityFence(region);
+            return;
+        }
+        final StreamingHasher hasher = newStreamingHasher();
+        if (null == hasher) {
+            throw new UnsupportedOperationException(
+                    "Regions larger than " + windowSize + " bytes need a streaming hasher");
+        }
+        hasher.updateFromMapped(channel, pos, len, windowSize).digest(result);
+    }
+
+    /**
+     * Returns a new {@link StreamingHasher} producing the same results as this function, or
+     * {@code null} if the algorithm has no streaming implementation.
+     */
+    @Nullable
+    StreamingHasher newStreamingHasher() {
+        return null;
+    }
+
     /**
      * Shortcut for
      * {@link #hashChars(char[], int, int, long[]) hashChars(input, 0, input.length, result)}.
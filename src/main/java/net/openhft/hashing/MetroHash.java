@@ -34,14 +34,25 @@ class MetroHash {
                 remaining -= 32;
             } while (remaining >= 32);
 
-            v2 ^= Long.rotateRight(((v0 + v3) * k0) + v1, 37) * k1;
-            v3 ^= Long.rotateRight(((v1 + v2) * k1) + v0, 37) * k0;
-            v0 ^= Long.rotateRight(((v0 + v2) * k0) + v3, 37) * k1;
-            v1 ^= Long.rotateRight(((v1 + v3) * k1) + v2, 37) * k0;
-
-            h += v0 ^ v1;
+            h = mergeAccumulators(h, v0, v1, v2, v3);
         }
 
+        return finalizeTail(h, input, access, off, remaining);
+    }
+
+    private static long mergeAccumulators(long h, long v0, long v1, long v2, long v3) {
+        v2 ^= Long.rotateRight(((v0 + v3) * k0) + v1, 37) * k1;
+        v3 ^= Long.rotateRight(((v1 + v2) * k1) + v0, 37) * k0;
+        v0 ^= Long.rotateRight(((v0 + v2) * k0) + v3, 37) * k1;
+        v1 ^= Long.rotateRight(((v1 + v3) * k1) + v2, 37) * k0;
+
+        return h + (v0 ^ v1);
+    }
+
+    /**
+     * Processes the last {@code remaining < 32} bytes and finalizes the hash.
+     */
+    private static <T> long finalizeTail(long h, T input, Access<T> access, long off, long remaining) {
         if (remaining >= 16) {
             long v0 = h + (access.i64(input, off) * k2);
             v0 = Long.rotateRight(v0, 29) * k3;
@@ -107,6 +118,11 @@ class MetroHash {
             return 0L;
         }
 
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return asStreamingHasher(seed());
+        }
+
         @Override
         public long hashLong(long input) {
             input = Primitives.nativeToLittleEndian(input);
@@ -192,4 +208,96 @@ class MetroHash {
             return seed;
         }
     }
+
+    static StreamingHasher asStreamingHasher(final long seed) {
+        return new AsStreamingHasher(seed);
+    }
+
+    /**
+     * Streaming version of metrohash64: full 32-byte blocks are consumed as soon as they are
+     * available, fewer bytes are kept in the buffer until the next update or the digest.
+     */
+    private static class AsStreamingHasher extends StreamingHasher {
+        private static final Access<Object> unsafeLE = UnsafeAccess.INSTANCE.byteOrder(null, LITTLE_ENDIAN);
+
+        private final long initH;
+        private final byte[] buffer = new byte[32];
+        private long v0;
+        private long v1;
+        private long v2;
+        private long v3;
+        private long totalLen;
+        private int bufferedSize;
+
+        private AsStreamingHasher(final long seed) {
+            this.initH = (seed + k2) * k0;
+            reset();
+        }
+
+        @Override
+        public StreamingHasher reset() {
+            v0 = initH;
+            v1 = initH;
+            v2 = initH;
+            v3 = initH;
+            totalLen = 0;
+            bufferedSize = 0;
+            return this;
+        }
+
+        @Override
+        public <T> StreamingHasher update(final T input, final Access<T> access, long off, long len) {
+            final Access<T> accessLE = access.byteOrder(input, LITTLE_ENDIAN);
+            totalLen += len;
+
+            if (bufferedSize + len < 32) {
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, (int) len);
+                bufferedSize += (int) len;
+                return this;
+            }
+
+            if (0 != bufferedSize) {
+                final int loadSize = 32 - bufferedSize;
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, loadSize);
+                consumeBlocks(buffer, unsafeLE, UnsafeAccess.BYTE_BASE, 32);
+                off += loadSize;
+                len -= loadSize;
+                bufferedSize = 0;
+            }
+
+            final long blocksLen = len & ~31L;
+            consumeBlocks(input, accessLE, off, blocksLen);
+
+            bufferedSize = (int) (len - blocksLen);
+            Util.copyBytes(input, accessLE, off + blocksLen, buffer, 0, bufferedSize);
+            return this;
+        }
+
+        private <T> void consumeBlocks(final T input, final Access<T> access, long off, long len) {
+            long v0 = this.v0;
+            long v1 = this.v1;
+            long v2 = this.v2;
+            long v3 = this.v3;
+            for (; len >= 32; len -= 32, off += 32) {
+                v0 += access.i64(input, off) * k0;
+                v0 = Long.rotateRight(v0, 29) + v2;
+                v1 += access.i64(input, off + 8) * k1;
+                v1 = Long.rotateRight(v1, 29) + v3;
+                v2 += access.i64(input, off + 16) * k2;
+                v2 = Long.rotateRight(v2, 29) + v0;
+                v3 += access.i64(input, off + 24) * k3;
+                v3 = Long.rotateRight(v3, 29) + v1;
+            }
+            this.v0 = v0;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        @Override
+        public long digest() {
+            final long h = totalLen >= 32 ? mergeAccumulators(initH, v0, v1, v2, v3) : initH;
+            return finalizeTail(h, buffer, unsafeLE, UnsafeAccess.BYTE_BASE, bufferedSize);
+        }
+    }
 }
@@ -0,0 +1,229 @@
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted from MetroHash128 of https://github.com/jandrewrogers/MetroHash (metrohash128.cpp),
+ * the result is the 16 bytes of the reference hash as two little-endian {@code long}s.
+ */
+class MetroHash128 {
+    //primes
+    private static final long k0 = 0xC83A91E1L;
+    private static final long k1 = 0x8648DBDBL;
+    private static final long k2 = 0x7BDEC03BL;
+    private static final long k3 = 0x2F5870A5L;
+
+    static <T> long metroHash128(long seed, T input, Access<T> access, long off, long length,
+                                 @Nullable long[] result) {
+        long remaining = length;
+
+        long v0 = (seed - k0) * k3;
+        long v1 = (seed + k1) * k2;
+
+        if (length >= 32) {
+            long v2 = (seed + k0) * k2;
+            long v3 = (seed - k1) * k3;
+
+            do {
+                v0 += access.i64(input, off) * k0;
+                v0 = Long.rotateRight(v0, 29) + v2;
+                v1 += access.i64(input, off + 8) * k1;
+                v1 = Long.rotateRight(v1, 29) + v3;
+                v2 += access.i64(input, off + 16) * k2;
+                v2 = Long.rotateRight(v2, 29) + v0;
+                v3 += access.i64(input, off + 24) * k3;
+                v3 = Long.rotateRight(v3, 29) + v1;
+
+                off += 32;
+                remaining -= 32;
+            } while (remaining >= 32);
+
+            v2 ^= Long.rotateRight(((v0 + v3) * k0) + v1, 21) * k1;
+            v3 ^= Long.rotateRight(((v1 + v2) * k1) + v0, 21) * k0;
+            v0 ^= Long.rotateRight(((v0 + v2) * k0) + v3, 21) * k1;
+            v1 ^= Long.rotateRight(((v1 + v3) * k1) + v2, 21) * k0;
+        }
+
+        if (remaining >= 16) {
+            v0 += access.i64(input, off) * k2;
+            v0 = Long.rotateRight(v0, 33) * k3;
+            v1 += access.i64(input, off + 8) * k2;
+            v1 = Long.rotateRight(v1, 33) * k3;
+            v0 ^= Long.rotateRight((v0 * k2) + v1, 45) * k1;
+            v1 ^= Long.rotateRight((v1 * k3) + v0, 45) * k0;
+
+            off += 16;
+            remaining -= 16;
+        }
+
+        if (remaining >= 8) {
+            v0 += access.i64(input, off) * k2;
+            v0 = Long.rotateRight(v0, 33) * k3;
+            v0 ^= Long.rotateRight((v0 * k2) + v1, 27) * k1;
+
+            off += 8;
+            remaining -= 8;
+        }
+
+        if (remaining >= 4) {
+            v1 += access.u32(input, off) * k2;
+            v1 = Long.rotateRight(v1, 33) * k3;
+            v1 ^= Long.rotateRight((v1 * k3) + v0, 46) * k0;
+
+            off += 4;
+            remaining -= 4;
+        }
+
+        if (remaining >= 2) {
+            v0 += access.u16(input, off) * k2;
+            v0 = Long.rotateRight(v0, 33) * k3;
+            v0 ^= Long.rotateRight((v0 * k2) + v1, 22) * k1;
+
+            off += 2;
+            remaining -= 2;
+        }
+
+        if (remaining >= 1) {
+            v1 += access.u8(input, off) * k2;
+            v1 = Long.rotateRight(v1, 33) * k3;
+            v1 ^= Long.rotateRight((v1 * k3) + v0, 58) * k0;
+        }
+
+        return finalize(v0, v1, result);
+    }
+
+    private static long finalize(long v0, long v1, @Nullable long[] result) {
+        v0 += Long.rotateRight((v0 * k0) + v1, 13);
+        v1 += Long.rotateRight((v1 * k1) + v0, 37);
+        v0 += Long.rotateRight((v0 * k2) + v1, 13);
+        v1 += Long.rotateRight((v1 * k3) + v0, 37);
+
+        if (null != result) {
+            result[0] = v0;
+            result[1] = v1;
+        }
+        return v0;
+    }
+
+    private static class AsLongTupleHashFunction extends DualHashFunction {
+        private static final long serialVersionUID = 0L;
+        @NotNull
+        private static final AsLongTupleHashFunction SEEDLESS_INSTANCE = new AsLongTupleHashFunction();
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        protected long seed() {
+            return 0L;
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        @NotNull
+        public long[] newResultArray() {
+            return new long[2]; // override for a little performance
+        }
+
+        @Override
+        protected long dualHashLong(long input, @Nullable long[] result) {
+            input = Primitives.nativeToLittleEndian(input);
+            long seed = seed();
+            long v0 = (seed - k0) * k3;
+            long v1 = (seed + k1) * k2;
+            v0 += input * k2;
+            v0 = Long.rotateRight(v0, 33) * k3;
+            v0 ^= Long.rotateRight((v0 * k2) + v1, 27) * k1;
+
+            return MetroHash128.finalize(v0, v1, result);
+        }
+
+        @Override
+        protected long dualHashInt(int input, @Nullable long[] result) {
+            input = Primitives.nativeToLittleEndian(input);
+            long seed = seed();
+            long v0 = (seed - k0) * k3;
+            long v1 = (seed + k1) * k2;
+            v1 += Primitives.unsignedInt(input) * k2;
+            v1 = Long.rotateRight(v1, 33) * k3;
+            v1 ^= Long.rotateRight((v1 * k3) + v0, 46) * k0;
+
+            return MetroHash128.finalize(v0, v1, result);
+        }
+
+        @Override
+        protected long dualHashShort(short input, @Nullable long[] result) {
+            input = Primitives.nativeToLittleEndian(input);
+            long seed = seed();
+            long v0 = (seed - k0) * k3;
+            long v1 = (seed + k1) * k2;
+            v0 += Primitives.unsignedShort(input) * k2;
+            v0 = Long.rotateRight(v0, 33) * k3;
+            v0 ^= Long.rotateRight((v0 * k2) + v1, 22) * k1;
+
+            return MetroHash128.finalize(v0, v1, result);
+        }
+
+        @Override
+        protected long dualHashChar(char input, @Nullable long[] result) {
+            return dualHashShort((short) input, result);
+        }
+
+        @Override
+        protected long dualHashByte(byte input, @Nullable long[] result) {
+            long seed = seed();
+            long v0 = (seed - k0) * k3;
+            long v1 = (seed + k1) * k2;
+            v1 += Primitives.unsignedByte(input) * k2;
+            v1 = Long.rotateRight(v1, 33) * k3;
+            v1 ^= Long.rotateRight((v1 * k3) + v0, 58) * k0;
+
+            return MetroHash128.finalize(v0, v1, result);
+        }
+
+        @Override
+        protected long dualHashVoid(@Nullable long[] result) {
+            long seed = seed();
+            return MetroHash128.finalize((seed - k0) * k3, (seed + k1) * k2, result);
+        }
+
+        @Override
+        protected <T> long dualHash(@Nullable T input, Access<T> access, long off, long len,
+                                    @Nullable long[] result) {
+            return MetroHash128.metroHash128(seed(), input, access.byteOrder(input, LITTLE_ENDIAN),
+                    off, len, result);
+        }
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunctionWithoutSeed() {
+        return AsLongTupleHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunctionWithSeed(long seed) {
+        return new AsLongTupleHashFunctionSeeded(seed);
+    }
+
+    private static class AsLongTupleHashFunctionSeeded extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+
+        AsLongTupleHashFunctionSeeded(long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        protected long seed() {
+            return seed;
+        }
+    }
+}
@@ -45,6 +45,25 @@ enum ModernCompactStringHash implements StringHash {
         }
     }
 
+    @Override
+    public int intHash(final String s, final IntHashFunction hashFunction,
+                    final int off, final int len) {
+        final int sl = s.length();
+        if (len <= 0 || sl <= 0) {
+            checkArrayOffs(sl, off, len); // check as chars
+            return hashFunction.hashVoid();
+        } else {
+            final byte[] value = (byte[]) UnsafeAccess.UNSAFE.getObject(s, valueOffset);
+            if (enableCompactStrings && sl == value.length) {
+                checkArrayOffs(sl, off, len); // check as chars
+                // 'off' and 'len' are passed as bytes
+                return hashFunction.hash(value, compactLatin1Access, (long)off*2L, (long)len*2L);
+            } else {
+                return hashFunction.hashBytes(value, off*2, len*2); // hash as bytes
+            }
+        }
+    }
+
     @Override
     public void hash(final String s, final LongTupleHashFunction hashFunction,
                     final int off, final int len, final long[] result) {
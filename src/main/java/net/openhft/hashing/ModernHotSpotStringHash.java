@@ -40,6 +40,12 @@ enum ModernHotSpotStringHash implements StringHash {
         return hashFunction.hashChars(value, off, len);
     }
 
+    @Override
+    public int intHash(String s, IntHashFunction hashFunction, int off, int len) {
+        char[] value = (char[]) UnsafeAccess.UNSAFE.getObject(s, valueOffset);
+        return hashFunction.hashChars(value, off, len);
+    }
+
     @Override
     public void hash(final String s, final LongTupleHashFunction hashFunction,
                     final int off, final int len, final long[] result) {
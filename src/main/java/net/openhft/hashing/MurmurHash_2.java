@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * MurmurHash64A, the 64-bit variant of MurmurHash2 for 64-bit platforms, derived from
+ * https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp. Blocks are read as
+ * little-endian longs, so the results are the same as of the reference implementation on x86.
+ */
+@ParametersAreNonnullByDefault
+class MurmurHash_2 {
+    private static final long M = 0xc6a4a7935bd1e995L;
+    private static final int R = 47;
+
+    private static <T> long hash(long seed, T input, Access<T> access, long offset, long length) {
+        long h = seed ^ (length * M);
+        long remaining = length;
+        while (remaining >= 8L) {
+            h = mix(h, access.i64(input, offset));
+            offset += 8L;
+            remaining -= 8L;
+        }
+
+        if (remaining > 0L) {
+            long k = 0L;
+            switch ((int) remaining) {
+                case 7:
+                    k ^= ((long) access.u8(input, offset + 6L)) << 48;
+                    // fall through
+                case 6:
+                    k ^= ((long) access.u8(input, offset + 5L)) << 40;
+                    // fall through
+                case 5:
+                    k ^= ((long) access.u8(input, offset + 4L)) << 32;
+                    // fall through
+                case 4:
+                    k ^= ((long) access.u8(input, offset + 3L)) << 24;
+                    // fall through
+                case 3:
+                    k ^= ((long) access.u8(input, offset + 2L)) << 16;
+                    // fall through
+                case 2:
+                    k ^= ((long) access.u8(input, offset + 1L)) << 8;
+                    // fall through
+                case 1:
+                    k ^= ((long) access.u8(input, offset));
+            }
+            h = mixTail(h, k);
+        }
+        return finalize(h);
+    }
+
+    private static long mix(long h, long k) {
+        k *= M;
+        k ^= k >>> R;
+        k *= M;
+        h ^= k;
+        h *= M;
+        return h;
+    }
+
+    private static long mixTail(long h, long k) {
+        h ^= k;
+        h *= M;
+        return h;
+    }
+
+    private static long finalize(long h) {
+        h ^= h >>> R;
+        h *= M;
+        h ^= h >>> R;
+        return h;
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        private static final AsLongHashFunction SEEDLESS_INSTANCE = new AsLongHashFunction();
+        private static final long VOID_HASH = MurmurHash_2.finalize(0L);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        long seed() {
+            return 0L;
+        }
+
+        @Override
+        public long hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_2.finalize(mix(seed() ^ (8L * M), input));
+        }
+
+        @Override
+        public long hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_2.finalize(mixTail(seed() ^ (4L * M), Primitives.unsignedInt(input)));
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_2.finalize(
+                    mixTail(seed() ^ (2L * M), Primitives.unsignedShort(input)));
+        }
+
+        @Override
+        public long hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(byte input) {
+            return MurmurHash_2.finalize(mixTail(seed() ^ M, Primitives.unsignedByte(input)));
+        }
+
+        @Override
+        public long hashVoid() {
+            return VOID_HASH;
+        }
+
+        @Override
+        public <T> long hash(T input, Access<T> access, long off, long len) {
+            return MurmurHash_2.hash(seed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunctionWithoutSeed() {
+        return AsLongHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    static LongHashFunction asLongHashFunctionWithSeed(long seed) {
+        return new AsLongHashFunctionSeeded(seed);
+    }
+
+    private static class AsLongHashFunctionSeeded extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+        private final transient long voidHash;
+
+        private AsLongHashFunctionSeeded(long seed) {
+            this.seed = seed;
+            voidHash = MurmurHash_2.finalize(seed);
+        }
+
+        @Override
+        long seed() {
+            return seed;
+        }
+
+        @Override
+        public long hashVoid() {
+            return voidHash;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * MurmurHash2, the 32-bit variant, derived from
+ * https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp. Blocks are read as
+ * little-endian ints, so the results are the same as of the reference implementation on x86 and
+ * of Kafka's {@code Utils.murmur2()}, given the seed {@link KafkaPartitioner#SEED}.
+ */
+@ParametersAreNonnullByDefault
+class MurmurHash_2_32 {
+    static final int M = 0x5bd1e995;
+    private static final int R = 24;
+
+    private static <T> int hash(int seed, T input, Access<T> access, long offset, long length) {
+        int h = seed ^ (int) length;
+        long remaining = length;
+        while (remaining >= 4L) {
+            h = mix(h, access.i32(input, offset));
+            offset += 4L;
+            remaining -= 4L;
+        }
+
+        if (remaining > 0L) {
+            int k = 0;
+            switch ((int) remaining) {
+                case 3:
+                    k ^= access.u8(input, offset + 2L) << 16;
+                    // fall through
+                case 2:
+                    k ^= access.u8(input, offset + 1L) << 8;
+                    // fall through
+                case 1:
+                    k ^= access.u8(input, offset);
+            }
+            h = mixTail(h, k);
+        }
+        return finalize(h);
+    }
+
+    static int mix(int h, int k) {
+        k *= M;
+        k ^= k >>> R;
+        k *= M;
+        h *= M;
+        h ^= k;
+        return h;
+    }
+
+    static int mixTail(int h, int k) {
+        h ^= k;
+        h *= M;
+        return h;
+    }
+
+    static int finalize(int h) {
+        h ^= h >>> 13;
+        h *= M;
+        h ^= h >>> 15;
+        return h;
+    }
+
+    static IntHashFunction asIntHashFunctionWithoutSeed() {
+        return AsIntHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsIntHashFunction SEEDLESS_INSTANCE = new AsIntHashFunction();
+        private static final int VOID_HASH = MurmurHash_2_32.finalize(0);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        int seed() {
+            return 0;
+        }
+
+        @Override
+        public int hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int h = mix(seed() ^ 8, (int) input);
+            h = mix(h, (int) (input >>> 32));
+            return MurmurHash_2_32.finalize(h);
+        }
+
+        @Override
+        public int hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_2_32.finalize(mix(seed() ^ 4, input));
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_2_32.finalize(
+                    mixTail(seed() ^ 2, Primitives.unsignedShort(input)));
+        }
+
+        @Override
+        public int hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(byte input) {
+            return MurmurHash_2_32.finalize(mixTail(seed() ^ 1, Primitives.unsignedByte(input)));
+        }
+
+        @Override
+        public int hashVoid() {
+            return VOID_HASH;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return MurmurHash_2_32.hash(seed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static IntHashFunction asIntHashFunctionWithSeed(int seed) {
+        return new AsIntHashFunctionSeeded(seed);
+    }
+
+    private static class AsIntHashFunctionSeeded extends AsIntHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int seed;
+        private final transient int voidHash;
+
+        private AsIntHashFunctionSeeded(int seed) {
+            this.seed = seed;
+            voidHash = MurmurHash_2_32.finalize(seed);
+        }
+
+        @Override
+        int seed() {
+            return seed;
+        }
+
+        @Override
+        public int hashVoid() {
+            return voidHash;
+        }
+    }
+}
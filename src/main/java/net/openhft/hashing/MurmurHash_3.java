@@ -20,6 +20,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import java.util.Arrays;
+
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static net.openhft.hashing.Primitives.unsignedInt;
 import static net.openhft.hashing.Primitives.unsignedShort;
@@ -241,6 +243,11 @@ class MurmurHash_3 {
             return 0L;
         }
 
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return asStreamingHasher(seed());
+        }
+
         protected long hashNativeLong(long nativeLong, long len, @Nullable long[] result) {
             long h1 = mixK1(nativeLong);
             long h2 = 0L;
@@ -340,4 +347,118 @@ class MurmurHash_3 {
     static LongHashFunction asLongHashFunctionWithSeed(long seed) {
         return new AsLongTupleHashFunctionSeeded(seed).asLongHashFunction();
     }
+
+    @NotNull
+    static StreamingHasher asStreamingHasher(long seed) {
+        return new AsStreamingHasher(seed);
+    }
+
+    /**
+     * Streaming version of MurmurHash3 x64_128: full 16-byte blocks are consumed as soon as they
+     * are available, fewer bytes are kept in the buffer until the next update or the digest.
+     */
+    private static class AsStreamingHasher extends StreamingHasher {
+        @NotNull
+        private static final Access<Object> unsafeLE = UnsafeAccess.INSTANCE.byteOrder(null, LITTLE_ENDIAN);
+
+        private final long seed;
+        @NotNull
+        private final byte[] buffer = new byte[16];
+        private long h1;
+        private long h2;
+        private long totalLen;
+        private int bufferedSize;
+
+        private AsStreamingHasher(long seed) {
+            this.seed = seed;
+            reset();
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        @NotNull
+        public StreamingHasher reset() {
+            h1 = seed;
+            h2 = seed;
+            totalLen = 0L;
+            bufferedSize = 0;
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public <T> StreamingHasher update(@Nullable T input, Access<T> access, long off, long len) {
+            final Access<T> accessLE = access.byteOrder(input, LITTLE_ENDIAN);
+            totalLen += len;
+
+            if (bufferedSize + len < 16L) {
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, (int) len);
+                bufferedSize += (int) len;
+                return this;
+            }
+
+            if (0 != bufferedSize) {
+                final int loadSize = 16 - bufferedSize;
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, loadSize);
+                consumeBlocks(buffer, unsafeLE, UnsafeAccess.BYTE_BASE, 16L);
+                off += loadSize;
+                len -= loadSize;
+                bufferedSize = 0;
+            }
+
+            final long blocksLen = len & ~15L;
+            consumeBlocks(input, accessLE, off, blocksLen);
+
+            bufferedSize = (int) (len - blocksLen);
+            Util.copyBytes(input, accessLE, off + blocksLen, buffer, 0, bufferedSize);
+            return this;
+        }
+
+        private <T> void consumeBlocks(@Nullable T input, Access<T> access, long off, long len) {
+            long h1 = this.h1;
+            long h2 = this.h2;
+            for (; len >= 16L; len -= 16L, off += 16L) {
+                h1 ^= mixK1(access.i64(input, off));
+
+                h1 = Long.rotateLeft(h1, 27);
+                h1 += h2;
+                h1 = h1 * 5L + 0x52dce729L;
+
+                h2 ^= mixK2(access.i64(input, off + 8L));
+
+                h2 = Long.rotateLeft(h2, 31);
+                h2 += h1;
+                h2 = h2 * 5L + 0x38495ab5L;
+            }
+            this.h1 = h1;
+            this.h2 = h2;
+        }
+
+        private long digestInto(@Nullable long[] result) {
+            long h1 = this.h1;
+            long h2 = this.h2;
+            if (bufferedSize > 0) {
+                // the tail is read as zero-padded little-endian longs
+                Arrays.fill(buffer, bufferedSize, 16, (byte) 0);
+                h1 ^= mixK1(unsafeLE.i64(buffer, UnsafeAccess.BYTE_BASE));
+                h2 ^= mixK2(unsafeLE.i64(buffer, UnsafeAccess.BYTE_BASE + 8L));
+            }
+            return MurmurHash_3.finalize(totalLen, h1, h2, result);
+        }
+
+        @Override
+        public long digest() {
+            return digestInto(null);
+        }
+
+        @Override
+        public void digest(long[] result) {
+            checkResult(result);
+            digestInto(result);
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * MurmurHash3 x86_32 variant, derived from
+ * https://github.com/aappleby/smhasher/blob/master/src/MurmurHash3.cpp. Blocks are read as
+ * little-endian ints, so the results are the same as of the reference implementation on x86 and
+ * of Guava's {@code Hashing.murmur3_32_fixed()}.
+ */
+@ParametersAreNonnullByDefault
+class MurmurHash_3_32 {
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    private static <T> int hash(int seed, T input, Access<T> access, long offset, long length) {
+        int h1 = seed;
+        long remaining = length;
+        while (remaining >= 4L) {
+            h1 = mixH1(h1, mixK1(access.i32(input, offset)));
+            offset += 4L;
+            remaining -= 4L;
+        }
+
+        if (remaining > 0L) {
+            int k1 = 0;
+            switch ((int) remaining) {
+                case 3:
+                    k1 ^= access.u8(input, offset + 2L) << 16;
+                    // fall through
+                case 2:
+                    k1 ^= access.u8(input, offset + 1L) << 8;
+                    // fall through
+                case 1:
+                    k1 ^= access.u8(input, offset);
+            }
+            h1 ^= mixK1(k1);
+        }
+        return finalize(h1, (int) length);
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static int mixH1(int h1, int k1) {
+        h1 ^= k1;
+        h1 = Integer.rotateLeft(h1, 13);
+        h1 = h1 * 5 + 0xe6546b64;
+        return h1;
+    }
+
+    private static int finalize(int h1, int length) {
+        h1 ^= length;
+        return fmix32(h1);
+    }
+
+    private static int fmix32(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    static IntHashFunction asIntHashFunctionWithoutSeed() {
+        return AsIntHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsIntHashFunction SEEDLESS_INSTANCE = new AsIntHashFunction();
+        private static final int VOID_HASH = fmix32(0);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        int seed() {
+            return 0;
+        }
+
+        @Override
+        public int hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int h1 = mixH1(seed(), mixK1((int) input));
+            h1 = mixH1(h1, mixK1((int) (input >>> 32)));
+            return MurmurHash_3_32.finalize(h1, 8);
+        }
+
+        @Override
+        public int hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_3_32.finalize(mixH1(seed(), mixK1(input)), 4);
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return MurmurHash_3_32.finalize(seed() ^ mixK1(Primitives.unsignedShort(input)), 2);
+        }
+
+        @Override
+        public int hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(byte input) {
+            return MurmurHash_3_32.finalize(seed() ^ mixK1(Primitives.unsignedByte(input)), 1);
+        }
+
+        @Override
+        public int hashVoid() {
+            return VOID_HASH;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            return MurmurHash_3_32.hash(seed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static IntHashFunction asIntHashFunctionWithSeed(int seed) {
+        return new AsIntHashFunctionSeeded(seed);
+    }
+
+    private static class AsIntHashFunctionSeeded extends AsIntHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int seed;
+        private final transient int voidHash;
+
+        private AsIntHashFunctionSeeded(int seed) {
+            this.seed = seed;
+            voidHash = fmix32(seed);
+        }
+
+        @Override
+        int seed() {
+            return seed;
+        }
+
+        @Override
+        public int hashVoid() {
+            return voidHash;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import static net.openhft.hashing.RollingHashFunction.checkWindowSize;
+
+/**
+ * 64-bit polynomial Rabin-Karp rolling hash: {@code h = h * B + in - out * B^w}, modulo 2^64.
+ */
+@ParametersAreNonnullByDefault
+class RabinKarp {
+    // the 64-bit FNV prime
+    static final long DEFAULT_BASE = 0x100000001B3L;
+
+    static RollingHashFunction asRollingHashFunction(final int windowSize, final long base) {
+        checkWindowSize(windowSize);
+        if ((base & 1L) == 0) {
+            throw new IllegalArgumentException("base should be odd: " + base);
+        }
+        return new AsRollingHashFunction(windowSize, base);
+    }
+
+    private static class AsRollingHashFunction extends RollingHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int windowSize;
+        private final long base;
+        // base^windowSize, the factor of the byte going out after the multiplication
+        private final long outFactor;
+
+        private AsRollingHashFunction(final int windowSize, final long base) {
+            this.windowSize = windowSize;
+            this.base = base;
+            long outFactor = 1L;
+            long power = base;
+            for (int e = windowSize; e != 0; e >>>= 1) {
+                if ((e & 1) != 0) {
+                    outFactor *= power;
+                }
+                power *= power;
+            }
+            this.outFactor = outFactor;
+        }
+
+        @Override
+        public int windowSize() {
+            return windowSize;
+        }
+
+        @Override
+        public long append(final long hash, final byte in) {
+            return hash * base + (in & 0xFF);
+        }
+
+        @Override
+        public long roll(final long hash, final byte out, final byte in) {
+            return hash * base + (in & 0xFF) - (out & 0xFF) * outFactor;
+        }
+    }
+}
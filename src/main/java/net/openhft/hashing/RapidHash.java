@@ -0,0 +1,161 @@
+package net.openhft.hashing;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static net.openhft.hashing.WyHash_4.*;
+
+/**
+ * Adapted version of rapidhash (version 1) implementation from
+ * https://github.com/Nicoshev/rapidhash, which is derived from wyhash final version 4 and shares
+ * its default secret and finalization. This implementation provides endian-independant hash
+ * values, but it's slower on big-endian platforms.
+ */
+class RapidHash {
+    private static final long RAPID_SEED = 0xbdd89aa982704029L;
+
+    private static long rapid_mix(final long lhs, final long rhs) {
+        return Maths.unsignedLongMulXorFold(lhs, rhs);
+    }
+
+    private static <T> long rapid_readSmall(final Access<T> access, T in, final long index, long k) {
+        return ((long) access.u8(in, index) << 56) |
+               ((long) access.u8(in, index + (k >>> 1)) << 32) |
+               ((long) access.u8(in, index + k - 1));
+    }
+
+    /**
+     *
+     * @param seed seed for the hash, already mixed by {@link WyHash_4#mixSeed(long)}; the length
+     *             is mixed in here
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param length length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return hash result
+     */
+    static <T> long rapidHash64(long seed, final T input, final Access<T> access, final long off, final long length) {
+        seed ^= length;
+        final long a;
+        final long b;
+        if (length <= 16) {
+            if (length >= 4) {
+                final long last = off + length - 4;
+                final long delta = (length & 24) >>> (length >>> 3);
+                a = (access.u32(input, off) << 32) | access.u32(input, last);
+                b = (access.u32(input, off + delta) << 32) | access.u32(input, last - delta);
+            } else if (length > 0) {
+                a = rapid_readSmall(access, input, off, length);
+                b = 0;
+            } else {
+                a = 0;
+                b = 0;
+            }
+        } else {
+            long i = length;
+            long p = off;
+            if (i > 48) {
+                long see1 = seed;
+                long see2 = seed;
+                do {
+                    seed = rapid_mix(access.i64(input, p) ^ _wyp0, access.i64(input, p + 8) ^ seed);
+                    see1 = rapid_mix(access.i64(input, p + 16) ^ _wyp1, access.i64(input, p + 24) ^ see1);
+                    see2 = rapid_mix(access.i64(input, p + 32) ^ _wyp2, access.i64(input, p + 40) ^ see2);
+                    p += 48;
+                    i -= 48;
+                } while (i >= 48);
+                seed ^= see1 ^ see2;
+            }
+            if (i > 16) {
+                seed = rapid_mix(access.i64(input, p) ^ _wyp2, access.i64(input, p + 8) ^ seed ^ _wyp1);
+                if (i > 32) {
+                    seed = rapid_mix(access.i64(input, p + 16) ^ _wyp2, access.i64(input, p + 24) ^ seed);
+                }
+            }
+            // may re-read the bytes before p, which always exist since length > 16
+            a = access.i64(input, p + i - 16);
+            b = access.i64(input, p + i - 8);
+        }
+        return finish(a, b, seed, length);
+    }
+
+    static LongHashFunction asLongHashFunctionWithoutSeed() {
+        return AsLongHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsLongHashFunction SEEDLESS_INSTANCE = new AsLongHashFunction();
+        private static final long SEEDLESS_MIXED_SEED = mixSeed(RAPID_SEED);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        long mixedSeed() {
+            return SEEDLESS_MIXED_SEED;
+        }
+
+        @Override
+        public long hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return finish(Long.rotateLeft(input, 32), input, mixedSeed() ^ 8, 8);
+        }
+
+        @Override
+        public long hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long u = Primitives.unsignedInt(input);
+            final long ab = (u << 32) | u;
+            return finish(ab, ab, mixedSeed() ^ 4, 4);
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long lo = input & 0xFFL;
+            final long hi = (input >>> 8) & 0xFFL;
+            return finish((lo << 56) | (hi << 32) | hi, 0, mixedSeed() ^ 2, 2);
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            final long u = input & 0xFFL;
+            return finish((u << 56) | (u << 32) | u, 0, mixedSeed() ^ 1, 1);
+        }
+
+        @Override
+        public long hashVoid() {
+            return finish(0, 0, mixedSeed(), 0);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return RapidHash.rapidHash64(mixedSeed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunctionWithSeed(long seed) {
+        return new AsLongHashFunctionSeeded(seed);
+    }
+
+    private static class AsLongHashFunctionSeeded extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long mixedSeed;
+
+        private AsLongHashFunctionSeeded(long seed) {
+            this.mixedSeed = mixSeed(seed);
+        }
+
+        @Override
+        long mixedSeed() {
+            return mixedSeed;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.Util.checkArrayOffs;
+
+/**
+ * Rolling hash function: hashes a window of {@link #windowSize()} continuous bytes, and moves the
+ * window by one byte in constant time with {@link #roll(long, byte, byte)}, instead of hashing
+ * every window from scratch. Useful for content-defined chunking, deduplication and substring
+ * search (Rabin-Karp) over large inputs.
+ *
+ * <p>The hash state is the {@code long} hash value itself, passed to and returned from the
+ * functions, so rolling hash functions are immutable, thread-safe, and never allocate:
+ * <pre>{@code
+ * long h = f.hash(input, access, off, f.windowSize());
+ * for (long pos = off; pos + f.windowSize() < end; pos++) {
+ *     h = f.roll(h, (byte) access.i8(input, pos), (byte) access.i8(input, pos + f.windowSize()));
+ *     // h is the hash of the window starting at pos + 1
+ * }
+ * }</pre>
+ * {@link #scan(Object, Access, long, long, WindowVisitor) scan} runs this loop. Bytes are read
+ * through {@link Access}, like {@link LongHashFunction} does, so any input is supported: arrays,
+ * {@code ByteBuffer}s, off-heap memory, {@code CharSequence}s.
+ *
+ * <p>Rolling hashes are fast, but weak: windows having the same hash should be compared, or
+ * confirmed with a strong hash function.
+ *
+ * @see LongHashFunction
+ */
+@ParametersAreNonnullByDefault
+public abstract class RollingHashFunction implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Visits the hashes of the successive windows of a byte sequence, see
+     * {@link #scan(Object, Access, long, long, WindowVisitor)}.
+     */
+    public interface WindowVisitor {
+        /**
+         * Receives the hash of the window starting at the offset {@code windowOff}.
+         *
+         * @return {@code true} to continue the scan, {@code false} to stop it
+         */
+        boolean visit(long windowOff, long hash);
+    }
+
+    // Implementations
+    //
+
+    /**
+     * Returns a Buzhash (cyclic polynomial) rolling hash function over windows of the given size,
+     * with the byte table generated from the seed 0.
+     *
+     * @param windowSize the size of the window, in bytes
+     * @throws IllegalArgumentException if {@code windowSize <= 0}
+     * @see #buzhash(int, long)
+     */
+    @NotNull
+    public static RollingHashFunction buzhash(final int windowSize) {
+        return Buzhash.asRollingHashFunction(windowSize, 0L);
+    }
+
+    /**
+     * Returns a Buzhash (cyclic polynomial) rolling hash function over windows of the given size,
+     * with the byte table generated from the given seed.
+     *
+     * @param windowSize the size of the window, in bytes
+     * @param seed the seed of the byte table
+     * @throws IllegalArgumentException if {@code windowSize <= 0}
+     * @see #buzhash(int)
+     */
+    @NotNull
+    public static RollingHashFunction buzhash(final int windowSize, final long seed) {
+        return Buzhash.asRollingHashFunction(windowSize, seed);
+    }
+
+    /**
+     * Returns a Gear rolling hash function, with the byte table generated from the seed 0. The
+     * hash of Gear is shifted left by one bit per byte, so the window is implicitly the last 64
+     * bytes, and rolling doesn't need the byte going out.
+     *
+     * @see #gear(long)
+     */
+    @NotNull
+    public static RollingHashFunction gear() {
+        return Gear.asRollingHashFunction(0L);
+    }
+
+    /**
+     * Returns a Gear rolling hash function, with the byte table generated from the given seed.
+     *
+     * @param seed the seed of the byte table
+     * @see #gear()
+     */
+    @NotNull
+    public static RollingHashFunction gear(final long seed) {
+        return Gear.asRollingHashFunction(seed);
+    }
+
+    /**
+     * Returns a 64-bit polynomial Rabin-Karp rolling hash function over windows of the given
+     * size, with a default odd base. The hash of the bytes {@code b[0 .. n-1]} is
+     * {@code sum(b[i] * base^(n-1-i)) mod 2^64}, bytes being unsigned.
+     *
+     * @param windowSize the size of the window, in bytes
+     * @throws IllegalArgumentException if {@code windowSize <= 0}
+     * @see #rabinKarp(int, long)
+     */
+    @NotNull
+    public static RollingHashFunction rabinKarp(final int windowSize) {
+        return RabinKarp.asRollingHashFunction(windowSize, RabinKarp.DEFAULT_BASE);
+    }
+
+    /**
+     * Returns a 64-bit polynomial Rabin-Karp rolling hash function over windows of the given
+     * size, with the given base.
+     *
+     * @param windowSize the size of the window, in bytes
+     * @param base the base of the polynomial, should be odd
+     * @throws IllegalArgumentException if {@code windowSize <= 0} or {@code base} is even
+     * @see #rabinKarp(int)
+     */
+    @NotNull
+    public static RollingHashFunction rabinKarp(final int windowSize, final long base) {
+        return RabinKarp.asRollingHashFunction(windowSize, base);
+    }
+
+    // Instance
+    //
+
+    /**
+     * Constructor for use in subclasses.
+     */
+    protected RollingHashFunction() {
+    }
+
+    /**
+     * Returns the size of the window, in bytes.
+     */
+    public abstract int windowSize();
+
+    /**
+     * Returns the hash of the bytes hashed by {@code hash}, followed by {@code in}, while the
+     * window is not full yet; the hash of the empty sequence is 0.
+     */
+    public abstract long append(long hash, byte in);
+
+    /**
+     * Moves the window by one byte: returns the hash of the window hashed by {@code hash}, without
+     * its first byte {@code out}, and followed by {@code in}.
+     */
+    public abstract long roll(long hash, byte out, byte in);
+
+    /**
+     * Returns the hash of the window ending at the end of the given byte sequence, i. e. of its
+     * last {@code min(len, windowSize())} bytes.
+     *
+     * @param input the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off offset to the first byte of the sequence
+     * @param len length of the sequence
+     * @param <T> the type of the input
+     * @return hash of the last window of the sequence
+     */
+    public <T> long hash(@Nullable final T input, final Access<T> access,
+                         final long off, final long len) {
+        final long start = len > windowSize() ? off + len - windowSize() : off;
+        final long end = off + len;
+        long hash = 0L;
+        for (long i = start; i < end; i++) {
+            hash = append(hash, (byte) access.i8(input, i));
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hash of the window ending at the end of the specified subsequence of the given
+     * {@code byte} array.
+     *
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     *                                   or {@code len < 0}
+     * @see #hash(Object, Access, long, long)
+     */
+    public long hashBytes(final byte[] input, final int off, final int len) {
+        checkArrayOffs(input.length, off, len);
+        return hash(input, UnsafeAccess.INSTANCE, BYTE_BASE + off, len);
+    }
+
+    /**
+     * Returns the hash of the window ending at the end of the specified subsequence of the given
+     * {@code ByteBuffer}. The state of the buffer is not changed.
+     *
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.capacity()}
+     *                                   or {@code len < 0}
+     * @see #hash(Object, Access, long, long)
+     */
+    public long hashBytes(final ByteBuffer input, final int off, final int len) {
+        checkArrayOffs(input.capacity(), off, len);
+        if (input.hasArray()) {
+            return hash(input.array(), UnsafeAccess.INSTANCE,
+                    BYTE_BASE + input.arrayOffset() + off, len);
+        } else if (input instanceof DirectBuffer) {
+            return hash(null, UnsafeAccess.INSTANCE, ((DirectBuffer) input).address() + off, len);
+        } else {
+            return hash(input, ByteBufferAccess.INSTANCE, off, len);
+        }
+    }
+
+    /**
+     * Returns the hash of the window ending at the end of {@code len} bytes of the wild memory
+     * from the given address. Use with caution.
+     *
+     * @see #hash(Object, Access, long, long)
+     */
+    public long hashMemory(final long address, final long len) {
+        return hash(null, UnsafeAccess.INSTANCE, address, len);
+    }
+
+    /**
+     * Rolls the window over the given byte sequence, and passes the hash of every full window,
+     * from the one starting at {@code off} to the one ending at {@code off + len}, to the
+     * visitor, until it returns {@code false}. Nothing is visited if
+     * {@code len < windowSize()}.
+     *
+     * @param input the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off offset to the first byte of the sequence
+     * @param len length of the sequence
+     * @param visitor receives the offsets and the hashes of the windows
+     * @param <T> the type of the input
+     * @return the offset of the window at which the visitor stopped the scan, or -1 if the scan
+     *         reached the end of the sequence
+     */
+    public <T> long scan(@Nullable final T input, final Access<T> access,
+                         final long off, final long len, final WindowVisitor visitor) {
+        final int windowSize = windowSize();
+        if (len < windowSize) {
+            return -1;
+        }
+        long hash = hash(input, access, off, windowSize);
+        final long lastWindowOff = off + len - windowSize;
+        for (long windowOff = off; ; windowOff++) {
+            if (!visitor.visit(windowOff, hash)) {
+                return windowOff;
+            }
+            if (windowOff == lastWindowOff) {
+                return -1;
+            }
+            hash = roll(hash, (byte) access.i8(input, windowOff),
+                    (byte) access.i8(input, windowOff + windowSize));
+        }
+    }
+
+    // Internal helper
+    //
+
+    static void checkWindowSize(final int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize should be positive: " + windowSize);
+        }
+    }
+
+    /**
+     * Returns a table of 256 pseudo-random values for the byte values, generated by SplitMix64
+     * from the given seed.
+     */
+    @NotNull
+    static long[] byteTable(final long seed) {
+        final long[] table = new long[256];
+        long state = seed;
+        for (int i = 0; i < table.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            table[i] = z ^ (z >>> 31);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of SipHash implementation from https://github.com/veorq/SipHash, with the
+ * number of compression and finalization rounds as parameters, for SipHash-2-4 and SipHash-1-3.
+ * This implementation provides endian-independant hash values, but it's slower on big-endian
+ * platforms.
+ */
+class SipHash {
+    private static final long V0 = 0x736f6d6570736575L;
+    private static final long V1 = 0x646f72616e646f6dL;
+    private static final long V2 = 0x6c7967656e657261L;
+    private static final long V3 = 0x7465646279746573L;
+
+    /**
+     *
+     * @param cRounds number of compression rounds per 8-byte block
+     * @param dRounds number of finalization rounds
+     * @param k0 the first 64 bits of the key
+     * @param k1 the last 64 bits of the key
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return hash result
+     */
+    static <T> long sipHash(final int cRounds, final int dRounds, final long k0, final long k1,
+                            final T input, final Access<T> access, final long off,
+                            final long len) {
+        final long end = off + (len & ~7L);
+        long b = len << 56;
+        switch ((int) (len & 7)) {
+            case 7:
+                b |= (long) access.u8(input, end + 6) << 48;
+            case 6:
+                b |= (long) access.u8(input, end + 5) << 40;
+            case 5:
+                b |= (long) access.u8(input, end + 4) << 32;
+            case 4:
+                b |= access.u32(input, end);
+                break;
+            case 3:
+                b |= (long) access.u8(input, end + 2) << 16;
+            case 2:
+                b |= (long) access.u16(input, end);
+                break;
+            case 1:
+                b |= (long) access.u8(input, end);
+        }
+        return sipHash(cRounds, dRounds, k0, k1, 0L, 0, input, access, off, end, b);
+    }
+
+    /**
+     * Compresses the {@code headBlocks} (0 or 1) {@code head} block of primitives, the full
+     * blocks of the input from {@code off} to {@code end}, and the last block {@code b}, which
+     * holds the length and the remaining bytes, and finalizes.
+     */
+    private static <T> long sipHash(final int cRounds, final int dRounds,
+                                    final long k0, final long k1,
+                                    final long head, int headBlocks,
+                                    @Nullable final T input, final Access<T> access,
+                                    long off, final long end, final long b) {
+        long v0 = V0 ^ k0;
+        long v1 = V1 ^ k1;
+        long v2 = V2 ^ k0;
+        long v3 = V3 ^ k1;
+
+        boolean lastBlock = true;
+        boolean finalization = true;
+        // Every block has the same rounds, only the source of the block differs: the head, the
+        // input, the last block and then an empty block for the finalization.
+        while (true) {
+            final long m;
+            int rounds = cRounds;
+            if (headBlocks != 0) {
+                m = head;
+                headBlocks--;
+            } else if (off < end) {
+                m = access.i64(input, off);
+                off += 8;
+            } else if (lastBlock) {
+                m = b;
+                lastBlock = false;
+            } else if (finalization) {
+                m = 0L;
+                v2 ^= 0xff;
+                rounds = dRounds;
+                finalization = false;
+            } else {
+                break;
+            }
+
+            v3 ^= m;
+            for (int i = 0; i < rounds; i++) {
+                v0 += v1;
+                v1 = Long.rotateLeft(v1, 13);
+                v1 ^= v0;
+                v0 = Long.rotateLeft(v0, 32);
+                v2 += v3;
+                v3 = Long.rotateLeft(v3, 16);
+                v3 ^= v2;
+                v0 += v3;
+                v3 = Long.rotateLeft(v3, 21);
+                v3 ^= v0;
+                v2 += v1;
+                v1 = Long.rotateLeft(v1, 17);
+                v1 ^= v2;
+                v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+
+    static LongHashFunction asLongHashFunction(final int cRounds, final int dRounds,
+                                               final long k0, final long k1) {
+        return new AsLongHashFunction(cRounds, dRounds, k0, k1);
+    }
+
+    static LongHashFunction asLongHashFunctionRandomlyKeyed() {
+        return RandomlyKeyed.INSTANCE;
+    }
+
+    /**
+     * Holder of the per-JVM random key, generated at the first use only.
+     */
+    private static class RandomlyKeyed {
+        static final LongHashFunction INSTANCE;
+
+        static {
+            final SecureRandom random = new SecureRandom();
+            INSTANCE = new AsRandomlyKeyedHashFunction(random.nextLong(), random.nextLong());
+        }
+    }
+
+    /**
+     * Serialized without the key, and deserialized as the randomly keyed function of the reading
+     * JVM, so that the key doesn't leave the JVM.
+     */
+    private static final class AsRandomlyKeyedHashFunction extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private AsRandomlyKeyedHashFunction(final long k0, final long k1) {
+            super(1, 3, k0, k1);
+        }
+
+        private Object writeReplace() {
+            return new SerializedRandomlyKeyed();
+        }
+    }
+
+    private static final class SerializedRandomlyKeyed implements Serializable {
+        private static final long serialVersionUID = 0L;
+
+        private Object readResolve() {
+            return RandomlyKeyed.INSTANCE;
+        }
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int cRounds;
+        private final int dRounds;
+        private final long k0;
+        private final long k1;
+
+        private AsLongHashFunction(final int cRounds, final int dRounds,
+                                   final long k0, final long k1) {
+            this.cRounds = cRounds;
+            this.dRounds = dRounds;
+            this.k0 = k0;
+            this.k1 = k1;
+        }
+
+        private long hashLastBlock(final long b) {
+            return sipHash(cRounds, dRounds, k0, k1, 0L, 0, null, UnsafeAccess.INSTANCE, 0L, 0L, b);
+        }
+
+        @Override
+        public long hashLong(final long input) {
+            return sipHash(cRounds, dRounds, k0, k1, Primitives.nativeToLittleEndian(input), 1,
+                    null, UnsafeAccess.INSTANCE, 0L, 0L, 8L << 56);
+        }
+
+        @Override
+        public long hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return hashLastBlock((4L << 56) | Primitives.unsignedInt(input));
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return hashLastBlock((2L << 56) | Primitives.unsignedShort(input));
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            return hashLastBlock((1L << 56) | Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public long hashVoid() {
+            return hashLastBlock(0L);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return SipHash.sipHash(cRounds, dRounds, k0, k1,
+                    input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.lang.Long.rotateLeft;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of SpookyHash V2 from http://burtleburtle.net/bob/hash/spooky.html
+ * (SpookyV2.cpp). Inputs shorter than 192 bytes take the short path with 4 state variables, longer
+ * inputs are mixed in 96-byte blocks into 12 state variables.
+ */
+class SpookyHash {
+    // a constant which is not zero, odd, and a not-very-regular mix of 1's and 0's
+    private static final long SC_CONST = 0xdeadbeefdeadbeefL;
+    private static final int SC_BLOCK_SIZE = 96;
+    private static final int SC_BUF_SIZE = 2 * SC_BLOCK_SIZE;
+
+    static <T> long spookyHash128(long seed1, long seed2, T input, Access<T> access,
+                                  long off, long length, @Nullable long[] result) {
+        if (length < SC_BUF_SIZE) {
+            return shortHash(seed1, seed2, input, access, off, length, result);
+        }
+
+        long h0 = seed1, h3 = seed1, h6 = seed1, h9 = seed1;
+        long h1 = seed2, h4 = seed2, h7 = seed2, h10 = seed2;
+        long h2 = SC_CONST, h5 = SC_CONST, h8 = SC_CONST, h11 = SC_CONST;
+
+        // handle all whole SC_BLOCK_SIZE blocks of bytes
+        long remainder = length;
+        for (; remainder >= SC_BLOCK_SIZE; remainder -= SC_BLOCK_SIZE, off += SC_BLOCK_SIZE) {
+            h0 += access.i64(input, off);       h2 ^= h10;  h11 ^= h0;  h0 = rotateLeft(h0, 11);   h11 += h1;
+            h1 += access.i64(input, off + 8);   h3 ^= h11;  h0 ^= h1;   h1 = rotateLeft(h1, 32);   h0 += h2;
+            h2 += access.i64(input, off + 16);  h4 ^= h0;   h1 ^= h2;   h2 = rotateLeft(h2, 43);   h1 += h3;
+            h3 += access.i64(input, off + 24);  h5 ^= h1;   h2 ^= h3;   h3 = rotateLeft(h3, 31);   h2 += h4;
+            h4 += access.i64(input, off + 32);  h6 ^= h2;   h3 ^= h4;   h4 = rotateLeft(h4, 17);   h3 += h5;
+            h5 += access.i64(input, off + 40);  h7 ^= h3;   h4 ^= h5;   h5 = rotateLeft(h5, 28);   h4 += h6;
+            h6 += access.i64(input, off + 48);  h8 ^= h4;   h5 ^= h6;   h6 = rotateLeft(h6, 39);   h5 += h7;
+            h7 += access.i64(input, off + 56);  h9 ^= h5;   h6 ^= h7;   h7 = rotateLeft(h7, 57);   h6 += h8;
+            h8 += access.i64(input, off + 64);  h10 ^= h6;  h7 ^= h8;   h8 = rotateLeft(h8, 55);   h7 += h9;
+            h9 += access.i64(input, off + 72);  h11 ^= h7;  h8 ^= h9;   h9 = rotateLeft(h9, 54);   h8 += h10;
+            h10 += access.i64(input, off + 80); h0 ^= h8;   h9 ^= h10;  h10 = rotateLeft(h10, 22); h9 += h11;
+            h11 += access.i64(input, off + 88); h1 ^= h9;   h10 ^= h11; h11 = rotateLeft(h11, 46); h10 += h0;
+        }
+
+        // the last partial block, padded with zeros up to SC_BLOCK_SIZE bytes, and its length as
+        // the last byte
+        h0 += blockWord(input, access, off, remainder, 0);
+        h1 += blockWord(input, access, off, remainder, 8);
+        h2 += blockWord(input, access, off, remainder, 16);
+        h3 += blockWord(input, access, off, remainder, 24);
+        h4 += blockWord(input, access, off, remainder, 32);
+        h5 += blockWord(input, access, off, remainder, 40);
+        h6 += blockWord(input, access, off, remainder, 48);
+        h7 += blockWord(input, access, off, remainder, 56);
+        h8 += blockWord(input, access, off, remainder, 64);
+        h9 += blockWord(input, access, off, remainder, 72);
+        h10 += blockWord(input, access, off, remainder, 80);
+        h11 += blockWord(input, access, off, remainder, 88) + (remainder << 56);
+
+        // EndPartial(), three times
+        for (int i = 0; i < 3; i++) {
+            h11 += h1;  h2 ^= h11;  h1 = rotateLeft(h1, 44);
+            h0 += h2;   h3 ^= h0;   h2 = rotateLeft(h2, 15);
+            h1 += h3;   h4 ^= h1;   h3 = rotateLeft(h3, 34);
+            h2 += h4;   h5 ^= h2;   h4 = rotateLeft(h4, 21);
+            h3 += h5;   h6 ^= h3;   h5 = rotateLeft(h5, 38);
+            h4 += h6;   h7 ^= h4;   h6 = rotateLeft(h6, 33);
+            h5 += h7;   h8 ^= h5;   h7 = rotateLeft(h7, 10);
+            h6 += h8;   h9 ^= h6;   h8 = rotateLeft(h8, 13);
+            h7 += h9;   h10 ^= h7;  h9 = rotateLeft(h9, 38);
+            h8 += h10;  h11 ^= h8;  h10 = rotateLeft(h10, 53);
+            h9 += h11;  h0 ^= h9;   h11 = rotateLeft(h11, 42);
+            h10 += h0;  h1 ^= h10;  h0 = rotateLeft(h0, 54);
+        }
+
+        if (null != result) {
+            result[0] = h0;
+            result[1] = h1;
+        }
+        return h0;
+    }
+
+    /**
+     * Reads the 8-byte word at {@code wordOff} of the last block of {@code remainder} bytes,
+     * zero-padded.
+     */
+    private static <T> long blockWord(T input, Access<T> access, long off, long remainder,
+                                      int wordOff) {
+        long available = remainder - wordOff;
+        if (available >= 8) {
+            return access.i64(input, off + wordOff);
+        }
+        return available > 0 ? partialWord(input, access, off + wordOff, (int) available) : 0L;
+    }
+
+    /**
+     * Reads {@code 0 < len < 8} bytes as a little-endian word.
+     */
+    private static <T> long partialWord(T input, Access<T> access, long off, int len) {
+        switch (len) {
+            case 7:
+                return access.u32(input, off) | ((long) access.u16(input, off + 4) << 32) |
+                        ((long) access.u8(input, off + 6) << 48);
+            case 6:
+                return access.u32(input, off) | ((long) access.u16(input, off + 4) << 32);
+            case 5:
+                return access.u32(input, off) | ((long) access.u8(input, off + 4) << 32);
+            case 4:
+                return access.u32(input, off);
+            case 3:
+                return access.u16(input, off) | ((long) access.u8(input, off + 2) << 16);
+            case 2:
+                return access.u16(input, off);
+            default:
+                return access.u8(input, off);
+        }
+    }
+
+    private static <T> long shortHash(long seed1, long seed2, T input, Access<T> access,
+                                      long off, long length, @Nullable long[] result) {
+        long remainder = length % 32;
+        long a = seed1;
+        long b = seed2;
+        long c = SC_CONST;
+        long d = SC_CONST;
+
+        if (length > 15) {
+            // handle all complete sets of 32 bytes
+            for (long end = off + (length & ~31L); off < end; off += 32) {
+                c += access.i64(input, off);
+                d += access.i64(input, off + 8);
+                // ShortMix
+                c = rotateLeft(c, 50);  c += d;  a ^= c;
+                d = rotateLeft(d, 52);  d += a;  b ^= d;
+                a = rotateLeft(a, 30);  a += b;  c ^= a;
+                b = rotateLeft(b, 41);  b += c;  d ^= b;
+                c = rotateLeft(c, 54);  c += d;  a ^= c;
+                d = rotateLeft(d, 48);  d += a;  b ^= d;
+                a = rotateLeft(a, 38);  a += b;  c ^= a;
+                b = rotateLeft(b, 37);  b += c;  d ^= b;
+                c = rotateLeft(c, 62);  c += d;  a ^= c;
+                d = rotateLeft(d, 34);  d += a;  b ^= d;
+                a = rotateLeft(a, 5);   a += b;  c ^= a;
+                b = rotateLeft(b, 36);  b += c;  d ^= b;
+                a += access.i64(input, off + 16);
+                b += access.i64(input, off + 24);
+            }
+            // handle the case of 16+ remaining bytes
+            if (remainder >= 16) {
+                c += access.i64(input, off);
+                d += access.i64(input, off + 8);
+                // ShortMix
+                c = rotateLeft(c, 50);  c += d;  a ^= c;
+                d = rotateLeft(d, 52);  d += a;  b ^= d;
+                a = rotateLeft(a, 30);  a += b;  c ^= a;
+                b = rotateLeft(b, 41);  b += c;  d ^= b;
+                c = rotateLeft(c, 54);  c += d;  a ^= c;
+                d = rotateLeft(d, 48);  d += a;  b ^= d;
+                a = rotateLeft(a, 38);  a += b;  c ^= a;
+                b = rotateLeft(b, 37);  b += c;  d ^= b;
+                c = rotateLeft(c, 62);  c += d;  a ^= c;
+                d = rotateLeft(d, 34);  d += a;  b ^= d;
+                a = rotateLeft(a, 5);   a += b;  c ^= a;
+                b = rotateLeft(b, 36);  b += c;  d ^= b;
+                off += 16;
+                remainder -= 16;
+            }
+        }
+
+        // handle the last 0..15 bytes, and its length
+        d += length << 56;
+        if (remainder >= 8) {
+            c += access.i64(input, off);
+            if (remainder > 8) {
+                d += partialWord(input, access, off + 8, (int) remainder - 8);
+            }
+        } else if (remainder > 0) {
+            c += partialWord(input, access, off, (int) remainder);
+        } else {
+            c += SC_CONST;
+            d += SC_CONST;
+        }
+        return shortEnd(a, b, c, d, result);
+    }
+
+    private static long shortEnd(long h0, long h1, long h2, long h3, @Nullable long[] result) {
+        h3 ^= h2;  h2 = rotateLeft(h2, 15);  h3 += h2;
+        h0 ^= h3;  h3 = rotateLeft(h3, 52);  h0 += h3;
+        h1 ^= h0;  h0 = rotateLeft(h0, 26);  h1 += h0;
+        h2 ^= h1;  h1 = rotateLeft(h1, 51);  h2 += h1;
+        h3 ^= h2;  h2 = rotateLeft(h2, 28);  h3 += h2;
+        h0 ^= h3;  h3 = rotateLeft(h3, 9);   h0 += h3;
+        h1 ^= h0;  h0 = rotateLeft(h0, 47);  h1 += h0;
+        h2 ^= h1;  h1 = rotateLeft(h1, 54);  h2 += h1;
+        h3 ^= h2;  h2 = rotateLeft(h2, 32);  h3 += h2;
+        h0 ^= h3;  h3 = rotateLeft(h3, 25);  h0 += h3;
+        h1 ^= h0;  h0 = rotateLeft(h0, 63);  h1 += h0;
+
+        if (null != result) {
+            result[0] = h0;
+            result[1] = h1;
+        }
+        return h0;
+    }
+
+    private static class AsLongTupleHashFunction extends DualHashFunction {
+        private static final long serialVersionUID = 0L;
+        @NotNull
+        private static final AsLongTupleHashFunction SEEDLESS_INSTANCE = new AsLongTupleHashFunction();
+        @NotNull
+        private static final LongHashFunction SEEDLESS_INSTANCE_LONG = SEEDLESS_INSTANCE.asLongHashFunction();
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        @NotNull
+        public long[] newResultArray() {
+            return new long[2]; // override for a little performance
+        }
+
+        long seed1() {
+            return 0L;
+        }
+
+        long seed2() {
+            return 0L;
+        }
+
+        /**
+         * The short path of up to 8 bytes, given as a little-endian word.
+         */
+        private long hashShortWord(long word, long len, @Nullable long[] result) {
+            return shortEnd(seed1(), seed2(), SC_CONST + word, SC_CONST + (len << 56), result);
+        }
+
+        @Override
+        protected long dualHashLong(long input, @Nullable long[] result) {
+            return hashShortWord(Primitives.nativeToLittleEndian(input), 8L, result);
+        }
+
+        @Override
+        protected long dualHashInt(int input, @Nullable long[] result) {
+            return hashShortWord(Primitives.unsignedInt(Primitives.nativeToLittleEndian(input)), 4L, result);
+        }
+
+        @Override
+        protected long dualHashShort(short input, @Nullable long[] result) {
+            return hashShortWord(Primitives.unsignedShort(Primitives.nativeToLittleEndian(input)), 2L, result);
+        }
+
+        @Override
+        protected long dualHashChar(char input, @Nullable long[] result) {
+            return dualHashShort((short) input, result);
+        }
+
+        @Override
+        protected long dualHashByte(byte input, @Nullable long[] result) {
+            return hashShortWord(Primitives.unsignedByte(input), 1L, result);
+        }
+
+        @Override
+        protected long dualHashVoid(@Nullable long[] result) {
+            return shortEnd(seed1(), seed2(), SC_CONST + SC_CONST, SC_CONST + SC_CONST, result);
+        }
+
+        @Override
+        protected <T> long dualHash(@Nullable T input, Access<T> access, long off, long len,
+                                    @Nullable long[] result) {
+            return SpookyHash.spookyHash128(seed1(), seed2(), input,
+                    access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
+        }
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunctionWithoutSeed() {
+        return AsLongTupleHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    @NotNull
+    static LongHashFunction asLongHashFunctionWithoutSeed() {
+        return AsLongTupleHashFunction.SEEDLESS_INSTANCE_LONG;
+    }
+
+    private static class AsLongTupleHashFunctionSeeded extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed1;
+        private final long seed2;
+
+        private AsLongTupleHashFunctionSeeded(long seed1, long seed2) {
+            this.seed1 = seed1;
+            this.seed2 = seed2;
+        }
+
+        @Override
+        long seed1() {
+            return seed1;
+        }
+
+        @Override
+        long seed2() {
+            return seed2;
+        }
+    }
+
+    @NotNull
+    static LongTupleHashFunction asLongTupleHashFunctionWithSeeds(long seed1, long seed2) {
+        return new AsLongTupleHashFunctionSeeded(seed1, seed2);
+    }
+
+    /**
+     * SpookyHash::Hash64() is the first half of Hash128() with both seeds set to {@code seed}.
+     */
+    @NotNull
+    static LongHashFunction asLongHashFunctionWithSeed(long seed) {
+        return new AsLongTupleHashFunctionSeeded(seed, seed).asLongHashFunction();
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.Util.*;
+
+/**
+ * Incremental (streaming) hasher: the byte sequence to hash is fed in any number of
+ * {@code update} calls, and {@link #digest()} returns the same value as the corresponding
+ * {@link LongHashFunction} (or {@link LongTupleHashFunction}, see {@link #digest(long[])}) would
+ * return for the concatenation of all the updates. See {@link LongHashFunction} for the definition
+ * of byte sequence semantics.
+ *
+ * <p>A hasher keeps its whole state in fields preallocated at construction, so neither
+ * {@code update}, {@code digest} nor {@link #reset()} allocate. {@code digest} doesn't change the
+ * state, more bytes can be appended after it. After {@link #reset()} the hasher could be reused for
+ * the next message. The {@code updateFrom} methods allocate their I/O buffer once, at the first
+ * call, and reuse it for all the following ones.
+ *
+ * <p>Unlike hash functions, hashers are stateful objects and are not thread-safe.
+ *
+ * @see LongHashFunction
+ * @see LongTupleHashFunction
+ */
+@ParametersAreNonnullByDefault
+public abstract class StreamingHasher {
+
+    // Implementations
+    //
+
+    /**
+     * Returns a new streaming hasher producing the same results as {@link LongHashFunction#komi()}.
+     *
+     * @see #komi(long)
+     */
+    @NotNull
+    public static StreamingHasher komi() {
+        return KomiHash.asStreamingHasher(0L);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as
+     * {@link LongHashFunction#komi(long)} with the given seed.
+     *
+     * @see #komi()
+     */
+    @NotNull
+    public static StreamingHasher komi(final long seed) {
+        return KomiHash.asStreamingHasher(seed);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as {@link LongHashFunction#metro()}.
+     *
+     * @see #metro(long)
+     */
+    @NotNull
+    public static StreamingHasher metro() {
+        return MetroHash.asStreamingHasher(0L);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as
+     * {@link LongHashFunction#metro(long)} with the given seed.
+     *
+     * @see #metro()
+     */
+    @NotNull
+    public static StreamingHasher metro(final long seed) {
+        return MetroHash.asStreamingHasher(seed);
+    }
+
+    /**
+     * Returns a new 128-bit streaming hasher producing the same results as
+     * {@link LongTupleHashFunction#murmur_3()}; {@link #digest()} returns the same results as
+     * {@link LongHashFunction#murmur_3()}.
+     *
+     * @see #murmur_3(long)
+     */
+    @NotNull
+    public static StreamingHasher murmur_3() {
+        return MurmurHash_3.asStreamingHasher(0L);
+    }
+
+    /**
+     * Returns a new 128-bit streaming hasher producing the same results as
+     * {@link LongTupleHashFunction#murmur_3(long)} with the given seed; {@link #digest()} returns
+     * the same results as {@link LongHashFunction#murmur_3(long)}.
+     *
+     * @see #murmur_3()
+     */
+    @NotNull
+    public static StreamingHasher murmur_3(final long seed) {
+        return MurmurHash_3.asStreamingHasher(seed);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as {@link LongHashFunction#xx()}.
+     *
+     * @see #xx(long)
+     */
+    @NotNull
+    public static StreamingHasher xx() {
+        return XxHash.asStreamingHasher(0L);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as
+     * {@link LongHashFunction#xx(long)} with the given seed.
+     *
+     * @see #xx()
+     */
+    @NotNull
+    public static StreamingHasher xx(final long seed) {
+        return XxHash.asStreamingHasher(seed);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as {@link LongHashFunction#xx3()}.
+     *
+     * @see #xx3(long)
+     */
+    @NotNull
+    public static StreamingHasher xx3() {
+        return XXH3.asStreamingHasher64(0L);
+    }
+
+    /**
+     * Returns a new streaming hasher producing the same results as
+     * {@link LongHashFunction#xx3(long)} with the given seed.
+     *
+     * @see #xx3()
+     */
+    @NotNull
+    public static StreamingHasher xx3(final long seed) {
+        return XXH3.asStreamingHasher64(seed);
+    }
+
+    /**
+     * Returns a new 128-bit streaming hasher producing the same results as
+     * {@link LongTupleHashFunction#xx128()}; {@link #digest()} returns the same results as
+     * {@link LongHashFunction#xx128low()}.
+     *
+     * @see #xx128(long)
+     */
+    @NotNull
+    public static StreamingHasher xx128() {
+        return XXH3.asStreamingHasher128(0L);
+    }
+
+    /**
+     * Returns a new 128-bit streaming hasher producing the same results as
+     * {@link LongTupleHashFunction#xx128(long)} with the given seed; {@link #digest()} returns
+     * the same results as {@link LongHashFunction#xx128low(long)}.
+     *
+     * @see #xx128()
+     */
+    @NotNull
+    public static StreamingHasher xx128(final long seed) {
+        return XXH3.asStreamingHasher128(seed);
+    }
+
+    /**
+     * Constructor for use in subclasses.
+     */
+    protected StreamingHasher() {}
+
+    // Public API
+    //
+
+    /**
+     * Returns the actual number of bits in a result of {@link #digest(long[])}; 64 for hashers
+     * of {@link LongHashFunction} algorithms.
+     */
+    public int bitsLength() {
+        return 64;
+    }
+
+    /**
+     * Returns a new-allocated result array for {@link #digest(long[])}.
+     */
+    @NotNull
+    public long[] newResultArray() {
+        return new long[(bitsLength() + 63) / 64];
+    }
+
+    /**
+     * Resets this hasher to the initial state, as if no bytes were fed.
+     *
+     * @return this hasher
+     */
+    @NotNull
+    public abstract StreamingHasher reset();
+
+    /**
+     * Appends {@code len} bytes of the given {@code input} object starting from the given offset
+     * to the hashed byte sequence. The abstraction of input as ordered byte sequence and "offset
+     * within the input" is defined by the given {@code access} strategy.
+     *
+     * <p>This method doesn't promise to throw a {@code RuntimeException} if
+     * {@code [off, off + len - 1]} subsequence exceeds the bounds of the bytes sequence, defined by
+     * {@code access} strategy for the given {@code input}, so use this method with caution.
+     *
+     * @param input the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off offset to the first byte of the subsequence to append
+     * @param len length of the subsequence to append
+     * @param <T> the type of the input
+     * @return this hasher
+     */
+    @NotNull
+    public abstract <T> StreamingHasher update(@Nullable T input, Access<T> access,
+                                               long off, long len);
+
+    /**
+     * Appends the given bytes to the hashed byte sequence.
+     *
+     * @return this hasher
+     */
+    @NotNull
+    public StreamingHasher updateBytes(final byte[] input) {
+        return update(input, UnsafeAccess.INSTANCE, BYTE_BASE, input.length);
+    }
+
+    /**
+     * Appends {@code len} bytes of the given array starting from {@code off} to the hashed byte
+     * sequence.
+     *
+     * @return this hasher
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.length}
+     * or {@code len < 0}
+     */
+    @NotNull
+    public StreamingHasher updateBytes(final byte[] input, final int off, final int len) {
+        checkArrayOffs(input.length, off, len);
+        return update(input, UnsafeAccess.INSTANCE, BYTE_BASE + off, len);
+    }
+
+    /**
+     * Appends bytes between {@code input.position()} and {@code input.limit()} to the hashed byte
+     * sequence. The position of the buffer is not changed.
+     *
+     * @return this hasher
+     */
+    @NotNull
+    public StreamingHasher updateBytes(final ByteBuffer input) {
+        return updateByteBuffer(input, input.position(), input.remaining());
+    }
+
+    /**
+     * Appends {@code len} bytes of the given buffer starting from the absolute index {@code off}
+     * to the hashed byte sequence, ignoring the buffer's position and limit.
+     *
+     * @return this hasher
+     * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > input.capacity()}
+     * or {@code len < 0}
+     */
+    @NotNull
+    public StreamingHasher updateBytes(final ByteBuffer input, final int off, final int len) {
+        checkArrayOffs(input.capacity(), off, len);
+        return updateByteBuffer(input, off, len);
+    }
+
+    /**
+     * Appends {@code len} bytes of the memory at the given {@code address} to the hashed byte
+     * sequence.
+     *
+     * @return this hasher
+     */
+    @NotNull
+    public StreamingHasher updateMemory(final long address, final long len) {
+        return update(null, UnsafeAccess.INSTANCE, address, len);
+    }
+
+    /**
+     * Reads the given channel until the end of stream, appending all the read bytes to the hashed
+     * byte sequence. The bytes are read into a direct buffer allocated at the first call and
+     * reused afterwards, and hashed from there in place. The channel is not closed; it should be
+     * in blocking mode, as this method keeps reading until the end of stream is reached.
+     *
+     * @return this hasher
+     * @throws IOException if reading from the channel throws
+     */
+    @NotNull
+    public StreamingHasher updateFrom(final ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ioBuffer;
+        if (null == buffer) {
+            ioBuffer = buffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        }
+        final long address = Util.getDirectBufferAddress(buffer);
+        while (true) {
+            buffer.clear();
+            final int n = channel.read(buffer);
+            if (n < 0) {
+                return this;
+            }
+            update(null, UnsafeAccess.INSTANCE, address, buffer.position());
+        }
+    }
+
+    /**
+     * Reads the given stream until the end of stream, appending all the read bytes to the hashed
+     * byte sequence. The bytes are read into an array allocated at the first call and reused
+     * afterwards. The stream is not closed.
+     *
+     * @return this hasher
+     * @throws IOException if reading from the stream throws
+     */
+    @NotNull
+    public StreamingHasher updateFrom(final InputStream in) throws IOException {
+        byte[] buffer = ioArray;
+        if (null == buffer) {
+            ioArray = buffer = new byte[IO_BUFFER_SIZE];
+        }
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            update(buffer, UnsafeAccess.INSTANCE, BYTE_BASE, n);
+        }
+        return this;
+    }
+
+    /**
+     * Appends {@code len} bytes of the given file, starting at the file position {@code pos}, to
+     * the hashed byte sequence. The region is memory-mapped in windows of at most 1 GB, each
+     * hashed in place through its address, so regions of any size, including over 2 GB, are
+     * hashed without copying. The position of the channel is not changed.
+     *
+     * @return this hasher
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws IOException if mapping the file throws
+     */
+    @NotNull
+    public StreamingHasher updateFrom(final FileChannel channel, final long pos, final long len)
+            throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        return updateFromMapped(channel, pos, len, MAP_WINDOW_SIZE);
+    }
+
+    /**
+     * Returns the hash of all the remaining bytes of the given channel; equivalent to
+     * {@code reset().updateFrom(channel).digest()}.
+     *
+     * @throws IOException if reading from the channel throws
+     * @see #updateFrom(ReadableByteChannel)
+     */
+    public long hash(final ReadableByteChannel channel) throws IOException {
+        return reset().updateFrom(channel).digest();
+    }
+
+    /**
+     * Returns the hash of all the remaining bytes of the given stream; equivalent to
+     * {@code reset().updateFrom(in).digest()}.
+     *
+     * @throws IOException if reading from the stream throws
+     * @see #updateFrom(InputStream)
+     */
+    public long hash(final InputStream in) throws IOException {
+        return reset().updateFrom(in).digest();
+    }
+
+    /**
+     * Returns the 64-bit hash of the byte sequence appended since the construction or the last
+     * {@link #reset()}. For hashers of more than 64 bits, the first 64 bits of
+     * {@link #digest(long[])} results are returned. The state of the hasher is not changed.
+     */
+    public abstract long digest();
+
+    /**
+     * Stores the hash of the byte sequence appended since the construction or the last
+     * {@link #reset()} in the {@code result} array, in the same layout as
+     * {@link LongTupleHashFunction} does. The state of the hasher is not changed.
+     *
+     * @throws NullPointerException if {@code result == null}
+     * @throws IllegalArgumentException if {@code result.length < newResultArray().length}
+     */
+    public void digest(final long[] result) {
+        checkResult(result);
+        result[0] = digest();
+    }
+
+    // Internal helper
+    //
+
+    private static final Access<ByteBuffer> BYTE_BUF_ACCESS = ByteBufferAccess.INSTANCE;
+
+    static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    // lazily allocated by the I/O methods, then reused for every read
+    @Nullable
+    private ByteBuffer ioBuffer;
+    @Nullable
+    private byte[] ioArray;
+
+    @NotNull
+    StreamingHasher updateFromMapped(final FileChannel channel, long pos, long len,
+                                     final long windowSize) throws IOException {
+        while (len > 0) {
+            final long n = len < windowSize ? len : windowSize;
+            final MappedByteBuffer window = channel.map(READ_ONLY, pos, n);
+            update(null, UnsafeAccess.INSTANCE, getDirectBufferAddress(window), n);
+            reachabilityFence(window);
+            pos += n;
+            len -= n;
+        }
+        return this;
+    }
+
+    @NotNull
+    private StreamingHasher updateByteBuffer(final ByteBuffer input, final int off, final int len) {
+        if (input.hasArray()) {
+            return update(input.array(), UnsafeAccess.INSTANCE,
+                    BYTE_BASE + input.arrayOffset() + off, len);
+        } else if (input instanceof DirectBuffer) {
+            return update(null, UnsafeAccess.INSTANCE, ((DirectBuffer) input).address() + off, len);
+        } else {
+            return update(input, BYTE_BUF_ACCESS, off, len);
+        }
+    }
+
+    void checkResult(@Nullable final long[] result) {
+        if (null == result) {
+            throw new NullPointerException();
+        }
+        if (result.length < (bitsLength() + 63) / 64) {
+            throw new IllegalArgumentException("The input result array has not enough space!");
+        }
+    }
+}
@@ -21,5 +21,6 @@ import javax.annotation.ParametersAreNonnullByDefault;
 @ParametersAreNonnullByDefault
 interface StringHash {
     long longHash(String s, LongHashFunction hashFunction, int off, int len);
+    int intHash(String s, IntHashFunction hashFunction, int off, int len);
     void hash(String s, LongTupleHashFunction hashFunction, int off, int len, long[] result);
 }
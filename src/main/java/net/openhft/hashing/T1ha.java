@@ -0,0 +1,557 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of t1ha1_le, t1ha2_atonce and t1ha2_atonce128 implementations from
+ * https://github.com/erthink/t1ha (formerly https://github.com/leo-yuriev/t1ha). This
+ * implementation provides endian-independant hash values, but it's slower on big-endian
+ * platforms.
+ */
+class T1ha {
+    // 'magic' primes
+    private static final long PRIME_0 = 0xEC99BF0D8372CAABL;
+    private static final long PRIME_1 = 0x82434FE90EDCEF39L;
+    private static final long PRIME_2 = 0xD4F06DB99D67BE4BL;
+    private static final long PRIME_3 = 0xBD9CACC22C6E9571L;
+    private static final long PRIME_4 = 0x9C06FAF4D023E3ABL;
+    private static final long PRIME_5 = 0xC060724A8424F345L;
+    private static final long PRIME_6 = 0xCB5AF53AE3AAAC31L;
+
+    // xor high and low parts of full 128-bit product
+    private static long mux64(final long v, final long prime) {
+        return Maths.unsignedLongMulXorFold(v, prime);
+    }
+
+    private static long mix64(long v, final long prime) {
+        v *= prime;
+        return v ^ Long.rotateRight(v, 41);
+    }
+
+    private static long final64(final long a, final long b) {
+        final long x = (a + Long.rotateRight(b, 41)) * PRIME_0;
+        final long y = (Long.rotateRight(a, 23) + b) * PRIME_6;
+        return mux64(x ^ y, PRIME_5);
+    }
+
+    private static long finalWeakAvalanche(final long a, final long b) {
+        return mux64(Long.rotateRight(a + b, 17), PRIME_4) + mix64(a ^ b, PRIME_0);
+    }
+
+    /**
+     * Reads the last {@code 1 + (tail - 1) % 8} bytes, as {@code tail64_le()}.
+     */
+    private static <T> long tail64(final Access<T> access, final T in, final long off,
+                                   final long tail) {
+        switch ((int) (tail & 7)) {
+            case 0:
+                return access.i64(in, off);
+            case 7:
+                return access.u32(in, off) | ((long) access.u16(in, off + 4) << 32) |
+                       ((long) access.u8(in, off + 6) << 48);
+            case 6:
+                return access.u32(in, off) | ((long) access.u16(in, off + 4) << 32);
+            case 5:
+                return access.u32(in, off) | ((long) access.u8(in, off + 4) << 32);
+            case 4:
+                return access.u32(in, off);
+            case 3:
+                return access.u16(in, off) | ((long) access.u8(in, off + 2) << 16);
+            case 2:
+                return access.u16(in, off);
+            default:
+                return access.u8(in, off);
+        }
+    }
+
+    /**
+     *
+     * @param seed seed for the hash
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return t1ha1_le hash result
+     */
+    static <T> long t1ha1(final long seed, final T input, final Access<T> access,
+                          long off, long len) {
+        long a = seed;
+        long b = len;
+
+        if (len > 32) {
+            long c = Long.rotateRight(len, 17) + seed;
+            long d = len ^ Long.rotateRight(seed, 17);
+            final long detent = off + len - 31;
+            do {
+                final long w0 = access.i64(input, off);
+                final long w1 = access.i64(input, off + 8);
+                final long w2 = access.i64(input, off + 16);
+                final long w3 = access.i64(input, off + 24);
+                off += 32;
+
+                final long d02 = w0 ^ Long.rotateRight(w2 + d, 17);
+                final long c13 = w1 ^ Long.rotateRight(w3 + c, 17);
+                d -= b ^ Long.rotateRight(w1, 31);
+                c += a ^ Long.rotateRight(w0, 41);
+                b ^= PRIME_0 * (c13 + w2);
+                a ^= PRIME_1 * (d02 + w3);
+            } while (off < detent);
+
+            a ^= PRIME_6 * (Long.rotateRight(c, 17) + d);
+            b ^= PRIME_5 * (c + Long.rotateRight(d, 17));
+            len &= 31;
+        }
+
+        if (len > 24) {
+            b += mux64(access.i64(input, off), PRIME_4);
+            off += 8;
+        }
+        if (len > 16) {
+            a += mux64(access.i64(input, off), PRIME_3);
+            off += 8;
+        }
+        if (len > 8) {
+            b += mux64(access.i64(input, off), PRIME_2);
+            off += 8;
+        }
+        if (len > 0) {
+            a += mux64(tail64(access, input, off, len), PRIME_1);
+        }
+        return finalWeakAvalanche(a, b);
+    }
+
+    /**
+     * t1ha1_le of up to 8 bytes {@code v}.
+     */
+    private static long t1ha1Tail(final long seed, final long len, final long v) {
+        return finalWeakAvalanche(seed + mux64(v, PRIME_1), len);
+    }
+
+    /**
+     *
+     * @param seed seed for the hash
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return t1ha2_atonce hash result
+     */
+    static <T> long t1ha2(final long seed, final T input, final Access<T> access,
+                          long off, long len) {
+        long a = seed;
+        long b = len;
+
+        if (len > 32) {
+            long c = Long.rotateRight(len, 23) + ~seed;
+            long d = ~len + Long.rotateRight(seed, 19);
+            final long detent = off + len - 31;
+            do {
+                final long w0 = access.i64(input, off);
+                final long w1 = access.i64(input, off + 8);
+                final long w2 = access.i64(input, off + 16);
+                final long w3 = access.i64(input, off + 24);
+                off += 32;
+
+                final long d02 = w0 + Long.rotateRight(w2 + d, 56);
+                final long c13 = w1 + Long.rotateRight(w3 + c, 19);
+                d ^= b + Long.rotateRight(w1, 38);
+                c ^= a + Long.rotateRight(w0, 57);
+                b ^= PRIME_6 * (c13 + w2);
+                a ^= PRIME_5 * (d02 + w3);
+            } while (off < detent);
+
+            // squash
+            a ^= PRIME_6 * (c + Long.rotateRight(d, 23));
+            b ^= PRIME_5 * (Long.rotateRight(c, 19) + d);
+            len &= 31;
+        }
+
+        // mixup64(&a, &b, v, prime) is: a ^= low(b + v) * prime; b += high((b + v) * prime)
+        long bv;
+        if (len > 24) {
+            bv = b + access.i64(input, off);
+            a ^= bv * PRIME_4;
+            b += Maths.unsignedLongMulHigh(bv, PRIME_4);
+            off += 8;
+        }
+        if (len > 16) {
+            bv = a + access.i64(input, off);
+            b ^= bv * PRIME_3;
+            a += Maths.unsignedLongMulHigh(bv, PRIME_3);
+            off += 8;
+        }
+        if (len > 8) {
+            bv = b + access.i64(input, off);
+            a ^= bv * PRIME_2;
+            b += Maths.unsignedLongMulHigh(bv, PRIME_2);
+            off += 8;
+        }
+        if (len > 0) {
+            bv = a + tail64(access, input, off, len);
+            b ^= bv * PRIME_1;
+            a += Maths.unsignedLongMulHigh(bv, PRIME_1);
+        }
+        return final64(a, b);
+    }
+
+    /**
+     * t1ha2_atonce of up to 8 bytes {@code v}.
+     */
+    private static long t1ha2Tail(final long seed, final long len, final long v) {
+        final long av = seed + v;
+        return final64(seed + Maths.unsignedLongMulHigh(av, PRIME_1), len ^ (av * PRIME_1));
+    }
+
+    /**
+     *
+     * @param seed seed for the hash
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param len length to read from input
+     * @param result the array to store both results, the returned value and then the
+     *               {@code extra_result} of t1ha2_atonce128, or null
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return t1ha2_atonce128 hash result, without the {@code extra_result}
+     */
+    static <T> long t1ha2_128(final long seed, final T input, final Access<T> access,
+                              long off, long len, @Nullable final long[] result) {
+        long a = seed;
+        long b = len;
+        long c = Long.rotateRight(len, 23) + ~seed;
+        long d = ~len + Long.rotateRight(seed, 19);
+
+        if (len > 32) {
+            final long detent = off + len - 31;
+            do {
+                final long w0 = access.i64(input, off);
+                final long w1 = access.i64(input, off + 8);
+                final long w2 = access.i64(input, off + 16);
+                final long w3 = access.i64(input, off + 24);
+                off += 32;
+
+                final long d02 = w0 + Long.rotateRight(w2 + d, 56);
+                final long c13 = w1 + Long.rotateRight(w3 + c, 19);
+                d ^= b + Long.rotateRight(w1, 38);
+                c ^= a + Long.rotateRight(w0, 57);
+                b ^= PRIME_6 * (c13 + w2);
+                a ^= PRIME_5 * (d02 + w3);
+            } while (off < detent);
+            len &= 31;
+        }
+
+        long bv;
+        if (len > 24) {
+            bv = d + access.i64(input, off);
+            a ^= bv * PRIME_4;
+            d += Maths.unsignedLongMulHigh(bv, PRIME_4);
+            off += 8;
+        }
+        if (len > 16) {
+            bv = a + access.i64(input, off);
+            b ^= bv * PRIME_3;
+            a += Maths.unsignedLongMulHigh(bv, PRIME_3);
+            off += 8;
+        }
+        if (len > 8) {
+            bv = b + access.i64(input, off);
+            c ^= bv * PRIME_2;
+            b += Maths.unsignedLongMulHigh(bv, PRIME_2);
+            off += 8;
+        }
+        if (len > 0) {
+            bv = c + tail64(access, input, off, len);
+            d ^= bv * PRIME_1;
+            c += Maths.unsignedLongMulHigh(bv, PRIME_1);
+        }
+        return final128(a, b, c, d, result);
+    }
+
+    /**
+     * t1ha2_atonce128 of up to 8 bytes {@code v}.
+     */
+    private static long t1ha2_128Tail(final long seed, final long len, final long v,
+                                      @Nullable final long[] result) {
+        final long c = Long.rotateRight(len, 23) + ~seed;
+        final long d = ~len + Long.rotateRight(seed, 19);
+        final long bv = c + v;
+        return final128(seed, len, c + Maths.unsignedLongMulHigh(bv, PRIME_1), d ^ (bv * PRIME_1),
+                result);
+    }
+
+    private static long final128(long a, long b, long c, long d, @Nullable final long[] result) {
+        long bv = b + (Long.rotateRight(c, 41) ^ d);
+        a ^= bv * PRIME_0;
+        b += Maths.unsignedLongMulHigh(bv, PRIME_0);
+        bv = c + (Long.rotateRight(d, 23) ^ a);
+        b ^= bv * PRIME_6;
+        c += Maths.unsignedLongMulHigh(bv, PRIME_6);
+        bv = d + (Long.rotateRight(a, 19) ^ b);
+        c ^= bv * PRIME_5;
+        d += Maths.unsignedLongMulHigh(bv, PRIME_5);
+        bv = a + (Long.rotateRight(b, 31) ^ c);
+        d ^= bv * PRIME_4;
+        a += Maths.unsignedLongMulHigh(bv, PRIME_4);
+        final long h = a ^ b;
+        if (null != result) {
+            result[0] = h;
+            result[1] = c + d;
+        }
+        return h;
+    }
+
+    static LongHashFunction asT1ha1HashFunctionWithoutSeed() {
+        return AsT1ha1HashFunction.SEEDLESS_INSTANCE;
+    }
+
+    static LongHashFunction asT1ha1HashFunctionWithSeed(final long seed) {
+        return new AsT1ha1HashFunctionSeeded(seed);
+    }
+
+    private static class AsT1ha1HashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsT1ha1HashFunction SEEDLESS_INSTANCE = new AsT1ha1HashFunction();
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        public long seed() {
+            return 0L;
+        }
+
+        @Override
+        public long hashLong(final long input) {
+            return t1ha1Tail(seed(), 8, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public long hashInt(final int input) {
+            return t1ha1Tail(seed(), 4, Primitives.unsignedInt(Primitives.nativeToLittleEndian(input)));
+        }
+
+        @Override
+        public long hashShort(final short input) {
+            return t1ha1Tail(seed(), 2, Primitives.unsignedShort(Primitives.nativeToLittleEndian(input)));
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            return t1ha1Tail(seed(), 1, Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public long hashVoid() {
+            return finalWeakAvalanche(seed(), 0);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return T1ha.t1ha1(seed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    private static class AsT1ha1HashFunctionSeeded extends AsT1ha1HashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+
+        private AsT1ha1HashFunctionSeeded(final long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public long seed() {
+            return seed;
+        }
+    }
+
+    static LongHashFunction asT1ha2HashFunctionWithoutSeed() {
+        return AsT1ha2HashFunction.SEEDLESS_INSTANCE;
+    }
+
+    static LongHashFunction asT1ha2HashFunctionWithSeed(final long seed) {
+        return new AsT1ha2HashFunctionSeeded(seed);
+    }
+
+    private static class AsT1ha2HashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsT1ha2HashFunction SEEDLESS_INSTANCE = new AsT1ha2HashFunction();
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        public long seed() {
+            return 0L;
+        }
+
+        @Override
+        public long hashLong(final long input) {
+            return t1ha2Tail(seed(), 8, Primitives.nativeToLittleEndian(input));
+        }
+
+        @Override
+        public long hashInt(final int input) {
+            return t1ha2Tail(seed(), 4, Primitives.unsignedInt(Primitives.nativeToLittleEndian(input)));
+        }
+
+        @Override
+        public long hashShort(final short input) {
+            return t1ha2Tail(seed(), 2, Primitives.unsignedShort(Primitives.nativeToLittleEndian(input)));
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            return t1ha2Tail(seed(), 1, Primitives.unsignedByte(input));
+        }
+
+        @Override
+        public long hashVoid() {
+            return final64(seed(), 0);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return T1ha.t1ha2(seed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    private static class AsT1ha2HashFunctionSeeded extends AsT1ha2HashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+
+        private AsT1ha2HashFunctionSeeded(final long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public long seed() {
+            return seed;
+        }
+    }
+
+    @NotNull
+    static LongTupleHashFunction asT1ha2TupleHashFunctionWithoutSeed() {
+        return AsT1ha2TupleHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    @NotNull
+    static LongTupleHashFunction asT1ha2TupleHashFunctionWithSeed(final long seed) {
+        return new AsT1ha2TupleHashFunctionSeeded(seed);
+    }
+
+    private static class AsT1ha2TupleHashFunction extends DualHashFunction {
+        private static final long serialVersionUID = 0L;
+        @NotNull
+        private static final AsT1ha2TupleHashFunction SEEDLESS_INSTANCE = new AsT1ha2TupleHashFunction();
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        @NotNull
+        public long[] newResultArray() {
+            return new long[2]; // override for a little performance
+        }
+
+        long seed() {
+            return 0L;
+        }
+
+        @Override
+        protected long dualHashLong(final long input, @Nullable final long[] result) {
+            return t1ha2_128Tail(seed(), 8, Primitives.nativeToLittleEndian(input), result);
+        }
+
+        @Override
+        protected long dualHashInt(final int input, @Nullable final long[] result) {
+            return t1ha2_128Tail(seed(), 4,
+                    Primitives.unsignedInt(Primitives.nativeToLittleEndian(input)), result);
+        }
+
+        @Override
+        protected long dualHashShort(final short input, @Nullable final long[] result) {
+            return t1ha2_128Tail(seed(), 2,
+                    Primitives.unsignedShort(Primitives.nativeToLittleEndian(input)), result);
+        }
+
+        @Override
+        protected long dualHashChar(final char input, @Nullable final long[] result) {
+            return dualHashShort((short) input, result);
+        }
+
+        @Override
+        protected long dualHashByte(final byte input, @Nullable final long[] result) {
+            return t1ha2_128Tail(seed(), 1, Primitives.unsignedByte(input), result);
+        }
+
+        @Override
+        protected long dualHashVoid(@Nullable final long[] result) {
+            final long seed = seed();
+            return final128(seed, 0, ~seed, ~0L + Long.rotateRight(seed, 19), result);
+        }
+
+        @Override
+        protected <T> long dualHash(@Nullable final T input, final Access<T> access,
+                                    final long off, final long len, @Nullable final long[] result) {
+            return T1ha.t1ha2_128(seed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len,
+                    result);
+        }
+    }
+
+    private static class AsT1ha2TupleHashFunctionSeeded extends AsT1ha2TupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+
+        private AsT1ha2TupleHashFunctionSeeded(final long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        long seed() {
+            return seed;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import sun.nio.ch.DirectBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static net.openhft.hashing.Primitives.nativeToLittleEndian;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.Util.*;
+
+/**
+ * Tree (Merkle) hash mode over XXH3, for hashing large inputs on several cores. The input is
+ * split into leaves of {@link #leafSize()} bytes (the last leaf could be shorter), the leaves are
+ * hashed in parallel on a {@link ForkJoinPool}, and the leaf hashes are combined pairwise up to
+ * the root. The result doesn't depend on the parallelism, or on the kind of the input.
+ *
+ * <p>The tree is defined as follows, for an input of {@code n} leaves:
+ * <ul>
+ *     <li>if {@code n <= 1}, the root is the leaf hash, i. e. an input not longer than a leaf has
+ *     the same hash as the plain XXH3 function with the same seed;</li>
+ *     <li>otherwise the left subtree spans the first {@code 2^k} leaves, where {@code 2^k} is the
+ *     largest power of two less than {@code n}, and the right subtree spans the rest;</li>
+ *     <li>a parent node is the hash of the concatenation of its children's hashes, each stored as
+ *     little-endian {@code long}s, with a seed derived from the function's seed, so that parents
+ *     and leaves can't be confused.</li>
+ * </ul>
+ *
+ * <p>Leaves are hashed with {@link LongHashFunction#xx3(long)} by the {@linkplain #xx3(int, long)
+ * 64-bit functions}, and with {@link LongTupleHashFunction#xx128(long)} by the
+ * {@linkplain #xx128(int, long) 128-bit functions}, parents with the same algorithm. Subtrees of
+ * less than 256 KB are hashed sequentially, in the calling thread for small inputs.
+ *
+ * <p>File regions are memory-mapped in windows aligned to subtrees, so files of any size could be
+ * hashed without copying. See {@link LongHashFunction} for the definition of byte sequence
+ * semantics. Tree hash functions are immutable and thread-safe.
+ */
+@ParametersAreNonnullByDefault
+public abstract class TreeHashFunction {
+
+    // Implementations
+    //
+
+    /**
+     * Returns a 64-bit tree hash function over {@link LongHashFunction#xx3() XXH3} without a
+     * seed, with leaves of the given size.
+     *
+     * @param leafSize the size of leaves, in bytes
+     * @throws IllegalArgumentException if {@code leafSize <= 0}
+     * @see #xx3(int, long)
+     */
+    @NotNull
+    public static TreeHashFunction xx3(final int leafSize) {
+        return xx3(leafSize, 0L);
+    }
+
+    /**
+     * Returns a 64-bit tree hash function over {@link LongHashFunction#xx3(long) XXH3} with the
+     * given seed, with leaves of the given size.
+     *
+     * @param leafSize the size of leaves, in bytes
+     * @param seed the seed of the leaf and parent functions
+     * @throws IllegalArgumentException if {@code leafSize <= 0}
+     * @see #xx3(int)
+     */
+    @NotNull
+    public static TreeHashFunction xx3(final int leafSize, final long seed) {
+        return new Xx3(leafSize, seed, null);
+    }
+
+    /**
+     * Returns a 128-bit tree hash function over {@link LongTupleHashFunction#xx128() XXH128}
+     * without a seed, with leaves of the given size.
+     *
+     * @param leafSize the size of leaves, in bytes
+     * @throws IllegalArgumentException if {@code leafSize <= 0}
+     * @see #xx128(int, long)
+     */
+    @NotNull
+    public static TreeHashFunction xx128(final int leafSize) {
+        return xx128(leafSize, 0L);
+    }
+
+    /**
+     * Returns a 128-bit tree hash function over {@link LongTupleHashFunction#xx128(long) XXH128}
+     * with the given seed, with leaves of the given size.
+     *
+     * @param leafSize the size of leaves, in bytes
+     * @param seed the seed of the leaf and parent functions
+     * @throws IllegalArgumentException if {@code leafSize <= 0}
+     * @see #xx128(int)
+     */
+    @NotNull
+    public static TreeHashFunction xx128(final int leafSize, final long seed) {
+        return new Xx128(leafSize, seed, null);
+    }
+
+    // Instance
+    //
+
+    final int leafSize;
+    final long seed;
+    @Nullable
+    private final ForkJoinPool pool;
+
+    TreeHashFunction(final int leafSize, final long seed, @Nullable final ForkJoinPool pool) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("leafSize should be positive: " + leafSize);
+        }
+        this.leafSize = leafSize;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a tree hash function with the same algorithm, leaf size and seed (hence producing
+     * the same results) running on the given pool. By default, a pool shared by all tree hash
+     * functions, with as many threads as available processors, is used. When called from a task
+     * running in a {@code ForkJoinPool}, the hashing runs in the pool of the caller.
+     */
+    @NotNull
+    public abstract TreeHashFunction withPool(ForkJoinPool pool);
+
+    /**
+     * Returns the size of leaves, in bytes.
+     */
+    public int leafSize() {
+        return leafSize;
+    }
+
+    /**
+     * Returns the number of bits in a result, either 64 or 128.
+     */
+    public abstract int bitsLength();
+
+    /**
+     * Returns a new-allocated result array for the {@code void hash*(..., long[] result)}
+     * methods.
+     */
+    @NotNull
+    public long[] newResultArray() {
+        return new long[(bitsLength() + 63) / 64];
+    }
+
+    /**
+     * Returns the hash code for {@code len} continuous bytes of the given {@code input} object,
+     * starting from the given offset; for 128-bit functions, the lower 64 bits of the hash.
+     *
+     * @param input the object to read bytes from
+     * @param access access which defines the abstraction of the given input
+     *               as ordered byte sequence
+     * @param off offset to the first byte of the sequence to hash
+     * @param len length of the sequence to hash
+     * @param <T> the type of the input
+     * @return hash code for the specified byte sequence
+     */
+    public <T> long hash(@Nullable final T input, final Access<T> access,
+                         final long off, final long len) {
+        return run(new Node<T>(this, input, access, null, off, len, 0L)).h0;
+    }
+
+    /**
+     * Computes the hash code for {@code len} continuous bytes of the given {@code input} object,
+     * starting from the given offset, and stores it in the {@code result} array: {@code result[0]}
+     * is the lower 64 bits, and {@code result[1]} the higher 64 bits for 128-bit functions.
+     *
+     * @throws NullPointerException if {@code result == null}
+     * @throws IllegalArgumentException if {@code result.length < newResultArray().length}
+     */
+    public <T> void hash(@Nullable final T input, final Access<T> access,
+                         final long off, final long len, final long[] result) {
+        checkResult(result);
+        run(new Node<T>(this, input, access, null, off, len, 0L)).store(result);
+    }
+
+    /**
+     * Shortcut for {@link #hash(Object, Access, long, long) hash(input, unsafe access,
+     * BYTE_BASE, input.length)}.
+     */
+    public long hashBytes(final byte[] input) {
+        return hash(input, UnsafeAccess.INSTANCE, BYTE_BASE, input.length);
+    }
+
+    /**
+     * Stores the hash code of the given array in the {@code result} array.
+     *
+     * @see #hash(Object, Access, long, long, long[])
+     */
+    public void hashBytes(final byte[] input, final long[] result) {
+        hash(input, UnsafeAccess.INSTANCE, BYTE_BASE, input.length, result);
+    }
+
+    /**
+     * Returns the hash code of the remaining bytes of the given buffer, from its position to its
+     * limit. The state of the buffer is not changed. Direct buffers are hashed in place through
+     * their address.
+     */
+    public long hashBytes(final ByteBuffer input) {
+        return hashByteBuffer(input, null);
+    }
+
+    /**
+     * Stores the hash code of the remaining bytes of the given buffer in the {@code result}
+     * array.
+     *
+     * @see #hashBytes(ByteBuffer)
+     */
+    public void hashBytes(final ByteBuffer input, final long[] result) {
+        checkResult(result);
+        hashByteBuffer(input, result);
+    }
+
+    /**
+     * Returns the hash code of bytes of the wild memory from the given address. Use with caution.
+     */
+    public long hashMemory(final long address, final long len) {
+        return hash(null, UnsafeAccess.INSTANCE, address, len);
+    }
+
+    /**
+     * Stores the hash code of bytes of the wild memory from the given address in the
+     * {@code result} array. Use with caution.
+     */
+    public void hashMemory(final long address, final long len, final long[] result) {
+        hash(null, UnsafeAccess.INSTANCE, address, len, result);
+    }
+
+    /**
+     * Returns the hash code of {@code len} bytes of the given file, starting at the file position
+     * {@code pos}. The region is memory-mapped in windows of at most 1 GB, or of a single leaf if
+     * leaves are larger, each spanning whole subtrees, and hashed in place. The position of the
+     * channel is not changed.
+     *
+     * @throws IndexOutOfBoundsException if {@code pos < 0} or {@code pos + len > channel.size()}
+     *                                   or {@code len < 0}
+     * @throws IOException if mapping the file throws
+     */
+    public long hashFile(final FileChannel channel, final long pos, final long len)
+            throws IOException {
+        return runFile(channel, pos, len, MAP_WINDOW_SIZE).h0;
+    }
+
+    /**
+     * Stores the hash code of {@code len} bytes of the given file, starting at the file position
+     * {@code pos}, in the {@code result} array.
+     *
+     * @see #hashFile(FileChannel, long, long)
+     */
+    public void hashFile(final FileChannel channel, final long pos, final long len,
+                         final long[] result) throws IOException {
+        checkResult(result);
+        runFile(channel, pos, len, MAP_WINDOW_SIZE).store(result);
+    }
+
+    // Internal helper
+    //
+
+    // subtrees shorter than that are not worth forking
+    static final long MIN_FORK_LEN = 256 * 1024;
+
+    // parents are hashed with a different seed than leaves
+    private static final long PARENT_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    static long parentSeed(final long seed) {
+        return seed ^ PARENT_SEED_MIX;
+    }
+
+    static class DefaultPool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+
+    /**
+     * Stores the hash of {@code node}'s bytes, which fit a single leaf, in the node.
+     */
+    abstract <T> void hashLeaf(Node<T> node);
+
+    /**
+     * Stores the hash of the {@code left} and {@code right} children hashes in {@code parent}.
+     */
+    abstract void hashParent(Node<?> left, Node<?> right, Node<?> parent);
+
+    private void checkResult(@Nullable final long[] result) {
+        if (null == result) {
+            throw new NullPointerException();
+        }
+        if (result.length < (bitsLength() + 63) / 64) {
+            throw new IllegalArgumentException("The input result array has not enough space!");
+        }
+    }
+
+    private long hashByteBuffer(final ByteBuffer input, @Nullable final long[] result) {
+        final Node<?> node;
+        if (input.hasArray()) {
+            node = new Node<Object>(this, input.array(), UnsafeAccess.INSTANCE, null,
+                    BYTE_BASE + input.arrayOffset() + input.position(), input.remaining(), 0L);
+        } else if (input instanceof DirectBuffer) {
+            node = new Node<Object>(this, null, UnsafeAccess.INSTANCE, null,
+                    ((DirectBuffer) input).address() + input.position(), input.remaining(),
+                    0L);
+        } else {
+            node = new Node<ByteBuffer>(this, input, ByteBufferAccess.INSTANCE, null,
+                    input.position(), input.remaining(), 0L);
+        }
+        run(node);
+        if (null != result) {
+            node.store(result);
+        }
+        return node.h0;
+    }
+
+    @NotNull
+    private <T> Node<T> run(final Node<T> node) {
+        if (node.len < MIN_FORK_LEN) {
+            node.compute();
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            node.invoke();
+        } else {
+            (null != pool ? pool : DefaultPool.INSTANCE).invoke(node);
+        }
+        return node;
+    }
+
+    @NotNull
+    Node<Object> runFile(final FileChannel channel, final long pos, final long len,
+                         final long windowSize) throws IOException {
+        checkFileOffs(channel.size(), pos, len);
+        try {
+            return run(new Node<Object>(this, null, UnsafeAccess.INSTANCE, channel, pos, len,
+                    windowSize));
+        } catch (MappingFailedException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A subtree, hashed by {@link #compute()}.
+     */
+    static final class Node<T> extends RecursiveAction {
+        private static final long serialVersionUID = 0L;
+
+        @NotNull
+        final TreeHashFunction f;
+        @Nullable
+        final T input;
+        @NotNull
+        final Access<T> access;
+        // not null if the subtree is a region of a file not mapped yet, off is the file position
+        @Nullable
+        private final FileChannel channel;
+        final long off;
+        final long len;
+        // the largest region of the file mapped at once, unless a single leaf is larger
+        private final long windowSize;
+        long h0;
+        long h1;
+
+        Node(final TreeHashFunction f, @Nullable final T input, final Access<T> access,
+             @Nullable final FileChannel channel, final long off, final long len,
+             final long windowSize) {
+            this.f = f;
+            this.input = input;
+            this.access = access;
+            this.channel = channel;
+            this.off = off;
+            this.len = len;
+            this.windowSize = windowSize;
+        }
+
+        void store(final long[] result) {
+            result[0] = h0;
+            if (f.bitsLength() > 64) {
+                result[1] = h1;
+            }
+        }
+
+        @Override
+        protected void compute() {
+            final long leafSize = f.leafSize;
+            // a leaf is hashed at once, and fits a single mapping, as its size is an int
+            if (null != channel && (len <= windowSize || len <= leafSize)) {
+                computeMapped(channel);
+                return;
+            }
+            if (len <= leafSize) {
+                f.hashLeaf(this);
+                return;
+            }
+            // the left subtree spans the largest power of two of leaves less than the count
+            final long leftLen = Long.highestOneBit((len - 1) / leafSize) * leafSize;
+            final Node<T> left = new Node<T>(f, input, access, channel, off, leftLen,
+                    windowSize);
+            final Node<T> right = new Node<T>(f, input, access, channel, off + leftLen,
+                    len - leftLen, windowSize);
+            if (len >= MIN_FORK_LEN && ForkJoinTask.inForkJoinPool()) {
+                left.fork();
+                right.compute();
+                left.join();
+            } else {
+                left.compute();
+                right.compute();
+            }
+            f.hashParent(left, right, this);
+        }
+
+        private void computeMapped(final FileChannel channel) {
+            final MappedByteBuffer region;
+            try {
+                region = channel.map(READ_ONLY, off, len);
+            } catch (IOException e) {
+                throw new MappingFailedException(e);
+            }
+            final Node<Object> mapped = new Node<Object>(f, null, UnsafeAccess.INSTANCE, null,
+                    getDirectBufferAddress(region), len, 0L);
+            mapped.compute();
+            reachabilityFence(region);
+            h0 = mapped.h0;
+            h1 = mapped.h1;
+        }
+    }
+
+    /**
+     * Carries an I/O error out of {@link Node#compute()}, which can't throw checked exceptions.
+     */
+    static final class MappingFailedException extends RuntimeException {
+        private static final long serialVersionUID = 0L;
+
+        MappingFailedException(final IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+    private static final class Xx3 extends TreeHashFunction {
+        @NotNull
+        private final LongHashFunction leafFunction;
+        @NotNull
+        private final LongHashFunction parentFunction;
+
+        Xx3(final int leafSize, final long seed, @Nullable final ForkJoinPool pool) {
+            super(leafSize, seed, pool);
+            leafFunction = LongHashFunction.xx3(seed);
+            parentFunction = LongHashFunction.xx3(parentSeed(seed));
+        }
+
+        @NotNull
+        @Override
+        public TreeHashFunction withPool(final ForkJoinPool pool) {
+            return new Xx3(leafSize, seed, pool);
+        }
+
+        @Override
+        public int bitsLength() {
+            return 64;
+        }
+
+        @Override
+        <T> void hashLeaf(final Node<T> node) {
+            node.h0 = leafFunction.hash(node.input, node.access, node.off, node.len);
+        }
+
+        @Override
+        void hashParent(final Node<?> left, final Node<?> right, final Node<?> parent) {
+            parent.h0 = parentFunction.hashLongs(new long[] {
+                    nativeToLittleEndian(left.h0), nativeToLittleEndian(right.h0)});
+        }
+    }
+
+    private static final class Xx128 extends TreeHashFunction {
+        @NotNull
+        private final LongTupleHashFunction leafFunction;
+        @NotNull
+        private final LongTupleHashFunction parentFunction;
+
+        Xx128(final int leafSize, final long seed, @Nullable final ForkJoinPool pool) {
+            super(leafSize, seed, pool);
+            leafFunction = LongTupleHashFunction.xx128(seed);
+            parentFunction = LongTupleHashFunction.xx128(parentSeed(seed));
+        }
+
+        @NotNull
+        @Override
+        public TreeHashFunction withPool(final ForkJoinPool pool) {
+            return new Xx128(leafSize, seed, pool);
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        <T> void hashLeaf(final Node<T> node) {
+            final long[] result = leafFunction.hash(node.input, node.access, node.off, node.len);
+            node.h0 = result[0];
+            node.h1 = result[1];
+        }
+
+        @Override
+        void hashParent(final Node<?> left, final Node<?> right, final Node<?> parent) {
+            final long[] result = parentFunction.hashLongs(new long[] {
+                    nativeToLittleEndian(left.h0), nativeToLittleEndian(left.h1),
+                    nativeToLittleEndian(right.h0), nativeToLittleEndian(right.h1)});
+            parent.h0 = result[0];
+            parent.h1 = result[1];
+        }
+    }
+}
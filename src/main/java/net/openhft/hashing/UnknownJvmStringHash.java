@@ -27,6 +27,11 @@ enum UnknownJvmStringHash implements StringHash {
         return hashFunction.hashNativeChars(s, off, len);
     }
 
+    @Override
+    public int intHash(String s, IntHashFunction hashFunction, int off, int len) {
+        return hashFunction.hashNativeChars(s, off, len);
+    }
+
     @Override
     public void hash(final String s, final LongTupleHashFunction hashFunction,
                     final int off, final int len, final long[] result) {
@@ -4,8 +4,11 @@ import java.nio.ByteBuffer;
 import sun.nio.ch.DirectBuffer;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static java.nio.ByteOrder.*;
+import static net.openhft.hashing.UnsafeAccess.BYTE_BASE;
+import static net.openhft.hashing.UnsafeAccess.UNSAFE;
 
 final class Util {
 
@@ -69,7 +72,50 @@ final class Util {
             throw new IndexOutOfBoundsException();
     }
 
+    static void checkFileOffs(final long fileSize, final long pos, final long len) {
+        if (len < 0 || pos < 0 || pos + len > fileSize || pos + len < 0)
+            throw new IndexOutOfBoundsException();
+    }
+
     static long getDirectBufferAddress(@NotNull final ByteBuffer buff) {
         return ((DirectBuffer)buff).address();
     }
+
+    // a single mapping can't exceed Integer.MAX_VALUE bytes
+    static final long MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+
+    // streaming and parallel hashing map larger file regions by windows
+    static final long MAP_WINDOW_SIZE = 1L << 30;
+
+    @Nullable
+    private static volatile Object reachabilitySink;
+
+    /**
+     * Keeps {@code o} strongly reachable until this call, like {@code Reference.reachabilityFence()}
+     * does since Java 9. A mapped buffer hashed through its address must not be unmapped by the
+     * garbage collector until the hashing is done.
+     */
+    static void reachabilityFence(@Nullable final Object o) {
+        if (reachabilitySink == o) {
+            reachabilitySink = null;
+        }
+    }
+
+    /**
+     * Copies {@code len} bytes of the given input, as defined by the {@code access} strategy, into
+     * {@code dst[dstOff .. dstOff + len - 1]}; used by streaming hashers for buffering partial
+     * blocks.
+     */
+    static <T> void copyBytes(@Nullable final T input, @NotNull final Access<T> access,
+                              final long off, @NotNull final byte[] dst, final int dstOff,
+                              final int len) {
+        final Access<T> nativeAccess = access.byteOrder(input, nativeOrder());
+        int i = 0;
+        for (; i <= len - 8; i += 8) {
+            UNSAFE.putLong(dst, BYTE_BASE + dstOff + i, nativeAccess.i64(input, off + i));
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] = (byte) nativeAccess.i8(input, off + i);
+        }
+    }
 }
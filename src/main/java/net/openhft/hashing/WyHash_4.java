@@ -0,0 +1,177 @@
+package net.openhft.hashing;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of WyHash final version 4 implementation from
+ * https://github.com/wangyi-fudan/wyhash with the default secret {@code _wyp}.
+ * This implementation provides endian-independant hash values, but it's slower on big-endian
+ * platforms.
+ */
+class WyHash_4 {
+    // Default secret
+    static final long _wyp0 = 0x2d358dccaa6c78a5L;
+    static final long _wyp1 = 0x8bb84b93962eacc9L;
+    static final long _wyp2 = 0x4b33a62ed433d4a3L;
+    static final long _wyp3 = 0x4d5a2da51de1aa47L;
+
+    private static long _wymix(final long lhs, final long rhs) {
+        return Maths.unsignedLongMulXorFold(lhs, rhs);
+    }
+
+    static <T> long _wyr3(final Access<T> access, T in, final long index, long k) {
+        return ((long) access.u8(in, index) << 16) |
+               ((long) access.u8(in, index + (k >>> 1)) << 8) |
+               ((long) access.u8(in, index + k - 1));
+    }
+
+    /**
+     * The seed is mixed with the secret once per hash function, instead of once per call.
+     */
+    static long mixSeed(final long seed) {
+        return seed ^ _wymix(seed ^ _wyp0, _wyp1);
+    }
+
+    /**
+     * The last {@code _wymum(&a, &b)} and {@code _wymix()} of wyhash, shared by rapidhash.
+     */
+    static long finish(long a, long b, final long seed, final long length) {
+        a ^= _wyp1;
+        b ^= seed;
+        final long lo = a * b;
+        final long hi = Maths.unsignedLongMulHigh(a, b);
+        return _wymix(lo ^ _wyp0 ^ length, hi ^ _wyp1);
+    }
+
+    /**
+     *
+     * @param seed seed for the hash, already mixed by {@link #mixSeed(long)}
+     * @param input the type wrapped by the Access, ex. byte[], ByteBuffer, etc.
+     * @param access class wrapping optimized access pattern to the input
+     * @param off offset to the input
+     * @param length length to read from input
+     * @param <T> byte[], ByteBuffer, etc.
+     * @return hash result
+     */
+    static <T> long wyHash64(long seed, final T input, final Access<T> access, final long off, final long length) {
+        final long a;
+        final long b;
+        if (length <= 16) {
+            if (length >= 4) {
+                final long q = (length >>> 3) << 2;
+                a = (access.u32(input, off) << 32) | access.u32(input, off + q);
+                b = (access.u32(input, off + length - 4) << 32) | access.u32(input, off + length - 4 - q);
+            } else if (length > 0) {
+                a = _wyr3(access, input, off, length);
+                b = 0;
+            } else {
+                a = 0;
+                b = 0;
+            }
+        } else {
+            long i = length;
+            long p = off;
+            if (i > 48) {
+                long see1 = seed;
+                long see2 = seed;
+                do {
+                    seed = _wymix(access.i64(input, p) ^ _wyp1, access.i64(input, p + 8) ^ seed);
+                    see1 = _wymix(access.i64(input, p + 16) ^ _wyp2, access.i64(input, p + 24) ^ see1);
+                    see2 = _wymix(access.i64(input, p + 32) ^ _wyp3, access.i64(input, p + 40) ^ see2);
+                    p += 48;
+                    i -= 48;
+                } while (i > 48);
+                seed ^= see1 ^ see2;
+            }
+            while (i > 16) {
+                seed = _wymix(access.i64(input, p) ^ _wyp1, access.i64(input, p + 8) ^ seed);
+                i -= 16;
+                p += 16;
+            }
+            a = access.i64(input, p + i - 16);
+            b = access.i64(input, p + i - 8);
+        }
+        return finish(a, b, seed, length);
+    }
+
+    static LongHashFunction asLongHashFunctionWithoutSeed() {
+        return AsLongHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    private static class AsLongHashFunction extends LongHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsLongHashFunction SEEDLESS_INSTANCE = new AsLongHashFunction();
+        private static final long SEEDLESS_MIXED_SEED = mixSeed(0L);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        long mixedSeed() {
+            return SEEDLESS_MIXED_SEED;
+        }
+
+        @Override
+        public long hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            return finish(Long.rotateLeft(input, 32), input, mixedSeed(), 8);
+        }
+
+        @Override
+        public long hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long u = Primitives.unsignedInt(input);
+            final long ab = (u << 32) | u;
+            return finish(ab, ab, mixedSeed(), 4);
+        }
+
+        @Override
+        public long hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            final long lo = input & 0xFFL;
+            final long hi = (input >>> 8) & 0xFFL;
+            return finish((lo << 16) | (hi << 8) | hi, 0, mixedSeed(), 2);
+        }
+
+        @Override
+        public long hashChar(final char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public long hashByte(final byte input) {
+            final long u = input & 0xFFL;
+            return finish((u << 16) | (u << 8) | u, 0, mixedSeed(), 1);
+        }
+
+        @Override
+        public long hashVoid() {
+            return finish(0, 0, mixedSeed(), 0);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access,
+                             final long off, final long len) {
+            return WyHash_4.wyHash64(mixedSeed(), input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunctionWithSeed(long seed) {
+        return new AsLongHashFunctionSeeded(seed);
+    }
+
+    private static class AsLongHashFunctionSeeded extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long mixedSeed;
+
+        private AsLongHashFunctionSeeded(long seed) {
+            this.mixedSeed = mixSeed(seed);
+        }
+
+        @Override
+        long mixedSeed() {
+            return mixedSeed;
+        }
+    }
+}
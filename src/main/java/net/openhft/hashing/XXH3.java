@@ -56,9 +56,13 @@ class XXH3 {
     private static final long XXH_PRIME64_4 = 0x85EBCA77C2B2AE63L;   /*!< 0b1000010111101011110010100111011111000010101100101010111001100011 */
     private static final long XXH_PRIME64_5 = 0x27D4EB2F165667C5L;   /*!< 0b0010011111010100111010110010111100010110010101100110011111000101 */
 
-    // only support fixed size secret
-    private static final long nbStripesPerBlock = (192 - 64) / 8;
-    private static final long block_len = 64 * nbStripesPerBlock;
+    private static final int XXH3_SECRET_DEFAULT_SIZE = 192;
+    static final int XXH3_SECRET_SIZE_MIN = 136;
+    private static final long XXH3_kSecret_nbStripesPerBlock = XXH3_nbStripesPerBlock(XXH3_SECRET_DEFAULT_SIZE);
+
+    private static long XXH3_nbStripesPerBlock(final int secretSize) {
+        return (secretSize - 64) / 8;
+    }
 
     private static long XXH64_avalanche(long h64) {
         h64 ^= h64 >>> 33;
@@ -80,22 +84,22 @@ class XXH3 {
         return h64 ^ (h64 >>> 28);
     }
 
-    private static <T> long XXH3_mix16B(final long seed, final T input, final Access<T> access, final long offIn, final long offSec) {
+    private static <T> long XXH3_mix16B(final long seed, final byte[] secret, final T input, final Access<T> access, final long offIn, final long offSec) {
         final long input_lo = access.i64(input, offIn);
         final long input_hi = access.i64(input, offIn + 8);
         return unsignedLongMulXorFold(
-            input_lo ^ (unsafeLE.i64(XXH3_kSecret, offSec)   + seed),
-            input_hi ^ (unsafeLE.i64(XXH3_kSecret, offSec+8) - seed)
+            input_lo ^ (unsafeLE.i64(secret, offSec)   + seed),
+            input_hi ^ (unsafeLE.i64(secret, offSec+8) - seed)
         );
     }
 
     /*
      * A bit slower than XXH3_mix16B, but handles multiply by zero better.
      */
-    private static long XXH128_mix32B_once(final long seed, final long offSec, long acc, final long input0, final long input1, final long input2, final long input3) {
+    private static long XXH128_mix32B_once(final long seed, final byte[] secret, final long offSec, long acc, final long input0, final long input1, final long input2, final long input3) {
         acc += unsignedLongMulXorFold(
-            input0 ^ (unsafeLE.i64(XXH3_kSecret, offSec    ) + seed),
-            input1 ^ (unsafeLE.i64(XXH3_kSecret, offSec + 8) - seed));
+            input0 ^ (unsafeLE.i64(secret, offSec    ) + seed),
+            input1 ^ (unsafeLE.i64(secret, offSec + 8) - seed));
         return acc ^ (input2 + input3);
     }
 
@@ -105,13 +109,13 @@ class XXH3 {
             acc_rh ^ unsafeLE.i64(secret, offSec+8) );
     }
 
-    private static <T> long XXH3_64bits_internal(final long seed, final byte[] secret, final T input, final Access<T> access, final long off, final long length) {
+    private static <T> long XXH3_64bits_internal(final long seed, final byte[] shortSecret, final byte[] secret, final long nbStripesPerBlock, final T input, final Access<T> access, final long off, final long length) {
         if (length <= 16) {
             // XXH3_len_0to16_64b
             if (length > 8) {
                 // XXH3_len_9to16_64b
-                final long bitflip1 = (unsafeLE.i64(XXH3_kSecret, 24+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 32+BYTE_BASE)) + seed;
-                final long bitflip2 = (unsafeLE.i64(XXH3_kSecret, 40+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 48+BYTE_BASE)) - seed;
+                final long bitflip1 = (unsafeLE.i64(shortSecret, 24+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 32+BYTE_BASE)) + seed;
+                final long bitflip2 = (unsafeLE.i64(shortSecret, 40+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 48+BYTE_BASE)) - seed;
                 final long input_lo = access.i64(input, off) ^ bitflip1;
                 final long input_hi = access.i64(input, off + length - 8) ^ bitflip2;
                 final long acc = length + Long.reverseBytes(input_lo) + input_hi + unsignedLongMulXorFold(input_lo, input_hi);
@@ -122,7 +126,7 @@ class XXH3 {
                 long s = seed ^ Long.reverseBytes(seed & 0xFFFFFFFFL);
                 final long input1 = (long)access.i32(input, off); // high int will be shifted
                 final long input2 = access.u32(input, off + length - 4);
-                final long bitflip = (unsafeLE.i64(XXH3_kSecret, 8+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 16+BYTE_BASE)) - s;
+                final long bitflip = (unsafeLE.i64(shortSecret, 8+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 16+BYTE_BASE)) - s;
                 final long keyed = (input2 + (input1 << 32)) ^ bitflip;
                 return XXH3_rrmxmx(keyed, length);
             }
@@ -132,10 +136,10 @@ class XXH3 {
                 final int c2 = access.i8(input, off + (length >> 1)); // high 3 bytes will be shifted
                 final int c3 = access.u8(input, off + length - 1);
                 final long combined = Primitives.unsignedInt((c1 << 16) | (c2  << 24) | c3 | ((int)length << 8));
-                final long bitflip = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE) ^ unsafeLE.i32(XXH3_kSecret, 4+BYTE_BASE)) + seed;
+                final long bitflip = Primitives.unsignedInt(unsafeLE.i32(shortSecret, BYTE_BASE) ^ unsafeLE.i32(shortSecret, 4+BYTE_BASE)) + seed;
                 return XXH64_avalanche(combined ^ bitflip);
             }
-            return XXH64_avalanche(seed ^ unsafeLE.i64(XXH3_kSecret, 56+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 64+BYTE_BASE));
+            return XXH64_avalanche(seed ^ unsafeLE.i64(shortSecret, 56+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 64+BYTE_BASE));
         }
         if (length <= 128) {
             // XXH3_len_17to128_64b
@@ -144,17 +148,17 @@ class XXH3 {
             if (length > 32) {
                 if (length > 64) {
                     if (length > 96) {
-                        acc += XXH3_mix16B(seed, input, access, off + 48, BYTE_BASE + 96);
-                        acc += XXH3_mix16B(seed, input, access, off + length - 64, BYTE_BASE + 112);
+                        acc += XXH3_mix16B(seed, shortSecret, input, access, off + 48, BYTE_BASE + 96);
+                        acc += XXH3_mix16B(seed, shortSecret, input, access, off + length - 64, BYTE_BASE + 112);
                     }
-                    acc += XXH3_mix16B(seed, input, access, off + 32, BYTE_BASE + 64);
-                    acc += XXH3_mix16B(seed, input, access, off + length - 48, BYTE_BASE + 80);
+                    acc += XXH3_mix16B(seed, shortSecret, input, access, off + 32, BYTE_BASE + 64);
+                    acc += XXH3_mix16B(seed, shortSecret, input, access, off + length - 48, BYTE_BASE + 80);
                 }
-                acc += XXH3_mix16B(seed, input, access, off + 16, BYTE_BASE + 32);
-                acc += XXH3_mix16B(seed, input, access, off + length - 32, BYTE_BASE + 48);
+                acc += XXH3_mix16B(seed, shortSecret, input, access, off + 16, BYTE_BASE + 32);
+                acc += XXH3_mix16B(seed, shortSecret, input, access, off + length - 32, BYTE_BASE + 48);
             }
-            acc += XXH3_mix16B(seed, input, access, off, BYTE_BASE);
-            acc += XXH3_mix16B(seed, input, access, off + length - 16, BYTE_BASE + 16);
+            acc += XXH3_mix16B(seed, shortSecret, input, access, off, BYTE_BASE);
+            acc += XXH3_mix16B(seed, shortSecret, input, access, off + length - 16, BYTE_BASE + 16);
 
             return XXH3_avalanche(acc);
         }
@@ -164,16 +168,16 @@ class XXH3 {
             final int nbRounds = (int)length / 16;
             int i = 0;
             for (; i < 8; ++i) {
-                acc += XXH3_mix16B(seed, input, access, off + 16*i, BYTE_BASE + 16*i);
+                acc += XXH3_mix16B(seed, shortSecret, input, access, off + 16*i, BYTE_BASE + 16*i);
             }
             acc = XXH3_avalanche(acc);
 
             for (; i < nbRounds; ++i) {
-                acc += XXH3_mix16B(seed, input, access, off + 16*i, BYTE_BASE + 16*(i-8) + 3);
+                acc += XXH3_mix16B(seed, shortSecret, input, access, off + 16*i, BYTE_BASE + 16*(i-8) + 3);
             }
 
             /* last bytes */
-            acc += XXH3_mix16B(seed, input, access, off + length - 16, BYTE_BASE + 136 - 17);
+            acc += XXH3_mix16B(seed, shortSecret, input, access, off + length - 16, BYTE_BASE + 136 - 17);
             return XXH3_avalanche(acc);
         }
 
@@ -188,6 +192,7 @@ class XXH3 {
         long acc_7 = XXH_PRIME32_1;
 
         // XXH3_hashLong_internal_loop
+        final long block_len = 64 * nbStripesPerBlock;
         final long nb_blocks = (length - 1) / block_len;
         for (long n = 0; n < nb_blocks; n++) {
             // XXH3_accumulate
@@ -235,7 +240,7 @@ class XXH3 {
             }
 
             // XXH3_scrambleAcc_scalar
-            final long offSec = BYTE_BASE + 192 - 64;
+            final long offSec = BYTE_BASE + secret.length - 64;
             acc_0 = (acc_0 ^ (acc_0 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*0)) * XXH_PRIME32_1;
             acc_1 = (acc_1 ^ (acc_1 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*1)) * XXH_PRIME32_1;
             acc_2 = (acc_2 ^ (acc_2 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*2)) * XXH_PRIME32_1;
@@ -294,7 +299,7 @@ class XXH3 {
         /* last stripe */
         // XXH3_accumulate_512
         final long offStripe = off + length - 64;
-        final long offSec = 192 - 64 - 7;
+        final long offSec = secret.length - 64 - 7;
         {
             final long data_val_0 = access.i64(input, offStripe + 8*0);
             final long data_val_1 = access.i64(input, offStripe + 8*1);
@@ -342,13 +347,13 @@ class XXH3 {
         return XXH3_avalanche(result64);
     }
 
-    private static <T> long XXH3_128bits_internal(final long seed, final byte[] secret, final T input, final Access<T> access, final long off, final long length, final long[] result) {
+    private static <T> long XXH3_128bits_internal(final long seed, final byte[] shortSecret, final byte[] secret, final long nbStripesPerBlock, final T input, final Access<T> access, final long off, final long length, final long[] result) {
         if (length <= 16) {
             // XXH3_len_0to16_128b
             if (length > 8) {
                 // XXH3_len_9to16_128b
-                final long bitflipl = (unsafeLE.i64(XXH3_kSecret, 32+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 40+BYTE_BASE)) - seed;
-                final long bitfliph = (unsafeLE.i64(XXH3_kSecret, 48+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 56+BYTE_BASE)) + seed;
+                final long bitflipl = (unsafeLE.i64(shortSecret, 32+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 40+BYTE_BASE)) - seed;
+                final long bitfliph = (unsafeLE.i64(shortSecret, 48+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 56+BYTE_BASE)) + seed;
                 long input_hi = access.i64(input, off + length - 8);
                 final long input_lo = access.i64(input, off) ^ input_hi ^ bitflipl;
                 long m128_lo = input_lo * XXH_PRIME64_1;
@@ -371,7 +376,7 @@ class XXH3 {
                 final long input_lo = access.u32(input, off);
                 final long input_hi = (long)access.i32(input, off + length - 4); // high int will be shifted
 
-                final long bitflip = (unsafeLE.i64(XXH3_kSecret, 16+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 24+BYTE_BASE)) + s;
+                final long bitflip = (unsafeLE.i64(shortSecret, 16+BYTE_BASE) ^ unsafeLE.i64(shortSecret, 24+BYTE_BASE)) + s;
                 final long keyed = (input_lo + (input_hi << 32)) ^ bitflip;
                 final long pl = XXH_PRIME64_1 + (length << 2); /* Shift len to the left to ensure it is even, this avoids even multiplies. */
                 long m128_lo = keyed * pl;
@@ -396,8 +401,8 @@ class XXH3 {
                 final int c3 = access.u8(input, off + length - 1);
                 final int combinedl = (c1 << 16) | (c2  << 24) | c3 | ((int)length << 8);
                 final int combinedh = Integer.rotateLeft(Integer.reverseBytes(combinedl), 13);
-                final long bitflipl = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE) ^ unsafeLE.i32(XXH3_kSecret, BYTE_BASE+4)) + seed;
-                final long bitfliph = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE+8) ^ unsafeLE.i32(XXH3_kSecret, BYTE_BASE+12)) - seed;
+                final long bitflipl = Primitives.unsignedInt(unsafeLE.i32(shortSecret, BYTE_BASE) ^ unsafeLE.i32(shortSecret, BYTE_BASE+4)) + seed;
+                final long bitfliph = Primitives.unsignedInt(unsafeLE.i32(shortSecret, BYTE_BASE+8) ^ unsafeLE.i32(shortSecret, BYTE_BASE+12)) - seed;
 
                 final long low = XXH64_avalanche(Primitives.unsignedInt(combinedl) ^ bitflipl);
                 if (null != result) {
@@ -406,10 +411,10 @@ class XXH3 {
                 }
                 return low;
             }
-            final long low = XXH64_avalanche(seed ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+64) ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+72));
+            final long low = XXH64_avalanche(seed ^ unsafeLE.i64(shortSecret, BYTE_BASE+64) ^ unsafeLE.i64(shortSecret, BYTE_BASE+72));
             if (null != result) {
                 result[0] = low;
-                result[1] = XXH64_avalanche(seed ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+80) ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+88));
+                result[1] = XXH64_avalanche(seed ^ unsafeLE.i64(shortSecret, BYTE_BASE+80) ^ unsafeLE.i64(shortSecret, BYTE_BASE+88));
             }
             return low;
         }
@@ -424,29 +429,29 @@ class XXH3 {
                         final long input1 = access.i64(input, off + 48 + 8);
                         final long input2 = access.i64(input, off + length - 64);
                         final long input3 = access.i64(input, off + length - 64 + 8);
-                        acc0 = XXH128_mix32B_once(seed, BYTE_BASE + 96,      acc0, input0, input1, input2, input3);
-                        acc1 = XXH128_mix32B_once(seed, BYTE_BASE + 96 + 16, acc1, input2, input3, input0, input1);
+                        acc0 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 96,      acc0, input0, input1, input2, input3);
+                        acc1 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 96 + 16, acc1, input2, input3, input0, input1);
                     }
                     final long input0 = access.i64(input, off + 32);
                     final long input1 = access.i64(input, off + 32 + 8);
                     final long input2 = access.i64(input, off + length - 48);
                     final long input3 = access.i64(input, off + length - 48 + 8);
-                    acc0 = XXH128_mix32B_once(seed, BYTE_BASE + 64,      acc0, input0, input1, input2, input3);
-                    acc1 = XXH128_mix32B_once(seed, BYTE_BASE + 64 + 16, acc1, input2, input3, input0, input1);
+                    acc0 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 64,      acc0, input0, input1, input2, input3);
+                    acc1 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 64 + 16, acc1, input2, input3, input0, input1);
                 }
                 final long input0 = access.i64(input, off + 16);
                 final long input1 = access.i64(input, off + 16 + 8);
                 final long input2 = access.i64(input, off + length - 32);
                 final long input3 = access.i64(input, off + length - 32 + 8);
-                acc0 = XXH128_mix32B_once(seed, BYTE_BASE + 32,      acc0, input0, input1, input2, input3);
-                acc1 = XXH128_mix32B_once(seed, BYTE_BASE + 32 + 16, acc1, input2, input3, input0, input1);
+                acc0 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 32,      acc0, input0, input1, input2, input3);
+                acc1 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 32 + 16, acc1, input2, input3, input0, input1);
             }
             final long input0 = access.i64(input, off + 0);
             final long input1 = access.i64(input, off + 0 + 8);
             final long input2 = access.i64(input, off + length - 16);
             final long input3 = access.i64(input, off + length - 16 + 8);
-            acc0 = XXH128_mix32B_once(seed, BYTE_BASE,      acc0, input0, input1, input2, input3);
-            acc1 = XXH128_mix32B_once(seed, BYTE_BASE + 16, acc1, input2, input3, input0, input1);
+            acc0 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE,      acc0, input0, input1, input2, input3);
+            acc1 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 16, acc1, input2, input3, input0, input1);
 
             final long low = XXH3_avalanche(acc0 + acc1);
             if (null != result) {
@@ -467,8 +472,8 @@ class XXH3 {
                 final long input1 = access.i64(input, off + 32*i + 8);
                 final long input2 = access.i64(input, off + 32*i + 16);
                 final long input3 = access.i64(input, off + 32*i + 24);
-                acc0 = XXH128_mix32B_once(seed, BYTE_BASE + 32*i,      acc0, input0, input1, input2, input3);
-                acc1 = XXH128_mix32B_once(seed, BYTE_BASE + 32*i + 16, acc1, input2, input3, input0, input1);
+                acc0 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 32*i,      acc0, input0, input1, input2, input3);
+                acc1 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 32*i + 16, acc1, input2, input3, input0, input1);
             }
             acc0 = XXH3_avalanche(acc0);
             acc1 = XXH3_avalanche(acc1);
@@ -478,8 +483,8 @@ class XXH3 {
                 final long input1 = access.i64(input, off + 32*i + 8);
                 final long input2 = access.i64(input, off + 32*i + 16);
                 final long input3 = access.i64(input, off + 32*i + 24);
-                acc0 = XXH128_mix32B_once(seed, BYTE_BASE + 3 + 32*(i-4),      acc0, input0, input1, input2, input3);
-                acc1 = XXH128_mix32B_once(seed, BYTE_BASE + 3 + 32*(i-4) + 16, acc1, input2, input3, input0, input1);
+                acc0 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 3 + 32*(i-4),      acc0, input0, input1, input2, input3);
+                acc1 = XXH128_mix32B_once(seed, shortSecret, BYTE_BASE + 3 + 32*(i-4) + 16, acc1, input2, input3, input0, input1);
             }
 
             /* last bytes */
@@ -487,8 +492,8 @@ class XXH3 {
             final long input1 = access.i64(input, off + length - 16 + 8);
             final long input2 = access.i64(input, off + length - 32);
             final long input3 = access.i64(input, off + length - 32 + 8);
-            acc0 = XXH128_mix32B_once(-seed, BYTE_BASE + 136 - 17 - 16, acc0, input0, input1, input2, input3);
-            acc1 = XXH128_mix32B_once(-seed, BYTE_BASE + 136 - 17     , acc1, input2, input3, input0, input1);
+            acc0 = XXH128_mix32B_once(-seed, shortSecret, BYTE_BASE + 136 - 17 - 16, acc0, input0, input1, input2, input3);
+            acc1 = XXH128_mix32B_once(-seed, shortSecret, BYTE_BASE + 136 - 17     , acc1, input2, input3, input0, input1);
 
             final long low = XXH3_avalanche(acc0 + acc1);
             if (null != result) {
@@ -509,6 +514,7 @@ class XXH3 {
         long acc_7 = XXH_PRIME32_1;
 
         // XXH3_hashLong_internal_loop
+        final long block_len = 64 * nbStripesPerBlock;
         final long nb_blocks = (length - 1) / block_len;
         for (long n = 0; n < nb_blocks; n++) {
             // XXH3_accumulate
@@ -556,7 +562,7 @@ class XXH3 {
             }
 
             // XXH3_scrambleAcc_scalar
-            final long offSec = BYTE_BASE + 192 - 64;
+            final long offSec = BYTE_BASE + secret.length - 64;
             acc_0 = (acc_0 ^ (acc_0 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*0)) * XXH_PRIME32_1;
             acc_1 = (acc_1 ^ (acc_1 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*1)) * XXH_PRIME32_1;
             acc_2 = (acc_2 ^ (acc_2 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*2)) * XXH_PRIME32_1;
@@ -615,7 +621,7 @@ class XXH3 {
         /* last stripe */
         // XXH3_accumulate_512
         final long offStripe = off + length - 64;
-        final long offSec = 192 - 64 - 7;
+        final long offSec = secret.length - 64 - 7;
         {
             final long data_val_0 = access.i64(input, offStripe + 8*0);
             final long data_val_1 = access.i64(input, offStripe + 8*1);
@@ -662,10 +668,10 @@ class XXH3 {
         if (null != result) {
             result[0] = low;
             result[1] = XXH3_avalanche(~(length * XXH_PRIME64_2)
-                    + XXH3_mix2Accs(acc_0, acc_1, secret, BYTE_BASE + 192 - 64 - 11)
-                    + XXH3_mix2Accs(acc_2, acc_3, secret, BYTE_BASE + 192 - 64 - 11 + 16)
-                    + XXH3_mix2Accs(acc_4, acc_5, secret, BYTE_BASE + 192 - 64 - 11 + 16 * 2)
-                    + XXH3_mix2Accs(acc_6, acc_7, secret, BYTE_BASE + 192 - 64 - 11 + 16 * 3));
+                    + XXH3_mix2Accs(acc_0, acc_1, secret, BYTE_BASE + secret.length - 64 - 11)
+                    + XXH3_mix2Accs(acc_2, acc_3, secret, BYTE_BASE + secret.length - 64 - 11 + 16)
+                    + XXH3_mix2Accs(acc_4, acc_5, secret, BYTE_BASE + secret.length - 64 - 11 + 16 * 2)
+                    + XXH3_mix2Accs(acc_6, acc_7, secret, BYTE_BASE + secret.length - 64 - 11 + 16 * 3));
         }
         return low;
     }
@@ -681,6 +687,75 @@ class XXH3 {
         }
     }
 
+    private static byte[] XXH3_seededSecret(final long seed64) {
+        return 0 == seed64 ? XXH3_kSecret : XXH3_generateSecret(seed64);
+    }
+
+    private static byte[] XXH3_copySecret(final byte[] secret) {
+        if (secret.length < XXH3_SECRET_SIZE_MIN) {
+            throw new IllegalArgumentException("The secret is too short, XXH3 needs at least " +
+                    XXH3_SECRET_SIZE_MIN + " bytes!");
+        }
+        return secret.clone();
+    }
+
+    /**
+     * XXH3_generateSecret(): derives a secret of the given size from seed material of any length
+     * and quality. The seed material is repeated over the secret, and each 16-byte segment is
+     * mixed with XXH128 of the XXH128 digest of the whole seed material.
+     */
+    static byte[] XXH3_generateSecret(byte[] customSeed, final int secretSize) {
+        if (secretSize < XXH3_SECRET_SIZE_MIN) {
+            throw new IllegalArgumentException("The secret is too short, XXH3 needs at least " +
+                    XXH3_SECRET_SIZE_MIN + " bytes!");
+        }
+        if (0 == customSeed.length) {
+            customSeed = XXH3_kSecret;
+        }
+        final byte[] secret = new byte[secretSize];
+        for (int pos = 0; pos < secretSize; pos += customSeed.length) {
+            final int toCopy = secretSize - pos < customSeed.length ? secretSize - pos : customSeed.length;
+            System.arraycopy(customSeed, 0, secret, pos, toCopy);
+        }
+
+        // XXH128_canonicalFromHash: high and low halves, big-endian
+        final long[] seedHash = new long[2];
+        XXH3_128bits_internal(0, XXH3_kSecret, XXH3_kSecret, XXH3_kSecret_nbStripesPerBlock,
+                customSeed, unsafeLE, BYTE_BASE, customSeed.length, seedHash);
+        final byte[] scrambler = new byte[16];
+        final ByteBuffer sb = ByteBuffer.wrap(scrambler); // big-endian
+        sb.putLong(0, seedHash[1]);
+        sb.putLong(8, seedHash[0]);
+
+        final ByteBuffer bb = ByteBuffer.wrap(secret).order(LITTLE_ENDIAN);
+        final long[] h128 = new long[2];
+        final int nbSeg16 = secretSize / 16;
+        for (int n = 0; n < nbSeg16; n++) {
+            // scrambler is short, so the seed is used without a derived secret
+            XXH3_128bits_internal(n, XXH3_kSecret, XXH3_kSecret, XXH3_kSecret_nbStripesPerBlock,
+                    scrambler, unsafeLE, BYTE_BASE, 16, h128);
+            XXH3_combine16(bb, n * 16, h128[0], h128[1]);
+        }
+        // last segment
+        XXH3_combine16(bb, secretSize - 16, seedHash[0], seedHash[1]);
+        return secret;
+    }
+
+    private static void XXH3_combine16(final ByteBuffer bb, final int pos, final long low64, final long high64) {
+        bb.putLong(pos, bb.getLong(pos) ^ low64);
+        bb.putLong(pos + 8, bb.getLong(pos + 8) ^ high64);
+    }
+
+    /**
+     * XXH3_generateSecret_fromSeed(): the default-size secret which seeded functions use for
+     * inputs longer than 240 bytes.
+     */
+    static byte[] XXH3_generateSecret(final long seed64) {
+        final byte[] customSecret = new byte[XXH3_SECRET_DEFAULT_SIZE];
+        XXH3_initCustomSecret(customSecret, seed64);
+        return customSecret;
+    }
+
     static LongHashFunction asLongHashFunctionWithoutSeed() {
         return AsLongHashFunction.SEEDLESS_INSTANCE;
     }
@@ -693,11 +768,20 @@ class XXH3 {
             return 0L;
         }
 
+        byte[] shortSecret() {
+            return XXH3_kSecret;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return asStreamingHasher64(seed());
+        }
+
         @Override
         public long hashLong(long input) {
             input = Primitives.nativeToLittleEndian(input);
             final long s = seed() ^ Long.reverseBytes(seed() & 0xFFFFFFFFL);
-            final long bitflip = (unsafeLE.i64(XXH3.XXH3_kSecret, 8+BYTE_BASE) ^ unsafeLE.i64(XXH3.XXH3_kSecret, 16+BYTE_BASE)) - s;
+            final long bitflip = (unsafeLE.i64(shortSecret(), 8+BYTE_BASE) ^ unsafeLE.i64(shortSecret(), 16+BYTE_BASE)) - s;
             final long keyed = Long.rotateLeft(input, 32) ^ bitflip;
             return XXH3_rrmxmx(keyed, 8);
         }
@@ -706,7 +790,7 @@ class XXH3 {
         public long hashInt(int input) {
             input = Primitives.nativeToLittleEndian(input);
             long s = seed() ^ Long.reverseBytes(seed() & 0xFFFFFFFFL);
-            final long bitflip = (unsafeLE.i64(XXH3.XXH3_kSecret, 8+BYTE_BASE) ^ unsafeLE.i64(XXH3.XXH3_kSecret, 16+BYTE_BASE)) - s;
+            final long bitflip = (unsafeLE.i64(shortSecret(), 8+BYTE_BASE) ^ unsafeLE.i64(shortSecret(), 16+BYTE_BASE)) - s;
             final long keyed = (Primitives.unsignedInt(input) + (((long)input) << 32)) ^ bitflip;
             return XXH3_rrmxmx(keyed, 4);
         }
@@ -718,7 +802,7 @@ class XXH3 {
             final int c2 = Primitives.unsignedShort(input) >>> 8;
             final int c3 = c2;
             final long combined = Primitives.unsignedInt((c1 << 16) | (c2 << 24) | c3 | (2 << 8));
-            final long bitflip = (unsafeLE.u32(XXH3.XXH3_kSecret, BYTE_BASE) ^ unsafeLE.u32(XXH3.XXH3_kSecret, 4+BYTE_BASE)) + seed();
+            final long bitflip = (unsafeLE.u32(shortSecret(), BYTE_BASE) ^ unsafeLE.u32(shortSecret(), 4+BYTE_BASE)) + seed();
             return XXH64_avalanche(combined ^ bitflip);
         }
 
@@ -733,18 +817,18 @@ class XXH3 {
             final int c2 = c1;
             final int c3 = c1;
             final long combined = Primitives.unsignedInt((c1 << 16) | (c2 << 24) | c3 | (1 << 8));
-            final long bitflip = (unsafeLE.u32(XXH3.XXH3_kSecret, BYTE_BASE) ^ unsafeLE.u32(XXH3.XXH3_kSecret, 4+BYTE_BASE)) + seed();
+            final long bitflip = (unsafeLE.u32(shortSecret(), BYTE_BASE) ^ unsafeLE.u32(shortSecret(), 4+BYTE_BASE)) + seed();
             return XXH64_avalanche(combined ^ bitflip);
         }
 
         @Override
         public long hashVoid() {
-            return XXH64_avalanche(seed() ^ unsafeLE.i64(XXH3.XXH3_kSecret, 56+BYTE_BASE) ^ unsafeLE.i64(XXH3.XXH3_kSecret, 64+BYTE_BASE));
+            return XXH64_avalanche(seed() ^ unsafeLE.i64(shortSecret(), 56+BYTE_BASE) ^ unsafeLE.i64(shortSecret(), 64+BYTE_BASE));
         }
 
         @Override
         public <T> long hash(final T input, final Access<T> access, final long off, final long len) {
-            return XXH3.XXH3_64bits_internal(0, XXH3.XXH3_kSecret, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+            return XXH3.XXH3_64bits_internal(0, XXH3_kSecret, XXH3_kSecret, XXH3_kSecret_nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
         }
     }
 
@@ -770,7 +854,78 @@ class XXH3 {
 
         @Override
         public <T> long hash(final T input, final Access<T> access, final long off, final long len) {
-            return XXH3.XXH3_64bits_internal(this.seed, this.secret, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+            return XXH3.XXH3_64bits_internal(this.seed, XXH3_kSecret, this.secret, XXH3_kSecret_nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunctionWithSecret(final byte[] secret) {
+        return new AsLongHashFunctionWithSecret(secret);
+    }
+
+    /**
+     * XXH3_64bits_withSecret(): the custom secret is used for inputs of any length, with zero seed.
+     */
+    private static class AsLongHashFunctionWithSecret extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final byte[] secret;
+        private final long nbStripesPerBlock;
+
+        private AsLongHashFunctionWithSecret(final byte[] secret) {
+            this.secret = XXH3_copySecret(secret);
+            this.nbStripesPerBlock = XXH3_nbStripesPerBlock(this.secret.length);
+        }
+
+        @Override
+        byte[] shortSecret() {
+            return secret;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return new AsStreamingHasher64(0, secret, secret);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access, final long off, final long len) {
+            return XXH3.XXH3_64bits_internal(0, secret, secret, nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static LongHashFunction asLongHashFunctionWithSecretAndSeed(final byte[] secret, final long seed) {
+        return new AsLongHashFunctionWithSecretAndSeed(secret, seed);
+    }
+
+    /**
+     * XXH3_64bits_withSecretandSeed(): inputs up to 240 bytes are hashed as by the seeded
+     * function, longer inputs with the custom secret, ignoring the seed.
+     */
+    private static class AsLongHashFunctionWithSecretAndSeed extends AsLongHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+        private final byte[] secret;
+        private final long nbStripesPerBlock;
+
+        private AsLongHashFunctionWithSecretAndSeed(final byte[] secret, final long seed) {
+            this.seed = seed;
+            this.secret = XXH3_copySecret(secret);
+            this.nbStripesPerBlock = XXH3_nbStripesPerBlock(this.secret.length);
+        }
+
+        @Override
+        public long seed() {
+            return seed;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return new AsStreamingHasher64(seed, XXH3_kSecret, secret);
+        }
+
+        @Override
+        public <T> long hash(final T input, final Access<T> access, final long off, final long len) {
+            return XXH3.XXH3_64bits_internal(seed, XXH3_kSecret, secret, nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
         }
     }
 
@@ -789,6 +944,15 @@ class XXH3 {
             return 0L;
         }
 
+        byte[] shortSecret() {
+            return XXH3_kSecret;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return asStreamingHasher128(seed());
+        }
+
         @Override
         public int bitsLength() {
             return 128;
@@ -803,7 +967,7 @@ class XXH3 {
         public long dualHashLong(long input, final long[] result) {
             input = Primitives.nativeToLittleEndian(input);
             long s = seed() ^ Long.reverseBytes(seed() & 0xFFFFFFFFL);
-            final long bitflip = (unsafeLE.i64(XXH3_kSecret, 16+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 24+BYTE_BASE)) + s;
+            final long bitflip = (unsafeLE.i64(shortSecret(), 16+BYTE_BASE) ^ unsafeLE.i64(shortSecret(), 24+BYTE_BASE)) + s;
             final long keyed = input ^ bitflip;
             final long pl = XXH_PRIME64_1 + (8 << 2); /* Shift len to the left to ensure it is even, this avoids even multiplies. */
             long m128_lo = keyed * pl;
@@ -826,7 +990,7 @@ class XXH3 {
         public long dualHashInt(final int input, final long[] result) {
             final long inputU = Primitives.unsignedInt(Primitives.nativeToLittleEndian(input));
             long s = seed() ^ Long.reverseBytes(seed() & 0xFFFFFFFFL);
-            final long bitflip = (unsafeLE.i64(XXH3_kSecret, 16+BYTE_BASE) ^ unsafeLE.i64(XXH3_kSecret, 24+BYTE_BASE)) + s;
+            final long bitflip = (unsafeLE.i64(shortSecret(), 16+BYTE_BASE) ^ unsafeLE.i64(shortSecret(), 24+BYTE_BASE)) + s;
             final long keyed = (inputU + (inputU << 32)) ^ bitflip;
             final long pl = XXH_PRIME64_1 + (4 << 2); /* Shift len to the left to ensure it is even, this avoids even multiplies. */
             long m128_lo = keyed * pl;
@@ -854,8 +1018,8 @@ class XXH3 {
             final int c3 = c2;
             final int combinedl = (c1 << 16) | (c2  << 24) | c3 | (2 << 8);
             final int combinedh = Integer.rotateLeft(Integer.reverseBytes(combinedl), 13);
-            final long bitflipl = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE) ^ unsafeLE.i32(XXH3_kSecret, BYTE_BASE+4)) + seed();
-            final long bitfliph = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE+8) ^ unsafeLE.i32(XXH3_kSecret, BYTE_BASE+12)) - seed();
+            final long bitflipl = Primitives.unsignedInt(unsafeLE.i32(shortSecret(), BYTE_BASE) ^ unsafeLE.i32(shortSecret(), BYTE_BASE+4)) + seed();
+            final long bitfliph = Primitives.unsignedInt(unsafeLE.i32(shortSecret(), BYTE_BASE+8) ^ unsafeLE.i32(shortSecret(), BYTE_BASE+12)) - seed();
 
             final long low = XXH64_avalanche(Primitives.unsignedInt(combinedl) ^ bitflipl);
             if (null != result) {
@@ -878,8 +1042,8 @@ class XXH3 {
             final int c3 = c1;
             final int combinedl = (c1 << 16) | (c2  << 24) | c3 | (1 << 8);
             final int combinedh = Integer.rotateLeft(Integer.reverseBytes(combinedl), 13);
-            final long bitflipl = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE) ^ unsafeLE.i32(XXH3_kSecret, BYTE_BASE+4)) + seed();
-            final long bitfliph = Primitives.unsignedInt(unsafeLE.i32(XXH3_kSecret, BYTE_BASE+8) ^ unsafeLE.i32(XXH3_kSecret, BYTE_BASE+12)) - seed();
+            final long bitflipl = Primitives.unsignedInt(unsafeLE.i32(shortSecret(), BYTE_BASE) ^ unsafeLE.i32(shortSecret(), BYTE_BASE+4)) + seed();
+            final long bitfliph = Primitives.unsignedInt(unsafeLE.i32(shortSecret(), BYTE_BASE+8) ^ unsafeLE.i32(shortSecret(), BYTE_BASE+12)) - seed();
 
             final long low = XXH64_avalanche(Primitives.unsignedInt(combinedl) ^ bitflipl);
             if (null != result) {
@@ -891,17 +1055,17 @@ class XXH3 {
 
         @Override
         public long dualHashVoid(final long[] result) {
-            final long low = XXH64_avalanche(seed() ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+64) ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+72));
+            final long low = XXH64_avalanche(seed() ^ unsafeLE.i64(shortSecret(), BYTE_BASE+64) ^ unsafeLE.i64(shortSecret(), BYTE_BASE+72));
             if (null != result) {
                 result[0] = low;
-                result[1] = XXH64_avalanche(seed() ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+80) ^ unsafeLE.i64(XXH3_kSecret, BYTE_BASE+88));
+                result[1] = XXH64_avalanche(seed() ^ unsafeLE.i64(shortSecret(), BYTE_BASE+80) ^ unsafeLE.i64(shortSecret(), BYTE_BASE+88));
             }
             return low;
         }
 
         @Override
         public <T> long dualHash(final T input, final Access<T> access, final long off, final long len, final long[] result) {
-            return XXH3.XXH3_128bits_internal(0, XXH3.XXH3_kSecret, input, access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
+            return XXH3.XXH3_128bits_internal(0, XXH3_kSecret, XXH3_kSecret, XXH3_kSecret_nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
         }
     }
 
@@ -930,7 +1094,377 @@ class XXH3 {
 
         @Override
         public <T> long dualHash(final T input, final Access<T> access, final long off, final long len, final long[] result) {
-            return XXH3.XXH3_128bits_internal(seed, secret, input, access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
+            return XXH3.XXH3_128bits_internal(seed, XXH3_kSecret, secret, XXH3_kSecret_nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
+        }
+    }
+
+    static LongTupleHashFunction asLongTupleHashFunctionWithSecret(final byte[] secret) {
+        return new AsLongTupleHashFunctionWithSecret(secret);
+    }
+
+    /**
+     * XXH3_128bits_withSecret(): the custom secret is used for inputs of any length, with zero seed.
+     */
+    private static class AsLongTupleHashFunctionWithSecret extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final byte[] secret;
+        private final long nbStripesPerBlock;
+
+        private AsLongTupleHashFunctionWithSecret(final byte[] secret) {
+            this.secret = XXH3_copySecret(secret);
+            this.nbStripesPerBlock = XXH3_nbStripesPerBlock(this.secret.length);
+        }
+
+        @Override
+        byte[] shortSecret() {
+            return secret;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return new AsStreamingHasher128(0, secret, secret);
+        }
+
+        @Override
+        public <T> long dualHash(final T input, final Access<T> access, final long off, final long len, final long[] result) {
+            return XXH3.XXH3_128bits_internal(0, secret, secret, nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
+        }
+    }
+
+    static LongTupleHashFunction asLongTupleHashFunctionWithSecretAndSeed(final byte[] secret, final long seed) {
+        return new AsLongTupleHashFunctionWithSecretAndSeed(secret, seed);
+    }
+
+    /**
+     * XXH3_128bits_withSecretandSeed(): inputs up to 240 bytes are hashed as by the seeded
+     * function, longer inputs with the custom secret, ignoring the seed.
+     */
+    private static class AsLongTupleHashFunctionWithSecretAndSeed extends AsLongTupleHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final long seed;
+        private final byte[] secret;
+        private final long nbStripesPerBlock;
+
+        private AsLongTupleHashFunctionWithSecretAndSeed(final byte[] secret, final long seed) {
+            this.seed = seed;
+            this.secret = XXH3_copySecret(secret);
+            this.nbStripesPerBlock = XXH3_nbStripesPerBlock(this.secret.length);
+        }
+
+        @Override
+        public long seed() {
+            return seed;
+        }
+
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return new AsStreamingHasher128(seed, XXH3_kSecret, secret);
+        }
+
+        @Override
+        public <T> long dualHash(final T input, final Access<T> access, final long off, final long len, final long[] result) {
+            return XXH3.XXH3_128bits_internal(seed, XXH3_kSecret, secret, nbStripesPerBlock, input, access.byteOrder(input, LITTLE_ENDIAN), off, len, result);
+        }
+    }
+
+    static StreamingHasher asStreamingHasher64(final long seed) {
+        return new AsStreamingHasher64(seed, XXH3_kSecret, XXH3_seededSecret(seed));
+    }
+
+    static StreamingHasher asStreamingHasher128(final long seed) {
+        return new AsStreamingHasher128(seed, XXH3_kSecret, XXH3_seededSecret(seed));
+    }
+
+    /**
+     * Streaming version of XXH3, adapted from XXH3_update() and XXH3_digest() functions of the
+     * reference implementation. Inputs up to 240 bytes are hashed by the one-shot functions over
+     * the internal buffer, longer inputs are accumulated stripe by stripe.
+     */
+    private static abstract class StreamingState extends StreamingHasher {
+        private static final int XXH3_INTERNALBUFFER_SIZE = 256;
+        private static final int XXH_STRIPE_LEN = 64;
+        private static final int XXH3_MIDSIZE_MAX = 240;
+
+        private final long seed;
+        private final byte[] shortSecret;
+        private final byte[] secret;
+        private final long nbStripesPerBlock;
+        private final long secretLimit;
+        private final byte[] buffer = new byte[XXH3_INTERNALBUFFER_SIZE];
+        private final byte[] lastStripe = new byte[XXH_STRIPE_LEN];
+
+        private long acc_0;
+        private long acc_1;
+        private long acc_2;
+        private long acc_3;
+        private long acc_4;
+        private long acc_5;
+        private long acc_6;
+        private long acc_7;
+        private long nbStripesSoFar;
+        private long totalLen;
+        private int bufferedSize;
+
+        StreamingState(final long seed, final byte[] shortSecret, final byte[] secret) {
+            this.seed = seed;
+            this.shortSecret = shortSecret;
+            this.secret = secret;
+            this.nbStripesPerBlock = XXH3_nbStripesPerBlock(secret.length);
+            this.secretLimit = secret.length - XXH_STRIPE_LEN;
+            reset();
+        }
+
+        @Override
+        public StreamingHasher reset() {
+            acc_0 = XXH_PRIME32_3;
+            acc_1 = XXH_PRIME64_1;
+            acc_2 = XXH_PRIME64_2;
+            acc_3 = XXH_PRIME64_3;
+            acc_4 = XXH_PRIME64_4;
+            acc_5 = XXH_PRIME32_2;
+            acc_6 = XXH_PRIME64_5;
+            acc_7 = XXH_PRIME32_1;
+            nbStripesSoFar = 0;
+            totalLen = 0;
+            bufferedSize = 0;
+            return this;
+        }
+
+        @Override
+        public <T> StreamingHasher update(final T input, final Access<T> access, long off, final long len) {
+            final Access<T> accessLE = access.byteOrder(input, LITTLE_ENDIAN);
+            totalLen += len;
+
+            // small input: just fill in the buffer
+            if (len <= XXH3_INTERNALBUFFER_SIZE - bufferedSize) {
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, (int) len);
+                bufferedSize += (int) len;
+                return this;
+            }
+
+            final long end = off + len;
+            // complete and consume the buffer, it's never the last chunk since len > loadSize
+            if (0 != bufferedSize) {
+                final int loadSize = XXH3_INTERNALBUFFER_SIZE - bufferedSize;
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, loadSize);
+                off += loadSize;
+                consumeStripes(buffer, unsafeLE, BYTE_BASE, XXH3_INTERNALBUFFER_SIZE / XXH_STRIPE_LEN);
+                bufferedSize = 0;
+            }
+
+            // consume the input in place, keeping at least one byte for the digest
+            if (end - off > XXH3_INTERNALBUFFER_SIZE) {
+                final long nbStripes = (end - 1 - off) / XXH_STRIPE_LEN;
+                off = consumeStripes(input, accessLE, off, nbStripes);
+                // the last stripe may be needed by the digest when fewer bytes are buffered
+                Util.copyBytes(input, accessLE, off - XXH_STRIPE_LEN,
+                        buffer, XXH3_INTERNALBUFFER_SIZE - XXH_STRIPE_LEN, XXH_STRIPE_LEN);
+            }
+
+            bufferedSize = (int) (end - off);
+            Util.copyBytes(input, accessLE, off, buffer, 0, bufferedSize);
+            return this;
+        }
+
+        // XXH3_consumeStripes
+        private <T> long consumeStripes(final T input, final Access<T> access, long off, long nbStripes) {
+            long nbStripesThisIter = nbStripesPerBlock - nbStripesSoFar;
+            if (nbStripes >= nbStripesThisIter) {
+                long offSec = nbStripesSoFar * 8;
+                do {
+                    accumulate(input, access, off, nbStripesThisIter, offSec);
+                    scrambleAcc();
+                    off += nbStripesThisIter * XXH_STRIPE_LEN;
+                    nbStripes -= nbStripesThisIter;
+                    nbStripesThisIter = nbStripesPerBlock;
+                    offSec = 0;
+                } while (nbStripes >= nbStripesPerBlock);
+                nbStripesSoFar = 0;
+            }
+            if (nbStripes > 0) {
+                accumulate(input, access, off, nbStripes, nbStripesSoFar * 8);
+                off += nbStripes * XXH_STRIPE_LEN;
+                nbStripesSoFar += nbStripes;
+            }
+            return off;
+        }
+
+        // XXH3_accumulate
+        private <T> void accumulate(final T input, final Access<T> access, final long off,
+                                    final long nbStripes, final long offSec) {
+            long acc_0 = this.acc_0;
+            long acc_1 = this.acc_1;
+            long acc_2 = this.acc_2;
+            long acc_3 = this.acc_3;
+            long acc_4 = this.acc_4;
+            long acc_5 = this.acc_5;
+            long acc_6 = this.acc_6;
+            long acc_7 = this.acc_7;
+            for (long s = 0; s < nbStripes; s++) {
+                // XXH3_accumulate_512
+                final long offStripe = off + s * XXH_STRIPE_LEN;
+                final long offKey = BYTE_BASE + offSec + s * 8;
+                {
+                    final long data_val_0 = access.i64(input, offStripe + 8*0);
+                    final long data_val_1 = access.i64(input, offStripe + 8*1);
+                    final long data_key_0 = data_val_0 ^ unsafeLE.i64(secret, offKey + 8*0);
+                    final long data_key_1 = data_val_1 ^ unsafeLE.i64(secret, offKey + 8*1);
+                    /* swap adjacent lanes */
+                    acc_0 += data_val_1 + (0xFFFFFFFFL & data_key_0) * (data_key_0 >>> 32);
+                    acc_1 += data_val_0 + (0xFFFFFFFFL & data_key_1) * (data_key_1 >>> 32);
+                }
+                {
+                    final long data_val_0 = access.i64(input, offStripe + 8*2);
+                    final long data_val_1 = access.i64(input, offStripe + 8*3);
+                    final long data_key_0 = data_val_0 ^ unsafeLE.i64(secret, offKey + 8*2);
+                    final long data_key_1 = data_val_1 ^ unsafeLE.i64(secret, offKey + 8*3);
+                    /* swap adjacent lanes */
+                    acc_2 += data_val_1 + (0xFFFFFFFFL & data_key_0) * (data_key_0 >>> 32);
+                    acc_3 += data_val_0 + (0xFFFFFFFFL & data_key_1) * (data_key_1 >>> 32);
+                }
+                {
+                    final long data_val_0 = access.i64(input, offStripe + 8*4);
+                    final long data_val_1 = access.i64(input, offStripe + 8*5);
+                    final long data_key_0 = data_val_0 ^ unsafeLE.i64(secret, offKey + 8*4);
+                    final long data_key_1 = data_val_1 ^ unsafeLE.i64(secret, offKey + 8*5);
+                    /* swap adjacent lanes */
+                    acc_4 += data_val_1 + (0xFFFFFFFFL & data_key_0) * (data_key_0 >>> 32);
+                    acc_5 += data_val_0 + (0xFFFFFFFFL & data_key_1) * (data_key_1 >>> 32);
+                }
+                {
+                    final long data_val_0 = access.i64(input, offStripe + 8*6);
+                    final long data_val_1 = access.i64(input, offStripe + 8*7);
+                    final long data_key_0 = data_val_0 ^ unsafeLE.i64(secret, offKey + 8*6);
+                    final long data_key_1 = data_val_1 ^ unsafeLE.i64(secret, offKey + 8*7);
+                    /* swap adjacent lanes */
+                    acc_6 += data_val_1 + (0xFFFFFFFFL & data_key_0) * (data_key_0 >>> 32);
+                    acc_7 += data_val_0 + (0xFFFFFFFFL & data_key_1) * (data_key_1 >>> 32);
+                }
+            }
+            this.acc_0 = acc_0;
+            this.acc_1 = acc_1;
+            this.acc_2 = acc_2;
+            this.acc_3 = acc_3;
+            this.acc_4 = acc_4;
+            this.acc_5 = acc_5;
+            this.acc_6 = acc_6;
+            this.acc_7 = acc_7;
+        }
+
+        // XXH3_scrambleAcc_scalar
+        private void scrambleAcc() {
+            final long offSec = BYTE_BASE + secretLimit;
+            acc_0 = (acc_0 ^ (acc_0 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*0)) * XXH_PRIME32_1;
+            acc_1 = (acc_1 ^ (acc_1 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*1)) * XXH_PRIME32_1;
+            acc_2 = (acc_2 ^ (acc_2 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*2)) * XXH_PRIME32_1;
+            acc_3 = (acc_3 ^ (acc_3 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*3)) * XXH_PRIME32_1;
+            acc_4 = (acc_4 ^ (acc_4 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*4)) * XXH_PRIME32_1;
+            acc_5 = (acc_5 ^ (acc_5 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*5)) * XXH_PRIME32_1;
+            acc_6 = (acc_6 ^ (acc_6 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*6)) * XXH_PRIME32_1;
+            acc_7 = (acc_7 ^ (acc_7 >>> 47) ^ unsafeLE.i64(secret, offSec + 8*7)) * XXH_PRIME32_1;
+        }
+
+        /**
+         * XXH3_digest_long: consumes the buffered stripes and the last stripe, leaving the final
+         * accumulators in the acc fields. Callers must save and restore the state around it.
+         */
+        private void digestLong() {
+            if (bufferedSize >= XXH_STRIPE_LEN) {
+                final long nbStripes = (bufferedSize - 1) / XXH_STRIPE_LEN;
+                consumeStripes(buffer, unsafeLE, BYTE_BASE, nbStripes);
+                accumulate(buffer, unsafeLE, BYTE_BASE + bufferedSize - XXH_STRIPE_LEN,
+                        1, secretLimit - 7);
+            } else {
+                // one last partial stripe: its head is the tail of the previous buffer
+                final int catchupSize = XXH_STRIPE_LEN - bufferedSize;
+                System.arraycopy(buffer, XXH3_INTERNALBUFFER_SIZE - catchupSize,
+                        lastStripe, 0, catchupSize);
+                System.arraycopy(buffer, 0, lastStripe, catchupSize, bufferedSize);
+                accumulate(lastStripe, unsafeLE, BYTE_BASE, 1, secretLimit - 7);
+            }
+        }
+
+        long digest64() {
+            if (totalLen <= XXH3_MIDSIZE_MAX) {
+                return XXH3_64bits_internal(seed, shortSecret, secret, nbStripesPerBlock, buffer, unsafeLE, BYTE_BASE, totalLen);
+            }
+            final long a0 = acc_0, a1 = acc_1, a2 = acc_2, a3 = acc_3;
+            final long a4 = acc_4, a5 = acc_5, a6 = acc_6, a7 = acc_7;
+            final long stripes = nbStripesSoFar;
+            digestLong();
+            // XXH3_mergeAccs
+            final long result64 = XXH3_avalanche(totalLen * XXH_PRIME64_1
+                    + XXH3_mix2Accs(acc_0, acc_1, secret, BYTE_BASE + 11)
+                    + XXH3_mix2Accs(acc_2, acc_3, secret, BYTE_BASE + 11 + 16)
+                    + XXH3_mix2Accs(acc_4, acc_5, secret, BYTE_BASE + 11 + 16 * 2)
+                    + XXH3_mix2Accs(acc_6, acc_7, secret, BYTE_BASE + 11 + 16 * 3));
+            acc_0 = a0; acc_1 = a1; acc_2 = a2; acc_3 = a3;
+            acc_4 = a4; acc_5 = a5; acc_6 = a6; acc_7 = a7;
+            nbStripesSoFar = stripes;
+            return result64;
+        }
+
+        long digest128(final long[] result) {
+            if (totalLen <= XXH3_MIDSIZE_MAX) {
+                return XXH3_128bits_internal(seed, shortSecret, secret, nbStripesPerBlock, buffer, unsafeLE, BYTE_BASE, totalLen, result);
+            }
+            final long a0 = acc_0, a1 = acc_1, a2 = acc_2, a3 = acc_3;
+            final long a4 = acc_4, a5 = acc_5, a6 = acc_6, a7 = acc_7;
+            final long stripes = nbStripesSoFar;
+            digestLong();
+            // XXH3_mergeAccs
+            final long low = XXH3_avalanche(totalLen * XXH_PRIME64_1
+                    + XXH3_mix2Accs(acc_0, acc_1, secret, BYTE_BASE + 11)
+                    + XXH3_mix2Accs(acc_2, acc_3, secret, BYTE_BASE + 11 + 16)
+                    + XXH3_mix2Accs(acc_4, acc_5, secret, BYTE_BASE + 11 + 16 * 2)
+                    + XXH3_mix2Accs(acc_6, acc_7, secret, BYTE_BASE + 11 + 16 * 3));
+            if (null != result) {
+                result[0] = low;
+                result[1] = XXH3_avalanche(~(totalLen * XXH_PRIME64_2)
+                        + XXH3_mix2Accs(acc_0, acc_1, secret, BYTE_BASE + secret.length - 64 - 11)
+                        + XXH3_mix2Accs(acc_2, acc_3, secret, BYTE_BASE + secret.length - 64 - 11 + 16)
+                        + XXH3_mix2Accs(acc_4, acc_5, secret, BYTE_BASE + secret.length - 64 - 11 + 16 * 2)
+                        + XXH3_mix2Accs(acc_6, acc_7, secret, BYTE_BASE + secret.length - 64 - 11 + 16 * 3));
+            }
+            acc_0 = a0; acc_1 = a1; acc_2 = a2; acc_3 = a3;
+            acc_4 = a4; acc_5 = a5; acc_6 = a6; acc_7 = a7;
+            nbStripesSoFar = stripes;
+            return low;
+        }
+    }
+
+    private static class AsStreamingHasher64 extends StreamingState {
+        private AsStreamingHasher64(final long seed, final byte[] shortSecret, final byte[] secret) {
+            super(seed, shortSecret, secret);
+        }
+
+        @Override
+        public long digest() {
+            return digest64();
+        }
+    }
+
+    private static class AsStreamingHasher128 extends StreamingState {
+        private AsStreamingHasher128(final long seed, final byte[] shortSecret, final byte[] secret) {
+            super(seed, shortSecret, secret);
+        }
+
+        @Override
+        public int bitsLength() {
+            return 128;
+        }
+
+        @Override
+        public long digest() {
+            return digest128(null);
+        }
+
+        @Override
+        public void digest(final long[] result) {
+            checkResult(result);
+            digest128(result);
         }
     }
 }
@@ -61,40 +61,52 @@ class XxHash {
                 remaining -= 32;
             } while (remaining >= 32);
 
-            hash = Long.rotateLeft(v1, 1)
-                + Long.rotateLeft(v2, 7)
-                + Long.rotateLeft(v3, 12)
-                + Long.rotateLeft(v4, 18);
-
-            v1 *= P2;
-            v1 = Long.rotateLeft(v1, 31);
-            v1 *= P1;
-            hash ^= v1;
-            hash = hash * P1 + P4;
-
-            v2 *= P2;
-            v2 = Long.rotateLeft(v2, 31);
-            v2 *= P1;
-            hash ^= v2;
-            hash = hash * P1 + P4;
-
-            v3 *= P2;
-            v3 = Long.rotateLeft(v3, 31);
-            v3 *= P1;
-            hash ^= v3;
-            hash = hash * P1 + P4;
-
-            v4 *= P2;
-            v4 = Long.rotateLeft(v4, 31);
-            v4 *= P1;
-            hash ^= v4;
-            hash = hash * P1 + P4;
+            hash = mergeAccumulators(v1, v2, v3, v4);
         } else {
             hash = seed + P5;
         }
 
         hash += length;
 
+        return finalizeTail(hash, input, access, off, remaining);
+    }
+
+    private static long mergeAccumulators(long v1, long v2, long v3, long v4) {
+        long hash = Long.rotateLeft(v1, 1)
+            + Long.rotateLeft(v2, 7)
+            + Long.rotateLeft(v3, 12)
+            + Long.rotateLeft(v4, 18);
+
+        v1 *= P2;
+        v1 = Long.rotateLeft(v1, 31);
+        v1 *= P1;
+        hash ^= v1;
+        hash = hash * P1 + P4;
+
+        v2 *= P2;
+        v2 = Long.rotateLeft(v2, 31);
+        v2 *= P1;
+        hash ^= v2;
+        hash = hash * P1 + P4;
+
+        v3 *= P2;
+        v3 = Long.rotateLeft(v3, 31);
+        v3 *= P1;
+        hash ^= v3;
+        hash = hash * P1 + P4;
+
+        v4 *= P2;
+        v4 = Long.rotateLeft(v4, 31);
+        v4 *= P1;
+        hash ^= v4;
+        hash = hash * P1 + P4;
+        return hash;
+    }
+
+    /**
+     * Processes the last {@code remaining < 32} bytes and finalizes the hash.
+     */
+    private static <T> long finalizeTail(long hash, T input, Access<T> access, long off, long remaining) {
         while (remaining >= 8) {
             long k1 = access.i64(input, off);
             k1 *= P2;
@@ -149,6 +161,11 @@ class XxHash {
             return 0L;
         }
 
+        @Override
+        StreamingHasher newStreamingHasher() {
+            return asStreamingHasher(seed());
+        }
+
         @Override
         public long hashLong(long input) {
             input = Primitives.nativeToLittleEndian(input);
@@ -231,4 +248,104 @@ class XxHash {
             return voidHash;
         }
     }
+
+    static StreamingHasher asStreamingHasher(final long seed) {
+        return new AsStreamingHasher(seed);
+    }
+
+    /**
+     * Streaming version of xxHash64: full 32-byte stripes are consumed as soon as they are
+     * available, fewer bytes are kept in the buffer until the next update or the digest.
+     */
+    private static class AsStreamingHasher extends StreamingHasher {
+        private static final Access<Object> unsafeLE = UnsafeAccess.INSTANCE.byteOrder(null, LITTLE_ENDIAN);
+
+        private final long seed;
+        private final byte[] buffer = new byte[32];
+        private long v1;
+        private long v2;
+        private long v3;
+        private long v4;
+        private long totalLen;
+        private int bufferedSize;
+
+        private AsStreamingHasher(final long seed) {
+            this.seed = seed;
+            reset();
+        }
+
+        @Override
+        public StreamingHasher reset() {
+            v1 = seed + P1 + P2;
+            v2 = seed + P2;
+            v3 = seed;
+            v4 = seed - P1;
+            totalLen = 0;
+            bufferedSize = 0;
+            return this;
+        }
+
+        @Override
+        public <T> StreamingHasher update(final T input, final Access<T> access, long off, long len) {
+            final Access<T> accessLE = access.byteOrder(input, LITTLE_ENDIAN);
+            totalLen += len;
+
+            if (bufferedSize + len < 32) {
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, (int) len);
+                bufferedSize += (int) len;
+                return this;
+            }
+
+            if (0 != bufferedSize) {
+                final int loadSize = 32 - bufferedSize;
+                Util.copyBytes(input, accessLE, off, buffer, bufferedSize, loadSize);
+                consumeStripes(buffer, unsafeLE, UnsafeAccess.BYTE_BASE, 32);
+                off += loadSize;
+                len -= loadSize;
+                bufferedSize = 0;
+            }
+
+            final long stripesLen = len & ~31L;
+            consumeStripes(input, accessLE, off, stripesLen);
+
+            bufferedSize = (int) (len - stripesLen);
+            Util.copyBytes(input, accessLE, off + stripesLen, buffer, 0, bufferedSize);
+            return this;
+        }
+
+        private <T> void consumeStripes(final T input, final Access<T> access, long off, long len) {
+            long v1 = this.v1;
+            long v2 = this.v2;
+            long v3 = this.v3;
+            long v4 = this.v4;
+            for (; len >= 32; len -= 32, off += 32) {
+                v1 += access.i64(input, off) * P2;
+                v1 = Long.rotateLeft(v1, 31);
+                v1 *= P1;
+
+                v2 += access.i64(input, off + 8) * P2;
+                v2 = Long.rotateLeft(v2, 31);
+                v2 *= P1;
+
+                v3 += access.i64(input, off + 16) * P2;
+                v3 = Long.rotateLeft(v3, 31);
+                v3 *= P1;
+
+                v4 += access.i64(input, off + 24) * P2;
+                v4 = Long.rotateLeft(v4, 31);
+                v4 *= P1;
+            }
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        @Override
+        public long digest() {
+            long hash = totalLen >= 32 ? mergeAccumulators(v1, v2, v3, v4) : seed + P5;
+            hash += totalLen;
+            return finalizeTail(hash, buffer, unsafeLE, UnsafeAccess.BYTE_BASE, bufferedSize);
+        }
+    }
 }
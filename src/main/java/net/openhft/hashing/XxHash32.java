@@ -0,0 +1,199 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Adapted version of 32-bit xxHash (XXH32) implementation from https://github.com/Cyan4973/xxHash.
+ * This implementation provides endian-independant hash values, but it's slower on big-endian platforms.
+ */
+class XxHash32 {
+    // Primes if treated as unsigned
+    private static final int P1 = 0x9E3779B1;
+    private static final int P2 = 0x85EBCA77;
+    private static final int P3 = 0xC2B2AE3D;
+    private static final int P4 = 0x27D4EB2F;
+    private static final int P5 = 0x165667B1;
+
+    static <T> int xxHash32(int seed, T input, Access<T> access, long off, long length) {
+        int hash;
+        long remaining = length;
+
+        if (remaining >= 16) {
+            int v1 = seed + P1 + P2;
+            int v2 = seed + P2;
+            int v3 = seed;
+            int v4 = seed - P1;
+
+            do {
+                v1 += access.i32(input, off) * P2;
+                v1 = Integer.rotateLeft(v1, 13);
+                v1 *= P1;
+
+                v2 += access.i32(input, off + 4) * P2;
+                v2 = Integer.rotateLeft(v2, 13);
+                v2 *= P1;
+
+                v3 += access.i32(input, off + 8) * P2;
+                v3 = Integer.rotateLeft(v3, 13);
+                v3 *= P1;
+
+                v4 += access.i32(input, off + 12) * P2;
+                v4 = Integer.rotateLeft(v4, 13);
+                v4 *= P1;
+
+                off += 16;
+                remaining -= 16;
+            } while (remaining >= 16);
+
+            hash = Integer.rotateLeft(v1, 1)
+                + Integer.rotateLeft(v2, 7)
+                + Integer.rotateLeft(v3, 12)
+                + Integer.rotateLeft(v4, 18);
+        } else {
+            hash = seed + P5;
+        }
+
+        // the reference implementation adds the length modulo 2^32
+        hash += (int) length;
+
+        while (remaining >= 4) {
+            hash += access.i32(input, off) * P3;
+            hash = Integer.rotateLeft(hash, 17) * P4;
+            off += 4;
+            remaining -= 4;
+        }
+
+        while (remaining != 0) {
+            hash += access.u8(input, off) * P5;
+            hash = Integer.rotateLeft(hash, 11) * P1;
+            --remaining;
+            ++off;
+        }
+
+        return finalize(hash);
+    }
+
+    private static int finalize(int hash) {
+        hash ^= hash >>> 15;
+        hash *= P2;
+        hash ^= hash >>> 13;
+        hash *= P3;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    static IntHashFunction asIntHashFunctionWithoutSeed() {
+        return AsIntHashFunction.SEEDLESS_INSTANCE;
+    }
+
+    private static class AsIntHashFunction extends IntHashFunction {
+        private static final long serialVersionUID = 0L;
+        static final AsIntHashFunction SEEDLESS_INSTANCE = new AsIntHashFunction();
+        private static final int VOID_HASH = XxHash32.finalize(P5);
+
+        private Object readResolve() {
+            return SEEDLESS_INSTANCE;
+        }
+
+        public int seed() {
+            return 0;
+        }
+
+        @Override
+        public int hashLong(long input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int hash = seed() + P5 + 8;
+            hash += (int) input * P3;
+            hash = Integer.rotateLeft(hash, 17) * P4;
+            hash += (int) (input >>> 32) * P3;
+            hash = Integer.rotateLeft(hash, 17) * P4;
+            return XxHash32.finalize(hash);
+        }
+
+        @Override
+        public int hashInt(int input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int hash = seed() + P5 + 4;
+            hash += input * P3;
+            hash = Integer.rotateLeft(hash, 17) * P4;
+            return XxHash32.finalize(hash);
+        }
+
+        @Override
+        public int hashShort(short input) {
+            input = Primitives.nativeToLittleEndian(input);
+            int hash = seed() + P5 + 2;
+            hash += Primitives.unsignedByte(input) * P5;
+            hash = Integer.rotateLeft(hash, 11) * P1;
+            hash += Primitives.unsignedByte(input >> 8) * P5;
+            hash = Integer.rotateLeft(hash, 11) * P1;
+            return XxHash32.finalize(hash);
+        }
+
+        @Override
+        public int hashChar(char input) {
+            return hashShort((short) input);
+        }
+
+        @Override
+        public int hashByte(byte input) {
+            int hash = seed() + P5 + 1;
+            hash += Primitives.unsignedByte(input) * P5;
+            hash = Integer.rotateLeft(hash, 11) * P1;
+            return XxHash32.finalize(hash);
+        }
+
+        @Override
+        public int hashVoid() {
+            return VOID_HASH;
+        }
+
+        @Override
+        public <T> int hash(T input, Access<T> access, long off, long len) {
+            int seed = seed();
+            return XxHash32.xxHash32(seed, input, access.byteOrder(input, LITTLE_ENDIAN), off, len);
+        }
+    }
+
+    static IntHashFunction asIntHashFunctionWithSeed(int seed) {
+        return new AsIntHashFunctionSeeded(seed);
+    }
+
+    private static class AsIntHashFunctionSeeded extends AsIntHashFunction {
+        private static final long serialVersionUID = 0L;
+
+        private final int seed;
+        private final transient int voidHash;
+
+        private AsIntHashFunctionSeeded(int seed) {
+            this.seed = seed;
+            voidHash = XxHash32.finalize(seed + P5);
+        }
+
+        @Override
+        public int seed() {
+            return seed;
+        }
+
+        @Override
+        public int hashVoid() {
+            return voidHash;
+        }
+    }
+}
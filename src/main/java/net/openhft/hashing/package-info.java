@@ -28,6 +28,17 @@
  *         {@linkplain net.openhft.hashing.LongHashFunction#city_1_1(long, long) with two seeds}.
  *         </li>
  *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#city128low() low 64 bits of CityHash128
+ *         1.1 without seeds} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#city128low(long, long) with seeds}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#crc64Xz() CRC-64/XZ} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#crc64Nvme() CRC-64/NVME}, the checksums
+ *         of adjacent sequences being {@linkplain net.openhft.hashing.Crc64#combine(
+ *         net.openhft.hashing.LongHashFunction, long, long, long) combinable}.
+ *         </li>
+ *         <li>
  *         {@linkplain net.openhft.hashing.LongHashFunction#farmNa() FarmHash 1.0 (farmhashna)
  *         without seed}, {@linkplain net.openhft.hashing.LongHashFunction#farmNa(long) with one
  *         seed} and {@linkplain net.openhft.hashing.LongHashFunction#farmNa(long, long) with
@@ -40,18 +51,58 @@
  *         two seeds}.
  *         </li>
  *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#fnv1a() 64-bit FNV-1a}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#highway(long[]) 64-bit HighwayHash
+ *         with a key}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#komi() komihash without seed} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#komi(long) with a seed}.
+ *         </li>
+ *         <li>
  *         {@linkplain net.openhft.hashing.LongHashFunction#metro() MetroHash without seed} and
  *         {@linkplain net.openhft.hashing.LongHashFunction#metro(long) with a seed}.
  *         </li>
  *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#murmur_2() MurmurHash64A without seed} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#murmur_2(long) with a seed}.
+ *         </li>
+ *         <li>
  *         {@linkplain net.openhft.hashing.LongHashFunction#murmur_3() 64-bit MurmurHash3 without seed} and
  *         {@linkplain net.openhft.hashing.LongHashFunction#murmur_3(long) with a seed}.
  *         </li>
  *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#rapid() rapidhash without seed} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#rapid(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#sip_1_3(long, long) SipHash-1-3} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#sip_2_4(long, long) SipHash-2-4} with a
+ *         key, and {@linkplain net.openhft.hashing.LongHashFunction#randomlyKeyed() SipHash-1-3
+ *         with a random key}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#spooky_2() 64-bit SpookyHash V2 without
+ *         seed} and {@linkplain net.openhft.hashing.LongHashFunction#spooky_2(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#t1ha1_le() t1ha1_le without seed},
+ *         {@linkplain net.openhft.hashing.LongHashFunction#t1ha1_le(long) with a seed},
+ *         {@linkplain net.openhft.hashing.LongHashFunction#t1ha2_atonce() t1ha2_atonce without
+ *         seed} and {@linkplain net.openhft.hashing.LongHashFunction#t1ha2_atonce(long) with a
+ *         seed}.
+ *         </li>
+ *         <li>
  *         {@linkplain net.openhft.hashing.LongHashFunction#wy_3() WyHash v3 without seed} and
  *         {@linkplain net.openhft.hashing.LongHashFunction#wy_3(long) with a seed}.
  *         </li>
  *         <li>
+ *         {@linkplain net.openhft.hashing.LongHashFunction#wy_4() WyHash final version 4 without seed} and
+ *         {@linkplain net.openhft.hashing.LongHashFunction#wy_4(long) with a seed}.
+ *         </li>
+ *         <li>
  *         {@linkplain net.openhft.hashing.LongHashFunction#xx() xxHash without seed} and
  *         {@linkplain net.openhft.hashing.LongHashFunction#xx(long) with a seed}.
  *         </li>
@@ -59,6 +110,54 @@
  *     </li>
  * </ul>
  *
+ * <p>API for hashing sequential data to 32-bit result, mostly for compatibility with existing
+ * formats and protocols.
+ *
+ * <p>Currently implemented (in alphabetical order):
+ * <ul>
+ *     <li>{@code int}-valued functions: see {@link net.openhft.hashing.IntHashFunction}
+ *     <ul>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#city_1_1() CityHash32, version 1.1} and
+ *         {@linkplain net.openhft.hashing.IntHashFunction#city_1_1(int) farmhashcc with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#crc32c() CRC-32C}, the checksums of
+ *         adjacent sequences being {@linkplain net.openhft.hashing.Crc32C#combine(int, int, long)
+ *         combinable}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#farmMk() FarmHash 32-bit (farmhashmk)
+ *         without seed} and {@linkplain net.openhft.hashing.IntHashFunction#farmMk(int) with a
+ *         seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#fnv1a() 32-bit FNV-1a}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#halfSip_2_4(long) HalfSipHash-2-4 with a
+ *         key}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#murmur_2() 32-bit MurmurHash2 without
+ *         seed} and {@linkplain net.openhft.hashing.IntHashFunction#murmur_2(int) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#murmur_3() 32-bit MurmurHash3 (x86_32)
+ *         without seed} and {@linkplain net.openhft.hashing.IntHashFunction#murmur_3(int) with a
+ *         seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.IntHashFunction#xx32() XXH32 without seed} and
+ *         {@linkplain net.openhft.hashing.IntHashFunction#xx32(int) with a seed}.
+ *         </li>
+ *     </ul>
+ *     </li>
+ * </ul>
+ *
+ * <p>{@link net.openhft.hashing.KafkaPartitioner} computes the partitions of Kafka's default
+ * partitioner with MurmurHash2, over {@code String} keys, byte arrays and buffers.
+ *
  * <p>API for hashing sequential data to more than 64-bit result, pretty fast implementations of
  * non-cryptographic hash functions.
  *
@@ -67,11 +166,91 @@
  *     <li>{@code long[]}-valued functions: see {@link net.openhft.hashing.LongTupleHashFunction}
  *     <ul>
  *         <li>
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#city_1_1() 128-bit CityHash 1.1
+ *         without seeds} and
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#city_1_1(long, long) with seeds}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#farmFingerprint128() 128-bit
+ *         FarmHash Fingerprint128}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#highway128(long[]) 128-bit} and
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#highway256(long[]) 256-bit
+ *         HighwayHash with a key}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#metro128() 128-bit MetroHash without seed}
+ *         and {@linkplain net.openhft.hashing.LongTupleHashFunction#metro128(long) with a seed}.
+ *         </li>
+ *         <li>
  *         {@linkplain net.openhft.hashing.LongTupleHashFunction#murmur_3() 128-bit MurmurHash3 without seed}
  *         and {@linkplain net.openhft.hashing.LongTupleHashFunction#murmur_3(long) with a seed}.
  *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#spooky_2() 128-bit SpookyHash V2
+ *         without seeds} and
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#spooky_2(long, long) with seeds}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#t1ha2_atonce128() 128-bit
+ *         t1ha2_atonce128 without seed} and
+ *         {@linkplain net.openhft.hashing.LongTupleHashFunction#t1ha2_atonce128(long) with a seed}.
+ *         </li>
  *     </ul>
  *     </li>
  * </ul>
+ *
+ * <p>API for hashing byte sequences fed in several parts, producing the same results as the
+ * one-shot functions above.
+ *
+ * <p>Currently implemented (in alphabetical order):
+ * <ul>
+ *     <li>incremental hashers: see {@link net.openhft.hashing.StreamingHasher}
+ *     <ul>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.StreamingHasher#komi() komihash without seed} and
+ *         {@linkplain net.openhft.hashing.StreamingHasher#komi(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.StreamingHasher#metro() MetroHash without seed} and
+ *         {@linkplain net.openhft.hashing.StreamingHasher#metro(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.StreamingHasher#murmur_3() 128-bit MurmurHash3 without
+ *         seed} and {@linkplain net.openhft.hashing.StreamingHasher#murmur_3(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.StreamingHasher#xx() xxHash without seed} and
+ *         {@linkplain net.openhft.hashing.StreamingHasher#xx(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.StreamingHasher#xx3() XXH3 64-bit without seed} and
+ *         {@linkplain net.openhft.hashing.StreamingHasher#xx3(long) with a seed}.
+ *         </li>
+ *         <li>
+ *         {@linkplain net.openhft.hashing.StreamingHasher#xx128() XXH3 128-bit without seed} and
+ *         {@linkplain net.openhft.hashing.StreamingHasher#xx128(long) with a seed}.
+ *         </li>
+ *     </ul>
+ *     </li>
+ * </ul>
+ *
+ * <p>{@link net.openhft.hashing.HashingInputStream},
+ * {@link net.openhft.hashing.HashingOutputStream} and
+ * {@link net.openhft.hashing.HashingWritableByteChannel} feed a {@code StreamingHasher} with the
+ * bytes passing through them, so that data is hashed while it is copied, without a second pass.
+ *
+ * <p>{@link net.openhft.hashing.TreeHashFunction} hashes large inputs on several cores, with a
+ * tree of XXH3 or XXH128 hashes which doesn't depend on the parallelism.
+ * {@link net.openhft.hashing.Crc64} combines the CRC-64 checksums of adjacent parts, so large
+ * regions are checksummed on several cores too.
+ * {@link net.openhft.hashing.BlockHashIndex} indexes the blocks of a byte sequence for
+ * rsync-style delta detection.
+ *
+ * <p>{@link net.openhft.hashing.RollingHashFunction} hashes a sliding window of bytes, and moves
+ * it by one byte in constant time: Buzhash, Gear and 64-bit polynomial Rabin-Karp.
+ * {@link net.openhft.hashing.FastCdcChunker} splits byte sequences into content-defined chunks
+ * with FastCDC over the Gear hash, and fingerprints them with XXH128.
  */
 package net.openhft.hashing;
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BlockHashIndexTest {
+
+    private static final int BLOCK_SIZE = 1000;
+
+    private static byte[] data(int len, long seed) {
+        final byte[] data = new byte[len];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Records the reported ranges, as {offset, length, oldOffset} triples, oldOffset -1 for
+     * changed ranges.
+     */
+    private static class Recorder implements BlockHashIndex.DiffListener {
+        final List<long[]> ranges = new ArrayList<long[]>();
+
+        @Override
+        public void matched(long offset, long length, long oldOffset) {
+            ranges.add(new long[] {offset, length, oldOffset});
+        }
+
+        @Override
+        public void changed(long offset, long length) {
+            ranges.add(new long[] {offset, length, -1});
+        }
+
+        long changedBytes() {
+            long n = 0;
+            for (final long[] range : ranges) {
+                if (range[2] < 0) {
+                    n += range[1];
+                }
+            }
+            return n;
+        }
+    }
+
+    private static Recorder diff(BlockHashIndex index, byte[] data) {
+        final Recorder recorder = new Recorder();
+        index.diffBytes(data, recorder);
+        return recorder;
+    }
+
+    /**
+     * Checks that the ranges cover the new version, and rebuilds it from the old version and the
+     * changed ranges, as a replica would.
+     */
+    private static void checkDelta(byte[] oldData, byte[] newData, Recorder recorder) {
+        final ByteArrayOutputStream rebuilt = new ByteArrayOutputStream();
+        long expectedOffset = 0;
+        long[] previous = null;
+        for (final long[] range : recorder.ranges) {
+            assertEquals("continuous ranges", expectedOffset, range[0]);
+            assertTrue("non-empty range", range[1] > 0);
+            if (previous != null && previous[2] < 0) {
+                assertTrue("changed ranges are merged", range[2] >= 0);
+            }
+            if (range[2] >= 0) {
+                rebuilt.write(oldData, (int) range[2], (int) range[1]);
+            } else {
+                rebuilt.write(newData, (int) range[0], (int) range[1]);
+            }
+            expectedOffset += range[1];
+            previous = range;
+        }
+        assertEquals("covered length", newData.length, expectedOffset);
+        assertArrayEquals("rebuilt", newData, rebuilt.toByteArray());
+    }
+
+    @Test
+    public void testSameVersion() {
+        for (final int len : new int[] {0, 1, BLOCK_SIZE - 1, BLOCK_SIZE, 10 * BLOCK_SIZE,
+                10 * BLOCK_SIZE + 123}) {
+            final byte[] data = data(len, len);
+            final BlockHashIndex index = BlockHashIndex.ofBytes(data, BLOCK_SIZE);
+            assertEquals(len, index.length());
+            assertEquals((len + BLOCK_SIZE - 1) / BLOCK_SIZE, index.blockCount());
+            final Recorder recorder = diff(index, data);
+            checkDelta(data, data, recorder);
+            if (len > 0) {
+                assertEquals("single matched range, len " + len, 1, recorder.ranges.size());
+                assertEquals(0, recorder.changedBytes());
+            }
+        }
+    }
+
+    @Test
+    public void testEdits() {
+        final byte[] oldData = data(100 * BLOCK_SIZE + 345, 1);
+        final BlockHashIndex index = BlockHashIndex.ofBytes(oldData, BLOCK_SIZE);
+
+        // insertion in the middle of a block shifts all the following blocks
+        final byte[] inserted = edit(oldData, 5500, 0, data(77, 2));
+        Recorder recorder = diff(index, inserted);
+        checkDelta(oldData, inserted, recorder);
+        assertEquals(BLOCK_SIZE + 77, recorder.changedBytes());
+
+        final byte[] deleted = edit(oldData, 20100, 300, new byte[0]);
+        recorder = diff(index, deleted);
+        checkDelta(oldData, deleted, recorder);
+        assertEquals(BLOCK_SIZE - 300, recorder.changedBytes());
+
+        final byte[] overwritten = edit(oldData, 42000, 10, data(10, 3));
+        recorder = diff(index, overwritten);
+        checkDelta(oldData, overwritten, recorder);
+        assertEquals(BLOCK_SIZE, recorder.changedBytes());
+
+        final byte[] appended = edit(oldData, oldData.length, 0, data(5000, 4));
+        recorder = diff(index, appended);
+        checkDelta(oldData, appended, recorder);
+        // the last, shorter block is only found at the end
+        assertEquals(345 + 5000, recorder.changedBytes());
+
+        final byte[] truncated = Arrays.copyOf(oldData, oldData.length - 1);
+        recorder = diff(index, truncated);
+        checkDelta(oldData, truncated, recorder);
+        assertEquals(344, recorder.changedBytes());
+
+        final byte[] unrelated = data(oldData.length, 5);
+        recorder = diff(index, unrelated);
+        checkDelta(oldData, unrelated, recorder);
+        assertEquals(1, recorder.ranges.size());
+        assertEquals(unrelated.length, recorder.changedBytes());
+    }
+
+    private static byte[] edit(byte[] data, int off, int removed, byte[] insert) {
+        final byte[] result = new byte[data.length - removed + insert.length];
+        System.arraycopy(data, 0, result, 0, off);
+        System.arraycopy(insert, 0, result, off, insert.length);
+        System.arraycopy(data, off + removed, result, off + insert.length,
+                data.length - off - removed);
+        return result;
+    }
+
+    @Test
+    public void testStreaming() {
+        final byte[] oldData = data(50 * BLOCK_SIZE + 17, 6);
+        final BlockHashIndex index = BlockHashIndex.ofBytes(oldData, BLOCK_SIZE);
+        final byte[] newData = edit(edit(oldData, 30000, 0, data(5, 7)), 1234, 100, data(3, 8));
+        final List<long[]> expected = diff(index, newData).ranges;
+
+        final Recorder recorder = new Recorder();
+        final BlockHashIndex.Differ differ = index.newDiffer(recorder);
+        for (final int chunk : new int[] {1, 7, 999, 1000, 1001, 4096}) {
+            recorder.ranges.clear();
+            for (int off = 0; off < newData.length; off += chunk) {
+                differ.updateBytes(newData, off, Math.min(chunk, newData.length - off));
+            }
+            differ.finish();
+            assertRangesEqual(expected, recorder.ranges);
+        }
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(newData.length);
+        direct.put(newData);
+        recorder.ranges.clear();
+        index.diffMemory(Util.getDirectBufferAddress(direct), newData.length, recorder);
+        assertRangesEqual(expected, recorder.ranges);
+    }
+
+    private static void assertRangesEqual(List<long[]> expected, List<long[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        final byte[] data = data(30 * BLOCK_SIZE + 99, 9);
+        final Path path = Files.createTempFile("zero-allocation-hashing", ".bin");
+        try {
+            Files.write(path, data);
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                final BlockHashIndex index = BlockHashIndex.ofFile(channel, 0, data.length,
+                        BLOCK_SIZE);
+                assertIndexEquals(BlockHashIndex.ofBytes(data, BLOCK_SIZE), index);
+                final Recorder recorder = new Recorder();
+                index.diffFile(channel, 0, data.length, recorder);
+                assertEquals(1, recorder.ranges.size());
+                assertArrayEquals(new long[] {0, data.length, 0}, recorder.ranges.get(0));
+            } finally {
+                channel.close();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        final byte[] oldData = data(20 * BLOCK_SIZE + 5, 10);
+        final BlockHashIndex index = BlockHashIndex.ofBytes(oldData, BLOCK_SIZE);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(index);
+        oos.close();
+        final BlockHashIndex copy = (BlockHashIndex) new ObjectInputStream(
+                new ByteArrayInputStream(out.toByteArray())).readObject();
+        assertIndexEquals(index, copy);
+        final byte[] newData = edit(oldData, 7000, 1, new byte[0]);
+        assertRangesEqual(diff(index, newData).ranges, diff(copy, newData).ranges);
+    }
+
+    private static void assertIndexEquals(BlockHashIndex expected, BlockHashIndex actual) {
+        assertEquals(expected.blockSize(), actual.blockSize());
+        assertEquals(expected.length(), actual.length());
+        assertEquals(expected.blockCount(), actual.blockCount());
+        final long[] e = new long[2];
+        final long[] a = new long[2];
+        for (int block = 0; block < expected.blockCount(); block++) {
+            assertEquals(expected.weakHash(block), actual.weakHash(block));
+            expected.strongHash(block, e);
+            actual.strongHash(block, a);
+            assertArrayEquals(e, a);
+        }
+    }
+
+    @Test
+    public void testStrongHash() {
+        final byte[] data = data(3 * BLOCK_SIZE + 1, 11);
+        final BlockHashIndex index = BlockHashIndex.ofBytes(data, BLOCK_SIZE);
+        final long[] actual = new long[2];
+        index.strongHash(1, actual);
+        assertArrayEquals(LongTupleHashFunction.xx128().hashBytes(data, BLOCK_SIZE, BLOCK_SIZE),
+                actual);
+        index.strongHash(3, actual);
+        assertArrayEquals(LongTupleHashFunction.xx128().hashBytes(data, 3 * BLOCK_SIZE, 1),
+                actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadBlockSize() {
+        BlockHashIndex.ofBytes(new byte[10], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLargeBlockSize() {
+        BlockHashIndex.ofBytes(new byte[10], (1 << 29) + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyBlocks() {
+        // rejected before any byte is read
+        BlockHashIndex.ofMemory(0L, BlockHashIndex.MAX_BLOCK_COUNT + 1L, 1);
+    }
+}
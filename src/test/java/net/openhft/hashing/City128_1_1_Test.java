@@ -0,0 +1,4208 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.runners.Parameterized.Parameter;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class City128_1_1_Test {
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[] {len});
+        }
+        return data;
+    }
+
+    @Parameter
+    public int len;
+
+    @Test
+    public void testCityWithoutSeeds() {
+        test(LongTupleHashFunction.city_1_1(), LongHashFunction.city128low(),
+                HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_LOW, HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_HIGH);
+    }
+
+    @Test
+    public void testFarmFingerprint128() {
+        test(LongTupleHashFunction.farmFingerprint128(), LongHashFunction.city128low(),
+                HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_LOW, HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_HIGH);
+    }
+
+    @Test
+    public void testCityWithSeeds() {
+        test(LongTupleHashFunction.city_1_1(42L, 0L), LongHashFunction.city128low(42L, 0L),
+                HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_0_LOW, HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_0_HIGH);
+    }
+
+    public void test(LongTupleHashFunction city, LongHashFunction cityLow,
+                     long[] hashesOfLoopingBytesLow, long[] hashesOfLoopingBytesHigh) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        LongTupleHashFunctionTest.test(city, data,
+                new long[] {hashesOfLoopingBytesLow[len], hashesOfLoopingBytesHigh[len]});
+        LongHashFunctionTest.test(cityLow, data, hashesOfLoopingBytesLow[len]);
+    }
+
+// The following numbers is the result of compiling & running this program
+// with city-1.1.1, reference impl:
+//
+//    #include <stdlib.h>
+//    #include <stdio.h>
+//    #include <city.h>
+//
+//     main() {
+//        char* src = (char*) malloc(1024);
+//        for (int i = 0; i < 1024; i++) {
+//            src[i] = (char) i;
+//        }
+//        printf("without seeds\n");
+//        for (int i = 0; i <= 1024; i++) {
+//            uint128 h = CityHash128(src, i);
+//            printf("%lldL, %lldL,\n", (long long) Uint128Low64(h), (long long) Uint128High64(h));
+//        }
+//        printf("with seeds 42, 0\n");
+//        for (int i = 0; i <= 1024; i++) {
+//            uint128 h = CityHash128WithSeed(src, i, uint128(42, 0));
+//            printf("%lldL, %lldL,\n", (long long) Uint128Low64(h), (long long) Uint128High64(h));
+//        }
+//    }
+
+    static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_LOW = {
+            4463240938071824939L,
+            5654565074323204601L,
+            2973017826904383710L,
+            -5919899154589050611L,
+            4844027898461902143L,
+            -1209664270422167828L,
+            7650348791440462460L,
+            5592107282690480395L,
+            6091251034449587430L,
+            7670994541072983352L,
+            5638632173106157853L,
+            -3109294706459231109L,
+            -3383203716792893837L,
+            1722251190958231480L,
+            -985030981930807021L,
+            5941484471838978439L,
+            3255165615793083961L,
+            7339366232931898420L,
+            -1448997485880073147L,
+            1599105554606928317L,
+            5543819051904837013L,
+            5685433158511788784L,
+            510389869115363269L,
+            -7242299351757667914L,
+            -915165731700779001L,
+            -6211772131586467844L,
+            -1675695059603049097L,
+            -1948583673630549494L,
+            8661985152476697151L,
+            5171006417278490266L,
+            5362719733249938923L,
+            -2746150823208177893L,
+            3346320510874643745L,
+            4048615582291913L,
+            2135193302705500225L,
+            -6065137364887605126L,
+            -3343130171059818569L,
+            6084577940298831707L,
+            -3293783277709911356L,
+            2300691703018379529L,
+            5043947221193320452L,
+            8415520483035095011L,
+            1834620564515975303L,
+            3510523562282286260L,
+            -2670723998112716741L,
+            -4776104971943447010L,
+            6177083267627569555L,
+            5827252856647326661L,
+            -5566896945935683825L,
+            1399041664961454208L,
+            -3340669815949345028L,
+            -8584890888109331841L,
+            -2452022579978527476L,
+            -9097685018335870523L,
+            2490056641023641539L,
+            6995454191919281096L,
+            5215794233766571985L,
+            2208663290569336857L,
+            -4234143824583288168L,
+            2343259850205639081L,
+            6615613921793902510L,
+            -6688408046574327941L,
+            2458677735023940182L,
+            3977029928008817755L,
+            -887295237368355015L,
+            -7583235539831434447L,
+            8642572079777480758L,
+            -2657576038701305940L,
+            -3208047470293637022L,
+            -6347937597417429272L,
+            -4684303166059352118L,
+            -7736115553956874298L,
+            4266939976812465289L,
+            -4139734263570466840L,
+            6868880097723437160L,
+            -5909850744130034230L,
+            7984555048195755213L,
+            6703881783864172379L,
+            -4812216037656650647L,
+            -4351877392865724489L,
+            -8648883944691646219L,
+            16064017892809632L,
+            -1730600163843469771L,
+            -2750095867176231543L,
+            5906907816328193875L,
+            7997419851970841409L,
+            7640867007586492564L,
+            -4872979432001414308L,
+            1266513221264673708L,
+            7831748432162472174L,
+            5734545099035311676L,
+            1674698753329128590L,
+            -2150243438702726938L,
+            8396967579270052198L,
+            8620447155625238151L,
+            -8117209520745883400L,
+            8228759909637044308L,
+            -4583001748593407496L,
+            8684208142548063806L,
+            401278790227946521L,
+            -9037585241212629393L,
+            2741565239162244025L,
+            -3829986122700300176L,
+            5111087611143437342L,
+            -5693612191214432288L,
+            4618324708501581646L,
+            8040141033347047624L,
+            2952888725993241097L,
+            -6169632755581617174L,
+            -8802641423660150820L,
+            -1521550508554493928L,
+            5172665432511039576L,
+            412325385361248026L,
+            -6680975916452745005L,
+            6615432253768760620L,
+            5936121779794027453L,
+            278244444445780968L,
+            5298345223338776515L,
+            -5078768211672655386L,
+            2012982680988429770L,
+            6946071576735016849L,
+            -7758150732624892130L,
+            -5278172337674828145L,
+            7270952421920117302L,
+            -8927137708163059632L,
+            4163751077174257564L,
+            -4549969220715735907L,
+            4796251113509161169L,
+            -7458184564870852249L,
+            1955489362519388485L,
+            -8366636455050939455L,
+            -9088771087289062461L,
+            6048586182613602919L,
+            -4402114628266566926L,
+            -2758061312790095096L,
+            -1975196577876170509L,
+            -6266803989195085013L,
+            3090586126959134988L,
+            -1347358402011342700L,
+            2254162973647023994L,
+            2086636767761084387L,
+            8882102077497397049L,
+            4838143390562082866L,
+            6168517493151701505L,
+            1271118513972450126L,
+            -4168239307526120542L,
+            -8119843698842041898L,
+            -8449466457302321403L,
+            986810726967852854L,
+            -6999507753348422633L,
+            -2272271016404537266L,
+            -7464849720097282463L,
+            8987050107578216485L,
+            -2451894101562572414L,
+            3227548056266075475L,
+            -4655210928223884861L,
+            4127868540477732976L,
+            -2256110336589748933L,
+            -7440425988586978304L,
+            -6734836367595157320L,
+            583983247489730066L,
+            -119554202008118894L,
+            5340088652710078014L,
+            6816327908776797051L,
+            4596048596409538330L,
+            7851552591790599238L,
+            6880501883891599800L,
+            6689974045371468955L,
+            -4752213368547250748L,
+            990391372339308114L,
+            6954157364077062664L,
+            690988985544179542L,
+            1827837458877182816L,
+            -1018655254356383365L,
+            150889669235026073L,
+            3382200074244545343L,
+            -6393498515745692732L,
+            7254799886350575030L,
+            2399055314916245553L,
+            6711008950567592811L,
+            -1414327647851797L,
+            -5816756775806472242L,
+            7914480295399932149L,
+            -1362583577163241998L,
+            9062048041538358386L,
+            2913287738968551772L,
+            -3399545179025467831L,
+            -5265623886054033420L,
+            5885071858732810355L,
+            7613870485124384820L,
+            -2534630125502785388L,
+            -7300486424885479784L,
+            1323596522956568310L,
+            -2528998414463958687L,
+            -3895165234438445156L,
+            -4626843320624795469L,
+            -1864930179702946328L,
+            7819020685277520712L,
+            6241743753402805976L,
+            7072566438127272080L,
+            295851137082666903L,
+            -8635138436444052306L,
+            -1791117886075501553L,
+            -7100576646246236828L,
+            3299807725103339681L,
+            -2407342795128521912L,
+            5883272771299984411L,
+            271807316737840286L,
+            -555368528345179804L,
+            7198339541120394883L,
+            1582371641134713387L,
+            -6153570943743016998L,
+            -8860017651262375743L,
+            7461824550160746972L,
+            -1701702026376478071L,
+            1028761086748210982L,
+            -4599268189774728453L,
+            538010180606070196L,
+            -2114719119609190503L,
+            8633410616042782218L,
+            -407347677490965438L,
+            389331540326865103L,
+            5411966735369916316L,
+            -6349884903557214460L,
+            3098794129380575410L,
+            1526938562703969206L,
+            -6888357688736437935L,
+            -6664793805841005591L,
+            4780467526767585377L,
+            5076771567343525944L,
+            -5567921926023770189L,
+            -2061343086055182557L,
+            5452853470869854673L,
+            6033875225956350655L,
+            1652588920014547070L,
+            2615167671129502715L,
+            -6948577517704409608L,
+            2153276674417006695L,
+            -365966341759174053L,
+            2245925897591643479L,
+            -3619086918076763261L,
+            4327886948096436238L,
+            3992351030799545302L,
+            -2552691180287051844L,
+            5783545370700245781L,
+            6689729026815320428L,
+            4471540907976016597L,
+            -8537283718488325976L,
+            -9012827310217780173L,
+            5943505364320150072L,
+            6325909313880577579L,
+            5430804742771758023L,
+            8055936799873559651L,
+            3353067444957935468L,
+            745567085747871789L,
+            6947542547852672342L,
+            -5247738531519447504L,
+            3994060972774083904L,
+            8780798666251289862L,
+            -8898010350964121956L,
+            -5627659866839310901L,
+            9185561240055921261L,
+            -3397677240970794807L,
+            -8893611248778356256L,
+            1660516953626155680L,
+            -7494857499108542289L,
+            3283600469894694591L,
+            -1513731666487107832L,
+            -2341583399054294009L,
+            -8599326791940696487L,
+            8795478138616198001L,
+            -2799473478951448279L,
+            -6619571440459642338L,
+            -6765135528927002968L,
+            -4937191521297339430L,
+            -3787842145909466511L,
+            -7196413552058016309L,
+            8755564426320659597L,
+            -988604082361167910L,
+            3522709740112917948L,
+            -7679047013284265309L,
+            7238913251446973126L,
+            -2556913854607452378L,
+            -397281817233280865L,
+            -2274633582263139475L,
+            -3589433282815956746L,
+            -7167673196669165283L,
+            14001962705980619L,
+            -6446876539421021006L,
+            3144862892109859699L,
+            -5700485414640426924L,
+            8765769916435161213L,
+            -6204102880787781501L,
+            -4063499307500284409L,
+            -1697553240742830185L,
+            7885744957257164837L,
+            -2054284658741903855L,
+            6993591079006745428L,
+            8438987155489406229L,
+            3386282392705442180L,
+            -2928428021411096924L,
+            5096055800299991186L,
+            -8672302807831099932L,
+            -7545862897037767978L,
+            -8570116041549350468L,
+            4803251136505111973L,
+            -6123482136574029113L,
+            2498352438702457313L,
+            -2105686120484868863L,
+            8974129438518293739L,
+            -7415876949282676608L,
+            4919173094980444869L,
+            -3876405458698594700L,
+            -699059048922880260L,
+            1238179920259301893L,
+            -2599309319684948750L,
+            7699947049450384805L,
+            860823239627655654L,
+            -8528541010651320950L,
+            1762457827576296187L,
+            8447527275320237686L,
+            4961054143536302262L,
+            2612664835357604247L,
+            -7715241835464149315L,
+            2783849170474784634L,
+            3112550784285670465L,
+            3177530932139139311L,
+            -2098497897119711167L,
+            -536239064631251240L,
+            -3299260218415640783L,
+            2134996453995448442L,
+            -6110767666153727207L,
+            -5703522972893340354L,
+            -4780592489407211221L,
+            -6897004567937515454L,
+            -5222473053645022881L,
+            -2900824315317656988L,
+            2766329895381354574L,
+            8023644312946187895L,
+            -6433329389347547999L,
+            4042864642189047008L,
+            -4131826565389500989L,
+            -7265259844400174541L,
+            1098632500566265320L,
+            2704900888694073017L,
+            386947369839598080L,
+            819637835894071067L,
+            6117874125147822493L,
+            -7258560544123171705L,
+            -6995309188704068850L,
+            -3137659844043271002L,
+            -8825375015536856252L,
+            7929322084979560395L,
+            2363990250753842310L,
+            4636805092607563793L,
+            5274812158663256406L,
+            -1264925805269348202L,
+            -8879676749024637291L,
+            -3085140855856883745L,
+            4113261920055865407L,
+            3676397235679388581L,
+            2913643059014928332L,
+            -2678822917114192377L,
+            -4910249424223521010L,
+            -6710893787821737871L,
+            3962389696056031699L,
+            -2341509569872802066L,
+            2976109597621495872L,
+            -988700327685492563L,
+            -5158971212491825643L,
+            6358236879181939426L,
+            -8593274001188845185L,
+            -939592076002286404L,
+            5517026339557101624L,
+            -7704387260879358051L,
+            -5563128431633069524L,
+            -9012648058060707344L,
+            4660670432650109222L,
+            3968190336937261816L,
+            -3021649732202491226L,
+            6308503579107055949L,
+            -75960327975783742L,
+            -4208212281352831214L,
+            -6483954786996890L,
+            -7055309342344085821L,
+            2949787490536784794L,
+            1035912949563164814L,
+            -7707236114159102125L,
+            4459998804829329483L,
+            554910701512768115L,
+            7997281919026117837L,
+            -9191331376747737346L,
+            7636877821745302728L,
+            -957718188550978912L,
+            7288505358835655515L,
+            7186901359257649064L,
+            3795924829372548352L,
+            -1628570838410037737L,
+            -243559096604341366L,
+            895691615969489621L,
+            -4148817788922157507L,
+            879893826441280176L,
+            -1688148082816963039L,
+            -2408331653146978601L,
+            2593859081294151503L,
+            -3482050183008522953L,
+            2211520982729067039L,
+            -1034942422361001912L,
+            -431143236458612123L,
+            5788748602469819711L,
+            6094886228399205019L,
+            5453719461824760846L,
+            -6270250639545218280L,
+            -6856708502158481117L,
+            -7636104398910742242L,
+            -5601132393052320144L,
+            -58925426019866669L,
+            -1263298329328287702L,
+            -144650705111598501L,
+            7284695936095850679L,
+            -8329017788883832254L,
+            -5540807134155357645L,
+            6913092339798118935L,
+            558250627012445122L,
+            -7387669205069040280L,
+            1374684922038344947L,
+            665444231749623685L,
+            -7139982011816143194L,
+            -345980048753535606L,
+            -8396303602609683394L,
+            3944986520663523586L,
+            3327375382223312731L,
+            -5226477472113382155L,
+            6660828643389412713L,
+            8620695077798227592L,
+            3612019569464813226L,
+            4733283419150814236L,
+            -7443329342370363902L,
+            8473662889565466104L,
+            7403246149487108624L,
+            -4968166114392660111L,
+            -5158176080121685978L,
+            -6144879531076208793L,
+            4453689527540843363L,
+            -3561552255949421927L,
+            4064191946838826149L,
+            -8391196667662509312L,
+            -4479595755971338080L,
+            3034578997604829838L,
+            -63840845785826353L,
+            6423880142613360231L,
+            1713709430502548572L,
+            -3772876046124510760L,
+            -928481051024779137L,
+            4124123424220016170L,
+            -180597960442854907L,
+            848634370769052246L,
+            -2875124495025604102L,
+            -7074908093871153969L,
+            -7112921454908933449L,
+            2932347908646655342L,
+            4106087858857868899L,
+            -2546318464572594900L,
+            -7638886400623427138L,
+            3007444907568090076L,
+            4353493164340986406L,
+            9096114939800223904L,
+            3311109120775445017L,
+            -5598192521781519384L,
+            7279629004658054652L,
+            1243372625779387144L,
+            2175409391213123981L,
+            -5635983962296505144L,
+            -6045495753449602044L,
+            -4929736435709040923L,
+            -5094771313825286263L,
+            1022876631604678100L,
+            2343721654333963248L,
+            3217328185348316779L,
+            -6418378581439035498L,
+            -3147219767717310131L,
+            4650320174257785702L,
+            -1395809714795926867L,
+            -4650333349005836669L,
+            5642559187474812129L,
+            -6687614926244803899L,
+            1543630128040295898L,
+            -6355740389659569128L,
+            -3621776659308373358L,
+            5016554918872371070L,
+            -5579726105391333088L,
+            3903170093773997145L,
+            -5302925542097353075L,
+            242810781509426527L,
+            1367697152242269926L,
+            2678029007188310162L,
+            -8724390040212116698L,
+            3200445574154962033L,
+            -4239299355647268911L,
+            8032303313127645630L,
+            -3255685375740835933L,
+            -7493188448222816514L,
+            1595460409230332681L,
+            3709336111709361279L,
+            -900843843978258941L,
+            970631713289544271L,
+            -8994034696098776141L,
+            -2172210716042140844L,
+            734794828274364422L,
+            -8430111267003544526L,
+            -1545510028287563275L,
+            3616699174919422284L,
+            -7591871876111916782L,
+            -3503704924812366072L,
+            -2808402894323761551L,
+            -7838814435832905381L,
+            3463830223079437326L,
+            5315523311820983737L,
+            5213368775045645346L,
+            3115005803881422189L,
+            -4335935381407280579L,
+            -1037886915982532957L,
+            -8350000001980403450L,
+            8941165435563484067L,
+            -7609231909026079127L,
+            -1789178450686435342L,
+            4237117559490171380L,
+            4225136084199204353L,
+            -1790565812578456007L,
+            -4279272157797987884L,
+            7430219762604913933L,
+            6473827827133328225L,
+            -7140186889747197579L,
+            4417095620751606638L,
+            -7062057594936664838L,
+            -2672768061363505712L,
+            -3723624735560153984L,
+            2440041839266827110L,
+            2152808490802880787L,
+            3936692577992264251L,
+            -4158221544875248005L,
+            1112197282594747387L,
+            8610095785706084131L,
+            7348293605642704367L,
+            -1568889678640722740L,
+            -4521232683464319427L,
+            -5798559955095832512L,
+            -8575513446194653575L,
+            8063379799747938018L,
+            -141009130885274537L,
+            -8843056468685446422L,
+            -6390345855764698774L,
+            -1839831176667871209L,
+            -3981155471482000820L,
+            -483692828650626234L,
+            3607754320783007293L,
+            6778307317435292171L,
+            -5180987370063860969L,
+            7559553492135767453L,
+            -989321607906917332L,
+            -545879048283477144L,
+            6770996120082991177L,
+            3416034070386637550L,
+            4829876700421997404L,
+            40585892304255994L,
+            3716053575057985147L,
+            -5136163557300969403L,
+            -3180924549177709531L,
+            5840223588863064015L,
+            6474188491833185001L,
+            838008834165499590L,
+            -3450832839002171751L,
+            -3611042766265187696L,
+            -7879801406564679682L,
+            9006860165971061045L,
+            -1122522624148092226L,
+            -8092531006494615980L,
+            -356768929063197882L,
+            -3370638763126305954L,
+            -8466970150021239202L,
+            -3496217212968530715L,
+            -8874370600113874424L,
+            4396225757022719425L,
+            6534767548454904314L,
+            -4504514594185567443L,
+            6842176188594335796L,
+            7414060904917291217L,
+            -6425670020496407495L,
+            -732696026557529081L,
+            8447002060227976569L,
+            -1474255012908979371L,
+            2475681483687723085L,
+            3513572612732843219L,
+            -3335895663459909230L,
+            -7981586959313749893L,
+            -4621169365491838839L,
+            5695309769214881993L,
+            8647943417445888792L,
+            -6140404412820749872L,
+            7738914247377704430L,
+            -2965037659716247588L,
+            -6039509832186255097L,
+            3931013787288246110L,
+            3754687176156815114L,
+            -8290371428562627719L,
+            933074526241027148L,
+            4710178035126029652L,
+            7301788045595954428L,
+            -8304984419015317549L,
+            1568676937282915426L,
+            -367160516154248175L,
+            4219034821922200110L,
+            8866162173280480466L,
+            -2676262290762893197L,
+            -9115293856899259546L,
+            7999068271277405401L,
+            -8484989028088778388L,
+            3257969928359362595L,
+            -5139216408727351775L,
+            531511484521218427L,
+            -3790612761213169894L,
+            -8757073325791036367L,
+            -8314903633743670955L,
+            -1086447768203535808L,
+            -125420435551634155L,
+            8955055748138540640L,
+            7345788044569376877L,
+            4947636866241169355L,
+            -7983566900353044218L,
+            -1220764990812712403L,
+            -996345428574257897L,
+            -3487288548752471900L,
+            -8748596077154260282L,
+            -6273962938258227955L,
+            636912033171771042L,
+            5132172925440329635L,
+            7267260547579083023L,
+            4031257843003508656L,
+            -8699810020276118569L,
+            -7507690817936130663L,
+            -6660623305013265694L,
+            -3213789916199923039L,
+            -6231940955997394148L,
+            -7289699838677868993L,
+            -4455777666903556096L,
+            -6057946852734655137L,
+            -2563196636694613978L,
+            -1436463208118631661L,
+            -7256556933138322610L,
+            -1856859362721435060L,
+            1845380419647834435L,
+            -3861092521263646655L,
+            -4750067659899928588L,
+            -5582646114215704162L,
+            -1973695032675602451L,
+            -7605716804286143964L,
+            3505230873417565270L,
+            -541615503011573496L,
+            -1905690794970756033L,
+            5002715143459000859L,
+            -6310241138461475758L,
+            -4778120560319533379L,
+            -5649675711168202815L,
+            2737150389095325753L,
+            2394513269197407479L,
+            1113722860863002185L,
+            7989052401167268614L,
+            3852236020225100422L,
+            -8692171968421641538L,
+            9126507077734489978L,
+            -2753474812407231760L,
+            7302050515587610102L,
+            1069526675488228271L,
+            4399608946046186080L,
+            -8192528437828449372L,
+            5955766786498035065L,
+            -8765690080149494139L,
+            -8507863534119705525L,
+            8449455718049866183L,
+            4704408454130721676L,
+            -8077643563861027089L,
+            5913031871918855356L,
+            8939081062666375244L,
+            -541210169032620927L,
+            5339924484460801523L,
+            6675890494531462139L,
+            -2245435972145083029L,
+            -5671853817261767666L,
+            7958610378747221364L,
+            -2538396095649918649L,
+            -4907356698374725322L,
+            -6156759259758214445L,
+            -4118383645981979733L,
+            8856301423052219998L,
+            4076811745117493410L,
+            -2869116587805311348L,
+            -5583994092105249298L,
+            -3001735517094033973L,
+            -237599466705972323L,
+            -7604132554413804918L,
+            -1749930989590777760L,
+            -3291426367303023948L,
+            7374864661345251646L,
+            -8146459207274162286L,
+            -8620415698890013098L,
+            3830205087210380867L,
+            7697439745339825000L,
+            3859152081066048215L,
+            -8671069607550267311L,
+            -534589351443994813L,
+            9051273630801408276L,
+            -8933099395119703103L,
+            -2520327242257948961L,
+            -544424145913559475L,
+            2264285738871533731L,
+            -2297420970578758900L,
+            -4312765969986156673L,
+            8265308028286583992L,
+            6549905025460073348L,
+            -3132602301785022258L,
+            -3519669332972437383L,
+            7453331053665860505L,
+            1027431657466988977L,
+            8266078496199917146L,
+            1798094795798965519L,
+            -1217687593379599264L,
+            7397734550383781714L,
+            -5259968353732090030L,
+            5392888829819461084L,
+            -3481875586157521114L,
+            7796028126574669016L,
+            8301984631986793139L,
+            -6506366207190939666L,
+            -752988053321769455L,
+            -6325890483484918700L,
+            -8449334553569167786L,
+            -5495057547034230562L,
+            -9182617267206028436L,
+            -9218561428143320393L,
+            -6558966149013083178L,
+            6759813007118730166L,
+            5888623643029957908L,
+            -4059458738987335160L,
+            -226016245995391838L,
+            738051585185072403L,
+            59948803330300226L,
+            -6630982794360939011L,
+            7514442670742343342L,
+            -3665858690760189351L,
+            -2179613920987205238L,
+            7202457244646398204L,
+            3629813097396969140L,
+            5991123114236718982L,
+            6411631080584324597L,
+            3566189831533949919L,
+            -263555641394653377L,
+            3936557956829382300L,
+            -1834381817672460160L,
+            3608560279746981449L,
+            6511601861384867187L,
+            7378395222249954066L,
+            -5943921407825655618L,
+            -6966699505287789414L,
+            9108937527231552985L,
+            -4185782322629478286L,
+            -3876199975566506319L,
+            -394890061920186011L,
+            4939649589222740152L,
+            1748593236589626577L,
+            1037223194347476853L,
+            -6543729794687784808L,
+            8468976298190353286L,
+            847489776019455433L,
+            -523795676586837148L,
+            -2384011532906566151L,
+            4198513563222373731L,
+            2130126410776991040L,
+            -3430818752009478154L,
+            -2186760284373801662L,
+            -5318155759796098780L,
+            5542381349144512703L,
+            -1834622984133053050L,
+            -176914731564539667L,
+            105987448762154898L,
+            -7250247295146492156L,
+            7563166812992045046L,
+            4138271878735806508L,
+            -1031289307652625288L,
+            -868219961818084217L,
+            -5886970737025718628L,
+            4715686824985072501L,
+            3919412649384851326L,
+            -5424378152505358581L,
+            -4439592337511122319L,
+            8425286102085380038L,
+            3731179988003913982L,
+            3596291950300592779L,
+            3619997492465712470L,
+            5259819599107806920L,
+            729523072513378237L,
+            -6604336715116873014L,
+            862215717542970051L,
+            5580949177647915840L,
+            2251771139906037595L,
+            4334654119668951851L,
+            -1986171763689907959L,
+            5653350038894592869L,
+            1944435245823140403L,
+            6808327692762780930L,
+            -267697440228151166L,
+            6268574343800999863L,
+            -510396920377402955L,
+            5383016933198530616L,
+            -7386838278754828956L,
+            -2768828622286857854L,
+            3538153918867435240L,
+            -6189742385165897369L,
+            615077663927446549L,
+            -5359752523235525310L,
+            -7219120930572765797L,
+            -90561370163932446L,
+            5554614889313184947L,
+            7289550610479693478L,
+            3618569618788416883L,
+            4972939734974327839L,
+            -5993010952175150097L,
+            -377919894615123896L,
+            4272219804770333546L,
+            8645905608937909691L,
+            824091180886098653L,
+            5643964007678346184L,
+            7769704164580533998L,
+            7918567541291712420L,
+            6882296670619986339L,
+            7995039880805289632L,
+            8571063987885433441L,
+            -3152962937472251091L,
+            -2267244846079139251L,
+            1232704303042389354L,
+            1428804214947001765L,
+            6007055909292962270L,
+            8319869800026245787L,
+            4570947267993139822L,
+            4391875804225898832L,
+            5294248426380027840L,
+            -2385536568706660485L,
+            6140904673235934903L,
+            4951333600127839068L,
+            6070084457128510561L,
+            -8903987732197312928L,
+            -5082062135203542511L,
+            -5553535689068065137L,
+            -5656810266717766345L,
+            -554761064167531233L,
+            -4976720455704454374L,
+            6497101682581343887L,
+            2412696904456240441L,
+            4459433277352860740L,
+            -5643815190295867025L,
+            -5357463794352465087L,
+            -1015956316158348006L,
+            -8501270759840847615L,
+            4086692925883844152L,
+            -3289557000413719506L,
+            -6881445531535288243L,
+            -3296920636090164518L,
+            -7851322676040234496L,
+            4458994520768694715L,
+            2637244702533560252L,
+            -555796621151043579L,
+            1620964318698698361L,
+            -8731845962137456896L,
+            -8782499394207439379L,
+            7277859732098643440L,
+            7393109584259274599L,
+            7058723541369238495L,
+            -1101732445583365558L,
+            1624996539682532850L,
+            -2455511865643211402L,
+            -3342192375861419554L,
+            4060374907775354795L,
+            -6659192442693587767L,
+            2615711457130178375L,
+            6648454482903730870L,
+            -3355246088170580764L,
+            -1820289297156770234L,
+            -8897859876107520922L,
+            7782910569795217472L,
+            5034328597887163190L,
+            -5422291390163238188L,
+            1148461463920207308L,
+            2505907136907302266L,
+            1428330655957645254L,
+            -4401997686724353612L,
+            461649616870862737L,
+            6909121418010205637L,
+            -4376981276267896914L,
+            7780758317516739757L,
+            -7631458528613861465L,
+            1437504549637933369L,
+            -7329070230326032491L,
+            322046226869573716L,
+            4094998198904499016L,
+            6265328675901875297L,
+            -7109701139199404430L,
+            -773577120788628858L,
+            1084160923982647472L,
+            4859193641463813244L,
+            2501632949038629463L,
+            7995547914399553071L,
+            4133468878618074527L,
+            -2006494664797633949L,
+            1578029527081018979L,
+            5308859978186942786L,
+            -3467002914485166013L,
+            4704124479126638254L,
+            -2000301600595194553L,
+            -5838367710925277341L,
+            7516134908457981150L,
+            8695041880757228093L,
+            -7336698045458974751L,
+            -3128775945951465790L,
+            -3450012197227442476L,
+            3302585987929873594L,
+            -4425146544514274989L,
+            8526537408522520311L,
+            -4447586298363028270L,
+            -7568750811928964282L,
+            614042315020769551L,
+            -2881659456290252873L,
+            2741604024097207566L,
+            -3791797064638691073L,
+            -5324414546120518047L,
+            4354061297579857573L,
+            -6759053902615504701L,
+            -4960839717672143154L,
+            -8960569052606453340L,
+            224553314156914103L,
+            -9210158642832460353L,
+            7622511386652493090L,
+            8973254987109320428L,
+            3523302260316709012L,
+            8913887428833276566L,
+            725026439603250372L,
+            -4119610184492537433L,
+            7134456109979803765L,
+            -1082492403987869122L,
+            -4546113029176401779L,
+            -2710318663055387106L,
+            6454487449118626876L,
+            -1715541776011220943L,
+            5052065828203010934L,
+            6003414375814170240L,
+            -7306909577341091847L,
+            8537552307432105526L,
+            1104401068502758626L,
+            8944019296489758151L,
+            4408796473286693099L,
+            -4917279385607968381L,
+            1508558687044235306L,
+            -6072816699284109099L,
+            -1661215229938550270L,
+            8250397145541879644L,
+            -2429618341502271357L,
+            -21390246331058218L,
+            8018104578404953581L,
+            -6707427285073102707L,
+            7625312431064877044L,
+            2764797945577537222L,
+            -3600382655789013878L,
+            -1605173296066287120L,
+            3981538786997473093L,
+            454250536819679134L,
+            3133319068636682731L,
+            5039219405689843650L,
+            -7016087205771018295L,
+            5345360878509185458L,
+            6113234294722841081L,
+            -2666024926313686219L,
+            7648881624389896144L,
+            1840396442370369892L,
+            2851223752071676594L,
+            -8429691063956190635L,
+            -5051795969330814237L,
+            -7262342231301892445L,
+            -6680838435185580681L,
+            -5892238067639941884L,
+            -4075006810243773745L,
+            -4600736367674458374L,
+            6928808397696615522L,
+            -5795385542889559222L,
+            -5517845172305964131L,
+            -3008286725535795061L,
+            -8442219433387678785L,
+            5913992320135888740L,
+            -768143350175212067L,
+            7088701659992006693L,
+            -7459355555747259133L,
+            1304285062009730748L,
+            -8302713391174898001L,
+            8020062049676348825L,
+            1968451773929848768L,
+            3207358274140027669L,
+            3933295907724151365L,
+            3067441241045967388L,
+            2966285502265840974L,
+            2714985317435212731L,
+            -2068441715154443417L,
+            4519535850907163155L,
+            -2581276118301304746L,
+            1234973545631883946L,
+            2222849952189666887L,
+            999852512558504961L,
+            -9164848288049077851L,
+            5220720846968539736L,
+            -5958666400703718207L,
+            -8214226088324680452L,
+            8637467666273706588L,
+            2746477752229572226L,
+            5655470048654816992L,
+            9222894101270544600L,
+            -2307839895669423164L,
+            4749047122146958071L,
+            -2688205899353225350L,
+            -5174627234941778304L,
+    };
+
+    static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_HIGH = {
+            4374473821787594281L,
+            -1421740522408740966L,
+            -2866632587154887928L,
+            6857687578447009166L,
+            -3756936045000081318L,
+            -2032496450399017925L,
+            -8390518687729599231L,
+            -6407539094945652547L,
+            356095129557010894L,
+            -6072872894259497832L,
+            6320370647107222000L,
+            -1789066703360779020L,
+            3498125287818878025L,
+            9092452698603973836L,
+            6817067762923718171L,
+            -5734407308174450357L,
+            1478100151218735953L,
+            1239480054276914728L,
+            7923061422734200937L,
+            2572111997969842078L,
+            138982141854898247L,
+            1712044213766460205L,
+            -8379678795368318355L,
+            2381918678184295635L,
+            7814003208540803632L,
+            1236465843227695621L,
+            -8979564596563979555L,
+            4603019162086380137L,
+            1172156910151672873L,
+            3200187545049211316L,
+            2467624286024659071L,
+            3244059933146435904L,
+            8126649624725960689L,
+            -2487175125818810002L,
+            229693205765544230L,
+            -7961569837339894983L,
+            8831453019295802704L,
+            213725565127393545L,
+            2412529651242512073L,
+            6108317531647733410L,
+            -900490396543331418L,
+            3367522034049618486L,
+            -8153527811663855153L,
+            3872051649983170670L,
+            2680364503834782889L,
+            -3261833857046020945L,
+            -206335288746849369L,
+            -935025588883340315L,
+            -2366527275561759375L,
+            -7252667558203800503L,
+            -4913265605190543722L,
+            7792077218209889731L,
+            721256080953523428L,
+            -7035858804826768898L,
+            -1846859140986463380L,
+            -1501682059478832793L,
+            8695923783566257125L,
+            -5389993243597750363L,
+            -3709632698541835829L,
+            1027156675893710938L,
+            212300753576248100L,
+            4615126273595579788L,
+            -8948669434013387403L,
+            6547014030950292121L,
+            -3650872356843806289L,
+            -8421453145576513408L,
+            -4357610791971784809L,
+            1401750140690488593L,
+            -1091625460574396586L,
+            4083334414553697818L,
+            -4898797092764648088L,
+            2845164613890429737L,
+            3596602839919528181L,
+            3552547994290897336L,
+            -7740891767936213136L,
+            -633962069118587593L,
+            7877353337993264023L,
+            -553533041293864176L,
+            -1153084158640330754L,
+            4459258262452302004L,
+            -3782189158174945041L,
+            -4241209026846366813L,
+            -6636320550104109553L,
+            -7421975419179029566L,
+            -2005623705374207000L,
+            4211705661599218548L,
+            7287134331013464490L,
+            -8128789774818001017L,
+            1414726990112690467L,
+            -3633085723185268813L,
+            -5753709120464103497L,
+            -6701829788265554237L,
+            7622633668172057125L,
+            1342925198472321116L,
+            1604212404334347316L,
+            7788368063804932272L,
+            -5972490299680049711L,
+            -633584969848148445L,
+            4713858894648342386L,
+            -8741163940748133901L,
+            5401762942290065376L,
+            -2873388226578438524L,
+            -3990131908283566767L,
+            -7016299533034618920L,
+            -5636691749964566062L,
+            3988510150507476329L,
+            8909956330892596726L,
+            3350260837326299225L,
+            2871982620329540700L,
+            -6676865781605149838L,
+            6613616487827070359L,
+            -3852702943371023948L,
+            1719767814025543110L,
+            8347567659703489711L,
+            103615721081806076L,
+            -7601511724961084847L,
+            -2843751433545215789L,
+            4971923603889631596L,
+            5900966709630225095L,
+            3817107756970094033L,
+            -5261761290342959542L,
+            -696333949832330887L,
+            -6452251195191353791L,
+            1014058811530543588L,
+            4425494501471775944L,
+            6070032434177847039L,
+            1533128133825723282L,
+            7054556971948026925L,
+            -2888668851988123742L,
+            1796322584902337678L,
+            5240808970989521482L,
+            1910570776595980674L,
+            4450465311305456956L,
+            -4114414900240569517L,
+            -2184014861249805246L,
+            -2570610038891437198L,
+            835531906251141210L,
+            5282450900136049216L,
+            339646708355107392L,
+            -5961454044973198286L,
+            3278459396576843814L,
+            -5971869512607842998L,
+            -2848854661302701016L,
+            -1843675920898764084L,
+            -3628247658984307914L,
+            4206898506833001599L,
+            159598254786670891L,
+            -8990224234739166885L,
+            5129016140838348342L,
+            304102636143727155L,
+            -6468799814043927553L,
+            2339197520641797703L,
+            3347187531173813596L,
+            244978797787994277L,
+            -1024537976575430517L,
+            -5017535710687871152L,
+            -8003447549105567779L,
+            232110609412061510L,
+            -7329168025056827155L,
+            2772967832382758660L,
+            951751847831650586L,
+            -5821954522191354294L,
+            -7258779363376797266L,
+            3995534135908747368L,
+            8202980440225177096L,
+            4735076736933620428L,
+            7670201429673198891L,
+            2099233264205622869L,
+            2617532614486054040L,
+            7883619285060008939L,
+            -4215726004395526661L,
+            -8149620738478167170L,
+            -6451443360573152366L,
+            -359542822632896687L,
+            -2688874852046316351L,
+            6497998603415224682L,
+            7772450412765451534L,
+            -717163065850590464L,
+            -468311088142166809L,
+            -566575295526302334L,
+            -3905530485590959861L,
+            -8615734714112700469L,
+            -3197685336575138696L,
+            -7274871070777489025L,
+            3529758096683458673L,
+            -5026332994155852503L,
+            -2010295376587669866L,
+            -7247720644620309756L,
+            3961774883026535967L,
+            -8133490601730395473L,
+            2777557374860808774L,
+            6469006104494415814L,
+            3626686718842340999L,
+            285817668286445L,
+            -7342804227514666415L,
+            -3269232924729011626L,
+            -4448639184672208474L,
+            -2768431450048664997L,
+            3654758716574531605L,
+            -1059802596184633607L,
+            6831289905909580552L,
+            -6591553877972867652L,
+            203902042792678053L,
+            5412084306751997656L,
+            -1351347210488293926L,
+            7695646533221423486L,
+            -3187868955051690710L,
+            367430071572228458L,
+            -6273170067496330043L,
+            3421111965751508351L,
+            4092267412759399593L,
+            -233116966615538375L,
+            799163345219518540L,
+            946425591666706867L,
+            2357546500749576991L,
+            1005195461970972731L,
+            2920720141333396827L,
+            -3279085846330624133L,
+            2394486003288628913L,
+            7858905168404797930L,
+            7346177159416258318L,
+            3796885901322273839L,
+            1087664014246053661L,
+            3192279219027454534L,
+            -1367701502743467772L,
+            7456863676976151652L,
+            7103054881677845718L,
+            -4062592204292493601L,
+            -5419349529824292749L,
+            -3476904701271681504L,
+            -7255572178320519452L,
+            -1490475581977434492L,
+            8158410208390497645L,
+            4849521108352976232L,
+            1025651981342823371L,
+            -3478573143248726517L,
+            5710882902040720381L,
+            828505993315671504L,
+            7138179188099601398L,
+            3743689865613122926L,
+            3269817251691685620L,
+            -4146708234946471865L,
+            1554469084314343485L,
+            7219575412198091293L,
+            -8087844563318613828L,
+            9080306340241000746L,
+            -2272549652699968118L,
+            3158696120669102130L,
+            3705180767479650062L,
+            -3075276783012077278L,
+            7173853728894747026L,
+            9053043253480405005L,
+            6693414830109314975L,
+            1616089052845707513L,
+            8825281739829747575L,
+            5943331168814012937L,
+            141724869848288149L,
+            87808856429201965L,
+            -8211374360428675558L,
+            958137058320387019L,
+            -6844724593471907635L,
+            -7930906855666469784L,
+            -5302839031341410012L,
+            4918066398766907640L,
+            -6486282915829751915L,
+            4265926264703045110L,
+            1168331902902630813L,
+            -4709265499822964260L,
+            -1536877287700042927L,
+            8703366529944190574L,
+            -3131539873853411814L,
+            7375513330156584948L,
+            4683660260276330123L,
+            1749725972860379443L,
+            -6785616700382062179L,
+            -5883923110703131631L,
+            -2923758939103082501L,
+            2194333932284980447L,
+            7186728407969470919L,
+            4724834335116362518L,
+            -7359216278773388950L,
+            4142193803297696320L,
+            817088146117134631L,
+            -6515425664414265200L,
+            -5634894422968465431L,
+            2996889388270233113L,
+            -2972709331458109972L,
+            9164966072054809177L,
+            -8544478759171538577L,
+            -4316174104962405875L,
+            -2549980666745970854L,
+            935521652287954129L,
+            -295711479164273204L,
+            -3444857583963862957L,
+            -5772899945894118245L,
+            6624344152754872198L,
+            337325473697383821L,
+            -6100728718767221769L,
+            2671527862706708088L,
+            -9035119768948241609L,
+            5088418147065588037L,
+            -4810734435168140014L,
+            -4399551381973891332L,
+            3410461475807194804L,
+            3347320880369423555L,
+            4284346771265064948L,
+            5236773500201015585L,
+            280089930181026008L,
+            -3344354194958234628L,
+            -4353285748057063062L,
+            -6859008644187037493L,
+            7376657651015169671L,
+            8661984717713762864L,
+            6167888183999744538L,
+            -2529408500759545568L,
+            -516314660297601274L,
+            37415783999672150L,
+            1504502056949937834L,
+            5852831655150944951L,
+            -1120061510722387259L,
+            1147358980810177637L,
+            5886477774021817308L,
+            10799769006917858L,
+            -6843222334419017583L,
+            2491907385667389732L,
+            5795564081449629563L,
+            -2736430266204713024L,
+            -2003751278267815803L,
+            3168696336194923172L,
+            -5372674694401803129L,
+            -1544080600598665159L,
+            -374984262707800519L,
+            -8930540430704262667L,
+            5508630272297817400L,
+            -3869133057013193743L,
+            6541748468529417506L,
+            -5202873403122740242L,
+            -117459663307645327L,
+            1892331816654376259L,
+            -6564172821551101980L,
+            -6020631543976943364L,
+            -4646232634632337162L,
+            7730584066784754972L,
+            1040972902092462275L,
+            -2984042727223149149L,
+            -9169085329362715747L,
+            -1317923132678594282L,
+            886278993956169509L,
+            3214948023542474156L,
+            4033259005666344234L,
+            -3719726155844893696L,
+            3601287490981347736L,
+            -6033852482323229051L,
+            -8070942831740401677L,
+            -3031613690009445576L,
+            -372795491293997236L,
+            3854440977322319686L,
+            2373884820529201619L,
+            -7175593439435882504L,
+            6004243627056930156L,
+            3558842778952666776L,
+            -9160497423338651712L,
+            3648425165534671022L,
+            9038894933208163330L,
+            7953833449418349092L,
+            926283835189621761L,
+            5967123287037786538L,
+            4310962531852082246L,
+            227206440574720472L,
+            2385400597085544555L,
+            -3389157767413201771L,
+            -5157372736784570234L,
+            -3607362768698118090L,
+            -6824901900060236576L,
+            7363030378354620344L,
+            -3418499423352243834L,
+            4024785520046222493L,
+            7284731595812754959L,
+            6976312621192108440L,
+            -7410129518329252807L,
+            5183506371837800699L,
+            4831381198727851222L,
+            7291470283342996204L,
+            8410896472518172576L,
+            342012269290490810L,
+            5004068756083654328L,
+            -3093569026866402552L,
+            -672258652785684188L,
+            -3695055685409110728L,
+            -8967391662887007274L,
+            3447079607591811051L,
+            3054492520143687341L,
+            -5255172455005438085L,
+            -1281448680322051840L,
+            3215957717060187417L,
+            -4788388252867207052L,
+            5342717287734110102L,
+            2334994864824038494L,
+            -631666189248039154L,
+            -2748116745504645591L,
+            -989189362642109083L,
+            -6418851476217265558L,
+            2561043464468660927L,
+            4556217227872483730L,
+            1840098421439282580L,
+            -306704383672209926L,
+            -428032036077578210L,
+            4368571687448609461L,
+            2282013531083113052L,
+            -6061080240982644201L,
+            -3528879562511779739L,
+            2745310746234241499L,
+            -7595283340053008230L,
+            5731973213048600921L,
+            -5615146361564533429L,
+            1155131776266192216L,
+            -8160660023309105367L,
+            8833519375029750348L,
+            -4175916842599564974L,
+            -5517527403677669819L,
+            2929954861500243541L,
+            -5709426858485900952L,
+            -2127005902878258972L,
+            -7161549657397315582L,
+            9063037055095216590L,
+            2068828908975859999L,
+            -5932345886407313457L,
+            4552824861415591139L,
+            -4324249393858217594L,
+            4793658747568356297L,
+            -9152587187776851369L,
+            -8124817040740087856L,
+            -3356055560387191640L,
+            -4632049597317654333L,
+            -1722479629665223038L,
+            4506100480067130225L,
+            -6421487695460131511L,
+            910580326488851462L,
+            -5751208370797914247L,
+            5405842944916559932L,
+            -3520490869365633993L,
+            -7073447099433663840L,
+            4800654591838413324L,
+            1587980761494761740L,
+            277199909251394901L,
+            4517859973383223816L,
+            2453556129527801454L,
+            7310976852154439381L,
+            5378141911907539726L,
+            -8615205374041560683L,
+            -7428988529655894798L,
+            1475658232355445898L,
+            4608006169764582090L,
+            -7297434190739842867L,
+            5043692806292135363L,
+            -6704428606465958486L,
+            -8409210118367042464L,
+            -2794474183943572677L,
+            706088898185839196L,
+            -8722623166814877965L,
+            3737511755601264414L,
+            3478033309070609727L,
+            9079186325766862197L,
+            922599466235533173L,
+            -2614173007623495346L,
+            7246809779210957008L,
+            5756655148699359720L,
+            5129072396933376993L,
+            2299884940674154322L,
+            -4287475464778410878L,
+            -4580286483917951994L,
+            6937186147574994895L,
+            8343545779806499897L,
+            -3218562751168619185L,
+            -3869709374436800518L,
+            185761664394708052L,
+            -2531593910964485752L,
+            -8013122112879839300L,
+            3857182494361009778L,
+            832452296079834432L,
+            -5816666526592823223L,
+            1100785124042642125L,
+            -6020405905129262097L,
+            -5898861120541820524L,
+            485280623214939018L,
+            7097065447075469178L,
+            -1074967067477493425L,
+            -1201103453720846L,
+            5644207714436687236L,
+            6288811036731592077L,
+            -7670762066565486586L,
+            -763111812566505231L,
+            -3187705179036951037L,
+            6892366102118739774L,
+            -4927101007153811436L,
+            -7630455127852749543L,
+            -7318335138367467692L,
+            -6772093950755350286L,
+            -125234389315145140L,
+            99690177398481527L,
+            6718506769927613827L,
+            4433678689926136822L,
+            5154733265415495860L,
+            -1660522866554886379L,
+            -1994498912679829606L,
+            9104645957381895197L,
+            -3072384650365055901L,
+            6256005992939459594L,
+            2340461943660835839L,
+            -4171741320723351617L,
+            1184262727534262375L,
+            -487040404304743945L,
+            8522793670436570599L,
+            -2922170207325231641L,
+            -7817937190725306959L,
+            -2786734285835412003L,
+            5065980900557997821L,
+            -1123815606576887625L,
+            -4806664923148626011L,
+            2387140868034486157L,
+            -6888280578735469465L,
+            76390587170805321L,
+            6701917302155963562L,
+            8399118869200984476L,
+            8606145778944931453L,
+            -5596031513502361930L,
+            8012085136298667744L,
+            -1779882123585100349L,
+            1622749300890775048L,
+            5814360405805585080L,
+            3828108227223950359L,
+            8976973205474913250L,
+            7796215960042868454L,
+            8955332765009868859L,
+            -8944544719166465607L,
+            -2109516430906063618L,
+            -8707414115723814277L,
+            5389343535660828178L,
+            3975601836259951858L,
+            8853884308530841054L,
+            7356987074318124120L,
+            3666296313717549755L,
+            -349293053780718018L,
+            5779414863237176418L,
+            -3395330935067224742L,
+            -7114643724486170563L,
+            -6086320071042353588L,
+            -6337319487501766669L,
+            -292556218755664496L,
+            5254903083921328441L,
+            -5703172206842765535L,
+            3011995092725555453L,
+            784482826054064345L,
+            -4951237026149927743L,
+            -2940441259141942504L,
+            5557371739297217022L,
+            -9025406575890144212L,
+            920384742387875802L,
+            4025924248406678395L,
+            -4932322814404389981L,
+            -758850346393904293L,
+            3820588045295575277L,
+            -8273825042328646715L,
+            8267050959424466711L,
+            8372002335368740140L,
+            2319895957919856176L,
+            3393587058440209399L,
+            -2991968619587034030L,
+            -7052190281339644204L,
+            4119533428153073593L,
+            -5322753707431561914L,
+            -1990331894163966329L,
+            5528819488219887223L,
+            7528394050410112019L,
+            -4103222950425165499L,
+            -4734974784817956243L,
+            7054672341370183771L,
+            -7843216677362499770L,
+            -2558006366041791027L,
+            3420915023169045274L,
+            7134664122701334865L,
+            3627776459472093644L,
+            5865618153764203154L,
+            1315634569650029562L,
+            -1373023635314785684L,
+            -389388693466618953L,
+            166088545229429270L,
+            -4272597782511294617L,
+            9048220387536838065L,
+            4659189464267092763L,
+            7242134673488024493L,
+            375932991564369404L,
+            -7720591465106242899L,
+            1210886158364079507L,
+            7486928230070465104L,
+            -3563411090979813694L,
+            -51242532852239658L,
+            4932376534476889005L,
+            -3067046535625936079L,
+            -2953366546823406148L,
+            4726073598514667972L,
+            3477324318431173830L,
+            -4753263992014573419L,
+            -1504120040829218595L,
+            2827018301399808402L,
+            -5706973397238100207L,
+            -5428675448452860293L,
+            -2867055224949492396L,
+            -4883400072600798079L,
+            1989655877857183247L,
+            -7980820286046848079L,
+            4221332963044663244L,
+            -3212897179550874949L,
+            -447960323720331660L,
+            -9058445229254465482L,
+            -8268827476130832747L,
+            -7456877643351512851L,
+            -8097523054816794323L,
+            6473866260106892552L,
+            -8315486727126532416L,
+            309201295699599160L,
+            -455969780777292947L,
+            -8033060956030786685L,
+            -7456540162524761011L,
+            -449869894189320350L,
+            7889898251229286706L,
+            1510898638122948197L,
+            -5811627033561888724L,
+            8685858840486635522L,
+            8526850703641421271L,
+            -2405573120612196896L,
+            -7519558501908090830L,
+            3973291433388115934L,
+            -6368802414767274293L,
+            8843185932129875981L,
+            3327021337453520180L,
+            -5714735958796781483L,
+            -355978101578738508L,
+            2871312061468721203L,
+            65444624791529100L,
+            -3619870824976840477L,
+            2237540943796601496L,
+            -8505685364040691761L,
+            911998146359707851L,
+            -6159879892938176958L,
+            2015122837623713488L,
+            -2989260958258317234L,
+            8611931548912823878L,
+            -3215022123322521422L,
+            -5351940358296881560L,
+            3289909891736529762L,
+            4131551624985346769L,
+            4733270407313178960L,
+            -3562272901601603237L,
+            6288927713204241067L,
+            3403280391231047344L,
+            -8533286136030381743L,
+            1064068495689228634L,
+            8313022672796862480L,
+            8781167666758269133L,
+            6688490659820337304L,
+            -5838083657012581189L,
+            -1349043482756964756L,
+            -6601133396907984586L,
+            4439771263927369808L,
+            -4245435749983799764L,
+            7756427059264940807L,
+            4359866528889925642L,
+            507169545333703312L,
+            -5293818964294466028L,
+            3762012354836207972L,
+            8100326241340621085L,
+            1612915422876910852L,
+            -6721789755645315837L,
+            5140754795318353399L,
+            -1483652966587718452L,
+            8513787543908725348L,
+            2972676621615508110L,
+            8361230551263806356L,
+            5010540158778932207L,
+            -7770693060420755201L,
+            379136624902681680L,
+            6251225399917462750L,
+            -6485243449164492472L,
+            -699408342166079150L,
+            -2302464173482039754L,
+            5542765981175642758L,
+            2158252623707716497L,
+            7394973430242689281L,
+            7492696686938648622L,
+            2344047360294092696L,
+            2714461623800923238L,
+            -3738177360426934406L,
+            -2418523431766962421L,
+            -6904474814268076381L,
+            -5693192780508327423L,
+            7293858534235059716L,
+            -4940193947085952419L,
+            3417605009747830272L,
+            -1710959262928336281L,
+            873304792719504337L,
+            6914870169912831742L,
+            4504589615278741202L,
+            -8742725698130157436L,
+            -5095082706383187125L,
+            -5952905852166913401L,
+            6073986366387106002L,
+            27908990284163389L,
+            -6658564825564789183L,
+            2085669773610912474L,
+            8014273362673545050L,
+            -6397479164358489766L,
+            -1431561876112516809L,
+            4995956691156959083L,
+            7233898332266832116L,
+            7188824497562553133L,
+            -7958085220522576326L,
+            -5171286066203424481L,
+            6216842434312637961L,
+            -4531832464063013609L,
+            6092382355378540773L,
+            8504288513405639080L,
+            4005435153254320469L,
+            -5433649053186457482L,
+            1084161245660269705L,
+            -7050371706685934349L,
+            -6962758218291340686L,
+            7009215327107784726L,
+            -327788716075641154L,
+            2778841065114488327L,
+            -4752436352512019265L,
+            -3057136240846012329L,
+            -296413901816339386L,
+            -1166002279155960054L,
+            -552946028500971330L,
+            -5680208682674746187L,
+            -5725666513374847219L,
+            4735505354445973647L,
+            -2022534367554221498L,
+            -1428565092700747921L,
+            1895873418831699245L,
+            3586312437116513252L,
+            -7571113207654799714L,
+            482693619885469262L,
+            5509146609520857163L,
+            -6204369796698435540L,
+            1191956194390208213L,
+            -2629899144670869839L,
+            -2831503259082391301L,
+            6267750586632808884L,
+            2019025905587038616L,
+            -378610798667882293L,
+            6488783398963863458L,
+            -4919667929621664219L,
+            2305377433492304843L,
+            -6609786470069105659L,
+            -1372259925559714510L,
+            -1466380754266198352L,
+            2155517105586584012L,
+            -1180497884797305269L,
+            3333398972852400918L,
+            1072669930553344776L,
+            -2211764847520999257L,
+            2091656970231682820L,
+            3368971699457545238L,
+            3326301214367935100L,
+            7982221174235776704L,
+            -581362711791008426L,
+            -6003538166387194189L,
+            -1344071979629790163L,
+            3404841628598663755L,
+            -544501682737194612L,
+            -3782768313297219656L,
+            6206180287928634690L,
+            1541205224568405893L,
+            -9021685080829614093L,
+            -6400416384689927440L,
+            -2060558294289724622L,
+            -6970681102764218933L,
+            8388193281288698861L,
+            8635965356956473921L,
+            -1821782349701240968L,
+            -1155868538035182119L,
+            -5032487500500166407L,
+            -8166022433333703512L,
+            7084767402441325554L,
+            4604655524754986308L,
+            6197532271174090545L,
+            -2162101558206667929L,
+            673794470876410730L,
+            -8938604745296499467L,
+            4000890891749554563L,
+            5744523152535216048L,
+            -8401004963866361144L,
+            -1649712475216706827L,
+            -1421965728105342579L,
+            -2059076842930550294L,
+            7836492798630326968L,
+            -1025333628135171632L,
+            -8637854992806393634L,
+            -1090063995610480853L,
+            6996463263041406960L,
+            3906740023250664117L,
+            -1350191406741492510L,
+            2211603949625453993L,
+            556976208434432745L,
+            -1170626626071704555L,
+            1601384414676659779L,
+            1694255364752736315L,
+            -4985884160214255879L,
+            2243985947974370019L,
+            -3041635859679731957L,
+            8906511106711351208L,
+            -3565823530905756709L,
+            -2483731033306928004L,
+            -8429260785641176863L,
+            -550321516263758882L,
+            -5285027087490669113L,
+            4731701373650354434L,
+            1413527591196794470L,
+            -113034312145280169L,
+            6692838994750678136L,
+            7768307005946715442L,
+            -8900358294829566449L,
+            -1424107359611368176L,
+            6198542801306936705L,
+            -7956008843098862549L,
+            2675255952779049780L,
+            8801271171807070595L,
+            -8135869971249622983L,
+            6658070168881294080L,
+            -7661512139482053061L,
+            -8509599070589263088L,
+            3366852577940923266L,
+            6333900012988069046L,
+            -7494221768417167917L,
+            2059395930940344267L,
+            5500959703921091385L,
+            4347804489503457392L,
+            -7152514975226133176L,
+            8859695276236997284L,
+            -1886012191951563395L,
+            4959337207627166394L,
+            -6008199826931763765L,
+            8173553856916422645L,
+            -9085964790295804324L,
+            -1866172684737997013L,
+            -5505464536654726096L,
+            1864204543728264292L,
+            3093251121665246185L,
+            7278302509029518763L,
+            4738597817886006092L,
+            -5021864366380405614L,
+            849305644285770545L,
+            4892389173260201158L,
+            762217332734820386L,
+            -3825862758743325116L,
+            -541755527331871815L,
+            -3551222297011371079L,
+            7148971674294515371L,
+            7068527845606945174L,
+            7709806731098316815L,
+            -2802382686994553351L,
+            4924056353510230051L,
+            6129644802649046744L,
+            -4749633434399820687L,
+            7119422013210192421L,
+            4806118310919000733L,
+            -6636303825320744943L,
+            -7159027202773878671L,
+            -7076637973229354387L,
+            -3385279354042381394L,
+            1911687024296878865L,
+            8946784271277739882L,
+            -362277538215289057L,
+            -7277545556984515552L,
+            4958326394688628215L,
+            8212372846461175886L,
+            -7858299885288802595L,
+            4931569041924747765L,
+            -6889859482638094989L,
+            -2553330774182744968L,
+            2698733108592107824L,
+            2369440272883571665L,
+            4537228045500367636L,
+            7122826574919551723L,
+            7357817149691931699L,
+            3872822353334221502L,
+            -4655405143349195305L,
+            4804149323048578192L,
+            -744076246993631394L,
+            -3696317053627982955L,
+            -1552981587325595493L,
+            2777726060673361521L,
+            7711752402024605537L,
+            924014622409479063L,
+            -1568398834809443437L,
+            5265001545201135147L,
+            1958205254911105685L,
+            1411295231821519122L,
+            7869021856632557860L,
+            5101591228110898080L,
+            -3670376809600883664L,
+            -803730797933928815L,
+            -1816023247126402050L,
+            -1184452178131536239L,
+            -7038479406600629809L,
+            8850376736663991217L,
+            -8408369262226032677L,
+            -4319200879591563829L,
+            -8194754969652707702L,
+            1080333523429346021L,
+            -2682552225876878919L,
+            -1158678555768673722L,
+            -5812332272218433547L,
+            -7122784309905803930L,
+            -3161691737747995930L,
+            1218190990509473313L,
+            -1539871775007512663L,
+            3799435555645204405L,
+            1709656882289764263L,
+            -2467056219953057065L,
+            -6971026497432625848L,
+            8645365156031178399L,
+            6767468964428357029L,
+            8901605207849685971L,
+            5530294876110019922L,
+            3229999343962420802L,
+            1535332856275852571L,
+            4732857554484238193L,
+            8050155884375832921L,
+            -452204983646977813L,
+            -8121441521823641899L,
+            -145576699606221489L,
+            -2287176917384630075L,
+            3341188851185769700L,
+            -3548996452619433116L,
+            3160691299159989868L,
+            4437657022361047525L,
+            -5920896723331185920L,
+            -5201340187959336902L,
+            -8775038624894657211L,
+            8073042750777004108L,
+            -4222183364043254769L,
+            8788891892166226797L,
+            -2395264847188735942L,
+            -203630364085931563L,
+            5369776681198182333L,
+            -1451754523505957841L,
+            2795439916988730100L,
+            1586827809406973977L,
+            1018988751735099940L,
+            2827400196810219013L,
+            844158359104279972L,
+            1615599378025427438L,
+            1745282971726300564L,
+            -1302467183814929820L,
+            -4524676146615698145L,
+            -3344048869531960546L,
+            -2745200269046880934L,
+            1884019995458590174L,
+            3206246838929171435L,
+            -2211856120932772908L,
+            5546310215968824923L,
+            2732960478750685888L,
+            8507157125914598271L,
+            -968896304100322295L,
+            4418764285706705665L,
+            -7005533313205144766L,
+            -2239052376866481748L,
+            -7671738505935766476L,
+            -1152896423216121703L,
+            8479805594822716624L,
+            -7632620816346707681L,
+            -2691765823461279423L,
+            6046296811649763194L,
+            -316944764432356906L,
+            -7166142448998557255L,
+            5285628033174979950L,
+            6147432148328162769L,
+            -3763957672569384216L,
+            -3026788443239667216L,
+            -7154609164962556944L,
+            8464633026036858943L,
+            4221789712714263622L,
+            -4312161901677017020L,
+            5982413757901051181L,
+            -2709456543885836668L,
+            7457798656520810187L,
+            -383879194609660142L,
+            5089585351270677254L,
+            -8763427441042845067L,
+            -6375505965576907725L,
+            -754300979370151185L,
+            -4913334445252659635L,
+            -3488836768820029102L,
+            -1435498672989726061L,
+            -6615144245077610168L,
+            -4506936134451189482L,
+            7350913498992779143L,
+            -3397821717039127363L,
+            2385278092309072091L,
+            1192494187707542689L,
+            -5830299412876524381L,
+            -6239360868666816779L,
+            -8220078375162299514L,
+            5820468408224859048L,
+            -4683528364890171241L,
+            1916955146088992859L,
+            -1286772012869791703L,
+            -3492086364186032899L,
+            -6035516254024184182L,
+            5332795642605265135L,
+            -3977631481966001119L,
+            -2853134267945908378L,
+            4895840014507241460L,
+            -508075551811632652L,
+            -1303237194643917066L,
+            -1115270830948870449L,
+            5482082815830305168L,
+            4613274258762248079L,
+            3330019778250489220L,
+            1642692988483134869L,
+            71756872091508100L,
+            -3119738899968715425L,
+    };
+
+    static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_0_LOW = {
+            -2181503573509196389L,
+            -8866364655885796524L,
+            88971137080564774L,
+            -2333967350016035534L,
+            2255236296983335304L,
+            -6496765434124783047L,
+            2148092704457723923L,
+            4601219223628025157L,
+            3528185325529004710L,
+            -3809600871644955734L,
+            -4751069806972511495L,
+            -2543927485332795007L,
+            41739278158077770L,
+            -8126963396020289977L,
+            -4922441402627666211L,
+            -1078667298641476427L,
+            8513822035921542970L,
+            -6863112937447179999L,
+            6297348719718820610L,
+            -5548396209315197046L,
+            -7192141671429901286L,
+            2862798974357801713L,
+            -3812107798784189105L,
+            4489949080332830984L,
+            4810439024379651760L,
+            164711571070722233L,
+            4353510878030962018L,
+            -8633373283299190024L,
+            -7751267392573891892L,
+            337342946001812389L,
+            -4436613106389352804L,
+            -5295605473826970206L,
+            -8615924863647236714L,
+            3737423027519856290L,
+            3623869091835834926L,
+            -5786348053328048881L,
+            -1060178182798691366L,
+            6994078995202474586L,
+            3428831268579990983L,
+            -4787103889632747038L,
+            -2040157484169856205L,
+            -6665025894991503803L,
+            -2179023196977984195L,
+            -4457656055128724689L,
+            8072005848082844746L,
+            -165582173562551355L,
+            -2232616615926400247L,
+            5598057008760587302L,
+            7073087785424292744L,
+            6196044835034506637L,
+            -5975215024195613578L,
+            1582060976979267771L,
+            4354863572578226295L,
+            -8539503139746151639L,
+            -8301110515543556391L,
+            -1440854151529702318L,
+            7964715124246937291L,
+            -1205216345294045263L,
+            6408662581522111666L,
+            4642801777666643801L,
+            -7082945324511715838L,
+            -2156691916100493249L,
+            -2945052674363622466L,
+            694637800641267795L,
+            -9082205788127760564L,
+            -2561183229436191227L,
+            -5767735036636121447L,
+            1864641746611853569L,
+            6691882338429783166L,
+            -6122755489879665273L,
+            5523552418808000008L,
+            -8990778711724144666L,
+            -4514554034966186339L,
+            4631837001973784041L,
+            627060339637859532L,
+            6937183236570133216L,
+            -4854601149374921848L,
+            7682118023897564663L,
+            -3240853124328423152L,
+            -2418376870997053718L,
+            -9160402170164174580L,
+            -6817068164161968426L,
+            2415913346672700978L,
+            8242496636727284642L,
+            -3652529096269894720L,
+            -8037194361653684335L,
+            7241400858399578252L,
+            -4419414318578058218L,
+            -6122414044259504199L,
+            -2373060538849184601L,
+            -8607159963745787974L,
+            8465886505475990055L,
+            6868332775005642195L,
+            -7979949025863612523L,
+            4237637502210431279L,
+            1880377479482736482L,
+            -4222086465402816023L,
+            7714022189076355935L,
+            -540923593670424102L,
+            7836215011124224637L,
+            8554864232526747957L,
+            1918665518236450910L,
+            -7787883885376251084L,
+            3897943977498522200L,
+            -2011302490817907679L,
+            8928181601274251381L,
+            -3454431839396012076L,
+            2422722074463103713L,
+            -8268679048785090005L,
+            -5374536800733588223L,
+            8628627831445038753L,
+            -3440609259366419212L,
+            -3190471076966859392L,
+            2037481413117951260L,
+            -8554013790397656478L,
+            -2701930865691489776L,
+            -9120999064867196443L,
+            -3321962328132752765L,
+            -7450346480659523067L,
+            1288619566816803956L,
+            -7597328171277412192L,
+            6964284587971149302L,
+            -2395211105439963968L,
+            638022752420972009L,
+            563612342420127138L,
+            -3290249904968031676L,
+            -1735698305452627860L,
+            582908816984303439L,
+            -3854563252198547608L,
+            2534159194779146871L,
+            8360717405460983968L,
+            8370468089959656843L,
+            -7771502998884916973L,
+            -4750577472791790449L,
+            1759917649487731434L,
+            6810766472225204595L,
+            6625928118772864538L,
+            8502638707834685269L,
+            -7312350087607990434L,
+            -1282213315755192617L,
+            -1656519028964772852L,
+            -3663091399378702908L,
+            -2660030438150347138L,
+            -2701813916492971807L,
+            3355268763588118378L,
+            -8655771953586172978L,
+            1090107049811516877L,
+            -492909936846293905L,
+            6745706613061006259L,
+            -7046769878228335497L,
+            -1729601576553812484L,
+            -3091610042045940856L,
+            -3351847938776541852L,
+            -5809670386904813110L,
+            -1827203132390243498L,
+            -4095570908678661361L,
+            6946385378799029281L,
+            -4714153458346922751L,
+            7862162009948457958L,
+            -6114984539800851378L,
+            -7160776360576138358L,
+            5790184051232434758L,
+            1299248021482624173L,
+            -5899931259261465839L,
+            1020974002778531989L,
+            -7001236653225699849L,
+            -3268887467372133168L,
+            -8006765985578827755L,
+            8941400155272113999L,
+            -5407323558371694353L,
+            -8792819524557297010L,
+            -7351619602177032835L,
+            -945628636393569640L,
+            -2814269994912596887L,
+            1735116740990084756L,
+            4853592326596679620L,
+            -4476903863288019026L,
+            1169025757481144741L,
+            -8006780258178391908L,
+            560472426556615423L,
+            7758541316584692114L,
+            -8969182422340040122L,
+            -3374476567315680007L,
+            -1536419412251799833L,
+            505779645844152306L,
+            -730032970438700745L,
+            -1815488868831878375L,
+            2208451411074244738L,
+            9084500425592132282L,
+            -9187667486307034310L,
+            8127449197844960192L,
+            -6290868041744150215L,
+            -5537529985850792976L,
+            3218209824146892257L,
+            809837146071845911L,
+            1072339588544261841L,
+            -2523390918308029172L,
+            6639890640376420932L,
+            8551622817598642582L,
+            3425291866920177792L,
+            279490563925450817L,
+            -921314436360863433L,
+            -5828227337951249429L,
+            -7429835730802741308L,
+            -2791847143215211953L,
+            -3559388682579855634L,
+            -976067632749555847L,
+            -4281667494307381986L,
+            2709362896121231737L,
+            8262338000223849428L,
+            -146050208961156465L,
+            1268700684252766685L,
+            -4836059349995969709L,
+            -4801365058597723748L,
+            -6368765594452507308L,
+            5892930083836927193L,
+            8833162184308281577L,
+            6793042548901630691L,
+            8457375294004354892L,
+            -2715155017576199034L,
+            7930755614132458500L,
+            3854456219056798219L,
+            3894398003386404358L,
+            4085241598630074293L,
+            4848685685721054572L,
+            -4605755059053963147L,
+            2932643728032202363L,
+            8313878488616384177L,
+            8674635229889779396L,
+            -4384726930709900981L,
+            -2778137870141765192L,
+            -4597932634061916692L,
+            4628111203014926914L,
+            4264765902001574649L,
+            2028804137359540861L,
+            6238431287717453749L,
+            -2393656311899153458L,
+            -2758635517802040380L,
+            -3745039933372065677L,
+            -7864380600680912966L,
+            865016297035268688L,
+            -3169580795702746546L,
+            2464952790008713922L,
+            -1978316366897135074L,
+            2677187099690629589L,
+            5702413742750423270L,
+            1286811420672328741L,
+            -8614536079639319853L,
+            -3847585574454315148L,
+            -1023159702182966689L,
+            1857294563745586256L,
+            4708522196867720779L,
+            -7277304536169697656L,
+            4528758615201777586L,
+            -5181480790202939080L,
+            893421382541282362L,
+            -3249350172994588799L,
+            5756116541210480272L,
+            -4302395118368578265L,
+            -2888892350944021873L,
+            -3818788263856037031L,
+            4695637242716916395L,
+            3446541768012014892L,
+            3639108688501490624L,
+            -2696324473764293797L,
+            -8799996525131876656L,
+            -7806525669124865114L,
+            -7867296403554215512L,
+            -9166666156575133818L,
+            -8117420710624489066L,
+            -929000979125862216L,
+            -319565881841638065L,
+            2817259620651462851L,
+            6746960171289590220L,
+            -7677584405187303358L,
+            -6941201180878192459L,
+            -3898950532120029428L,
+            -7202840010366854501L,
+            6439287370308704542L,
+            1026918224211747385L,
+            -4592888485396024542L,
+            7147007564429272350L,
+            -9000537254040534717L,
+            -549259214353428810L,
+            4586280372366183150L,
+            -8039509324999738958L,
+            -2410308194016025999L,
+            2653246053927586861L,
+            -3892362440846626322L,
+            -2502791012200115142L,
+            -90823070043633634L,
+            4282625501308553514L,
+            6910357155227434201L,
+            7900921301682786975L,
+            9011966314391596719L,
+            4563246160933289442L,
+            -8981606527562992143L,
+            -4238592453177057583L,
+            5223434332254543382L,
+            -5051414236611155819L,
+            7071775597525359974L,
+            -4574011739429498026L,
+            6613471418099380304L,
+            -6627504242078043261L,
+            -7698328224747282331L,
+            -1205052984624099744L,
+            -8179160875402813268L,
+            6268134703929940863L,
+            -5962471135636909386L,
+            1650455093214660329L,
+            62835868363737750L,
+            4998617996239216789L,
+            -4692911395784863125L,
+            -4486663315032219673L,
+            5082797857413003164L,
+            3235347242635973942L,
+            -7385574018519182617L,
+            8749772966847124146L,
+            -2402337189292530830L,
+            1259321400396781547L,
+            -5788858671421985626L,
+            -4929558180898876303L,
+            -3315427263950506655L,
+            -8192637307421785946L,
+            -8312901027612040540L,
+            -5665545179384526800L,
+            1316634537430470360L,
+            -8981311112071361555L,
+            -7803419814326627095L,
+            -8476386730061853051L,
+            -2812630935252372735L,
+            5832371315723320821L,
+            1384273077205749496L,
+            -327724407433370940L,
+            -4802148595493691739L,
+            3285555707485105578L,
+            -3155510176199065606L,
+            -3405870252566066571L,
+            5354461934430076561L,
+            -4625301357656251770L,
+            1648676412551821165L,
+            -1237610007982811826L,
+            -1926988745566609841L,
+            -194356159858763692L,
+            -3878491307049087490L,
+            -5025703800498158519L,
+            5014418351523490875L,
+            -7928478742936312166L,
+            8805609517151734921L,
+            -1134712377534068448L,
+            4507502787863557153L,
+            3232676521648171365L,
+            -8168163485853958943L,
+            -7249982869812526178L,
+            -8757926084997225406L,
+            -3753060908597318232L,
+            -5604937419000203421L,
+            6199163031470062595L,
+            2645191523961059700L,
+            -4892527459212534014L,
+            -1508335198454116151L,
+            -8397173376858669575L,
+            -7281679864750357575L,
+            9162695438609751484L,
+            3372657134753034318L,
+            -4923862153523669035L,
+            -4405110539248242067L,
+            5733238782070352544L,
+            -1788727443940381787L,
+            8560872961668450459L,
+            362440283207666823L,
+            8381306896311932967L,
+            2480724037491875691L,
+            -791349041532716387L,
+            1300701536226232133L,
+            5703423866695185685L,
+            -745405946153574472L,
+            -7614286894901726064L,
+            1591366126522046571L,
+            2720240440324514341L,
+            2108248598231268135L,
+            -3192610775182716364L,
+            5137802314772765685L,
+            -6658828162648669183L,
+            4943738991391331192L,
+            -5829532768186834853L,
+            -8174346672324552815L,
+            6849606587665995291L,
+            4361454425722540710L,
+            888436244167156073L,
+            823253746467620916L,
+            2104192444100669331L,
+            -2224792451819696248L,
+            -5937522620838076590L,
+            6769646188513083534L,
+            3327226888469175630L,
+            -7034842135113493180L,
+            4857822310853849317L,
+            -8585081682935451433L,
+            6447142666503403417L,
+            -7439459501781781799L,
+            7472690351516013055L,
+            6832881674645849629L,
+            4572141981970073535L,
+            -1553611013640310950L,
+            5011478858478201924L,
+            -4433509349567895753L,
+            -5039779421521974353L,
+            8056439689082275175L,
+            6277270152188490014L,
+            -8050441307296468368L,
+            -132982631569357404L,
+            -1561882298597476429L,
+            -3090842728340234041L,
+            2462764407849882000L,
+            1519282173990007810L,
+            3705073658667204404L,
+            7879235452651958583L,
+            6838251605434364207L,
+            7844815202833531089L,
+            1285370288861749565L,
+            -3117704062704569322L,
+            -5207801367323994065L,
+            6056483367312001064L,
+            1128574004390943421L,
+            8204086038936468285L,
+            5608019971032866505L,
+            -8228060002342242461L,
+            6268871599658450367L,
+            -5809042478480042139L,
+            -8181573337456657287L,
+            -2547048489907010481L,
+            2684013043472503122L,
+            7538634306401063703L,
+            8562933408355732018L,
+            -7283348242026781180L,
+            -6443580017452358402L,
+            624375582584891106L,
+            996239603725814720L,
+            6683565652171811110L,
+            -1639314125620018835L,
+            3000964795658598552L,
+            -7360130312072427369L,
+            -401416150980205717L,
+            3746785397573115850L,
+            -6097952515322493248L,
+            -9098590971939240996L,
+            7979036613267839160L,
+            -6580285612170056829L,
+            8870892882629541983L,
+            1009961105315043260L,
+            7299670048139303750L,
+            5487018081878157631L,
+            -5909431089048236398L,
+            -7723916389614899608L,
+            5194943439756660796L,
+            -3462683152798752199L,
+            -2855418921624308186L,
+            8717965186217682567L,
+            -5704314875888053857L,
+            3271971011674177113L,
+            6644061438520320474L,
+            4631510976420196147L,
+            6507953064032506871L,
+            -714993447518782960L,
+            -1628511933599664563L,
+            7701529831217352902L,
+            265849223993184600L,
+            3608551754932225626L,
+            7817091817180523093L,
+            7820049836658612691L,
+            283813995197945198L,
+            7760441981051742430L,
+            -7641413607959325263L,
+            3814542801560202168L,
+            5067768815918721946L,
+            875805759368466605L,
+            6219314287548964298L,
+            -8235690858932984766L,
+            -1399192637832480766L,
+            7465181402669006360L,
+            -807847608469167296L,
+            876343790139679522L,
+            -483627696288913836L,
+            3855627972923233815L,
+            -6472954903311823673L,
+            -7505800484070201233L,
+            -7703713808754478422L,
+            -2570931970143440046L,
+            5606273642279142107L,
+            -4495611662802760642L,
+            -3353868569897135645L,
+            -4375249147441460443L,
+            -3916256581505593654L,
+            3271186662051477036L,
+            -5662659159763884049L,
+            -8228461483917890403L,
+            -5976358208793792784L,
+            -3130562390917982818L,
+            8293188864058709190L,
+            -3559448643177218785L,
+            -3637241255581348475L,
+            5332634670921502280L,
+            1357880447545686641L,
+            6203665044268841063L,
+            8061758884845796913L,
+            -2608780920400491269L,
+            -3637882732174405929L,
+            -4233991895519735973L,
+            -2091238618827835249L,
+            7409902841218801878L,
+            -8085801278415668635L,
+            1729705757573019877L,
+            4956159343094974350L,
+            4993826222558398367L,
+            5807418564455505318L,
+            8027257179624197638L,
+            3945192883192523747L,
+            3629102321322704925L,
+            3180682141837493269L,
+            1871999544284356304L,
+            -3732789009247952232L,
+            5160473762842849575L,
+            -4137828004334579349L,
+            -569344085865531850L,
+            4194714144829625486L,
+            -2589799960885994460L,
+            -8289967066937754441L,
+            -835014659521747729L,
+            -736459814174365008L,
+            8013453592671622648L,
+            -4210494883011172000L,
+            -1356099049230020071L,
+            -5922525293676259126L,
+            4530800510693774319L,
+            -1156675499951056536L,
+            8505031728401755056L,
+            -2962132681873638924L,
+            -1129708834958276538L,
+            -2948150976899186279L,
+            -7826099066857136306L,
+            7760664195098753782L,
+            -2072367815137127730L,
+            7441351164681304118L,
+            2894792399038310836L,
+            -7984818552046417367L,
+            -1524582316500522634L,
+            -590501782099079482L,
+            410645528775743206L,
+            6102067211481650074L,
+            -5362131636754215701L,
+            -573979929763504509L,
+            -2369736420820461215L,
+            7480032640091208190L,
+            -7038788066266048765L,
+            3198016243326378692L,
+            5063158117380518563L,
+            3441691434558911471L,
+            4579819754453695486L,
+            2587650727121361774L,
+            -672271602808289784L,
+            -6879565647652065279L,
+            8855321550671706037L,
+            -8123210959199825531L,
+            3637079241415076108L,
+            2863626166253543004L,
+            5747057577924586995L,
+            -977452432244569719L,
+            7746179520156607545L,
+            -3133759304784136186L,
+            -914663177314619026L,
+            8301687423105723673L,
+            5903375417985504114L,
+            -8685112268034382293L,
+            8420128638919758373L,
+            -8851752406249092804L,
+            -6003541284538175966L,
+            8494797503633236241L,
+            -7515065824175112319L,
+            4182783727483113784L,
+            3207142584821328219L,
+            -8626746091810063225L,
+            -2859789055290050860L,
+            8338018418703070692L,
+            5882861858390056413L,
+            -8283272523535986716L,
+            1699009570296567401L,
+            -3941300869511718535L,
+            2320881504152651899L,
+            -3301535783141735412L,
+            -7926896342694697538L,
+            6411530185084554517L,
+            2911749837504183832L,
+            51501984338052851L,
+            3410999037124136214L,
+            2998568685891144546L,
+            -147119192499085720L,
+            -6087232406931411424L,
+            6819278135131896338L,
+            247078565217963553L,
+            7964587761101596368L,
+            33278875779832650L,
+            -8420362316576960961L,
+            -8721349457545229646L,
+            -6320397008010170425L,
+            8778434992346364315L,
+            -2690596531276823191L,
+            2830274744190094173L,
+            -5167768171941239583L,
+            -7067535656604136350L,
+            479106169253408250L,
+            2870297047521291908L,
+            -6815320928245970451L,
+            -140787419784682266L,
+            7453520892782439998L,
+            -5162853044858173737L,
+            1419452961767480995L,
+            -2554765900966144267L,
+            8500236831518219924L,
+            1833784066996114685L,
+            8932989751396647168L,
+            -1199695604955571142L,
+            -4757793851808220714L,
+            -1435188492433300424L,
+            2293256823221295712L,
+            -7234692806362941831L,
+            893131922515655082L,
+            7986580420179243534L,
+            5528556577796079048L,
+            2983689846372397747L,
+            2439766080531338524L,
+            -5892750270021776258L,
+            3459255575024581009L,
+            -113980500777746366L,
+            1379587771731165281L,
+            -8683479416597677946L,
+            429197446494783371L,
+            -6063997388602633097L,
+            2117802606474820367L,
+            -5197276053063398462L,
+            8870169520955182151L,
+            8000772421470047880L,
+            7658015309452286216L,
+            5586431804399704082L,
+            -7381560676602945950L,
+            2442952353142405063L,
+            7341431975489914298L,
+            273756396823636868L,
+            -523678839806959948L,
+            2079153511860888392L,
+            -7609520727278845635L,
+            154020566167976072L,
+            7235984785686665823L,
+            7455231390798413742L,
+            -359819189219735146L,
+            5978832042453741300L,
+            -1345041989855790696L,
+            1327085233324591968L,
+            2916762281786957211L,
+            5838404618294031243L,
+            2468051929214148715L,
+            -9052065865896649998L,
+            -4860268540976625022L,
+            -2701171396405839783L,
+            2635075335035873242L,
+            -318576348076498374L,
+            8692487142096109050L,
+            8275773961245124921L,
+            1598838350573634073L,
+            960741464887672406L,
+            -8905865933290468818L,
+            -3376530180377145880L,
+            871491503821671973L,
+            -3133262625252921365L,
+            -8467971243117240985L,
+            20565794492533033L,
+            -6055242892113331142L,
+            -733824999749906662L,
+            -2713883696228988425L,
+            -5078079974560589880L,
+            -1856015525649712791L,
+            3684961284833236032L,
+            8453629129992331134L,
+            7078671242139391051L,
+            -6300288198018348278L,
+            -1892089524797619878L,
+            4713034104535051507L,
+            8338196061750234504L,
+            7910313335652953942L,
+            3919220945246490783L,
+            2525654281658803762L,
+            -3588795861967492401L,
+            2090914392967666293L,
+            6820609548485691409L,
+            7294428510085927248L,
+            -4085920725862467703L,
+            694088956394264093L,
+            -668614363010563379L,
+            1217993152395424286L,
+            7740263179887047522L,
+            5284159139447230528L,
+            -1821527798250963162L,
+            -3956890081122785884L,
+            -8830045217784017319L,
+            1423471617834098034L,
+            8012434055392670269L,
+            4604296332265635851L,
+            -1337781062039203433L,
+            -6197703263876521187L,
+            2425794067757430359L,
+            -3047133559885054290L,
+            8963815206857532885L,
+            -5441509384949640280L,
+            -9140842609047003829L,
+            -8187049425628667408L,
+            -7527412971325753088L,
+            -21271881566350257L,
+            -5481091733781834724L,
+            -3600374051167890134L,
+            -2851483910912874989L,
+            3083562775408770875L,
+            8130688806342128861L,
+            -7541266102988584582L,
+            7193230720500718822L,
+            -3576665702699280580L,
+            935184678605821448L,
+            2177444645157530370L,
+            8303400206004869541L,
+            -4663442886960975994L,
+            427749483104682167L,
+            -523424293090039162L,
+            786088644732196595L,
+            5688095487212696462L,
+            4587288705999858599L,
+            2481600190853914196L,
+            -6406973826974779939L,
+            -7395227018261440522L,
+            6161965980264969808L,
+            1911995043314684733L,
+            -5521730358706365118L,
+            2399823622554674853L,
+            -3574822788345569078L,
+            -336343914097755431L,
+            8014842650987046324L,
+            8326727898366145229L,
+            2681577413165513226L,
+            -4146264386308289853L,
+            8911301510310552335L,
+            -4680215398331180019L,
+            8900069381706743932L,
+            -8842462086767359889L,
+            8974538228102054093L,
+            1049963351507238102L,
+            -8892767152821311358L,
+            -4134650405331344462L,
+            -1612876177261468860L,
+            -4493866033355771532L,
+            -3895680302537912808L,
+            -9006652325063864651L,
+            -247188126814460878L,
+            -3167761684206793826L,
+            3062476440699635456L,
+            -871726555853502341L,
+            4098444923856967027L,
+            -6396157327103082000L,
+            -525877580631508911L,
+            -5878001722846030085L,
+            -8716406535345198361L,
+            2866945886070485473L,
+            1857858362331566925L,
+            6050636481976993948L,
+            1435590682336074024L,
+            -6480989464632052970L,
+            -5533222129607808692L,
+            -2037927089864344754L,
+            -2218278028470465316L,
+            6420150860953351949L,
+            -2279477386200587985L,
+            -4342197275880495202L,
+            -1479201914445412217L,
+            6257135655767641141L,
+            6204671174708756820L,
+            -931728756595449845L,
+            897998319045904535L,
+            -5088814481892047333L,
+            6161076365633061238L,
+            6060293781432664633L,
+            8927474988387737517L,
+            6274173481821889063L,
+            5332632842348971451L,
+            2909794916498283811L,
+            -5387088151890136728L,
+            -144256543487356231L,
+            -4593787443858935199L,
+            -5756517218591256773L,
+            9069106887729944113L,
+            5286064843672531580L,
+            -3481747654333689256L,
+            3809156273771827687L,
+            -6041343303654455662L,
+            6119474293949225034L,
+            -226517065885127254L,
+            -4377221158405492528L,
+            -7599039055855985313L,
+            -6624928171265893731L,
+            4301699265357710415L,
+            -2684154949619675297L,
+            -3568113808290465047L,
+            2738471303895204857L,
+            -1603864347811332301L,
+            4246702905489803949L,
+            3601029544298045732L,
+            4441029233550271395L,
+            3558367894376063067L,
+            4600447907326717389L,
+            -1797665232876528270L,
+            8275170905394513101L,
+            233703616260827034L,
+            3251624586790863442L,
+            -4150420035618058777L,
+            -5185067739245225246L,
+            4085782023677134257L,
+            893813448548540401L,
+            2625948633204741327L,
+            7346181798376541709L,
+            -924904820118504626L,
+            -8673567851640794917L,
+            4285526170645642568L,
+            9148023797832293727L,
+            1786474289596459531L,
+            -1734844236345991031L,
+            5218706427079092931L,
+            8949640075184937508L,
+            -8432862311954626673L,
+            -927479062338352536L,
+            5511633250416971493L,
+            5139545786660938026L,
+            3171263541919483736L,
+            4375215452250097404L,
+            8838770662101156431L,
+            -7769109388952542169L,
+            -6763076309556247668L,
+            -7893670048886021668L,
+            9197696696672857724L,
+            2850463183619149264L,
+            5575974666858650720L,
+            -6052810252290451770L,
+            5981267684026041826L,
+            -1060775874532019172L,
+            3886860053373548147L,
+            2012645438590545312L,
+            7732410122024238451L,
+            -1192693238876269498L,
+            -6675342279331061117L,
+            4252513891610419349L,
+            -5226124941167474185L,
+            -4127161879012539679L,
+            -4339753583662114493L,
+            4149597668613764489L,
+            7374701809178393382L,
+            4405947609438216068L,
+            -5271440826136390506L,
+            1990867852155117195L,
+            -6040721404854795984L,
+            5016283486957395260L,
+            -7900846628676623609L,
+            9135128456854707112L,
+            5149454975406656715L,
+            5575249941925796100L,
+            6619289636266202280L,
+            -8216667514898614235L,
+            1737811164925820360L,
+            -935982251068490558L,
+            6563599925712131156L,
+            -3675933676722642995L,
+            8966832860641019359L,
+            7083995264567075761L,
+            -8125497911467442704L,
+            -7389347533132453999L,
+            -6383173918170433563L,
+            -8730332134881012162L,
+            4864330174553202044L,
+            4331953229342381963L,
+            -6616283823243564802L,
+            -2675206177564304407L,
+            -1687988937589761617L,
+            -7829176721920859001L,
+            448437279216506466L,
+            5942620194164064772L,
+            8095119493921370719L,
+            -1849990330528252710L,
+            743787111784041065L,
+            3053430079394570848L,
+            5133252492001200705L,
+            -6388610559358893694L,
+            6665584366154537149L,
+            -4254169055220498735L,
+            -8974796960880272824L,
+            -769937611874391636L,
+            -5831153878584476959L,
+            5279859830922765578L,
+            -3512051961868737212L,
+            -6551116860349445306L,
+            -5288800477126724641L,
+            -6673921956683178216L,
+            -3160766258226619816L,
+            4994756355051509839L,
+            -4965244802727784287L,
+            -8396552452774473116L,
+            -944249537004092773L,
+            8561223888032973719L,
+            3291584616422204484L,
+            -6925644327904657962L,
+            -4336926897861272189L,
+            -8836163117034145784L,
+            -64334368718861641L,
+            5185724950428550128L,
+            956048899637229593L,
+            -3850823549310645631L,
+            -6786031982481853697L,
+            -551802836993674596L,
+            300384999788735419L,
+            -1257958376266936388L,
+            3964645361576735179L,
+            -4660273946510462636L,
+            -5031199253367431768L,
+            3422068619284621379L,
+            3008320719168272605L,
+            -3815069026393973949L,
+            -2876212961176139192L,
+            -5639587359607217044L,
+            4498892712335134752L,
+            -5781002793230424574L,
+            3762999564390584022L,
+            8004954171125712210L,
+            3196677149155824368L,
+            -3056402428378657585L,
+            -8037826499530791708L,
+            971180929809421972L,
+            1872847812042896699L,
+            -3451794737619752461L,
+            -7323033052901653276L,
+            -4542613298101695428L,
+            -3104307536903907191L,
+            -4658593916950302362L,
+            6711416887674349673L,
+            -5080885653877663147L,
+            2385309134524823029L,
+            5649459507833896929L,
+            2264805538602299204L,
+            796525069999581233L,
+            -6563228961063905981L,
+            -1932231402962386275L,
+            2052740617526969420L,
+            5274759260548314368L,
+            6455616753609227640L,
+            -4942307908780205968L,
+            5268251776831199232L,
+            2643115906329319466L,
+            6246371233147531616L,
+            3944433203368353111L,
+            9073809854661416943L,
+            5702489106633706052L,
+            9102058039354963979L,
+            8899012113847341565L,
+            5941226205003645240L,
+            -2156344562058243386L,
+            5514760925448909986L,
+            -1513967500662414918L,
+            -4870584451213373135L,
+            5074028218346916086L,
+            -7238258325009414347L,
+            -6171190989063538299L,
+            1672716026949655421L,
+            -4080373795199630321L,
+            1193581674969953682L,
+            -4394485610342941597L,
+            -2456845018733272013L,
+            -6521183489176983658L,
+            -1401323111399287984L,
+            4407719678815595489L,
+            1926785923915717166L,
+            -7095874002498910558L,
+            4146989303291044152L,
+            -2296003566604843173L,
+            258527799848826009L,
+            4767590842499623064L,
+            1498840204833127853L,
+            -5103662984813252070L,
+            7581429961282013285L,
+            -1597871877349465416L,
+            -1836195632153307345L,
+            -8484508728351717670L,
+            -2725606246277300759L,
+            7479033493003917872L,
+            2323996688158847167L,
+            -6747020339384361521L,
+            -815738299625562059L,
+            1148442348110286645L,
+            3271388177994046618L,
+            8043114815560010196L,
+            4872969665884177910L,
+            -4696750036700079443L,
+            266606293263233952L,
+            6149270847283155383L,
+            -8445897312401917266L,
+            8497005159837593057L,
+            -643134815997876029L,
+            -7573239116384658407L,
+            8476164016628338353L,
+            517485019998987187L,
+            1424732160499819244L,
+            -2195844809049944837L,
+            -8334664510417325502L,
+            -6001152760735321464L,
+            6008215443474541495L,
+            -6520021200177327670L,
+            1740356448769436416L,
+            -5254459279214566669L,
+            327147348728875312L,
+            -3633044948287395010L,
+            -141313816534743835L,
+            -5166969776645411941L,
+            8799777576491143798L,
+            2835117969178829633L,
+    };
+
+    static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_0_HIGH = {
+            -595601506725287013L,
+            -5481643464118369068L,
+            143435105167967477L,
+            6592770369374970128L,
+            7025525074558620176L,
+            -5562086979131229946L,
+            2625054434694640176L,
+            -7535376904475740294L,
+            -2151969563580405376L,
+            719045112798940696L,
+            5531384085731488017L,
+            -1971153774867071286L,
+            3562393065762912014L,
+            -8397694859030833362L,
+            5166869631184073317L,
+            -3050197603478703554L,
+            4090850047464060774L,
+            8938423675759060358L,
+            -682817605823118162L,
+            -7361257200551356878L,
+            5476933106501033242L,
+            -5240127026522633105L,
+            5625782012899502310L,
+            -5312600473742956716L,
+            6587672164288426557L,
+            1374600937376419909L,
+            5946824078534070522L,
+            -684146855759563579L,
+            -6864564865137784948L,
+            -8008834483802772136L,
+            4776448405490451696L,
+            1484141326374558815L,
+            812991073519036574L,
+            7159119758704113450L,
+            -592620020697603547L,
+            -995196251369761095L,
+            -932958861744193610L,
+            1670447103661521363L,
+            7889299910436856085L,
+            8728504318021163645L,
+            -1966290284276611678L,
+            -8126506149170877854L,
+            1269523089094905054L,
+            5594874020149471354L,
+            2553038164920014729L,
+            3166240968220099889L,
+            3808462139046780295L,
+            -97082040312846397L,
+            9089314535464804471L,
+            -3665613157765382644L,
+            -8513927820360762955L,
+            9070278860795471029L,
+            4535255201272126742L,
+            1292337684361307692L,
+            -5940964202332339500L,
+            488058013391553516L,
+            -4989370243332336131L,
+            -8907331341914921361L,
+            -418825573816620434L,
+            60952454502835034L,
+            3822683440577901604L,
+            6886639114735158133L,
+            1996495485602465405L,
+            -5094880507164692081L,
+            5808098482655886910L,
+            6274162840051990037L,
+            3185985516139160443L,
+            -3315850114452711118L,
+            -7637155650212975845L,
+            -1143996654993449607L,
+            -326950861206073641L,
+            8220313068944843679L,
+            7129658874280148493L,
+            7296122342880388431L,
+            2829219097434432828L,
+            9210468677001978805L,
+            7437579244738377066L,
+            5395011343200486584L,
+            -4097504823844938338L,
+            489538597140742561L,
+            5775791011708685841L,
+            -6653251379225339676L,
+            -1420466727695439170L,
+            5138145954402296910L,
+            -4759895598663955454L,
+            -8928222923745382332L,
+            -2489425080320297748L,
+            -4901733664894358936L,
+            1701647224182427352L,
+            -4444146974503492831L,
+            6570441447090047765L,
+            -1065854809005694088L,
+            -6711041553891066400L,
+            -75231568242073114L,
+            -127812549771646522L,
+            6356060195215155574L,
+            3483255901033735188L,
+            8032675471465695740L,
+            2261036761357690621L,
+            5909613893578206809L,
+            1656882392563530192L,
+            -1885338572749093292L,
+            -2833524821521546226L,
+            -6818081403966740059L,
+            -6954663899277689373L,
+            6956495159555819957L,
+            -961879096510753379L,
+            4335394007516965945L,
+            8868428644138506043L,
+            -244692222485072514L,
+            2656486962499734265L,
+            -3495091206730735741L,
+            -3341243264894336123L,
+            4996629052577399778L,
+            698630174453700152L,
+            -8859674416440200627L,
+            7903287403172762886L,
+            8176556590203957875L,
+            3705322606326117573L,
+            -8530671518346451493L,
+            3028505065155700682L,
+            4365769228695698438L,
+            8972641287364607584L,
+            1489828265520220357L,
+            3577158926754106048L,
+            -2614606073303265020L,
+            6859297943545551286L,
+            -8460596854244437418L,
+            89641621939907391L,
+            2961711849752660505L,
+            -5115920220351364369L,
+            7424045140836168623L,
+            -5861963344969395987L,
+            -96957019917482719L,
+            -3801068371404462923L,
+            2166020090999198303L,
+            -7755394451703454451L,
+            -4073750712444576644L,
+            4117287563935562605L,
+            6799817724132702097L,
+            -3516143211696671254L,
+            -4669340254021499700L,
+            4244017976015319541L,
+            6487209173829482380L,
+            108841302865164943L,
+            3961395216298258012L,
+            -6193214222395383508L,
+            7737450145740553339L,
+            8324849004401377946L,
+            107673432699610715L,
+            1935165787040199673L,
+            -4239726628587056661L,
+            8022677459948324302L,
+            -881666744685866704L,
+            186517329800797143L,
+            4508130668044029630L,
+            -2342228836770157360L,
+            5675120269032648394L,
+            6176077470437844922L,
+            7062092315342448417L,
+            8003359745022551905L,
+            -3967866129046202220L,
+            -7692853819291181278L,
+            2507999276566432232L,
+            7875758586614799933L,
+            -6561902975780368309L,
+            -5180003769504832363L,
+            -2324463533239414310L,
+            5362301166508885372L,
+            -7427415312573481722L,
+            -524715035569194126L,
+            -5990465828633554345L,
+            8524268115445517344L,
+            8321682451273904363L,
+            3589574989029304013L,
+            -5816405645403920828L,
+            -7874105776580068427L,
+            2368983849677106239L,
+            -2058015741243197706L,
+            4671393116382203405L,
+            -2706258117217935692L,
+            -6719266786984983935L,
+            -3658494332864311777L,
+            -5911069227944187668L,
+            6680475539983160421L,
+            -7854716608332325306L,
+            3232306819743158043L,
+            7933883159670306876L,
+            5723876311353774670L,
+            4428685979377182586L,
+            6469259412992154243L,
+            -8975934981139081251L,
+            -8326227265516255182L,
+            5908865665991879315L,
+            -1810758110694409889L,
+            721707468638189692L,
+            -2784955742958560790L,
+            4538921859929249072L,
+            -1478082981207023664L,
+            -3203965030213733801L,
+            5535767253491579665L,
+            5341111506180889937L,
+            -1968883796464498361L,
+            -5860731856192261801L,
+            -8660247893466935220L,
+            1670112712188731390L,
+            3559724722425487242L,
+            7022052454280850477L,
+            -658824964200028009L,
+            6146156772178112523L,
+            -8943358767330792567L,
+            -8233433752165583266L,
+            2691278305492256476L,
+            -7474502461917278525L,
+            -67489774807882070L,
+            -7895192097470241008L,
+            -111007600024134336L,
+            3798199736560981774L,
+            5536802287269895573L,
+            7908518276814437201L,
+            5358765895069513418L,
+            -974402748575826519L,
+            1579470599784816865L,
+            -4448867370509232747L,
+            8251701144594347414L,
+            2645941361575682993L,
+            -6241883198120368128L,
+            1196875503094213294L,
+            -7057089403541632351L,
+            -7539556339998307695L,
+            -6553951527093705552L,
+            3059308459724628349L,
+            -122921322982829792L,
+            4480444113432770043L,
+            7426768535356138742L,
+            -1807682727971245768L,
+            -6745274249845093176L,
+            -6984655154141264376L,
+            -4911070659278965441L,
+            2907467327502168200L,
+            -5462650320194392636L,
+            -5739897858476262997L,
+            -8774311667328057097L,
+            -1427247980671025102L,
+            1330320683816796727L,
+            -1009254622544142347L,
+            1080423628917876881L,
+            509105886283206988L,
+            6554083629417272262L,
+            4029856842815932842L,
+            -6483027278607341549L,
+            4508914098385640453L,
+            -3477302313726394569L,
+            2706943718034491366L,
+            3380841441280871842L,
+            -6497153596914950356L,
+            7755686155328063354L,
+            -6873397100823854142L,
+            -4577323498848653091L,
+            -8636263178046216916L,
+            -5446310079024637654L,
+            -1378769341982989952L,
+            5450456794276602636L,
+            8534696221155406335L,
+            -838023735716926661L,
+            949667892252499230L,
+            7886362684513749573L,
+            -6733724883315530285L,
+            4623755537509508853L,
+            6719108487615792330L,
+            -1240427805795925766L,
+            928104614311388784L,
+            -26083543902137923L,
+            1491808757585799543L,
+            -3631763918906631224L,
+            -1607526316749105559L,
+            6301659375259590050L,
+            -4538934726753873579L,
+            -495609914378478209L,
+            4330408927968901056L,
+            -8251216999318252853L,
+            4764678848459554013L,
+            5658053137605106118L,
+            -8209948978378225597L,
+            -7042109822728863317L,
+            -4167645545197340562L,
+            -7507360703712721232L,
+            7082120544674178196L,
+            -6317434155535139626L,
+            6966222159197016299L,
+            8242919217261639412L,
+            -4693405670866440555L,
+            6515750108670758026L,
+            -6988099973968853732L,
+            8523184737430446555L,
+            5283201193160528527L,
+            365532246581939475L,
+            -9213945612822148039L,
+            746054490666849977L,
+            -3449351658019099503L,
+            4402751233390205552L,
+            6168025199020905441L,
+            -420616625024958354L,
+            4305955137881625004L,
+            1484597404850740860L,
+            -5066347383690929105L,
+            -4635414698292092053L,
+            -2219423507822397667L,
+            -5889636676098399508L,
+            -3607264372413241446L,
+            5440550159332171486L,
+            -5933070093810354926L,
+            -4282174405109557676L,
+            -5625922796989860417L,
+            -7559319244980675851L,
+            -7559626542467632296L,
+            -3644118937366648028L,
+            4859002510626517845L,
+            7215271230627118743L,
+            -3999177150323955909L,
+            4832771737051326741L,
+            5711296819584779076L,
+            2367684754880429453L,
+            366692808455892665L,
+            -1741779491030635153L,
+            3256731249344063723L,
+            3985084641034991751L,
+            3937512213367309067L,
+            -1317791471040443028L,
+            3563950730282130270L,
+            4309027965126025475L,
+            -7529782604890218987L,
+            6201777564253026815L,
+            -4388939773891566083L,
+            -2199457145699333025L,
+            6752968696727650623L,
+            8894101436892670620L,
+            8368167207173185121L,
+            1041539280138819008L,
+            6803900171180640051L,
+            -1701083570213391575L,
+            -8078993128287766541L,
+            6013601463805175748L,
+            7593632965650485495L,
+            247683990392197872L,
+            6688355137030702147L,
+            -8036902143642995136L,
+            -8303898940476809387L,
+            -3098749220535569417L,
+            -8083725075311793233L,
+            2397510750423666199L,
+            -4163150922747144664L,
+            -5623162790685731330L,
+            306024421295034933L,
+            7858180546819220168L,
+            4661130415905760871L,
+            2882326386578509157L,
+            -7356679310461583918L,
+            7384188100719525327L,
+            -6860183190613492359L,
+            -4362359396858966351L,
+            -3598334409579394656L,
+            3188819049440214678L,
+            1179085821744221919L,
+            6978614650362401046L,
+            6377192718607205369L,
+            -8013335255896383745L,
+            -2442266563735817638L,
+            -3059862455619081876L,
+            -2237657176702086355L,
+            2669474886865140809L,
+            -7882199125626525997L,
+            -4472383759484090743L,
+            -8032156071520682677L,
+            -4800101694865738814L,
+            3142855012042719246L,
+            -6378235198524446421L,
+            7941026150698475529L,
+            -2064747206864282560L,
+            3018155442075014576L,
+            3630873580576831557L,
+            5470443086178222723L,
+            -7096409794467851648L,
+            -8209620837073028930L,
+            -8119019827279317092L,
+            -1690888023422212203L,
+            -8680485072881581961L,
+            -7279516467444722178L,
+            872850850476743121L,
+            7111004485068180798L,
+            -304266151980355107L,
+            -1809476362318699933L,
+            -2183362999502280302L,
+            -3926174315641335791L,
+            240507399290854861L,
+            -4086019846479975602L,
+            312365504867163861L,
+            2891114800250587589L,
+            -5760158801944137195L,
+            3740024136664035576L,
+            5070303869921505955L,
+            -1752553437257004947L,
+            -2928613891691686866L,
+            204897548219447263L,
+            -1520651343294828720L,
+            -1332951357723952223L,
+            4636320905751391287L,
+            8447873592240860337L,
+            8489059607048449732L,
+            -8901796937927317262L,
+            8891781902651889875L,
+            -4648217824177402680L,
+            -3958885434851243121L,
+            2809627879209622121L,
+            -5884597569239765817L,
+            -2618345367007258390L,
+            -8853994332084433361L,
+            -5609299045166337029L,
+            1580154732362018421L,
+            8772742833247632103L,
+            -356285082545824002L,
+            5829273042608207413L,
+            6065130021740800003L,
+            6776522610916968324L,
+            -6897614567718611958L,
+            -6152595249555419665L,
+            8154600077624154812L,
+            1150970243218282785L,
+            8570554437471824525L,
+            573680516551250718L,
+            8394959508875810491L,
+            -3809463327286365338L,
+            -920597441445833114L,
+            -301590776918793935L,
+            -451446602356834163L,
+            1681586021503206840L,
+            9136537905154462462L,
+            7911710895138116896L,
+            -6836985190782024588L,
+            8613556819596830434L,
+            -7216965148454582154L,
+            5893394753843188098L,
+            5577133352488164423L,
+            2240149320977413126L,
+            -5343469815984323964L,
+            1600402454239236262L,
+            7238930606324537771L,
+            -3375120331826982645L,
+            817214366807059940L,
+            4689483882833119490L,
+            1020644507688062529L,
+            7253995979523959241L,
+            2538885857707055941L,
+            8960577090136316242L,
+            -6456324160987907722L,
+            -337794737487660665L,
+            -3651425744144426979L,
+            -9143307792646150326L,
+            3156449724215714638L,
+            4234849002296681564L,
+            -3618341562207883260L,
+            7985796542363230650L,
+            -1801567699458037702L,
+            8782103419086776971L,
+            -5867179912642175484L,
+            -8219915287223130549L,
+            2260205352172165217L,
+            3684980034488642656L,
+            5575391781395824252L,
+            7094911370007356099L,
+            22107368413170606L,
+            -7637568821629941246L,
+            -4510499445888599358L,
+            -1264986246882512321L,
+            -2064877522879203832L,
+            299730980871089725L,
+            5419096123098876108L,
+            -1781322910825755054L,
+            6128199988034787818L,
+            1520397318112991312L,
+            4485774279602263340L,
+            -5887881633071584269L,
+            -2625590892776907955L,
+            -1245689208861726406L,
+            2764858361883322051L,
+            -7439284666019707738L,
+            -5851264434347039013L,
+            9121496279170448811L,
+            6056858534385381522L,
+            -3130679987847159900L,
+            -1702900441507541371L,
+            157524253771473279L,
+            -2314374892097927949L,
+            -1596444779624556946L,
+            -8793390308541832125L,
+            -2652871515512468761L,
+            -7851443509998418352L,
+            -5428207544604675378L,
+            4492157888881383400L,
+            -8987548007274399284L,
+            -8164007859561929956L,
+            -2255377330803044941L,
+            9160646130443143617L,
+            -7970416888852604820L,
+            -4315036335131489103L,
+            6049355381654581726L,
+            -1675457223938994125L,
+            7329637865893960566L,
+            -5656255401868300163L,
+            1749436682288651030L,
+            -843209321080135493L,
+            -541270112190820922L,
+            1421656013689275679L,
+            1170909997735634331L,
+            1107548344135372205L,
+            4411885599306143998L,
+            1715131203324182473L,
+            7559730492834223397L,
+            -7010552562134292833L,
+            -8774282043976471341L,
+            7578808231959315146L,
+            -471992628213078478L,
+            -4401244475258829166L,
+            -6192087804774653539L,
+            -8385614286812685668L,
+            -2807562060571389833L,
+            -696403372224192918L,
+            -6382551507507686457L,
+            6054042684303564121L,
+            -4855478291004923051L,
+            635352686164810820L,
+            -8044342338446812064L,
+            -1796491071627104162L,
+            -2114091776612579988L,
+            5840964129205164994L,
+            -3582789233755536930L,
+            6060347300396153855L,
+            -49968522750077117L,
+            2159197310453206227L,
+            -5090703342646854942L,
+            9002265561759974350L,
+            8533876169349905333L,
+            -7383008011598217681L,
+            8564695481728635842L,
+            -8166148829297063908L,
+            -3904908980187158949L,
+            2671738681682357292L,
+            -4536478484628465715L,
+            -1991489564899234957L,
+            -6100046112891058533L,
+            -3200002849001061144L,
+            4290933966469331095L,
+            3382790909302794722L,
+            5012941074479610186L,
+            -7106521768021495391L,
+            229085274195939358L,
+            -9083838032934681619L,
+            -6331769454812336750L,
+            893361896396002853L,
+            -8815135759866993410L,
+            1483778727315799614L,
+            8625177612805862924L,
+            7744611636575656351L,
+            -2984248565039265807L,
+            -3497442299797225170L,
+            -8205558056754117017L,
+            8105819455255321018L,
+            -2537308677793951566L,
+            1347778161973025164L,
+            3092818914162088429L,
+            -2387786083284454469L,
+            -2933193358478912509L,
+            1633177152621560489L,
+            -3397892661537073857L,
+            -2510832452914622165L,
+            -7636435520136633965L,
+            8329225787257902674L,
+            -215675890122249589L,
+            4856969552938179312L,
+            -7685323361089873610L,
+            9033976676907795744L,
+            -3942183739900637338L,
+            -9095253985178419053L,
+            6722539701116711723L,
+            -6051693217341280006L,
+            -507078147321735899L,
+            -5160076707694066753L,
+            -6675874070672428713L,
+            1773344692537601809L,
+            2979455779666027943L,
+            1306322859092925954L,
+            -5089982301441736118L,
+            5243711808154660502L,
+            -973561666953288172L,
+            8351021546052545679L,
+            8646167888833679733L,
+            -5294348940573133530L,
+            6566485958807133677L,
+            1607063264144426828L,
+            -1573142778294167051L,
+            3583652741398965015L,
+            -8784776812834853676L,
+            -474503118560703576L,
+            -1712004376490531697L,
+            2757925156685451485L,
+            -1543997425473245392L,
+            -7945831215960508339L,
+            6228884033097135358L,
+            6735798830907873004L,
+            -6406747513588168596L,
+            -3134669540200241215L,
+            1874352133687093950L,
+            -6503046713554380857L,
+            -8533996116692791683L,
+            4882374044660479286L,
+            -5856344162101384313L,
+            6317674410651447851L,
+            -3112583541169787566L,
+            4176866807640018095L,
+            -6325670848916084165L,
+            3519555674748679583L,
+            7253186820975870281L,
+            -8797444403414594535L,
+            7890448509846366143L,
+            -728397612111899296L,
+            -1234413204580014838L,
+            5144539258763339476L,
+            7767558026076357079L,
+            -3837942505265738013L,
+            -4373495830053132240L,
+            -3023525980241690481L,
+            -959037295989004130L,
+            -8623244615634012694L,
+            1377333863451828025L,
+            5144215935889564323L,
+            -4455612224255167671L,
+            8705090854909787309L,
+            5619616287505832624L,
+            -2970786218754449014L,
+            9004484629729410699L,
+            -6566144681008134527L,
+            -8657661391824824238L,
+            -2962681622291523638L,
+            -1229654198530229561L,
+            -5560519414877657562L,
+            -617311606591161867L,
+            7607434218504532217L,
+            -6508796542317174265L,
+            4124538016072355781L,
+            -2718265344023087689L,
+            9180139352759722676L,
+            -884083732911937481L,
+            -2480421376537103626L,
+            5166095780942921049L,
+            6884262457636888424L,
+            5120988941437092649L,
+            -8994523053196708903L,
+            -7069938191378067204L,
+            -1748319649542701683L,
+            7301906114320208761L,
+            -1493620282057698120L,
+            2250793009634705154L,
+            5693868531737430807L,
+            1001364309305712899L,
+            7730804263197576039L,
+            -4708284690872996159L,
+            1373975785328903440L,
+            -8780538428195791042L,
+            9180947838016950954L,
+            6463511474127387614L,
+            -6934132692851265233L,
+            4572232921728806068L,
+            -5161802762803943829L,
+            1793586211602927487L,
+            7959141651993567558L,
+            -2388407168411225557L,
+            -4368196655984101281L,
+            886603541233326925L,
+            -8379714314251074863L,
+            -8436364748041327197L,
+            8884355820366024428L,
+            -200887953400798034L,
+            8031446164913484467L,
+            -8497383498378181072L,
+            2792788141343837830L,
+            1336125344395147368L,
+            -1172920498584813070L,
+            810689452441554903L,
+            3335633663383618345L,
+            -57861472498259053L,
+            4270593034353441798L,
+            -8750595115826546675L,
+            -1210606065753642836L,
+            844252613517657110L,
+            8188594781406358264L,
+            -1114381275973424665L,
+            2143205674280668108L,
+            514966986910660359L,
+            -35619462383701524L,
+            4844934200258181215L,
+            5122951404432475856L,
+            -5098470222450628944L,
+            7345114772757873448L,
+            -7628694017201006379L,
+            2425021001781172441L,
+            7477114154565842398L,
+            2435677241401744287L,
+            5221265391237748519L,
+            -5969417615666218779L,
+            8274336938820560878L,
+            -6019511619554041087L,
+            1977750149721796777L,
+            4631343080116767543L,
+            -9032939758258465846L,
+            -4737862955952992401L,
+            8205268846731299322L,
+            -4133589150614590526L,
+            5081185697306365735L,
+            599468086445323083L,
+            -5448360629971658197L,
+            1570955867650815182L,
+            4874309470706060975L,
+            7260326084274042209L,
+            5142923428439460454L,
+            6286133961587222514L,
+            5408712006531489847L,
+            -7358969657164386309L,
+            4958761090931452423L,
+            8269718730918734332L,
+            -2865828738280296840L,
+            -1574343349433461066L,
+            2348764175919460742L,
+            1372802766048741192L,
+            2305700847615518576L,
+            5608864916995047037L,
+            -3629273004119412410L,
+            912675333947151983L,
+            4379608060539582564L,
+            -646328443476256852L,
+            8233442585732173883L,
+            -2571869468377020766L,
+            1563302702015373259L,
+            3040693612635833442L,
+            -1603914479617497524L,
+            -5487359392146670273L,
+            2413096994744486571L,
+            5579352815203816399L,
+            6332892449723257278L,
+            -3493182593002328579L,
+            7117219077832428395L,
+            4588692953562339893L,
+            3320111868571042476L,
+            4539075956964286894L,
+            5860658490809404294L,
+            1521238425511856908L,
+            -1206758338550637697L,
+            1194801899116933869L,
+            5431428531700085206L,
+            5284691943190933365L,
+            8367832004110370539L,
+            6064235142627076490L,
+            -2887732451755921281L,
+            -1857148365708876174L,
+            7070752816778368548L,
+            6911398321187010321L,
+            171679766134096748L,
+            8045402128640824995L,
+            6228290852044716381L,
+            -5099627309931537075L,
+            1121524808269243553L,
+            -8171225347518012707L,
+            1546783035826187606L,
+            -5696357199866479741L,
+            -5803706777375293682L,
+            -8371357487557995106L,
+            5284956814647215570L,
+            8737502747701973814L,
+            2345970156830891390L,
+            1131983793017447520L,
+            -5435199946154516314L,
+            -5555932356819653658L,
+            4395571387355109096L,
+            2760710307663316200L,
+            785705173025870349L,
+            -5764328282668921224L,
+            3681773395252166188L,
+            1803729626143395522L,
+            3197939036092419487L,
+            -3007599436998731069L,
+            -5039175734224061639L,
+            -4989390783024670128L,
+            -4634081818779954286L,
+            5816361758354088554L,
+            -4526220857063107755L,
+            1517759950940569779L,
+            -161415949386666570L,
+            1038639090617600580L,
+            4016648097378798721L,
+            1397332292214590099L,
+            5187048356620309071L,
+            5720896540329530989L,
+            -7714813739353018314L,
+            -8886942484649828543L,
+            1010479297559943275L,
+            6950414289145303488L,
+            -3149007807697455081L,
+            2173214982247291828L,
+            -8435154265044252652L,
+            -8159316023156534142L,
+            8924642321562855095L,
+            -752598576495867923L,
+            8330173222481742744L,
+            -731997376158829922L,
+            -2595515243126484112L,
+            2896809536700223342L,
+            -1601853861139546023L,
+            1477577837438998518L,
+            -1762376986335825199L,
+            -9160060286019092080L,
+            2070781012908706333L,
+            -4907932175686550482L,
+            9016290752880539445L,
+            8856123277650420669L,
+            -8086305877299803195L,
+            6893093981848076957L,
+            -5312684861308357040L,
+            3670055788903712069L,
+            -2255651745240254845L,
+            387177510556256642L,
+            -4615441776079150921L,
+            802508356275285580L,
+            -7630003863225378317L,
+            7785363894528668162L,
+            -4059376653060972903L,
+            5783817371401614133L,
+            -3737203023660462641L,
+            4276444643507311463L,
+            -4247424956397970383L,
+            -2302823270450250434L,
+            -3156173582041918653L,
+            7295629460111238899L,
+            -1604374666056912731L,
+            6995560632959598948L,
+            -6442683988463171285L,
+            -2742704145320167010L,
+            508531761161046688L,
+            -650869319539923741L,
+            1917238968581958758L,
+            -8198019971023943820L,
+            -8838241845266534178L,
+            -6717245666665300524L,
+            -5822929452924432940L,
+            -8867185316344593660L,
+            -7247867516482606887L,
+            2301131140074995104L,
+            2851527360157083561L,
+            -1722915270388733472L,
+            7830830205478728074L,
+            7681374264683674903L,
+            7550908012035870999L,
+            -7547422683562236093L,
+            2599565165376979404L,
+            8826325725212431103L,
+            5479597802772044807L,
+            -3674971592962991257L,
+            -5119283541664801085L,
+            5114373599379147594L,
+            4286380771729546211L,
+            -4835609989227849035L,
+            -2001518595038645473L,
+            -8761237421797271917L,
+            -8252507157509428551L,
+            -8482032467439324136L,
+            -7585325082687903250L,
+            7894605168255927610L,
+            -5849768693820064978L,
+            -4899018644102390763L,
+            -5801736146573261109L,
+            -1601610358036160202L,
+            1483061764605550240L,
+            8865678055923343625L,
+            2935259310874142157L,
+            -1796564758354798888L,
+            -1169271205915351636L,
+            -5239554941654041352L,
+            823330018173270830L,
+            -3834648201443672390L,
+            -6796692150563231270L,
+            -6808921972676864846L,
+            -6451419789295560917L,
+            -8761314995620139539L,
+            -9043280620659584013L,
+            -1459790290701363206L,
+            -1017560038932676696L,
+            70520556157770465L,
+            1974802473718865365L,
+            -1036458812354185961L,
+            -5394434695396048713L,
+            -4916032870012910574L,
+            -2795164268808074125L,
+            -8442152372843913120L,
+            1234729057600573162L,
+            8974268004269561566L,
+            6112049683136906532L,
+            1512968618228248378L,
+            -6378649483246299971L,
+            -1338792622289701186L,
+            -4045658120471899907L,
+            -5853593909722539961L,
+            6463629176208786125L,
+            -5389319745766160992L,
+            -4833627145804715648L,
+            4644032932385643354L,
+            -4655561393425998421L,
+            -5756288776887927050L,
+            -8162131339610383650L,
+            1156883241323804110L,
+            1824239513231991916L,
+            -4684355162987564004L,
+            -8865691402429992053L,
+            6112032538197711243L,
+            4673688892585651383L,
+            -6047350189499857257L,
+            -4941168925245699291L,
+            8432923645067521583L,
+            -1086362725585906127L,
+            1817242114799050136L,
+            -4423168067334064962L,
+            8514849302268303230L,
+            -4160356353568013791L,
+            2670796960230892250L,
+            -2603819172002528921L,
+            -1291767136749151102L,
+            -6398268079317824000L,
+            1253360442543839511L,
+            -6266784191892677683L,
+            6375643893928646361L,
+            7255465073848100947L,
+            2236565383914696636L,
+            5423175205646179000L,
+            7874659424912705944L,
+            9120354004480257607L,
+            4460930532495271885L,
+            -9037320581889926723L,
+            476142118659990128L,
+            9139366239959546234L,
+            -3258990161271275588L,
+            8810795447640564565L,
+            -5331888431095751021L,
+            919853914893753584L,
+            -4246327015501896385L,
+            4941211795121431320L,
+            -5711266406325476402L,
+            -624908548147461014L,
+            -2825917579384357230L,
+            2545022261983386360L,
+            3093640101946907279L,
+            -9061498643541625239L,
+            -2956799891955170956L,
+            -5574591806915861180L,
+            -2867073630870459651L,
+            3579967967353922162L,
+            8569641862656765700L,
+            1660408169002207166L,
+            -1138950438306349415L,
+            4736942274345091042L,
+            8056184289000764311L,
+            4466366488640810811L,
+            -274054102272046452L,
+            7754425718970880431L,
+            3249178488468415785L,
+            2612042713240591468L,
+            -1405277445504485958L,
+            7330749239661996715L,
+            -3830250765650167972L,
+            -2859915299954771136L,
+            -4725266263448310902L,
+            7424221312702052608L,
+            2470600614433787608L,
+            1074167406503748107L,
+            -3117169476193643088L,
+            1631467955578962058L,
+            2085307210210610179L,
+            1205753558456205709L,
+            -6254375716079492916L,
+            -7702725044586815605L,
+            7675596157397155409L,
+            7781993845909533962L,
+            2928031896250392135L,
+            2649392710204521513L,
+            7797508691491999522L,
+            -1933100589288615194L,
+            -5974951064695662808L,
+            -3507917581351204500L,
+            -7460038422697786584L,
+            888982896217820133L,
+            8058557213070416957L,
+            6779985224473660929L,
+            -5547823082136576078L,
+            -1820501666921801068L,
+            1840460390145040521L,
+            -3205349569628077156L,
+            703932963191366483L,
+            151952186667412467L,
+            -4458576471413129419L,
+            6596075822369573112L,
+            -5492174149331162376L,
+            7379134358433229147L,
+            -5114399334916927925L,
+            -2986819126814118460L,
+            6919470971164021136L,
+            3086906717277887244L,
+            -3543433691518989273L,
+            8166231767635920044L,
+            -513524072012416133L,
+            -8293475828684049631L,
+            -951024298152903239L,
+            6573971977505447602L,
+            4159053269901403668L,
+            -6402025165858703805L,
+            -8448205797393242082L,
+            298947897760359163L,
+            703299480220447055L,
+            4160331945150557168L,
+            2465531026119501030L,
+    };
+}
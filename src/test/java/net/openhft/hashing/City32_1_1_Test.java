@@ -0,0 +1,2138 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.runners.Parameterized.Parameter;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class City32_1_1_Test {
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[] {len});
+        }
+        return data;
+    }
+
+    @Parameter
+    public int len;
+
+    @Test
+    public void testCityWithoutSeed() {
+        test(IntHashFunction.city_1_1(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEED);
+    }
+
+    @Test
+    public void testCityWithSeed() {
+        test(IntHashFunction.city_1_1(42), HASHES_OF_LOOPING_BYTES_WITH_SEED_42);
+    }
+
+    private void test(IntHashFunction f, int[] hashesOfLoopingBytes) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        IntHashFunctionTest.test(f, data, hashesOfLoopingBytes[len]);
+    }
+
+    /**
+     * Test data is output of the following program with farmhashcc implementation from
+     * https://github.com/google/farmhash/blob/master/src/farmhash.cc
+     *
+     * #include "farmhash.cc"
+     * #include <stdlib.h>
+     * #include <stdio.h>
+     *
+     * int main() {
+     *     char* src = (char*) malloc(1024);
+     *     for (int i = 0; i < 1024; i++) {
+     *         src[i] = (char) i;
+     *     }
+     *     for (int i = 0; i <= 1024; i++) {
+     *         printf("%d,\n", (int32_t) farmhashcc::Hash32(src, i));
+     *     }
+     *     for (int i = 0; i <= 1024; i++) {
+     *         printf("%d,\n", (int32_t) farmhashcc::Hash32WithSeed(src, i, 42));
+     *     }
+     * }
+     */
+    public static final int[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED = {
+            -598290054,
+            -1062656172,
+            706115766,
+            -674655518,
+            1634603314,
+            -26331180,
+            1363511678,
+            -806714275,
+            -351284522,
+            2094257888,
+            350560848,
+            -1826774744,
+            -566038756,
+            -1965198332,
+            1771531216,
+            -892533438,
+            397328263,
+            513526746,
+            -1167586229,
+            -137379878,
+            -1004918122,
+            1245653895,
+            1266538423,
+            501277941,
+            1624205988,
+            778952568,
+            396746592,
+            268515748,
+            -278429391,
+            -1051168643,
+            -740745897,
+            -466332888,
+            1754542869,
+            -514953826,
+            871981190,
+            1967769354,
+            1140280595,
+            647045068,
+            -993688554,
+            168837684,
+            1346559884,
+            1883568074,
+            90028991,
+            -835107202,
+            -38311551,
+            1903058640,
+            97567784,
+            424720754,
+            -1711666652,
+            -181283480,
+            126478222,
+            1456295835,
+            722086068,
+            575243576,
+            647075998,
+            -2098331429,
+            -596117314,
+            -21981179,
+            95248106,
+            -1001797993,
+            -1900259890,
+            -1055313509,
+            1112939728,
+            -273622888,
+            1406313667,
+            2051643261,
+            444218210,
+            -909396872,
+            -800415752,
+            369621242,
+            527564171,
+            -733599309,
+            1567659282,
+            -1663759934,
+            -1917205238,
+            -1802036950,
+            -1610019678,
+            -1103166412,
+            -30645782,
+            1319628824,
+            -587039158,
+            2122781945,
+            -2128144185,
+            657562167,
+            468488674,
+            -671477258,
+            709708373,
+            -1269383569,
+            -468202192,
+            1462288635,
+            1532390568,
+            2064936761,
+            202996096,
+            682480127,
+            1047565747,
+            -351620081,
+            1629101036,
+            -972350177,
+            -76157537,
+            -440210143,
+            1457674469,
+            -1179518598,
+            -876955469,
+            478924122,
+            907016210,
+            1497180052,
+            -474617600,
+            2041742012,
+            -1856659777,
+            1689195543,
+            1118658671,
+            -384821103,
+            -1434258512,
+            -78915214,
+            -1463308727,
+            -830848944,
+            -1801098136,
+            -225338792,
+            919298164,
+            310257481,
+            -536014002,
+            1109511911,
+            1463806860,
+            350177411,
+            -594795525,
+            -1111532358,
+            -2116278055,
+            1434661289,
+            1394730032,
+            -684212024,
+            1817080658,
+            -1738674468,
+            -1092420926,
+            1643475301,
+            -521522250,
+            -2135777499,
+            930566520,
+            1099184033,
+            1821071006,
+            -143599576,
+            1873536118,
+            1858182551,
+            -884929732,
+            -775403452,
+            -2003822383,
+            1096037886,
+            -458953699,
+            -95815146,
+            -1746216142,
+            -1598293101,
+            -637641679,
+            1644285101,
+            -603709380,
+            899843326,
+            82367323,
+            325761360,
+            -994785290,
+            1201534719,
+            709453025,
+            -1094890073,
+            -1605846223,
+            -1230417567,
+            -1198539914,
+            -348650280,
+            -2121825710,
+            -1824180921,
+            228389487,
+            -1970779955,
+            -1293404860,
+            -1155499585,
+            -1074666053,
+            -1827428999,
+            792035647,
+            -1166173426,
+            -1945014436,
+            647017951,
+            433358767,
+            1917133086,
+            -1690192111,
+            611296560,
+            -1003711686,
+            767971190,
+            1368458242,
+            -1247901036,
+            -819358845,
+            -163933532,
+            -1494836005,
+            -554458422,
+            -729230650,
+            1062511443,
+            1122809594,
+            -266048515,
+            -1075574660,
+            -896938626,
+            263091837,
+            1929775305,
+            -1462974920,
+            837521695,
+            81409646,
+            901065894,
+            1658173786,
+            -523407994,
+            1896420078,
+            -1449074316,
+            2082162590,
+            1716254583,
+            483980325,
+            425644624,
+            -1850363922,
+            1100958158,
+            -189008230,
+            -1996024340,
+            -142480495,
+            610028857,
+            -296843000,
+            -259601499,
+            426543638,
+            -741074505,
+            -762066009,
+            1789540584,
+            -447886779,
+            1537259023,
+            -1347699327,
+            -364564019,
+            1738843528,
+            -2143466407,
+            -1723174469,
+            916088684,
+            -375602492,
+            -16734504,
+            -378669746,
+            -94424160,
+            1226391889,
+            56536346,
+            -863294133,
+            799508829,
+            -1645356096,
+            450559933,
+            -1697225579,
+            1804344578,
+            983520976,
+            -1177766659,
+            531688997,
+            -1741993834,
+            148739029,
+            847413579,
+            1767985618,
+            1116705348,
+            1056481466,
+            -1157870107,
+            1286046022,
+            -1468828427,
+            1336109743,
+            1231544778,
+            1687285062,
+            -1771138913,
+            -1470756471,
+            2016160355,
+            -1486454894,
+            -2113355032,
+            1953415454,
+            1041556326,
+            1295255637,
+            -712122,
+            -1800564979,
+            -90377127,
+            -437977487,
+            -519106140,
+            655383303,
+            443014906,
+            204315963,
+            -2042374779,
+            -732142963,
+            -788713376,
+            1145766586,
+            500557945,
+            409277608,
+            136797034,
+            -431116990,
+            -451133451,
+            1513510465,
+            616778305,
+            600707836,
+            1332041775,
+            1125811603,
+            1141836320,
+            -785427924,
+            322587218,
+            661657512,
+            1330878223,
+            1223400827,
+            -125878770,
+            392197468,
+            124890704,
+            1717358516,
+            259507991,
+            -927010028,
+            565145732,
+            -1246754943,
+            1861232559,
+            -1282118956,
+            1091358435,
+            -716637845,
+            -1519037499,
+            1792750101,
+            128880503,
+            -1097927280,
+            475217155,
+            -901821998,
+            847265833,
+            1327872449,
+            1499786950,
+            -1327260676,
+            -529777791,
+            887571774,
+            -1908764298,
+            798514051,
+            1448669130,
+            -1640842824,
+            -853127499,
+            -438947649,
+            136244270,
+            -1671349655,
+            -2075960783,
+            -1419288212,
+            -1884709105,
+            1761615049,
+            1217110598,
+            -1557145909,
+            -2087211286,
+            -1890648257,
+            -998290853,
+            504244769,
+            -873525591,
+            -1919795479,
+            -644233295,
+            1479138811,
+            587041124,
+            2086732318,
+            -1538489706,
+            1326721541,
+            2057614954,
+            1655299393,
+            -2038053830,
+            -671792878,
+            1509328669,
+            2020226574,
+            1817588165,
+            916169814,
+            -1714738983,
+            -1915511189,
+            2146550838,
+            -1694654995,
+            -2054627297,
+            683059499,
+            -2085854134,
+            -1191708454,
+            2088642321,
+            1996430891,
+            1121549969,
+            1672098588,
+            -98320105,
+            -438142374,
+            -2016371652,
+            -1997300182,
+            -19067807,
+            -514207604,
+            41523086,
+            -168385309,
+            513078814,
+            -987557582,
+            -815985653,
+            -1367038572,
+            259758940,
+            955309002,
+            2105000359,
+            -1544732139,
+            1236365862,
+            1310231005,
+            -211684918,
+            1296455712,
+            -1810686713,
+            -938651501,
+            -134137641,
+            -1854449886,
+            1280855802,
+            389453597,
+            1784967529,
+            -1255009616,
+            1781765001,
+            2089948938,
+            1091108880,
+            -1074353598,
+            -1099120132,
+            1177620816,
+            -2136467230,
+            -1838389404,
+            -1269964466,
+            1519891156,
+            -1832901251,
+            1421926241,
+            -2113293036,
+            457226586,
+            -1909492053,
+            -637074004,
+            1025274267,
+            -905669256,
+            -1749592299,
+            1032560287,
+            1017042927,
+            -1584873379,
+            -2052829407,
+            1758446632,
+            1239144688,
+            624875928,
+            -882353144,
+            612607980,
+            -44641819,
+            99559920,
+            -498421051,
+            2129009331,
+            2102870541,
+            1244978609,
+            -726002353,
+            -221434838,
+            -1836089437,
+            -1963808900,
+            -2100291264,
+            800569974,
+            -1627019634,
+            952070302,
+            -634649977,
+            -384839676,
+            89141684,
+            -1898672106,
+            -1530669144,
+            -1931480082,
+            -1923953778,
+            -1031203478,
+            1741674057,
+            643138671,
+            1966946549,
+            -393536971,
+            -774636539,
+            -292407325,
+            -77548383,
+            587333352,
+            2053351469,
+            -106598323,
+            19976483,
+            1569119543,
+            1058393360,
+            -1620081179,
+            -1809771969,
+            1249875815,
+            -636601723,
+            -1652590375,
+            -565948456,
+            1012230221,
+            954234546,
+            1736169666,
+            743198339,
+            -1578085860,
+            2126594992,
+            -342380601,
+            294167229,
+            -1534873660,
+            -659033763,
+            1355181870,
+            -902083929,
+            938645860,
+            -2024962944,
+            -1864673476,
+            -407815702,
+            1058166910,
+            -1066732640,
+            37453097,
+            -1129650336,
+            -1389555605,
+            884772061,
+            2142405404,
+            -69247445,
+            -406350295,
+            -924548534,
+            386538957,
+            1083800481,
+            -793584326,
+            1425511125,
+            -136720430,
+            -976059001,
+            898165323,
+            410437073,
+            -767963143,
+            325086297,
+            -1277622954,
+            370235523,
+            -1024313894,
+            957993115,
+            757716512,
+            1838701024,
+            -1440905455,
+            -1596998646,
+            519198630,
+            1506053747,
+            -1764248210,
+            -940468107,
+            549867858,
+            837575887,
+            249170171,
+            1561403314,
+            -1531136192,
+            -612732240,
+            -1707065381,
+            -1214120379,
+            -1692107871,
+            2054942998,
+            244505292,
+            -923803658,
+            75699354,
+            1613764597,
+            -1367060725,
+            -1865425971,
+            1998188532,
+            -2090931871,
+            -1430423594,
+            -604015750,
+            -1358350508,
+            -2016958019,
+            -1000252683,
+            -141454205,
+            -804569793,
+            -1744618020,
+            -1183486181,
+            -951345194,
+            -1633523463,
+            -2109235296,
+            -982894823,
+            1096457914,
+            116911322,
+            2147003406,
+            500287068,
+            1706399986,
+            1412517080,
+            78498791,
+            665137831,
+            -1940458483,
+            -1668577824,
+            282513349,
+            -1462886324,
+            -1892147931,
+            448235755,
+            -1712445192,
+            493019582,
+            -1921761419,
+            -1212536784,
+            1373316625,
+            -1009400693,
+            -1957092446,
+            1378764304,
+            2105618561,
+            772376829,
+            665350139,
+            -1289499419,
+            -298724545,
+            1672001785,
+            818326321,
+            -1529929472,
+            1206793517,
+            -1242051614,
+            -1878828621,
+            -1546342318,
+            -375932526,
+            -2038524611,
+            1990909789,
+            -928084938,
+            -1436729268,
+            1856749939,
+            -1179254011,
+            -518653091,
+            153556490,
+            -336627385,
+            -541674396,
+            1886374241,
+            -1556286265,
+            -1555196182,
+            2131032901,
+            -1389390904,
+            -1690532788,
+            -1967457043,
+            -1118226332,
+            184933222,
+            -1404396792,
+            640441153,
+            -1921695195,
+            -2080121784,
+            1797381310,
+            1399414974,
+            -1168694905,
+            1026722889,
+            -331483190,
+            228560258,
+            -429568521,
+            189368739,
+            -689694949,
+            1975631080,
+            1412531254,
+            -575054944,
+            -385840538,
+            1828439912,
+            742271961,
+            -728583705,
+            -228983507,
+            1023093902,
+            1913244730,
+            1652064850,
+            -102199174,
+            626392940,
+            -604590443,
+            2113063004,
+            -1412923170,
+            -559706290,
+            2103788030,
+            -483336026,
+            -345928385,
+            -2040328588,
+            -1718140574,
+            1029310241,
+            -529921825,
+            120160578,
+            1621495341,
+            1831672682,
+            880178427,
+            1012439297,
+            -1492962885,
+            -2064079072,
+            -822017468,
+            -1664176626,
+            -1948456342,
+            -818875974,
+            1191424204,
+            -743546766,
+            -1611445896,
+            412957563,
+            -1300192362,
+            -1926747012,
+            -552414431,
+            31674886,
+            -233850090,
+            -1577384737,
+            -510714107,
+            -1882257901,
+            -830576039,
+            -1744253921,
+            -665656135,
+            874910236,
+            -173645017,
+            -170666564,
+            -1871811825,
+            978764021,
+            -758626494,
+            45259967,
+            -1865086589,
+            186996493,
+            1161651962,
+            -49031985,
+            1681929632,
+            -990299543,
+            -1407854868,
+            1782558321,
+            1500995094,
+            864424435,
+            -4384596,
+            -72104230,
+            610838905,
+            1428704409,
+            869920152,
+            -105470239,
+            580596339,
+            -1900071691,
+            1600504632,
+            1414256559,
+            1013202677,
+            599804990,
+            1612861929,
+            1438060927,
+            281394422,
+            -386184951,
+            25501963,
+            318263455,
+            1590240998,
+            -566895802,
+            87253950,
+            -1601623448,
+            -447380812,
+            1208204567,
+            177411315,
+            -106628202,
+            -301021675,
+            359025922,
+            -1353940504,
+            -1871861584,
+            811557668,
+            160371163,
+            1813879340,
+            -668407528,
+            10404460,
+            -1403123110,
+            -1708584362,
+            -1810113709,
+            1960618818,
+            -846362628,
+            -989015943,
+            1310727713,
+            993992759,
+            46783543,
+            -1955284275,
+            1003998251,
+            1225959107,
+            -787541245,
+            -39978859,
+            -1215699900,
+            -928315344,
+            1471177262,
+            542028914,
+            -482537576,
+            -55982204,
+            1783457956,
+            -1446309109,
+            779320264,
+            287162482,
+            387785932,
+            -511133765,
+            -1999543919,
+            1518176887,
+            2134189631,
+            -781563655,
+            1170124911,
+            835508884,
+            -1522468570,
+            838955526,
+            -2143937322,
+            767717849,
+            -1698724680,
+            -574158054,
+            -258353009,
+            -1851629270,
+            -1005352558,
+            -471282674,
+            320572773,
+            -811693706,
+            -433405679,
+            1907448939,
+            1185565738,
+            1484957968,
+            1754266991,
+            -87374274,
+            816342067,
+            -1637181545,
+            1957152907,
+            -725162672,
+            -1433809947,
+            -2056144960,
+            266536573,
+            1293810265,
+            887060192,
+            -886672943,
+            656492164,
+            1874263963,
+            587289428,
+            -1692875580,
+            1890604820,
+            1951893308,
+            -1132180040,
+            -1859825609,
+            1442611266,
+            1497502541,
+            -1721293540,
+            731072443,
+            1643182703,
+            1688345921,
+            1829354117,
+            -1411748345,
+            -323153687,
+            448488026,
+            -5041051,
+            1985182307,
+            1042176655,
+            1375795503,
+            481527297,
+            1559879286,
+            -997402557,
+            271538133,
+            1996887543,
+            1172573325,
+            -764384861,
+            419903011,
+            857117002,
+            -1762948064,
+            -834193608,
+            1414347121,
+            -2070945549,
+            -847881752,
+            -90830378,
+            -2071061914,
+            1303047334,
+            1799377470,
+            -728623986,
+            1255066721,
+            319835131,
+            -1150217881,
+            -974858054,
+            1142093101,
+            -1409500023,
+            498327786,
+            1055457048,
+            1599115817,
+            -814232410,
+            -1537462235,
+            1766249354,
+            -1878001184,
+            1188041892,
+            742890646,
+            -1861437145,
+            1945147338,
+            1601261986,
+            528075149,
+            -817845646,
+            -1882758880,
+            -619266972,
+            1611779319,
+            1867720072,
+            1587734384,
+            -1830441347,
+            415206808,
+            1092082788,
+            -312820543,
+            1736739521,
+            -361641581,
+            -1564913801,
+            1611886323,
+            -1815862202,
+            1445826621,
+            -1954837868,
+            557838562,
+            -1313013040,
+            1734986264,
+            1053651992,
+            -1632815871,
+            -883798237,
+            1049085829,
+            1840998048,
+            -688067651,
+            -431433605,
+            1565778641,
+            -2086934882,
+            -45498362,
+            792969524,
+            1127455878,
+            1775451367,
+            1866151482,
+            825145751,
+            1006866679,
+            -2080566791,
+            -770394831,
+            699723915,
+            850131290,
+            808204699,
+            -2145523841,
+            1225317060,
+            850722601,
+            -1200353117,
+            510860057,
+            -1290362786,
+            1021767902,
+            -106765171,
+            628658447,
+            -1319864988,
+            81462669,
+            62215603,
+            844129345,
+            -1215740523,
+            902698716,
+            -1413545563,
+            -1173124315,
+            -122396678,
+            -487197943,
+            -865112389,
+            981425105,
+            -550626149,
+            528166232,
+            -727326284,
+            -1403743040,
+            -222455305,
+            1465183790,
+            64561902,
+            -1344093110,
+            1969466274,
+            2026559983,
+            -845305220,
+            -1790323960,
+            994418712,
+            1797857441,
+            -527427616,
+            -750233241,
+            -1641170022,
+            -697388905,
+            -1130217308,
+            -1271566205,
+            388304905,
+            -505790358,
+            1066328839,
+            -1464972934,
+            -1129924966,
+            -1502325310,
+            986947583,
+            -1246161814,
+            583957436,
+            -266876611,
+            -542455524,
+            161202457,
+            752081946,
+            -1832925497,
+            1659137364,
+            493584172,
+            -131803151,
+            1856857908,
+            -1981982880,
+            1104807354,
+            -1952635707,
+            -2075275351,
+            -2074086999,
+            1142961555,
+            1292672171,
+            1995660637,
+            450324088,
+            -1254519323,
+            1895323964,
+            1641485599,
+            899986026,
+            1043321505,
+            -18001051,
+            -871112791,
+            -1516071626,
+            -1257886610,
+            -1057254016,
+            686766679,
+            1966555351,
+            -264128987,
+            -1651636765,
+            1877803320,
+            -2064265544,
+            1120728712,
+            427321262,
+            829280833,
+            928145879,
+            -632178721,
+            1235766988,
+            600512614,
+            -903420062,
+            -291804866,
+            1991151324,
+            -1431720736,
+            -1081061450,
+            1566120744,
+            -1894216944,
+            584900070,
+            -1758321326,
+            63919321,
+            502398346,
+            -278633261,
+            -270848082,
+            1743083759,
+            390558327,
+            190481383,
+            988473477,
+            1845066919,
+            -653943119,
+            -523809330,
+            1440111925,
+            -633501590,
+            -80639776,
+            319616572,
+            1714358872,
+            1194389069,
+            -1575875256,
+            -1733035268,
+            1420214141,
+            -1488815858,
+            945834801,
+            -783609544,
+            1035431734,
+            -1556970208,
+            -1088961602,
+            1169079513,
+            -1094838207,
+            771200387,
+            135891526,
+            666598589,
+            685843058,
+            -1845969555,
+            -2065719383,
+            1702329463,
+            232665628,
+            2047964297,
+            1040673396,
+            -1824475078,
+            388341768,
+            344731611,
+            1851988104,
+            838035410,
+            -1224589202,
+            86037134,
+            -1543007474,
+            883588990,
+            -1126912198,
+            1891682589,
+            1187234599,
+            837354900,
+            -839296858,
+            -1744699609,
+            1497647261,
+            1868228311,
+            -1852990427,
+            1042413561,
+            648450730,
+    };
+
+    public static final int[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42 = {
+            -656848734,
+            -1043629261,
+            -1834704703,
+            -1932307972,
+            597938268,
+            1859055906,
+            -1841499541,
+            1028418845,
+            2033672095,
+            345472008,
+            1052453303,
+            -305461981,
+            -96464581,
+            -1407641856,
+            394629319,
+            528270065,
+            -1085741068,
+            -2031773717,
+            1983816058,
+            -1307514812,
+            1379111581,
+            -1727082475,
+            -1017487845,
+            494374667,
+            -365247326,
+            1141860725,
+            -255472694,
+            -2068330183,
+            -1605469160,
+            -269392904,
+            1452552416,
+            -1748763879,
+            -660366802,
+            -1334193650,
+            -1290898534,
+            -1747340253,
+            1692300023,
+            -2008760772,
+            -362120563,
+            318482682,
+            -1460827376,
+            490622299,
+            708492720,
+            1083112214,
+            -485919479,
+            -1806413469,
+            -1647903967,
+            560929919,
+            1301287559,
+            1831106159,
+            648638655,
+            -939006725,
+            -2112597603,
+            1905482442,
+            -696626716,
+            134053768,
+            -135320806,
+            -2094303843,
+            -1211292725,
+            -1507978848,
+            -1422477635,
+            -724001089,
+            -652846668,
+            -62034817,
+            157416763,
+            124582734,
+            -1858033995,
+            -1025878318,
+            -849649056,
+            -930197206,
+            1631717244,
+            -1183268631,
+            702784064,
+            -1133203759,
+            1162238460,
+            -754448704,
+            114048397,
+            141553960,
+            -747537090,
+            -974145077,
+            -701609008,
+            1185321523,
+            1298483661,
+            -64077725,
+            -973972658,
+            2015278761,
+            -1956726122,
+            142325558,
+            -902404860,
+            -752701062,
+            960492799,
+            1164029299,
+            -1040427404,
+            1467537660,
+            702768097,
+            156460061,
+            -1902272396,
+            -1847523060,
+            1677889658,
+            122790597,
+            -297404567,
+            -951386773,
+            -7122999,
+            2083112088,
+            1855727828,
+            -1888340801,
+            897083717,
+            1668922978,
+            -182779411,
+            726900722,
+            -556977446,
+            -1411799294,
+            686603167,
+            1839572352,
+            -51411814,
+            1367104686,
+            1235119531,
+            -1339393869,
+            490638191,
+            -116109970,
+            26986285,
+            637038364,
+            242924642,
+            -1401867352,
+            -1776769952,
+            1960205742,
+            -441067336,
+            372404088,
+            574778347,
+            2082700964,
+            -155978346,
+            -452278056,
+            247374119,
+            -904843213,
+            -16599249,
+            316145432,
+            754005561,
+            1274463859,
+            -1287097639,
+            -1645673685,
+            -1069485123,
+            648802299,
+            488876757,
+            370184107,
+            576840439,
+            1574890272,
+            1773643679,
+            1599818529,
+            -1557796916,
+            1465367932,
+            -1891597006,
+            1084934937,
+            2042785670,
+            517577074,
+            -162506957,
+            -1463465363,
+            1708281460,
+            -445554422,
+            -1436895658,
+            628617132,
+            813712256,
+            965919335,
+            -2023403901,
+            -1121771940,
+            -21394746,
+            301639631,
+            -1002915718,
+            1049012702,
+            -32164529,
+            -945435396,
+            839720749,
+            -1949077236,
+            452212812,
+            1489038249,
+            -1258325296,
+            -99647699,
+            -1059312613,
+            -2080499731,
+            1204225781,
+            -1858322424,
+            837833038,
+            -660101809,
+            -209538533,
+            968260976,
+            -2121022747,
+            -1610933219,
+            5648593,
+            -84088848,
+            1881686078,
+            105426122,
+            -1442653129,
+            -1972774025,
+            358865535,
+            257530210,
+            -273036917,
+            -309911621,
+            -395893596,
+            -334351965,
+            2051823211,
+            -1652911256,
+            624588495,
+            161617320,
+            -7033801,
+            124888296,
+            1721892714,
+            1780467048,
+            174932322,
+            -1628095013,
+            -287983221,
+            -2014501114,
+            -1530419891,
+            471853883,
+            -1869397491,
+            -1002162507,
+            -840981732,
+            1488862712,
+            -1352262337,
+            -1935314049,
+            -1701785290,
+            -442478670,
+            1861625785,
+            1889640127,
+            58525587,
+            733208339,
+            1909879691,
+            2131787698,
+            1863271966,
+            -701003848,
+            1001820387,
+            1579354671,
+            -1425905354,
+            307615754,
+            1650554585,
+            -991787704,
+            1963260717,
+            1884965271,
+            -532179163,
+            857213892,
+            1668513362,
+            -942895712,
+            -912064569,
+            -905168050,
+            429913296,
+            1133009577,
+            1853246116,
+            307754751,
+            -140748901,
+            220780159,
+            -1118040229,
+            1114581482,
+            827814532,
+            -992158510,
+            2011563605,
+            1620238022,
+            -895609945,
+            941583438,
+            1696476309,
+            -1847683234,
+            -549124056,
+            -890430417,
+            638983744,
+            1841657810,
+            -1208728423,
+            1053209504,
+            1453874857,
+            -785974711,
+            1882482001,
+            -76735648,
+            544461911,
+            -692184864,
+            -1174993966,
+            -154422828,
+            403945372,
+            -1598611461,
+            1496737650,
+            -562895800,
+            948581400,
+            947477691,
+            392989107,
+            -410990296,
+            612731603,
+            963177813,
+            362265632,
+            -509064179,
+            1745104008,
+            -1751456172,
+            -1506225072,
+            -1313374336,
+            1531167870,
+            -663757932,
+            2099102513,
+            1150370900,
+            335803657,
+            33318672,
+            -948905882,
+            -1971764550,
+            -183530559,
+            1908190096,
+            2088192048,
+            1959942364,
+            -471981266,
+            -1701986499,
+            911897676,
+            1209336991,
+            -292351701,
+            3098425,
+            2068743618,
+            1598180405,
+            2089648102,
+            1687516732,
+            -1134346479,
+            -1185106928,
+            -217189810,
+            1226878887,
+            585430839,
+            2128085072,
+            -449600932,
+            -493483024,
+            1750561906,
+            216696136,
+            -1583137137,
+            -2103564951,
+            -518339227,
+            -1562271441,
+            -1776797701,
+            -446853494,
+            -151086446,
+            -1368219737,
+            -1318730556,
+            1525791236,
+            -222699829,
+            926028169,
+            -238395200,
+            -110348607,
+            -1110981572,
+            807640342,
+            -1721163492,
+            1357942481,
+            2141460783,
+            248127928,
+            515709902,
+            316712175,
+            410876675,
+            1979198055,
+            -1996669515,
+            1316384011,
+            -1056143988,
+            -536179923,
+            -1402077179,
+            1719560778,
+            55424563,
+            -1588330006,
+            -1746101380,
+            1520637583,
+            191235005,
+            153245539,
+            -627568519,
+            -717765157,
+            415477632,
+            -1841184752,
+            1216956682,
+            -881305293,
+            1695437412,
+            1146631843,
+            -1829117900,
+            -391038908,
+            996751212,
+            291140086,
+            -91094200,
+            -374283650,
+            1149531205,
+            -1770728798,
+            1867337468,
+            -1168679175,
+            -500347200,
+            617403983,
+            2075153777,
+            -55471791,
+            526803415,
+            -664284403,
+            -918827267,
+            2014440158,
+            -610377395,
+            593598046,
+            1242233803,
+            343036078,
+            1742945732,
+            1022759642,
+            -1439037809,
+            264691855,
+            -1390929170,
+            -1171329377,
+            -94110415,
+            1715606829,
+            -1456130150,
+            -170141356,
+            -1035382451,
+            902568421,
+            315179438,
+            -276802296,
+            -2001230987,
+            -1623951476,
+            -69571567,
+            -1954522077,
+            -1598610050,
+            -432150013,
+            -679588491,
+            -1354282323,
+            -151137054,
+            -1880701197,
+            889717109,
+            -1780112783,
+            1235020966,
+            -1565058067,
+            1552209208,
+            -277554016,
+            1956990968,
+            -749004057,
+            -983536477,
+            -972356949,
+            1518279247,
+            -1510028799,
+            -218783553,
+            -431604417,
+            -827660701,
+            -2095810533,
+            -530586144,
+            2127174692,
+            -132589834,
+            1507659582,
+            -1318387664,
+            -699522923,
+            -1522363388,
+            -1871274908,
+            -598837580,
+            -2094315017,
+            -1449911150,
+            946558999,
+            1642951297,
+            1085819865,
+            -773019404,
+            1370189693,
+            706716866,
+            923987292,
+            -1067233323,
+            -1557429702,
+            -118562284,
+            -1543882913,
+            -1332516842,
+            -119535302,
+            -11310268,
+            1144682525,
+            1241891155,
+            -809231405,
+            -1020292294,
+            -1113105459,
+            -2012047280,
+            2044702324,
+            1184981358,
+            509757018,
+            877077683,
+            333940929,
+            -1964583543,
+            -1559101001,
+            1590694916,
+            -664329266,
+            -1463513727,
+            787016834,
+            -1713068434,
+            1942862116,
+            -1624005709,
+            -1353174584,
+            -1120612134,
+            -663894546,
+            782376449,
+            1515784041,
+            -1421682678,
+            2030097496,
+            -182081454,
+            -493914227,
+            -1870829545,
+            345357911,
+            1253556380,
+            -725731499,
+            1716647067,
+            1198316387,
+            -2125321749,
+            35840798,
+            -856372870,
+            325128189,
+            1540782829,
+            972155402,
+            369365567,
+            530343122,
+            1139150945,
+            -609578928,
+            394008157,
+            -924488713,
+            1891543410,
+            1673866504,
+            -1223387710,
+            2053363735,
+            -245990303,
+            -86155009,
+            -607494277,
+            1890321066,
+            1893715324,
+            254571823,
+            1354230533,
+            -1503442301,
+            300032755,
+            1047202802,
+            1972311208,
+            -8714101,
+            -224738509,
+            916090384,
+            -954130802,
+            1829871376,
+            -1472153121,
+            -560474978,
+            1050829942,
+            498425912,
+            498971445,
+            1485372565,
+            -1514786372,
+            -1151623598,
+            2094854155,
+            1731880140,
+            1416426605,
+            -1999984473,
+            -1463175382,
+            -42834342,
+            -187921589,
+            29794220,
+            1085642099,
+            650247454,
+            54119956,
+            1146395228,
+            593077210,
+            -1201666837,
+            286451275,
+            -1388336399,
+            1543988815,
+            89491247,
+            1598914361,
+            1975789653,
+            -994015290,
+            -297132384,
+            1603945522,
+            -1885855421,
+            1111895385,
+            -440059061,
+            -1622502133,
+            1333183702,
+            -1607927541,
+            779853230,
+            1754762444,
+            -285250975,
+            -1055998,
+            -2061351380,
+            1613979407,
+            762127528,
+            452620920,
+            1356128752,
+            1794177974,
+            -1997481079,
+            -1348980504,
+            -1318774717,
+            -1363818041,
+            1780689258,
+            1933614554,
+            526887600,
+            1359513075,
+            1141594282,
+            1287869866,
+            684033319,
+            1511766769,
+            1654334527,
+            547072416,
+            -1924895036,
+            1414463854,
+            -1684594823,
+            -863349270,
+            -430455370,
+            -708347908,
+            542400593,
+            186284770,
+            1443603934,
+            373896106,
+            1967171203,
+            -1378431176,
+            765053179,
+            1030736663,
+            422410880,
+            -2132266355,
+            1357131266,
+            -1255539043,
+            779443281,
+            -2119253854,
+            1949503203,
+            1586234993,
+            1265666250,
+            1254845006,
+            -1976906581,
+            408911263,
+            1132129937,
+            -130725791,
+            -1943813106,
+            -532680836,
+            1368186505,
+            141642287,
+            -103661411,
+            -1081417145,
+            -2109704993,
+            -1738405169,
+            1197797610,
+            1683543333,
+            -1434232596,
+            850858045,
+            -509699685,
+            -759522939,
+            1666941453,
+            1088004847,
+            529904470,
+            1313349503,
+            -5552844,
+            -1377469681,
+            1863426561,
+            415246878,
+            1218213384,
+            1339933622,
+            471836214,
+            324096477,
+            -1589667154,
+            1267018606,
+            -1282417255,
+            1665255718,
+            2098197843,
+            -59697982,
+            -1309918127,
+            1541732605,
+            -1961452018,
+            1429977402,
+            1920702956,
+            -645347170,
+            -257143209,
+            -66957194,
+            673205198,
+            58642876,
+            -799686750,
+            395534369,
+            -183775072,
+            565764170,
+            -1656265643,
+            1340028359,
+            -218641887,
+            300165449,
+            1801743823,
+            552813601,
+            766494457,
+            -1969963534,
+            -1502190593,
+            352566877,
+            -1816579401,
+            -1238637641,
+            1466090922,
+            1540123608,
+            1134518277,
+            580382296,
+            -1223033110,
+            1678855744,
+            18008377,
+            -1527224885,
+            -1483570011,
+            -202736171,
+            266669143,
+            1979164417,
+            -1389998980,
+            1029370047,
+            1691848319,
+            372174980,
+            1070316941,
+            -828366156,
+            445146998,
+            -1798170513,
+            -893823066,
+            -2145908581,
+            971967262,
+            -2087264777,
+            -1149553690,
+            -1324526943,
+            -1135284342,
+            -2027613451,
+            552474851,
+            392848173,
+            1851179992,
+            -1278895601,
+            1078522344,
+            1683226164,
+            -1005042533,
+            -1008162943,
+            262667191,
+            449443054,
+            -865309087,
+            -1897329794,
+            -275978300,
+            753472592,
+            1444988678,
+            150271641,
+            -1760054229,
+            -2106196741,
+            -848157156,
+            912352431,
+            633820666,
+            1617235063,
+            1685029751,
+            1437534296,
+            -558025868,
+            1316749703,
+            -761180927,
+            349976871,
+            1914443655,
+            -1736908317,
+            -195256902,
+            -1354147223,
+            -1636637179,
+            -569824138,
+            1380322267,
+            1272753660,
+            1959110686,
+            54546645,
+            1904483660,
+            -1635744189,
+            1947830748,
+            60483209,
+            1165734083,
+            -1585577261,
+            884667768,
+            1218710799,
+            -1172770750,
+            -1417269792,
+            586751574,
+            1815073078,
+            -1656107577,
+            59963149,
+            1473185309,
+            1156794571,
+            1161451770,
+            -2000533959,
+            -636662693,
+            663310639,
+            1712482848,
+            -924310174,
+            1768738070,
+            1243584350,
+            -284191861,
+            -1883728087,
+            1399413885,
+            86530247,
+            1852571909,
+            1155218453,
+            975121949,
+            1437130674,
+            543440984,
+            1127209352,
+            -671902271,
+            2047632602,
+            877894491,
+            -786090473,
+            -1123368861,
+            -1706195511,
+            -479502748,
+            1216782587,
+            1459402408,
+            -1718445886,
+            1585272488,
+            -650842283,
+            354839130,
+            696887112,
+            -1042475568,
+            656720691,
+            -1890862000,
+            536453376,
+            822134027,
+            -2098104708,
+            -958624592,
+            -1897041480,
+            605743798,
+            -178088089,
+            -860478453,
+            -815904035,
+            -801727134,
+            307024681,
+            1153560973,
+            -1561094849,
+            -726135208,
+            -1158271348,
+            2032369725,
+            2036444524,
+            -590618521,
+            -1075628997,
+            941429066,
+            -895020900,
+            1204920343,
+            1682597753,
+            420924553,
+            1226411196,
+            -1967441756,
+            1966716210,
+            -345406209,
+            2062581525,
+            -1933766944,
+            -1343400285,
+            941186440,
+            1523668621,
+            1168259155,
+            163791976,
+            -1216512346,
+            1024089992,
+            -2075703524,
+            -1439123991,
+            -1996560179,
+            100430388,
+            -1153925503,
+            -168618640,
+            1145904258,
+            -2057243521,
+            -1317889317,
+            -663219747,
+            -560941674,
+            707185929,
+            -825258647,
+            -1790889080,
+            -2048767920,
+            -404266642,
+            -1023151641,
+            -152762178,
+            -421410435,
+            -1671543219,
+            1585218397,
+            -1231979890,
+            -1430543578,
+            -291348614,
+            -9464925,
+            -2140708718,
+            -1061944133,
+            -2003577509,
+            1930276001,
+            -733264024,
+            -1782528466,
+            623340701,
+            -1920512125,
+            668603377,
+            376637953,
+            2133791839,
+            717888210,
+            222627691,
+            -1821935393,
+            -808481458,
+            1528599633,
+            840283277,
+            1257990190,
+            1240145984,
+            -581710361,
+            1792887520,
+            -530131690,
+            -1769229177,
+            -2012294509,
+            957231540,
+            603937402,
+            1961373321,
+            760231713,
+            -1024527432,
+            1168834438,
+            1364489357,
+            1748027763,
+            -991430106,
+            1287884334,
+            1792423729,
+            -1562248544,
+            732381146,
+            125478718,
+            -45953404,
+            -1027628493,
+            -589390115,
+            -1472254912,
+            -1969324619,
+            -1632361626,
+            -1204874294,
+            -1661470827,
+            1466812522,
+            -639284804,
+            -997018900,
+            -1680668017,
+            -125552196,
+            -1046685873,
+            576162719,
+            -1336103821,
+            -629785127,
+            -1040281756,
+            -1824670623,
+            -472992213,
+            469247834,
+            -156978079,
+            2060057408,
+            337142041,
+            929993372,
+            -841315250,
+            -1778043980,
+            -572277128,
+            173682742,
+            1737607382,
+            1116970414,
+            380948670,
+            -1209228126,
+            -831880377,
+            -1601438078,
+            1512463633,
+            548007475,
+            423926651,
+            656287193,
+            -1224649985,
+            717088974,
+            1865504168,
+            -656210239,
+            -1988690005,
+            933399628,
+            -2048885536,
+            -1360089306,
+            -510237145,
+            1577101046,
+            -1190662596,
+            1741724287,
+            2032664895,
+            1469388871,
+            2131942423,
+            704047363,
+            1270182643,
+            2092410182,
+            -466640808,
+            1234221887,
+            462517778,
+            -706288270,
+            316457664,
+            -456954527,
+            -1951859301,
+            1588371669,
+            -954507574,
+            -1253395532,
+            1118938308,
+            1222737772,
+            -910474561,
+            -1511081980,
+            -1575733948,
+            -88481401,
+            -1279989658,
+            -105327143,
+            19995660,
+            878153561,
+            512623271,
+            -71867372,
+            -1326923164,
+            1112513997,
+            -1112021,
+            209824192,
+            410126028,
+            -2054497837,
+            -191325052,
+            632193274,
+            -400703360,
+            1468427213,
+            127635888,
+            -824067159,
+            1816964874,
+            -1709934536,
+            -2023228932,
+            405119531,
+            1074495279,
+            1443208670,
+            1060345282,
+            -353012992,
+            -854351964,
+            -2016816552,
+            -211202123,
+            640827159,
+            -77411563,
+            -1924575899,
+            -194795613,
+            2064389009,
+            402970651,
+            992546246,
+            2042600051,
+            -1535683129,
+            -2083344952,
+            -1617784535,
+            676682106,
+            88641115,
+            -201785578,
+            707064873,
+            -1303527803,
+            -1758770072,
+            347688864,
+            360367930,
+            -381585387,
+            219302703,
+            1471670185,
+            -2145970450,
+            133707643,
+            -1083198056,
+            -2119819134,
+            -1672299541,
+            -658622259,
+            246870706,
+            -1593516430,
+            -2062012301,
+            -1689931384,
+            1169525046,
+            756785611,
+            -257959786,
+            233414747,
+            -1249402309,
+            -1603559367,
+            99272319,
+            1391581342,
+            1682047291,
+    };
+}
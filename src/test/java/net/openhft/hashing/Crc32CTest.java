@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.zip.Checksum;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class Crc32CTest {
+
+    @Test
+    public void testCrc32C() {
+        byte[] testData = new byte[1024];
+        for (int i = 0; i < testData.length; i++) {
+            testData[i] = (byte) i;
+        }
+        for (int len = 0; len <= testData.length; len++) {
+            byte[] data = new byte[len];
+            System.arraycopy(testData, 0, data, 0, len);
+            IntHashFunctionTest.test(IntHashFunction.crc32c(), data, crc32c(data, 0, len));
+        }
+    }
+
+    /**
+     * The check value of the CRC catalogue, and iSCSI test vectors of RFC 3720, B.4.
+     */
+    @Test
+    public void testReferenceVectors() {
+        IntHashFunction f = IntHashFunction.crc32c();
+        assertEquals(0xe3069283, f.hashBytes("123456789".getBytes(Charset.forName("US-ASCII"))));
+        assertEquals(0x8a9136aa, f.hashBytes(new byte[32]));
+        byte[] ones = new byte[32];
+        byte[] incrementing = new byte[32];
+        byte[] decrementing = new byte[32];
+        for (int i = 0; i < 32; i++) {
+            ones[i] = (byte) 0xff;
+            incrementing[i] = (byte) i;
+            decrementing[i] = (byte) (31 - i);
+        }
+        assertEquals(0x62a8ab43, f.hashBytes(ones));
+        assertEquals(0x46dd794e, f.hashBytes(incrementing));
+        assertEquals(0x113fdb5c, f.hashBytes(decrementing));
+    }
+
+    @Test
+    public void testAgainstJdk() throws Exception {
+        Class<?> jdkCrc32C;
+        try {
+            jdkCrc32C = Class.forName("java.util.zip.CRC32C");
+        } catch (ClassNotFoundException e) {
+            return; // before Java 9
+        }
+        Checksum checksum = (Checksum) jdkCrc32C.newInstance();
+        Random random = new Random(42);
+        byte[] data = new byte[10000];
+        random.nextBytes(data);
+        for (int i = 0; i < 1000; i++) {
+            int off = random.nextInt(data.length);
+            int len = random.nextInt(data.length - off);
+            checksum.reset();
+            checksum.update(data, off, len);
+            assertEquals((int) checksum.getValue(),
+                    IntHashFunction.crc32c().hashBytes(data, off, len));
+        }
+    }
+
+    @Test
+    public void testCombine() {
+        Random random = new Random(42);
+        byte[] data = new byte[5000];
+        random.nextBytes(data);
+        IntHashFunction f = IntHashFunction.crc32c();
+        for (int i = 0; i < 1000; i++) {
+            int len = random.nextInt(data.length);
+            int split = random.nextInt(len + 1);
+            int crcA = f.hashBytes(data, 0, split);
+            int crcB = f.hashBytes(data, split, len - split);
+            assertEquals(f.hashBytes(data, 0, len), Crc32C.combine(crcA, crcB, len - split));
+        }
+        int crc = f.hashBytes(data);
+        assertEquals(crc, Crc32C.combine(crc, f.hashVoid(), 0));
+        assertEquals(crc, Crc32C.combine(f.hashVoid(), crc, data.length));
+        try {
+            Crc32C.combine(0, 0, -1);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * Bitwise CRC-32C.
+     */
+    private static int crc32c(byte[] data, int off, int len) {
+        int crc = -1;
+        for (int i = off; i < off + len; i++) {
+            crc ^= data[i] & 0xFF;
+            for (int k = 0; k < 8; k++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0x82f63b78 : crc >>> 1;
+            }
+        }
+        return ~crc;
+    }
+}
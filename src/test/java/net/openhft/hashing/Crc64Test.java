@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class Crc64Test {
+
+    private static final long ECMA_182 = 0x42f0e1eba9ea3693L;
+    private static final long NVME = 0xad93d23594c93659L;
+
+    @Test
+    public void testCrc64() {
+        byte[] testData = new byte[1024];
+        for (int i = 0; i < testData.length; i++) {
+            testData[i] = (byte) i;
+        }
+        for (int len = 0; len <= testData.length; len++) {
+            byte[] data = new byte[len];
+            System.arraycopy(testData, 0, data, 0, len);
+            LongHashFunctionTest.test(LongHashFunction.crc64Xz(), data,
+                    crc64(ECMA_182, data, 0, len));
+            LongHashFunctionTest.test(LongHashFunction.crc64Nvme(), data,
+                    crc64(NVME, data, 0, len));
+        }
+    }
+
+    /**
+     * The check values of the CRC catalogue.
+     */
+    @Test
+    public void testCheckValues() {
+        byte[] check = "123456789".getBytes(Charset.forName("US-ASCII"));
+        assertEquals(0x995dc9bbdf1939faL, LongHashFunction.crc64Xz().hashBytes(check));
+        assertEquals(0xae8b14860a799888L, LongHashFunction.crc64Nvme().hashBytes(check));
+    }
+
+    @Test
+    public void testCombine() {
+        testCombine(LongHashFunction.crc64Xz());
+        testCombine(LongHashFunction.crc64Nvme());
+    }
+
+    private static void testCombine(LongHashFunction f) {
+        Random random = new Random(42);
+        byte[] data = new byte[5000];
+        random.nextBytes(data);
+        for (int i = 0; i < 1000; i++) {
+            int len = random.nextInt(data.length);
+            int split = random.nextInt(len + 1);
+            long crcA = f.hashBytes(data, 0, split);
+            long crcB = f.hashBytes(data, split, len - split);
+            assertEquals(f.hashBytes(data, 0, len), Crc64.combine(f, crcA, crcB, len - split));
+        }
+        long crc = f.hashBytes(data);
+        assertEquals(crc, Crc64.combine(f, crc, f.hashVoid(), 0));
+        assertEquals(crc, Crc64.combine(f, f.hashVoid(), crc, data.length));
+        try {
+            Crc64.combine(f, 0, 0, -1);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCombineOtherFunction() {
+        Crc64.combine(LongHashFunction.xx3(), 0, 0, 1);
+    }
+
+    @Test
+    public void testStreaming() {
+        LongHashFunction xz = LongHashFunction.crc64Xz();
+        StreamingHasherTest.test(xz.newStreamingHasher(), xz);
+        LongHashFunction nvme = LongHashFunction.crc64Nvme();
+        StreamingHasherTest.test(nvme.newStreamingHasher(), nvme);
+    }
+
+    @Test
+    public void testParallel() throws IOException {
+        LongHashFunction f = LongHashFunction.crc64Xz();
+        // several forks deep, and not a multiple of the minimum fork length
+        byte[] data = new byte[(int) (TreeHashFunction.MIN_FORK_LEN * 9 + 12345)];
+        new Random(42).nextBytes(data);
+        long expected = f.hashBytes(data);
+
+        assertEquals("heap buffer", expected, Crc64.hashBytesParallel(f, ByteBuffer.wrap(data)));
+        assertEquals("read-only buffer", expected,
+                Crc64.hashBytesParallel(f, ByteBuffer.wrap(data).asReadOnlyBuffer()));
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        assertEquals("direct buffer", expected, Crc64.hashBytesParallel(f, direct));
+        assertEquals("direct buffer position", 0, direct.position());
+        assertEquals("memory", expected,
+                Crc64.hashMemoryParallel(f, Util.getDirectBufferAddress(direct), data.length));
+        assertEquals("access", expected,
+                Crc64.hashParallel(f, data, UnsafeAccess.INSTANCE, UnsafeAccess.BYTE_BASE,
+                        data.length));
+        assertEquals("small", f.hashBytes(data, 0, 100),
+                Crc64.hashBytesParallel(f, ByteBuffer.wrap(data, 0, 100)));
+
+        Path path = Files.createTempFile("zero-allocation-hashing", ".bin");
+        try {
+            Files.write(path, data);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                assertEquals("file", expected, Crc64.hashFileParallel(f, channel, 0, data.length));
+                assertEquals("file region", f.hashBytes(data, 1000, 2000000),
+                        Crc64.hashFileParallel(f, channel, 1000, 2000000));
+                assertEquals("empty file region", f.hashVoid(),
+                        Crc64.hashFileParallel(f, channel, 10, 0));
+                // regions larger than the window are streamed
+                assertEquals("streamed file", expected,
+                        f.hashFile(channel, 0, data.length, 1 << 20));
+                try {
+                    Crc64.hashFileParallel(f, channel, 1, data.length);
+                    fail("should throw IndexOutOfBoundsException");
+                } catch (IndexOutOfBoundsException expectedException) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Bitwise reflected CRC-64, with all-ones initial value and final XOR.
+     */
+    private static long crc64(long poly, byte[] data, int off, int len) {
+        long reflected = Long.reverse(poly);
+        long crc = -1L;
+        for (int i = off; i < off + len; i++) {
+            crc ^= data[i] & 0xFF;
+            for (int k = 0; k < 8; k++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ reflected : crc >>> 1;
+            }
+        }
+        return ~crc;
+    }
+}
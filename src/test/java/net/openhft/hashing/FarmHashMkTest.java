@@ -0,0 +1,2138 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.runners.Parameterized.Parameter;
+import static org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class FarmHashMkTest {
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[] {len});
+        }
+        return data;
+    }
+
+    @Parameter
+    public int len;
+
+    @Test
+    public void testFarmMkWithoutSeed() {
+        test(IntHashFunction.farmMk(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEED);
+    }
+
+    @Test
+    public void testFarmMkWithSeed() {
+        test(IntHashFunction.farmMk(42), HASHES_OF_LOOPING_BYTES_WITH_SEED_42);
+    }
+
+    private void test(IntHashFunction f, int[] hashesOfLoopingBytes) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        IntHashFunctionTest.test(f, data, hashesOfLoopingBytes[len]);
+    }
+
+    /**
+     * Test data is output of the following program with farmhashmk implementation from
+     * https://github.com/google/farmhash/blob/master/src/farmhash.cc
+     *
+     * #include "farmhash.cc"
+     * #include <stdlib.h>
+     * #include <stdio.h>
+     *
+     * int main() {
+     *     char* src = (char*) malloc(1024);
+     *     for (int i = 0; i < 1024; i++) {
+     *         src[i] = (char) i;
+     *     }
+     *     for (int i = 0; i <= 1024; i++) {
+     *         printf("%d,\n", (int32_t) farmhashmk::Hash32(src, i));
+     *     }
+     *     for (int i = 0; i <= 1024; i++) {
+     *         printf("%d,\n", (int32_t) farmhashmk::Hash32WithSeed(src, i, 42));
+     *     }
+     * }
+     */
+    public static final int[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED = {
+            -598290054,
+            -1062656172,
+            706115766,
+            -674655518,
+            1634603314,
+            -26331180,
+            1363511678,
+            -806714275,
+            -351284522,
+            2094257888,
+            350560848,
+            -1826774744,
+            -566038756,
+            894896735,
+            42413491,
+            150970272,
+            -1741975796,
+            -581385611,
+            679596583,
+            -1073300449,
+            8478106,
+            774002831,
+            849936731,
+            1139738696,
+            2136966592,
+            722474157,
+            -553789783,
+            1367226934,
+            -1172365749,
+            -723674575,
+            -748546132,
+            -679120221,
+            -158476379,
+            -1734545320,
+            -1242955296,
+            -918590868,
+            1950018368,
+            -711904841,
+            -739427422,
+            1825324996,
+            193898150,
+            -38543676,
+            429248479,
+            2076615790,
+            1444978429,
+            1111478314,
+            -505602657,
+            267744653,
+            1085623320,
+            -1981073793,
+            -1220834548,
+            -780313486,
+            -1485840403,
+            -1587530330,
+            401487796,
+            901891597,
+            1713592327,
+            -1287653700,
+            -2070746115,
+            -880924521,
+            -1620595183,
+            742158809,
+            171270763,
+            -617845746,
+            -583815901,
+            -162729318,
+            -1070840312,
+            -1177462489,
+            -415797916,
+            792881000,
+            156862803,
+            1885660382,
+            84378,
+            -669267963,
+            401855098,
+            -474726414,
+            94326836,
+            1678571926,
+            1054791917,
+            815888088,
+            463475154,
+            -1657624843,
+            1913585344,
+            -136460855,
+            -1569424557,
+            1881230554,
+            -476218008,
+            1283531305,
+            -581812179,
+            -1728403777,
+            -1067081806,
+            967864968,
+            -200556374,
+            -792657897,
+            -1341657463,
+            -895731414,
+            1700636377,
+            599786728,
+            425464204,
+            562588238,
+            79489454,
+            1355706513,
+            -1195004219,
+            -222060052,
+            -909831139,
+            1603984901,
+            -1768611746,
+            232353092,
+            -1659421049,
+            1981503257,
+            319045282,
+            -1330587699,
+            805130310,
+            476226953,
+            1823350448,
+            132179987,
+            -775719729,
+            -1405115445,
+            1371259378,
+            1132471748,
+            334479590,
+            663201129,
+            -857399887,
+            -1550391094,
+            -1408135853,
+            -460957936,
+            -539067105,
+            -297932192,
+            -1143008322,
+            1334476190,
+            -337753793,
+            573750077,
+            196237998,
+            -887414306,
+            76412526,
+            187210159,
+            -918123240,
+            2080647943,
+            -838887150,
+            -470771992,
+            911251799,
+            -1446345958,
+            -1324370730,
+            231411392,
+            -1010192844,
+            -625119897,
+            1050996731,
+            -647314489,
+            -345973107,
+            687668003,
+            -1945515814,
+            -1722964513,
+            -1850551458,
+            -873286953,
+            1715599793,
+            1656423700,
+            -1285546546,
+            -1844972183,
+            -373211993,
+            -433689070,
+            -1569847834,
+            1857699352,
+            -564559904,
+            1856588451,
+            -104444020,
+            89511384,
+            -233327499,
+            -285785042,
+            -788720171,
+            -2094189610,
+            -111921214,
+            -473821676,
+            2054412830,
+            -370580645,
+            -804380023,
+            -241944661,
+            1009987598,
+            935635189,
+            1848470717,
+            -521862456,
+            -1178744395,
+            -1144967184,
+            646564303,
+            419400284,
+            -1441468789,
+            -172713232,
+            -1032492656,
+            1850674590,
+            686920350,
+            105411190,
+            353791983,
+            691322503,
+            825540148,
+            -1388472190,
+            2067847607,
+            -1980040313,
+            821919726,
+            1844896723,
+            299438673,
+            -998590802,
+            -1790134253,
+            96905137,
+            -1915605657,
+            -609113316,
+            1680225905,
+            1357204591,
+            1941141030,
+            -1768041942,
+            820040808,
+            1191869307,
+            611738536,
+            1375528778,
+            231073614,
+            419103863,
+            -239091874,
+            -663553611,
+            -1695537179,
+            1888246244,
+            -967638762,
+            2003101674,
+            1795290848,
+            478344386,
+            560542245,
+            1518321929,
+            1770886042,
+            -1377177357,
+            -1674581260,
+            1663717079,
+            1825017079,
+            91838518,
+            -50265050,
+            1328958653,
+            -751997689,
+            921094902,
+            -651193546,
+            -732670563,
+            240575778,
+            1215978614,
+            1965948368,
+            1229602216,
+            1605327842,
+            -1026091763,
+            -1794956566,
+            1027579728,
+            -1188786193,
+            100025145,
+            -1120263429,
+            -1903104913,
+            1187166216,
+            1597900236,
+            995110274,
+            -833042446,
+            2101934223,
+            1693048684,
+            -973173904,
+            990967932,
+            -582270173,
+            1640612494,
+            1780878156,
+            757240450,
+            1027823450,
+            1076813740,
+            -1895999972,
+            -271751644,
+            -17899381,
+            -1657752394,
+            -411748269,
+            -168229395,
+            -1399995543,
+            2136622563,
+            1956036215,
+            -1355519763,
+            -1215250511,
+            470079900,
+            -64058065,
+            507320024,
+            -641942725,
+            -306031070,
+            -1268220705,
+            1252751955,
+            996834520,
+            -408711207,
+            1363015399,
+            1755548956,
+            -1038914113,
+            -19249295,
+            -1445162996,
+            707147895,
+            1179135068,
+            342139597,
+            -1884134709,
+            2002199200,
+            -1818710972,
+            125517727,
+            1409389971,
+            977048200,
+            -973764062,
+            1220504289,
+            -1834078450,
+            -625713937,
+            1469829592,
+            62922111,
+            -350232602,
+            -1807965775,
+            926958044,
+            -283348262,
+            1162015358,
+            -1146284830,
+            -1854922797,
+            1133429919,
+            223341890,
+            260073498,
+            265121475,
+            1637190413,
+            1977224111,
+            677484491,
+            1649155743,
+            -1586193724,
+            782245648,
+            -564336786,
+            95152467,
+            1391701235,
+            946263363,
+            -262404252,
+            679107495,
+            1949384404,
+            198382498,
+            -2063497224,
+            667310428,
+            430388478,
+            1953550309,
+            -203205092,
+            -2086586524,
+            2129324161,
+            620943829,
+            -513129307,
+            859640999,
+            -2111471708,
+            768291499,
+            2005440725,
+            -559691349,
+            836009834,
+            -541499330,
+            -277018656,
+            -993375870,
+            -1650219312,
+            -1626348169,
+            1453416856,
+            1043032706,
+            1859007690,
+            558187463,
+            2080316616,
+            -1423638443,
+            -155253744,
+            7902768,
+            1517230587,
+            1477291307,
+            1833101373,
+            -226315363,
+            -1124575354,
+            -1420670715,
+            1917093207,
+            867783135,
+            -69156670,
+            22775581,
+            52556428,
+            -508809571,
+            680252578,
+            1027220259,
+            881435812,
+            1876301152,
+            -1956898098,
+            -18324065,
+            -1828894833,
+            992043965,
+            -1609617554,
+            -759557927,
+            -469138557,
+            -1006845970,
+            1009426142,
+            687287878,
+            -121445900,
+            957561908,
+            -303569044,
+            796574762,
+            1158962127,
+            497038740,
+            1106511013,
+            1703718534,
+            440542751,
+            1569925903,
+            1641830875,
+            1524138650,
+            1116892143,
+            810263626,
+            -1149749716,
+            -530937777,
+            -1140075537,
+            1897751782,
+            -1320422595,
+            -1123270853,
+            2097596118,
+            -635217217,
+            1258737339,
+            738401738,
+            1450066403,
+            576557317,
+            -2048604209,
+            1190914327,
+            -1371139825,
+            -778046514,
+            397409551,
+            -1157870318,
+            162431135,
+            -1024060506,
+            583135939,
+            -640982008,
+            2059168041,
+            2001077055,
+            -476967993,
+            -1870830526,
+            1529675645,
+            -87645749,
+            -1936451120,
+            -1381156403,
+            -683798143,
+            -738719144,
+            1459519165,
+            666289058,
+            -1912393842,
+            975224940,
+            -1512226631,
+            26985535,
+            -625116671,
+            384177927,
+            68951733,
+            -20647457,
+            -939741411,
+            -405837802,
+            369904049,
+            1536097703,
+            -1635919990,
+            2106787639,
+            663054533,
+            733479842,
+            -1109466235,
+            1154460227,
+            -1533991482,
+            813312244,
+            919789287,
+            1696559247,
+            443977539,
+            738852828,
+            -1476380832,
+            -1712496020,
+            1350122396,
+            -1202423275,
+            -2088026674,
+            417832587,
+            -1598848481,
+            -1237880984,
+            -354735294,
+            -1750814868,
+            1725593797,
+            1142809150,
+            -1750408928,
+            -280566173,
+            -782396114,
+            -1220380125,
+            -189782310,
+            -463926122,
+            1767534868,
+            -2011669778,
+            -1285282099,
+            1037095943,
+            -2021804442,
+            101319061,
+            402479477,
+            1946834323,
+            397424968,
+            -117337635,
+            1683992657,
+            -39114606,
+            475109728,
+            658682257,
+            -86975984,
+            427027735,
+            909526426,
+            -427857139,
+            -160954874,
+            -670430172,
+            1176602977,
+            1327576276,
+            -900252735,
+            1334731121,
+            -1680512683,
+            1716484282,
+            645613370,
+            70608944,
+            -42429781,
+            2004759927,
+            -824897615,
+            -188864051,
+            404590207,
+            -1659192484,
+            -970113438,
+            1131498637,
+            -778972733,
+            713139784,
+            342359949,
+            2118248050,
+            1236511519,
+            277760496,
+            -1346122549,
+            642705650,
+            1600021039,
+            -1185179462,
+            -1134450205,
+            524724525,
+            557753319,
+            916804810,
+            1535904295,
+            -1004473228,
+            -1721548342,
+            1072122942,
+            386781156,
+            -2067250953,
+            -1766420927,
+            -842982088,
+            847211479,
+            -1218869488,
+            -1885379393,
+            1286420640,
+            -1869140916,
+            -1571566075,
+            587938831,
+            -1840120534,
+            -1721033581,
+            1090461027,
+            258118697,
+            1356802164,
+            606674213,
+            1087693440,
+            -376715701,
+            -98078292,
+            -2050693257,
+            -71161335,
+            1933258088,
+            -1569041174,
+            941073939,
+            -960798612,
+            -1604633627,
+            -913452013,
+            -901546874,
+            1408070444,
+            -83632444,
+            1034187404,
+            -482644261,
+            -1438067268,
+            -2101129551,
+            -405140605,
+            103164257,
+            -1548184049,
+            -1462237652,
+            361709189,
+            1325553445,
+            -325331576,
+            1649178323,
+            236137016,
+            649071287,
+            -1118694611,
+            -2028647413,
+            -1787327380,
+            -1835921587,
+            -684247374,
+            976772935,
+            -1719002815,
+            2079196265,
+            -832239918,
+            1516215695,
+            -1437556631,
+            2101920754,
+            -275577244,
+            -1400661460,
+            913337473,
+            733151213,
+            551705467,
+            -1997885102,
+            530331824,
+            -560291722,
+            -559730159,
+            1656099952,
+            962328151,
+            2025408566,
+            -633990544,
+            -170165583,
+            -554973793,
+            681102089,
+            -979349459,
+            -1553749858,
+            -1793858827,
+            562236292,
+            1124351096,
+            1352921978,
+            -1165900276,
+            1402393732,
+            -839641485,
+            -223859328,
+            817886815,
+            60362762,
+            -202503818,
+            287879758,
+            1826769769,
+            -1548509450,
+            155691920,
+            -1445332456,
+            -1041439738,
+            -1550833860,
+            -1101637803,
+            389712026,
+            -31093732,
+            2144231245,
+            -701141003,
+            1183998670,
+            539517644,
+            -2121251059,
+            -1950640656,
+            51712407,
+            -137745581,
+            -1641739585,
+            -486785284,
+            321867190,
+            -50929706,
+            -1683206277,
+            369694959,
+            758192123,
+            -248493946,
+            572769134,
+            -1836466507,
+            -1387384465,
+            -92592980,
+            138404466,
+            631532083,
+            -665139095,
+            1620374982,
+            1946179230,
+            -301747330,
+            193099365,
+            322125958,
+            153913469,
+            -45095508,
+            -1834968256,
+            -1442631281,
+            -227052390,
+            45804016,
+            861723680,
+            -1934409943,
+            1745165845,
+            -1067465601,
+            1488230329,
+            2016118196,
+            1034877375,
+            -825363825,
+            -1579107124,
+            1241102021,
+            178801466,
+            -444475980,
+            1722850446,
+            -1748771129,
+            -1665572896,
+            1980281425,
+            -357615457,
+            771271293,
+            -692152224,
+            1184300131,
+            936802197,
+            -301674031,
+            -1124263523,
+            -1011898473,
+            2047580896,
+            -1589927819,
+            1462430748,
+            915213065,
+            1232136953,
+            -32350591,
+            -6493667,
+            296392221,
+            -149104595,
+            -1243495141,
+            -211924527,
+            -132628552,
+            408368430,
+            -1435852840,
+            -1616322843,
+            -297358491,
+            -853153619,
+            -869588054,
+            986517846,
+            1937219802,
+            1809845696,
+            -1989846165,
+            752257520,
+            -1962153771,
+            1596782990,
+            -808261982,
+            1643292139,
+            -422053837,
+            890675361,
+            -1326058404,
+            278234015,
+            2003771488,
+            687427830,
+            833411742,
+            -1041616304,
+            -1184623373,
+            -1402988240,
+            -1117453789,
+            12805160,
+            -297966500,
+            -494729572,
+            -1613832906,
+            -2040571654,
+            -431427234,
+            -880349322,
+            -494015128,
+            -1447859755,
+            -1902292230,
+            -523610398,
+            -1147492384,
+            1003562020,
+            90272734,
+            1215823318,
+            -502208732,
+            2110432543,
+            1682302768,
+            1942401531,
+            -731351104,
+            1433274590,
+            -407948322,
+            -1305351988,
+            1886110728,
+            1881324404,
+            -1344834881,
+            1725662100,
+            1303816139,
+            1474222901,
+            -1538482925,
+            -341498887,
+            -1474234041,
+            1791460372,
+            -291223512,
+            -1282281381,
+            138742666,
+            -1991560600,
+            1934773780,
+            1231279289,
+            1872694360,
+            760896185,
+            1425574457,
+            859839430,
+            23224046,
+            1652548935,
+            1241801569,
+            -612209480,
+            746995156,
+            -765053608,
+            -856122135,
+            -2110835033,
+            -2108377510,
+            486180031,
+            -735247444,
+            1487849236,
+            -1881718817,
+            -1252783807,
+            221795956,
+            -1244568739,
+            -1997195429,
+            1690369169,
+            -1726455513,
+            -455519575,
+            1907808252,
+            -1458331496,
+            280290411,
+            1538833113,
+            -2104634090,
+            1827933307,
+            -954336944,
+            -4709660,
+            655563743,
+            893595900,
+            363028020,
+            446343307,
+            1719946654,
+            -4958726,
+            36803512,
+            -1586039375,
+            737349515,
+            -1828932179,
+            -1042363894,
+            1535671215,
+            -1468171227,
+            1561385036,
+            1948919521,
+            714216694,
+            187448868,
+            -1197465776,
+            682693391,
+            1446155811,
+            1479523604,
+            -1602418027,
+            683011587,
+            -1084782244,
+            1087848335,
+            1925367984,
+            246821960,
+            1998527583,
+            978335100,
+            -2082786517,
+            -790667479,
+            -906030427,
+            -1982063265,
+            294712369,
+            -1826754016,
+            -270738582,
+            1943593487,
+            -603039809,
+            129910188,
+            -493801778,
+            -746039707,
+            -2007481615,
+            -71395241,
+            -1587785386,
+            1830147737,
+            -1831276490,
+            -1497464358,
+            -975014829,
+            1710933453,
+            -1412475475,
+            -1205727680,
+            726596835,
+            691940992,
+            -819244111,
+            -104017122,
+            -1384089735,
+            -1313657201,
+            -2131565218,
+            1748882752,
+            -2068560746,
+            1232216792,
+            -725594419,
+            1747891938,
+            -829742624,
+            2131486612,
+            -1513779068,
+            1971208409,
+            -1342824638,
+            424631888,
+            2002540010,
+            1457844035,
+            -1401347670,
+            1323913465,
+            -1313734512,
+            -274500522,
+            -1443848305,
+            1372814259,
+            1922571754,
+            -2134265923,
+            877740326,
+            1469291935,
+            338593224,
+            -526055122,
+            413063372,
+            1845842657,
+            153159889,
+            415879680,
+            -1604727241,
+            -1928697838,
+            -1472326124,
+            -1443308993,
+            1429413529,
+            -482122775,
+            -2053360891,
+            -1228853192,
+            -508810427,
+            1802005365,
+            -1087369410,
+            -462985786,
+            1199885100,
+            1303802374,
+            1777315172,
+            1962181814,
+            -1661405227,
+            -303352306,
+            63029728,
+            -1184404159,
+            1615396076,
+            -1228731604,
+            2041926529,
+            -83104749,
+            725226264,
+            71512084,
+            219701149,
+            -542480638,
+            2082387629,
+            -1531367122,
+            1611171597,
+            -1772486824,
+            1933397115,
+            1420921326,
+            -2127363765,
+            -1057672912,
+            1659982244,
+            -1988722702,
+            127091654,
+            650681693,
+            1656547302,
+            -148503512,
+            -187339891,
+            2061547150,
+            2130578723,
+            45813686,
+            1680219740,
+            -1703346623,
+            147473368,
+            1241524519,
+            869802948,
+            -1899554330,
+            462411530,
+            1976936497,
+            -158968307,
+            -1911826687,
+            1001893328,
+            -1890577840,
+            256656346,
+            -672381221,
+            111580844,
+            -1747275540,
+            -147413526,
+            -1742700937,
+            -597752482,
+            1367059298,
+            -904736536,
+            969777889,
+            -2137871803,
+            -1365590174,
+            -236383735,
+            -154331981,
+            -1456103297,
+            2131746600,
+            -1811857213,
+            119841922,
+            -1711718511,
+            1396108589,
+            -1118025361,
+            1094042608,
+            921425375,
+            -1803794965,
+            -71409401,
+            -304149272,
+            -660875155,
+            -701877673,
+            150070185,
+            1133466274,
+            -1336947816,
+            1259138434,
+            -755654216,
+            1503122040,
+            358375522,
+            -1179430273,
+            -1709984045,
+            -1434871545,
+            1620578845,
+            1064112070,
+            2071600151,
+            1605037778,
+            -2068059538,
+            1652277549,
+            1029772356,
+            229640374,
+            387575797,
+            1106270077,
+            1382588125,
+            -753044765,
+            -1131631236,
+            -746446402,
+            -90451593,
+            2141904415,
+            254331458,
+            1634597462,
+            -123695388,
+            1404095717,
+            385854004,
+            -1235879688,
+            1230493876,
+            1003604850,
+            -1380140633,
+            1220406665,
+            -1010174739,
+            1282320482,
+            1381566852,
+            2038777526,
+            -316896482,
+            -1798686051,
+            -1304913009,
+            221591261,
+            -1397486999,
+            888073665,
+            729668523,
+            1020034083,
+            292891807,
+            -627439843,
+            176305243,
+            -1180488838,
+            -2070525446,
+            196297173,
+            391988504,
+            -1391737248,
+            2032498379,
+            141731832,
+            -331583555,
+            -16007187,
+            928450698,
+            -93204212,
+            -829678397,
+            -1733692633,
+    };
+
+    public static final int[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42 = {
+            -656848734,
+            -1043629261,
+            -1834704703,
+            -1932307972,
+            597938268,
+            1859055906,
+            -1841499541,
+            1028418845,
+            2033672095,
+            345472008,
+            1052453303,
+            -305461981,
+            -96464581,
+            -1407641856,
+            394629319,
+            528270065,
+            -1085741068,
+            -2031773717,
+            1983816058,
+            -1307514812,
+            1379111581,
+            -1727082475,
+            -1017487845,
+            494374667,
+            -365247326,
+            1141860725,
+            -255472694,
+            -2068330183,
+            -1605469160,
+            -269392904,
+            1452552416,
+            -1748763879,
+            -660366802,
+            -1334193650,
+            -1290898534,
+            -1747340253,
+            1692300023,
+            849805713,
+            -933789690,
+            617689998,
+            937380922,
+            -1400802298,
+            217978887,
+            1571473234,
+            -1852306899,
+            810675219,
+            342869406,
+            -2073817584,
+            -695617848,
+            -1166508976,
+            -155154309,
+            -306148181,
+            721290269,
+            903323103,
+            -1374484566,
+            1117710478,
+            1729393484,
+            1925001368,
+            -2121474989,
+            -2022410098,
+            -1163458664,
+            -909212974,
+            -1250992072,
+            -578142969,
+            188294258,
+            1815841990,
+            1084837507,
+            -357960282,
+            -73903029,
+            2141694733,
+            -1484767301,
+            837213690,
+            1269230484,
+            697533230,
+            618790358,
+            1713201278,
+            722872407,
+            700142864,
+            267994559,
+            1251525412,
+            -1490765000,
+            203937823,
+            194085030,
+            677709947,
+            -1881499203,
+            2003372129,
+            343928094,
+            -374641214,
+            1966888479,
+            2145134257,
+            431770201,
+            1899985221,
+            -1540961460,
+            1706829560,
+            1241045239,
+            -1771501811,
+            -396086399,
+            -1397850394,
+            -1502133966,
+            -333377805,
+            -207252646,
+            -1376210543,
+            1417380750,
+            -770417095,
+            -1816600397,
+            -2070811672,
+            1592604714,
+            -1434627432,
+            -1985565184,
+            -1188982467,
+            725632797,
+            1880642520,
+            1815631073,
+            2045566751,
+            -567533039,
+            690270002,
+            -313874808,
+            -806345292,
+            -674152078,
+            -1672555785,
+            686905932,
+            -926123798,
+            297670574,
+            816187585,
+            1940397962,
+            -1810887413,
+            -1365027335,
+            -788598522,
+            185004337,
+            1710447093,
+            1674943385,
+            226077619,
+            -1117547875,
+            1574331624,
+            -169151859,
+            1169089533,
+            -393731846,
+            193763912,
+            131905032,
+            -2068599153,
+            -32440215,
+            -623997238,
+            1245183365,
+            647715800,
+            -914876561,
+            -935309166,
+            -1396771518,
+            1565433035,
+            1190599565,
+            1193984477,
+            -125737607,
+            -133557892,
+            708549353,
+            1678623647,
+            318843546,
+            1294337807,
+            740047057,
+            -442439673,
+            353227672,
+            554039435,
+            -190330681,
+            -2143056003,
+            905237513,
+            -1676046812,
+            -1070482619,
+            1369975374,
+            -1974006786,
+            953015663,
+            965351512,
+            539394675,
+            303384409,
+            1754343552,
+            708028133,
+            -102002744,
+            -947754836,
+            -706738873,
+            -87007718,
+            -1879854936,
+            49983550,
+            1421711975,
+            781979149,
+            -1350326492,
+            -531721996,
+            2141259965,
+            79063942,
+            -1856781775,
+            1359660333,
+            1688658785,
+            1681228532,
+            300550419,
+            -1573125248,
+            -1411336747,
+            317506049,
+            -624790147,
+            -1420573615,
+            -1293485739,
+            -809639608,
+            -642000456,
+            893550707,
+            269604224,
+            -469027100,
+            119519515,
+            -1846376386,
+            1354860397,
+            144174600,
+            -1850591388,
+            -1846100223,
+            10291202,
+            -1030920596,
+            1828834542,
+            -1585904909,
+            -392670117,
+            -337686095,
+            -744640266,
+            -662240506,
+            1320951189,
+            -1764191891,
+            1703183993,
+            433621575,
+            1509823994,
+            689288646,
+            1586101413,
+            2000022041,
+            1028586578,
+            2114213024,
+            -132928482,
+            1094753265,
+            -1276371540,
+            -1417495350,
+            1256571944,
+            -906778632,
+            177482603,
+            -772445111,
+            -792574777,
+            -645586012,
+            452123479,
+            1428810280,
+            204773671,
+            493598844,
+            -1442971181,
+            -1590686111,
+            2110996495,
+            1799291603,
+            1918780182,
+            282992120,
+            821412616,
+            2121693903,
+            1571480745,
+            -845528901,
+            -2119122131,
+            -1208254710,
+            1271023585,
+            957483412,
+            971610386,
+            1847878733,
+            -1704111533,
+            1207647786,
+            1185838810,
+            1494230541,
+            -1937847013,
+            1493601515,
+            1812623255,
+            -200793376,
+            -722116952,
+            542414889,
+            -576256102,
+            640824571,
+            177529795,
+            369646013,
+            1931622084,
+            1950459997,
+            30961835,
+            1763550369,
+            1940870355,
+            -1836671655,
+            1951196676,
+            -1739354685,
+            -718250768,
+            -2012170446,
+            1859428727,
+            403262506,
+            1111856003,
+            1393422605,
+            482549363,
+            -2001826432,
+            1074788834,
+            1397962537,
+            435485621,
+            -677919023,
+            748456042,
+            -128861857,
+            790299940,
+            1165753746,
+            4522814,
+            581715832,
+            1155815488,
+            -396330986,
+            1594856340,
+            -1944540066,
+            -1026683501,
+            1293309136,
+            -1653886290,
+            631458305,
+            1863791298,
+            -291892493,
+            617726187,
+            -1660983575,
+            -477949067,
+            10550763,
+            -1511693714,
+            2134933061,
+            657954406,
+            369309597,
+            -866125474,
+            828878839,
+            550698665,
+            312155177,
+            93846975,
+            -1496033017,
+            1845983474,
+            893461779,
+            956655943,
+            -1334129208,
+            -1322728750,
+            -1271592000,
+            1985523390,
+            2112060426,
+            2839274,
+            926634513,
+            -1258210302,
+            288442740,
+            2030050783,
+            1023964267,
+            -38626888,
+            -754739314,
+            152279388,
+            750852822,
+            -792759664,
+            1080120269,
+            -1997840489,
+            620927946,
+            1931340261,
+            -1574697941,
+            -1196554917,
+            -2068308895,
+            -1758834663,
+            160067272,
+            -1589604480,
+            2094613738,
+            381509944,
+            1855017543,
+            -167932161,
+            -1135570893,
+            -879816403,
+            -388210437,
+            -2033633143,
+            1354648713,
+            8866592,
+            1231286110,
+            -2072636344,
+            975750885,
+            351056692,
+            634632924,
+            -813147611,
+            -1458489085,
+            -1500303110,
+            1604105258,
+            1365905676,
+            -424087572,
+            -1369016378,
+            -310597946,
+            1500955646,
+            -1736184780,
+            -749967738,
+            1166979615,
+            -1655797499,
+            -526966128,
+            1892159674,
+            -979849024,
+            -192687309,
+            -1792081530,
+            -18754449,
+            1567453112,
+            -282840028,
+            1084304012,
+            161664144,
+            1844746150,
+            -1925064641,
+            -1142527098,
+            356680211,
+            213436583,
+            119700755,
+            1190819979,
+            -1668753718,
+            1262691216,
+            -1018457867,
+            -1464640761,
+            -802507823,
+            1189105003,
+            -130116695,
+            925671014,
+            -351705601,
+            -1897274942,
+            750238578,
+            1770650801,
+            -1447616798,
+            1900644691,
+            863195973,
+            -1908530411,
+            630284342,
+            888218497,
+            -109742900,
+            -880270375,
+            36977464,
+            -354841114,
+            760579936,
+            1521863108,
+            290739663,
+            267611642,
+            -646731054,
+            -1859278915,
+            676901502,
+            -1928335838,
+            9070580,
+            461696710,
+            -1544597909,
+            595040226,
+            1848844359,
+            -172130954,
+            -2001272066,
+            -954364704,
+            1707223182,
+            70732096,
+            -999563698,
+            1193360978,
+            -1174595113,
+            1200919075,
+            1641616250,
+            2107581304,
+            1682011705,
+            -829879450,
+            1075564950,
+            -2084728226,
+            -2002808651,
+            -1665715749,
+            -43225768,
+            784206694,
+            -1431219219,
+            744436659,
+            -749040402,
+            1234977705,
+            -1160100808,
+            1405121823,
+            -616434662,
+            -1664056124,
+            2051885353,
+            35606039,
+            -771525071,
+            -372065921,
+            -38311534,
+            194942514,
+            -675054743,
+            -1049953310,
+            -1062741328,
+            1043074531,
+            -25027559,
+            -1819620644,
+            134777954,
+            140490818,
+            1372900403,
+            156841608,
+            -1470077723,
+            -229088976,
+            -388416976,
+            -978751981,
+            493738202,
+            313459336,
+            1013904230,
+            -773797730,
+            -2130330278,
+            -165217342,
+            -650076282,
+            896362240,
+            -1968276825,
+            1173431607,
+            -66050612,
+            1920608385,
+            -290543699,
+            1540000807,
+            1004093830,
+            -112106192,
+            1051523016,
+            290730155,
+            1031093360,
+            1576787334,
+            -1676423077,
+            -640931564,
+            -1318730970,
+            -1828999502,
+            -96788221,
+            -1069227956,
+            1303701213,
+            2079696418,
+            1912797211,
+            1908863457,
+            1916310012,
+            505365707,
+            -1694228051,
+            -1443185918,
+            1030346959,
+            647352305,
+            720775721,
+            -755135430,
+            786642466,
+            -704291118,
+            1673283361,
+            1218137198,
+            -551397191,
+            -630322899,
+            953361683,
+            -1924857513,
+            807148306,
+            -924219930,
+            905378218,
+            -1180973735,
+            -43261057,
+            -322903940,
+            1492988278,
+            -960115316,
+            -477438948,
+            2142984475,
+            126535215,
+            -994496802,
+            -1615184336,
+            1968219402,
+            950140837,
+            -1706618965,
+            1189915337,
+            -134892116,
+            1153154361,
+            1310155844,
+            -2049820365,
+            -652093887,
+            -969965267,
+            1720514536,
+            -970039057,
+            1783294778,
+            1143781701,
+            4866355,
+            -417643266,
+            568520893,
+            1478300210,
+            1875747745,
+            599797282,
+            724767108,
+            47568633,
+            1496903100,
+            1277516913,
+            524994728,
+            -760812153,
+            478308885,
+            -1208693111,
+            153394256,
+            1677133602,
+            -786030302,
+            1083670197,
+            1449789036,
+            -1850496264,
+            2050863427,
+            1699811127,
+            -1321445456,
+            -1511380817,
+            2035242874,
+            1690961279,
+            -922191062,
+            94547845,
+            1734851254,
+            1647699703,
+            893931252,
+            900376074,
+            1548769686,
+            608317358,
+            -787574333,
+            -482270549,
+            -1933560105,
+            1049942717,
+            -1216638502,
+            749894245,
+            -765951942,
+            -1763989653,
+            -355313097,
+            -714042125,
+            -1001120499,
+            -1484020474,
+            -748440566,
+            -255384536,
+            -169681561,
+            1154932928,
+            1536281476,
+            -1087539519,
+            1296115519,
+            -696562921,
+            -265638799,
+            1571149054,
+            2107923770,
+            58092713,
+            1222435268,
+            521304386,
+            241862103,
+            -1658301720,
+            368498467,
+            -875899451,
+            1156926819,
+            773384505,
+            -2079908871,
+            1395129369,
+            -443626418,
+            -1174291761,
+            -1069744383,
+            279762748,
+            -102519756,
+            39847532,
+            -2032802879,
+            -1133335942,
+            1094332281,
+            361343579,
+            -1220356786,
+            -355942834,
+            239172954,
+            281383242,
+            -895677064,
+            435089180,
+            876071271,
+            1542214124,
+            1095834577,
+            -2015345090,
+            1332860633,
+            1686026603,
+            -1796429949,
+            200776839,
+            909684206,
+            -6016759,
+            1770077349,
+            -1591236206,
+            1539291812,
+            523399782,
+            198866172,
+            582472233,
+            1342449319,
+            702555269,
+            -115436960,
+            437877375,
+            -29227295,
+            -384978622,
+            -1744686354,
+            231405780,
+            -272334049,
+            1874568270,
+            -1995786676,
+            436459792,
+            -2035009723,
+            1706519164,
+            -2076714017,
+            -514299619,
+            -2111217520,
+            1938180936,
+            1065901226,
+            -122283541,
+            -1933208570,
+            -909105107,
+            313431664,
+            -194866141,
+            724383403,
+            906621666,
+            -809671806,
+            -1200024569,
+            -354814387,
+            240279288,
+            351196385,
+            -1274177555,
+            1763867687,
+            615625553,
+            456398859,
+            901449223,
+            -861251676,
+            14620062,
+            -1520542400,
+            -1626336202,
+            -1798759864,
+            -529998108,
+            -2147105822,
+            629919280,
+            1625939814,
+            -1060684054,
+            -558561849,
+            536935981,
+            -2108586893,
+            275443103,
+            1038281550,
+            917982246,
+            1976769409,
+            -1500262794,
+            1758570501,
+            1915205515,
+            -1966656220,
+            979644705,
+            -1021763338,
+            1342340953,
+            1306152821,
+            -485268695,
+            2031435705,
+            -684333899,
+            -1789798594,
+            607273611,
+            968358342,
+            792265941,
+            837626870,
+            1377886237,
+            -1953420026,
+            1181586208,
+            -44212069,
+            919145802,
+            -261100887,
+            883670987,
+            356818424,
+            -1247566411,
+            1173332783,
+            76387936,
+            881990422,
+            -153015085,
+            -1688039812,
+            -854882056,
+            -38601443,
+            740445653,
+            -380212323,
+            764176918,
+            776849849,
+            1295441318,
+            -1007645922,
+            -413116871,
+            -1831316983,
+            1767539923,
+            2060071974,
+            809941175,
+            1790891894,
+            631762823,
+            -1263306983,
+            1259142082,
+            31992458,
+            -2043614209,
+            956059233,
+            -83098672,
+            1211168948,
+            -2015436540,
+            -1963288212,
+            -1036085711,
+            26915534,
+            -2122827429,
+            -467992729,
+            1037648216,
+            1631432487,
+            75713791,
+            1360163219,
+            -395863100,
+            763134311,
+            -842598987,
+            1262254885,
+            -503070175,
+            920710157,
+            1890093654,
+            1126468787,
+            -731721558,
+            -1210091204,
+            213158272,
+            1074668865,
+            105337828,
+            1191732199,
+            -996094162,
+            237698065,
+            -431552416,
+            851263720,
+            -174149028,
+            -409238997,
+            -800105215,
+            -1119797516,
+            -660128870,
+            -1584722547,
+            729282861,
+            -908917510,
+            -272715478,
+            236392423,
+            -2098811030,
+            -2067939156,
+            -1552524516,
+            -1916028641,
+            -329068820,
+            1782937204,
+            1979178326,
+            1811988009,
+            185838655,
+            -210983686,
+            -1580847117,
+            1120003285,
+            -1468462789,
+            -873888009,
+            -1227412994,
+            663516057,
+            -536782050,
+            -73208764,
+            418284392,
+            1010982300,
+            -992439414,
+            964648755,
+            -1388055129,
+            419219341,
+            2046470410,
+            391342503,
+            75125343,
+            -360262171,
+            -1170825105,
+            -1589792920,
+            1283421610,
+            -976994271,
+            -1843327195,
+            -1243452472,
+            435608194,
+            -933205456,
+            1780522300,
+            -1909987429,
+            -1980014064,
+            1585097766,
+            564066465,
+            1813925258,
+            -891730678,
+            241869200,
+            955719715,
+            1879560261,
+            -1387183509,
+            963373737,
+            2104012254,
+            -513954307,
+            554086512,
+            -1155103911,
+            -2129070727,
+            1046142660,
+            1127634435,
+            31187786,
+            -1001325134,
+            -332897665,
+            -770122756,
+            -324362838,
+            -1356599394,
+            1639660152,
+            -1786349833,
+            -1313425067,
+            389112535,
+            -1557427461,
+            396188824,
+            -503259830,
+            6273181,
+            998595670,
+            1200893338,
+            1864772274,
+            -89301378,
+            1722601009,
+            -286328141,
+            2069794393,
+            -771074749,
+            1911082787,
+            -2072250631,
+            -939651440,
+            -511348348,
+            1274324915,
+            407557960,
+            1320084699,
+            -849565632,
+            -370270416,
+            -751838512,
+            -1133338658,
+            1330513635,
+            -452035225,
+            736118174,
+            -462657471,
+            859426776,
+            -133410920,
+            -1324238290,
+            -1940117938,
+            45178662,
+            467089989,
+            1107195607,
+            1036240462,
+            1219136860,
+            -100840455,
+            -80541764,
+            -784500631,
+            -745916688,
+            2020858844,
+            -827713555,
+            -75474150,
+            -1794095935,
+            -1269505422,
+            1913913510,
+            742664732,
+            -1728232609,
+            -1962892343,
+            1592666167,
+            -1406832624,
+            -1013790633,
+            2111515006,
+            -740114363,
+            -1729671300,
+            -62014967,
+            1777543681,
+            1003992715,
+            -633351254,
+            523310400,
+            -1722486418,
+            -148428866,
+            808743387,
+            1431399523,
+            -976308770,
+            -172453297,
+            -642727128,
+            416388075,
+            -1769192642,
+            -633489309,
+            -1389920850,
+            1276698059,
+            42379798,
+            -1363303846,
+            -814615811,
+            948731046,
+            -982606934,
+            -1279639903,
+            1833612180,
+            20778410,
+            -1163349049,
+            1503384264,
+            -1223964239,
+            420290739,
+            -1910689221,
+            927439597,
+            -1976328655,
+            795566333,
+            929792272,
+            1239919904,
+            -1808915208,
+            105677339,
+            -1445086090,
+            -547118010,
+            -420371928,
+            172339397,
+            -257408541,
+            2007572829,
+            -218801392,
+            1882338167,
+            1955492402,
+            46918752,
+            401554633,
+            -42418857,
+            -1264396435,
+            1897187412,
+            -172004900,
+            -1920797424,
+            2069407245,
+            -2012525773,
+            789046361,
+            1656728693,
+            2104822630,
+            1200338440,
+            1891703534,
+            -700584593,
+            2138952193,
+            1165078280,
+            -280697203,
+            -1920705213,
+            186333709,
+            -1323562423,
+            2105825086,
+            1856682741,
+            -962619327,
+            -82896489,
+            -130655670,
+            -1751321478,
+            -1703227409,
+            1298470182,
+            857445923,
+            -2006461142,
+            915709029,
+            -1965039330,
+            -1839000231,
+            1094416145,
+            932041115,
+            592426516,
+            236441998,
+            403262413,
+            1237110128,
+            -1537952735,
+            1784981947,
+            -78104096,
+            -190396407,
+            -1049560233,
+            -589714983,
+            2134011769,
+            -1014474470,
+            2139485555,
+            -1753498487,
+            -1400686001,
+            -587209752,
+            1879025269,
+            441579556,
+            -1901949432,
+            -842609375,
+            691047749,
+            170168120,
+            259785892,
+            -1981771350,
+            1107209864,
+            127151721,
+            1011644036,
+            -1264922255,
+            197806755,
+            -1259768176,
+            317579621,
+            873197607,
+    };
+}
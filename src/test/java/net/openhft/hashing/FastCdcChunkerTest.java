@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FastCdcChunkerTest {
+
+    private static final int MIN = 2 * 1024;
+    private static final int AVG = 8 * 1024;
+    private static final int MAX = 64 * 1024;
+    private static final int LEN = 4 * 1024 * 1024 + 321;
+
+    private static byte[] data(int len, long seed) {
+        final byte[] data = new byte[len];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Collects the chunks as {offset, length, fingerprintLow, fingerprintHigh}.
+     */
+    private static class Collector implements FastCdcChunker.ChunkSink {
+        final List<long[]> chunks = new ArrayList<long[]>();
+
+        @Override
+        public void chunk(long offset, long length, long fingerprintLow, long fingerprintHigh) {
+            chunks.add(new long[] {offset, length, fingerprintLow, fingerprintHigh});
+        }
+
+        Set<String> fingerprints() {
+            final Set<String> set = new HashSet<String>();
+            for (final long[] chunk : chunks) {
+                set.add(chunk[2] + ":" + chunk[3]);
+            }
+            return set;
+        }
+    }
+
+    private static Collector chunk(FastCdcChunker chunker, byte[] data) {
+        final Collector collector = new Collector();
+        chunker.chunkBytes(data, collector);
+        return collector;
+    }
+
+    @Test
+    public void testChunks() {
+        final byte[] data = data(LEN, 1);
+        final FastCdcChunker chunker = FastCdcChunker.of(MIN, AVG, MAX);
+        final List<long[]> chunks = chunk(chunker, data).chunks;
+        long offset = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            final long[] chunk = chunks.get(i);
+            assertEquals("continuous chunks", offset, chunk[0]);
+            assertTrue("max size", chunk[1] <= MAX);
+            if (i < chunks.size() - 1) {
+                assertTrue("min size", chunk[1] >= MIN);
+            }
+            assertArrayEquals("fingerprint",
+                    LongTupleHashFunction.xx128().hashBytes(data, (int) chunk[0], (int) chunk[1]),
+                    new long[] {chunk[2], chunk[3]});
+            offset += chunk[1];
+        }
+        assertEquals(LEN, offset);
+        final long avg = LEN / chunks.size();
+        assertTrue("average size " + avg, avg > AVG / 2 && avg < AVG * 2);
+    }
+
+    @Test
+    public void testShiftResistance() {
+        final byte[] data = data(LEN, 2);
+        final FastCdcChunker chunker = FastCdcChunker.of(MIN, AVG, MAX);
+        final Collector original = chunk(chunker, data);
+        final byte[] edited = new byte[LEN + 100];
+        System.arraycopy(data, 0, edited, 0, 1000);
+        System.arraycopy(data, 1000, edited, 1100, LEN - 1000);
+        final Set<String> fingerprints = chunk(chunker, edited).fingerprints();
+        fingerprints.retainAll(original.fingerprints());
+        // only the chunks around the insertion change
+        assertTrue(fingerprints.size() >= original.chunks.size() - 3);
+    }
+
+    @Test
+    public void testInputs() throws IOException {
+        final byte[] data = data(LEN, 3);
+        final FastCdcChunker chunker = FastCdcChunker.of(MIN, AVG, MAX, 1, 42L);
+        final List<long[]> expected = chunk(chunker, data).chunks;
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(LEN);
+        direct.put(data).flip();
+        Collector collector = new Collector();
+        chunker.chunkBytes(direct, collector);
+        assertChunksEqual(expected, collector.chunks);
+
+        collector = new Collector();
+        chunker.chunkBytes(ByteBuffer.wrap(data).asReadOnlyBuffer(), collector);
+        assertChunksEqual(expected, collector.chunks);
+
+        collector = new Collector();
+        chunker.chunkMemory(Util.getDirectBufferAddress(direct), LEN, collector);
+        assertChunksEqual(expected, collector.chunks);
+
+        final Path path = Files.createTempFile("zero-allocation-hashing", ".bin");
+        try {
+            Files.write(path, data);
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                collector = new Collector();
+                chunker.chunkFile(channel, 0, LEN, collector);
+                assertChunksEqual(expected, collector.chunks);
+                // chunks straddling the mapped windows
+                for (final long windowSize : new long[] {1, MAX, MAX + 12345, 1024 * 1024}) {
+                    collector = new Collector();
+                    chunker.chunkFile(channel, 0, LEN, windowSize, collector);
+                    assertChunksEqual(expected, collector.chunks);
+                }
+            } finally {
+                channel.close();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static void assertChunksEqual(List<long[]> expected, List<long[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testShortInputs() {
+        final FastCdcChunker chunker = FastCdcChunker.of(MIN, AVG, MAX);
+        assertEquals(0, chunk(chunker, new byte[0]).chunks.size());
+        final byte[] data = data(MIN, 4);
+        final List<long[]> chunks = chunk(chunker, data).chunks;
+        assertEquals(1, chunks.size());
+        assertEquals(MIN, chunks.get(0)[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadSizes() {
+        FastCdcChunker.of(AVG, MIN, MAX);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+
+public class FnvHashTest {
+
+    @Test
+    public void testFnv1a() {
+        byte[] testData = new byte[1024];
+        for (int i = 0; i < testData.length; i++) {
+            testData[i] = (byte) i;
+        }
+        for (int len = 0; len <= testData.length; len++) {
+            byte[] data = new byte[len];
+            System.arraycopy(testData, 0, data, 0, len);
+            IntHashFunctionTest.test(IntHashFunction.fnv1a(), data, fnv1a32(data));
+            LongHashFunctionTest.test(LongHashFunction.fnv1a(), data, fnv1a64(data));
+        }
+    }
+
+    /**
+     * Test vectors of the FNV reference, test_fnv.c.
+     */
+    @Test
+    public void testReferenceVectors() {
+        Charset ascii = Charset.forName("US-ASCII");
+        String[] inputs = {"", "a", "b", "foobar"};
+        int[] expected32 = {0x811c9dc5, 0xe40c292c, 0xe70c2de5, 0xbf9cf968};
+        long[] expected64 = {0xcbf29ce484222325L, 0xaf63dc4c8601ec8cL, 0xaf63df4c8601f1a5L,
+                0x85944171f73967e8L};
+        for (int i = 0; i < inputs.length; i++) {
+            byte[] data = inputs[i].getBytes(ascii);
+            assertEquals(inputs[i], expected32[i], IntHashFunction.fnv1a().hashBytes(data));
+            assertEquals(inputs[i], expected64[i], LongHashFunction.fnv1a().hashBytes(data));
+        }
+    }
+
+    private static int fnv1a32(byte[] data) {
+        int h = 0x811c9dc5;
+        for (byte b : data) {
+            h ^= b & 0xFF;
+            h *= 0x01000193;
+        }
+        return h;
+    }
+
+    private static long fnv1a64(byte[] data) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : data) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class HashFileTest {
+
+    private static final int FILE_SIZE = 300 * 1024 + 123;
+    // small windows, so that the windowed path is exercised without gigabytes of test data
+    private static final long[] WINDOW_SIZES = {4096 + 7, 64 * 1024 + 7, FILE_SIZE - 1};
+
+    private byte[] data;
+    private Path path;
+    private FileChannel channel;
+
+    @Before
+    public void setUp() throws IOException {
+        data = new byte[FILE_SIZE];
+        new Random(FILE_SIZE).nextBytes(data);
+        path = Files.createTempFile("zero-allocation-hashing", ".bin");
+        Files.write(path, data);
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        channel.close();
+        Files.delete(path);
+    }
+
+    @Test
+    public void testLongHashFunctions() throws IOException {
+        test(LongHashFunction.xx());
+        test(LongHashFunction.xx(42L));
+        test(LongHashFunction.xx3());
+        test(LongHashFunction.xx3(42L));
+        test(LongHashFunction.xx128low());
+        test(LongHashFunction.xx128low(42L));
+        test(LongHashFunction.metro());
+        test(LongHashFunction.metro(42L));
+        test(LongHashFunction.murmur_3());
+        test(LongHashFunction.murmur_3(42L));
+    }
+
+    @Test
+    public void testLongTupleHashFunctions() throws IOException {
+        test(LongTupleHashFunction.xx128());
+        test(LongTupleHashFunction.xx128(42L));
+        test(LongTupleHashFunction.murmur_3());
+        test(LongTupleHashFunction.murmur_3(42L));
+    }
+
+    private void test(LongHashFunction f) throws IOException {
+        assertEquals("path", f.hashBytes(data), f.hashFile(path));
+        assertEquals("region", f.hashBytes(data, 1000, 5000), f.hashFile(channel, 1000, 5000));
+        assertEquals("empty region", f.hashVoid(), f.hashFile(channel, FILE_SIZE, 0));
+        for (final long windowSize : WINDOW_SIZES) {
+            assertEquals("window " + windowSize, f.hashBytes(data),
+                    f.hashFile(channel, 0, FILE_SIZE, windowSize));
+            assertEquals("window " + windowSize + ", offset", f.hashBytes(data, 3, FILE_SIZE - 3),
+                    f.hashFile(channel, 3, FILE_SIZE - 3, windowSize));
+        }
+        assertEquals("channel position", 0, channel.position());
+    }
+
+    private void test(LongTupleHashFunction f) throws IOException {
+        assertArrayEquals("path", f.hashBytes(data), f.hashFile(path));
+        assertArrayEquals("region", f.hashBytes(data, 1000, 5000), f.hashFile(channel, 1000, 5000));
+        assertArrayEquals("empty region", f.hashVoid(), f.hashFile(channel, FILE_SIZE, 0));
+        final long[] result = f.newResultArray();
+        for (final long windowSize : WINDOW_SIZES) {
+            f.hashFile(channel, 0, FILE_SIZE, windowSize, result);
+            assertArrayEquals("window " + windowSize, f.hashBytes(data), result);
+        }
+    }
+
+    @Test
+    public void testStreamingHasher() throws IOException {
+        final StreamingHasher h = StreamingHasher.xx3();
+        h.updateBytes(data, 0, 10).updateFrom(channel, 10, FILE_SIZE - 10);
+        assertEquals(LongHashFunction.xx3().hashBytes(data), h.digest());
+    }
+
+    @Test
+    public void testWithoutStreamingCounterpart() throws IOException {
+        final LongHashFunction f = LongHashFunction.city_1_1();
+        assertEquals(f.hashBytes(data), f.hashFile(channel, 0, FILE_SIZE, FILE_SIZE));
+        try {
+            f.hashFile(channel, 0, FILE_SIZE, FILE_SIZE - 1);
+            fail("should throw UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testBadRegion() throws IOException {
+        final long[][] regions = {{-1, 10}, {0, -1}, {1, FILE_SIZE}, {Long.MAX_VALUE, 1}};
+        for (final long[] region : regions) {
+            try {
+                LongHashFunction.xx3().hashFile(channel, region[0], region[1]);
+                fail("should throw IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException expected) {
+                // expected
+            }
+            try {
+                LongTupleHashFunction.xx128().hashFile(channel, region[0], region[1]);
+                fail("should throw IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testLargerThan2GB() throws IOException {
+        // sparse file of zeros, larger than a single mapping can be
+        final long size = (3L << 30) + 12345;
+        final File file = File.createTempFile("zero-allocation-hashing", ".bin");
+        try {
+            final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(size);
+                final StreamingHasher h = StreamingHasher.xx3(42L);
+                final ByteBuffer zeros = ByteBuffer.allocateDirect(1 << 20);
+                for (long remaining = size; remaining > 0; remaining -= zeros.capacity()) {
+                    h.updateBytes(zeros, 0, (int) Math.min(remaining, zeros.capacity()));
+                }
+                assertEquals(h.digest(),
+                        LongHashFunction.xx3(42L).hashFile(raf.getChannel(), 0, size));
+            } finally {
+                raf.close();
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
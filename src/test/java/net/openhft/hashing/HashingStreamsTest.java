@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class HashingStreamsTest {
+
+    private static byte[] data() {
+        final byte[] data = new byte[StreamingHasher.IO_BUFFER_SIZE + 12345];
+        new Random(7).nextBytes(data);
+        return data;
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        testInputStream(StreamingHasher.xx3(), LongHashFunction.xx3());
+        testInputStream(StreamingHasher.xx(42L), LongHashFunction.xx(42L));
+    }
+
+    private static void testInputStream(StreamingHasher h, LongHashFunction f) throws IOException {
+        final byte[] data = data();
+        final HashingInputStream in =
+                new HashingInputStream(new ByteArrayInputStream(data), h.reset());
+        assertFalse(in.markSupported());
+        final byte[] copy = new byte[data.length];
+        int pos = 0;
+        copy[pos++] = (byte) in.read();
+        // skipped bytes are hashed, too
+        assertEquals(10, in.skip(10));
+        System.arraycopy(data, pos, copy, pos, 10);
+        pos += 10;
+        int n;
+        while ((n = in.read(copy, pos, Math.min(777, copy.length - pos))) > 0) {
+            pos += n;
+        }
+        assertEquals(-1, in.read());
+        assertEquals(0, in.skip(10));
+        assertArrayEquals(data, copy);
+        assertEquals(f.hashBytes(data), in.hasher().digest());
+    }
+
+    @Test
+    public void testOutputStream() throws IOException {
+        testOutputStream(StreamingHasher.xx3(42L), LongHashFunction.xx3(42L));
+        testOutputStream(StreamingHasher.xx(), LongHashFunction.xx());
+    }
+
+    private static void testOutputStream(StreamingHasher h, LongHashFunction f) throws IOException {
+        final byte[] data = data();
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        final OutputStream out = new HashingOutputStream(sink, h.reset());
+        out.write(data[0]);
+        out.write(data, 1, 1000);
+        out.write(data, 1001, data.length - 1001);
+        out.close();
+        assertArrayEquals(data, sink.toByteArray());
+        assertEquals(f.hashBytes(data), h.digest());
+    }
+
+    @Test
+    public void testWritableByteChannel() throws IOException {
+        testWritableByteChannel(StreamingHasher.xx128(), LongTupleHashFunction.xx128());
+    }
+
+    private static void testWritableByteChannel(StreamingHasher h, LongTupleHashFunction f)
+            throws IOException {
+        final byte[] data = data();
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        final HashingWritableByteChannel channel =
+                new HashingWritableByteChannel(new TricklingChannel(sink), h.reset());
+        final ByteBuffer direct = ByteBuffer.allocateDirect(1000);
+        direct.put(data, 0, 1000).flip();
+        writeFully(channel, direct);
+        writeFully(channel, ByteBuffer.wrap(data, 1000, 1000).asReadOnlyBuffer());
+        writeFully(channel, ByteBuffer.wrap(data, 2000, data.length - 2000));
+        channel.close();
+        assertFalse(channel.isOpen());
+        assertArrayEquals(data, sink.toByteArray());
+        final long[] actual = h.newResultArray();
+        channel.hasher().digest(actual);
+        assertArrayEquals(f.hashBytes(data), actual);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer src)
+            throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    /**
+     * Accepts short writes of varying length, as non-blocking sockets do.
+     */
+    private static class TricklingChannel implements WritableByteChannel {
+        private final WritableByteChannel out;
+        private int writes;
+
+        TricklingChannel(OutputStream out) {
+            this.out = Channels.newChannel(out);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            final int limit = src.limit();
+            src.limit(src.position() + Math.min(src.remaining(), 1 + (writes++ * 31) % 1500));
+            try {
+                return out.write(src);
+            } finally {
+                src.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return out.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class HighwayHashTest {
+
+    private static final long[] KEY = {
+            0x0706050403020100L, 0x0F0E0D0C0B0A0908L, 0x1716151413121110L, 0x1F1E1D1C1B1A1918L};
+
+    private static byte[] data(int len) {
+        final byte[] data = new byte[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    @Test
+    public void testHighwayHash64() {
+        final LongHashFunction f = LongHashFunction.highway(KEY);
+        for (int len = 0; len < EXPECTED_64.length; len++) {
+            LongHashFunctionTest.test(f, data(len), EXPECTED_64[len]);
+        }
+    }
+
+    @Test
+    public void testHighwayHash128() {
+        final LongTupleHashFunction f = LongTupleHashFunction.highway128(KEY);
+        assertEquals(128, f.bitsLength());
+        for (int len = 0; len < EXPECTED_128.length; len++) {
+            assertArrayEquals("len " + len, EXPECTED_128[len], f.hashBytes(data(len)));
+        }
+        testConsistency(f);
+    }
+
+    @Test
+    public void testHighwayHash256() {
+        final LongTupleHashFunction f = LongTupleHashFunction.highway256(KEY);
+        assertEquals(256, f.bitsLength());
+        assertEquals(4, f.newResultArray().length);
+        for (int len = 0; len < EXPECTED_256.length; len++) {
+            assertArrayEquals("len " + len, EXPECTED_256[len], f.hashBytes(data(len)));
+        }
+        testConsistency(f);
+    }
+
+    /**
+     * All the accesses and the primitive specializations should agree with hashing a byte array.
+     */
+    private static void testConsistency(LongTupleHashFunction f) {
+        for (int len = 0; len <= 130; len++) {
+            final byte[] data = data(len);
+            LongTupleHashFunctionTest.test(f, data, f.hashBytes(data));
+        }
+    }
+
+    @Test
+    public void testKeyIsCopied() {
+        final long[] key = KEY.clone();
+        final LongHashFunction f = LongHashFunction.highway(key);
+        key[0]++;
+        assertEquals(EXPECTED_64[3], f.hashBytes(data(3)));
+    }
+
+    @Test
+    public void testInvalidKey() {
+        try {
+            LongHashFunction.highway(new long[3]);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            LongTupleHashFunction.highway256(null);
+            fail("should throw NullPointerException");
+        } catch (NullPointerException expected) {
+            // expected
+        }
+    }
+
+    private static final long[][] EXPECTED_128 = {
+            {0x0FED268F9D8FFEC7L, 0x33565E767F093E6FL},
+            {0xD6B0A8893681E7A8L, 0xDC291DF9EB9CDCB4L},
+            {0x3D15AD265A16DA04L, 0x78085638DC32E868L}};
+
+    private static final long[][] EXPECTED_256 = {
+            {0xDD44482AC2C874F5L, 0xD946017313C7351FL, 0xB3AEBECCB98714FFL, 0x41DA233145751DF4L},
+            {0xEDB941BCE45F8254L, 0xE20D44EF3DCAC60FL, 0x72651B9BCB324A47L, 0x2073624CB275E484L}};
+
+    /**
+     * Test vectors of the reference implementation, hashes of bytes {@code 0, 1, ..., len - 1}
+     * with the key {@link #KEY}.
+     */
+    private static final long[] EXPECTED_64 = {
+            0x907A56DE22C26E53L, 0x7EAB43AAC7CDDD78L, 0xB8D0569AB0B53D62L, 0x5C6BEFAB8A463D80L,
+            0xF205A46893007EDAL, 0x2B8A1668E4A94541L, 0xBD4CCC325BEFCA6FL, 0x4D02AE1738F59482L,
+            0xE1205108E55F3171L, 0x32D2644EC77A1584L, 0xF6E10ACDB103A90BL, 0xC3BBF4615B415C15L,
+            0x243CC2040063FA9CL, 0xA89A58CE65E641FFL, 0x24B031A348455A23L, 0x40793F86A449F33BL,
+            0xCFAB3489F97EB832L, 0x19FE67D2C8C5C0E2L, 0x04DD90A69C565CC2L, 0x75D9518E2371C504L,
+            0x38AD9B1141D3DD16L, 0x0264432CCD8A70E0L, 0xA9DB5A6288683390L, 0xD7B05492003F028CL,
+            0x205F615AEA59E51EL, 0xEEE0C89621052884L, 0x1BFC1A93A7284F4FL, 0x512175B5B70DA91DL,
+            0xF71F8976A0A2C639L, 0xAE093FEF1F84E3E7L, 0x22CA92B01161860FL, 0x9FC7007CCF035A68L,
+            0xA0C964D9ECD580FCL, 0x2C90F73CA03181FCL, 0x185CF84E5691EB9EL, 0x4FC1F5EF2752AA9BL,
+            0xF5B7391A5E0A33EBL, 0xB9B84B83B4E96C9CL, 0x5E42FE712A5CD9B4L, 0xA150F2F90C3F97DCL,
+            0x7FA522D75E2D637DL, 0x181AD0CC0DFFD32BL, 0x3889ED981E854028L, 0xFB4297E8C586EE2DL,
+            0x6D064A45BB28059CL, 0x90563609B3EC860CL, 0x7AA4FCE94097C666L, 0x1326BAC06B911E08L,
+            0xB926168D2B154F34L, 0x9919848945B1948DL, 0xA2A98FC534825EBEL, 0xE9809095213EF0B6L,
+            0x582E5483707BC0E9L, 0x086E9414A88A6AF5L, 0xEE86B98D20F6743DL, 0xF89B7FF609B1C0A7L,
+            0x4C7D9CC19E22C3E8L, 0x9A97005024562A6FL, 0x5DD41CF423E6EBEFL, 0xDF13609C0468E227L,
+            0x6E0DA4F64188155AL, 0xB755BA4B50D7D4A1L, 0x887A3484647479BDL, 0xAB8EEBE9BF2139A0L,
+            0x75542C5D4CD2A6FFL};
+}
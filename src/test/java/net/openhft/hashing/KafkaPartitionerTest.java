@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class KafkaPartitionerTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * UtilsTest.testMurmur2 of Kafka.
+     */
+    @Test
+    public void testKafkaVectors() {
+        assertEquals(-973932308, KafkaPartitioner.murmur2("21"));
+        assertEquals(-790332482, KafkaPartitioner.murmur2("foobar"));
+        assertEquals(-985981536, KafkaPartitioner.murmur2("a-little-bit-long-string"));
+        assertEquals(-1486304829, KafkaPartitioner.murmur2("a-little-bit-longer-string"));
+        assertEquals(-58897971,
+                KafkaPartitioner.murmur2("lkjh234lh9fiuh90y23oiuhsafujhadof229phr9h19h89h8"));
+        assertEquals(479470107, KafkaPartitioner.murmur2(new byte[]{'a', 'b', 'c'}));
+    }
+
+    @Test
+    public void testStrings() {
+        Random random = new Random(42);
+        // ASCII, 2-byte, 3-byte chars, surrogates, paired or not
+        char[][] alphabets = {
+                {'a', 'Z', '0', '\u007f'},
+                {'a', '\u00e9', '\u07ff', '\u0080'},
+                {'a', '\u00e9', '\u20ac', '\uffff'},
+                {'a', '\u00e9', '\u20ac', '\ud83d', '\ude00'},
+        };
+        for (char[] alphabet : alphabets) {
+            for (int len = 0; len < 100; len++) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < len; i++) {
+                    sb.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                String key = sb.toString();
+                byte[] bytes = key.getBytes(UTF_8);
+                assertEquals(key, kafkaMurmur2(bytes), KafkaPartitioner.murmur2(key));
+                assertEquals(key, kafkaMurmur2(bytes), KafkaPartitioner.murmur2(sb));
+                assertEquals(key, toPositive(kafkaMurmur2(bytes)) % 7,
+                        KafkaPartitioner.partition(key, 7));
+            }
+        }
+        for (String key : new String[]{"\ud83d", "a\ude00", "\ude00\ud83d", "ab\ud83d\ud83d\ude00c"}) {
+            assertEquals(kafkaMurmur2(key.getBytes(UTF_8)), KafkaPartitioner.murmur2(key));
+        }
+    }
+
+    @Test
+    public void testBytesAndBuffers() {
+        Random random = new Random(42);
+        byte[] data = new byte[300];
+        random.nextBytes(data);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).clear();
+        for (int len = 0; len < 100; len++) {
+            int off = random.nextInt(data.length - len);
+            byte[] key = new byte[len];
+            System.arraycopy(data, off, key, 0, len);
+            int eh = kafkaMurmur2(key);
+            int ep = toPositive(eh) % 10;
+            assertEquals(eh, KafkaPartitioner.murmur2(key));
+            assertEquals(eh, KafkaPartitioner.murmur2(data, off, len));
+            assertEquals(ep, KafkaPartitioner.partition(key, 10));
+            assertEquals(ep, KafkaPartitioner.partition(data, off, len, 10));
+            assertEquals(ep, KafkaPartitioner.partition(ByteBuffer.wrap(data, off, len), 10));
+
+            direct.limit(off + len).position(off);
+            assertEquals(ep, KafkaPartitioner.partition(direct, 10));
+            assertEquals(off, direct.position());
+            direct.clear();
+        }
+    }
+
+    @Test
+    public void testToPositive() {
+        assertEquals(0, KafkaPartitioner.toPositive(Integer.MIN_VALUE));
+        assertEquals(Integer.MAX_VALUE, KafkaPartitioner.toPositive(-1));
+        assertEquals(1, KafkaPartitioner.toPositive(1));
+    }
+
+    @Test
+    public void testIllegalNumPartitions() {
+        try {
+            KafkaPartitioner.partition("key", 0);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    private static int toPositive(int number) {
+        return number & 0x7fffffff;
+    }
+
+    /**
+     * Utils.murmur2 of Kafka.
+     */
+    private static int kafkaMurmur2(final byte[] data) {
+        int length = data.length;
+        int seed = 0x9747b28c;
+        final int m = 0x5bd1e995;
+        final int r = 24;
+
+        int h = seed ^ length;
+        int length4 = length / 4;
+
+        for (int i = 0; i < length4; i++) {
+            final int i4 = i * 4;
+            int k = (data[i4 + 0] & 0xff) + ((data[i4 + 1] & 0xff) << 8) +
+                    ((data[i4 + 2] & 0xff) << 16) + ((data[i4 + 3] & 0xff) << 24);
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h *= m;
+            h ^= k;
+        }
+
+        switch (length % 4) {
+            case 3:
+                h ^= (data[(length & ~3) + 2] & 0xff) << 16;
+            case 2:
+                h ^= (data[(length & ~3) + 1] & 0xff) << 8;
+            case 1:
+                h ^= data[length & ~3] & 0xff;
+                h *= m;
+        }
+
+        h ^= h >>> 13;
+        h *= m;
+        h ^= h >>> 15;
+
+        return h;
+    }
+}
@@ -0,0 +1,2162 @@
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class KomiHashTest {
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+    @Test
+    public void testKomiHashWithoutSeeds() {
+        test(LongHashFunction.komi(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEED);
+    }
+
+    @Test
+    public void testKomiHashWithOneSeed() {
+        test(LongHashFunction.komi(42L), HASHES_OF_LOOPING_BYTES_WITH_SEED_42);
+    }
+
+    public void test(LongHashFunction f, long[] hashesOfLoopingBytes) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        LongHashFunctionTest.test(f, data, hashesOfLoopingBytes[len]);
+    }
+
+    private static final String[] MESSAGES = {"This is a 32-byte testing string",
+            "The cat is out of the bag", "A 16-byte string", "The new string", "7 chars"};
+
+    @Test
+    public void testKnownValues() {
+        // test vectors from the komihash README
+        if (len == 0) {
+            final long[] expected = {0x05ad960802903a9dL, 0xd15723521d3c37b1L,
+                    0x467caa28ea3da7a6L, 0xf18e67bc90c43233L, 0x2c514f6e5dcb11cbL};
+            final long[] expectedWithSeed = {0x6ce66a2e8d4979a5L, 0x5b1da0b43545d196L,
+                    0x26af914213d0c915L, 0x62d9ca1b73250cb5L, 0x90ab7c9f831cd940L};
+            for (int i = 0; i < MESSAGES.length; i++) {
+                final byte[] message = MESSAGES[i].getBytes();
+                assertEquals(MESSAGES[i], expected[i], LongHashFunction.komi().hashBytes(message));
+                assertEquals(MESSAGES[i], expectedWithSeed[i],
+                        LongHashFunction.komi(0x0123456789abcdefL).hashBytes(message));
+            }
+
+            final byte[] bulk = new byte[256];
+            for (int i = 0; i < bulk.length; i++) {
+                bulk[i] = (byte) i;
+            }
+            final int[] bulkLengths = {3, 6, 8, 12, 20, 31, 32, 40, 47, 48, 56, 64, 72, 80, 112, 132, 256};
+            final long[] expectedBulk = {0x7a9717e9eea4be8bL, 0xa56469564c2ea0ffL, 0x00b4313a24431306L,
+                    0x64c2ad96013f70feL, 0x7a3888bc95545364L, 0xc77e02ed4b201b9aL, 0x256d74350303a1baL,
+                    0x59609c71697bb9dfL, 0x36eb9e6a4c2c5e4bL, 0x8dd56c332850baa6L, 0xcbb722192b353999L,
+                    0x90b07e2158f88cc0L, 0x24c9621701603741L, 0x1d4c1d97ca684334L, 0xd1a425d530652287L,
+                    0x72623be342c20ab5L, 0x94c3dbdca59ddf57L};
+            for (int i = 0; i < bulkLengths.length; i++) {
+                assertEquals("bulk " + bulkLengths[i], expectedBulk[i],
+                        LongHashFunction.komi().hashBytes(bulk, 0, bulkLengths[i]));
+            }
+        }
+    }
+
+    /**
+     * Test data is output of the following program with komihash implementation
+     * from https://github.com/avaneev/komihash
+     * <pre>
+     * #include &lt;stdio.h&gt;
+     * #include &lt;stdlib.h&gt;
+     * #include "komihash.h"
+     *
+     * int main() {
+     *     char *src = (char *) malloc(1024);
+     *     const int N = 1024;
+     *     for (int i = 0; i < N; i++) {
+     *         src[i] = (char) i;
+     *     }
+     *
+     *     printf("without seed\n");
+     *     for (int i = 0; i <= N; i++) {
+     *         printf("%lldL,\n", (long long) komihash(src, i, 0));
+     *     }
+     *
+     *     printf("with seed 42\n");
+     *     for (int i = 0; i <= N; i++) {
+     *         printf("%lldL,\n", (long long) komihash(src, i, 42));
+     *     }
+     *     return 0;
+     * }
+     * </pre>
+     */
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED = {
+        -5230862079086218572L,
+        -3047042175680061472L,
+        -7636361204978242231L,
+        8833555487609110155L,
+        -3203213204064460679L,
+        -3732001260049890451L,
+        -6528977740414148353L,
+        6557423987057618506L,
+        50719621594157830L,
+        6268829344611865963L,
+        4462463833820611329L,
+        -2490536330743025358L,
+        7260556409052295422L,
+        -7736472946844222225L,
+        2486141100858213516L,
+        -4785779215645038045L,
+        -7510984295410257407L,
+        -2134632601818286656L,
+        -8605841176192752220L,
+        6566547258085305008L,
+        8806939414863565668L,
+        4487353462127170192L,
+        1266362457978726268L,
+        1328056589825873449L,
+        -1979793413899806341L,
+        9189912122182641588L,
+        -7994450137790749264L,
+        -3335637747820543980L,
+        7436656810173264402L,
+        7524605822925930973L,
+        -9118778428000694628L,
+        -4071813794905449574L,
+        2696939522897453498L,
+        4083357516686314739L,
+        2190296822813623291L,
+        8340682560135923431L,
+        -2740599525238894187L,
+        127792225323863836L,
+        2912379421235820989L,
+        -1790295180185388209L,
+        6440319478054762975L,
+        6966383378971364627L,
+        -5121382132157560148L,
+        2507975100798031858L,
+        -83387986784612787L,
+        3509459421970732204L,
+        -7018742992607853903L,
+        3957430876956810827L,
+        -8226550177346831706L,
+        -7454759404288315869L,
+        -6806125756315287080L,
+        -123251698645847316L,
+        -8308945472177128147L,
+        -9092065159299362692L,
+        9171963877046328904L,
+        6013829596622227001L,
+        -3767505071777695335L,
+        -1126456350208643852L,
+        4715001644571194459L,
+        6872318110928135276L,
+        7213471187509721647L,
+        7073067742877379863L,
+        -7806177407773852033L,
+        -7525863822793911083L,
+        -8020772254655148864L,
+        -917055170137285866L,
+        -4886042487444935126L,
+        466445820516372783L,
+        -4108204323516011926L,
+        3380413771513297247L,
+        -4953187459680750766L,
+        -3115884452585037147L,
+        2650757706631100225L,
+        2576178440564518145L,
+        -6493057185990967283L,
+        1219902941740092462L,
+        3148565022673616164L,
+        1185517528523718880L,
+        1629902031353209017L,
+        -1322387182760256861L,
+        2111094863103017780L,
+        -2914008037521226714L,
+        5310252142633362439L,
+        -1158091913749448723L,
+        -203602759681225557L,
+        1610562759171411043L,
+        -8711465416472090369L,
+        -7429530771266312390L,
+        -6325552777039680427L,
+        -5013892906684063311L,
+        -2055793436087575806L,
+        6585110757641595470L,
+        9222493314881511825L,
+        6173811529652274296L,
+        -7950422699944494070L,
+        1241591017191636452L,
+        -2604085236877036117L,
+        3617760359712590199L,
+        905962994163579664L,
+        8965425929036771148L,
+        -858049970583871165L,
+        -7039982790592684378L,
+        -6904082248790367088L,
+        1400142308559988819L,
+        574054232358465465L,
+        -4046429664139463804L,
+        -8630504132139468363L,
+        2062561715449086326L,
+        -1632743900242039598L,
+        2729953481762786276L,
+        5504913590143206801L,
+        1191848568095030189L,
+        -3340503426031869305L,
+        -6312862543921889520L,
+        4567468546135911250L,
+        -1940854073034086669L,
+        -1434747402577888109L,
+        7947142809489447787L,
+        -7096947815654951884L,
+        8941368891607193075L,
+        -6138269502167040606L,
+        3910150596610611182L,
+        -2880985915872757331L,
+        -3881725952006887736L,
+        -148344779878883396L,
+        -1915651386417100774L,
+        -4438368425330916474L,
+        6038209456028477943L,
+        5968131774897890807L,
+        1458787699662678391L,
+        1826918846346867295L,
+        6723606441911433454L,
+        8242216115305056949L,
+        -7209698434067268505L,
+        -1561818903616469921L,
+        7038627866266916984L,
+        -3694114355487264473L,
+        2858474453027686345L,
+        -2756888599105552633L,
+        5402079463310498496L,
+        4890744407886579298L,
+        2552744160267385788L,
+        -7809774863368208333L,
+        -7836352016205744137L,
+        -4379347911780802866L,
+        -2675744651034670151L,
+        245277582619992531L,
+        -1941136217047817005L,
+        -1322693035221965106L,
+        -3646338701602440582L,
+        5955005821429918333L,
+        5501787606102976016L,
+        -3304143562857543978L,
+        -8482557822147293916L,
+        -9185655721066483032L,
+        -5300399431760724435L,
+        1742289769999479447L,
+        -6653689995754616587L,
+        8358365321452486516L,
+        -3014738970970239619L,
+        5006866700192009497L,
+        7708783044169309887L,
+        7769962573202818061L,
+        -51024238090706480L,
+        3747421474370177114L,
+        -8288510387452026241L,
+        765914633689265319L,
+        5103212937529483625L,
+        -7951793743263979193L,
+        1940411515876806045L,
+        -5224823368689334243L,
+        7378214754690670189L,
+        -8272006681497681852L,
+        5531868206385518125L,
+        -3463826109989930208L,
+        8615900401331944257L,
+        7377889954703231276L,
+        8659582659936727589L,
+        5690233247213126411L,
+        2635864079288089650L,
+        7515767403073484723L,
+        -7453664921803217448L,
+        -360566671818038754L,
+        -6903141400600277686L,
+        5967047549553407979L,
+        -1136482236108072082L,
+        -851649073494816106L,
+        -4505850747307421639L,
+        311327773619204784L,
+        -616376109541451632L,
+        -1087314894032418635L,
+        1744608839966311012L,
+        1069515138828649159L,
+        -9010333310556608283L,
+        -6368459406527224264L,
+        -3698026957608318535L,
+        541434587466911897L,
+        5855800367331543981L,
+        2150818038291598237L,
+        3831364074896816888L,
+        8791313312487432336L,
+        2057999906651565608L,
+        1024140197705650744L,
+        -1221423825085825862L,
+        1766782531092489690L,
+        906999368958829934L,
+        7231479618535130937L,
+        7601883677164823590L,
+        -2319874250500410199L,
+        6399212659075919029L,
+        -3414179679244218588L,
+        -3351005245905915966L,
+        -5657193438841511615L,
+        -7746258200869162030L,
+        -1799736506992263518L,
+        -6878480899987149335L,
+        692636923516961591L,
+        -5059774170954411288L,
+        -4767149627222563640L,
+        2107127162675037563L,
+        686551357376398323L,
+        1049888145797195923L,
+        54852129914841159L,
+        -2228826835430090862L,
+        -4129668538987016362L,
+        -1953527700203600579L,
+        -6091277862502588738L,
+        7067100613536753718L,
+        9105779369599037553L,
+        7402964158829708658L,
+        2946713049441742364L,
+        8299343975070811346L,
+        -6952364450519455190L,
+        -1000207494497019823L,
+        3819973905056025498L,
+        8697507831528805156L,
+        3686486664116817636L,
+        -1811434882686016674L,
+        -280524320552816770L,
+        1714524775628707548L,
+        1102533741217477877L,
+        -7396153309236685826L,
+        4702620439062414205L,
+        2344978331947156823L,
+        -1298589251698320590L,
+        -6263683092075943855L,
+        1919498190787985171L,
+        4752166811574494746L,
+        54044638232612487L,
+        943423866890755429L,
+        2325787413436924064L,
+        3745302997329720456L,
+        4900044683337778165L,
+        6888670162407041467L,
+        -4195632730092083212L,
+        -6259194325262559075L,
+        -7727090794919764137L,
+        1233528139130315860L,
+        -5921482369160076481L,
+        1642451608619898009L,
+        2793793718782498142L,
+        -1017090479655815825L,
+        -4520692134536913884L,
+        8990852965778175605L,
+        3945289755732866777L,
+        9138727484826268034L,
+        3904601085354332956L,
+        4113365674589205028L,
+        -1458855855757780734L,
+        2124701821385188104L,
+        -7934105820339379843L,
+        -2585021783543463095L,
+        -5934406174506879662L,
+        3821055012112432151L,
+        6430283920724269280L,
+        848715926191557932L,
+        -1308198707325620332L,
+        5503949635567908858L,
+        4893721385748580612L,
+        8028668554313884741L,
+        726556062003546769L,
+        -1024720630846919765L,
+        -5085502084859118951L,
+        8975558029786693529L,
+        -5214409775661399698L,
+        1299371181789950884L,
+        -7577823755090715554L,
+        -2628348719385320303L,
+        4977257083878848829L,
+        1948860683316217889L,
+        -1942375298286450851L,
+        -7148374883261719394L,
+        3257387403523433689L,
+        -2975296001080811306L,
+        -3132047344164306541L,
+        -1128395675833992507L,
+        -682458612137843977L,
+        -8597544022623151083L,
+        5347561493789218581L,
+        -4548445894737099146L,
+        -8192887241281363774L,
+        4551730328624801660L,
+        -1389087279788346010L,
+        1331858760797651338L,
+        734581070217205710L,
+        2854288012984543208L,
+        231581803193348095L,
+        -879535098007264120L,
+        -6092038709423593810L,
+        -1802434122696676663L,
+        1798576492652687395L,
+        1989747590642903999L,
+        -8049662131938301903L,
+        -7825072492732837028L,
+        3554438828647644665L,
+        4546547422562516022L,
+        -8503313019603710846L,
+        -7877235824175492813L,
+        8190765359231051077L,
+        6044006410536990453L,
+        -961311682426442413L,
+        1318123657457465541L,
+        -2885554930919376779L,
+        -5131011100585269038L,
+        570603697910220853L,
+        -1185353315749414630L,
+        5143873257869024779L,
+        -8601339091711887847L,
+        -1580195388185249508L,
+        -4131671451876025328L,
+        -6717505920682004277L,
+        -1171255068255550880L,
+        -3108482948289496650L,
+        -1911433577053291084L,
+        -6019036455588805627L,
+        -3027360778877208482L,
+        -5204554548679750941L,
+        5718090918960851572L,
+        -6892281424236380867L,
+        -6565532767400859963L,
+        -2548438329290340058L,
+        2555350696477666927L,
+        -1851162932297867618L,
+        -4438881578017385966L,
+        4860389340152719805L,
+        4208221190533511834L,
+        4690674903846905280L,
+        4501075702124978170L,
+        -5029092702087199733L,
+        -2634696883059616953L,
+        -5200253127207940770L,
+        8562509462948392170L,
+        -507592461256677987L,
+        5963188729415710833L,
+        -2452887971726104212L,
+        4264805692357244617L,
+        8583774056725771145L,
+        6011987911675529749L,
+        3106737382498782280L,
+        -7599759133992993404L,
+        -576767776483478131L,
+        8961051933933151216L,
+        -9101260135099442475L,
+        2271338587306590580L,
+        6989823580223364195L,
+        8631155164570265335L,
+        2729005199540854503L,
+        1183878820379815946L,
+        824672573804817562L,
+        5983751510274820523L,
+        -1280076579351687329L,
+        8944738317583511816L,
+        5537002369194748449L,
+        8183400673594019920L,
+        -7590187043193251006L,
+        7197367320939682080L,
+        8980085234900862396L,
+        7553957999429920571L,
+        6498431601923046759L,
+        -1653378630765021088L,
+        4532896345350883475L,
+        -6056504168621363170L,
+        1834370417850460226L,
+        3811954648080517754L,
+        4164139713932016936L,
+        5212763002687290933L,
+        4913605694884624313L,
+        426354684889205649L,
+        -8333225883627260904L,
+        5675412646199179222L,
+        -6628307625144856486L,
+        -4771789703545413104L,
+        -8558024945404464724L,
+        9155541899165413360L,
+        6802043035821527119L,
+        9057665071206119118L,
+        734216529301007668L,
+        8481596078832594876L,
+        -3752343118266521912L,
+        -4942245033169730325L,
+        2326772462468509866L,
+        -884480581022159982L,
+        3277906655710520470L,
+        7568871523244093120L,
+        -7688160276206376490L,
+        -6261690254624717537L,
+        5692215700882580118L,
+        6915654252937190376L,
+        -367187749976875813L,
+        2558542300627021972L,
+        -5882042719758508319L,
+        7232172750241794389L,
+        8736120041122403315L,
+        -8187288006815441031L,
+        -5190500163450899365L,
+        2353337726079999754L,
+        -3951011365115561179L,
+        8218883799729662389L,
+        -1965521700656300464L,
+        -8070591720471324426L,
+        4300928168737090799L,
+        -5283090587101801394L,
+        1081495385149399660L,
+        6206063886495870410L,
+        -8259547516955448460L,
+        -8328365702637038905L,
+        -3120149135718240018L,
+        -562147192814262820L,
+        -6145535606275563178L,
+        -6698687575947288230L,
+        5298334952579639143L,
+        2811038433349378339L,
+        -6295777168462616398L,
+        -2890115826264715561L,
+        3788077477324654970L,
+        -4621022275136082389L,
+        5482400621488050632L,
+        -2089276795158850091L,
+        5179995083466940912L,
+        -5073920683314301097L,
+        -2584739618914121776L,
+        2815900752420535268L,
+        4702501579476628118L,
+        7392114748661146891L,
+        -7078773480278303823L,
+        -5444803196744793141L,
+        4516122875937393977L,
+        -2896069119254067516L,
+        -8127479966241731200L,
+        -4325612722819262590L,
+        -8697378213040819549L,
+        -2964235246476740217L,
+        -3301855133359618904L,
+        -5975751420657610037L,
+        -3387216094494580421L,
+        1113141024250852645L,
+        -4299030096767110568L,
+        6035382448314454933L,
+        -1080862659358714647L,
+        4278843362172953370L,
+        -5709781346894051120L,
+        -7426127229895649523L,
+        8870152281503590929L,
+        7535922213870728126L,
+        728186262628325429L,
+        1255326288140164919L,
+        -120575122918743502L,
+        -6364411456167502761L,
+        -4762091563649509329L,
+        -3630907610732760397L,
+        -8452748099922607416L,
+        -4240691865883763367L,
+        1858279559365290800L,
+        8766417861699653752L,
+        6851733003980638146L,
+        2931488678580804238L,
+        2103958917519225341L,
+        2894395060441450458L,
+        424199039747535331L,
+        -3741306345904719245L,
+        -4497956746811827443L,
+        -2157724763125611196L,
+        -1143116962400938248L,
+        -7581249901375640980L,
+        -4596944023537780848L,
+        1665727573112261031L,
+        2895255079861084012L,
+        8164746256544517702L,
+        7992030906410331243L,
+        6823341283134395831L,
+        5160710828567556347L,
+        6440402190191856724L,
+        -3975565943242163239L,
+        -154320488805399023L,
+        -7549238949552274154L,
+        6211439007247540638L,
+        7480802987715793448L,
+        -8782563158358951400L,
+        8728904355018108733L,
+        -2163148226524299824L,
+        6403021068678038258L,
+        4528029438817416639L,
+        6935853265977445704L,
+        4920112343232112954L,
+        -6739757336793100604L,
+        4482784579462465383L,
+        -7135455258342193490L,
+        -8477005149979358730L,
+        8870398979914684764L,
+        2824679407492672600L,
+        6190534755299490960L,
+        991537508064798950L,
+        -6667655323302029395L,
+        -8058127263206016529L,
+        4891654750248470910L,
+        -2286385799087460888L,
+        1530214462090647870L,
+        4172043121824545180L,
+        5559944847312878043L,
+        1829667584053780924L,
+        -4408224221961935563L,
+        -2080504789765271680L,
+        -9209056368574952636L,
+        -6852154806810943024L,
+        2101971680421267008L,
+        2436458634563268246L,
+        -8519604643079315181L,
+        6177370546747778016L,
+        -6743059577130440735L,
+        8386906131638273102L,
+        1902337418739918468L,
+        -1416935656146501332L,
+        -3170108443047048401L,
+        -7697192207646710638L,
+        -7010211006649753086L,
+        -5641495345836405331L,
+        5376689242105875304L,
+        168448373773785600L,
+        -6238775716902705941L,
+        -639890999119580512L,
+        6660607758701761485L,
+        -3720805164306460976L,
+        -8063756194678061213L,
+        4441388769510890172L,
+        -917421040700169591L,
+        -336329104274246090L,
+        1683101777825932124L,
+        8307339467024182284L,
+        -5988759803612350187L,
+        -641012804681787444L,
+        2412898527966663414L,
+        3019546707366917219L,
+        -7323152343322138945L,
+        1683918520124395948L,
+        2427070267212317171L,
+        -7524126449742098723L,
+        4959038591362097298L,
+        -143909574028362420L,
+        -4543442296469413616L,
+        -8365255638676292611L,
+        -1027820755837401646L,
+        -2879341387869135064L,
+        -3781003258903728610L,
+        2695871691650534975L,
+        -6870528469504054798L,
+        6084435872194416681L,
+        8014125232507833065L,
+        -2791151272713010960L,
+        -3206668150718661677L,
+        -3805900584597499536L,
+        -9028439700783459407L,
+        -4878474233120652590L,
+        -4091200690082202130L,
+        -4524923047418159989L,
+        -3153612361096163596L,
+        2942359078408734585L,
+        -945922723213676141L,
+        -5063594873807603813L,
+        -1034297149166455256L,
+        -4314378024731309022L,
+        -4557908862446944808L,
+        4369797361109336343L,
+        -1804074249242465274L,
+        7339418318407897753L,
+        7488802560600330060L,
+        6209704262337883627L,
+        -1413306845599685032L,
+        -7724722960552358667L,
+        1550482054176538142L,
+        -4771929583418777288L,
+        -7487977047258509231L,
+        4536848233492196845L,
+        -9120724372829157173L,
+        215388192093752814L,
+        -1069303580451617372L,
+        -6030450176088045863L,
+        -4098804695616801777L,
+        -2934920242409131814L,
+        4601103158190424811L,
+        5724815507181914107L,
+        -967980601599558568L,
+        -8152583919332471316L,
+        -1651019129860182622L,
+        558710012367530820L,
+        -3690794373461631812L,
+        3071211029625172148L,
+        2511271880248258586L,
+        -1019345011876695326L,
+        -5662156253648430130L,
+        -5133570472103498973L,
+        -1166260633600033295L,
+        7746556815064644247L,
+        -4164398738166170302L,
+        -4867157441346947869L,
+        -1893077257914092240L,
+        3179503094485360868L,
+        -2052562329265470447L,
+        -6127921358535231636L,
+        3805541129325379310L,
+        -8815832397141136919L,
+        1347503329097507332L,
+        3103009790975147558L,
+        -276282681452338189L,
+        6445494589162605835L,
+        3491697462392523352L,
+        -175240331737523224L,
+        4019836037378436402L,
+        -8140457093826297604L,
+        -4482410192123538498L,
+        -7451091859411446376L,
+        -5163942944191816777L,
+        4827235537182461159L,
+        -4076133482573738960L,
+        4129900115184348143L,
+        -2454947500752130970L,
+        5149236830230946054L,
+        -3595846380354010943L,
+        -1469222223078079812L,
+        2259534088620641224L,
+        -7899395091999230013L,
+        -9019812187233302781L,
+        8827208981033769457L,
+        1492026974317476226L,
+        7811010807055199437L,
+        -3370368741363816005L,
+        -1909576880669637675L,
+        1462910560224211080L,
+        8518886836204616744L,
+        7593676572906281620L,
+        3368540427748282722L,
+        5879614796397402167L,
+        -1482175732333552858L,
+        476099059909377501L,
+        -3986671759272847052L,
+        -1007724153707612446L,
+        -8425147675433600673L,
+        5404407881732827945L,
+        -3795351382178382364L,
+        2684681845826471074L,
+        -4819175742002191568L,
+        -4792076514158429262L,
+        -5370728289712499429L,
+        7188982834061376576L,
+        2300122853263953383L,
+        7033451743141401715L,
+        4078640751564559851L,
+        5020113848859461806L,
+        9042376725420083065L,
+        -173646242760831362L,
+        5511900426329663156L,
+        3783031058126975105L,
+        -7578591648280403674L,
+        -2761851150054477052L,
+        1205550722515049176L,
+        -433888010225734394L,
+        3602014970480788507L,
+        1992719274702155707L,
+        -5508357449014492559L,
+        -4005639483031178740L,
+        4849624379886527781L,
+        -7793754088284286324L,
+        -4533330861161003003L,
+        8002680185328212782L,
+        -6527533076354650341L,
+        -7112804241754208762L,
+        22329782176571685L,
+        -8510832495381787864L,
+        -176549757661225282L,
+        6893683180699922284L,
+        2051637729854584466L,
+        -8247357953013266277L,
+        -8182614408445689961L,
+        8262333685447658791L,
+        6888948738959886853L,
+        6093223427975599992L,
+        446464685136757096L,
+        -558083998491595336L,
+        -1983742623069466124L,
+        324380407431025168L,
+        8351787384816549142L,
+        -3529046685985261151L,
+        2415581854246418499L,
+        8194266238355868297L,
+        5884771143667717038L,
+        -6794821049664995475L,
+        -8058612550360605221L,
+        -6900192391595783159L,
+        -1804203329274493882L,
+        -1263485521978481479L,
+        -1278628817197719198L,
+        -100269113624914266L,
+        1265264681665487993L,
+        3141494776596818038L,
+        -3366133335473244688L,
+        6543755744497681954L,
+        3710631582580080673L,
+        9098905163176946837L,
+        6104324617037586559L,
+        -9199621246928682234L,
+        -5635376877588583955L,
+        6246378666515503386L,
+        -1886021169152069439L,
+        3559139501613648007L,
+        3927562771834997820L,
+        2719340323841764434L,
+        -6887970994769501305L,
+        -8463313793556826431L,
+        5927331680256453649L,
+        -4982759753229751943L,
+        -8948257342184014381L,
+        4715589702961256368L,
+        -6045593046386392334L,
+        -4554727021349625214L,
+        -7624858514990514890L,
+        -1794011575086142539L,
+        -7110215892625026068L,
+        4024449200673572435L,
+        -1286344144919188713L,
+        3015014008402664831L,
+        -8981647375844941704L,
+        1738718040668351635L,
+        8046905301320438886L,
+        -4805291289452152652L,
+        277030046591767897L,
+        4760188189943006002L,
+        -8373780338786606206L,
+        6149283825742063441L,
+        -5172476167160207270L,
+        6697438393586025936L,
+        -1800015857864851405L,
+        4658107583006633042L,
+        -8119142233837733081L,
+        3917313466699139589L,
+        4980308515047920961L,
+        -1063954730778492449L,
+        -1688225653301771305L,
+        718812879891206460L,
+        9095101732281067596L,
+        -7393978337941054727L,
+        -8510549714791555294L,
+        4482868285424700803L,
+        -7178355865759481117L,
+        1435616145102870623L,
+        8889939006923427455L,
+        85585629250064728L,
+        4713202407992712801L,
+        -3634856348220896303L,
+        -507313695902774979L,
+        5996575588496965766L,
+        1936675171941928713L,
+        9060713748695617182L,
+        7783921327881282769L,
+        9197808801555148880L,
+        8589063062627241559L,
+        3397647461302902998L,
+        1679617886694152863L,
+        -3550270900842869001L,
+        6286270607557836800L,
+        3938928257587422645L,
+        187602200638530775L,
+        6555952553196897854L,
+        -5300943092137339727L,
+        852447935977395953L,
+        -757481813931793210L,
+        -7811225153903639213L,
+        -4950086661686740603L,
+        -5622478515234352024L,
+        -8600260780155022055L,
+        -5885807269368871234L,
+        -7385278540269562012L,
+        -7655230311605933431L,
+        5210940581204073605L,
+        -1438498626543974370L,
+        5403211923820436317L,
+        -7412806330989293108L,
+        4319181756228886823L,
+        -7579067244057713114L,
+        -1611477376305156304L,
+        -1952532089596077914L,
+        7752065733076525540L,
+        4656293788822516211L,
+        3076424747716577637L,
+        7740048530132724682L,
+        -7493574215564339296L,
+        -4679175935322383458L,
+        1329599112632353552L,
+        -4854738457236594696L,
+        40962767897714525L,
+        -5752657030681644062L,
+        7552653207853050048L,
+        5472949068048406386L,
+        -5941385001675110373L,
+        -6599547808637069788L,
+        -597176203339657276L,
+        -3779020384538319675L,
+        -7157745466288281991L,
+        8055664365077830592L,
+        -5711258311599865608L,
+        -3661629045031781188L,
+        758589999761024205L,
+        2469114849947129979L,
+        -3577225432071736560L,
+        -1720795785430498337L,
+        -7327086704791720966L,
+        -5075325743973551362L,
+        -7114135658957243358L,
+        4793091425052846827L,
+        5657097443493719707L,
+        67942106514885774L,
+        8568305431803201756L,
+        3426076492023464376L,
+        -7750315888941581861L,
+        -8027256433895780015L,
+        5311549947022992193L,
+        7418408393070340399L,
+        -4562846263739671353L,
+        -6143193017822334416L,
+        1339519946960893008L,
+        -4107704256929758551L,
+        3986498486834763441L,
+        -5230717142534207818L,
+        -201430214307690546L,
+        8654466370008652744L,
+        -2043933791627246309L,
+        -7937920942266772353L,
+        3707229162215916781L,
+        -5912625554462141632L,
+        3123461322651908227L,
+        5063215150502315575L,
+        -6352621110426409281L,
+        3891669868643660963L,
+        -8518939015516653351L,
+        -3806753911139754488L,
+        -5088801328352868975L,
+        5849633502360612011L,
+        308529752161073931L,
+        -4829205079465175897L,
+        -1937290295302088154L,
+        -1651723295397822726L,
+        3161669802803466017L,
+        -5089692230031263342L,
+        7615797029096883040L,
+        -201154068510706974L,
+        -4260104207829863577L,
+        3474911712076147938L,
+        85574680158115005L,
+        -5239393808214702080L,
+        -443156567517153840L,
+        7575001495111394679L,
+        7569660198674330287L,
+        -521946373341187502L,
+        -71252531726034745L,
+        -6382861833004087400L,
+        1834567072118032520L,
+        8871774947873543151L,
+        2842054885921972591L,
+        -4403288227262325047L,
+        6884280334457290132L,
+        -9190087094562359084L,
+        8286301477375424661L,
+        -6003142744482595482L,
+        -3489955328071885084L,
+        9114585112612324935L,
+        8610037852462074824L,
+        -1243586006377285844L,
+        8495806484423233340L,
+        -8861216069137833457L,
+        6520403249344480591L,
+        8122045999811423206L,
+        6649079185907365289L,
+        8423828454444269109L,
+        -5991183283519687963L,
+        -2935101803343357392L,
+        -650882222143026360L,
+        -321258757612365042L,
+        2903312537580400975L,
+        -624176813901115093L,
+        -4484995003177462688L,
+        -6500159608070160411L,
+        -8559681062638021758L,
+        8109548826484921512L,
+        3416185865563666959L,
+        3671812834421240308L,
+        -826162477175788330L,
+        5635382995393025143L,
+        -2942741174092702950L,
+        3547193732809564499L,
+        5981462035751987884L,
+        -5293734799762163306L,
+        -7305380586164167659L,
+        -2051195124999618502L,
+        -5884112268961510283L,
+        6371767183032585653L,
+        1228146260489135027L,
+        -6539377649710843641L,
+        -2206341029101005417L,
+        -7709609129663455691L,
+        1996531412202028563L,
+        5052977558159700895L,
+        -4734812083701407080L,
+        6192588081990364480L,
+        359263888479388247L,
+        774170014308140113L,
+        4583203692072126025L,
+        -7620880774118946164L,
+        1348040665199478282L,
+        -4729207192240786205L,
+        -1919804971354929285L,
+        -4619815244068109262L,
+        -6106008001606192489L,
+        3200081775703620517L,
+        -2922207114730624562L,
+        4480340749336512421L,
+        507876022223768106L,
+        -6654230133459800825L,
+        -3160415064138584928L,
+        3514953735795632773L,
+        -3682305851405799556L,
+        8859413122151180651L,
+        2254378113384974581L,
+        1742880758353944547L,
+        -6520275303973049779L,
+        9017171362204430291L,
+        3284762179848306002L,
+        -6721581033104364227L,
+        5505118086037601539L,
+        -1448298800586829272L,
+        -334508856198232236L,
+        1000975744841159277L,
+        8378301033031112356L,
+        6986017336363461798L,
+        -2232604396542144219L,
+        4320948843770520674L,
+        6899700321455498835L,
+        8475003763709253463L,
+        -2065972399888856061L,
+        -462059870998813929L,
+        -3342743683039419390L,
+        6385370652345279905L,
+        -3759925214637304082L,
+        -6769817466439391555L,
+        -3786264171054883598L,
+        8770107951684697393L,
+        290311343406188609L,
+        7669275830573720164L,
+        8354298840839477258L,
+        -6481131480078324477L,
+        8678252871903057140L,
+        6522145331932594621L,
+        -8166768681608651746L,
+        5015131279764636484L,
+        -5244935734958038113L,
+        -4625398020575654926L,
+        -665313273349099788L,
+        -9195477278411702473L,
+        8238988124652368198L,
+        230704606589460139L,
+        -3682039499313494168L,
+        4473931925336201864L,
+        -1166704266071639789L,
+        -817193954418585862L,
+        6182879429751228473L,
+        8733739697928896326L,
+        555916941171822568L,
+        -1737125802266930231L,
+        -7484058675815031877L,
+        -7491598078926839456L,
+        -2343941782233830240L,
+        5962941621240336408L,
+        -3392895035635164382L,
+        -750763672510977215L,
+        8562701885605551635L,
+        -1667737443367687482L,
+        -1117550231102226104L,
+        3878098616457302500L,
+        570849334445073120L,
+        1259684478285909192L,
+        -8011010728001611334L,
+        7744056830819510393L,
+        8136022739885169238L,
+        1765280510671835752L,
+        -7098345805010138208L,
+        -3915280450329088242L,
+        -1918633530571687569L,
+        4472872414872192968L,
+        -7624330876213263282L,
+        1610776429553509364L,
+        2126723612209297345L,
+        6132599624524475616L,
+        -1060359518421447066L,
+        6167223544041492375L,
+        -6157194157464238574L,
+        -8787356413652704335L,
+        -6104657359788936043L,
+        4978211409614035261L,
+        -3479289383930997296L,
+        6437820772491602644L,
+        -2928671463563169409L,
+        9117899744481124454L,
+        -7496443642343600895L,
+        6184920817029056601L,
+        1896390732238310392L,
+        7951063956256278865L,
+        -6525040300005844131L,
+        -7746383410216788699L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42 = {
+        -7662603265905051077L,
+        -5594593229867903850L,
+        -1943935313687742328L,
+        1828157572163332153L,
+        -6172949401563977674L,
+        -3769729657950734296L,
+        -76021470980750265L,
+        -1935470617466508302L,
+        -9135186116361269303L,
+        2133692144687955190L,
+        3290662143653311773L,
+        -3148065864475133719L,
+        7870982105922367511L,
+        -7338605143351805336L,
+        -1475576124459631964L,
+        7394480849395310328L,
+        8359255261270798975L,
+        -6429916051055056561L,
+        -4399713103712558282L,
+        -1569172396569648104L,
+        -1977013747625539600L,
+        -9033069815635490873L,
+        -877429119968687113L,
+        -4657596741358571506L,
+        -9025660597839991277L,
+        -5038893992316812109L,
+        2894073833412750114L,
+        -6694834360687627766L,
+        -2744205806825662838L,
+        3432660789344457852L,
+        297002359792117305L,
+        -1676801095123174034L,
+        3587810524373244049L,
+        -7454497956974355868L,
+        6641472705716278978L,
+        -5409045633763405987L,
+        -2639387612950910781L,
+        4464277392943928572L,
+        6812038047028578930L,
+        4088284952674336856L,
+        1988812258249240423L,
+        -2901705721549510802L,
+        -7034147299502866136L,
+        8153338280980053632L,
+        516476350098823040L,
+        6949414649431713353L,
+        -4814327841053156526L,
+        6282414203732870913L,
+        5599874300587553169L,
+        -8255035023558499106L,
+        4463162264036562642L,
+        3268375888637352484L,
+        -2464107777966132342L,
+        -796087213384380729L,
+        528332999863274854L,
+        -1023376440300234032L,
+        3152444794589133893L,
+        2651511016180661539L,
+        6304141525388709176L,
+        3394748495619312229L,
+        4350498919602913676L,
+        -7639344364532079614L,
+        5430353898226754275L,
+        -3578092476689510285L,
+        8590820239613859556L,
+        2906666059641374039L,
+        -7974724088262683277L,
+        -4447963617024887216L,
+        1377967869553001471L,
+        3173314381008858039L,
+        -8516940359223512824L,
+        1615948385509490757L,
+        8946505294616173941L,
+        7558217556626389265L,
+        -1598007969049859191L,
+        8783810953356930964L,
+        600244572285100499L,
+        3012954720443281063L,
+        -1240632524661700233L,
+        -7161945467161978177L,
+        2917106763800711913L,
+        2777384514415152436L,
+        -2676897002076834391L,
+        2908748334125952660L,
+        -2786169043537951668L,
+        4908437217849353899L,
+        3337639459281401188L,
+        7293276641344737614L,
+        -9129253400257406261L,
+        5979069266824816028L,
+        -4980789931835941266L,
+        7579180501523955355L,
+        3932939530855215238L,
+        -3632856337804413303L,
+        6342730276115514145L,
+        6016889996049070176L,
+        -1682669631858905652L,
+        7363045436094775138L,
+        2106411034875046892L,
+        2263465567609694584L,
+        9142309713654805395L,
+        -3815811355275272796L,
+        -3405335866504911327L,
+        4984264428863041969L,
+        -8111173548084649989L,
+        3136875255864117025L,
+        -3153424614512915549L,
+        -8603269863707543741L,
+        -5713156286734757769L,
+        3434349371059092346L,
+        -8917277021913289660L,
+        4826430689783919699L,
+        1000283108052261431L,
+        7204395394082070696L,
+        -8118723915041051930L,
+        439354018774213473L,
+        -2497788286050550859L,
+        -6835514871015543233L,
+        -2879835244164176074L,
+        -3408588152554101124L,
+        -398126179362189694L,
+        3042395163311096754L,
+        -3062334516633473201L,
+        7995704554770144798L,
+        -6019579482557333479L,
+        9102389766565618919L,
+        -8361438530241874981L,
+        7573205062563674947L,
+        5746116128105084531L,
+        -2258282579232652408L,
+        6223020326385387669L,
+        19336112091557174L,
+        -4432063969296257621L,
+        8207528228753822974L,
+        2993379864313844839L,
+        8084035317547699548L,
+        584580493670433745L,
+        3230195186837040631L,
+        -40382667235593364L,
+        -651181248150462419L,
+        8540236503040915094L,
+        1678838994906270589L,
+        9218777860938752997L,
+        -3931026403639394980L,
+        -387316809886762912L,
+        -4733341109926365366L,
+        1972361490368506891L,
+        -8987601771798861768L,
+        -7161975237682787277L,
+        -4242674634216273063L,
+        3089218758542954542L,
+        5995960789753019456L,
+        -1578332824822257428L,
+        9125883274748752670L,
+        -2685832125861637422L,
+        -5139309175971761555L,
+        -3694084703588642409L,
+        2308144683038680832L,
+        7110641068052214519L,
+        4825123641339591587L,
+        -3041524965710784195L,
+        1807921578789330328L,
+        2034265060510352346L,
+        -2984292760412708079L,
+        3419331128503076408L,
+        -5027471310258803014L,
+        -8947194401667682489L,
+        4140740416852928310L,
+        -6860553194350978804L,
+        2448870600196613782L,
+        -2647022503154630057L,
+        -3116232721525320581L,
+        3145755456721773562L,
+        7340963808226949131L,
+        -2246285790846847050L,
+        8883326729771275866L,
+        -5897430662390741514L,
+        -5968128564381346944L,
+        8907170390716719794L,
+        -8112860170356703070L,
+        -7733930784002008115L,
+        -1656264449803198659L,
+        -1208130714566145491L,
+        -4813120585708712119L,
+        -2699389677871305731L,
+        7323940675110416808L,
+        -8650488033950691820L,
+        -7950724924143221460L,
+        -2323686250238830049L,
+        -8997268739536113087L,
+        5286613417679659969L,
+        4305624804945095616L,
+        -1692846529408595355L,
+        -4265895733315419190L,
+        7045241393532509730L,
+        4587001026226680712L,
+        -7568449196049820200L,
+        -4757871511336180672L,
+        1313817705206664526L,
+        3278516848466245173L,
+        6982395064679687266L,
+        2059755199091069779L,
+        -2022724849306812855L,
+        5711546663953700998L,
+        3325256282339748660L,
+        8302906692487595221L,
+        -8447111649466608701L,
+        5471641591149143993L,
+        -6536260654155901758L,
+        -2649870187430084692L,
+        -5018794939997196801L,
+        -6638735827475598237L,
+        2225672742249542204L,
+        1221803746111072315L,
+        9081733226702477787L,
+        -6284653061771494526L,
+        3471502428048492615L,
+        -6533280407138306585L,
+        8321163446082081116L,
+        -1514334866070898780L,
+        -9140876347711060193L,
+        -2697530251904560290L,
+        7228852917392230363L,
+        -8220873965932954018L,
+        -6286531374857653433L,
+        -6815743425437289285L,
+        -8844241514062063223L,
+        -1147616479328283975L,
+        -8597028606741552910L,
+        -7713694793383352537L,
+        66419192514229688L,
+        4779109712629377412L,
+        2807250799146780036L,
+        354200436503494857L,
+        -3745118939365893873L,
+        -9211581090935930551L,
+        -1799533728877708607L,
+        -1191005034130784293L,
+        1426058397522677886L,
+        -1036576918920069586L,
+        -2790915142291649533L,
+        7134575385990956607L,
+        -7516522486787049225L,
+        5108814944590117317L,
+        3701191576869775372L,
+        -8805233598888362936L,
+        5980050848693804340L,
+        -9041930319415915828L,
+        -7012775664011431631L,
+        -3837312776365968981L,
+        -8299782641019150730L,
+        638121395370035052L,
+        1894094577158339614L,
+        4770299187117884035L,
+        7818696557455126758L,
+        3359092516861840944L,
+        -5587024691039353887L,
+        5680956453931100568L,
+        805973963976019524L,
+        -1630580305817499149L,
+        8104480857056013955L,
+        7779482500340673824L,
+        430182079335093539L,
+        3023096892431152948L,
+        5858216757224308201L,
+        4999041759813561023L,
+        -5606650960273983418L,
+        -8897127663625859910L,
+        4570042402133782519L,
+        1539752448097676330L,
+        6890653681583599124L,
+        -565893886173078809L,
+        5832205295809218897L,
+        -1807830554408678513L,
+        -8411078365072673203L,
+        866042011292414953L,
+        -9207002753379802762L,
+        -7523377084044284018L,
+        8753814586042302487L,
+        951883753432569879L,
+        -6236673066263959418L,
+        1156119208273530050L,
+        2017311447917542684L,
+        -4084536128082049471L,
+        4503334885462385302L,
+        -7860867512849637931L,
+        3775061166508687163L,
+        3456440291283044013L,
+        1482581058288254278L,
+        6787873210582242742L,
+        -2929567886528687772L,
+        -4276826283911690084L,
+        -5978378913454181930L,
+        7653640632439274465L,
+        2909171773615045809L,
+        7349594523509257039L,
+        -2594721484810839216L,
+        -1955437002689174213L,
+        -5260430600231206056L,
+        7222628397557081253L,
+        7498535579882808640L,
+        2583861460433376810L,
+        6372073727330205148L,
+        -3754595649449314817L,
+        -1346633436630903558L,
+        4964427590523298442L,
+        6369416703683961359L,
+        753167913249858847L,
+        173823629864429038L,
+        8178640605065735517L,
+        3370775937308208328L,
+        5888226449015571097L,
+        8098322340253138303L,
+        5216297542848328482L,
+        8604784380330639348L,
+        -3533655943172084171L,
+        7092239418328629558L,
+        1664736010721172312L,
+        -4071738895033463070L,
+        -821488003869218478L,
+        3078200926528962865L,
+        -4245778325654722514L,
+        3905964560434823795L,
+        -1327665000610300391L,
+        -4401812286256791988L,
+        2356335113830450344L,
+        6310079234592600715L,
+        -5472619099979680033L,
+        1524150808367721335L,
+        6072415420806413195L,
+        6980994535649228944L,
+        6876617738856202761L,
+        -1229864897864054596L,
+        -2061397331184788109L,
+        -3848902528817874571L,
+        -179786796886371145L,
+        -1655198206526119892L,
+        2976208182163765414L,
+        -2708113021725234745L,
+        -5244835010884679237L,
+        4602429513982980898L,
+        9058751467844090969L,
+        -3076217207084813522L,
+        7967251783748426966L,
+        2679300931030200837L,
+        7616511511474204904L,
+        -3149957856168968165L,
+        -6676280245760108439L,
+        5050227541155612373L,
+        -5601723927425005252L,
+        -581943298818538840L,
+        -3639883908975788169L,
+        6906561255710066488L,
+        3197396686722881275L,
+        5632862895257809342L,
+        9055841949404227074L,
+        7126071897543620738L,
+        5079822363538434444L,
+        -4229668283395188476L,
+        -2189947210353332960L,
+        -8866651203713125636L,
+        -2130194586008419590L,
+        4196036616351382468L,
+        3170991662773889527L,
+        844824306095242644L,
+        -1156430810198596014L,
+        6723172289142581275L,
+        -4823679960587138273L,
+        7733546784781608443L,
+        -1947491444851803166L,
+        5097517346124067137L,
+        3759453925304828876L,
+        -633343291563682115L,
+        -7910132956978045749L,
+        -3143500172251690286L,
+        -3575655193246816573L,
+        -5535671689223070579L,
+        -2011363516587240741L,
+        -1452465193131516239L,
+        -8258310761880072829L,
+        -3403892009760003202L,
+        240107833867691685L,
+        1596181672298509980L,
+        -4543435007489859615L,
+        5671531477947987689L,
+        -843749946416545488L,
+        -2432222303183780480L,
+        391982500598805497L,
+        -8283070966005322180L,
+        -3648092017906204821L,
+        825563807568944435L,
+        5787311063984776854L,
+        1143945456341942827L,
+        5932354460674969303L,
+        1945317197909575674L,
+        -7577185727581580314L,
+        -4004343220027644492L,
+        4874462820320195686L,
+        1830342627628883401L,
+        4990507587096973162L,
+        256776311969727902L,
+        8431554933505196498L,
+        -1606607301614739522L,
+        -3408197936812111338L,
+        -158475209851905547L,
+        -8196984821285818931L,
+        -1595024636630571506L,
+        -1719015737407016013L,
+        -415764195023860180L,
+        -7497064737892804667L,
+        7161414752949677207L,
+        2887261154237169819L,
+        580555142246138808L,
+        -5757469143873774399L,
+        1813056177884962720L,
+        7881235765400957155L,
+        -2368597255100499588L,
+        8541319503160999137L,
+        2866375946089344839L,
+        -4076148012615754763L,
+        4270553816042971376L,
+        3966211296127453366L,
+        -3569709191386498226L,
+        8299556974949782440L,
+        4973304310432473953L,
+        -5342143885801995450L,
+        1038853510283601652L,
+        6563304906338229282L,
+        8167937537362597874L,
+        -9184878145767847317L,
+        2669166871446314177L,
+        6744599610591172497L,
+        2847850510910593482L,
+        -4454530656226665499L,
+        5948749172621026829L,
+        -3461755415765944294L,
+        -6904409018391383754L,
+        9140331807120559704L,
+        -2876833979096935804L,
+        -8341208312882723643L,
+        1660331233793208729L,
+        2652825975633381058L,
+        -6721195963864764586L,
+        -4707940518367870378L,
+        -2421399827941672877L,
+        -5517299627008643006L,
+        -4337493845152294758L,
+        -6980645345982903067L,
+        4976601670646477838L,
+        -8023878064345650160L,
+        -1251367962684327711L,
+        4247263215730597505L,
+        -4106222374797116960L,
+        -7652317569532792832L,
+        1533333842411434088L,
+        1645485162065833820L,
+        -405824592298478999L,
+        -233278562172765882L,
+        5509607091262163475L,
+        -2457917738707458279L,
+        -2609920362019818868L,
+        -5083723070974929048L,
+        -6922727606536040113L,
+        -3757837537289420659L,
+        593410310029690169L,
+        -8453763489043404166L,
+        6365883124147683939L,
+        -6560600911619935170L,
+        8179789814070712918L,
+        -4581601127566427243L,
+        3799430187548190871L,
+        -3414542926951558538L,
+        -6061099089932445682L,
+        797423229912462131L,
+        -1875397714568013279L,
+        786329180358224261L,
+        5729078919509098562L,
+        -2053780220643890047L,
+        -3375534808465562261L,
+        3817737558985786147L,
+        1290687198493157263L,
+        305841360285415199L,
+        -5266518425476486080L,
+        -2503557292353295676L,
+        -6545556217271049776L,
+        -6226442388443880025L,
+        1543883125642702659L,
+        2892331971932554447L,
+        -7409374137055513241L,
+        -2319666255274548622L,
+        2334168623636439012L,
+        7631731107421563622L,
+        -7090008206691885953L,
+        3248703997002521345L,
+        6731253015667189327L,
+        5099663811240466345L,
+        5877628136239937620L,
+        -6931503700824260421L,
+        -6046941760118881844L,
+        7647115222644546881L,
+        -8031858117149307626L,
+        -2804269815505704357L,
+        -7887185990869979217L,
+        -5001309512106623750L,
+        -4020461152760000865L,
+        -5496500459962509094L,
+        -2357428333657895626L,
+        1981337855494343580L,
+        8011224817018930414L,
+        6932775886207957868L,
+        -5262575791735429425L,
+        6845845282204399596L,
+        -7802137582115545070L,
+        2934310648430713557L,
+        -5316512119875538923L,
+        6323440101271779846L,
+        5950003897297901516L,
+        216620000199490083L,
+        -7650903512886182177L,
+        -5012779844092684595L,
+        551409268570425129L,
+        -7690399847824544863L,
+        3756460528153087742L,
+        -5756617239777326041L,
+        3059813121762615974L,
+        -7309001719272862796L,
+        6670894341328769853L,
+        8707527458537658016L,
+        -5427543043238915143L,
+        3565965878157104475L,
+        -5072549604570231149L,
+        4069213752028525410L,
+        -8312456167239173914L,
+        -8559067682172768328L,
+        8159975098051530011L,
+        -2496957538010865958L,
+        71090641660624796L,
+        -8661142881108147675L,
+        -2632996396622102970L,
+        -5541154354172389279L,
+        -7721192487749508962L,
+        -5045543561906171925L,
+        -2824109794678317416L,
+        -6023113149013782287L,
+        -8412941609637369399L,
+        -2855089052442564225L,
+        399116935434488271L,
+        3525862832644222833L,
+        -1195686525856618597L,
+        1920730128517635608L,
+        3114440479118044864L,
+        -6376239430413850359L,
+        6618732091066484943L,
+        2383410043604305058L,
+        -999713338174455969L,
+        -8159177821129480105L,
+        4237744137677309410L,
+        4880051284597915235L,
+        -4716982083720042186L,
+        -8455196852278142046L,
+        5628824036430156858L,
+        6737573163505211606L,
+        -797562448540122049L,
+        1719121790238934016L,
+        -7937390351461170473L,
+        -6756127535367946794L,
+        -5281102642489826897L,
+        1437557632388912565L,
+        3234884370160875837L,
+        602572482780402641L,
+        -1591090574495121038L,
+        -1448775379574247511L,
+        3513360094917926256L,
+        -8846137845322770754L,
+        5293579148975340498L,
+        -5644233220099084972L,
+        8824408726792260537L,
+        -6111138929205053593L,
+        -3079242086709347189L,
+        -3340280148145916355L,
+        2167651336920149150L,
+        -1122643817664163752L,
+        7411917434869833971L,
+        7777078031857162386L,
+        6008265735149437900L,
+        630857564964335089L,
+        2653635802332805679L,
+        3302435363910739226L,
+        -6035954890570034697L,
+        -5904382480279932827L,
+        -2514090818947750797L,
+        -5049038808472492611L,
+        2611769985787976825L,
+        3697310967828869089L,
+        -4450908779781037489L,
+        -4478877383226830213L,
+        -2704761096447820068L,
+        -4172754920912367650L,
+        9052920198949002890L,
+        -3047296870640182159L,
+        8292371101222766840L,
+        7773406879415203563L,
+        526579450247717553L,
+        4383552550670718386L,
+        -520026531047037114L,
+        3276406791604872776L,
+        9129268720528379764L,
+        -3370725651927843326L,
+        6532352005149963306L,
+        4612696434912303647L,
+        7409115853415564063L,
+        -71830939528480422L,
+        -130522867422911660L,
+        3396821684294240938L,
+        1428895482820653174L,
+        -7368907155866937726L,
+        3328890314131614345L,
+        -1665387557165331839L,
+        6239986252879457540L,
+        8858405726392824697L,
+        -1100393802758423202L,
+        -7692532793212818642L,
+        -5546502874262336591L,
+        -1585344396485748122L,
+        -8852494092133445972L,
+        -4172640028704785571L,
+        2552885589574159083L,
+        7068451424725148871L,
+        -4977421735547893258L,
+        6790347876739101825L,
+        5249890928137847057L,
+        2150803991991748054L,
+        3692503089920777411L,
+        7298737913243244459L,
+        3903749141294057107L,
+        -6972160559788524659L,
+        4878196076684312295L,
+        1817727063793099271L,
+        355631278288901649L,
+        5151277379991103706L,
+        9079113880056041146L,
+        8276546358545504963L,
+        -3235783684080162579L,
+        -5537824125267160056L,
+        2574532523480775339L,
+        -231239886653010885L,
+        5868056155750100278L,
+        -7510588449758349599L,
+        -6646007538171699624L,
+        5365907413911934061L,
+        8151269817577793078L,
+        -4878026461498777733L,
+        2093455264744601645L,
+        6879242704549748713L,
+        -354820897100180316L,
+        -4587688973188252896L,
+        3080397108993133023L,
+        -4737350478039405109L,
+        7267028971860989285L,
+        7117231345956077565L,
+        -6925258149100782342L,
+        -4517865330488848837L,
+        -8417326188687430537L,
+        8398162497053419373L,
+        5216935325501505707L,
+        1685862570062912533L,
+        -620870437235873567L,
+        5903220922403884000L,
+        8674586834810344247L,
+        7832785112243876862L,
+        -6895797838781402397L,
+        -3540832940228202306L,
+        -5199315789032133098L,
+        8288521043036466295L,
+        3354514357257920625L,
+        8175721034141064204L,
+        -2987395928940779412L,
+        -7469384408759592460L,
+        -6338294867489778400L,
+        6137185920596673536L,
+        -7620306766248974515L,
+        3276205555210383470L,
+        -7510294950966145880L,
+        -5047111578843267541L,
+        3001170172522658214L,
+        -1556015516296466046L,
+        -6254485546587005136L,
+        -2173054785002625762L,
+        5717636454914075873L,
+        1858214738326489329L,
+        1621571237093826752L,
+        2712410846208761913L,
+        2886067441460588751L,
+        -6826479670903980024L,
+        9055110192522300743L,
+        2690958437721779354L,
+        -8909893083526798298L,
+        -972206954932747217L,
+        1693973691649912607L,
+        -661069227140716248L,
+        -2662045344800969542L,
+        4422997032474484235L,
+        559115338812618920L,
+        1310350270668614097L,
+        -5808642330593120063L,
+        3302156221575013857L,
+        -50975105702775112L,
+        -4327734024869644603L,
+        3611797840742539334L,
+        -5898294122533027021L,
+        1861175132232056592L,
+        -1764716747051443408L,
+        -3557077959548168970L,
+        -7813514810422919093L,
+        2426770046300560052L,
+        -2178602416551276577L,
+        2566940679802380112L,
+        598053385936229109L,
+        -4186813276164389932L,
+        -3234276717476847210L,
+        8845100788271683432L,
+        -2012110244064702498L,
+        -6360073980001976045L,
+        216490537541699314L,
+        -5621964757293540349L,
+        -4172179358061887844L,
+        -5151983406851015759L,
+        -2521559542233778837L,
+        -9084205231040730171L,
+        5678066429516482678L,
+        -4946020809093882981L,
+        -2356479256197687933L,
+        3963630806161970113L,
+        7926128916839116500L,
+        828259057037827989L,
+        8670119904792127953L,
+        8249094278644970290L,
+        -4049702514714438914L,
+        6819654173704619755L,
+        6122157556784567778L,
+        1524360280645258396L,
+        -6997904205981475694L,
+        8315359938442947393L,
+        1826481693062828376L,
+        -3863856007710996023L,
+        -1194263569663824498L,
+        3487697163958042550L,
+        3245118475814960988L,
+        -1776050329762098579L,
+        6484951309695111456L,
+        4398342180282578022L,
+        -7834393660543962449L,
+        -6883614434409429723L,
+        -3920499569075299471L,
+        -6332803271839218166L,
+        3424866751346664832L,
+        9175744930032181523L,
+        3008458696385314243L,
+        6839948864747019500L,
+        606634603423008111L,
+        2502482559593177513L,
+        2741378235576541921L,
+        -6320054499829554675L,
+        2779624146639206336L,
+        -5700149385793950337L,
+        7561523094624380664L,
+        -1128484026399131625L,
+        3970379091782263997L,
+        2227112333547859341L,
+        7726619682208296379L,
+        -8581561342331778732L,
+        7247880713029139586L,
+        3948692715276642602L,
+        1683033253284854576L,
+        -4328398700156718184L,
+        6589192734070146768L,
+        6997376149622959118L,
+        5467102657040807000L,
+        7137446238640855007L,
+        -2177512292055736945L,
+        3241921599920873038L,
+        1316855559059602241L,
+        -8198030636122624124L,
+        -5812301625828111057L,
+        6932790272336479414L,
+        -811380330170792596L,
+        7358195444405877772L,
+        4641930383896770123L,
+        -219316520572673927L,
+        -7941590758896006370L,
+        779128518011150700L,
+        -1135396118481077704L,
+        6646660691733497445L,
+        8035957996577557955L,
+        3916390467890758941L,
+        6884432929130478693L,
+        -960400941377285524L,
+        2454474215494423061L,
+        -2948973561867778254L,
+        -1714377233190272049L,
+        -2880035385848284503L,
+        1983419744735295513L,
+        -554912896386949584L,
+        -1441263897129920359L,
+        6676163089897344993L,
+        3655426168217712565L,
+        6953870016416681062L,
+        -4646466414150648152L,
+        3605407526466524857L,
+        1318261080161077471L,
+        -9058419359049342053L,
+        122646818953234147L,
+        -3562920959837717657L,
+        8739425666188116297L,
+        -2690546099169789230L,
+        6672041336110986284L,
+        5079991457671613616L,
+        -5107402135450187148L,
+        -6578565430632102580L,
+        2614741819958797621L,
+        3775348139470379153L,
+        -727631341848286339L,
+        2467679208239098757L,
+        -74437137338375471L,
+        -1111550474507591441L,
+        -2512605812013464669L,
+        1121479514010396116L,
+        -725443779350239439L,
+        -6503773122842507199L,
+        476631544751907038L,
+        -6454662888732124020L,
+        8599771123675591544L,
+        -4934801149923150234L,
+        2210763437249409653L,
+        8965116534097908085L,
+        2805303773038007695L,
+        1717086610859072762L,
+        3191565275510853143L,
+        8694966001104085146L,
+        -138727263991721086L,
+        -5654505741632357141L,
+        -7071091304195813579L,
+        1464382055664026668L,
+        7893749093642470788L,
+        559807894581734935L,
+        2935760316613744791L,
+        -6495671527161492927L,
+        -3570806425233238459L,
+        551815958402180197L,
+        -1848825773550908312L,
+        3718516088227536990L,
+        7146255591837541213L,
+        1532339910404025981L,
+        -4251979543941547956L,
+        -7711610890389200958L,
+        -1817583501319693408L,
+        -6499266810223544496L,
+        5395448575260666526L,
+        -8119071335514865006L,
+        -5739831641659213152L,
+        -7496011540293074128L,
+        422838127413117820L,
+        -2906737812109841846L,
+        -251846658808737292L,
+        4222673788588136889L,
+        -8389055210496069853L,
+        -3992660877183464139L,
+        3422057165071122224L,
+        -5225074643396577771L,
+        -4669406795271928065L,
+        -7753202285718490848L,
+        7967420364102122384L,
+        8225191414351293408L,
+        8795521017775774195L,
+        -5503848727816668964L,
+        7125517837683785099L,
+        -8281489514157838912L,
+        4180391835101934686L,
+        3411315340364322024L,
+        5914551298631209824L,
+        775429280082130507L,
+        3211168509262410860L,
+        5845958667730531561L,
+        -1164421513335706208L,
+        2210590768584194607L,
+        8690614482151340011L,
+        6936948138504547331L,
+        3424234035490652315L,
+        374986790050900919L,
+        -5681575110872134039L,
+        3572458953635807473L,
+        7215543992506603581L,
+        -7473030374448095570L,
+        -7214104174245998111L,
+        4647838568379243446L,
+        -5965109643288986402L,
+        -4078814738307961473L,
+        -4451281546041441100L,
+        5724114978536957774L,
+        2244371671173184952L,
+        -489980378837700846L,
+        -8465745343108157871L,
+        -8890025439148747771L,
+        -4331198043086593848L,
+        9130691199801136053L,
+        -1161995514767430629L,
+        -1399620991344911226L,
+        -533823671785802888L,
+        2309668267428499728L,
+        -5776072034212294238L,
+        -2811566673542010478L,
+        7608022494630945451L,
+        8734740766591191454L,
+        6858674091510713161L,
+        -5604570504644167716L,
+        -5467829766710772267L,
+        -5524630461701100499L,
+        3001978932260744755L,
+        -3047024658929510514L,
+        -6268701481358851014L,
+        8370518244207814151L,
+        1172382588854999582L,
+        6786377059394665706L,
+        5791792777875646679L,
+        -34337653496722573L,
+        -1537969889275773119L,
+        4178211635009203891L,
+        -6573615588299131999L,
+        354653733374087127L,
+        4375688890252460513L,
+        4094092904623555114L,
+        8448900324449385876L,
+        8544226516010596116L,
+        -3461571572680904394L,
+        3336830787385233379L,
+        -312099384210108277L,
+        -4792692001420735455L,
+        -4792574445817348873L,
+        3558019690810606358L,
+        7346297195672938916L,
+        -3008742232375341238L,
+        5726894524090468715L,
+        -8964054471695183780L,
+        -7170573334751012704L,
+        1595916255925201159L,
+        2587621730073922432L,
+        6922073076346392984L,
+        9034306819003405940L,
+        -3882796944054815111L,
+        8303563398627423761L,
+        2426335354514800267L,
+        2364297915247907817L,
+        -7613179973044851546L,
+        -1384261704265023627L,
+        -5001879792123981533L,
+        9021716142264479324L,
+        -2172984122612961928L,
+        -845652707224589577L,
+        -8420530473833172005L,
+        -1269594635329446488L,
+        611945264085235075L,
+        1819387270857607038L,
+        -1281106753599799500L,
+        -2867229762780614971L,
+        6269313183073385693L,
+        605947548516125091L,
+        4594436342961241923L,
+        3692261300083744632L,
+        -2194858110084206251L,
+        664200955076949320L,
+        -278185929533091735L,
+        -7799294231137903590L,
+        6887127458342866257L,
+        4977994205958421501L,
+        -7826308057840275486L,
+        899318144326625611L,
+        -8223647414734295929L,
+        1300649714229083136L,
+        1365211900454099443L,
+        -1273979179227189121L,
+        3390092284920875485L,
+        5717432806420459415L,
+        -6663604570101637241L,
+        -2490382192530421290L,
+        5688578894407791012L,
+        -751620049203813015L,
+        6186657498941791646L,
+        5118083796397146976L,
+        -8480146262082384982L,
+        443054011345174413L,
+        -2731355359186550092L,
+        -548593706837098998L,
+        -2233843220220608899L,
+        2383201979851305336L,
+        3722044647833587458L,
+        -7607442372159106388L,
+        -6865831782763772119L,
+        153558449863892972L,
+        8694296699729524717L,
+        -6534574492342165881L,
+        -5065614552647132547L,
+        -514102024752325552L,
+        -6715163080274497904L,
+        -6305386628910864903L,
+        -2090012979490969535L,
+        6708974635136159808L,
+        4524934820271580633L,
+        -1642412287641379935L,
+        1636296216183229273L,
+        -7451459442198963027L,
+        464004436668511495L,
+        -6254592721447994027L,
+        -7885492322029979368L,
+        -6472814947398417430L,
+        -6319447374869610769L,
+        1214146956994480380L,
+        4722836149029812677L,
+        -4289115465715421728L,
+        -2452709515399824225L,
+        1575861896454403584L,
+        8131222533051460127L,
+        4508156059501351808L,
+        -4007773702374360237L,
+        8914155077689492998L,
+        -2534894813500904301L,
+    };
+}
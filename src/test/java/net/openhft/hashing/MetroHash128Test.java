@@ -0,0 +1,4186 @@
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class MetroHash128Test {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+
+    @Test
+    public void testMetroWithoutSeeds() {
+        test(LongTupleHashFunction.metro128(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEED_LOW,
+                HASHES_OF_LOOPING_BYTES_WITHOUT_SEED_HIGH);
+    }
+
+    @Test
+    public void testMetroWithSeeds() {
+        test(LongTupleHashFunction.metro128(42L), HASHES_OF_LOOPING_BYTES_WITH_SEED_42_LOW,
+                HASHES_OF_LOOPING_BYTES_WITH_SEED_42_HIGH);
+    }
+
+    public void test(LongTupleHashFunction metro, long[] hashesOfLoopingBytesLow,
+                     long[] hashesOfLoopingBytesHigh) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        LongTupleHashFunctionTest.test(metro, data,
+                new long[]{hashesOfLoopingBytesLow[len], hashesOfLoopingBytesHigh[len]});
+    }
+
+/**
+ * Test data is output of the following program with metrohash implementation
+ * from https://github.com/jandrewrogers/MetroHash
+ *
+ * #include "metrohash128.h"
+ * #include <stdlib.h>
+ * #include <stdio.h>
+ *
+ * int main() {
+ *     uint64_t x[2];
+ *     uint8_t* src = (uint8_t*) malloc(1024);
+ *     for (int i = 0; i < 1024; i++) {
+ *         src[i] = (uint8_t) i;
+ *     }
+ *     printf("without seeds\n");
+ *     for (int i = 0; i <= 1024; i++) {
+ *         MetroHash128::Hash(src, i, (uint8_t*) x);
+ *         printf("%lldL, %lldL,\n", (long long) x[0], (long long) x[1]);
+ *     }
+ *     printf("with seed 42\n");
+ *     for (int i = 0; i <= 1024; i++) {
+ *         MetroHash128::Hash(src, i, (uint8_t*) x, 42);
+ *         printf("%lldL, %lldL,\n", (long long) x[0], (long long) x[1]);
+ *     }
+ *  }
+ */
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED_LOW = {
+            1675424820220363L,
+            3824454504754402518L,
+            1476986534360447041L,
+            2840904616215840950L,
+            -49199283511139182L,
+            -3013661285787387161L,
+            2566254948920676693L,
+            7341223598554801474L,
+            -5810378015715404693L,
+            3685288996109784351L,
+            -885136252093324251L,
+            -5218139882062097389L,
+            -1320166319242868777L,
+            -3103606355777834795L,
+            5624138416555688114L,
+            8822043884660813605L,
+            -7658799523950285061L,
+            1114599926179147174L,
+            8041215945937620617L,
+            9076918020551389466L,
+            -3397993861123360776L,
+            -3083516767562747685L,
+            6894689891698899178L,
+            -6863450899215451736L,
+            -4185911260762600619L,
+            4620370451752398111L,
+            -7758773320473920537L,
+            -4472629722901904038L,
+            -4500591820835795300L,
+            3527328269992617430L,
+            -5427582331987845918L,
+            -4990824167346978757L,
+            -6351027649754021473L,
+            -738594759327664268L,
+            -5640927847371168425L,
+            -4178542351148684764L,
+            4199296194486885082L,
+            6977320110018121154L,
+            287308274355441080L,
+            6203010529486824735L,
+            -3295872353054405158L,
+            -1197169699412396304L,
+            2229725207542598329L,
+            2081615302001624045L,
+            3342935962962592080L,
+            -5302808860738314889L,
+            4259006984179707860L,
+            1223097870146795854L,
+            -868322177176326734L,
+            -3263445449337993028L,
+            7549180400805535730L,
+            -1920840071078564371L,
+            4349145418550573294L,
+            -7684099461383137751L,
+            2518934748628420307L,
+            -5867951539187126215L,
+            -3837235131180623188L,
+            -6591036136566479399L,
+            -5891056780344245321L,
+            -5313511575372441937L,
+            -1630703246050926478L,
+            5972335616688920510L,
+            5637102062889221079L,
+            -8069577360127306533L,
+            -4493301569119717833L,
+            6754271264979020733L,
+            824613729559507466L,
+            6011196129189307725L,
+            -875215189178458649L,
+            -6912889460353986053L,
+            -8931885009378106325L,
+            6451481443721811273L,
+            -2686868680472949700L,
+            -5064863936589573283L,
+            5800299397433243434L,
+            -1013434646503141274L,
+            -7262298006540283640L,
+            -243626638680939062L,
+            2454322049888152337L,
+            301915182418610502L,
+            -7026226633450958381L,
+            7683156346908490864L,
+            9066055717258835617L,
+            7996112603691026356L,
+            8479369653811305843L,
+            -4638512375788665493L,
+            5069281009803938382L,
+            -6919003096792336934L,
+            4708152745484120951L,
+            -4377026031812673045L,
+            4368909603678732974L,
+            -6135748607419381890L,
+            -7325799048359396042L,
+            7323551251218385116L,
+            8238220984321317862L,
+            -1318933004260730592L,
+            230933102261678081L,
+            -2260134094264238482L,
+            -478248278973188837L,
+            -139271714070016622L,
+            3674834760243933700L,
+            2893351610327583853L,
+            6732822663727475885L,
+            -5921686499426851390L,
+            4328583454751254412L,
+            177960647278226925L,
+            6858104347908486302L,
+            17161058420894702L,
+            8348466884039137109L,
+            5025727754920135369L,
+            7232669498266008906L,
+            -6869884814269670473L,
+            4386500844079922951L,
+            -6961662303992091454L,
+            6503354076293133575L,
+            -7293602118175578483L,
+            -5546600506939866935L,
+            -1053876719242877635L,
+            -1100515472643455787L,
+            -4774127302888953673L,
+            7969914950997349116L,
+            2162884245164652092L,
+            6288233637167076280L,
+            -6888896284672772859L,
+            -1360013297591991075L,
+            5746305104356586440L,
+            7619825824103686171L,
+            -948409472192695035L,
+            -9042588920828139772L,
+            3644826629373171330L,
+            7810012696761484157L,
+            -3246452404717018802L,
+            4675112712786283686L,
+            -8560676382389713099L,
+            -8915123428208302013L,
+            -2514036481807389438L,
+            -5066454288881464538L,
+            1819591603696474845L,
+            8774696141064369923L,
+            7725923670266689040L,
+            282646527982516467L,
+            -4068419170154531277L,
+            -7864326717278371140L,
+            -3595489974695185984L,
+            5592357252998619521L,
+            325236870448637649L,
+            7652601725554401440L,
+            3077711579739290748L,
+            -954690427956731377L,
+            6467513466194214593L,
+            -7474857079039972218L,
+            3730158182428513268L,
+            4243077181116914341L,
+            6836229262613562013L,
+            -7567475310233263121L,
+            3968733578574250792L,
+            6201606740317521184L,
+            -1990735865145985660L,
+            5537697211187753119L,
+            -3662430115823423065L,
+            -4061948928832762204L,
+            5542714253377520436L,
+            4235401702734000189L,
+            -5476078157066421930L,
+            -453718062537335029L,
+            4772442531714963097L,
+            2920048394104157038L,
+            224428676782138074L,
+            -5837551051161887061L,
+            5980779966973123066L,
+            -51856883597728507L,
+            -5856546913953156576L,
+            5599852671825595059L,
+            27193295841866013L,
+            -6174482495647909085L,
+            -5420022628039621803L,
+            -1464190750631286679L,
+            1830587885296124580L,
+            -3677287464473213482L,
+            -925573148619583655L,
+            7277621809899803461L,
+            1320868724607855003L,
+            -3847987350441959173L,
+            -2261966355505258078L,
+            5196208693710084763L,
+            3072791600798013970L,
+            4360184588158062096L,
+            3331558272986185238L,
+            9120940065010738721L,
+            -8754859469242515429L,
+            5987483184522993287L,
+            -8833782272401913790L,
+            4670394853948382075L,
+            5431226280060074535L,
+            5614782052188129740L,
+            -5602046036019475598L,
+            1052593049716672881L,
+            -1394067292809333551L,
+            6962935594813456491L,
+            -6927021349251591738L,
+            8295351855182147500L,
+            -5339899666778776933L,
+            5600138452861063225L,
+            -5009638764236796448L,
+            399557972656357114L,
+            -4556728026976463948L,
+            -5306928272506011101L,
+            -8053141949233347164L,
+            4342432276166504444L,
+            -3069215819889751345L,
+            -4170977317010104550L,
+            2381127189839828642L,
+            6106047361220793381L,
+            5498856954184215108L,
+            -6337185760684642786L,
+            2417117103310373013L,
+            5472231411001861763L,
+            -1396807686341711728L,
+            -633119995959150415L,
+            -5866644195137409218L,
+            -6258915532958226091L,
+            -9210400033928310017L,
+            -6754738794762149189L,
+            500114256134488673L,
+            -7618262253747715379L,
+            1500899998305262472L,
+            -3522706368103598620L,
+            -3907985730275081792L,
+            -4212098863780965984L,
+            2850738339144546630L,
+            -5859795648494747568L,
+            -4592427497776696829L,
+            -4807363535019081578L,
+            -5504786864544395904L,
+            -6772236792875169767L,
+            5122600999212695066L,
+            7581190822141038382L,
+            7338426861342402664L,
+            -5874487469266373812L,
+            7271821357403274967L,
+            2423836385565312207L,
+            8558974016819311155L,
+            -1563293266294308202L,
+            -7466776189397179580L,
+            -6478623461326491822L,
+            -7409505833702660584L,
+            -896650019198183047L,
+            -7358001355073023692L,
+            7773535655941454594L,
+            -4155699353545130843L,
+            5719288975533744957L,
+            276699190812693888L,
+            -1665184946547531338L,
+            -5713677179393171752L,
+            -5728302252846524335L,
+            3256052660978809839L,
+            -5428128675388279603L,
+            1168261978215431018L,
+            1086949461963188575L,
+            3957748386164941183L,
+            -51875681507348806L,
+            -6003961026023978279L,
+            -2602112361894291935L,
+            -5408382368202799695L,
+            1729628927715374463L,
+            -5274140042154075597L,
+            -4046872297506935680L,
+            -7427809097363292538L,
+            -4626519506395041672L,
+            -602288375893365034L,
+            2960010262482250638L,
+            2443745285883555997L,
+            -3858677233602153842L,
+            -8660389609489437477L,
+            7324849794227717685L,
+            -663602109415053613L,
+            -8399631435308072665L,
+            4642617538570022774L,
+            6946007782593613479L,
+            -8597602258956993976L,
+            -1612491360637789965L,
+            -2753325616220557466L,
+            9097133492350621431L,
+            -5098498721224606955L,
+            -6822916431216622930L,
+            2704897539962182603L,
+            -7688943872457544680L,
+            5428930448287703039L,
+            -6282914393540900803L,
+            8734879784030013489L,
+            -8614792767075123406L,
+            1601272216801042136L,
+            -1709459761757284989L,
+            -4855521730514231847L,
+            -2778235338240966738L,
+            3634765757242537587L,
+            -6658658088547669318L,
+            2005997174379499270L,
+            3418408478822959992L,
+            6398124157079299696L,
+            -2688482646490626722L,
+            -1384597723045943494L,
+            -3938811611140964066L,
+            6765003980412853315L,
+            4844436577550710486L,
+            564544160893765998L,
+            171145479506100920L,
+            8128407289334316136L,
+            1582545392486380964L,
+            -1916428972748984341L,
+            -1752313253432343005L,
+            6734568316089729272L,
+            2840940685726950692L,
+            562197210963237533L,
+            -8802804062858346347L,
+            649420511120985452L,
+            -5611562644922753464L,
+            -3893796060195087852L,
+            5275206562045274574L,
+            -9125183380349967724L,
+            -6448417745542559075L,
+            1040303741639486172L,
+            -415478955993703413L,
+            8904323576804677557L,
+            6982853450831758232L,
+            -3547006178757039415L,
+            -7999105210540507064L,
+            3503178071100894111L,
+            -107916324424503561L,
+            -6138809904725545148L,
+            5487586820518795440L,
+            5231855352999460102L,
+            39374876665254806L,
+            -3018777659303211273L,
+            7762496226025231910L,
+            8026061210350004614L,
+            1021415744139370675L,
+            6888329523563106241L,
+            7144026810289846201L,
+            1463225594680954725L,
+            8308159709918931890L,
+            -2216767145932095414L,
+            -8360741505125167535L,
+            -3261083651795873733L,
+            5507184184398664886L,
+            -1218933232508257389L,
+            -2120787843352797906L,
+            -6858655181571946010L,
+            -1758533708313501382L,
+            9099304520136663355L,
+            -4495840126948128185L,
+            -7702748927299653146L,
+            7836921836632368159L,
+            -5236185388333766545L,
+            -1211819606415181651L,
+            6474008246689549654L,
+            -4283350727895691935L,
+            -7726471943622453369L,
+            -6463164333892478781L,
+            -8457663251901940298L,
+            1629382360600707681L,
+            598700395812099807L,
+            5003608642084221857L,
+            -2894040960112304568L,
+            893998158664181498L,
+            9177905284372709567L,
+            -3465906400193004488L,
+            -7012012891041901665L,
+            2877342526618944849L,
+            7560371821122316473L,
+            677989002182462421L,
+            -6075753320037456461L,
+            -2268541453503366746L,
+            -6962974671077548159L,
+            6472005232207536122L,
+            -5338474935918478121L,
+            -3262279625215820998L,
+            -2426713535976693405L,
+            5964021609712810667L,
+            564049533117163985L,
+            -8666917955210686139L,
+            -88273545145914739L,
+            -2821711044441596093L,
+            6470195768282352953L,
+            4667208300724302966L,
+            -3641819117682602719L,
+            -4728177915694440726L,
+            7395133575567933294L,
+            219412687119424117L,
+            -3175570125654265958L,
+            -7123905412344591838L,
+            4317890102474955462L,
+            3426865033078634882L,
+            -6265881271442755628L,
+            -8742549890884613796L,
+            -3130252591841019761L,
+            -5074416947420394497L,
+            -501027668163416520L,
+            3871253587798535583L,
+            2400131855684155086L,
+            -7574158556382614898L,
+            -2003839133416492958L,
+            -4252728633049725912L,
+            -2759205111416538785L,
+            -440265893618876529L,
+            -3592963199822175169L,
+            3069866201563921649L,
+            917241079610395844L,
+            4936879657463696256L,
+            102367229385109155L,
+            -6333961079209503938L,
+            28996351841025807L,
+            9128011174873640015L,
+            3689202085648654852L,
+            -7418721709716978443L,
+            -2512336637916440661L,
+            -217881968003015420L,
+            -5657616879988865811L,
+            -4646451063865709981L,
+            6926615070862488916L,
+            -3774640653555341665L,
+            -1659462846967919307L,
+            -8229589587068585632L,
+            1614760947713612866L,
+            1368339483185309371L,
+            -6108585997934780731L,
+            -605894305295525875L,
+            260747667529550194L,
+            4809878164230701306L,
+            8989122586845166414L,
+            -7826438865084002034L,
+            8891531821296532819L,
+            5964395152582036644L,
+            -3105205814120677124L,
+            -2447326823352064449L,
+            6034704157722296873L,
+            8836970340708382014L,
+            5062792256016082987L,
+            -7322759218133260116L,
+            -3507362815578507756L,
+            512673061528044211L,
+            -1916396351589186574L,
+            5703184311075122053L,
+            -7656459441350275804L,
+            -2905598708054603639L,
+            648648308592990570L,
+            825340934875938729L,
+            -4106747132177770918L,
+            7537363257828359606L,
+            2214681309523450474L,
+            -1422261510609092563L,
+            -3668603018016718570L,
+            6337054120929036607L,
+            -6782529440343185442L,
+            7473543826639777877L,
+            7997483393002916795L,
+            628768517577161586L,
+            -549843380299421896L,
+            2399951867383896142L,
+            -7667205562399463789L,
+            -6189966867304495545L,
+            -1494797864536156555L,
+            -3693335421489509226L,
+            7507168864559038640L,
+            -7322232599976468143L,
+            -396033686692131097L,
+            -2272856595249919554L,
+            -718648704632099021L,
+            4795793134850668395L,
+            1978176338905710107L,
+            -9120776990209951466L,
+            4361222719111054782L,
+            5660545074307857L,
+            -8972865315075218002L,
+            7143099309884830892L,
+            191457730349633337L,
+            212220114561257229L,
+            1066570417847480336L,
+            -1150981175709377728L,
+            -8874180999886219387L,
+            8666496276055664674L,
+            -7088889459390540355L,
+            3881857806384725500L,
+            6557942889542629162L,
+            584140153757429078L,
+            -451473723995968940L,
+            -8727071589468551173L,
+            -5208451129701797579L,
+            -1161280735041899180L,
+            7767271615634697155L,
+            -6581628624825029092L,
+            -4221733644764357580L,
+            -4317205095449873829L,
+            -9077548270837621466L,
+            -61945135931124720L,
+            -4911254786415552324L,
+            -5910009037587829584L,
+            -810026006219845326L,
+            -4078267923445840508L,
+            7310125891998118363L,
+            8121299675815863777L,
+            -3815234577810574361L,
+            8782139950193510312L,
+            2191532263482157371L,
+            3839372330321743376L,
+            8234171377061237206L,
+            1765461681668907431L,
+            -7238049094899591839L,
+            -615593855189584230L,
+            -1165575236914590270L,
+            -1012219796867759707L,
+            2150172482051899648L,
+            -6729774752273074923L,
+            6473208346398350482L,
+            -6098123001596228200L,
+            -5793070054802000491L,
+            1656938956693139504L,
+            8510883218636167143L,
+            7269121056344029402L,
+            2803348366410984949L,
+            9049207892758965179L,
+            4437894797669648635L,
+            -3688048050706960150L,
+            7002734628311213109L,
+            -1028170450512032688L,
+            -630136242497544709L,
+            7751288181179751050L,
+            2538964790664468506L,
+            490770452435453733L,
+            6591196966539152247L,
+            9016480036410712540L,
+            4199600889675766781L,
+            1560992699399579031L,
+            -2031895701481665440L,
+            3217344410482831234L,
+            -8920097393078232570L,
+            6664359769363523003L,
+            9143759705487434464L,
+            4253148598297687625L,
+            -578718979134994568L,
+            3332148672076633033L,
+            -8313987792964831783L,
+            -7030006946289696549L,
+            -9138885378284852162L,
+            -9161889862438930487L,
+            2497621076294428908L,
+            -1835413592576308224L,
+            -920177063754105440L,
+            -7056045778097309587L,
+            -1417903230274413286L,
+            1712861909853651903L,
+            7803312015410977884L,
+            -4954694495782878853L,
+            6356106153115767174L,
+            -36536982552983269L,
+            -5516174730999355876L,
+            7105902455788506261L,
+            -7145692600924001656L,
+            -3221243204042626297L,
+            8518539088013791737L,
+            -8886390941455555849L,
+            -1517655518973332709L,
+            -4111295501696020361L,
+            6369781033862298874L,
+            1975473365839259980L,
+            -124395122536416044L,
+            3329617753598842853L,
+            2362958884034821622L,
+            -6669408142727461252L,
+            -5873714267179545743L,
+            3620963728816843407L,
+            8563200329157424273L,
+            3655520377242683979L,
+            -5098431256173701966L,
+            -1814974552027590363L,
+            -1532340265678206280L,
+            8983029144406005465L,
+            -1490400381065505026L,
+            8443043140784760580L,
+            9066835534143996458L,
+            -7185224295753100953L,
+            7945555846942060290L,
+            -1989665888913949910L,
+            8459045992792153224L,
+            4440903297168353426L,
+            2892014158036816551L,
+            -7297206876317874945L,
+            -93914995984821624L,
+            6068320573964208727L,
+            2921144270538005264L,
+            6411367797147378939L,
+            9050521937615570290L,
+            -2859673651776012366L,
+            -3077800785030476006L,
+            5957685599117902964L,
+            -6482959871201604969L,
+            3035603124098166407L,
+            -2721048305173342769L,
+            -6341859268505620547L,
+            -697177550670934134L,
+            -2309162162183706276L,
+            4983506385463509751L,
+            1360152387393428322L,
+            -474572369197668230L,
+            1806709176452417833L,
+            7117995870970782912L,
+            -8252570439259562760L,
+            2686230333103092948L,
+            5894732962295695206L,
+            -5498839139889543133L,
+            -660662087517368068L,
+            6730927029192872829L,
+            -2698645267908377262L,
+            8912031128757961589L,
+            -3115256906089484670L,
+            -3774998522538923650L,
+            -4185341950321664613L,
+            2894268778033690230L,
+            8737013338936866253L,
+            -5744173383846131368L,
+            2504998793788510969L,
+            5248225713943802725L,
+            -4459481003434952805L,
+            3298115899905118912L,
+            -22947218789685185L,
+            -558704140019782978L,
+            -5594815957593882181L,
+            8041575790735810179L,
+            2816079214577155628L,
+            -5841393820421795378L,
+            9125409900597325733L,
+            3634817489239918473L,
+            -528546612609976028L,
+            -3379825579509022886L,
+            5443298850299194699L,
+            -4293692038254885052L,
+            -4551567467945286034L,
+            3454424186971576129L,
+            3592989590896246721L,
+            8579246373444973353L,
+            -3642611954988746561L,
+            221539591600175373L,
+            3231969447227889085L,
+            8385364665620022845L,
+            -6998129469210246397L,
+            6761902202156719763L,
+            -7406629752493709889L,
+            7850270142270621319L,
+            4077255141187354406L,
+            -4915071225531885226L,
+            -2819175787510066545L,
+            -5737092078265957594L,
+            3955210803873922717L,
+            -6206813907741621487L,
+            -6914342304271558739L,
+            -3326532785008807934L,
+            8374219996477100261L,
+            4639652910320234792L,
+            3114303171256719410L,
+            1258795906857026175L,
+            -2802215405050038403L,
+            -5702876249534571518L,
+            3554600025884903644L,
+            -835788367934368970L,
+            -5124420214769693157L,
+            -4873930792001411475L,
+            -6386455213496907783L,
+            9037283881384957193L,
+            2569664428595204905L,
+            1835233726794024539L,
+            -2745472175901172425L,
+            -4070875034405691371L,
+            -943288149158427909L,
+            4653678092286415204L,
+            -5314615874000173347L,
+            646016822627487312L,
+            4063689652024732550L,
+            2623973679193528066L,
+            8002865642828695115L,
+            5108609805198729968L,
+            -20728018444902873L,
+            -6456520315623281674L,
+            -7099201271798038878L,
+            1903524352061937356L,
+            -994941793091188089L,
+            -1353984645836463002L,
+            -1140690165495104559L,
+            -2493208733234095773L,
+            -6880218712051580926L,
+            -7886806498236771086L,
+            4098039961437128484L,
+            7266136999378378165L,
+            -568095467096587174L,
+            -7794159260346010271L,
+            -7305578470088524004L,
+            4051537772630152746L,
+            3625901008423139753L,
+            8238165786579706290L,
+            -3600581458328971673L,
+            -2881757212041218177L,
+            -4030818074013557647L,
+            7732603793577864802L,
+            -3170628239215995488L,
+            -4619439591303040292L,
+            4143797600309892034L,
+            -8865577619226850355L,
+            -1281620908544183940L,
+            -7970991595787400278L,
+            -6941120326722140432L,
+            643526901292399951L,
+            1352590932016325110L,
+            315349255382541790L,
+            -5058932261907132670L,
+            9033909145177974698L,
+            -3607041227373647266L,
+            -8851505769125713216L,
+            3721919652577085348L,
+            1940609496402213449L,
+            846959482702954505L,
+            -6017223569551845872L,
+            6775337953014736090L,
+            1490275041507117174L,
+            -3311368933741739455L,
+            4848807465077281724L,
+            2863360832869634485L,
+            2264081220885261019L,
+            4583179562466751783L,
+            4051611686467116714L,
+            -6526271656892389086L,
+            -1460618461415304030L,
+            8356242186831572121L,
+            5313924055386393483L,
+            2243504432452310113L,
+            2774139833645136648L,
+            -2870481181333361813L,
+            4258313437377427863L,
+            -4729695716368331841L,
+            4650787486551139987L,
+            4119115536315029431L,
+            -8827259990686902392L,
+            332648611083280142L,
+            6907770315049585226L,
+            1839654041653508058L,
+            7400703105087131532L,
+            1185624552232026467L,
+            7613556911316510242L,
+            -852916087838662368L,
+            6363389117390916112L,
+            2011411175669301229L,
+            5477589396693067902L,
+            -5905820527020416179L,
+            -5767062857059954097L,
+            -134660465609558128L,
+            7226901937116925413L,
+            -6307729453259354462L,
+            1875750737084713045L,
+            5460613190420287955L,
+            3225169087168987243L,
+            1810637139606790928L,
+            -1649357884322456342L,
+            8198099582750187114L,
+            4817507868447122478L,
+            8481191863649940408L,
+            6389348939509792013L,
+            -5776120865290669894L,
+            -6592068552873159303L,
+            2439542527467668506L,
+            -50859533333310274L,
+            -1281316543374824326L,
+            -6335221504304056873L,
+            7148990183719937005L,
+            -8564682977758740595L,
+            -4431836883778584958L,
+            4212131709588488995L,
+            -4064827573581823847L,
+            -3677894405420993585L,
+            -1355894735641234522L,
+            2872441855481763029L,
+            -9151980767238626324L,
+            -5449331613425510918L,
+            -2497361687577467365L,
+            -2185919775006494071L,
+            -222819898989313331L,
+            535063566930061768L,
+            -5750142220242422679L,
+            -289077873923258437L,
+            6598132281822517283L,
+            -8338558250651391212L,
+            9009292786267360363L,
+            1524847947214704824L,
+            -667564254382416988L,
+            -1182698480048416820L,
+            -8319478254641938795L,
+            -9048732348250083245L,
+            1366252729388511102L,
+            -779630258847676394L,
+            -4134820532658256863L,
+            8431240450184650917L,
+            -5222325347143975574L,
+            5470365246931708132L,
+            -3642369347274024546L,
+            -479232806753837224L,
+            3015744983775487905L,
+            -8750665095358353527L,
+            132696373726383439L,
+            4124192579098787433L,
+            3249157011499108803L,
+            2807901686286182622L,
+            -7169875943491438317L,
+            -773191786918690637L,
+            7153352256793673935L,
+            7972530384643510502L,
+            6850695829180690879L,
+            -8252571427521675777L,
+            -6801406052353747872L,
+            1073028430131151778L,
+            8692703734469699769L,
+            8212329865387720334L,
+            3354459145275867997L,
+            1803759436083886824L,
+            -1887735624376906641L,
+            -1088113206083691126L,
+            781391246726062140L,
+            2767356929428697200L,
+            -1548381829702570442L,
+            -1164914820083523773L,
+            8235253881735215850L,
+            6473093149467749466L,
+            5458682711609310058L,
+            6889738181390818138L,
+            -6481370802631502551L,
+            -8678659132435125448L,
+            583874961664629447L,
+            5375400973854272382L,
+            543523862427305901L,
+            876160240978998807L,
+            -8966012072782826967L,
+            -4469764934584418862L,
+            -7849706837933213621L,
+            -6946043573927341668L,
+            4837603843808008275L,
+            873385890504455469L,
+            -6001834678121524718L,
+            2676811246562446280L,
+            -717377680909196519L,
+            -1497790851054391801L,
+            -3430462962601855048L,
+            3064207732431476161L,
+            -7589749227738270459L,
+            -4696528120342131681L,
+            -6760217606093088713L,
+            -2798692979829710145L,
+            4536214920942869638L,
+            8593640537694996745L,
+            2835820201494568624L,
+            -222814168265052780L,
+            2710289861736561432L,
+            -146110266873885496L,
+            1122252353202396564L,
+            9137972299209159962L,
+            4322050545708395573L,
+            8861932612786062933L,
+            -6318255064128634061L,
+            -3113987844127149464L,
+            5761944242310316420L,
+            -5979304611416259889L,
+            -3322276742998961244L,
+            2410726564791344775L,
+            -766497543235078159L,
+            1313762581144890432L,
+            4134281323044029441L,
+            -3366583672553262353L,
+            -2653725350163082963L,
+            -7200975589726470918L,
+            -7505572806566014628L,
+            8688321517970565634L,
+            6181186471200707666L,
+            -6205882718613251727L,
+            5516296977188632593L,
+            -4943140651335045434L,
+            3932429369946150832L,
+            -5873305030505114827L,
+            -5702660020937016012L,
+            -5234853958759821395L,
+            8911574453261793613L,
+            -7244189823594546141L,
+            -2297958058867383704L,
+            -9164654658662326341L,
+            -9150730565373467632L,
+            -4911056066059604090L,
+            167836456291953585L,
+            396869715534035586L,
+            -7831695961994101812L,
+            -3402890061704213508L,
+            -900022933205391511L,
+            -3627657008323692540L,
+            6476778136265960107L,
+            2207392608047744829L,
+            7260898190971677391L,
+            -2447705416829714456L,
+            5748584657107849869L,
+            5003748639167794999L,
+            -1933931908611041121L,
+            384838130151307021L,
+            3257750425075795693L,
+            6441081571396296795L,
+            7442888777130463778L,
+            -3395203845838614213L,
+            1788552718328125851L,
+            7818055652404465829L,
+            958241566510715153L,
+            8907988981769090542L,
+            1554439461471277920L,
+            -5587063959867588350L,
+            -5322457165117587307L,
+            -1442908002044059901L,
+            -4375006997449313711L,
+            4752833929876647410L,
+            5094489530772710544L,
+            -1824290811201586321L,
+            -1039965858716482509L,
+            -2605823084746092621L,
+            1830954168059872632L,
+            122222354066351945L,
+            1832616083100381564L,
+            -2819416266047810047L,
+            4468320261191800425L,
+            -2365210223515864202L,
+            -5114080069826971469L,
+            -20152231659871595L,
+            4069138312052485322L,
+            -7349246247425831789L,
+            496927218557648586L,
+            -2793684585563186565L,
+            509777507953001758L,
+            742185462679688812L,
+            -2986567077920339728L,
+            43582176457538492L,
+            -1554835875466705459L,
+            6657734198418125982L,
+            -5257214933446088870L,
+            8517631317244163299L,
+            7623428426895725043L,
+            23789274647310419L,
+            -3192940702763933772L,
+            7429476273026143456L,
+            -32463421906244836L,
+            -5947253427911586958L,
+            2785566760458257310L,
+            -625349934211175374L,
+            -7845777540873953170L,
+            -696426640589207784L,
+            6352001487745230586L,
+            -353807943581958888L,
+            8963597835873235275L,
+            -5809066117982092823L,
+            1773552786634889738L,
+            -8321623501883020577L,
+            8714896421207459570L,
+            4501419888556521755L,
+            -2721668797979055396L,
+            1688944778927733759L,
+            3951152324612852791L,
+            8760644193781185172L,
+            4609981023480200017L,
+            3591323767386670936L,
+            -7682478640185102248L,
+            6835029565957689043L,
+            5171053525876149594L,
+            4331784684561963456L,
+            7065633317121974705L,
+            2470420017535984607L,
+            -6799024013922113640L,
+            4198139417568646452L,
+            -3549491616183913714L,
+            158301833195794612L,
+            3883887527895545742L,
+            3376140310154179365L,
+            1393344906016160342L,
+            1375127779252729962L,
+            7275859977406686697L,
+            -5070470537324561399L,
+            -1998194136615461273L,
+            -4422892826936673577L,
+            4047241770270119978L,
+            7827611621294553131L,
+            -6294051843214897163L,
+            5591126343653074499L,
+            1792103352404434892L,
+            -81422673784914347L,
+            -8642481216143660185L,
+            4422181578996759280L,
+            -7337786316723333955L,
+            8638902046037896338L,
+            614097680740931052L,
+            -4686690643354852068L,
+            -7139258798725265733L,
+            248656535421584359L,
+            1205203616066820326L,
+            4786713209598934988L,
+            -5521936415339173032L,
+            6636527673092233340L,
+            -166552853886784639L,
+            7723907210888008268L,
+            -1738150382406671926L,
+            -4053447606746995229L,
+            -5262619095631752508L,
+            3715902228155278012L,
+            7943637678778047083L,
+            6889651415771023935L,
+            2148710065198342487L,
+            4860790956990474847L,
+            -3518159695638086552L,
+            847979151611080995L,
+            3078529541197297109L,
+            5457431975416989839L,
+            -957374733108203363L,
+            -5611161221177422000L,
+            3280751549665076487L,
+            6824890412570448586L,
+            -6650356570513804584L,
+            -5173439124257653889L,
+            3922820942387738563L,
+            -9024252197302568825L,
+            6951138407189139204L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED_HIGH = {
+            5045915348948639670L,
+            2726575941783510876L,
+            -2814862780910196205L,
+            -4630357275964642533L,
+            -3942448850742281024L,
+            -2921748568197148540L,
+            3374820280089963284L,
+            -1901464958467928678L,
+            3332964890662128959L,
+            -8332479136960805531L,
+            9183553745063011525L,
+            -374825408525341236L,
+            4295677323638408673L,
+            -3006494119138530199L,
+            4267281952067748370L,
+            -3233374048976426146L,
+            -2498100448539758120L,
+            -4765729973987188513L,
+            -8695193304846111607L,
+            6436165119822261911L,
+            -5133341994254406476L,
+            -5245973432712288820L,
+            1352224166026362647L,
+            2978386252792720748L,
+            6532936406926396211L,
+            5987618100418256693L,
+            -5802981240221055778L,
+            5878858456612031567L,
+            7266422186468084817L,
+            -1579465876362366504L,
+            5047404486630779467L,
+            2702921357678538232L,
+            6440400544765556495L,
+            6866804907779838160L,
+            953657270823869595L,
+            4785169451650307782L,
+            900588678728903435L,
+            4485302592207387707L,
+            2401925768792765556L,
+            -6983709346083586987L,
+            8198336683143238296L,
+            -2593490091145889594L,
+            695146469041524013L,
+            2629372076652565476L,
+            -2986335470941049565L,
+            1942292477672716913L,
+            8886526987760002810L,
+            -5397639627945315619L,
+            -3324290223899995322L,
+            -5108275400337446210L,
+            5101835057701575584L,
+            7815172892713175483L,
+            4897788639060816540L,
+            -6494399760029212876L,
+            -3805862554307875829L,
+            -9057527630414256703L,
+            -3231229366628067574L,
+            -6063661102824738122L,
+            699119970779365705L,
+            -9056037573181124582L,
+            -6036848766366415321L,
+            1982319246081562422L,
+            7110821600917081106L,
+            -6235741191023946638L,
+            6527634405469523120L,
+            1120228630963421349L,
+            -4318117140589793924L,
+            -4183788422426170810L,
+            736519101694448727L,
+            7708693829101305987L,
+            2490107921020561728L,
+            995849241864934558L,
+            -8994633671034468115L,
+            -3603278549533364130L,
+            -5385909909599786403L,
+            348478689945893189L,
+            4130021712983465641L,
+            -520305577293776258L,
+            -5014742873616896252L,
+            2039361705514072881L,
+            600926840687200044L,
+            -8793189814743957855L,
+            6257134170564097395L,
+            5687327043846981919L,
+            -8868435866316005297L,
+            8074697580721285808L,
+            -7889930590684792956L,
+            7159788752444041179L,
+            6981724875465265825L,
+            -1261654288396012007L,
+            2016473588803529453L,
+            -7060125439743475086L,
+            -7430143696815085758L,
+            6707508966619897542L,
+            6582074761982530958L,
+            3747691832783989314L,
+            -8910093088851400738L,
+            -3313280960712372930L,
+            -3215491258579595753L,
+            -3050899882974090543L,
+            8752528396295540934L,
+            -7430347325444554042L,
+            5104701357727328893L,
+            6423826433989157405L,
+            6832421938392045666L,
+            -3804972311565202994L,
+            8798018329907377376L,
+            -9125034261085958119L,
+            8818831330289584648L,
+            -7848556876096588057L,
+            -6179875611053499880L,
+            2666412606520530876L,
+            7452337859592316505L,
+            -2614177876786038538L,
+            -4897574713141587913L,
+            -2841414686742987037L,
+            8784534830832317845L,
+            5383651751862577304L,
+            8005602961879143927L,
+            -5508853916723590547L,
+            4150873947488547343L,
+            9048533558239149142L,
+            -2510500091173971392L,
+            -9133822948464737466L,
+            -4648834242010950434L,
+            8076107795295818751L,
+            -2536536029659954612L,
+            8150063574329755150L,
+            -7752528324797725615L,
+            620508541911501995L,
+            604156417646182684L,
+            -6025972088006844709L,
+            -6369874064918309960L,
+            3676822275078245234L,
+            -3319992837948479017L,
+            -174658002488409784L,
+            -9196836173086292858L,
+            3680173257677250882L,
+            -4549561848621245370L,
+            5184631067054233769L,
+            3752145968929496520L,
+            7082362542910255167L,
+            -3697875456011324129L,
+            -4921728107047649627L,
+            2211907071571320113L,
+            -4311418607471931700L,
+            -7588341148553579058L,
+            -2962596052083681109L,
+            7258586450514869964L,
+            -4126496544724691378L,
+            -7920488779726124450L,
+            -48224880888932858L,
+            5062561299245816606L,
+            2554871511808546032L,
+            7878279490219698050L,
+            117668950232850859L,
+            -6436214646060762202L,
+            -791926443466521145L,
+            -6467092269151927049L,
+            3534366735899595988L,
+            -6748707334212812232L,
+            -7421680590671999419L,
+            6701390277514487734L,
+            -4382786838368725068L,
+            6623896553230893039L,
+            8417035261514940820L,
+            8439831179175330447L,
+            5415298938634728786L,
+            -6002854991001751411L,
+            -5484428643165237454L,
+            7046065072565014339L,
+            5363577257342344287L,
+            -2779854034203348347L,
+            1612059267805202960L,
+            636860236276297034L,
+            7398741733623859075L,
+            -2051618145648359488L,
+            725292424080779333L,
+            -2125269858643752820L,
+            -3102939383296067585L,
+            1505330495260538754L,
+            -268634258343851180L,
+            7796770932608405871L,
+            847131206449183945L,
+            -5891420990024373632L,
+            1856238528297311865L,
+            -5273015987688825275L,
+            2102715793641617362L,
+            2744026438331930444L,
+            4271768779788185144L,
+            4662374062785092950L,
+            22294393599520819L,
+            -165007835675435325L,
+            -9160386686922266768L,
+            5922988957335591409L,
+            -1631585703048462392L,
+            -5678255376350963722L,
+            110567359470193058L,
+            -8185864520035516460L,
+            6786016143978396321L,
+            -3509571371819019413L,
+            401024723788826051L,
+            4568623660461809613L,
+            5540117175009635239L,
+            1050189679998453466L,
+            -4547985958773730452L,
+            3637927245115349854L,
+            661406019563407554L,
+            -1536304842642138292L,
+            -2523896006803549826L,
+            2415747280287385183L,
+            974233989961561266L,
+            5743538460181583098L,
+            -3566472828292193613L,
+            -2139223659701875307L,
+            -3664156945146269292L,
+            272266884671802912L,
+            3980341869738011063L,
+            -9056110410410491698L,
+            6723630734750535904L,
+            2204578077463541293L,
+            4913369520508721601L,
+            -5448185971457095085L,
+            739232519218680462L,
+            -1951550115242368392L,
+            -6065147158235843091L,
+            8832527929798821369L,
+            -7702752523237800057L,
+            6882094724643627884L,
+            -573323271897706395L,
+            -5261293520808140006L,
+            -1809430086918722874L,
+            -1732054590463165992L,
+            7274925532044131035L,
+            4948907231323763588L,
+            3157670104772822058L,
+            7832320885661562769L,
+            2890404919307253245L,
+            1071434620731488214L,
+            4629136708885952756L,
+            -8475868569006071435L,
+            -5490766709353085590L,
+            -2913060978211128909L,
+            -5658095465999618283L,
+            1655526796721746600L,
+            2822309020806778891L,
+            5228362559873305088L,
+            547367944262419579L,
+            6524854998794815359L,
+            -1484999830837203695L,
+            -8360172783223854588L,
+            -5889319090680913562L,
+            -1269059963704614356L,
+            4193659326064454347L,
+            943497608188872701L,
+            3372408542864245080L,
+            4142174168639666143L,
+            3843427155177729779L,
+            -6564149932301631023L,
+            -4539288254798259028L,
+            -5780872639102389756L,
+            -8406160761312966284L,
+            6758556315455189349L,
+            2866916152931293124L,
+            2013161495253323574L,
+            470227450620595163L,
+            1610186827458067953L,
+            -3406245140236092766L,
+            -7337904184810973095L,
+            5726035321213821548L,
+            -4062586936701827688L,
+            -8751290068628391401L,
+            7438946432462181374L,
+            -3201807922062609349L,
+            7303763692690809657L,
+            7663776524252720714L,
+            298985597778409826L,
+            4184948837564038600L,
+            -8076890507388981138L,
+            1569004484407540423L,
+            -5028122740593482013L,
+            -2965893116183427543L,
+            241993689176991460L,
+            7267719484142239105L,
+            8091489107125781860L,
+            2940365282122245096L,
+            -8626505344327127537L,
+            8839713017609705971L,
+            -5767831684422300594L,
+            -4178376538379313802L,
+            -6440266210120353095L,
+            7822057062182932994L,
+            3102016926970141490L,
+            157464075376161928L,
+            5743768411191287828L,
+            -9016963378138430003L,
+            -2826367619160641057L,
+            -188432377811049090L,
+            4709394465013445922L,
+            3258809055331545595L,
+            3364360225402958916L,
+            6777292490980028464L,
+            2595741120726870839L,
+            558401590178201051L,
+            8671162968783597450L,
+            -7408259558105115031L,
+            -3986154834173882552L,
+            8425642634233619483L,
+            9122834697910433908L,
+            5324187794344851267L,
+            2033468475164433106L,
+            -921555991469138708L,
+            -6739840037416645057L,
+            2346526107714744377L,
+            -813428983074370615L,
+            -3349149153486902389L,
+            -259054689573846419L,
+            -3659206074114298354L,
+            -6282241133901937686L,
+            -5620764440870866465L,
+            7498476744320860703L,
+            -430461070460036954L,
+            1249590945573585601L,
+            -6383094194768484198L,
+            5387134072239692183L,
+            -8826928729927138672L,
+            5125418989686906708L,
+            -6518692214708889930L,
+            8706035413097630492L,
+            1760362050631398672L,
+            8223444975835062229L,
+            -5683122758206346589L,
+            -5661045606660543616L,
+            -6332341274499872575L,
+            6086756008536397128L,
+            -98439581358760280L,
+            -6219766853151414547L,
+            379551910540465841L,
+            -9084372660192737282L,
+            -4994742132758796959L,
+            -6886711685006503004L,
+            -741802449388674273L,
+            -7052081304402872938L,
+            -8821529051825118875L,
+            5153554624542977854L,
+            2268382216474441354L,
+            8266147251126723723L,
+            -1968083924929046315L,
+            -4077213310745952630L,
+            -7272980929323006783L,
+            4533940033884460628L,
+            7151139084298978011L,
+            -7425562297563830383L,
+            -7386641112226309298L,
+            -2168564512648315503L,
+            2872151069544629631L,
+            -8211876547225869111L,
+            7997805079306003572L,
+            -1658623689600516576L,
+            -2526494341739170722L,
+            8698285969571230654L,
+            1540777661599499829L,
+            -4373336814767811806L,
+            7155318043663202948L,
+            -6426847656268624107L,
+            5070199994905601021L,
+            -5105466331379689798L,
+            -5515677937725736726L,
+            2462674938224243277L,
+            6711243723225262318L,
+            -7654951368672980980L,
+            7478208697630595936L,
+            4502461906006460751L,
+            -6108301402058334995L,
+            2298149060133930390L,
+            -2181722998003559819L,
+            -1613022528390125250L,
+            151246103422120009L,
+            -1593892141965413441L,
+            2857402532424931120L,
+            -6787000749184000453L,
+            4982715576184855835L,
+            -7475032458825964148L,
+            4286083936614500152L,
+            4964376555527806828L,
+            888063748634736686L,
+            6391972446559832885L,
+            -692756539132893133L,
+            -4668444649216886704L,
+            -5758148549598437627L,
+            -7696574342034809686L,
+            8316477271284555340L,
+            -4502337137257692105L,
+            -9039650716349977173L,
+            8226412093897857895L,
+            -3934371796802707588L,
+            -2636301150707378166L,
+            7683376290285682097L,
+            -4687461736412842470L,
+            9217606412083583068L,
+            7942993700949634225L,
+            -943199783191300252L,
+            1513158402145722484L,
+            -1214178364276042225L,
+            -7070433301091255766L,
+            758586221612499978L,
+            -5848505916295805444L,
+            5265761898608977452L,
+            -6885598848496421822L,
+            2356927320406631297L,
+            2714373640690812707L,
+            -4342895812619681297L,
+            1658177524329527464L,
+            -6102768486310803518L,
+            3809062461683204159L,
+            -3476792518456656900L,
+            -3280559522379662047L,
+            -2305997370653502915L,
+            -8061885724877718948L,
+            -9009095723581561465L,
+            -4706740659977473379L,
+            -2967262929098010565L,
+            7142860829103445225L,
+            7683938402025627453L,
+            -7344872500265287379L,
+            2794936637265372516L,
+            4146006715648990007L,
+            2562916244649042120L,
+            -8997570840103810909L,
+            -5231798822374159600L,
+            4457790492497101328L,
+            2016339106866279434L,
+            -8613554978315807663L,
+            535926639625476353L,
+            -4002250979115382599L,
+            822724258854904514L,
+            6922339335729448599L,
+            -5782282869726167618L,
+            3678076045848090405L,
+            3714811222160817632L,
+            3892971275565897879L,
+            -4846913194240664923L,
+            2409894927420614050L,
+            -3237220103780911647L,
+            7846061672151812231L,
+            4314275733353404370L,
+            -5388685215719529206L,
+            7401520812110553659L,
+            -2439833343219932247L,
+            3880648840098855387L,
+            -6513038260551147203L,
+            -2237447560149077087L,
+            1460899052853819578L,
+            -1999524225613586750L,
+            -6974212087274766421L,
+            915556413272868523L,
+            -1852815789395981303L,
+            -1278336989833587180L,
+            -3589415317495089224L,
+            -8823537074434822245L,
+            3900519551507907043L,
+            -1716158982686975009L,
+            -5089837232581787785L,
+            -8050150861266186052L,
+            5772714719909129908L,
+            -5395153807569171245L,
+            -1051820556364427895L,
+            -6125559796939446536L,
+            9124372967795110860L,
+            -1486593924925129763L,
+            -7558141557050267633L,
+            3616220892249451249L,
+            -4479185327697168745L,
+            -6197298017799937999L,
+            5125158854382764532L,
+            -6119020818277817184L,
+            4924799960843881064L,
+            -5712823185171302201L,
+            -5525597837525493354L,
+            -8132114584943570480L,
+            -1972463283962791432L,
+            -4468614874399508197L,
+            5827819178793524885L,
+            -273535338001794257L,
+            2248041344920843080L,
+            2026986735244877529L,
+            -7440905649148401171L,
+            4135294634841691025L,
+            -879004404142576191L,
+            2967408439482120586L,
+            -7875585484400162350L,
+            -6347010964805277028L,
+            -2224885623032327199L,
+            -5017353061310178507L,
+            -1122249767156558143L,
+            2083857207327596787L,
+            -7013194722354857755L,
+            -1293599508913151368L,
+            441752336743455065L,
+            14933766591489489L,
+            -5668393542885189814L,
+            3576569753104621564L,
+            397440901873806282L,
+            -35405047304615974L,
+            6864412514390106143L,
+            1268519332644062880L,
+            4061829860331922270L,
+            5132950877013900888L,
+            -5234604922221944569L,
+            -6410646546983370260L,
+            1244949402707948017L,
+            5818921690199392202L,
+            6712970230444463747L,
+            3065230478214246955L,
+            -353900930170480373L,
+            2988447896551786342L,
+            -8509936468389468224L,
+            8757580494362714054L,
+            4773872458656078966L,
+            -5500007711567781478L,
+            -9162521961664205691L,
+            2680080202426102799L,
+            3334918086675547286L,
+            976760045560844434L,
+            4551073395659651954L,
+            -1898204336891005148L,
+            5978728355256643972L,
+            -5735642816547647570L,
+            -3191126868853527508L,
+            4055064077683368574L,
+            5333349489809959518L,
+            -8464506159821712686L,
+            8718223464306375930L,
+            1437353441160509230L,
+            4058751591106087332L,
+            3168663245641900559L,
+            -6682246441864508756L,
+            6843737764326193879L,
+            5601555832755020245L,
+            3151434694277297550L,
+            7959063945869840917L,
+            -7736467153705894865L,
+            -7870872042960412687L,
+            -1456227881700934943L,
+            -30266847374776599L,
+            6264992352829603093L,
+            5456230599092712364L,
+            3166411535223796692L,
+            -1673732618040227398L,
+            -8997913024118414293L,
+            -6083492035976981427L,
+            2480148304599098148L,
+            -4302657260899852032L,
+            -4680960104731630994L,
+            -466300193834004934L,
+            -6592150243274480625L,
+            4420310203970180897L,
+            8041534536237494311L,
+            -6994804222468243092L,
+            5926670275473565557L,
+            951769038771627403L,
+            -6072431838452411463L,
+            5185385373857752443L,
+            6122201162406094399L,
+            -7874941988052726633L,
+            604626457600548079L,
+            1109206197858669028L,
+            6795384033094475448L,
+            6796718193701265000L,
+            8789824150156532895L,
+            1295261872916612196L,
+            8476495164263257028L,
+            -678051154068563093L,
+            8999178075376254881L,
+            743938163801634878L,
+            6509511544540955841L,
+            -594980903413256928L,
+            7846207303966636769L,
+            -4194171152042750050L,
+            4001251428189764038L,
+            -5540714401735707004L,
+            -5111499718715149905L,
+            -7956705573160963327L,
+            -3573766285361278709L,
+            9062619332099851811L,
+            -4739034543586524913L,
+            7282084347058271229L,
+            3168515073327529155L,
+            -4741067923154268341L,
+            -8635011347342190405L,
+            -558276579057566513L,
+            -6944662609857932104L,
+            4439812875457424042L,
+            4991104500955944286L,
+            -4608241797541603622L,
+            5778875737023472092L,
+            2021312404796663060L,
+            2161762182615939721L,
+            9114420801570319548L,
+            3185614326021335289L,
+            -8006072714128694512L,
+            8430080956594834666L,
+            -5198607227993796162L,
+            -3189827243730304242L,
+            8197931832088712721L,
+            -2253142583007697058L,
+            -7823525159906237333L,
+            -1377243367471098813L,
+            -911612986909856578L,
+            8743289796976256915L,
+            -3345568425011158286L,
+            5391667925119033518L,
+            554587736137540827L,
+            3127688221100175185L,
+            1137550299286323213L,
+            1912433777685276532L,
+            1103825005229676665L,
+            -6957663186424766868L,
+            4972646449776992689L,
+            -3536938204657809928L,
+            7582273506414852817L,
+            7326658108123278739L,
+            -5805077079461567485L,
+            6538647648188973363L,
+            3035697214252244085L,
+            5746432535152190010L,
+            -7827655451480523080L,
+            6021021435327701640L,
+            -7277041047645280028L,
+            -1445058470424625191L,
+            2877619307178377530L,
+            -1823512102585142548L,
+            -6402288491419808985L,
+            -9060075630328287870L,
+            1488073577193358326L,
+            -2693343146877057171L,
+            -9019581626715496764L,
+            -7287069171085201635L,
+            4510666690016478389L,
+            8617950417630476564L,
+            -2802807097255751835L,
+            1791107785412739378L,
+            3589283125702035548L,
+            8316023707683490001L,
+            -4037490595412081186L,
+            9210649128405711172L,
+            -4995198714277331293L,
+            5243283515631205129L,
+            -1540020205526840906L,
+            3158473377979713607L,
+            4432947230135140910L,
+            4188904309334213886L,
+            7364080096248781583L,
+            -7131675140771511599L,
+            -5723927420665367005L,
+            -1644933069820777567L,
+            5341604550788191631L,
+            4869457545384041547L,
+            7695532400635559954L,
+            -3695456411697486997L,
+            -2785080676294220518L,
+            2644344515668983459L,
+            1305531920470747977L,
+            8890630593571833253L,
+            -6156604164089815581L,
+            -1552480073795965948L,
+            -8737815270116312587L,
+            9205775019980257557L,
+            2195921577184558477L,
+            779887826834501452L,
+            -4745359885295680694L,
+            -374431494259177531L,
+            6034523033155726997L,
+            -6334640526968910926L,
+            -4202078874252217095L,
+            -6945221031907056614L,
+            -8023435816273323930L,
+            -4429765627330496041L,
+            4986724069360824438L,
+            6083570274595974007L,
+            -7614176734090611033L,
+            -2019852122010400989L,
+            1320903460630231731L,
+            2179630303589966889L,
+            1235495973047846944L,
+            1882252066135318050L,
+            6213283265103801119L,
+            -2917660300560671017L,
+            -7849648019298739843L,
+            -7063327347235832767L,
+            -7770673429457838298L,
+            -7489228454465566669L,
+            -5909646945022837168L,
+            838551849870371513L,
+            51966721457388962L,
+            6653343099178625716L,
+            -174515573930807906L,
+            2660371066782976096L,
+            -6554635977502180990L,
+            -8506643775535276034L,
+            -4978927990418761804L,
+            8058305296417228812L,
+            -5114462662666184858L,
+            7704874649246626273L,
+            5083636944274132604L,
+            2838550687721777427L,
+            3156699279947676918L,
+            9051226515259738013L,
+            676021496647713086L,
+            5230105075986679331L,
+            8691264721049017466L,
+            -6248201749534464065L,
+            -4308607607204290317L,
+            6687229217827297775L,
+            -1259237673567605441L,
+            5802543887977643330L,
+            -4102487270456274004L,
+            -5408667255647328657L,
+            3565900441500790229L,
+            9082323172904640676L,
+            -4759507132432825909L,
+            1423468454237048870L,
+            -5042089810634834350L,
+            -3559648033533657476L,
+            7783215390931651217L,
+            -66203607734750864L,
+            -3634646814695587858L,
+            4455539265186667930L,
+            -8838345764357421367L,
+            -2325652543444906904L,
+            801842638459904023L,
+            8734279863478199123L,
+            8016253998451695636L,
+            -521280636198432389L,
+            -1811512321398151736L,
+            1026656383115963154L,
+            -785818636156245306L,
+            -928399482702100224L,
+            -562413965724324618L,
+            6272136526675239031L,
+            2522866468638646610L,
+            7529445493162946439L,
+            -1656642819271771096L,
+            2030585774839217000L,
+            -8726623187932240255L,
+            1451997627574673708L,
+            5196758595042522569L,
+            -1878907143989036070L,
+            9038638644587801927L,
+            -2204249930412893246L,
+            -8978699658159841612L,
+            5842640130677919849L,
+            -5589377874615713838L,
+            -1893491582459845534L,
+            4912276218520709640L,
+            3818554717620013585L,
+            -9040443253317063733L,
+            -3758420517486651085L,
+            -2229998203887450476L,
+            3702222435240714765L,
+            -5420557514714429180L,
+            -1218582848241332319L,
+            -5203007661699554464L,
+            3151596390232364622L,
+            3888501645876879207L,
+            1583425756731061414L,
+            -5003064999988804929L,
+            -7332533255355469607L,
+            5977516320717623439L,
+            1580771751053024332L,
+            4413575378783533028L,
+            6826454069286125346L,
+            5311664952564825991L,
+            6895083051715903349L,
+            -7713671102347248211L,
+            2594398010271721222L,
+            -1982265612965399629L,
+            -3579519718601591885L,
+            -5604602123383747726L,
+            4178697072085434905L,
+            -7546518924164116218L,
+            3091865751285013268L,
+            -7976969143342226242L,
+            -3852790669870640281L,
+            -7515374501365645659L,
+            1435821727131822168L,
+            -2062241692884127016L,
+            2200226329261456873L,
+            -257213148119851404L,
+            7131841917473055711L,
+            1087543445684129253L,
+            -5588254063625803485L,
+            1006999517794805964L,
+            -2773600342353349742L,
+            -2490573088688556342L,
+            -8150573091530726175L,
+            567480701249456774L,
+            3121861584427682354L,
+            1921260767301672625L,
+            2343838645480628575L,
+            -8719138514791335676L,
+            2996935953083596343L,
+            1625660921964467143L,
+            6252246037899622439L,
+            -883902930914318721L,
+            4358463471825820841L,
+            1165542764118189108L,
+            654190137204997883L,
+            3812881363845375034L,
+            -1597566884329511573L,
+            -2880655190357656702L,
+            7414098040326058372L,
+            1805664836264808923L,
+            5452471502791632613L,
+            4247812592389944784L,
+            6403398483310936253L,
+            8352551530331079939L,
+            -4593448348418152254L,
+            -1118718656374244423L,
+            5012382122859218306L,
+            909680638411978261L,
+            6622265958399956799L,
+            -8529657689480149163L,
+            -4993845692397477367L,
+            -3461570986614926534L,
+            -5565908555399967363L,
+            -6818960870611963090L,
+            9119240572992988793L,
+            -9073230651005846375L,
+            -1756724163734306951L,
+            -890031114066021181L,
+            -1984912487928723754L,
+            3562403128237185245L,
+            3691342403618309701L,
+            6671717865465168260L,
+            -3827523906467990651L,
+            -3269143697623117616L,
+            -457581160211708711L,
+            303879519601689216L,
+            2627348602459194059L,
+            -27624957379596624L,
+            2423727378161097236L,
+            1190454169450055727L,
+            3808023885628407863L,
+            5495094737867970770L,
+            -1510341280771702769L,
+            3071015625262289892L,
+            -889877286417450694L,
+            4782785756367681570L,
+            4585429963858808589L,
+            -69124605787957273L,
+            -1845878828908266697L,
+            1418091176882113758L,
+            -3675030481055594538L,
+            1868080287885021978L,
+            3498339963832973745L,
+            2023377028173797512L,
+            6175403879788834678L,
+            -6825227974245484150L,
+            5203991841835459262L,
+            5387450407780034012L,
+            -2271288606494922844L,
+            -102443616938313377L,
+            6440772108727077793L,
+            -483608594408140014L,
+            7094183751377577709L,
+            -43417294327975107L,
+            -3662416504669912053L,
+            -8644200776802690638L,
+            -3866601003106185943L,
+            -149627955967881369L,
+            6949876933535115628L,
+            3676498410174426797L,
+            3404838890267486382L,
+            6967415275960498325L,
+            -3827508207866159731L,
+            -1019244480252976409L,
+            -8109957603357866110L,
+            -2817058701329458683L,
+            1426904562381484736L,
+            -470653716665138554L,
+            -1029226244303793949L,
+            7890820779855026076L,
+            4572640759167888059L,
+            -7939543602412514405L,
+            -7990833564239078574L,
+            7070113485128007029L,
+            1132600279704717638L,
+            -363335392029880937L,
+            8382551418368904932L,
+            -6783932155707435855L,
+            -8023356864176130036L,
+            8250963087512828954L,
+            7518066812050277771L,
+            7147041907512575903L,
+            -8415056329230047437L,
+            -8246976456606090002L,
+            -8092000929074231043L,
+            -3272056844479816955L,
+            1796190314902121558L,
+            -1000823880760489098L,
+            8728278884125329264L,
+            2869018177037352861L,
+            -4752738412021939673L,
+            3081050083046310351L,
+            -2169433099310721581L,
+            -6444791613941694412L,
+            1399087024440162841L,
+            2670436843257600737L,
+            4578304839565480505L,
+            -6849431953555216172L,
+            4892525784688854999L,
+            4829601806664758965L,
+            -8673071605412035836L,
+            -132355628238917590L,
+            -5142664131763451290L,
+            -8294061659351080782L,
+            -4061602725211589160L,
+            2543937779800491340L,
+            -3678222742273174852L,
+            -1714925494968699906L,
+            1669866444175545291L,
+            -3726334786676716130L,
+            -4160689843222289268L,
+            -8942942279304584577L,
+            -9021764505389155053L,
+            -126885028098972036L,
+            5823955341714125724L,
+            4318523310181271340L,
+            -233978162989412403L,
+            6480643963058343460L,
+            7387809387053559559L,
+            -1295161111650551331L,
+            -2764813677778993233L,
+            -6785146165935265201L,
+            3479990154054425030L,
+            -2484632825684776830L,
+            -4052836557650084903L,
+            -776450377874286367L,
+            -1050950409111917516L,
+            -6076100730183358302L,
+            -7039387617377933136L,
+            -8320161767550173603L,
+            5296097546952017907L,
+            -385427241111846563L,
+            -6683685919616601800L,
+            -8379725280568095401L,
+            5108378036858079860L,
+            -4514497754592335700L,
+            -9063566559892136507L,
+            2265994648506866726L,
+            3777270554669364953L,
+            2415400394340202260L,
+            8050153326636495057L,
+            -8416295738221710550L,
+            -5879057388831385652L,
+            -1550299401419921114L,
+            3218783580107145227L,
+            2656412668593984598L,
+            6322722144834098967L,
+            3083246732795693098L,
+            1851168976011261104L,
+            -1408152891289993503L,
+            -3132651994916405439L,
+            4538770997087189364L,
+            9129184915440745946L,
+            817684059765176238L,
+            1772650856954834824L,
+            -880847926067056789L,
+            -4882107271422971238L,
+            2878123422469330723L,
+            713072289871706840L,
+            -2444988543962286056L,
+            2531761637782762304L,
+            6486707885570629703L,
+            -7294377858526229835L,
+            1448349964856937773L,
+            8568371138824954506L,
+            -1982821618054892296L,
+            -2295757369824238701L,
+            -7471743727958448748L,
+            2395497670256671839L,
+            -7434205267586044268L,
+            -7494235411270730591L,
+            6419822204003172597L,
+            310175438034538614L,
+            -7055177093143976940L,
+            46328585932294135L,
+            -970799930330765125L,
+            7200305811991119396L,
+            4247756600824821330L,
+            -2722702008042815069L,
+            -3871707607036782856L,
+            3915563273512615187L,
+            5995663062548606444L,
+            5034965563052586635L,
+            -6912215358145564953L,
+            1135264243393803705L,
+            -4967970854134749557L,
+            -7958271129594013216L,
+            -4246977832007048759L,
+            5367811546582230248L,
+            -6941084803627661215L,
+            -8466282036197452617L,
+            3838421475904304104L,
+            4090493977425176054L,
+            4000444176701361861L,
+            8135501461524716059L,
+            86818383308345484L,
+            6629253373111715213L,
+            -6876963677811863066L,
+            -8377503705641114457L,
+            -7778022634735410236L,
+            -1167011243656671303L,
+            -2263327428155952660L,
+            -507613502737371045L,
+            1240133737427787456L,
+            -2747467061016279861L,
+            -3266936648677048775L,
+            4852987930485324801L,
+            -3430549351083646524L,
+            9070741340674566172L,
+            -1888957269654330345L,
+            5537618350925935695L,
+            6781066044368672715L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42_LOW = {
+            7697554932610379476L,
+            285142579846741977L,
+            -7617378218990093266L,
+            -4472822214986642587L,
+            -7725996506695391087L,
+            -8780101017067393815L,
+            6802559737668380664L,
+            5434056609466563335L,
+            -2413441681948264152L,
+            -1568883320098494831L,
+            5348944853136812697L,
+            8196940187037961303L,
+            7296172682465272598L,
+            3987757544546698289L,
+            3887476031415417087L,
+            -1076427520035078851L,
+            -7632051032268033083L,
+            8223776614670841126L,
+            7058691991688554286L,
+            8625755636665890529L,
+            -3596407500921402748L,
+            -6105836963714352770L,
+            -4826914539874804186L,
+            -5298642863900686244L,
+            4376898618283307389L,
+            -3731698571466362839L,
+            4490648587880368695L,
+            -4747629743688725530L,
+            748088330946877365L,
+            8574212155452122756L,
+            -2957978791419296988L,
+            -2741748414404026564L,
+            3345367344536831162L,
+            6985922688651592796L,
+            6500502475540516416L,
+            8575035581646582515L,
+            3588280241080208980L,
+            -999730199849624057L,
+            -7203938550357326816L,
+            -391414904691835328L,
+            -7768153728893284356L,
+            3571120769729484433L,
+            -5381515918830942184L,
+            -3622194679967811023L,
+            2656660030782171078L,
+            3211837816483532300L,
+            5671682711148219631L,
+            -2361223127397229791L,
+            -1964013542519447852L,
+            -2801222916583053922L,
+            8717954173044455162L,
+            -3852681102794493155L,
+            -717992514246442019L,
+            -8298374476330014874L,
+            1364133921590651103L,
+            1105048263451705417L,
+            -6886902381508753169L,
+            6977634188244403167L,
+            -15809517198546443L,
+            3259083070819101330L,
+            -7730925072438445875L,
+            -3597751147895085651L,
+            -6521883431693861850L,
+            1837367384257706584L,
+            7374878468643651227L,
+            -973944847718811448L,
+            -1598818437075333445L,
+            5040015799036715007L,
+            1316158800632487508L,
+            7266764657131401218L,
+            6699352683371265948L,
+            -978392621388339164L,
+            6758732423610591291L,
+            6563820499167635252L,
+            -3677515821985652317L,
+            4811887459252358983L,
+            -2277995099809737647L,
+            -3210215718136958441L,
+            -4156896998794974674L,
+            -6039667400064509401L,
+            555438333129852255L,
+            6247670169133121845L,
+            -6262522161766322393L,
+            -491354045492845297L,
+            4904929510463840040L,
+            -4212735402909770575L,
+            4556763441946409404L,
+            -8975967717641531395L,
+            -1906125330845306160L,
+            5353136652761647252L,
+            -351829291876925561L,
+            -6159325362374271151L,
+            -8819272901200858296L,
+            6266636863083876639L,
+            -3659794047731367943L,
+            626493515442428333L,
+            8722495913925904428L,
+            -7238148016746645739L,
+            -539325538627727941L,
+            7330759301223600182L,
+            1741751787160925609L,
+            -1327180058352805496L,
+            3027907437902982061L,
+            -6535704348963741151L,
+            -6840408889697087398L,
+            -3387612889993367133L,
+            3673363186351766447L,
+            -6499121466341416022L,
+            -4807821895278597242L,
+            5636760793631359385L,
+            8112879035122591324L,
+            -6054382290852121820L,
+            3107349690859705928L,
+            -28313364623679486L,
+            2080910684990515288L,
+            -2009913274697420551L,
+            -7608328801870891305L,
+            5038289732143952596L,
+            3266264382572050624L,
+            -6824335133769114052L,
+            702806967184550081L,
+            4514061024723289982L,
+            -4532713026139322664L,
+            2309442596322853670L,
+            -1488767975644262869L,
+            4483431378157153888L,
+            8196682297351892704L,
+            7303375281124113843L,
+            -8369674381649780346L,
+            -6350971278545323625L,
+            6812422363748151209L,
+            -933629324960697825L,
+            -8744673447643333812L,
+            -2799479429603697471L,
+            -822950108461259239L,
+            5064412942831843843L,
+            1048357720405150862L,
+            4145295334725610417L,
+            -5001577638608396675L,
+            -2253584713335277439L,
+            -2403158604609717771L,
+            -5756016893383634741L,
+            7937898428442822185L,
+            7875752850395622207L,
+            -1031517972357546613L,
+            -6518429427422446645L,
+            4865261573776791723L,
+            -2125386867504684809L,
+            595455337430083918L,
+            -8485530477110137010L,
+            2412043740526289371L,
+            -4063720986652160648L,
+            1990643926108024053L,
+            -2911282172637831973L,
+            2830847647163024097L,
+            6251482638704006212L,
+            2915407046105036072L,
+            -3572272365022516600L,
+            2047758674349265242L,
+            -3206905500030290982L,
+            -1114866786270679895L,
+            1501608065000616455L,
+            8190577711119988986L,
+            7459633286113483302L,
+            2879955351172310061L,
+            6278618147235558123L,
+            -332695341134961507L,
+            -1573736500916997522L,
+            6527358109069544871L,
+            4397993573129573099L,
+            6747815210248561408L,
+            2595127241461612549L,
+            1552151221151343772L,
+            -7122961525746447544L,
+            -110950943959545794L,
+            2297539829406984729L,
+            -2997795698042912989L,
+            -1259986830488140847L,
+            4365722844039076427L,
+            6725939174261733492L,
+            6561324348033930041L,
+            963639843210004204L,
+            -8538659685073033237L,
+            765282424399237943L,
+            -8468920429263908224L,
+            735134692475942312L,
+            -800535974106698733L,
+            -519870160566153046L,
+            -9107719740571652173L,
+            5443858293954246561L,
+            4824220980814219712L,
+            1101167935686703418L,
+            -7550298547711670276L,
+            -6087890691045846626L,
+            -5888977112704327521L,
+            -6967129944475107529L,
+            3260684219159217360L,
+            -2898422115131906403L,
+            -3159415680107393486L,
+            -9097734393406420351L,
+            976360882229122768L,
+            8736101882583178662L,
+            8909074823883271840L,
+            8936886893068183040L,
+            -2957153484223117566L,
+            -286421869527673957L,
+            2752093371377688378L,
+            -2285009055966177911L,
+            -4295347486183689234L,
+            -4208234896358835551L,
+            -5058862883654068310L,
+            -7876115924610716870L,
+            -3120532084064224742L,
+            -98278595966977807L,
+            -6778486299879461348L,
+            -7031165755110369708L,
+            745719677178010194L,
+            8604184624945943336L,
+            -4775354086038626502L,
+            2863664643210275814L,
+            5221062037604539545L,
+            -7622732771556622573L,
+            1391153618862575224L,
+            4160086736731228018L,
+            -3369954152005155L,
+            -1166207322363280361L,
+            -1456913767127930606L,
+            1394821372113066572L,
+            -6767041708365241009L,
+            -7031190813882660228L,
+            5034280634871698584L,
+            2453309047445751733L,
+            5126024541033388579L,
+            2448507374085325452L,
+            5718089095582196343L,
+            9055752820498577393L,
+            -8404316783856134026L,
+            2041442322832728370L,
+            4652400102573201332L,
+            6528008510414023473L,
+            4805710111801157862L,
+            4423083333576401435L,
+            -1532292577422226623L,
+            6702043902618089817L,
+            7471194300909226078L,
+            -2658834402773226821L,
+            -1513084595770671124L,
+            -5625554050657227293L,
+            2851842377370839054L,
+            -2032096677803346910L,
+            -7991343909218538972L,
+            -7330508474128993472L,
+            -3965343053311944186L,
+            -3561819712176740048L,
+            -755548728211781916L,
+            -1492042691540569832L,
+            1729909996453437208L,
+            3646767663766429174L,
+            4240695775984290134L,
+            2580335408060218604L,
+            441260217984950398L,
+            -8362501096244109862L,
+            207921017285543631L,
+            -5282572729387769129L,
+            -3067623178524295629L,
+            -2132418876826122732L,
+            -2213666253831058537L,
+            7017569929192674361L,
+            4750532785467069287L,
+            -6324405485624822564L,
+            -3611371145276750329L,
+            -1161985320436202710L,
+            -5164062594593334891L,
+            3010624850233720984L,
+            5032071683844469585L,
+            2777191902781175531L,
+            -5324259575131694200L,
+            -4684720318293549969L,
+            -2762200148610130819L,
+            -7701297387473282815L,
+            5069503934856900138L,
+            2712248848206034061L,
+            -4860151678370387114L,
+            -4331692347942134213L,
+            8942944548054960070L,
+            -7004210369683560546L,
+            -4105561760912877334L,
+            -4497049962867138140L,
+            3640059947897765135L,
+            -8324599334057960556L,
+            -2811331913333066160L,
+            -8334811525251200929L,
+            -6901581913420198739L,
+            8642132735836905567L,
+            -1025865512628790034L,
+            7515010716992369116L,
+            -6092043759389946666L,
+            -3363880213935857294L,
+            -3144482542325512191L,
+            9009871251478277001L,
+            -5838779998869908859L,
+            9005581609977486248L,
+            5138609628032799505L,
+            2758799219050275766L,
+            3268860259484654883L,
+            319519747979654306L,
+            9128915945455915831L,
+            937966813301058651L,
+            -6941112522556391577L,
+            -6729529790337089163L,
+            2419980304858022448L,
+            -7819949814655369867L,
+            -4372074122455576479L,
+            1018921599416787242L,
+            -3849961971400727627L,
+            9180603347122525434L,
+            -9178927525970053155L,
+            -1556124071405462399L,
+            -653574883145545114L,
+            239596404266449424L,
+            6730188061419426662L,
+            6449285979260930672L,
+            -3285237129516866489L,
+            3690822678039231281L,
+            4342972653794644676L,
+            3022588119280647219L,
+            -4505305522661356816L,
+            5001413450377028115L,
+            4419984398996000570L,
+            -8063797635425093678L,
+            5870102708659248671L,
+            -3453773565729909633L,
+            8124703966668017541L,
+            -138069256537225767L,
+            -7165551541239682219L,
+            -9163717162180534949L,
+            -646617987923262975L,
+            5349922095912597561L,
+            -6917076227931955728L,
+            -3391326523491156997L,
+            1973840508575667580L,
+            -5645379116531418405L,
+            -5901679975527460901L,
+            -303435001507839485L,
+            2582757259021726999L,
+            691808051526264450L,
+            -239042239917292372L,
+            -3208407439724588218L,
+            8161820119807738082L,
+            -2027424209467323562L,
+            5516444654420330166L,
+            5142012787811884554L,
+            5893008228339471818L,
+            7823351951064316195L,
+            -6908227712824995760L,
+            1588806915700171797L,
+            1571898308539530920L,
+            -3831798594260032685L,
+            -5248442526839430904L,
+            -4874587305901375679L,
+            -1992320107662085212L,
+            5222764963934343740L,
+            -7063579069646744015L,
+            178777411497747800L,
+            -1445893914026290221L,
+            -7821475331547563932L,
+            4569940444150660216L,
+            5059615846654206624L,
+            3817641540891013956L,
+            3720792127728239268L,
+            4463741377923891353L,
+            1978535425453785545L,
+            4101534219283285739L,
+            7327726070965585716L,
+            4600413382342675663L,
+            -7548860971731572094L,
+            562172588766980205L,
+            4979362973210445496L,
+            -8913189757772797310L,
+            4859175962007093186L,
+            6539295165043077709L,
+            -8971671705876280657L,
+            -825997955684854797L,
+            3517211562443162696L,
+            63115496745614491L,
+            8715179495832388750L,
+            5174499475318447518L,
+            -8473786565314216923L,
+            6927151150968953366L,
+            3278859223980482372L,
+            1011234015623165001L,
+            8369525933918765868L,
+            2801741404994076710L,
+            5278064747699315954L,
+            5870583974150441020L,
+            6716855239638443342L,
+            7034381826873982330L,
+            -3250194046460825540L,
+            1245774120775218997L,
+            -8862568499813045160L,
+            8246712100790430656L,
+            1525655581669478925L,
+            -589320237623401511L,
+            -6933549698859638068L,
+            4178501444511024643L,
+            -3056610322586654618L,
+            6571490573746450316L,
+            -5107066149742383630L,
+            4803894288652462715L,
+            8531096971393134254L,
+            3611684495471173610L,
+            4936360424476268653L,
+            -7015676972127992576L,
+            3778196826156684119L,
+            680752286220108349L,
+            1059481120869182339L,
+            -1981789816222870219L,
+            -7122813721888653828L,
+            3059316627449906405L,
+            -6407415056594953837L,
+            -9040026648980444317L,
+            -1585083422777540693L,
+            -3226762387983584967L,
+            2803186781223407453L,
+            143903473669021456L,
+            -6904829418840672853L,
+            4734039287525524534L,
+            6827032165317760626L,
+            -8679167122362876151L,
+            7025978495378452138L,
+            6432333549285541362L,
+            -4900566155333769292L,
+            825124863601498854L,
+            8912033447480725482L,
+            1990124354800892545L,
+            -7873134261394556732L,
+            1580224208236940419L,
+            7593879065771246230L,
+            -8686604477213730440L,
+            6256536661940347570L,
+            94122954734545077L,
+            -6145325455146183339L,
+            -1167071589108923531L,
+            -1108799341023236326L,
+            666389090258087817L,
+            -3120622008557673479L,
+            685615054204447308L,
+            -9119328896946668636L,
+            -2057230985978505299L,
+            4468444519315188403L,
+            3140387568464771839L,
+            -408475095390271165L,
+            109407688042313442L,
+            7322428139649049889L,
+            5548162588244234901L,
+            -1706501284207885074L,
+            3649634994388857169L,
+            8341604169814171502L,
+            3766924900483988796L,
+            -6816342364331920032L,
+            1341398040123363014L,
+            -971072950747888733L,
+            -3073114335104104967L,
+            6330486729407960172L,
+            -1001693909057247L,
+            -8560111202867494135L,
+            5658240559111868934L,
+            -4693653374834776782L,
+            -3983284024590256503L,
+            -4779598083161110459L,
+            8279345349730049614L,
+            6372057264524922340L,
+            -8098195424482963874L,
+            5709030817468346082L,
+            -6837034110552485347L,
+            -1113879896158202673L,
+            737804568489874015L,
+            5120120345314093223L,
+            -619979860567568533L,
+            -6074818511371848148L,
+            300050318640091463L,
+            -9101904831180362187L,
+            415124699864479958L,
+            8020584961678866786L,
+            -7563103538901726782L,
+            5400859666739019039L,
+            4935692830167999430L,
+            -3456656540337127181L,
+            -664700701519813410L,
+            -5098762570926612659L,
+            2878067694719806676L,
+            6872566920520971161L,
+            7811644778783923538L,
+            -7270309382970498060L,
+            3331937161851273696L,
+            -3603166714343389802L,
+            -5950459401623986527L,
+            1832995451751134074L,
+            -25743994141309105L,
+            -3577531235063663405L,
+            -572903811961004704L,
+            4289456735620794509L,
+            3808135899270736974L,
+            -5030195694657715482L,
+            8093049066828405678L,
+            -3284423849168293169L,
+            -4145067358689604941L,
+            5045467429843566054L,
+            9004243396185255787L,
+            1678372355963492757L,
+            2113600803262031344L,
+            7711282438845691187L,
+            -1776116950893304878L,
+            -483214761608196484L,
+            4425245040561237451L,
+            -6754838407342640486L,
+            -7621143045904723570L,
+            7455404879888362257L,
+            2991554150556421444L,
+            5168569229369354452L,
+            -3159284322878680421L,
+            2590185211977589911L,
+            7356058812328377348L,
+            2633525526833241985L,
+            -2295078292903135013L,
+            6202339274720250665L,
+            3903705444773276135L,
+            1453877074316536691L,
+            7195945547804662028L,
+            -5079117904789607438L,
+            5863912088359234729L,
+            2015413075541344325L,
+            -975829993038873851L,
+            -813825620039095329L,
+            -962831618645736866L,
+            3687784231588799351L,
+            26966943829019867L,
+            -6033117699044889723L,
+            1216790746534817838L,
+            8788146863950886563L,
+            4693248200081097779L,
+            -8541966996839974889L,
+            -2911385785609688979L,
+            1543250432813595886L,
+            -2468982710528452839L,
+            -1221366407010008722L,
+            3809966594963833879L,
+            162727796872560605L,
+            -1635530057933241229L,
+            -7654772319121647709L,
+            -2711970638401161618L,
+            6381542551435388692L,
+            -8784235867804308724L,
+            -2694563908503386191L,
+            -2637041358288557695L,
+            414927238556781315L,
+            -3496418609280485778L,
+            6070950752466995616L,
+            -6667625843523554184L,
+            3030281699285353107L,
+            -6984354543199908014L,
+            -7416193888953864390L,
+            -7380663338930181407L,
+            -9041213067893865122L,
+            -8338086460487071870L,
+            -9075703300234531044L,
+            6794514065889280754L,
+            -8293669130313880199L,
+            -3786166018256363124L,
+            5617561107483300243L,
+            6354426397510293623L,
+            -958733153813568188L,
+            -6701251417870936059L,
+            -4035975203985281978L,
+            -5023786439026294288L,
+            887110105623710703L,
+            -1872844175427747066L,
+            -8318996393239873111L,
+            -2908795704067482493L,
+            -7030368359719324694L,
+            2438040245266662643L,
+            -1048141808933883246L,
+            -5035901432743793806L,
+            -6206546022834912854L,
+            -2056962580856184039L,
+            -1023817448052032279L,
+            7001544915611760389L,
+            -1445604446322501146L,
+            -2052299714357128640L,
+            2596263218399018145L,
+            6653937186460370198L,
+            -9147327604849149824L,
+            3957237187387799603L,
+            5103095638582640599L,
+            -6522715826129107366L,
+            8154133721469507995L,
+            5251201343937067802L,
+            -7191611795769731623L,
+            -6069940869894262942L,
+            1883805039187483887L,
+            -7664299577661758726L,
+            3795644983379621886L,
+            9028830852018103084L,
+            -4731619602551264610L,
+            -2586010537751424472L,
+            3605950685478063432L,
+            -8749468845935724384L,
+            7142028574357418787L,
+            6876783677144680080L,
+            544544376545404992L,
+            -1063984638779215849L,
+            1010040077720653637L,
+            -5185181852492181295L,
+            -4410729193900404182L,
+            -4323704209808598022L,
+            8577424253133251424L,
+            7180722973893624791L,
+            -6395679671853508562L,
+            -8257781076976273522L,
+            -4887652162079388468L,
+            1837414088382363884L,
+            3540939292621239568L,
+            -7960166738965113582L,
+            5810189891594438936L,
+            4109161644043544158L,
+            7921873755431849788L,
+            -5942280447889112071L,
+            -795734269165928743L,
+            -4562236678272438973L,
+            -8711989032532837271L,
+            -3663870647744971702L,
+            -8443627011810986942L,
+            -40627161574360706L,
+            -79166882421816609L,
+            -982587562829418641L,
+            -4150531821201904898L,
+            -4516184044647268807L,
+            941216309748440676L,
+            -8503929172770399306L,
+            1862695115910170607L,
+            7259880986610337809L,
+            -6712104842393077333L,
+            2545552429855726655L,
+            -2879645763990242463L,
+            8544686544595492874L,
+            -4086850100290327535L,
+            6276775945281230172L,
+            5500118135681101334L,
+            -6327375045836001263L,
+            1644430858948682282L,
+            -5277866040828920588L,
+            3343868110959067477L,
+            -4364650503764406843L,
+            5062731923691850826L,
+            7943494740082600936L,
+            -2095691840676827132L,
+            8049400257368832170L,
+            6213648201635290869L,
+            -2053056652590982289L,
+            -6560355976655426724L,
+            -6221838303793883201L,
+            2524847291007475029L,
+            -8339688569103723900L,
+            -3719422557855754488L,
+            8906843457502372486L,
+            2296552933454976676L,
+            -1493452246411026803L,
+            1539364956203461356L,
+            -4599239260707974672L,
+            -7204586420602150283L,
+            2684197891755949893L,
+            8520898323784175005L,
+            183710048521857916L,
+            2954958420970027744L,
+            2568756525645512935L,
+            4065244308169393575L,
+            7690115471291356776L,
+            -4537751602597927492L,
+            -2923060265171812287L,
+            -6720476510470195747L,
+            -6647425101602728275L,
+            -9028396511820868026L,
+            2815696626974702875L,
+            -1602012466253247407L,
+            3830896759488667302L,
+            -5025459315116375949L,
+            -4136636033644373753L,
+            2361907189416425497L,
+            -1434536780802242635L,
+            8287147493716888380L,
+            5455273479769228180L,
+            3369536877203168223L,
+            2474076250371466037L,
+            -5215948015447169583L,
+            3795749524482733608L,
+            3891586709691374459L,
+            8170809998980275203L,
+            -5925723999264928545L,
+            -7971956028877632877L,
+            6643667917021234809L,
+            7468877282295457160L,
+            748120192250304925L,
+            4482566708101305618L,
+            5902323967460771279L,
+            -6726125364756082256L,
+            5497904406327396431L,
+            -3305042052158053451L,
+            4686478388719120796L,
+            -6113293773028481744L,
+            -129249976819578483L,
+            6277822406201612873L,
+            5340775404166778138L,
+            -8954996757587804018L,
+            555469938830002705L,
+            -7741211620703584791L,
+            8550057540178136874L,
+            -8974525910132576978L,
+            -3054394212769664853L,
+            1112995788364190104L,
+            -3431667148126985080L,
+            -5415350914529870505L,
+            3680255161077191186L,
+            4400692722504074425L,
+            -9172882155432119396L,
+            1891656637782243134L,
+            -4838049699708813722L,
+            -5842482994016066045L,
+            -4411873406547254623L,
+            2866732518576734145L,
+            7380602459192914310L,
+            -5672029606544452233L,
+            4756611665860569160L,
+            8155022101420149429L,
+            -5228076678185144791L,
+            8585506701666321538L,
+            -746204033129405206L,
+            2137060588486455966L,
+            7330375051796658051L,
+            2811946327335687955L,
+            6928252802988005164L,
+            3982968276065603803L,
+            -6156748865984946309L,
+            -6331329572486752190L,
+            8523085220198266432L,
+            -4521467426961633545L,
+            -2366826907938181428L,
+            -1746030800284047067L,
+            8981845503616444235L,
+            5014902319213267657L,
+            1701954452972742924L,
+            -647224262054220279L,
+            -6167601779707124878L,
+            -1207295883792663138L,
+            5339556102188569937L,
+            -7870559622883089702L,
+            6153083640598134004L,
+            6019378465400600080L,
+            5811441053272832821L,
+            7681061530821836532L,
+            -6375023680555835324L,
+            -6003151978155643419L,
+            1637076772227603710L,
+            3042171945438777629L,
+            -299404303748247997L,
+            -5269785815174954189L,
+            8901798524914737652L,
+            -4810191759473602769L,
+            -944770831530877500L,
+            -6037642485143448924L,
+            -1968248322812225230L,
+            -3512294843136626256L,
+            -717805879972703540L,
+            -1869141315973650509L,
+            1607105875726267522L,
+            -8265649039123491869L,
+            6269619143720430982L,
+            6744118739532424396L,
+            -9192039987802948372L,
+            -3659255550508605382L,
+            -6213013081044913910L,
+            -6295338297994795983L,
+            2312787817112253399L,
+            -8375113252559147402L,
+            6611340935794213106L,
+            4320409233699183759L,
+            -3467437150747915650L,
+            -5254062183286038358L,
+            4581416168767094222L,
+            -1616513564833829863L,
+            8576931936136541903L,
+            1774418619134827634L,
+            -298265358630472914L,
+            -942823950610335993L,
+            2581837916989902643L,
+            4568452606186255452L,
+            9151173953804465977L,
+            -137615864503038220L,
+            -1024727376473431088L,
+            -316142164525992471L,
+            -1304491891841579666L,
+            -7262694716357331081L,
+            -1914589126611920338L,
+            -8856912962720100374L,
+            8109241299737927152L,
+            -668066836599806763L,
+            -523699992790521624L,
+            5605320314582562187L,
+            -4872156757849395449L,
+            -2556674951397304429L,
+            1397154647329849269L,
+            8105468795996536412L,
+            6397153439885818392L,
+            -716920241450656535L,
+            7970462388904117857L,
+            4770842592749205356L,
+            8617654710086019923L,
+            4808162938223943702L,
+            6205976411190347954L,
+            3731159255987488263L,
+            7649282990886833913L,
+            -7864810109799958668L,
+            -4731876708323459012L,
+            2417294844995728136L,
+            -7960751106835182087L,
+            -7603802699634787098L,
+            968130758867430373L,
+            -1764709574826389916L,
+            2359284166880328992L,
+            6673199709665547333L,
+            -7059183582994465730L,
+            -2019877257717821331L,
+            1865912300659322555L,
+            8977031326462182765L,
+            -8135492775271092185L,
+            -2370844510073280154L,
+            5962235136933540915L,
+            420127872258591507L,
+            5327134331322266985L,
+            -3262072301828380700L,
+            2423303903403513363L,
+            6859401724529974916L,
+            3811307236947590208L,
+            -4713048910305956213L,
+            -9077633673758021644L,
+            -1425602320365301372L,
+            -7483494093382838272L,
+            -2113458445865337122L,
+            -2638578919754831774L,
+            2153563917079607736L,
+            -2859453023496129184L,
+            -3552619313877042215L,
+            1024039192908302460L,
+            3636365968539671371L,
+            -7048564341416000406L,
+            8196167657709538244L,
+            -348797962453897206L,
+            -6352036446208197408L,
+            -521684612890498404L,
+            -3233430812203770907L,
+            -1327797064961034191L,
+            2008870360760104367L,
+            -4892869090839426345L,
+            5213271917111999292L,
+            -2536806773953278792L,
+            8351645513582841411L,
+            8039625035475277158L,
+            9183480064192948188L,
+            -3757612686747484938L,
+            1044723394272951897L,
+            8533994241694344777L,
+            -2775983018778933016L,
+            -559598417099126358L,
+            -6377545634249777195L,
+            -928034230910755769L,
+            2996812529266959963L,
+            6130922162912751771L,
+            1874305048247026414L,
+            -2707888691522111530L,
+            7924872537410326104L,
+            -2123475295918921844L,
+            3669103510825927461L,
+            1863537126645773597L,
+            632406124173256129L,
+            -7126691900495945832L,
+            3168365763936610410L,
+            3069216741089567667L,
+            3798256522758972072L,
+            19937656004034231L,
+            9070173753135067908L,
+            -2912510739435793047L,
+            -3093451493271555035L,
+            -3632448119920404622L,
+            -7729342306127168463L,
+            -1377885996289300749L,
+            -2581855672773221114L,
+            -6885478072988539015L,
+            -6811207863813613755L,
+            205131815280142463L,
+            4208089741743460713L,
+            7594915027845304008L,
+            -5718795009220114885L,
+            5045912584321737501L,
+            -6766414226569738188L,
+            -6598307801385048359L,
+            -823102840705696818L,
+            554721673449277337L,
+            3640005151752103778L,
+            -7632510095581516828L,
+            -5060049725985293717L,
+            7765375782433034080L,
+            8341175315415578559L,
+            7601417434242683831L,
+            -3765040990350039593L,
+            3251309744281026776L,
+            9143349836630255543L,
+            -5552217648207737515L,
+            -2877054627329516769L,
+            -4507737793988796852L,
+            2487876385119765777L,
+            -3572883998562769136L,
+            -5144806742548167795L,
+            -5075663875956243906L,
+            203340585466765667L,
+            -8332174165044403713L,
+            2778163157269152916L,
+            -4933341263611542980L,
+            3420846132845460849L,
+            -4229930682621891745L,
+            -817538535384306977L,
+            -6811727288409986878L,
+            4168827981600610006L,
+            -5193383336559472626L,
+            -8746920189945530035L,
+            3040210454857237373L,
+            5807374445754065523L,
+            -1282051199647444004L,
+            -2073252539671111613L,
+            -2749743669181455728L,
+            9179318364300531326L,
+            -1510666462054804510L,
+            -5534239864917436193L,
+            2493160441216327629L,
+            -8919380333197594494L,
+            -9062732330387118788L,
+            9058643507076743751L,
+            -1512450192974685175L,
+            -2122010538212390892L,
+            -1596290598862708839L,
+            490051053269912523L,
+            7983114664857157203L,
+            -1097300895671406597L,
+            5836925928287512665L,
+            -8126077876697851893L,
+            5917365898824684257L,
+            5860448816219604861L,
+            2127380289920082812L,
+            -4491701499683310420L,
+            -8361816076529936397L,
+            6334801900373638940L,
+            6156722183907459432L,
+            2405252922057766090L,
+            -1788181409152722080L,
+            4036189275130495204L,
+            -2086574867511805190L,
+            -1202997283074534535L,
+            5563623481742967258L,
+            3411230324540523116L,
+            -4076275771254289238L,
+            8624811340763521805L,
+            6484838376886605713L,
+            -8709448209308212128L,
+            -9149649164508688002L,
+            -76923819570574884L,
+            6868087064842599713L,
+            -5357907247646713990L,
+            -8545143257560959572L,
+            2139315472476833319L,
+            -5669070010586261993L,
+            5831914704615918240L,
+            -8045056218296149983L,
+            -4219804678634123007L,
+            -3180157451171792587L,
+            8537225087104982310L,
+            1306589636785765574L,
+            6748889259906215766L,
+            -6758213754962038799L,
+            6106267448890071885L,
+            -6324814766964843265L,
+            -8692164316495157040L,
+            146245909481190173L,
+            -1232962371127453902L,
+            -5123312772699121436L,
+            1726412660171882216L,
+            -1965565563542538547L,
+            8490942865488918450L,
+            6317954536710380476L,
+            -5022037909751945766L,
+            8978608579263999680L,
+            -2468523962845519328L,
+            2889648689624020357L,
+            2259553799312552252L,
+            -3181892056670482922L,
+            8830705029422654548L,
+            -6361038276075574920L,
+            8076858319930831586L,
+            4235012455908752767L,
+            1725851772453207068L,
+            8994986795990486322L,
+            -4189388426548474003L,
+            -8358195690533008350L,
+            1715809093355307865L,
+            -5490347670775661683L,
+            -1059884547180628445L,
+            -885500122065406141L,
+            8150430556135389715L,
+            3871298459509854859L,
+            -4317453010625412126L,
+            -4134124175741741761L,
+            5406895839719610980L,
+            -3483650310438548595L,
+            2088717414460398628L,
+            -1443211712176444660L,
+            8977299223032412800L,
+            5836599637077481592L,
+            -3488477295354216609L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42_HIGH = {
+            521032897811460618L,
+            -1083202311181053324L,
+            -7337702626013743246L,
+            -4623042061436755085L,
+            6268377539508364843L,
+            938829222486574554L,
+            -463306929172838565L,
+            -2645182520182722041L,
+            4532226503811744710L,
+            1741410688780983802L,
+            919431705324322661L,
+            -273822999954021443L,
+            -697160852453748288L,
+            -3015981553027170098L,
+            4012430185503426782L,
+            -760317873446692669L,
+            -5037080231924782771L,
+            -7406533304212720174L,
+            4411704424439597817L,
+            2837483660325589981L,
+            -2956688795116296811L,
+            898161859115737372L,
+            8383513226215622304L,
+            -8417063090915561565L,
+            -4467237405731127233L,
+            -7547860716097474276L,
+            4848335525358372377L,
+            -816986770726232655L,
+            -4451284570387251088L,
+            7732969050682012107L,
+            -8267302934243181700L,
+            -5253731093664444529L,
+            -5685720419559546329L,
+            -875859609479364945L,
+            162434519559535596L,
+            -5477130056877090780L,
+            4660635046633120628L,
+            -1537348309073903484L,
+            5570247651067842082L,
+            -7522555403537801815L,
+            3414644371227189408L,
+            -2797885054203044684L,
+            -8251884448722762038L,
+            5957473204705368590L,
+            277079599265560300L,
+            -3077029809687214650L,
+            -4029912190287118874L,
+            -3530288317626370815L,
+            -7684473055256694733L,
+            -2987128472278690862L,
+            8500110715625531867L,
+            -2435632260781330876L,
+            -3403561511736228602L,
+            6154473372167143211L,
+            2843954169751438053L,
+            -8664765749130489859L,
+            4968881160391505012L,
+            -3248646693198410268L,
+            -3565299086768794956L,
+            -3147436664874546058L,
+            -8674629214985774372L,
+            8556544379054273403L,
+            -3016087291241828058L,
+            -6363859979126941089L,
+            -3445206199072063690L,
+            -1337299057396372664L,
+            -5680268715666405509L,
+            -7820386844382449280L,
+            2039858549856730510L,
+            -4247308872197604091L,
+            6995424656080319105L,
+            -5902273749066405344L,
+            -5266206702654472000L,
+            8774721739222162423L,
+            6040336990870863077L,
+            -4981492448180936409L,
+            5000187148700997719L,
+            1390194952776420895L,
+            915689351320480028L,
+            -4418542717546304484L,
+            2594467971654099509L,
+            -1033710931104307304L,
+            -244931326433554630L,
+            -6564732447630184841L,
+            -558244414335825743L,
+            -6158359220612051863L,
+            265953183110986635L,
+            2830218040305453753L,
+            -4723657831573748189L,
+            -5429549414599201424L,
+            8225494973435295976L,
+            926680318548330173L,
+            -4224084989812871271L,
+            -3252139624988399226L,
+            8949503711846572204L,
+            1544001190193082225L,
+            -4154134692521646629L,
+            8745681415446869534L,
+            5963445310746495973L,
+            116737664788265129L,
+            -7577487853192926375L,
+            4349425496955337663L,
+            -8362282910736065599L,
+            -8209320676399427827L,
+            4612222635315748269L,
+            5344528693135576234L,
+            -3771616707923884933L,
+            -800892179347026030L,
+            -743851142683408237L,
+            8954009381175218102L,
+            8866639322141493915L,
+            1800907786487505583L,
+            297587220689961250L,
+            -6854953428335764656L,
+            9023646880109944825L,
+            7026941987346509222L,
+            5904221230720366756L,
+            -1462816103871943183L,
+            -6670658377342777757L,
+            7607731314335006502L,
+            -3841238712352465949L,
+            -4071777954191093379L,
+            4828597069488516104L,
+            4855645997214673052L,
+            -4719130756374427877L,
+            5984859264303656318L,
+            -1322303650289213054L,
+            -4151303076824971534L,
+            6051693123365699903L,
+            7642652769059030578L,
+            2766679937849182528L,
+            1935884811312390516L,
+            -5395338390715283712L,
+            2476277041048548128L,
+            8162914851489850061L,
+            8662552211055380165L,
+            4132853867256129992L,
+            6424842284730387456L,
+            7668656450912369052L,
+            -1023517086663801432L,
+            1604824540529016318L,
+            -3302637235800081419L,
+            -3201304199101378818L,
+            1111134146760184400L,
+            -1431335126106035625L,
+            -1512178828005552540L,
+            1182039023414160308L,
+            -5460173703173045573L,
+            8934243710274185735L,
+            -4899744705785429772L,
+            -1337083156031699588L,
+            8533978881647084898L,
+            -2641779127501346953L,
+            -8552367127308456199L,
+            -4779632760861354015L,
+            6925663082075664484L,
+            2033859157804926412L,
+            2391104070584801586L,
+            2028601083202113164L,
+            -6992709646063014624L,
+            -8833978862118032452L,
+            5906303502842625052L,
+            -780037089281601585L,
+            3147172934496880713L,
+            2356126151252853753L,
+            -940400014111295107L,
+            -395102526113221443L,
+            -3278331938820614097L,
+            -8715144483756724836L,
+            7846266230847131314L,
+            4371712731965409524L,
+            -6885603100404704829L,
+            2029439610134670316L,
+            8278794635714382532L,
+            2035907092931451507L,
+            -7248003846730405269L,
+            -5734510176223192545L,
+            -550737490501445692L,
+            -6487812750280491440L,
+            -83787797759756306L,
+            -4575784855870624507L,
+            2852790876320833308L,
+            6098048022497750437L,
+            5493169930415489407L,
+            4348417867563483688L,
+            6423456996848685689L,
+            -8574475166331501342L,
+            -3156402881278011272L,
+            -493244587182912918L,
+            -4515030955937312731L,
+            -1124719424044805336L,
+            7172780181186314675L,
+            5203100941823816677L,
+            4062707320861663006L,
+            -871372028851599249L,
+            -8957206033986744208L,
+            -5205431912116562632L,
+            1130034154931354490L,
+            -8433981539645279173L,
+            -3407665306498605027L,
+            -4978364734043833061L,
+            5145786640568997860L,
+            390432312699114682L,
+            -7992291709197880204L,
+            -5661791465603042175L,
+            -5929461000917678933L,
+            3317674443342731116L,
+            364907717089968603L,
+            -9107061603831964751L,
+            2237408820895230948L,
+            -4129029815574692420L,
+            -566494491305470709L,
+            7442029817008388152L,
+            -6621013784920497551L,
+            4330385583068969216L,
+            -4737300789038109091L,
+            7229269272643303745L,
+            8588617927818005818L,
+            4033475437820798698L,
+            -681231586974551712L,
+            -5676645602005414300L,
+            -5224640926122577313L,
+            1903039218604044150L,
+            -1924253577857091679L,
+            7812868274055389580L,
+            6794678606155514919L,
+            287579111068547363L,
+            7082770240710760764L,
+            -3130343598890504424L,
+            8214289011489537005L,
+            8403575918686164892L,
+            -5565786766227959763L,
+            -4338651858349850278L,
+            -26819093370413293L,
+            405595601241234778L,
+            -3716629286502430434L,
+            -7754647731659661703L,
+            -9212372375901923587L,
+            7297643202461492152L,
+            7458793626321526834L,
+            -110982051848178693L,
+            -6583302498987453103L,
+            -8575230934457574357L,
+            -8670290093921869103L,
+            -1075569129616793007L,
+            129793007684514561L,
+            9019491269444937074L,
+            -517183554901327446L,
+            3462708229425187038L,
+            8617834572043996548L,
+            -8345983421600636074L,
+            430366759252130431L,
+            680574945257835924L,
+            -8225128126059612123L,
+            -2554907767834372537L,
+            4433156825128027576L,
+            5177774312030372551L,
+            -6353159864993498556L,
+            -725579919914724566L,
+            -6802782515073910363L,
+            6154882745505293832L,
+            -7652934245066003424L,
+            5988202839353069277L,
+            -8868427169554761952L,
+            2554621468793634547L,
+            -1935420975326354397L,
+            7191228035431025306L,
+            1007982724610908077L,
+            786104865610662977L,
+            -841851721509077910L,
+            -1971910097157764698L,
+            -3191590344586555312L,
+            5659581981828019017L,
+            748626406086693556L,
+            -6734117515463603498L,
+            332067969030827792L,
+            9194808662321557905L,
+            6087761822064334689L,
+            8826577566833576261L,
+            -6195274780397816009L,
+            -8759779036968632041L,
+            -94372042379142343L,
+            -2241260893567704259L,
+            -4062400589551128256L,
+            1406696365624728664L,
+            -5359624816760941310L,
+            -7040531999971756700L,
+            -1485386921629375929L,
+            -7452530251097899152L,
+            7969362083995218203L,
+            -5663555057093206410L,
+            9103748820175132106L,
+            -7848492790790793501L,
+            5100349263509131819L,
+            71363888278219592L,
+            -5764913322909480075L,
+            -622199247848324982L,
+            -2036290236181690614L,
+            6495970462441529733L,
+            2669974038033880261L,
+            9089365434019361135L,
+            -4110547810133637059L,
+            -4063063981846576193L,
+            -4720653093228514019L,
+            8620360570407655620L,
+            8619916091999037783L,
+            -6958167662117788126L,
+            -1972483932579350212L,
+            -1985139402608980038L,
+            -7487569116291239474L,
+            4518805467037289030L,
+            -6942384711212904338L,
+            -7523677118005656307L,
+            3536072398214012491L,
+            2206933481905387850L,
+            -2272773699695804718L,
+            -7432953031710212133L,
+            -6560354819160247032L,
+            -5153085382075548403L,
+            5322590933190136204L,
+            -6385064550341892565L,
+            -9038786534265095220L,
+            -7414436075637595870L,
+            -9121921564179966979L,
+            3175785594037437210L,
+            486736766313480486L,
+            -7857359419468852178L,
+            -3319696307161313508L,
+            8978309033869977691L,
+            -4110328931055665064L,
+            -1700817627330728941L,
+            -4272610422380155146L,
+            7278033345263742192L,
+            2847092023605074360L,
+            -7507625970671881249L,
+            -6867199823811091474L,
+            -7284563936682911558L,
+            1754442647637297747L,
+            -7082549459219283469L,
+            8601331145942675654L,
+            -8602770125513324930L,
+            2107081746288512188L,
+            5482111999058538620L,
+            -8165816251696238206L,
+            2748387372742920737L,
+            -6152941645622579753L,
+            -3047312394721090841L,
+            -8488485779192166828L,
+            3038807702220748844L,
+            1258399394194865699L,
+            -5462948214833895038L,
+            1226319014823826768L,
+            -7858659980578140388L,
+            -5643755395411754286L,
+            1567125066968546965L,
+            3596981224507698266L,
+            4503636024077366030L,
+            -2188259490988668656L,
+            6464765892555677193L,
+            375530670446536794L,
+            -8866242082006421334L,
+            6854749694530157953L,
+            -2055434964166191879L,
+            5665407480392287597L,
+            -8839680439830067350L,
+            -7680275848946848703L,
+            -2680927161661335383L,
+            -4636916998421871152L,
+            9023517333797308852L,
+            3453418987758551406L,
+            2663133389281772018L,
+            4939020334362209281L,
+            -4731197018281051445L,
+            -1298047276995083515L,
+            -499417480228258797L,
+            4029587006901107021L,
+            5205429572070567303L,
+            -643533944605967356L,
+            -2159777044250667804L,
+            5954572745363659527L,
+            -1012323010685992049L,
+            3167312350390515575L,
+            7859117044136665854L,
+            -5416003023205315738L,
+            -5102202861681843601L,
+            -5673884526979325731L,
+            -7596937871945411175L,
+            -1196647712691040544L,
+            -8142972938696208154L,
+            -4761758916707882673L,
+            5780176130628083995L,
+            -3222118225991894642L,
+            -2692455229287743019L,
+            1495153624725938450L,
+            6557602630102445010L,
+            6570123127833867169L,
+            -7775081169940766734L,
+            1506009797788047567L,
+            5837223904277973518L,
+            -8695376698702369954L,
+            -2859492599409411351L,
+            -9103270748204829013L,
+            -3530662715568548668L,
+            -7691716913906381503L,
+            -8374308631621177142L,
+            -6260534173958648143L,
+            899637618905481702L,
+            -7387998115903376362L,
+            8015762736858668716L,
+            3128075749009826955L,
+            -5358527295768537885L,
+            2275908968358083470L,
+            7356673222239587303L,
+            -6996205197707775022L,
+            -8886418582308692539L,
+            5001286558719840634L,
+            4488681634505265242L,
+            3357708776542844816L,
+            5320872361277183745L,
+            1697021632033083254L,
+            720652767560529391L,
+            4561715130947759358L,
+            2801313760693023406L,
+            -8379459445313674519L,
+            -6633299115766096406L,
+            -2338768774671719013L,
+            -3427871187621200303L,
+            9094873507143619314L,
+            -4495967110045519358L,
+            -7199784487284914731L,
+            -6478522479303536956L,
+            5939010934646526913L,
+            9028866905312590030L,
+            3463924786420042979L,
+            5522450046782119836L,
+            -5923264761969374326L,
+            5042122947254943885L,
+            -4915768658043804460L,
+            -1909529302784482905L,
+            8954936230972057722L,
+            4607190383455932182L,
+            7800996241922605813L,
+            2388758587171761664L,
+            2002184707650219182L,
+            6108934487547291234L,
+            407596626926627304L,
+            6938360000206681657L,
+            6210862146100933850L,
+            3722900132152186991L,
+            2689940899020448647L,
+            -6615619624260250247L,
+            -8582915539520137083L,
+            -9137815243404281677L,
+            -6031528315194094351L,
+            -8995485706274932714L,
+            -9042801787577540069L,
+            2911528369461807419L,
+            -5940125311794754463L,
+            -8123115887120589137L,
+            9107929211325446680L,
+            -3150396597204077221L,
+            -5890183035577692323L,
+            5239959883229243464L,
+            -828791101111764169L,
+            -2426499080687583046L,
+            -683056996704391962L,
+            -7904738553837437395L,
+            1338922684071006962L,
+            4239435039200688098L,
+            8036589161147456103L,
+            -7329287345944501075L,
+            -8540037279699938884L,
+            2013891386918887049L,
+            4181258866836469851L,
+            1073437138895703312L,
+            -5697640280982557760L,
+            -765475872462186753L,
+            -3028173738358993484L,
+            7635930335094332885L,
+            -7225486913692917988L,
+            -571867790722023315L,
+            1458989766996447906L,
+            -5644135521279427086L,
+            2320690449457377918L,
+            -5666660296339759253L,
+            2446374103038228120L,
+            -7085536184436210413L,
+            8897397873205823793L,
+            -1172133015767790849L,
+            3942037168691132992L,
+            -5458174316324945921L,
+            6714212497908711719L,
+            7688991958102508429L,
+            -2244675066042004498L,
+            1211931654690688427L,
+            -3021719498669309974L,
+            4195121083252744213L,
+            629942637967424456L,
+            1747277118026125328L,
+            1014457111891247502L,
+            -1211704043967538126L,
+            3245201050077321456L,
+            6005881493697455153L,
+            -30514937084131124L,
+            -508302771163446664L,
+            -5256622318313851569L,
+            423314351376172268L,
+            7524281035081105252L,
+            -6656246521845315492L,
+            7161693487055481582L,
+            9080453780524272367L,
+            -6157260646961773016L,
+            -8666680703122146624L,
+            -8504007371405814362L,
+            4385934053331498208L,
+            2582660261086506877L,
+            -8095605617318659844L,
+            -4827771962197852368L,
+            -1430173696556666864L,
+            -7538887506194421009L,
+            -6701885376030154179L,
+            -3070275905680394923L,
+            -6858119854227273644L,
+            -6772652856613382030L,
+            -3317544597514283861L,
+            -5671080148869534739L,
+            -7009297181682785218L,
+            -8303390960974943250L,
+            -4530661924180030909L,
+            7584064509619539218L,
+            393329884235390919L,
+            241464861610617806L,
+            -6240457366382300816L,
+            6553761984467008897L,
+            890565198073155436L,
+            -3770206467625079384L,
+            -6879517636961666435L,
+            1145975067074202102L,
+            6910196111383405225L,
+            -4015657607858054141L,
+            6966197076421851228L,
+            5545638466860304340L,
+            -6601215755922946412L,
+            -4224472607573772712L,
+            -6128736711009894164L,
+            5881099056369229867L,
+            -3734321524335979570L,
+            4470013964941324046L,
+            8279250237045199132L,
+            -2417279459362242199L,
+            2057535041356551014L,
+            -5813363093374126650L,
+            8289835507514592956L,
+            3093243230619384597L,
+            8508125979865398664L,
+            3236902610226695320L,
+            7131226702767397968L,
+            -1475329679075057078L,
+            -4585245307661262985L,
+            6396424793133012927L,
+            -9208594603401840651L,
+            1974561094249233124L,
+            -2179047208958674539L,
+            2489527390613973119L,
+            3572169332029053840L,
+            4407789310023654545L,
+            -870988562317433578L,
+            3460692220985463339L,
+            72989679198009094L,
+            2961035097123562977L,
+            -3611962977369303460L,
+            -3519046253855643356L,
+            3631244641690866180L,
+            -998467403808945069L,
+            1136657163816541889L,
+            -6314156734513389442L,
+            1297388091015844899L,
+            -8092274032842714685L,
+            -1056320391761330627L,
+            2838008266791797859L,
+            -5976596233458851109L,
+            -2670907915516153327L,
+            -6577601835622922229L,
+            1122524871986475420L,
+            4765356369942717615L,
+            -6126983307799690442L,
+            -7111746712393669688L,
+            -157442794035432735L,
+            5182286753038119862L,
+            -8491589001869230429L,
+            -6716730065571775392L,
+            -2044215373243595295L,
+            -7834445035641340330L,
+            95422363409833652L,
+            2757406674844452929L,
+            -3224583135556205025L,
+            6089908904699326732L,
+            1422675561366737300L,
+            -8045332396131646539L,
+            -6961705709695878019L,
+            320958666223950159L,
+            5439248106153897349L,
+            2457634261059179362L,
+            2627342042418122221L,
+            4909756084768387692L,
+            7922535007340136465L,
+            845004664460825231L,
+            -2545608541904759389L,
+            -7608426605933873926L,
+            -7860813996450942380L,
+            9003842647447749771L,
+            5019555523111321468L,
+            -6365874186658238340L,
+            3564517421206054592L,
+            -8042498747974741097L,
+            -6316651077878796523L,
+            1562318564850257978L,
+            3954974153229278706L,
+            7243961983419821588L,
+            -2190120809753043543L,
+            9128194642931064139L,
+            -6724700807568136883L,
+            -1309114479503571423L,
+            -1370350663258685789L,
+            -8712961682075716687L,
+            7234251245621096481L,
+            -2068448420052887133L,
+            -7913734574015117765L,
+            -1336163288003916790L,
+            -3625542654861738018L,
+            3364230101201263958L,
+            844620684210417905L,
+            -4545393599811469836L,
+            -3979466547196881706L,
+            5935122339092669291L,
+            199886326798390744L,
+            2982891929652577818L,
+            -7453147152499669162L,
+            3452782072159377245L,
+            -8948870373603639972L,
+            2007415362160200444L,
+            6255446565993816471L,
+            -5058080357233249814L,
+            -5892980994515837663L,
+            -4262444358620723289L,
+            5276828939694617280L,
+            7596301515635748795L,
+            -6948869182153458979L,
+            4882209644220581917L,
+            -5938835037291163420L,
+            -5209624377197990420L,
+            6699274199505190791L,
+            -6627342792443486854L,
+            -4169464595445983356L,
+            -6241696181223791158L,
+            5547234832822602177L,
+            4878191301603351812L,
+            1215005460830312427L,
+            -1348561792701572159L,
+            2095714058741170932L,
+            7316130457053525394L,
+            -2004904008374432060L,
+            1145957241617233887L,
+            -1128581837967025236L,
+            -4750093359994156671L,
+            329311263355810808L,
+            3393549410603464137L,
+            -5399807068132140237L,
+            622036351310628893L,
+            4090151449919663564L,
+            -1488252684231980801L,
+            1210260389616468954L,
+            -5989657791979052370L,
+            -2013752847109437287L,
+            4285252683811667291L,
+            526147429870354448L,
+            3953531872474245766L,
+            -5287932706385987731L,
+            -7722750064760432825L,
+            1978006222556583280L,
+            1907075925085354592L,
+            4586592251768260089L,
+            -8550295421251869417L,
+            -1219572464636805074L,
+            2228797854483034163L,
+            -8573099696259071832L,
+            4819421202596769011L,
+            9210538818796815222L,
+            -2511689445927546619L,
+            -9029118021315488882L,
+            -3294427630122402L,
+            -7945543055434255724L,
+            -8377232408287834434L,
+            -8994903843129676756L,
+            -6981255005370502713L,
+            2072875098295105292L,
+            -8385056340420755222L,
+            -8267974820837337602L,
+            -7953600267519185887L,
+            1522692609200670048L,
+            8383528759286196671L,
+            1837113862500493706L,
+            5690021872818874484L,
+            487399806975193763L,
+            -4397234300751058937L,
+            6737200925623299728L,
+            -7858394655488492100L,
+            7680109203505344625L,
+            -8870224445173956076L,
+            995553688109349619L,
+            7778075094997188958L,
+            -5912792890719353388L,
+            8540960972426424381L,
+            -6172137955756616642L,
+            3202844251272405410L,
+            -8566400646732953789L,
+            1555508934358608485L,
+            -7312896717409615103L,
+            -7013190794020456495L,
+            1033262069795679953L,
+            2122070164618581347L,
+            1974107691500670370L,
+            8668675300537704731L,
+            -310983391702392292L,
+            -6759534871714851697L,
+            3193018908867144186L,
+            -8425233193695297303L,
+            -5488610570351579211L,
+            8716087721780127268L,
+            -4197793758873901244L,
+            -266120632299482565L,
+            5962722864315631150L,
+            -9180537909533427987L,
+            -7739491009451126445L,
+            3805187592351197669L,
+            3539003690864689760L,
+            4161797166525744416L,
+            3655259209522952042L,
+            -8873562525865458884L,
+            6770526510167785980L,
+            1499059210895178768L,
+            6347624899148999L,
+            -7272720390434449892L,
+            -4271251323089603550L,
+            627197221778513528L,
+            4020937214175153671L,
+            4154038348168153370L,
+            6816112648284121875L,
+            3476336997043468493L,
+            -2712913676508207547L,
+            8850356548745994232L,
+            984447254287888758L,
+            -4858076751241794307L,
+            4102913921055401128L,
+            -3112842118215331609L,
+            4939022287997628726L,
+            -5913125474415600108L,
+            -5047102006500759461L,
+            -7446722636684351255L,
+            -3413600291875722225L,
+            -140848855693076225L,
+            -2388127460335630010L,
+            -1307752029179078786L,
+            -3356772352640197396L,
+            -3129182538573182178L,
+            -5468572535164008281L,
+            -3876648247756315222L,
+            1873485532632729314L,
+            6182527118421986912L,
+            -1643372402634275127L,
+            -905320939753570558L,
+            -6883697109628243309L,
+            -5650770214332464833L,
+            -1671291098680227178L,
+            -8564089047792297462L,
+            -5132331794115936842L,
+            -6727764241138181133L,
+            -400927106138614669L,
+            799634102513003813L,
+            -1142015920014012956L,
+            2808891170735664611L,
+            4611015042407233791L,
+            -8461010234078868680L,
+            -7122581106981472503L,
+            1627003362376631321L,
+            -2429588657541785035L,
+            -6843633156271796635L,
+            -7816204585051661546L,
+            5987506534613172061L,
+            2222523772554632539L,
+            -498896073502970638L,
+            2744343097956570575L,
+            -7644525581230403649L,
+            -1134591057300240871L,
+            -921809688219739871L,
+            7509630011370217868L,
+            -628300747759827232L,
+            3277415460990934188L,
+            -1544213473797541008L,
+            -3884610150620068274L,
+            6562234633060613811L,
+            -1435813661351050003L,
+            -6019204553804855050L,
+            -666324931537962271L,
+            5102856230398958218L,
+            8378314741394878992L,
+            -960547625146756530L,
+            4794338226502304374L,
+            5844271931770657390L,
+            -3761137942859204831L,
+            -690937058067048057L,
+            3300470021337357869L,
+            447844525412473602L,
+            1754423635547382571L,
+            -2841983512210737151L,
+            -2870300294261403795L,
+            1902084565857818937L,
+            -7966859559744994350L,
+            -1962038621683840688L,
+            7650933119213008688L,
+            -2385076562738171708L,
+            7002598525336063749L,
+            -8800782052521102318L,
+            -2626117591301665991L,
+            8545863154261680052L,
+            387550804798598524L,
+            -7076724260723296211L,
+            330648708818425888L,
+            6763031357378761899L,
+            -8162572802559166713L,
+            -4415715767665224577L,
+            4986993061252570512L,
+            -7041859008532574387L,
+            -914316672232870975L,
+            5039732487268258524L,
+            4011646559977053584L,
+            -7879276335851471843L,
+            6301392900201650954L,
+            -2984918111468175663L,
+            3282133778639003924L,
+            -6674109095570768616L,
+            6904721197111657981L,
+            -2709437378181705824L,
+            7227456352710833905L,
+            4339722146230669670L,
+            -5017640280929818379L,
+            6196909549352758171L,
+            6011393625422323515L,
+            1785161505877809688L,
+            4376630798619030276L,
+            5445071840733658125L,
+            8743228046267178929L,
+            -842563666601089954L,
+            -3655022713149458481L,
+            -1262905606955056831L,
+            -3841421537001029438L,
+            -2372403008472165605L,
+            6697218101907302662L,
+            -8175520376144674567L,
+            6166835358727318091L,
+            -1631874222486392245L,
+            6516321715733814464L,
+            6300145241993384693L,
+            42099728867649388L,
+            -8207461164459791589L,
+            -3553183532220455043L,
+            -3125849387350318656L,
+            -5501827311426031142L,
+            1415302229817070347L,
+            3054515053451666419L,
+            7926682333107359136L,
+            -3119312592523320090L,
+            -7205782700959509627L,
+            1594598758593997532L,
+            1189422382492395992L,
+            -2977960070096348447L,
+            7749467037844004955L,
+            -5513568235846240180L,
+            -6207886533850003825L,
+            -5808598067156066425L,
+            -8672948116906842506L,
+            -1603110715136458823L,
+            -8934917981991668246L,
+            -7354053467876237503L,
+            -265378284328666698L,
+            -7785624408691345333L,
+            -8895440980518300478L,
+            -7463225885563210526L,
+            -3526058825162047193L,
+            -5466425938511667139L,
+            -6529144840549629727L,
+            5280682283810832970L,
+            36470313919425546L,
+            -563975782890365892L,
+            7410134371513167966L,
+            -218092488985317476L,
+            -1616529512603685217L,
+            4435660802528427781L,
+            -5593109393891499913L,
+            -8995297162753225413L,
+            2431446261291854282L,
+            8752949346118340987L,
+            -7612767933574556236L,
+            -5551983676985591219L,
+            -3095917853166988204L,
+            6014756889329881939L,
+            -3095042325709384325L,
+            6867290647607020083L,
+            -271880727198843995L,
+            -6845742082234462120L,
+            -5717408009961123494L,
+            -8535307126611217826L,
+            -161648273577998310L,
+            5655819182560545549L,
+            -1264153345735066627L,
+            1444345292957975813L,
+            1114900720417055147L,
+            -5829587001155433880L,
+            -4509539947708421896L,
+            -2399402354150875192L,
+            4781598891703519811L,
+            1256812806790470818L,
+            -5885641022725044561L,
+            -2701205451095468825L,
+            -1878657125782785426L,
+            -1063389438043238844L,
+            7558217197363598684L,
+            1196173602055750916L,
+            -4760387692836875605L,
+            4800339304088589489L,
+            -3729354994540153324L,
+            -7869725146322527915L,
+            4713350586260697453L,
+            -5450583176504896892L,
+            -4344980362575359791L,
+            -3926445781439352634L,
+            -6281764377872477435L,
+            -5921312335695676321L,
+            1398782849124759831L,
+            -6784417448847216222L,
+            3696732724965513242L,
+            -3593974256582873519L,
+            -4321237879880952685L,
+            -4770756311150085516L,
+            5573922171370641817L,
+            -8743817257234305225L,
+            4364423848543741384L,
+            -7048678386672089886L,
+            -6454476742524594657L,
+            1320861162956990505L,
+            -5883244532235766209L,
+            4129034063295196444L,
+            1430867664989544772L,
+            8113923989201318564L,
+            7891326765762639799L,
+            1337805528094865545L,
+            3195491853199451049L,
+            6899869661865147188L,
+            -2503939859035509113L,
+            7696755583068697045L,
+            4132744164779000965L,
+            5704652119956027112L,
+            -7198311438032450995L,
+            -3928075575940091817L,
+            7684900173387663203L,
+            -5640932679992212097L,
+            4823181195737574894L,
+            8910953614121867560L,
+            2593743675792265629L,
+            6629075389938875068L,
+            -7825869574670351875L,
+            -5158532095350664793L,
+            5398734827230178060L,
+            -8478777381805798029L,
+            -3180450701064286194L,
+            -6102088960763715930L,
+            -3369882979427734411L,
+            556460855209042886L,
+            6626407330590499136L,
+            -4370786583076813811L,
+            8144704083147834184L,
+            -256389684216528362L,
+            5815675070822449296L,
+            -2581324960356658399L,
+            -2920062327031625826L,
+            7791555858232240871L,
+            -2326390174412595633L,
+            -5918809548653315755L,
+            -6841264658165344061L,
+            5009077998354397603L,
+            -8279449147230068528L,
+            -4939839582802171251L,
+            -162585862653171198L,
+            6395253984857850639L,
+            7296959273820124589L,
+            -2658146468970231952L,
+            -4052311391665438642L,
+            5668175365505887840L,
+            -2022725621480017696L,
+            -6655722665333513257L,
+            -2622756544706166775L,
+            -111607864633786249L,
+            -7072032433769945599L,
+            273679315950005176L,
+            -407069544160061176L,
+            -4189022336942494393L,
+            5972555240519005798L,
+            -3318579795779021685L,
+            -7107870413412674971L,
+            6341757925573234108L,
+            5482279095349603939L,
+            9208506222707421839L,
+            3057501508116923502L,
+            -4169226568503921609L,
+            3714114050036843792L,
+            -6977436712448400800L,
+            -6291461966160242810L,
+            -7913714242756960268L,
+            4746375055929081219L,
+            -1095332250184890389L,
+            2843076995813709818L,
+            666416420561651656L,
+            -7470275970449509534L,
+            1350582311411679261L,
+            -777210872275529787L,
+    };
+}
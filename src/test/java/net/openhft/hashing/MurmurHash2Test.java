@@ -0,0 +1,4210 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class MurmurHash2Test {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+    @Test
+    public void testMurmur2WithoutSeed() {
+        IntHashFunctionTest.test(IntHashFunction.murmur_2(), loopingBytes(),
+                HASHES_OF_LOOPING_BYTES_32_WITHOUT_SEED[len]);
+    }
+
+    @Test
+    public void testMurmur2WithSeed() {
+        IntHashFunctionTest.test(IntHashFunction.murmur_2(42), loopingBytes(),
+                HASHES_OF_LOOPING_BYTES_32_WITH_SEED_42[len]);
+    }
+
+    @Test
+    public void testMurmur64AWithoutSeed() {
+        LongHashFunctionTest.test(LongHashFunction.murmur_2(), loopingBytes(),
+                HASHES_OF_LOOPING_BYTES_64A_WITHOUT_SEED[len]);
+    }
+
+    @Test
+    public void testMurmur64AWithSeed() {
+        LongHashFunctionTest.test(LongHashFunction.murmur_2(42L), loopingBytes(),
+                HASHES_OF_LOOPING_BYTES_64A_WITH_SEED_42[len]);
+    }
+
+    private byte[] loopingBytes() {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        return data;
+    }
+
+/**
+ * Test data is output of the following program with MurmurHash2 and MurmurHash64A
+ * from https://github.com/aappleby/smhasher/blob/master/src/MurmurHash2.cpp
+ *
+ * #include "MurmurHash2.h"
+ * #include <stdlib.h>
+ * #include <stdio.h>
+ *
+ * int main() {
+ *     uint8_t* src = (uint8_t*) malloc(1024);
+ *     for (int i = 0; i < 1024; i++) {
+ *         src[i] = (uint8_t) i;
+ *     }
+ *     for (uint32_t seed = 0; seed <= 42; seed += 42) {
+ *         for (int i = 0; i <= 1024; i++) {
+ *             printf("%d,\n", (int32_t) MurmurHash2(src, i, seed));
+ *         }
+ *     }
+ *     for (uint64_t seed = 0; seed <= 42; seed += 42) {
+ *         for (int i = 0; i <= 1024; i++) {
+ *             printf("%lldL,\n", (long long) MurmurHash64A(src, i, seed));
+ *         }
+ *     }
+ * }
+ */
+
+    public static final int[] HASHES_OF_LOOPING_BYTES_32_WITHOUT_SEED = {
+            0,
+            -380735811,
+            -1830590703,
+            -497713103,
+            -1533519480,
+            1493460814,
+            -788753300,
+            1076244380,
+            -881072960,
+            -1800190064,
+            -847226054,
+            1954698031,
+            -715510958,
+            -1508303039,
+            -1902697820,
+            -2122000863,
+            1597769539,
+            -1314204809,
+            1432751706,
+            523804867,
+            2081739600,
+            -1688639763,
+            678908751,
+            -42900544,
+            -1933039302,
+            1824167138,
+            -581068808,
+            -488885633,
+            -1757499865,
+            -1552096884,
+            -1854327906,
+            494759649,
+            -239309789,
+            -1856345791,
+            -1532168862,
+            707742526,
+            540988301,
+            853784945,
+            513834743,
+            4250096,
+            1079837554,
+            -1946896631,
+            966380970,
+            -1991217340,
+            -86550497,
+            1473582837,
+            -1811846548,
+            -9913128,
+            582919322,
+            -1365677255,
+            -1775139248,
+            655487822,
+            -345586020,
+            -1615436179,
+            -105553058,
+            276198161,
+            -2083877653,
+            -231421297,
+            -1096759876,
+            110229683,
+            434321905,
+            2078708153,
+            -129270187,
+            -1608439090,
+            -1696622077,
+            960557441,
+            1821840668,
+            -1053761100,
+            418337214,
+            -1246798047,
+            919108689,
+            127330715,
+            -1462268769,
+            -1855790783,
+            156210620,
+            1257816030,
+            -541776149,
+            163921979,
+            -916523648,
+            -1398597568,
+            570978358,
+            -345845998,
+            -1087681204,
+            -947311378,
+            2033908109,
+            -1821205594,
+            -2107036025,
+            1298686905,
+            -86415822,
+            1891235992,
+            -979174081,
+            1273840040,
+            -540965818,
+            637673107,
+            -1964307620,
+            -1954397937,
+            1603114024,
+            1104855469,
+            390811896,
+            -1623170170,
+            1442862840,
+            2084562155,
+            464919341,
+            -1739685413,
+            -1484174434,
+            741735613,
+            2041039609,
+            1540150203,
+            480856747,
+            2084516989,
+            -344787451,
+            2090303677,
+            639071412,
+            -2040470435,
+            -2007135287,
+            -1235365905,
+            -1358147990,
+            736883886,
+            -572125244,
+            -1601911371,
+            -1391361623,
+            1614962247,
+            1909266691,
+            1960126488,
+            647807249,
+            -1924663781,
+            -626522687,
+            -892135163,
+            -258355697,
+            -1627700149,
+            -1865639562,
+            554905186,
+            1013233451,
+            691025270,
+            1169282592,
+            -1107025647,
+            158385215,
+            236371243,
+            -816986914,
+            -1364850957,
+            -1909301313,
+            742757061,
+            -1274227319,
+            -1905139212,
+            1280139196,
+            -864178749,
+            297031765,
+            -82441278,
+            -1635563630,
+            1415951475,
+            860286819,
+            115830145,
+            777434344,
+            1476419309,
+            -1728146325,
+            -1501278576,
+            811655292,
+            -926401416,
+            113126156,
+            -630155290,
+            -681884084,
+            -844874918,
+            1056422479,
+            266339065,
+            610613086,
+            -1211288156,
+            -1922806029,
+            1019809250,
+            -377319314,
+            -401150475,
+            286646768,
+            -1695998079,
+            -317142535,
+            -1418805304,
+            -316286177,
+            -2019197445,
+            67076540,
+            1307355559,
+            662992553,
+            1243960204,
+            1159677685,
+            -1508492341,
+            919299132,
+            -1808193103,
+            544203846,
+            -952589075,
+            -1722777200,
+            -1502842908,
+            1478528373,
+            1232896373,
+            975435713,
+            1449768780,
+            -727815461,
+            660690593,
+            797679585,
+            2052473808,
+            -1563907539,
+            -1727471939,
+            1730748738,
+            -1332340851,
+            -1787323277,
+            23593637,
+            309494051,
+            -535036709,
+            -1673464666,
+            -1330374644,
+            -956644963,
+            -910898933,
+            149590934,
+            988138238,
+            953963224,
+            1334669786,
+            1155127953,
+            -1931252660,
+            918255110,
+            1987595997,
+            -38804538,
+            -1397607795,
+            -1291904758,
+            -1925830311,
+            1603663015,
+            286300178,
+            -198957390,
+            282011333,
+            644387809,
+            -1838304182,
+            -1176005644,
+            579749475,
+            1102647386,
+            1253656780,
+            -540324489,
+            -598613339,
+            2037515169,
+            -2036936828,
+            1186633471,
+            124567283,
+            806313241,
+            -1186081348,
+            -2147038036,
+            -1498711706,
+            -309425072,
+            1587406645,
+            533124995,
+            -1411275151,
+            -322062091,
+            -27860496,
+            -186208727,
+            593514731,
+            -1517927955,
+            467692045,
+            43675778,
+            1350417591,
+            -1790874972,
+            80030810,
+            -1747557175,
+            -993359763,
+            -1921840746,
+            1941176050,
+            1218533450,
+            1052330697,
+            -1202887,
+            -1894814433,
+            2143074122,
+            -505335778,
+            -1306251577,
+            -2017138411,
+            -512066757,
+            -726164318,
+            -947768222,
+            -1444099559,
+            1691107501,
+            -2099553757,
+            1764528290,
+            1883470820,
+            -1574464177,
+            805817565,
+            154752008,
+            583981219,
+            1366401300,
+            -1174502951,
+            -746342313,
+            1105254873,
+            698093763,
+            1650684520,
+            1961312143,
+            -919590872,
+            -1146234857,
+            -98385738,
+            140621881,
+            -1190524788,
+            809594060,
+            162426561,
+            1924348315,
+            1450195460,
+            59678812,
+            -2036809702,
+            -568652800,
+            596976847,
+            -867881906,
+            -1729218707,
+            1081235957,
+            115889202,
+            16282216,
+            -876640532,
+            -1683116558,
+            1214606120,
+            -191338196,
+            690313798,
+            -1538379454,
+            -1551357712,
+            -1688916613,
+            1730257157,
+            -1236329244,
+            -923276602,
+            -774770558,
+            -203746889,
+            -143037466,
+            -578403319,
+            -367294318,
+            -2119300967,
+            -2097486223,
+            1808192385,
+            -2089212783,
+            -1915401348,
+            1595771230,
+            496217169,
+            -1359091189,
+            -2003059656,
+            2099534601,
+            1192627544,
+            1271373621,
+            823144970,
+            118377905,
+            -1621679706,
+            101526170,
+            1115491259,
+            -2121701433,
+            -363230510,
+            595328466,
+            -1510005549,
+            -1809061847,
+            -969024632,
+            655976535,
+            160133400,
+            1282146339,
+            2025259031,
+            481105852,
+            -1743077135,
+            1990191796,
+            -1631260044,
+            -64763629,
+            1072661188,
+            364371459,
+            352124802,
+            102993913,
+            176171544,
+            1942279690,
+            -1085135366,
+            -370404151,
+            -66635039,
+            2038532040,
+            1560533367,
+            933308199,
+            19982491,
+            360093303,
+            -1429835005,
+            -2064578963,
+            -1128488760,
+            -583291667,
+            988792285,
+            870366512,
+            -1474329726,
+            1073521662,
+            1359187988,
+            -1672377867,
+            -166196600,
+            -650271482,
+            -2110386069,
+            1579774825,
+            1735586536,
+            106310626,
+            146622849,
+            -1150545669,
+            -879847055,
+            1849581036,
+            1576590774,
+            -1809891777,
+            94224195,
+            -1126467994,
+            1014749251,
+            738673121,
+            432294339,
+            988031412,
+            1671294030,
+            -1607665472,
+            -2047251154,
+            -2102067251,
+            504072884,
+            -2007287349,
+            -472209345,
+            1521576678,
+            429360619,
+            -1610211181,
+            -697456564,
+            -840187125,
+            152763385,
+            1044269282,
+            666280372,
+            1116057336,
+            892231975,
+            -1372475740,
+            -1806193068,
+            1690694631,
+            1581370140,
+            507317433,
+            -1772114977,
+            81046980,
+            -73511617,
+            -1803875951,
+            1996051164,
+            -1838533027,
+            347585122,
+            -707575495,
+            -1337937900,
+            1469653351,
+            -1605498055,
+            1238552712,
+            -1942083951,
+            319113971,
+            1523070785,
+            1733701848,
+            -1576346079,
+            1202276635,
+            -266062280,
+            -1920757235,
+            817616967,
+            1948462691,
+            -126269896,
+            1671787066,
+            -947488359,
+            821243764,
+            -156449114,
+            -668502398,
+            -2062136487,
+            -1583369054,
+            1685053758,
+            -30082508,
+            1153484603,
+            -1981403829,
+            -1277493695,
+            -490807540,
+            1359222184,
+            -1748615044,
+            1361406645,
+            -554906548,
+            1110240600,
+            -2098027748,
+            -318277319,
+            -1646754948,
+            -1595394375,
+            2079007734,
+            -1253349386,
+            1814027314,
+            500697045,
+            -376749275,
+            646152635,
+            167079032,
+            1815023093,
+            1168804723,
+            1322556972,
+            -1185585943,
+            -607501542,
+            -1937577836,
+            1731798596,
+            -545393074,
+            -243777247,
+            -1829837184,
+            -1072338220,
+            -347762095,
+            1274010969,
+            -857048157,
+            1688213979,
+            400552569,
+            1682547613,
+            -694107274,
+            -1500964534,
+            -1119078644,
+            1833742054,
+            -1795611969,
+            -1749368900,
+            1877755291,
+            -251373260,
+            -1399845525,
+            590679762,
+            -629862220,
+            188908429,
+            -362021097,
+            1517011673,
+            655881807,
+            -576951915,
+            955916522,
+            -1992391967,
+            -1448798605,
+            1578641018,
+            -1605430292,
+            1553187439,
+            -2144356472,
+            1775963935,
+            -770740204,
+            -624056416,
+            -60189697,
+            -883227112,
+            -897333321,
+            655532279,
+            915037222,
+            1896225230,
+            1385538988,
+            1483823840,
+            -650957284,
+            -1215437462,
+            -674233140,
+            -987811899,
+            29404421,
+            195558739,
+            -1860122158,
+            1669872647,
+            -225238745,
+            528787377,
+            -1669655941,
+            -462751915,
+            717542446,
+            -44994224,
+            -3081305,
+            1028613485,
+            -1890985960,
+            1831792581,
+            -1430366176,
+            -281304557,
+            591535233,
+            -370917437,
+            -1788243628,
+            -454619098,
+            -1896408465,
+            987402838,
+            1238581290,
+            1524659663,
+            -80989219,
+            1680464033,
+            1558376414,
+            1849285314,
+            -334224607,
+            314820528,
+            885738458,
+            -2007741292,
+            2105113765,
+            -604037030,
+            580844715,
+            1537171256,
+            324080127,
+            1204644195,
+            1867433644,
+            -1569545237,
+            -377781726,
+            1515810869,
+            -2135380410,
+            -1860044753,
+            691965769,
+            392513679,
+            454565642,
+            866660371,
+            1166061353,
+            676913550,
+            -1977207759,
+            1761963623,
+            72422413,
+            907643454,
+            -1673972739,
+            -658800418,
+            1117215808,
+            1022359646,
+            113465490,
+            1909798883,
+            -547428887,
+            -1166571304,
+            -2112377957,
+            -72568646,
+            -907354347,
+            -1213327761,
+            -969530081,
+            -1725035226,
+            -1273926131,
+            163897460,
+            -260831280,
+            718340995,
+            -929590452,
+            141821400,
+            -1723138755,
+            1244676638,
+            -158373244,
+            -2093160267,
+            717609295,
+            1044025581,
+            -634737800,
+            1267504431,
+            381466190,
+            878289459,
+            -2060081596,
+            -702340587,
+            -1212744516,
+            -702341995,
+            1177662788,
+            -392769029,
+            -1316667176,
+            -1794230174,
+            -2033724707,
+            -549535094,
+            -1461509960,
+            2057615923,
+            -2080227510,
+            -1614106316,
+            -2043434966,
+            721192725,
+            186187553,
+            -74279327,
+            60673633,
+            547625881,
+            758206868,
+            1587480768,
+            1766273318,
+            2109697829,
+            -2074751619,
+            159384926,
+            1405351772,
+            -113331399,
+            -73263518,
+            -1129724735,
+            584286865,
+            1317577567,
+            -1626212451,
+            1377697953,
+            -1653026236,
+            -734059509,
+            -242523897,
+            -1288386872,
+            -1150027393,
+            -421016224,
+            -1279209851,
+            -1470787631,
+            1679314369,
+            -1043370696,
+            -2087830558,
+            2125667621,
+            -178604246,
+            1579463331,
+            -63874179,
+            1196319334,
+            -1734986972,
+            -562603978,
+            1084930196,
+            -1558635422,
+            -212955370,
+            752987296,
+            -1456713250,
+            229673543,
+            294558791,
+            -570096819,
+            387733967,
+            -1588960950,
+            -1869143496,
+            995000359,
+            -1550558071,
+            -1672229252,
+            -347751442,
+            1306858179,
+            29773360,
+            -2006747274,
+            632499589,
+            1941952934,
+            2080045227,
+            -264803274,
+            64105578,
+            -1712543459,
+            1619944957,
+            1280191644,
+            1009601695,
+            1366738752,
+            -530368392,
+            429572727,
+            -1067276154,
+            -1110230283,
+            -1083728049,
+            531238441,
+            1390477429,
+            395452645,
+            -137059446,
+            305713095,
+            -1366679094,
+            -2092026534,
+            -402023341,
+            -2073821597,
+            226415355,
+            -1981804732,
+            -790335430,
+            522939396,
+            -1748824809,
+            1686360354,
+            1116340012,
+            -1312875943,
+            -57394201,
+            -1792215378,
+            -558266673,
+            15693754,
+            1486760568,
+            1822679655,
+            1988684175,
+            1030391349,
+            -1933505754,
+            1675417182,
+            -174813892,
+            -844755570,
+            1552863151,
+            -1655607622,
+            1429967095,
+            -2049324014,
+            -1233579166,
+            154997598,
+            755739757,
+            1256021666,
+            135289913,
+            1431206192,
+            -1951431116,
+            234029036,
+            498918532,
+            -855922372,
+            1614341237,
+            -1038675098,
+            -1969471185,
+            755050300,
+            276372192,
+            -1886444594,
+            -1497115232,
+            -1170583138,
+            1308645403,
+            74323143,
+            -278447610,
+            335491937,
+            217760363,
+            -2124892044,
+            -1529684427,
+            507733364,
+            846888730,
+            1834635192,
+            1403574874,
+            -1607067794,
+            1832277359,
+            -1274647344,
+            -80824781,
+            2131163911,
+            -55306086,
+            -1381442219,
+            -2051062486,
+            1105895969,
+            -1782712671,
+            1413505254,
+            -1527186466,
+            -875869212,
+            -1122982381,
+            1422685050,
+            1533439833,
+            -838259076,
+            -1215910303,
+            2016605177,
+            39500703,
+            -1628475007,
+            1406160110,
+            -1732152728,
+            -1716355437,
+            39623766,
+            203726473,
+            174509572,
+            477721686,
+            1205207692,
+            2135235559,
+            384137856,
+            1694463132,
+            -2138914724,
+            -305721516,
+            -246379240,
+            -636331523,
+            2144247871,
+            898198658,
+            -786719772,
+            -1331867688,
+            348285123,
+            -934846906,
+            -1888731606,
+            1212914974,
+            789471815,
+            28027297,
+            990848338,
+            -208795263,
+            1731721176,
+            -29367089,
+            -1124703696,
+            -751657545,
+            -1792805493,
+            1839542201,
+            1813589971,
+            834806232,
+            -637732943,
+            -1974573160,
+            554668507,
+            759995379,
+            -553635048,
+            -1866947311,
+            -1761342889,
+            2063817876,
+            -1828356037,
+            1096201183,
+            343713424,
+            -1828147913,
+            -440844689,
+            -740152460,
+            512436508,
+            -1428665536,
+            -695985351,
+            386573233,
+            130442197,
+            1806520632,
+            -1012577879,
+            -805900733,
+            -1241903787,
+            -651058740,
+            2041912671,
+            -2022471736,
+            268377286,
+            1210726425,
+            -611793928,
+            -2140899562,
+            -132880115,
+            2000810399,
+            -352682145,
+            1855897194,
+            -1140254087,
+            -302607216,
+            54447643,
+            2091371361,
+            -819606172,
+            -2105104454,
+            -953545475,
+            449245628,
+            2030799729,
+            -394666939,
+            -866356705,
+            2089296019,
+            480560450,
+            660532328,
+            490150438,
+            783789525,
+            -957840958,
+            1135505505,
+            -1473669674,
+            335672346,
+            2024378743,
+            -2002630236,
+            2093523763,
+            737650704,
+            -23429157,
+            99337705,
+            1161953853,
+            1465650023,
+            1458162162,
+            -1995152800,
+            -1094442466,
+            -1592915655,
+            -957396332,
+            1233266325,
+            -208408458,
+            -242107026,
+            -2097031850,
+            -1164888797,
+            876819078,
+            -1432030893,
+            -1368526707,
+            -585849461,
+            -1738098197,
+            -381161780,
+            -1348492858,
+            -363122252,
+            -1304186375,
+            -2098529995,
+            1211634971,
+            112965949,
+            152954321,
+            -1207422958,
+            -986356109,
+            1489925065,
+            1617897563,
+            -1691222269,
+            572087762,
+            1029159775,
+            136630096,
+            2125026518,
+            1089995497,
+            -604635751,
+            -857357481,
+            -1489480684,
+            567448367,
+            1871530081,
+            733196675,
+            -431115072,
+            -816465962,
+            755341067,
+            -534682822,
+            -1330995979,
+            2048449192,
+            -673547966,
+            488718944,
+            -1419932793,
+            -1814813359,
+            1977544512,
+            -1808121206,
+            -1083833392,
+            1477989241,
+            658724093,
+            1908101922,
+            -384147067,
+            1968060562,
+            -894608296,
+            1147914133,
+            1234708385,
+            -401843850,
+            -410677000,
+            -1013384786,
+            1986878298,
+            -299706275,
+            -1529992151,
+            431885357,
+            -774510533,
+            -1011867499,
+            -637867860,
+            -1824927409,
+            -1563223128,
+            -624243971,
+            -484526717,
+            -1377506849,
+            1218056104,
+            -1133805939,
+            584936226,
+            244095282,
+            793880489,
+            -144044446,
+            -1580289514,
+            -813939374,
+            -701565930,
+            -669430860,
+            -1106377672,
+            -750788514,
+            1410268566,
+            -854347095,
+            -69533538,
+            1054806104,
+            551774902,
+            -953330965,
+            -123439494,
+            1339095463,
+            2088526976,
+            -359331875,
+            1300848204,
+            2069586983,
+            -348924239,
+            -1051687788,
+            196489330,
+            11133584,
+            -574314388,
+            1602920250,
+            1826504565,
+            724023086,
+            1917154328,
+            1832277885,
+            -327896465,
+            2096268972,
+            -1084207749,
+            -1156625015,
+            2079813324,
+            -1330745527,
+            -1521634094,
+            697095389,
+            1575218625,
+            321858009,
+            -1001119981,
+            -161246357,
+            -1777582343,
+            -1657925621,
+            -658765983,
+            -738827997,
+            -120558328,
+            -818889692,
+            2087002645,
+            991377847,
+            -661505288,
+            -430320275,
+            -1300730447,
+            1124778324,
+            1932005428,
+            -1973585445,
+            -640051076,
+            1747485304,
+            -199643444,
+            1970444773,
+            177870053,
+            -1878828860,
+            754086483,
+            2013153820,
+            -433421831,
+            660543420,
+            -1904204503,
+            -1906005192,
+            -1061624043,
+            -1835249628,
+            1228743341,
+            1609059162,
+            394990204,
+            1175494555,
+            269110563,
+    };
+
+    public static final int[] HASHES_OF_LOOPING_BYTES_32_WITH_SEED_42 = {
+            275804818,
+            581143945,
+            -1423095040,
+            -449442859,
+            708955881,
+            1239910675,
+            1117630438,
+            -1339324279,
+            -847889128,
+            -172175866,
+            -1222840655,
+            -1605619453,
+            1327633849,
+            -1588709532,
+            72179803,
+            1764432701,
+            1371141665,
+            -1728518175,
+            -6005311,
+            -303163270,
+            1106808769,
+            -1995458844,
+            1356426279,
+            1885732436,
+            319493429,
+            1454203847,
+            1521544676,
+            757500540,
+            -87417241,
+            1025442848,
+            568712840,
+            350963116,
+            -1536329748,
+            -332283203,
+            1754543113,
+            864800441,
+            -720811242,
+            -1804609320,
+            1491997128,
+            -1232630730,
+            708966552,
+            -216528887,
+            1924413960,
+            739197193,
+            -1954757205,
+            -35146280,
+            -1754975222,
+            -278069993,
+            1443387997,
+            871065304,
+            709141485,
+            -1854688400,
+            -1062001176,
+            -1583187432,
+            1238486187,
+            -97711568,
+            -1155799320,
+            778938199,
+            1075606700,
+            -625986549,
+            -790127610,
+            -910942154,
+            1947721593,
+            1216148648,
+            1126507834,
+            1288821638,
+            1662961217,
+            1525849388,
+            -1350014236,
+            1992016067,
+            1754200864,
+            594632356,
+            -1698903057,
+            843058410,
+            192191452,
+            -166781392,
+            1750208217,
+            -1442425605,
+            -998724831,
+            -1843070838,
+            -2032312256,
+            1024249113,
+            -309023504,
+            366757638,
+            -500745823,
+            1678973513,
+            304998395,
+            -901104642,
+            1636929976,
+            664251426,
+            -2129148159,
+            1168604185,
+            1225176884,
+            147924668,
+            -976334881,
+            -1547311941,
+            -280338517,
+            -2065713239,
+            -632991365,
+            -14918906,
+            -1215955636,
+            -378756875,
+            1000067106,
+            465649797,
+            928533726,
+            -49956345,
+            -551117537,
+            57038485,
+            -1083414144,
+            -175107630,
+            -235091795,
+            -1630252176,
+            523926572,
+            -1994314276,
+            1516809300,
+            95028736,
+            -540240727,
+            -1934392427,
+            843339843,
+            -1653174421,
+            -855160284,
+            210094164,
+            1029603467,
+            1277604107,
+            1404180513,
+            1755442205,
+            98035746,
+            625955858,
+            453740253,
+            -295175357,
+            1529194947,
+            613360565,
+            1409283329,
+            117376244,
+            1168082463,
+            1085277711,
+            22020784,
+            -1599565275,
+            254229761,
+            1712858563,
+            1979224604,
+            -1989384822,
+            -484912960,
+            -2027784495,
+            101824712,
+            -821662644,
+            -2127363069,
+            1069754395,
+            -1924629323,
+            674606070,
+            1140551634,
+            1152178655,
+            -1215356472,
+            547028052,
+            2123285053,
+            -1596404014,
+            1167099649,
+            1148264472,
+            931308315,
+            -647303625,
+            -212914649,
+            -1704353852,
+            1068381988,
+            577465702,
+            -1800053765,
+            -1066126528,
+            -446232046,
+            1799451888,
+            -1364084417,
+            1628317375,
+            1628188677,
+            -704213899,
+            719696458,
+            -1092774035,
+            1682955129,
+            59654930,
+            76644284,
+            445004602,
+            -285570447,
+            37859436,
+            -1343979716,
+            1052375007,
+            -1878522968,
+            -1874808139,
+            1963383339,
+            -819016480,
+            410061150,
+            -624810837,
+            -853031843,
+            1495449502,
+            -1802440424,
+            -1839237465,
+            909678658,
+            893021957,
+            -2129518257,
+            -863090976,
+            -1005666831,
+            1631465204,
+            415107342,
+            1715001958,
+            -494199151,
+            90364932,
+            -314959342,
+            -663383527,
+            1837694157,
+            274258940,
+            1249372742,
+            131812701,
+            2002775297,
+            -1562652966,
+            -1311572841,
+            -1262601149,
+            2084258604,
+            1511599519,
+            815541297,
+            147901853,
+            -1722970726,
+            -1075530934,
+            155951911,
+            -1106664587,
+            -1022723189,
+            -327957009,
+            -1618045705,
+            1744293310,
+            446639655,
+            -1645122127,
+            -1851696637,
+            -1031506239,
+            630349322,
+            880355163,
+            1643225116,
+            -353012663,
+            451944640,
+            2024769116,
+            739888420,
+            -24700148,
+            1375961998,
+            -1071920686,
+            -542995369,
+            -976128275,
+            -1314650671,
+            919672147,
+            -1735587347,
+            -1942842416,
+            623440168,
+            1401181844,
+            1230656169,
+            1753328932,
+            -296965913,
+            2082145527,
+            -1013437538,
+            1034929428,
+            -646798291,
+            2032625905,
+            1081783388,
+            -164661841,
+            931110367,
+            -135418287,
+            -1490293372,
+            1225727941,
+            -1159546903,
+            -628760150,
+            -785225733,
+            1658119223,
+            -1566301846,
+            -553314032,
+            829422229,
+            1019690812,
+            322813341,
+            952875998,
+            1091365708,
+            -332940963,
+            -1308500437,
+            151021108,
+            -1234337543,
+            419904910,
+            64059586,
+            1647997871,
+            -990413325,
+            -81458467,
+            -748174794,
+            977015319,
+            1656134251,
+            2036157645,
+            -714989935,
+            2075179436,
+            1560547951,
+            -1362700210,
+            -1654622954,
+            421472683,
+            1536299487,
+            -2015797102,
+            -569259464,
+            1794565592,
+            -490869283,
+            1541479814,
+            -36776004,
+            1254453791,
+            512059733,
+            -1865539697,
+            -49283242,
+            168935915,
+            827942171,
+            -1956908769,
+            -1046401405,
+            583321888,
+            2086940963,
+            1267928050,
+            1750005839,
+            -761964285,
+            215107803,
+            -913539908,
+            -1253535347,
+            1317093430,
+            401007009,
+            1047718959,
+            2125988452,
+            -292821405,
+            1691032654,
+            -157586046,
+            -1367170701,
+            -1971487513,
+            -510266257,
+            -686407466,
+            -1527030294,
+            881074264,
+            -1293071850,
+            1117873125,
+            770794604,
+            856944546,
+            -1859285079,
+            -675433198,
+            1124396996,
+            65391994,
+            -1523064787,
+            1519207680,
+            -1209058265,
+            -1807909086,
+            -190819905,
+            51569483,
+            -1674925495,
+            1802514828,
+            -320944377,
+            -522433702,
+            1103830039,
+            -895318804,
+            -1350673238,
+            -1285622619,
+            373530067,
+            1394702263,
+            1077120660,
+            -2448813,
+            1548294534,
+            1248563808,
+            1599999024,
+            -990589147,
+            -1809535379,
+            -153653771,
+            2111285639,
+            -1667114158,
+            1625106865,
+            -222233263,
+            -1201896980,
+            921113094,
+            -1262192161,
+            122276902,
+            1937946291,
+            1614216226,
+            -191997097,
+            884836964,
+            -1978363989,
+            -255748555,
+            931078549,
+            -1738078440,
+            -624004606,
+            1120567783,
+            1684416845,
+            1055291172,
+            -2141370323,
+            255426044,
+            -1227494749,
+            -1944471882,
+            1576763029,
+            1947909598,
+            1740635788,
+            641742772,
+            -498740035,
+            134439037,
+            -49414486,
+            -852668883,
+            -1079340575,
+            -1435689030,
+            -630317847,
+            752063397,
+            -578829320,
+            -170127334,
+            1097524501,
+            -538724213,
+            1827412145,
+            796080362,
+            1635623248,
+            1352906556,
+            658479224,
+            -131355175,
+            -791435754,
+            920059379,
+            -289884338,
+            -500835721,
+            385335902,
+            419604822,
+            -1046148254,
+            354053215,
+            1012403178,
+            2042305453,
+            -1138250579,
+            -356466199,
+            -1227156535,
+            -880308961,
+            -1624015840,
+            1457026743,
+            -617666710,
+            930997088,
+            998826114,
+            -105603664,
+            60749896,
+            -903835915,
+            733139041,
+            1002027752,
+            496241054,
+            -2070599789,
+            1235974570,
+            1014829404,
+            983902932,
+            -677157601,
+            -2027124392,
+            -1373781406,
+            1080374943,
+            -1497845928,
+            14939561,
+            474709841,
+            1043453977,
+            -614817370,
+            -2024972990,
+            826204333,
+            604500732,
+            1708059868,
+            -814818026,
+            -1883855971,
+            -1402111222,
+            526180462,
+            306146266,
+            -1519644834,
+            1871956528,
+            577909219,
+            1398355578,
+            729252600,
+            -1399042824,
+            -764094702,
+            963027240,
+            311180751,
+            -1837662958,
+            362501627,
+            225247714,
+            -208975322,
+            1884256351,
+            658652617,
+            1364039272,
+            -1074610774,
+            -1514521947,
+            -1497924117,
+            -309148886,
+            -749565088,
+            342001188,
+            -457940061,
+            -1268778375,
+            1616369127,
+            188598428,
+            -1687955589,
+            1950989961,
+            -1177061530,
+            -1506394793,
+            396317105,
+            -584883797,
+            1201210268,
+            455543196,
+            85444299,
+            1386048683,
+            -138903610,
+            1149870469,
+            -1952673315,
+            -1150452377,
+            247325093,
+            -1062627847,
+            -1640323270,
+            -1488886549,
+            -1494450873,
+            -1821239242,
+            -1193743948,
+            -429258283,
+            -2130236733,
+            250984226,
+            -1654778453,
+            -1777306216,
+            151262158,
+            1165656701,
+            -259338647,
+            -2077663218,
+            -1353672492,
+            -1551261633,
+            -1649493658,
+            2141550171,
+            371396384,
+            -1745518116,
+            2099153340,
+            -1251452117,
+            1380866903,
+            -182950587,
+            -431397061,
+            -795437845,
+            1113060582,
+            -681356254,
+            23159566,
+            -471841050,
+            -766219403,
+            462691268,
+            -369916916,
+            -1228466117,
+            -1592591352,
+            -824156284,
+            -2034052073,
+            950489658,
+            418024314,
+            772824725,
+            -1145189003,
+            1666445939,
+            -1688856945,
+            -1173561542,
+            79443400,
+            1262801530,
+            -115649906,
+            622936607,
+            578918338,
+            -22137984,
+            106912331,
+            1895847011,
+            1260168755,
+            2062172153,
+            -991674880,
+            2133558945,
+            2106493881,
+            1089854960,
+            -449773177,
+            -615611642,
+            -817394104,
+            1647061142,
+            -101566129,
+            637228833,
+            -1672606929,
+            19647214,
+            -1483631760,
+            -1296648349,
+            -347567597,
+            1322132757,
+            370592370,
+            1316582788,
+            2018298981,
+            1684100109,
+            -1145021667,
+            1309634323,
+            -233932686,
+            185840619,
+            529315297,
+            1023823193,
+            2012687117,
+            -1641898769,
+            1797985585,
+            -1467720822,
+            1255406156,
+            -25488925,
+            -898882228,
+            -1623297728,
+            1830800027,
+            1023727959,
+            -351183228,
+            185451731,
+            -763078437,
+            1588182189,
+            -100069375,
+            -112799361,
+            -127514980,
+            1571741851,
+            1207791324,
+            -1109373421,
+            -809948745,
+            -773721898,
+            -977663939,
+            284770766,
+            -1264611854,
+            372676205,
+            669615651,
+            34470873,
+            1203621943,
+            305407787,
+            -784715955,
+            -648401492,
+            -1797754040,
+            -28797731,
+            1493944428,
+            1115525185,
+            747258267,
+            516365975,
+            -1987431842,
+            -360282726,
+            1120662461,
+            -1635704223,
+            -124960667,
+            40407049,
+            1997907682,
+            -1805819244,
+            1980726188,
+            -1572786483,
+            -964900204,
+            -1218212170,
+            284186163,
+            927838597,
+            -486538027,
+            1496977386,
+            902428432,
+            1089621369,
+            1624794732,
+            -124409299,
+            1427716123,
+            410198169,
+            159554636,
+            -1544158028,
+            -45639150,
+            -856786628,
+            -488383425,
+            -637351434,
+            -1080443074,
+            1172663286,
+            469382455,
+            1289361687,
+            1225216150,
+            662616786,
+            338535723,
+            -936703295,
+            -94729419,
+            135619984,
+            -1532995351,
+            -1644949918,
+            1885423265,
+            328926241,
+            1012177250,
+            -1048547159,
+            80692260,
+            -515696702,
+            1794944421,
+            1148671823,
+            931383861,
+            -1598241966,
+            1445921953,
+            -1526229612,
+            -183865778,
+            -1742021372,
+            -2068569962,
+            -1166386422,
+            -1941465790,
+            1126841592,
+            1357642525,
+            1182871164,
+            1554251667,
+            1753260877,
+            550369487,
+            2067036735,
+            1418988903,
+            2089244069,
+            1585489041,
+            1466004065,
+            519933836,
+            -1833678973,
+            831020555,
+            1001641397,
+            -195157205,
+            1918548104,
+            117623673,
+            -1782157665,
+            -2054693691,
+            1320251689,
+            1764004000,
+            -1373764620,
+            2139493900,
+            1464905183,
+            -1455931539,
+            -1778208085,
+            -527504554,
+            1478305555,
+            -599629712,
+            -594047267,
+            1209173620,
+            -503004563,
+            2089002818,
+            -133370478,
+            591474710,
+            35806532,
+            -357062738,
+            -1871565849,
+            1843583790,
+            -1017741918,
+            -858819466,
+            159121346,
+            -588308963,
+            1573429153,
+            -135706965,
+            511222273,
+            1520865429,
+            -1483119544,
+            -593532962,
+            415275275,
+            -1318185582,
+            75632549,
+            1339696624,
+            -2134484495,
+            1363764097,
+            3676730,
+            -2094524035,
+            1366473514,
+            -612254175,
+            -1669106739,
+            -1882980591,
+            -2032905934,
+            -1154959741,
+            -917268865,
+            368178157,
+            -1920630941,
+            504317933,
+            1288923228,
+            -77260179,
+            61963443,
+            2076625164,
+            -817599916,
+            500161684,
+            1006855614,
+            -631189166,
+            1601780109,
+            -1226234366,
+            -972823235,
+            1406721269,
+            137849199,
+            -842111066,
+            489031927,
+            -1176544316,
+            771556121,
+            1960275742,
+            386220533,
+            -1554668871,
+            -1938248721,
+            -1940755354,
+            -158696959,
+            -1673775014,
+            -1539510958,
+            408502821,
+            -1878007785,
+            1887347843,
+            -1656315907,
+            -245278188,
+            -1760364926,
+            443796872,
+            676316839,
+            -1633215285,
+            72725361,
+            -821943913,
+            1672367783,
+            480926387,
+            -1092574676,
+            1674623201,
+            -1852302552,
+            -856398900,
+            3998996,
+            1135430086,
+            -1893901550,
+            495210018,
+            -1965134488,
+            1903217179,
+            1554907347,
+            -1211690084,
+            99489260,
+            749858701,
+            104155919,
+            -2066113086,
+            1755519413,
+            -21349667,
+            -1509270687,
+            286873946,
+            276072691,
+            134075201,
+            236015375,
+            -1406682385,
+            -1044775700,
+            -1940730044,
+            643516086,
+            222173511,
+            1084608169,
+            -1184657159,
+            317552010,
+            1905002676,
+            706497847,
+            851763256,
+            -889481752,
+            -153069454,
+            -1493051725,
+            -411871020,
+            -848047085,
+            -1190313576,
+            -621901630,
+            -487595237,
+            1585444764,
+            1391624148,
+            -771774405,
+            2089848239,
+            494322299,
+            -858945811,
+            -236538129,
+            -1175150647,
+            -33781050,
+            2067635221,
+            1456941494,
+            -624936975,
+            -539948737,
+            -1991604063,
+            615918163,
+            184783787,
+            824447021,
+            -939767472,
+            -1983856002,
+            -50461058,
+            -736323406,
+            1595339149,
+            1950527135,
+            77295279,
+            858049054,
+            -1657308793,
+            808566326,
+            -2118552864,
+            210184617,
+            1081059178,
+            507902848,
+            -1889230571,
+            -1498547019,
+            2105289984,
+            -859971138,
+            -773929774,
+            -246777180,
+            2117600629,
+            -2105493554,
+            1406617601,
+            -1962934446,
+            -1695644470,
+            1903032725,
+            -1168125935,
+            2019280088,
+            1478652453,
+            1904726288,
+            563575990,
+            -1964788730,
+            -1119030273,
+            1083065038,
+            867226759,
+            1502094284,
+            -200185804,
+            2006588304,
+            -1828290262,
+            666067411,
+            -499140140,
+            -210108642,
+            781882199,
+            1843300788,
+            -791738,
+            -1817268777,
+            -1840485041,
+            423086147,
+            653705407,
+            267017954,
+            1778943478,
+            -1485402786,
+            -875816682,
+            967596500,
+            -2037644640,
+            -1161524635,
+            -1214649927,
+            883730606,
+            279198871,
+            -57424622,
+            1895039349,
+            862343842,
+            -1958226034,
+            1467393531,
+            979063306,
+            -3058249,
+            -172784770,
+            2044908696,
+            518788533,
+            1011517524,
+            590347058,
+            -1846685307,
+            1907195385,
+            -1048478796,
+            1125093411,
+            -186346417,
+            1997250533,
+            1946948980,
+            -1772089410,
+            448945366,
+            -1197549613,
+            49954612,
+            648490010,
+            19077165,
+            1123963460,
+            -203793773,
+            53340416,
+            -1209024233,
+            815762012,
+            -1375535248,
+            681636389,
+            -1332249370,
+            2037272227,
+            159363644,
+            -1578719279,
+            274918715,
+            12911471,
+            176051500,
+            -1499291759,
+            1973112980,
+            1455058650,
+            1637144746,
+            1052444747,
+            -15583163,
+            -1962508708,
+            -1327767471,
+            866375442,
+            623473411,
+            -1237354205,
+            -2088871327,
+            623547901,
+            1515704626,
+            -1663763177,
+            -1744110775,
+            89685354,
+            -799197569,
+            -166597245,
+            -1296895505,
+            -10229057,
+            476112747,
+            -352435506,
+            -1051413405,
+            -2096104134,
+            -1516059458,
+            1492519709,
+            -430609802,
+            -888154386,
+            1199266857,
+            1299371355,
+            -415638354,
+            1327639374,
+            839014977,
+            -2044397598,
+            1917783665,
+            -1288721918,
+            449116501,
+            1187997652,
+            1210674274,
+            1519711469,
+            1096320964,
+            -1614067557,
+            812920587,
+            -1980847526,
+            1384647981,
+            -171448677,
+            364127839,
+            469008009,
+            -1923830376,
+            802946577,
+            836262607,
+            -563549641,
+            1538564911,
+            -89821925,
+            1468800623,
+            1620793364,
+            -349375850,
+            697384809,
+            726997105,
+            -477862781,
+            1093767805,
+            -1349193936,
+            -1688385137,
+            -245509756,
+            436251091,
+            -742050947,
+            817828508,
+            209143212,
+            -1639347796,
+            -745081685,
+            -1154615455,
+            -1490831353,
+            -1679568391,
+            -1946007863,
+            408770730,
+            1093257803,
+            1454904965,
+            -1669891111,
+            2038013507,
+            235027298,
+            1361709983,
+            -100123837,
+            1941039439,
+            274245856,
+            1534833763,
+            1605949329,
+            -2001021179,
+            -1354995189,
+            -925949072,
+            -664837671,
+            -314238173,
+            707433109,
+            -1648490043,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_64A_WITHOUT_SEED = {
+            0L,
+            6351753276682545529L,
+            -8536428417985067880L,
+            -4003751876240412087L,
+            -8123111325887134218L,
+            3665900211129888392L,
+            -8755133795521665966L,
+            -6597284625799417747L,
+            6047550627545556236L,
+            4368814999443626415L,
+            -1958452444289709577L,
+            -5014062792068822161L,
+            1299592590530538829L,
+            4691005553382673813L,
+            4014927710771412989L,
+            -7775806145344274005L,
+            -1841798416774880525L,
+            -6917490035190121107L,
+            5538378579084741543L,
+            -8597753931651068283L,
+            -6355422686903435079L,
+            -1749478010113116790L,
+            -4292625674776858217L,
+            4339332227017474288L,
+            -2184293196991016953L,
+            1765095249863251807L,
+            -5370861596449171692L,
+            5215934800343866317L,
+            -8652114418230863994L,
+            -7085005207831889704L,
+            262846703018941246L,
+            8787959706071464385L,
+            6719646737487543337L,
+            -2052297203907101240L,
+            6697694027805084129L,
+            381788045100818590L,
+            -2725414594333720517L,
+            -5759683044205461054L,
+            -985407271270260367L,
+            -4309958384688361993L,
+            9169118336075923220L,
+            -5243103012508631096L,
+            -9080459233343842591L,
+            -1019646672451376038L,
+            -5967853124649019329L,
+            8686611203753607816L,
+            -5568971167328485245L,
+            2838466236137948032L,
+            -1355746780597509206L,
+            6717661576101619718L,
+            -6466292921482544457L,
+            -4336320690485067285L,
+            -6085900704858566407L,
+            -5667127674704543743L,
+            2927316815304465319L,
+            1659310041061443888L,
+            2625879769746526368L,
+            2432147527111542239L,
+            -5505560965616914028L,
+            7831954830720512646L,
+            8066044387529751061L,
+            7844387959460872120L,
+            -7471416044599148919L,
+            5672464853273724235L,
+            -996731972836991618L,
+            3070908498821718267L,
+            8114909161721453716L,
+            4991676736289828524L,
+            -560941423534153790L,
+            5862901611455391696L,
+            7482569395795772341L,
+            -741251956423370789L,
+            -6070823021779421541L,
+            1905736869824628977L,
+            -4878380450753181665L,
+            6224863943082067231L,
+            -485547561194616914L,
+            -435309468882087517L,
+            -5580218676533611404L,
+            133632320399605610L,
+            -4666617633067046190L,
+            3991451349725134545L,
+            -7273179727129571606L,
+            6039867735472974230L,
+            6549855765442560637L,
+            -5130156678350060127L,
+            -6304327908190740185L,
+            -844156735749312645L,
+            8040838331165860200L,
+            2840320795487650166L,
+            -6503480762955390749L,
+            1186467545935288072L,
+            -5906167315042868443L,
+            5769913251665831107L,
+            -6890472269079864416L,
+            8733245788222235717L,
+            -5350168377959275244L,
+            -3843666550909186985L,
+            -7474105972213038432L,
+            -4230130102249894659L,
+            7914939679349004272L,
+            6640409285703867085L,
+            5736615716114743043L,
+            -3567911935855144569L,
+            6941968178245190383L,
+            4715927983010718621L,
+            -3589132294950040633L,
+            4088556392234908148L,
+            -255562294146372465L,
+            -120146978950795265L,
+            3760759991740028695L,
+            -1259853147178142896L,
+            9155089708496048783L,
+            3894080331816674873L,
+            -402212328862833029L,
+            -3833049948647170185L,
+            7698952910162787598L,
+            -8999153373970245745L,
+            4537663358742220546L,
+            7048824294905774869L,
+            -8733099941334133112L,
+            397697699333430397L,
+            -5747460203834381823L,
+            3475958887219282052L,
+            -1065795491721473772L,
+            131036476707290066L,
+            -4580566290801089358L,
+            -8983406916565848966L,
+            -7417623019382668548L,
+            4481130317944061288L,
+            -8483666182978973439L,
+            -1282646507170668776L,
+            -4409226643554986552L,
+            5437542179633659999L,
+            5439474305499313823L,
+            1289743635699610953L,
+            3702897204351734174L,
+            6994339575588175646L,
+            -361377931744875019L,
+            -7145353529104828799L,
+            130724320007548806L,
+            -7431415632779961952L,
+            1712982551594175468L,
+            -1772163684835077621L,
+            -2991733436168431668L,
+            -1195594368171697015L,
+            7088571862198988464L,
+            3005612956773200323L,
+            3915450249085162083L,
+            8883805731243391831L,
+            3455406278258586656L,
+            8143371998791246354L,
+            -6367979760281374738L,
+            -8242263901054155901L,
+            -1904496163904460111L,
+            901115209100293546L,
+            5770867206372401594L,
+            -7353665366849083744L,
+            2620382581990644706L,
+            1090476570594019121L,
+            -6689259057891190683L,
+            2561099652058901329L,
+            4544627694149234516L,
+            -8876630624938948455L,
+            -7358251139821079736L,
+            406773587466659713L,
+            6069307188644387702L,
+            -146151945539999322L,
+            2894016851177312223L,
+            6557110250358736565L,
+            7266686520252148056L,
+            7038829340600566234L,
+            -5985240200465983354L,
+            3670611685324681074L,
+            -3698375236507783126L,
+            5331235595786652118L,
+            -2182969340688794899L,
+            4509735837182549549L,
+            -8270710383720912189L,
+            7747118470685143367L,
+            -8388198091022987094L,
+            1584907286817944437L,
+            2048030720867700507L,
+            -6293666845549562877L,
+            6093243352051758416L,
+            -6958528021863939835L,
+            2494058225960530765L,
+            -5670935675770308111L,
+            3194099118739424215L,
+            2442729185805672543L,
+            260533835417971708L,
+            -7251620557157161264L,
+            -292184878017774780L,
+            -7219422001347405952L,
+            -7783677727097022624L,
+            -42494712724936530L,
+            7220705688365374470L,
+            3040229099563566357L,
+            -7308157156932614970L,
+            -7005484752494757877L,
+            5493919488189011880L,
+            7427748051640620045L,
+            -4322366307401522179L,
+            -5179679233905776296L,
+            -6946275377587860366L,
+            2289964472421000546L,
+            -27579569771830266L,
+            3518752853824000086L,
+            1141391868579855539L,
+            8645077570871860565L,
+            -3537822407058596736L,
+            -6216010494701688043L,
+            -1872264048199597446L,
+            -4738080030714751139L,
+            5100694212363335761L,
+            -5283338655556376537L,
+            5420730591806863352L,
+            8684861045156886691L,
+            -4428875469722189302L,
+            -4799060070578214629L,
+            -1637123828150157941L,
+            8047288170182388655L,
+            -4821303056533702319L,
+            1327295626743197129L,
+            -2752351516765150183L,
+            -6052880031369388866L,
+            -7240566005622183098L,
+            7841224700655708469L,
+            -1365006007600973869L,
+            64087244564009438L,
+            1884394083799666336L,
+            -5371103345144388275L,
+            1447467712436115209L,
+            2722802032057613879L,
+            -7232640584321052014L,
+            -2736677441310665222L,
+            5632367359582673278L,
+            8882333704132152103L,
+            -889217385865873043L,
+            1745224467548211575L,
+            -6915040780149351911L,
+            1676691127541969947L,
+            -4163289553364901185L,
+            -6517694484073032928L,
+            -6205047330063273905L,
+            1024324688118212753L,
+            1777729086029471631L,
+            -3318002844360883737L,
+            -390284031959117816L,
+            3096240979622821187L,
+            -1928003894754671503L,
+            4354873264299356648L,
+            -4276693530350226669L,
+            -6892879518628155263L,
+            5077937678736514994L,
+            1708835094528446095L,
+            -5842308394851645759L,
+            7190450222814859498L,
+            -7670550283829961096L,
+            5698930403055708866L,
+            -1420604735772549220L,
+            4825431415992089903L,
+            -1903224539966151805L,
+            187346917189557549L,
+            8602735295370482881L,
+            -4767919165316313756L,
+            417907207278772028L,
+            -4393303131959345716L,
+            -1748291689353326957L,
+            7222485325031774494L,
+            -5501784867356627818L,
+            8380545245727875601L,
+            -8034257456155446390L,
+            2006998392201602299L,
+            428462745198909945L,
+            -468581781953510921L,
+            -1881723259623267862L,
+            -7169704703389645743L,
+            6212482811303967897L,
+            -6374695881564450251L,
+            4629310382867165496L,
+            4582982330274462846L,
+            -4563223834063630977L,
+            -5860760390643674744L,
+            7763533522224215959L,
+            3655886034508876614L,
+            4048359468659559176L,
+            -2680336062737789565L,
+            -1876775878312015973L,
+            -928500996016396785L,
+            2938698259611540185L,
+            3297373609662666335L,
+            -8933998300087055147L,
+            4091425324711665823L,
+            -4335642347783583754L,
+            6654943023751976976L,
+            -8639440652772350217L,
+            -5571039363422520885L,
+            5686112618327437320L,
+            -5550343853052715681L,
+            8121454152410048836L,
+            414890716960348500L,
+            -5128808145505478733L,
+            7894815080185191275L,
+            -4890810584141486227L,
+            -7920749920609802923L,
+            4727857083654579361L,
+            2456109118343365316L,
+            5772701559524099924L,
+            1220751183302874579L,
+            1040655773952361562L,
+            -6353290658521274846L,
+            -8087257387515901067L,
+            8288001381524994136L,
+            -3109714411534035505L,
+            -7060760797605401069L,
+            892029550043322073L,
+            -6052791155508136895L,
+            2219950513004536311L,
+            4468602895794467681L,
+            492587981750798980L,
+            -5295085636333086971L,
+            -235937306655178644L,
+            6910070683976981848L,
+            6788257840065418901L,
+            7701437065457950642L,
+            -8128613314162907442L,
+            -7220168288502068958L,
+            5677981427953595184L,
+            1305513075127238470L,
+            -8317666706757756796L,
+            -1048177892136679839L,
+            -6469716762488341546L,
+            297286011838051233L,
+            872617157910071278L,
+            -9033725097174055680L,
+            -7699150961446351537L,
+            -2888020986055177233L,
+            5368386242528167731L,
+            2305544411928827637L,
+            174797495578339449L,
+            4706245803235449693L,
+            -6758915626252802826L,
+            172666888219791197L,
+            1644156052497866472L,
+            5824845760249348808L,
+            -5343096526953622313L,
+            -2042525820450476613L,
+            -8710525024111288328L,
+            4206153398626390274L,
+            -6134645472511398572L,
+            7617997926177764767L,
+            4554340125849720018L,
+            1659321623777277520L,
+            -3605202660515675462L,
+            355925038913500729L,
+            -5421943068860557457L,
+            4269430263512263242L,
+            8968894339974530360L,
+            3706930403549071821L,
+            3341232229552134202L,
+            -7291598236566479711L,
+            -5759667532891708421L,
+            -1693812109613219379L,
+            1696436234871669260L,
+            -8877330665509335783L,
+            2153085952913757175L,
+            -8797829773302789343L,
+            -193533713805922075L,
+            3627304247220212394L,
+            -230622428164161770L,
+            -4688996162076131204L,
+            -5230498207937044977L,
+            -5098625891475798617L,
+            -8778026296112206369L,
+            6872161232117206079L,
+            3344375537466208343L,
+            -3019213010796230289L,
+            3228401142361890679L,
+            3926321268892588187L,
+            -2623469695615643738L,
+            6190123302558691168L,
+            8068127516558911648L,
+            8091838318345854942L,
+            1775915459120769867L,
+            -5978280429905386208L,
+            2567562269630375046L,
+            -6637775176613164028L,
+            8902857679427670274L,
+            7973335967608409391L,
+            7998024161104072748L,
+            -5912571988207423084L,
+            4843364047752898847L,
+            -2703047068649144766L,
+            5430036655050360504L,
+            -878380941442161420L,
+            -7065425322533044045L,
+            4947381378518141890L,
+            -1491935579205936437L,
+            -3650885619955276358L,
+            8192166412766236160L,
+            -9190852944882313203L,
+            939436618157013437L,
+            -8838989349578646883L,
+            7078387347130187864L,
+            -487230251067377126L,
+            2645168172137334101L,
+            6739896825744766694L,
+            -2146768571813653659L,
+            -6283301712796468409L,
+            -8037192867809245565L,
+            -3005916572758500869L,
+            -6118225574335938369L,
+            -3119697074918097344L,
+            -4243186673340264968L,
+            -4833687754096089719L,
+            -3494150349503676026L,
+            3583925520335309617L,
+            -7828817740867335486L,
+            -5393556236278779714L,
+            -3438446153444809151L,
+            -7988698318362510183L,
+            -7930238981541821129L,
+            -1978504622224072333L,
+            -1976005249363592695L,
+            743255137819313625L,
+            1430041089408283688L,
+            -3862504470368560578L,
+            6070354179138804688L,
+            553500915714875952L,
+            -4557450243436255827L,
+            -2902946553328222641L,
+            -6150577347533722210L,
+            398465542854446516L,
+            4527410214016932036L,
+            -7166683960655787466L,
+            -2391091581531677177L,
+            3266536910540383422L,
+            -1170421476927346801L,
+            -3962502822949581642L,
+            816531157443350207L,
+            -886710679678210551L,
+            4937117419480686552L,
+            -5218948883084081482L,
+            8597248907597615970L,
+            -6969119679033611456L,
+            2659667098580960852L,
+            -3152756406700331910L,
+            -1078424645880697510L,
+            6287735922001721324L,
+            1163389508859464925L,
+            8755124412747365251L,
+            3878395369368659239L,
+            5960837071693899472L,
+            8358860315794475208L,
+            7995702217085785577L,
+            2075606857527397724L,
+            -1754546268632220229L,
+            -9030246209734395141L,
+            7132917277378083050L,
+            8254523671608994037L,
+            4111015205951377807L,
+            1913342261867729695L,
+            -3182286042616074796L,
+            4262131756537328167L,
+            219383136136015445L,
+            4450692059137945628L,
+            3306004401455278674L,
+            -6820744012175975508L,
+            -3859498993571635673L,
+            -6948989214228271707L,
+            -8846541136634187212L,
+            2602922706806065522L,
+            6420238572066994337L,
+            4570020433703296797L,
+            8843852135664630191L,
+            4554686406043642401L,
+            7310052655211874177L,
+            7881142208740019755L,
+            7948504404798032141L,
+            2357856390937364359L,
+            -2200043548171100432L,
+            4707799835159203084L,
+            4191142035134217791L,
+            -8549730175618299845L,
+            -7136496110285994367L,
+            6183222874432397996L,
+            38097659511535776L,
+            4909095756590185851L,
+            -8958614234538388464L,
+            -5934891548880439340L,
+            1311897135700486966L,
+            -5476223056270545028L,
+            -5573628810501104447L,
+            -4908045774069371604L,
+            3167841044381752693L,
+            -8836483665515565291L,
+            3568312482857316765L,
+            410906031378750245L,
+            -1013338534813669780L,
+            -7291728313922116034L,
+            -4041266338920729177L,
+            6925632777570291385L,
+            3044884024231133536L,
+            -1473141003381555141L,
+            2983976759961075780L,
+            3966867963961554720L,
+            7567438973762759983L,
+            -427174508773314763L,
+            -4361589290791241562L,
+            -7853933926371610935L,
+            -1303155745128353732L,
+            -6458814740107314881L,
+            -7531678121137631831L,
+            626202383869876151L,
+            -4403078759939189941L,
+            -6158001473983016701L,
+            -1383357276684911347L,
+            -7443914421339009284L,
+            -9141033064509824111L,
+            -1035866148618357694L,
+            8781724619556142783L,
+            5635121393626592907L,
+            -3163735538951491078L,
+            -3746612334602050800L,
+            3649562541333446050L,
+            -3480390275072098150L,
+            5081908791676917892L,
+            2847248650980736285L,
+            -7864048020794674677L,
+            1584620514762086821L,
+            -8857703973974682304L,
+            -7297895733845313989L,
+            -1406361562973150875L,
+            1061920369364572559L,
+            1504748300303772586L,
+            -187352509117156330L,
+            2166326794769445808L,
+            4886511031082959596L,
+            4125418609135020623L,
+            -6912864887956646692L,
+            5825329029758779155L,
+            -3427954980032752923L,
+            -6567748165735705027L,
+            5062723880450658747L,
+            -6508410152905597429L,
+            -7981798953459666262L,
+            -6837479593300886988L,
+            5546900660024474945L,
+            4647743429553378254L,
+            -232639692200982030L,
+            -663438838938721146L,
+            -29560055449619449L,
+            -1822591588126676070L,
+            -3832938370194868314L,
+            -3062930832875119050L,
+            2503719444633874183L,
+            1689924579776602720L,
+            7513944318298237866L,
+            8394698138943800860L,
+            -460972088981639874L,
+            -3615933922397912347L,
+            6668184362779849979L,
+            -5686963149547515199L,
+            -4592973102715871559L,
+            -7874866440004705169L,
+            5666280363562484762L,
+            8700827369584959317L,
+            -7292352138459324256L,
+            3313324206822443131L,
+            5053753469254789227L,
+            4686349678703524306L,
+            -7044646989800949734L,
+            3212027090244207733L,
+            2147131750527546550L,
+            6949728276983401447L,
+            -6573380739297335466L,
+            7420536572709145038L,
+            6997182193692648661L,
+            -5325116017333169580L,
+            -4337500730447942328L,
+            -6525707725734475648L,
+            -3134479393356075644L,
+            -3859999398004932475L,
+            -3998192105581882424L,
+            -3685211210697372080L,
+            8735284490810581171L,
+            -355774744557888229L,
+            2605364468176595980L,
+            6196284900276846067L,
+            6471622929421979414L,
+            -7303010644801892694L,
+            -3646817697491053751L,
+            -3748879955439330495L,
+            -6340169627279593305L,
+            8653303842086134132L,
+            5665751700008586229L,
+            8530601155845454439L,
+            -2345203197996968042L,
+            1556070406389843395L,
+            -374896074707857580L,
+            7730162084691558540L,
+            2914326969715354894L,
+            3066146786573517420L,
+            -191884281946953717L,
+            -8880133288727853706L,
+            78602630050416817L,
+            4644612746014204326L,
+            -8014278130429050184L,
+            -2203148114525411932L,
+            -3310855669162621129L,
+            1084115329928739257L,
+            7000412590892281351L,
+            9210226215186413172L,
+            -7740574823375271564L,
+            -549352301860402769L,
+            -2194161494763420546L,
+            -5792454976829242335L,
+            -710595145778987157L,
+            -9192502177640372383L,
+            1056609470590647692L,
+            -7821577151477986313L,
+            -2627828227484548045L,
+            -8626236725351510918L,
+            -5747611398840987918L,
+            8268314065553446441L,
+            3053865087127811100L,
+            -4931596063316463289L,
+            8722364106272688630L,
+            6339682582874332418L,
+            2009834680441247643L,
+            9043603340845450712L,
+            -6003674327185835303L,
+            3554075927784988970L,
+            5734021457701447378L,
+            -111935019518254778L,
+            -2960397734522413732L,
+            -4775992135320705253L,
+            -3650551146403243136L,
+            3438896423650943732L,
+            7069859507412300203L,
+            -5103853827602438414L,
+            -7349080846056016215L,
+            4828937946247043924L,
+            -4914950690156602184L,
+            3268632847558819457L,
+            3756824752984485338L,
+            581858208082119766L,
+            -8773058676237431532L,
+            -280070208795029599L,
+            357479919620999361L,
+            7103790978576441374L,
+            4937968829678247428L,
+            4381211364709133288L,
+            -3295067853775174678L,
+            -6320287027083576489L,
+            -4139165193094881907L,
+            6209830732412761492L,
+            9050549026225179855L,
+            -8789556281481367733L,
+            -1615158418501426383L,
+            5089748944188754246L,
+            -7185769927814590417L,
+            2492691915260553498L,
+            -5335484184412398425L,
+            8943866014450356375L,
+            -7975807716989263479L,
+            -7324530282910966185L,
+            -3325053514504034679L,
+            -3553119441300889426L,
+            4194463277917184976L,
+            6779596336618251896L,
+            -4619289247708783422L,
+            -6758492700567353366L,
+            4360724237587359765L,
+            7327756031053428468L,
+            -6036570131094566829L,
+            188669005117733902L,
+            6143818374803880593L,
+            4180211267406703802L,
+            1925151975423757525L,
+            -5432150592613089625L,
+            -6428988058435049007L,
+            -3533733327652177933L,
+            -6827759673737334996L,
+            -7673804013116821930L,
+            5941483259178771712L,
+            2362266886686612655L,
+            5544046438143044483L,
+            9033118738874804189L,
+            8262885805110248698L,
+            2991036286130300776L,
+            6839010187125790618L,
+            4373953813599851359L,
+            1228881621513762643L,
+            6941883070783836045L,
+            5267299563223944839L,
+            -2382198544137371175L,
+            2886370677694282437L,
+            7866072343765544684L,
+            2689730910876259142L,
+            -1986780073946945744L,
+            -2732597762404838195L,
+            1886345212173045554L,
+            -4204075407590943620L,
+            4713673576013610714L,
+            5795373816869489446L,
+            1296002319068196267L,
+            -439272383397207717L,
+            4317188057871748053L,
+            7185427716127321700L,
+            -1825450804108362642L,
+            3282149524810195240L,
+            5198182222435466953L,
+            -6554767335677062993L,
+            2248487624241816630L,
+            -8231264160675642302L,
+            -4433122441197193665L,
+            872812302304477013L,
+            6023732309350415594L,
+            905485472324022073L,
+            5316388180974025506L,
+            1807179835709005465L,
+            5794788113704244367L,
+            5855106420446827727L,
+            5696876470921244832L,
+            413000844370602654L,
+            -8381496742586391356L,
+            -672034863197687059L,
+            -7276123167746257516L,
+            -3276008142099930788L,
+            6610972742055340087L,
+            8921459694665237034L,
+            1681271683031713206L,
+            6785998439734721585L,
+            -2510468939662872972L,
+            2775399262813412456L,
+            3027950589267847104L,
+            3420828803737059039L,
+            8866591747090177382L,
+            -2100749745862541684L,
+            5924658272176749505L,
+            -5921966106258381407L,
+            -3883157306972402213L,
+            -4582140019848387209L,
+            5464127726927594741L,
+            7593026868137053983L,
+            -5778659035590094409L,
+            -7011072735788888700L,
+            -4458582058382162779L,
+            880542432675763870L,
+            2262647006368679087L,
+            1040934022381196135L,
+            -1034999197664334648L,
+            -548724669694540984L,
+            -4114117961704989691L,
+            -4237498829270379165L,
+            2236067364159253199L,
+            -7105018493271750031L,
+            -5641981581265574373L,
+            -231653661049767072L,
+            9198919600136121775L,
+            1474133081675366010L,
+            4304469521193911348L,
+            5115592273873734798L,
+            324498677216090052L,
+            -3261621805044886513L,
+            4284416095428089592L,
+            2733793164662837159L,
+            917500500784376962L,
+            -5374755107888563023L,
+            -2647033867303389587L,
+            6664865008976260133L,
+            -8597773008444616552L,
+            -5925304056517801903L,
+            2174016905118724958L,
+            2695492562958790596L,
+            5289562814256149427L,
+            -577379565285176470L,
+            4260852955516479150L,
+            4838045178378759890L,
+            4318619844869176561L,
+            7411533424525281900L,
+            630941292817320720L,
+            4344179916270197579L,
+            318225137348041975L,
+            2101186000839783601L,
+            -7600603089028131843L,
+            9028470935732966147L,
+            1982425513065088107L,
+            -6103907711783851576L,
+            9178817841716699355L,
+            8436385638425469014L,
+            8388109221879106615L,
+            104363162263190019L,
+            2881827281901968697L,
+            8671765271139262875L,
+            7593804015546654826L,
+            3960444641405195433L,
+            -8744858940880867787L,
+            8175811480049403771L,
+            4470913636883133712L,
+            -4352208348793186070L,
+            -4078164437571784281L,
+            1557403535355818812L,
+            1060923778051399343L,
+            -7655663948046098991L,
+            -6342742725308897405L,
+            8379208957464171481L,
+            5603531100916422749L,
+            -4038111771422867049L,
+            -4630168948490384617L,
+            -1327708924014727041L,
+            -8094665554702723242L,
+            5387808984084213163L,
+            -6630115006974169795L,
+            362303340346169572L,
+            -2944759745887853473L,
+            6994693726798480445L,
+            1143723476200585812L,
+            -6477668145516763921L,
+            1502827659188912794L,
+            7286691478390185728L,
+            -8809565186722764667L,
+            -211708927550348676L,
+            -5514292970133260353L,
+            -2898871842047315617L,
+            -2371258734993643049L,
+            -7163901947517257038L,
+            6780780252854303050L,
+            -4390541163665548406L,
+            41413160742494805L,
+            -634780200530918296L,
+            -1272975483645975720L,
+            -8886498534162037379L,
+            -8150273266990490559L,
+            -910344736710016122L,
+            1100188109493185211L,
+            -5422465868469044106L,
+            -3504244608537352077L,
+            -9017543829657456026L,
+            -5674950017215796479L,
+            -1690524441016496944L,
+            5079894261406739884L,
+            -3241477425060664327L,
+            -4117534571294019468L,
+            4147947932707936363L,
+            -1993889106219473540L,
+            -8579976356529823193L,
+            -509955653126294826L,
+            -5921696862928826681L,
+            6719044182393193931L,
+            -9076195876769594912L,
+            -4379155728602303452L,
+            4738309497814020272L,
+            -2720673219230337190L,
+            -8249904991096813940L,
+            7856077964760017536L,
+            8367414075319672801L,
+            2869058333004851423L,
+            -8055313760346919435L,
+            -2417253160509620879L,
+            -3433467846074433885L,
+            -5115411115743469780L,
+            8215232884394344565L,
+            1397668696575281224L,
+            5793841248681988856L,
+            -2791184007738998054L,
+            2449611257363459431L,
+            3726710261417291214L,
+            205147280931535862L,
+            1901104007869906440L,
+            375065321789297759L,
+            900900276078316843L,
+            8384272199787037741L,
+            -5027049376198812998L,
+            142087241445340451L,
+            2086438850744330133L,
+            8634929426858579272L,
+            1189614682051124795L,
+            -5979888853452923700L,
+            1697363158799109335L,
+            7956933556124223362L,
+            7286935863828005238L,
+            5442863169167024640L,
+            3017293862179436659L,
+            8163073448380840953L,
+            37786372416024429L,
+            1913488917895216507L,
+            -3929248356470445027L,
+            934979152411940637L,
+            8877579013941722868L,
+            7234947422478559594L,
+            3959313497406663645L,
+            1950241767723106147L,
+            -2475611686858138639L,
+            2251958395597270586L,
+            -3317374964509853058L,
+            -3655668591727574521L,
+            -8150687231666050495L,
+            -647164454279515661L,
+            -3401742209200040374L,
+            5062590246870889336L,
+            3524449180268042446L,
+            -8287092414777293387L,
+            -3333381704166285192L,
+            -6070212584501895682L,
+            1099925601894236955L,
+            3388245185812178311L,
+            8110216753399139606L,
+            5076524575709441020L,
+            -5447645472086097211L,
+            8834019560556972957L,
+            4073335145001816162L,
+            -6789231899474176478L,
+            -8567472172964430983L,
+            8227919773124487671L,
+            -5615084731108513810L,
+            6180734339097138437L,
+            -7238059413799943940L,
+            -1273751670863484945L,
+            -1399504182819372477L,
+            -5495515064084339631L,
+            7693839593067659860L,
+            -3251813385236763822L,
+            -1767575361697439322L,
+            -348469465757741993L,
+            6057034232802922957L,
+            -2582794962882280779L,
+            8813974765346926212L,
+            1377090649024842479L,
+            -6548559808686147793L,
+            4106164689475460924L,
+            -8761778528180280061L,
+            -4691642200283270297L,
+            -2969515313271310989L,
+            -4171703975296229130L,
+            2043976118514230617L,
+            -5806912365398935817L,
+            3778388598650371803L,
+            -7767111938590685743L,
+            -6371943611989532023L,
+            5449176978195119243L,
+            2721117055778614219L,
+            -1321964888806808380L,
+            698540587076808699L,
+            8456029998191577754L,
+            -2736284270280592940L,
+            3102539557064629367L,
+            4314188996293877190L,
+            -8309196352405490791L,
+            -7180615464829657187L,
+            -8541291487909460710L,
+            6475848184804857000L,
+            -2460099403670507467L,
+            -8057954084371231437L,
+            -8683719126427691618L,
+            -1120455810338354344L,
+            -8937766227817669567L,
+            -9025290821794281435L,
+            4499026083758015811L,
+            5944062516283478617L,
+            110613734674532310L,
+            -4778142913979604699L,
+            860503197111749573L,
+            7962660969901278856L,
+            3068527318431198825L,
+            1845677152307921521L,
+            -1642447747556535834L,
+            4888956860721677743L,
+            -7154821268189815669L,
+            872857523569454839L,
+            4746494596179997716L,
+            -4875287621074399468L,
+            -1409247511385976748L,
+            -9039716238261002739L,
+            -5538466645225514060L,
+            -6016930449087142721L,
+            2789706497838537645L,
+            -1287200959973860835L,
+            -8370200521911293325L,
+            -2565370539645763954L,
+            5512176043497294289L,
+            -3545230341494163762L,
+            1463427889097821542L,
+            -8879661180717675126L,
+            -560492874911004042L,
+            3168896663168278585L,
+            -8811876113504697738L,
+            -2961378604325020495L,
+            6808152138736221978L,
+            -7623243795505349586L,
+            5390314581467015129L,
+            4160177652191904396L,
+            33202429194625983L,
+            1555373508067147842L,
+            7942387508426884071L,
+            -7720705442257895219L,
+            -5368600628550871730L,
+            -974820748564794187L,
+            -8115177395577840056L,
+            3077349460888170928L,
+            8375597372503511196L,
+            -7262412623253582440L,
+            -6674665562441964639L,
+            2631270018595855138L,
+            8660172268338173539L,
+            -2481091801400951503L,
+            -7441654592489655363L,
+            4516122722730522667L,
+            5101975064171412245L,
+            -1621515757751681292L,
+            983594402096088625L,
+            -7825259284351811258L,
+            -4127676851280535898L,
+            -2295609322310033524L,
+            -4581145928117120499L,
+            -6471184176485124122L,
+            6011893370272546969L,
+            -5546709589637843058L,
+            -7470118839623878228L,
+            5611653486034633032L,
+            -1408518909347813912L,
+            -7459102111338376766L,
+            4618744016408567170L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_64A_WITH_SEED_42 = {
+            -7565064217037800332L,
+            -4735944597812715448L,
+            5001218132154994015L,
+            -419556823588790695L,
+            -2976108204605196099L,
+            1316825273950338171L,
+            6487221586321791986L,
+            -2634323651134209364L,
+            -1667152821038034829L,
+            8060145649973486944L,
+            -2264326013014065522L,
+            -1802691885289437874L,
+            -4782579475322741457L,
+            -5368563253127919032L,
+            3518738273033094502L,
+            7655693663328544916L,
+            -5818167478491235611L,
+            5460419364950038072L,
+            -8288812806494843420L,
+            5667968804198635649L,
+            4754455624607281202L,
+            2165995271660294465L,
+            6801551469093002919L,
+            -5330540507942971140L,
+            -4271248004960783315L,
+            -6911735464975618532L,
+            7678323487648416000L,
+            1476929575327111811L,
+            -2266057759545899437L,
+            -1904707215067740319L,
+            527677033433014626L,
+            990921695325416239L,
+            6679635504406876154L,
+            -2008718345361242816L,
+            111856221604468415L,
+            -1334171814895602319L,
+            8190267854405161319L,
+            612247383208465430L,
+            7439207684111886619L,
+            -6494512958328532348L,
+            324191686343860984L,
+            289535371320022438L,
+            -2916548068253190316L,
+            -6542595937639287466L,
+            -1278238229718791558L,
+            -2936202186967030589L,
+            -6766005306391995134L,
+            7809203949472426408L,
+            -2512006470492499792L,
+            6693467506341018571L,
+            7194807198954780912L,
+            -2584609134794905086L,
+            -7949495367374001389L,
+            -1934427059127185700L,
+            -547896512406530188L,
+            666712226447896758L,
+            3264555933915301558L,
+            2770356084468898036L,
+            -3611469890467302261L,
+            1630153817390803039L,
+            -4859032809947992863L,
+            261920931995093676L,
+            -7171037062571438443L,
+            784461770949438900L,
+            -8170530608818710435L,
+            4495869026547443414L,
+            8306273374114473180L,
+            -532417529009156316L,
+            6668763469258397800L,
+            -1529190482942687332L,
+            -6262126222278016189L,
+            2718775852145061177L,
+            -2599384310080976635L,
+            -7723372935028944940L,
+            -4207609054492918819L,
+            2018724638619561027L,
+            -3794632693790010428L,
+            4678794810049650443L,
+            -4612590693446752166L,
+            5769057084413120532L,
+            7085595418841025855L,
+            -4283476367393216131L,
+            -7004641770300572393L,
+            -1632262943746271642L,
+            1044328879304585014L,
+            4621862416049836750L,
+            -1610186184815220407L,
+            1266389682583622852L,
+            -5079921435485633217L,
+            -3505918876543542940L,
+            9204859721079604914L,
+            -9202671128882565893L,
+            4913859507415058190L,
+            7842136130784173487L,
+            -7024866756474504006L,
+            -4252535366349402280L,
+            7639870223742495673L,
+            -6518096041860258351L,
+            7717230310632295640L,
+            3285415778709055169L,
+            4153719850770420518L,
+            -5723935114827043328L,
+            5961229120621455614L,
+            7249619660317955850L,
+            6591283208226273581L,
+            5489680948289221375L,
+            -7926805680003443612L,
+            3162817721555368116L,
+            -8527230710915827346L,
+            8151012992048808084L,
+            3260461674081556981L,
+            830329145643439514L,
+            -4560787569346210987L,
+            -5776688850164743214L,
+            5099872592553008522L,
+            4169329796755483224L,
+            -3904973941216034249L,
+            -7410111120198619439L,
+            -4849647635825352528L,
+            955702143157785888L,
+            -7750329558443245735L,
+            7788927624927863317L,
+            8583467878454177005L,
+            1657396085337968830L,
+            -659636648083798615L,
+            -6966082866627368931L,
+            -3237548869800288665L,
+            -745453034552586512L,
+            1254275143262835648L,
+            5618898281698954107L,
+            -7347200532798504932L,
+            2041893194487858528L,
+            -3925726810806408647L,
+            -2672673052517730167L,
+            7405507675374117122L,
+            2270886929170156207L,
+            -25452566577459649L,
+            2523471552127703677L,
+            8933427737287024311L,
+            4119999834008882834L,
+            -9098552357795219677L,
+            1088052035128492341L,
+            -3336300370473894792L,
+            -3610614034562005895L,
+            -4317912642563609157L,
+            -6387775014557478101L,
+            3443878456638233521L,
+            -5140130028039967665L,
+            8309429725780326958L,
+            -4847674584785301042L,
+            3587080979425176517L,
+            -8963933853933903617L,
+            -775560697174172443L,
+            3642563428187176673L,
+            2490460085819107729L,
+            3441477330570350675L,
+            5274887926256986703L,
+            -1431774037471547778L,
+            -3165181322512435971L,
+            3449253265656727410L,
+            1316360978507830860L,
+            5776295467311911083L,
+            -4641588888783429165L,
+            8549330460653242281L,
+            -7493902065402466119L,
+            7336546253111953560L,
+            -8397041473976809707L,
+            -4734258248079759326L,
+            32158618681247959L,
+            7916467972102939525L,
+            5363701215004576588L,
+            -3920619121335458963L,
+            3398929623478965388L,
+            2824018112791546284L,
+            -4037533335512555053L,
+            -5575091570419754259L,
+            7238404825160720178L,
+            5774642652683868484L,
+            6934180783882005635L,
+            -5580372107149437283L,
+            1945721395794469451L,
+            -5033643081882450123L,
+            4096432569886960862L,
+            -6817871801978756826L,
+            5997952256432389748L,
+            -5904114252270342905L,
+            -8459782126333558648L,
+            2533770332416485117L,
+            5775259281044831148L,
+            2820824449820328449L,
+            -984955813752769089L,
+            1201192229401064247L,
+            4689110729828903234L,
+            -3851147426984114342L,
+            6680215403823022879L,
+            3706105864434515196L,
+            6938411839021158065L,
+            2291923506835324689L,
+            -6452267668895233926L,
+            -1528717479552802812L,
+            4418061142231213688L,
+            -3673308283009220281L,
+            -608781603719298990L,
+            -7205832145537754704L,
+            -6452893794468399155L,
+            -2171357112023031110L,
+            8040922527621609121L,
+            -6630726779256175029L,
+            2222701992826118173L,
+            -7586696393763156266L,
+            -3561550270477315452L,
+            2432920431363737376L,
+            -6594262385912514213L,
+            7946700613839768924L,
+            -4057096589451298731L,
+            4604591689891010707L,
+            7730472272067762548L,
+            -1063877900302816571L,
+            -5874185792510584013L,
+            5024509093333598087L,
+            -1379624739925029877L,
+            -8709493888427555880L,
+            7655142933672317789L,
+            -719470512671778711L,
+            -973236685095653912L,
+            -760927920582248430L,
+            -8495613129435881500L,
+            2299228404900395325L,
+            -7052618535942580609L,
+            4842992272712096910L,
+            -5414535298930079299L,
+            -2332288468348020114L,
+            3203743331498213185L,
+            -4284091079931175630L,
+            -4241377489948604722L,
+            -2706666698536970628L,
+            20597204382291576L,
+            -1750412550091207106L,
+            6198239163045610838L,
+            -6296013539693840718L,
+            -8325167762765922113L,
+            -5578128728802053264L,
+            -2289154522825587294L,
+            7868051423304630407L,
+            4751403383812208052L,
+            387670309693372813L,
+            -3871449642413525647L,
+            2822121755964091369L,
+            -4791087899636736778L,
+            -1527325034857083316L,
+            7233534948532824680L,
+            5228577542515174759L,
+            -44516141224423884L,
+            8982373489966822450L,
+            -676051708541188793L,
+            7769889088546738429L,
+            -4259446711612210388L,
+            -5114099469926985887L,
+            7366425695977858758L,
+            -6167602565360213438L,
+            -3109019210720526455L,
+            -1945676925540695706L,
+            -1993731913117351427L,
+            -7792853793214951950L,
+            4860878527370766385L,
+            371936754870656415L,
+            7570914308551547768L,
+            -6840176158664496979L,
+            -5994568836889273149L,
+            7745998808331154495L,
+            -67176760877306783L,
+            6323114650301912973L,
+            -7472062814402521257L,
+            3923310356117836224L,
+            8908925462045495500L,
+            5224162448231628624L,
+            -8541642664744742853L,
+            -6946000262605428250L,
+            -7320879378360452592L,
+            -9137581809537925700L,
+            -5127366475154017164L,
+            -1731441154522500082L,
+            -9128341420034076828L,
+            -4010467867733076937L,
+            1120281913186835750L,
+            6571853020999442646L,
+            9184503210225478792L,
+            8498534043378521212L,
+            -8222868388036147320L,
+            -1767673458965069065L,
+            -9176637899069410261L,
+            -7199420321877579265L,
+            7776193416857184731L,
+            -2287997469908027083L,
+            217519091059590136L,
+            -4337507686014757649L,
+            7558476899811233780L,
+            642223145554853024L,
+            459936012100937066L,
+            -471093638958777493L,
+            -6398068192445887551L,
+            3073914428993778762L,
+            8040843135973328462L,
+            -3555369632441032422L,
+            -558914204759459549L,
+            -5036417184222910208L,
+            -9117796585068711074L,
+            -3473625153261164804L,
+            -2817309185784781389L,
+            7584110290088974424L,
+            5149855461290347640L,
+            -5115199175772925961L,
+            7338398411091983822L,
+            2024112564399777091L,
+            -3240301165528555205L,
+            5762667824827668407L,
+            9060074479243358268L,
+            -6859588241598752149L,
+            -7855470213598168212L,
+            5171549528560542150L,
+            7868673646537723799L,
+            2826229908629303923L,
+            4972828101648511541L,
+            3401923467031192497L,
+            4363510830163739082L,
+            -3042547276696795812L,
+            -5612546901970215107L,
+            7295413848992145787L,
+            -2546659901479578879L,
+            7503454510533465503L,
+            -558271164778021782L,
+            -1257131973235464795L,
+            857558942487035179L,
+            5446583954728680368L,
+            3906567720698130423L,
+            4472239872430514045L,
+            19881828703740238L,
+            -4717111076830217991L,
+            4506332363999002821L,
+            -4985253239910096535L,
+            8229038208182897946L,
+            -4477447900236354483L,
+            -2580525929719780359L,
+            3982691481240486439L,
+            9045691196279193540L,
+            -9192823802681844306L,
+            -4794527489890384668L,
+            2104175065235940711L,
+            -1680454501428133640L,
+            -7371636470926671604L,
+            7862764040279534970L,
+            -7381545099238033588L,
+            -5734327570526785159L,
+            6337948829564365906L,
+            6952845730075229618L,
+            -5329845642351421167L,
+            1931260449919018040L,
+            -181397003691590197L,
+            8288629718407887255L,
+            -3134094307385564836L,
+            3798421397585062846L,
+            -1503692756295977777L,
+            -3751422197606390518L,
+            4562082864029689985L,
+            4337517053508260134L,
+            -5090728826808966721L,
+            192035240445506716L,
+            5141003143389296406L,
+            -2476324332242023841L,
+            951948697986891741L,
+            7650448419333592728L,
+            -6858335760930795548L,
+            -8062894064342010667L,
+            -7159654404633316584L,
+            -5874883103827798223L,
+            -970159935172259079L,
+            -8812426663332891771L,
+            6081416582363741718L,
+            -516501135601645851L,
+            4275280703892628576L,
+            -8141261535222959884L,
+            -5856517795813022754L,
+            -1475634169853256841L,
+            991516428005309985L,
+            5036474547604918073L,
+            7297531302820691853L,
+            -1843888822507170139L,
+            5209163628945648493L,
+            1005956258359001131L,
+            3900018952173284526L,
+            4327347913876900070L,
+            1951483477759928444L,
+            7272699669794751913L,
+            -1192305277500833263L,
+            -2890399348311567575L,
+            901320990225316352L,
+            -4980269379335988182L,
+            -3064743444949808119L,
+            3613469039400544499L,
+            -6974485721041765696L,
+            -7256859033203910045L,
+            -7159863114498267912L,
+            7402485287871250436L,
+            8432212563851961611L,
+            -4086968647076324565L,
+            -193117372261890207L,
+            5261396639694435503L,
+            2750843479371368478L,
+            1122813567874236754L,
+            7522849769646079011L,
+            1833378503219868248L,
+            7668604780798438663L,
+            -6644252830862283008L,
+            -3844623501115259000L,
+            -491945948733602165L,
+            1755599795089883519L,
+            974659819676689279L,
+            -2236191996737774071L,
+            3869404107315742438L,
+            -246472803374896867L,
+            253465786922566139L,
+            5584739201577819566L,
+            -3492316959336276941L,
+            -4935502285095666728L,
+            -5630492135353601328L,
+            -6895078273332108740L,
+            -1988643963434786362L,
+            -6199798480245432535L,
+            1067387265857568792L,
+            493498049102065830L,
+            -1931044837199245402L,
+            6331368586859742795L,
+            3099825903515938930L,
+            -3116570401686107279L,
+            5277634875318850666L,
+            7555747617215225451L,
+            -4667324439096227664L,
+            5952896071280677181L,
+            -5877924234030593806L,
+            4068372093959835150L,
+            -3929399012482948360L,
+            1369533413205020043L,
+            8492996790502934306L,
+            -2814747557516321536L,
+            6645072320171939015L,
+            -6607276911067362994L,
+            6358738278751621769L,
+            9197132514045875697L,
+            9150818663270672031L,
+            7464747338775487230L,
+            -5523947690549468260L,
+            5919881530497791187L,
+            5309440196444378611L,
+            -740814623578843173L,
+            2556629113797892876L,
+            7351840484552184045L,
+            4473645299662072315L,
+            -7005223134936119434L,
+            -5634274125810896416L,
+            4406337243533100720L,
+            -3621159320059705702L,
+            -3112749226338199044L,
+            4828083073424491249L,
+            4462545744849248390L,
+            4195707851262843966L,
+            5060311946711940568L,
+            -4639278564852258158L,
+            -2513361970118057194L,
+            3359729360683315532L,
+            -8844817667868669247L,
+            4953462597727186641L,
+            8068845927001470728L,
+            -6982162784577802128L,
+            -4890587342219932437L,
+            -7250394258635955580L,
+            7511250577886708868L,
+            -408453531795143397L,
+            4552049191210237880L,
+            1656646923940321880L,
+            2959532936049887479L,
+            1197893249110067934L,
+            -2636998999231149868L,
+            -6815520709268209096L,
+            5826768789535672814L,
+            2185112861602749295L,
+            -5326367306768029836L,
+            7761947736796958638L,
+            -8453875258949838449L,
+            -7197537999029610273L,
+            -4738878296427602977L,
+            -5712661284080643440L,
+            -226131812320045300L,
+            974092060792409737L,
+            -787349053805746408L,
+            6804016807591347983L,
+            8016868414429359639L,
+            5780247895974746737L,
+            -3196987516477160525L,
+            5942052798796179011L,
+            7931060410379076985L,
+            4315061716522795038L,
+            8494780709861357651L,
+            9151537426287443111L,
+            1787913642907096642L,
+            2932774359177992837L,
+            415417070887602357L,
+            -5712512179938418006L,
+            5006700761373301672L,
+            1384794748806916627L,
+            -811291859325619753L,
+            -4640225420692135749L,
+            -2719549095746847182L,
+            3401910618334764552L,
+            -7300739302179438202L,
+            9117111212636126484L,
+            -159462388028357569L,
+            4291494662595100060L,
+            -3343428726514625983L,
+            6916275306247712074L,
+            7743788012515262986L,
+            1604407356887546761L,
+            6623543819376518167L,
+            -1168809245330393495L,
+            -7017347301821755876L,
+            -3700016021763047910L,
+            1317610310785018244L,
+            5303881516944306690L,
+            -2666854461838885122L,
+            -1335982589223227596L,
+            7904771031543875250L,
+            -4212531408809124101L,
+            8038815973141289920L,
+            1360506941002735862L,
+            -9102575311013406869L,
+            93165197908840752L,
+            -3491628048543118034L,
+            -6942102681401972358L,
+            -674709000541814717L,
+            -3003582735628541176L,
+            -6659194881596407703L,
+            -6808016109550079508L,
+            4166435558245992684L,
+            -3010132122989259497L,
+            -8483543920848731779L,
+            -3101526985717969725L,
+            -4536607177587923445L,
+            -5158092911451985313L,
+            6199185353289003102L,
+            -7743227436496555985L,
+            6770095043680224589L,
+            4046345839087401175L,
+            4509137710583415202L,
+            -943695182889672946L,
+            4766231990516524426L,
+            -4097331731008756977L,
+            -416848363863211941L,
+            -6824982869353432196L,
+            -3531931936936839321L,
+            8604208794163815306L,
+            6080847649079683331L,
+            5347103657203578268L,
+            1724711931434215543L,
+            6884707499181630447L,
+            3655430650633016744L,
+            -725101112716375237L,
+            -4970872573713317466L,
+            -427894290173992117L,
+            -1154627035852753673L,
+            -3467035522180626096L,
+            6835710078950390312L,
+            -9130935392973790509L,
+            4023615809635427311L,
+            5701513557063156877L,
+            -1057851032243913456L,
+            -5459130009146985339L,
+            5148610090114196240L,
+            -5351733390779915843L,
+            7195677245897806787L,
+            3460533185507026595L,
+            -6597465751569450013L,
+            8057076618787140670L,
+            1162864798813381045L,
+            2044996197366046446L,
+            2810674182745173530L,
+            -3334714884849190818L,
+            -6801426660848614437L,
+            -2321736755331559035L,
+            6589122953408037198L,
+            -6039706907074257542L,
+            -6274248149663233890L,
+            -7990811952970469891L,
+            3398630529896635254L,
+            -4829890621821538540L,
+            5970990231837778954L,
+            -9157954321853319170L,
+            -6682859008611720988L,
+            2861775470886645132L,
+            -2804124480360104677L,
+            -6694722513969133589L,
+            -5066071215107730400L,
+            -5291738040521941120L,
+            9088982215350427971L,
+            3255488702905186461L,
+            4500658572354656551L,
+            1068286094523578762L,
+            8294559895069923540L,
+            7808153368082066831L,
+            2402789116861647791L,
+            -7983625930693065262L,
+            -7629142038111611907L,
+            -6969115016430250102L,
+            -1894992764055330787L,
+            -2822399114237980388L,
+            -5059196210552743554L,
+            -8467373622715354985L,
+            -5228291557406103018L,
+            -7320600321573828222L,
+            -6962743419879331586L,
+            4487234843667346125L,
+            2511766588091171049L,
+            6970059089686643697L,
+            -5486572397547679240L,
+            -8080029500133930230L,
+            9131893449570845920L,
+            -483223249750379894L,
+            1639138131288416659L,
+            3477570794601832951L,
+            3074690904915385940L,
+            -3098615017194379090L,
+            -698200726290901046L,
+            8314892446644612491L,
+            -5670401018934146958L,
+            1235240529009597556L,
+            4450097686664675429L,
+            215183356493269418L,
+            4416492810068022013L,
+            -4007485027886717104L,
+            7926536063818210727L,
+            -3761177187614894250L,
+            5711848905919933742L,
+            -99976106902382659L,
+            -8293454932084141531L,
+            5843974935777851176L,
+            3566922684044299822L,
+            -3597772417545492729L,
+            -3033052212358483121L,
+            -2116915385807375193L,
+            -7704922192083308410L,
+            -7018112672357085858L,
+            2151672706209708770L,
+            2899388579235541842L,
+            -8509716630723860483L,
+            7669453748875879730L,
+            -3608507217862288443L,
+            8529221424036583938L,
+            865240425893415909L,
+            559580010210663518L,
+            -5301545117160672647L,
+            8452647589426036046L,
+            -432729839419780530L,
+            1246163742223661279L,
+            8986667537980401124L,
+            7255431265967362374L,
+            -3031931348240671088L,
+            -855404439486562900L,
+            362591939478748846L,
+            562065824009766767L,
+            2418652133397138203L,
+            3366227485624775298L,
+            -5898275668070030798L,
+            9106846674200422402L,
+            1899709489895888132L,
+            3400289048177578851L,
+            -6642077636548952567L,
+            -5451638282667295667L,
+            -6555915481136103205L,
+            -842140527793998886L,
+            1680684369406063190L,
+            -356426940990562624L,
+            -4333010625688464608L,
+            -5242256317661940024L,
+            -808103117264799546L,
+            -3279900155655563529L,
+            -1680862477543265382L,
+            -3478085546277683101L,
+            3172968112256110582L,
+            1622572865821647245L,
+            -7747859084517672047L,
+            6771680416125000518L,
+            -1521465133929440019L,
+            -6041773999825211819L,
+            4525491887069557453L,
+            2874280559865118723L,
+            -8792505818935485913L,
+            -7063381131805135426L,
+            4052220188882433535L,
+            1450451604556019409L,
+            5040180842707677988L,
+            1159121312132563918L,
+            -1174835188198150237L,
+            -8595022401120517282L,
+            -445206459745191794L,
+            5475064055894842225L,
+            7906246411516912875L,
+            -6648538517076654680L,
+            1291742866537648869L,
+            -3519525931415863268L,
+            -1373944360970309898L,
+            -7154713461221939709L,
+            -144282156986757667L,
+            6633195080366689305L,
+            7973537935894680540L,
+            1214706959997782817L,
+            5434277314267642478L,
+            -3916160440694705262L,
+            -5184156362355781674L,
+            -586988885738906611L,
+            -388431913440831967L,
+            3038317344810417056L,
+            1119910060429515096L,
+            7839299652464467295L,
+            -672064110538525338L,
+            -4750828150746653765L,
+            -7556436871846982248L,
+            -1446285187043981866L,
+            142673336197929864L,
+            -5761787772681500676L,
+            3475750981099764818L,
+            -2362266084098019891L,
+            4177785445817998510L,
+            -1050612880735947879L,
+            -5503817170668644202L,
+            -7811970782562369917L,
+            3128563961852373879L,
+            2586606400057276191L,
+            5744813169966477725L,
+            -4209657948152282757L,
+            -7781911284553566155L,
+            -2388702702011028702L,
+            1376960122109007788L,
+            -9072273080392167210L,
+            -4086078625909228424L,
+            -9184988031854518906L,
+            453371220599701450L,
+            2367358969028349960L,
+            3062745597141452709L,
+            -5245776421591849232L,
+            8361442521101469415L,
+            273233144553931729L,
+            -2434023085376925563L,
+            5564487802312745809L,
+            3710628470575775970L,
+            -5705495860625684589L,
+            -8226677466446823429L,
+            8478398220407303156L,
+            -3865214905290874420L,
+            4775869842407424864L,
+            -1397578383300000491L,
+            8616865852165744252L,
+            -7834064222027749662L,
+            2817421490518279209L,
+            8015112077796937180L,
+            -4667750417437386259L,
+            5003028803404084911L,
+            -7195915317576551380L,
+            1732660118520636967L,
+            7422776840606853687L,
+            -1382950603518042391L,
+            -322200974061539988L,
+            -8437479937841250738L,
+            -334826480244273625L,
+            6699144313123097789L,
+            -783722414448952702L,
+            -155275310489130329L,
+            1854117715314913821L,
+            -7222695322832420103L,
+            -7292101436860555102L,
+            -5050444676997773864L,
+            -9194055631474454309L,
+            6704434891060817324L,
+            -6203942446109959093L,
+            4389831336232528633L,
+            8260039837293005844L,
+            2723445663403926111L,
+            1733629058534940482L,
+            -7190347140135656937L,
+            9196202069947434372L,
+            7771851638982523208L,
+            3454184369999266499L,
+            3406456426927337476L,
+            -4067187210268792087L,
+            -1696356618482597055L,
+            3303733857823398293L,
+            -2062167068051324062L,
+            -1306367332214396014L,
+            -6133715484074029631L,
+            4150093627017355583L,
+            9141673349795141898L,
+            -7555309813195562037L,
+            -6469033861475713782L,
+            -2261572680336002768L,
+            8648267981004974586L,
+            7779979643783503003L,
+            -933900299961584023L,
+            4269381130627411133L,
+            6176477886555109113L,
+            -8176087505813334575L,
+            -561882765033042161L,
+            -5766792617341802112L,
+            7917820893849980262L,
+            7706002882682207254L,
+            2957441505543740653L,
+            4332521284967491201L,
+            6263125577863042043L,
+            -2512410932157880116L,
+            9077804382148381806L,
+            -3999148183110089948L,
+            -8952203647802611187L,
+            2282579066559550866L,
+            -5485881627283310426L,
+            4822399169097933751L,
+            -3752459503515354184L,
+            -2930601602980700815L,
+            -2624737183524032737L,
+            459762382172914616L,
+            -8888712463213599071L,
+            -224550431326775704L,
+            -2401093783649740341L,
+            -7677055089460757714L,
+            -5058001810620482927L,
+            8602052430075451849L,
+            -3770174934971805157L,
+            -3876735865239378403L,
+            -2397288580910102185L,
+            -734969338086931338L,
+            -4939246634989910691L,
+            4883226667914599149L,
+            697770722534552916L,
+            -2230918922813389855L,
+            -6682489776028304850L,
+            7638833771651597381L,
+            9018406533658566544L,
+            -7846525246473541853L,
+            -637473814822846890L,
+            -1032653804526501809L,
+            7389880990791751700L,
+            8691914588388413542L,
+            -9083659411477540751L,
+            -68260852982906986L,
+            -7010074950416065063L,
+            7889046645782957961L,
+            -3119097776871021142L,
+            4223681907351722210L,
+            5105355365777847251L,
+            55245858568817444L,
+            8160143702309675898L,
+            6897605517845977186L,
+            3801095141905914242L,
+            -5106073966409049280L,
+            3814576527592662477L,
+            5984585051141819615L,
+            -1952469595751443634L,
+            5073236708226801396L,
+            8310478998867645476L,
+            3176574121814506931L,
+            -5217187860690561699L,
+            -2859328789643376960L,
+            5395607114213439239L,
+            -8872872715649209002L,
+            -1859166240678012031L,
+            9068908028278609963L,
+            -7511957224136010357L,
+            -2062951585212838344L,
+            9022200779736345588L,
+            3265707929366430267L,
+            -6363453052900314309L,
+            8413178943673385282L,
+            -8491371108609583998L,
+            -7535934595121843623L,
+            -5421474022000608286L,
+            850313815555073607L,
+            5008138418754641721L,
+            -4604170629858356069L,
+            3331456050439069613L,
+            4594757461331401615L,
+            -7772909887597947921L,
+            3201431082073972937L,
+            5781223467075443820L,
+            -5079118752485384307L,
+            -4404156646241290226L,
+            -4585636093984566041L,
+            945069234834098646L,
+            324834908558314521L,
+            6796601428525456928L,
+            -7412302214228433213L,
+            -894271335116562713L,
+            1034376760038351661L,
+            -5620436472191260304L,
+            -1381088732190500974L,
+            8985784061866716109L,
+            -8836337663599403794L,
+            6802307741211674456L,
+            7011509404757563421L,
+            2586873026472309836L,
+            661313241208259666L,
+            6828364295636044402L,
+            41143679423836015L,
+            -1182260861569014474L,
+            -8949798308043045435L,
+            -4173755775575835560L,
+            1288212852917699990L,
+            7158459336709518572L,
+            7611240186819590818L,
+            -4677854924813721267L,
+            -4698671439212494763L,
+            -7794798045083152041L,
+            -712228137794221098L,
+            6812052356859093000L,
+            8392614827874699924L,
+            -1647086180322951578L,
+            4235814449394465L,
+            4978084562124538508L,
+            -6956603848851833300L,
+            119649351362998460L,
+            4041728649200126465L,
+            -6027537370122639451L,
+            -4893375394909335306L,
+            5131728331722866315L,
+            -587956755921053014L,
+            8175521009344969554L,
+            -6539579911136892371L,
+            7138212832776457962L,
+            718882996032979874L,
+            4502694447192998927L,
+            -7166248637823028923L,
+            7283627276894018919L,
+            -6793403468497123107L,
+            8457139688422111536L,
+            -1780863749434858991L,
+            -3002249176847148745L,
+            -5358945086989730868L,
+            -8597829840226270801L,
+            -8626044495010482283L,
+            6261840257495402503L,
+            6867166370810004571L,
+            5001404560801987853L,
+            349280623809330964L,
+            4542610352680626102L,
+            167701539302410800L,
+            7447060811542241313L,
+            1157765709516982352L,
+            -4172098489045933909L,
+            -2048434763706737422L,
+            -1303269301167363937L,
+            4897053017536615693L,
+            5597351743642315630L,
+            -7939316212969528622L,
+            7949477668241943491L,
+            -8147743374167836725L,
+            -6953134515529106452L,
+            825744460142647341L,
+            -7999786080948078488L,
+            7133223200945882058L,
+            -4995466178303508038L,
+            2272920536179942681L,
+            -7266616360827711406L,
+            5384709187073426456L,
+            8306047557892600503L,
+            4489159252099148565L,
+            5627242260368399498L,
+            3341783140157765023L,
+            -854270110473628756L,
+            -5529083211117491681L,
+            3490314750553088949L,
+            6208532112468091965L,
+            2331242084549921181L,
+            -7473404865032470528L,
+            -7775860729722796555L,
+            -4383954818117203469L,
+            -7741356553807074252L,
+            8699970936940471622L,
+            5462053732855835574L,
+            -802634797571828513L,
+            3444104327004024912L,
+            4177499028554784153L,
+            -2286022340923468407L,
+            5161823541328962426L,
+            -3135437719906623275L,
+            -1063568720475053282L,
+            -5496538763261669612L,
+            8052555385449311172L,
+            -4220588697003089222L,
+            1872023967993301721L,
+            -2165707060413551353L,
+            1858769531205770981L,
+            -7301789098518079085L,
+            -8644840182872244531L,
+            -853955724524628069L,
+            -4931108840130168392L,
+            1622931199646944703L,
+            -5956953649074283197L,
+            -7891006462363652274L,
+            -2600244711386762989L,
+            -3604629816223862801L,
+            7438247494714031872L,
+            7352689588875420536L,
+            -1250171720106026957L,
+            -8402323139239355999L,
+            1539013062088634773L,
+            8176558337261966664L,
+            -2358917809743554978L,
+            6258168836395172308L,
+            -1550038774318015977L,
+            -2991493906140297899L,
+            2287459702793179718L,
+            -8389014980013359090L,
+            7184344138266652388L,
+            -1731351511375240406L,
+            -8269349951898838682L,
+            1571430643043891650L,
+            861971042917259931L,
+            -3298141377736677278L,
+            5602974179345722513L,
+            1152945630013712524L,
+            -4463707979090154621L,
+    };
+}
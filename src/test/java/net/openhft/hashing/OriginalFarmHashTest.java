@@ -134,6 +134,83 @@ public class OriginalFarmHashTest {
     }
 
 
+    /**
+     * The Fingerprint128 and CityHash128WithSeed checks of farmhashccTest, for its first inputs.
+     */
+    @Test
+    public void testCc128() {
+        int expectedIndex = 0;
+        for (int i = 0; expectedIndex < CC_128_EXPECTED.length; i++) {
+            expectedIndex = testCc128(i * i, i, expectedIndex);
+        }
+    }
+
+    static int testCc128(int offset, int len, int expectedIndex) {
+        LongTupleHashFunction f = LongTupleHashFunction.farmFingerprint128();
+        long[] h = f.hashBytes(data, offset, len);
+        expectedIndex = checkCc128(h, expectedIndex);
+        assertEquals(h[0], LongHashFunction.city128low().hashBytes(data, offset, len));
+
+        f = LongTupleHashFunction.city_1_1(SEED0(offset), SEED1(offset));
+        h = f.hashBytes(data, offset, len);
+        expectedIndex = checkCc128(h, expectedIndex);
+        assertEquals(h[0], LongHashFunction.city128low(SEED0(offset), SEED1(offset))
+                .hashBytes(data, offset, len));
+
+        return expectedIndex;
+    }
+
+    private static int checkCc128(long[] h, int expectedIndex) {
+        assertEquals(CC_128_EXPECTED[expectedIndex++], h[0] >>> 32);
+        assertEquals(CC_128_EXPECTED[expectedIndex++], (h[0] << 32) >>> 32);
+        assertEquals(CC_128_EXPECTED[expectedIndex++], h[1] >>> 32);
+        assertEquals(CC_128_EXPECTED[expectedIndex++], (h[1] << 32) >>> 32);
+        return expectedIndex;
+    }
+
+    static final long[] CC_128_EXPECTED = {
+            1039179260L, 1690343979L, 1018511555L, 2464489001L,
+            20368522L, 2663783964L, 175201532L, 1619210592L,
+            3285042206L, 502478099L, 739479538L, 1500332790L,
+            13754768L, 3789353455L, 3473868058L, 1909255088L,
+            826915357L, 2893489933L, 118369799L, 1848668220L,
+            1308219822L, 249416982L, 64306364L, 4221800195L,
+    };
+
+    /**
+     * The checks of farmhashmkTest, for its first inputs, and of Hash32WithSeed() and Hash32() in
+     * farmhashccTest, for the inputs hashed the same way.
+     */
+    @Test
+    public void test32() {
+        int expectedIndex = 0;
+        for (int i = 0; expectedIndex < HASH_32_EXPECTED.length; i++) {
+            int offset = i * i;
+            long seeded = IntHashFunction.farmMk((int) SEED(offset)).hashBytes(data, offset, i);
+            long unseeded = IntHashFunction.farmMk().hashBytes(data, offset, i);
+            assertEquals(HASH_32_EXPECTED[expectedIndex++], seeded & 0xFFFFFFFFL);
+            assertEquals(HASH_32_EXPECTED[expectedIndex++], unseeded & 0xFFFFFFFFL);
+            if (i <= 12) {
+                assertEquals(seeded, IntHashFunction.city_1_1((int) SEED(offset))
+                        .hashBytes(data, offset, i));
+                assertEquals(unseeded, IntHashFunction.city_1_1().hashBytes(data, offset, i));
+            }
+        }
+    }
+
+    static final long[] HASH_32_EXPECTED = {
+            4223616069L, 3696677242L, 4081014168L, 2576519988L,
+            2212771159L, 1112731063L, 1020067935L, 3955445564L,
+            1451961420L, 653440099L, 31917516L, 2957164615L,
+            2590087362L, 3879448744L, 176305566L, 2447367541L,
+            1359016305L, 3363804638L, 1117290165L, 1062549743L,
+            2437877004L, 1894455839L, 673206794L, 3486923651L,
+            3269862919L, 2303349487L, 1380660650L, 595525107L,
+            1525325287L, 2025609358L, 176408838L, 1592885012L,
+            864896482L, 2101378090L, 3489229104L, 2118965695L,
+            581644891L, 2718789079L, 631613207L, 4228658372L,
+    };
+
     @Test
     public void testUoGo() {
         for (Object[] g : GOLDEN_64) {
@@ -0,0 +1,36 @@
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class OriginalMetroHash128Test {
+
+    /**
+     * MetroHash128::test_seed_0 and MetroHash128::test_seed_1 of the reference implementation.
+     */
+    @Test
+    public void testReferenceVectors() throws Exception {
+        byte[] testString = "012345678901234567890123456789012345678901234567890123456789012"
+                .getBytes("US-ASCII");
+        assertArrayEquals(new byte[]{
+                (byte) 0xC7, 0x7C, (byte) 0xE2, (byte) 0xBF, (byte) 0xA4, (byte) 0xED,
+                (byte) 0x9F, (byte) 0x9B, 0x05, 0x48, (byte) 0xB2, (byte) 0xAC, 0x50, 0x74,
+                (byte) 0xA2, (byte) 0x97},
+                toBytes(LongTupleHashFunction.metro128().hashBytes(testString)));
+        assertArrayEquals(new byte[]{
+                0x45, (byte) 0xA3, (byte) 0xCD, (byte) 0xB8, 0x38, 0x19, (byte) 0x9D, 0x7F,
+                (byte) 0xBD, (byte) 0xD6, (byte) 0x8D, (byte) 0x86, 0x7A, 0x14, (byte) 0xEC,
+                (byte) 0xEF},
+                toBytes(LongTupleHashFunction.metro128(1L).hashBytes(testString)));
+    }
+
+    private static byte[] toBytes(long[] hash) {
+        ByteBuffer bytes = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asLongBuffer().put(hash);
+        return bytes.array();
+    }
+}
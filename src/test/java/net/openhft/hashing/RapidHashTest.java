@@ -0,0 +1,2125 @@
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class RapidHashTest {
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+    @Test
+    public void testRapidHashWithoutSeeds() {
+        test(LongHashFunction.rapid(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEED);
+    }
+
+    @Test
+    public void testRapidHashWithOneSeed() {
+        test(LongHashFunction.rapid(42L), HASHES_OF_LOOPING_BYTES_WITH_SEED_42);
+    }
+
+    public void test(LongHashFunction f, long[] hashesOfLoopingBytes) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        LongHashFunctionTest.test(f, data, hashesOfLoopingBytes[len]);
+    }
+
+    /**
+     * Test data is output of the following program with rapidhash (version 1) implementation
+     * from https://github.com/Nicoshev/rapidhash
+     * <pre>
+     * #include &lt;stdio.h&gt;
+     * #include &lt;stdlib.h&gt;
+     * #include "rapidhash.h"
+     *
+     * int main() {
+     *     char *src = (char *) malloc(1024);
+     *     const int N = 1024;
+     *     for (int i = 0; i < N; i++) {
+     *         src[i] = (char) i;
+     *     }
+     *
+     *     printf("without seed\n");
+     *     for (int i = 0; i <= N; i++) {
+     *         printf("%lldL,\n", (long long) rapidhash(src, i));
+     *     }
+     *
+     *     printf("with seed 42\n");
+     *     for (int i = 0; i <= N; i++) {
+     *         printf("%lldL,\n", (long long) rapidhash_withSeed(src, i, 42));
+     *     }
+     *     return 0;
+     * }
+     * </pre>
+     */
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED = {
+        6516417773221693515L,
+        5251142260837954552L,
+        1531671664632907903L,
+        5342890485088137066L,
+        -5409217934609613745L,
+        -3227480610129837941L,
+        8462073570568373479L,
+        5633730246632380325L,
+        -1435116901174779330L,
+        3515909201262488746L,
+        13937224828817542L,
+        4136635414595613978L,
+        4422219649233981795L,
+        7658992816363228693L,
+        -5790394971418724747L,
+        -3598534672912398869L,
+        -2342074498875700139L,
+        7932680844242133014L,
+        7794248198570648332L,
+        -3312916435589191497L,
+        -4132410269024752726L,
+        -6481752277068553220L,
+        -2107172714335133666L,
+        -3599338406964865542L,
+        -8780666340857890169L,
+        -984898821616897666L,
+        -250185299669516430L,
+        1113895200596978549L,
+        3763135692228161979L,
+        -8432464213547967303L,
+        -4104885255754801941L,
+        -5403067264981147900L,
+        -8942013462407670614L,
+        -2168375210474885178L,
+        3350633328956990917L,
+        239605439623146524L,
+        1104512516968346055L,
+        -8062544970838118943L,
+        4639933969413847806L,
+        -4737522550021743412L,
+        -5572219428958120467L,
+        4528233825771065384L,
+        7511673850019020556L,
+        910072448951454088L,
+        -570266624087464075L,
+        -8282947425243956141L,
+        6238020854529954978L,
+        -5169329790500332752L,
+        -2433654033041238624L,
+        6428097021202609951L,
+        -5629267457040671586L,
+        5742755578752849185L,
+        2134594388286457060L,
+        -4713642522392574990L,
+        -7455675912860269232L,
+        -8263891588015690918L,
+        6076611759138161318L,
+        3907703384290802046L,
+        1795798568545257095L,
+        -3073924055354587156L,
+        -4942029680937969538L,
+        -7656670130967132848L,
+        -8152840010363887452L,
+        5511110261622232857L,
+        -6108016327334594038L,
+        1146951403195972406L,
+        5176136387956366142L,
+        -8967834521501265889L,
+        5050734044980726320L,
+        6207312174962587893L,
+        -1305287834018870554L,
+        -6570397755454497272L,
+        -2105988631327612197L,
+        -4004513493915167903L,
+        8154181332064514223L,
+        -7366042312936539067L,
+        -9193080620231993279L,
+        -4646873217752682167L,
+        -4312605153265823347L,
+        991099371257246393L,
+        -4588750388700520708L,
+        -8948652526279833707L,
+        663433399381648094L,
+        -3174113886851811635L,
+        -3194443288832744795L,
+        2679843883107276168L,
+        7805527407678824392L,
+        -8296584584692206385L,
+        -9043395525125017944L,
+        598403070343273917L,
+        -329150182327716585L,
+        -4865101036598365738L,
+        -4918227598286701546L,
+        2137825064809270992L,
+        7552741222584765343L,
+        -8138763676226113796L,
+        3836278459358991108L,
+        6253975290485827498L,
+        5898231944912877130L,
+        -5771856531709947176L,
+        -8961987896191723928L,
+        7134825904076822816L,
+        -3001202362654008546L,
+        -5948697743510147689L,
+        -6166554417968033140L,
+        -338960344902037478L,
+        7023083367214470527L,
+        7292520357516513132L,
+        -1669674966035419448L,
+        -6627898887732628772L,
+        -429186906073047064L,
+        -2655000368032291171L,
+        -5303018408797224674L,
+        -7230645002833209699L,
+        -8852968454024685367L,
+        6029783687026297670L,
+        -8203600748753817193L,
+        2671758106775879836L,
+        8676131588615833757L,
+        2825221122245772109L,
+        102880216831214996L,
+        1474250254844170541L,
+        -4841411217924277934L,
+        -5157082097617922270L,
+        -3978584647193005580L,
+        1454830003749137981L,
+        6700567595614574591L,
+        -4938684323883463566L,
+        -5927088340935556191L,
+        8917979217393463025L,
+        -319328473541800591L,
+        -2795674420490301946L,
+        -5907492921351490390L,
+        215795411529245093L,
+        -3611641254829401424L,
+        6298899284383287177L,
+        -1131644502911453157L,
+        -7668630465811329264L,
+        4546513066375918067L,
+        4453263976400598663L,
+        1039542445549613751L,
+        -8204098631726201743L,
+        -8988841058695540432L,
+        -3665982546036291771L,
+        -2382374710116969210L,
+        8659841019512905482L,
+        -7976068395694371323L,
+        3879551254378994594L,
+        2670076624036942220L,
+        -4525854809564470325L,
+        -3967314428813842779L,
+        4471251037246236164L,
+        2576459254803179651L,
+        -1394075641714065314L,
+        -3216055760115825969L,
+        -175372018428535140L,
+        5154776914965587410L,
+        8217514767681258888L,
+        4877304641189435355L,
+        1200852984746621812L,
+        5466511109497961368L,
+        7896089695339850049L,
+        -2607916400453483256L,
+        4711862921427446822L,
+        1912411416408599045L,
+        5842873397289300262L,
+        4233707166816245011L,
+        7049024566654270081L,
+        7915141337386661768L,
+        5739057435878835286L,
+        2964629909320070065L,
+        2110757312207638906L,
+        -1975669691514445646L,
+        5602199718034451123L,
+        -145900841641392438L,
+        8968092198920079522L,
+        3436567460977838337L,
+        5806943497507913774L,
+        1938163911923935697L,
+        8112104992260124111L,
+        -7362573533277151249L,
+        -8288588727150661450L,
+        -4224742455683932534L,
+        5873358424324545448L,
+        1023885580362762202L,
+        4581732419567826939L,
+        5219274497028587872L,
+        1928758481993512075L,
+        -3268982902776461529L,
+        -6058110790418011499L,
+        17609580824843812L,
+        -1340958337744225900L,
+        8246735872963518915L,
+        1678756846552118211L,
+        2110001188500269745L,
+        8131808490255886621L,
+        2304792150127039721L,
+        -3135378484136612127L,
+        -3703141420199487951L,
+        6824597489824831959L,
+        -9188746680338022606L,
+        2933415809792182271L,
+        8314677811577848005L,
+        -2422340049885673233L,
+        -3482524246153636684L,
+        7088688845398786342L,
+        -3894788544953263727L,
+        -5382736258006278677L,
+        -8828211850035272703L,
+        462977718434541137L,
+        8750728541113626475L,
+        -8541417506896405807L,
+        2421776741293461548L,
+        753308083667719450L,
+        -5335107260700430604L,
+        4987298866521844020L,
+        -6573883945938210141L,
+        -7035382094921388717L,
+        -8066567094637662338L,
+        -2623229989540548127L,
+        1186007972380541717L,
+        -3990330567424700506L,
+        7871042412976337845L,
+        -4768577691433392925L,
+        -1043036342557975830L,
+        -5049274936668315850L,
+        4822441936299167006L,
+        8709920821948009521L,
+        -5336262609469387101L,
+        8083678354540188344L,
+        7243790331404338541L,
+        -1484762341830481387L,
+        -8010504922753930592L,
+        2849884946823836920L,
+        -8658004548707571719L,
+        -7731523052663165844L,
+        7396073609340292446L,
+        1297202403946100065L,
+        -8966696071647364434L,
+        84862608202551837L,
+        -8664012162519498097L,
+        3769074022369443373L,
+        8025434985368522127L,
+        7653330504345396908L,
+        4097423403829104910L,
+        3725280253878451256L,
+        8948346860406908304L,
+        -7313799874701942355L,
+        4748824690936539150L,
+        -3530139210878470578L,
+        -6860205559493328131L,
+        -3351114133153862415L,
+        8851810497339270281L,
+        401180579676377884L,
+        -1948647109089702303L,
+        7020595452999984649L,
+        65517762998600745L,
+        -1130647389710456634L,
+        -1691158822956643073L,
+        -7111816924477409927L,
+        -3444988317646024860L,
+        1160008944708183394L,
+        7968637683127603084L,
+        -9028169499542282160L,
+        743532920142173402L,
+        -597027686895371325L,
+        862971666469850777L,
+        942031480717787769L,
+        -7215092877019093098L,
+        6348815945294010691L,
+        3372779721998590605L,
+        -6457953138414516717L,
+        -367869304559712888L,
+        7827177462807637077L,
+        4524555910858619707L,
+        3326299066279338267L,
+        -1273300334311832354L,
+        5073331552966333799L,
+        5980877007797781953L,
+        4581603802726829014L,
+        4053347894905287757L,
+        914330816264660121L,
+        100108371462251773L,
+        2166627972583829272L,
+        -8524676899018025554L,
+        8738685093778893652L,
+        -9176898999405204256L,
+        -5880821457106336921L,
+        -396635399178879289L,
+        2097109556236537214L,
+        -3232528324634486543L,
+        6212057276881687555L,
+        5592450300150549742L,
+        -6506777880803843650L,
+        -7658670423609011050L,
+        4429153989337944154L,
+        -2951931799988404682L,
+        2753686969044219365L,
+        5142523029473436825L,
+        5713002602068604272L,
+        5088514405274388645L,
+        -6257443809708662645L,
+        -3894043597977354183L,
+        4198035805306748390L,
+        7978777268273389792L,
+        -1449983344233228703L,
+        -2024693727414746508L,
+        7953749485138949374L,
+        4749553499907213504L,
+        2460761256782607221L,
+        7315583860145476251L,
+        2526817142258705627L,
+        6698427486351810084L,
+        7764096778218904364L,
+        8045146348334052845L,
+        1159111970937444724L,
+        8625239332195537437L,
+        7292495835062401326L,
+        1222830009953193487L,
+        5809905029144344126L,
+        -2053668414556886415L,
+        9204254482491201849L,
+        -6733518264701435415L,
+        3613605157889306737L,
+        -1671118947736694817L,
+        -575060521042783819L,
+        -4262877795473956162L,
+        -6355486022942466638L,
+        -5277587141474261613L,
+        4180153064989657531L,
+        -3616479501599802249L,
+        -1206933635009698247L,
+        4220428209664195882L,
+        2720763057401561320L,
+        5429652391333308311L,
+        -8550824153900663736L,
+        6450508075407783089L,
+        -3992186119333608933L,
+        3310265715834146390L,
+        -7790120094350141268L,
+        -5287286163196369257L,
+        2205719670456208994L,
+        -618924611621134148L,
+        -8431518553065093981L,
+        -1539508187551038772L,
+        -7544500666009728252L,
+        -2797545844177896107L,
+        589878220185373499L,
+        -6116672783247036573L,
+        7239116227553598593L,
+        -3914126160724650257L,
+        -3774412923276448542L,
+        -3654144144420899318L,
+        -8442286212198631515L,
+        6259214396364058214L,
+        -3055501586542692957L,
+        -7400273193184485429L,
+        5151336311003891649L,
+        321992270202219881L,
+        -1155024443053260214L,
+        -7900697619059581480L,
+        -955705152648981275L,
+        -8708159379537136269L,
+        2984283434435309443L,
+        -5435977912850823537L,
+        -2951081367127934911L,
+        4217501982160009843L,
+        -6704746793254391445L,
+        -7946622296441862118L,
+        5133724532656656130L,
+        4930067819779277654L,
+        6855437910195117420L,
+        -473752480381436420L,
+        1151117287967870441L,
+        -5431680436309913557L,
+        5845702423614856462L,
+        3315164824257969698L,
+        -5358741696132641998L,
+        -223326299382823077L,
+        -9018228766367030511L,
+        6189690745034401027L,
+        7222534060474049607L,
+        7751547665735259948L,
+        -2964166479028059664L,
+        -177932220574558853L,
+        -7039737617112421074L,
+        2996381197337737983L,
+        -5959193658759161903L,
+        589743757007887935L,
+        4288162563558645093L,
+        6332408809537792893L,
+        -6531457581800239695L,
+        -1524427191730640078L,
+        3512637645120009007L,
+        1013048706528863294L,
+        7831795370342741233L,
+        -6464346809582589644L,
+        2895564951260565663L,
+        -8117610663258170631L,
+        -981906143934510783L,
+        -6267777569682699181L,
+        -8979188664766271998L,
+        6649830312592475051L,
+        -5381228571856986391L,
+        -5153028457485916412L,
+        5744200278703502269L,
+        6026966464356086502L,
+        7829619520285948745L,
+        -9193585683181288822L,
+        -2704129462051700996L,
+        2488842930413816307L,
+        5270587823010512176L,
+        -5804324967225609896L,
+        7926957750669583239L,
+        8887576489764222876L,
+        4715728289952098891L,
+        5185093169010344750L,
+        9068752664455259270L,
+        -3971680094644957984L,
+        -5321816312255293509L,
+        6846089291917500932L,
+        -5163564353159128266L,
+        4654767870550060030L,
+        7444692644946310967L,
+        1841871697016018800L,
+        -3470176524062580389L,
+        -1817277238426939792L,
+        3659108743181713275L,
+        -2617524073692738828L,
+        -26240645491098046L,
+        -8087711352744311606L,
+        -2267326886883346737L,
+        4872671660596567902L,
+        3853968820531591476L,
+        -2511177404965829456L,
+        6321434165582917394L,
+        3902233154801824295L,
+        -647504132818407676L,
+        -2512048868198843830L,
+        -3910712862794367944L,
+        8290490438054147580L,
+        -4923467898116927905L,
+        -2151018678290157094L,
+        -2157954560704547693L,
+        -2749559641452543867L,
+        -6035732454288601157L,
+        4627545666066417823L,
+        -4676306927815325263L,
+        3679812423161767236L,
+        -9158015549687722676L,
+        -7539303118340412389L,
+        -3280265819373286950L,
+        370362003344249064L,
+        2099559986187738113L,
+        -8499256779304224104L,
+        8957564723746497468L,
+        -58149736837749463L,
+        4106412151567857094L,
+        644410497112055441L,
+        7856659250911438635L,
+        6034342237638029464L,
+        -1802307219487736983L,
+        4301474194638158365L,
+        -575165074964237115L,
+        -7833574354495649026L,
+        1115424785908219047L,
+        6629826674147128737L,
+        -8257745389894073617L,
+        7655982084015795204L,
+        6093124837705744904L,
+        1741181268226899624L,
+        -8524058943353883429L,
+        -7186591668237202891L,
+        -107357522063583976L,
+        -8131051238507529254L,
+        2956912176091455148L,
+        376823591562045759L,
+        -2108872168071508018L,
+        -37344946903566390L,
+        1458114449417860784L,
+        -744602949936307482L,
+        -2324104189343225248L,
+        -5425198817153554667L,
+        9171671418636246026L,
+        -8456180512352340415L,
+        1248994228137145417L,
+        7317122016503641316L,
+        -55633215702588416L,
+        -4663942442103869223L,
+        -7252852972758036588L,
+        7275769861403665838L,
+        -1167981079170312042L,
+        -2866714806456599863L,
+        6005001186990994284L,
+        9128996469880819002L,
+        4854844020988721924L,
+        6036764255983035090L,
+        -4195301010976441602L,
+        2767691175544806369L,
+        -4339127117509110064L,
+        2813685591107855059L,
+        1422767301592474698L,
+        5387138225873897597L,
+        7723966606326788277L,
+        -738872054767541430L,
+        -4337594367674346720L,
+        -4534340023581451734L,
+        7243312893099982884L,
+        1194860494447718256L,
+        -4065040778174120912L,
+        4602757777786678994L,
+        -6731249308863304086L,
+        4331806127659240561L,
+        7317055031843134001L,
+        -3943148874451454626L,
+        6895997397474838008L,
+        -5642901439668536884L,
+        -8797077651103483472L,
+        -4065100489885603089L,
+        2781778582572601473L,
+        4009381341114400512L,
+        -1789648769423830454L,
+        81066677617411744L,
+        3323629659123665153L,
+        1293605325319033230L,
+        -4753866765546952589L,
+        -4172878138319081257L,
+        -113967688717812683L,
+        7019761315235741448L,
+        -4894785632632771653L,
+        7028725960245497699L,
+        -631867558411109930L,
+        7529759194677831076L,
+        -2406688589989329134L,
+        9108916247288099964L,
+        2811061715197318470L,
+        -8765543602159239335L,
+        -1725490573752489574L,
+        -7732235930377234500L,
+        8556626512596569162L,
+        2198954026180656512L,
+        -2481605092666003460L,
+        -1479502665814366632L,
+        -7852207753966785711L,
+        -7950437207916157700L,
+        -2042529171702163055L,
+        8099079179203685217L,
+        -5373244031712158751L,
+        -6323346177150056792L,
+        -2512104265616327230L,
+        2500491054197932058L,
+        -637024691586342420L,
+        -5735172674005462599L,
+        -7358704030773790879L,
+        -2516236565776308234L,
+        849476743642535517L,
+        -1897100313617913031L,
+        2479749326650598784L,
+        -2351957202942051793L,
+        7059958154722192428L,
+        -9021181014888738597L,
+        1207628542406409895L,
+        2765727317222930183L,
+        6953684982223450278L,
+        -6930826309399400646L,
+        2805899135210519064L,
+        1272169515297671297L,
+        -8880285522927082556L,
+        -1789658843681412399L,
+        5323124111022740328L,
+        2941728588006473661L,
+        -557772884889143724L,
+        4226496243143311237L,
+        -8405420728496258345L,
+        3644433163779478228L,
+        -5741013921609192716L,
+        -3821460522962492461L,
+        -8523085986977712803L,
+        -8966285848219184973L,
+        7102430781164105043L,
+        -5115735615489216737L,
+        3567645917125470622L,
+        -7239344434633351472L,
+        5901161937500662766L,
+        -2964113232668142389L,
+        4596381941863670168L,
+        -223082743345098911L,
+        -5418065303145045476L,
+        -8287008417176131681L,
+        -5985902771014048664L,
+        -6103096077423860310L,
+        -189508092560769387L,
+        5823643813235599802L,
+        -6564246736411880675L,
+        6363987083185107687L,
+        6260995554304384986L,
+        3901800071924678306L,
+        54407070122358345L,
+        -9095239783166559215L,
+        -3287032075663139480L,
+        -3866014878885560362L,
+        -8632093462133120250L,
+        8533767199510167741L,
+        -5471441185571257576L,
+        8076230824126159207L,
+        1309183614240507112L,
+        4851871775058501367L,
+        4814762729047785513L,
+        6962082981987227425L,
+        6856600362955121381L,
+        -5889144858661467451L,
+        4518084205824471713L,
+        8966214650761216471L,
+        568285261437612054L,
+        -2562100045884856365L,
+        -234472016541069443L,
+        -7996556801357366286L,
+        -299398206857013874L,
+        -2851658567129143460L,
+        -555895780611056020L,
+        -3769662106994230476L,
+        -6430272972537013452L,
+        -6668055802933846975L,
+        -2441344331252874340L,
+        -5824289412581675054L,
+        5051047278682663656L,
+        7018001760466968790L,
+        -195420694709743102L,
+        -3197128154468780726L,
+        6120677350597042046L,
+        -5630760267235613683L,
+        -9156469362907540923L,
+        -5002254486872434410L,
+        -8215727852376793721L,
+        -5097646585124704080L,
+        6727200740718916511L,
+        -9144323903386697574L,
+        6408442807226830101L,
+        -8896303520942198476L,
+        97520325864713035L,
+        4214732212668965987L,
+        2024261627230904279L,
+        5498727307799821094L,
+        3160773375569368147L,
+        5762845897701124132L,
+        1093988927014340376L,
+        1834904756933603138L,
+        1515864186055240641L,
+        3095356873361122976L,
+        -5291192483614385653L,
+        7976213321748729681L,
+        4743677664710898635L,
+        8508676494969958371L,
+        4599577098081557936L,
+        6479764086040441566L,
+        3076139960125920789L,
+        1302748709642057329L,
+        7809771880146626290L,
+        969163706926635353L,
+        6405953111913010367L,
+        -6632490980455344791L,
+        4105376985401322467L,
+        3676264990827400422L,
+        8569751768036831932L,
+        8865845407903504029L,
+        3556769886796537512L,
+        -8053718795782428684L,
+        -2866233301867434245L,
+        -8265965509702404718L,
+        -5639481653496978546L,
+        -7001149231629494311L,
+        2323467270944791773L,
+        2660477745390001744L,
+        8380084370566210318L,
+        -2061264041088695904L,
+        -5735555336414302262L,
+        -6125661350779452219L,
+        849814950512209723L,
+        -6544149648039357643L,
+        6183412166906622353L,
+        -5543311228811189758L,
+        -6490127328402308230L,
+        6092003733649038955L,
+        1533542664220863482L,
+        -7648193155563668539L,
+        -857480272113536213L,
+        7143368132475423009L,
+        1585193565531379L,
+        5240518098107200759L,
+        8175556160555620826L,
+        -1642733812970342676L,
+        -6025269962815291585L,
+        -1966067799022983577L,
+        2486907258630412296L,
+        -5638817576109761353L,
+        -4958900369900154038L,
+        2946361179492843938L,
+        -352078692482677862L,
+        8900418478423768782L,
+        6752793442111283498L,
+        777141688267682977L,
+        -5050262282390570322L,
+        3559150120279243244L,
+        3283940173580151149L,
+        2864301855396876250L,
+        4992515885224611707L,
+        -8848325971908643249L,
+        7093301817017594497L,
+        5717384613684975765L,
+        -4967419661595175338L,
+        -7580142427504950983L,
+        2265359611701521653L,
+        8338419719292222026L,
+        -3837681215475312514L,
+        -3222624151681979837L,
+        3598485086644424370L,
+        5932544663025570161L,
+        -3868715433942858890L,
+        -4429856825611746947L,
+        1845077781953852247L,
+        1043052487559079345L,
+        -8967385478186792711L,
+        -7563260103526853134L,
+        8692324020149831237L,
+        940158017423864034L,
+        -1639763093211366068L,
+        1733516013082755423L,
+        1743648244794150009L,
+        6395560275092951005L,
+        -7498545205758327049L,
+        -2706542431392428959L,
+        2264566518775961972L,
+        -2388490051749578374L,
+        -5750123454597517139L,
+        3357500774247067431L,
+        -1803910808471125376L,
+        5881534850171592751L,
+        3225665068669450988L,
+        8218497360078985470L,
+        -8001961369897895550L,
+        -1581639841947907381L,
+        -6331899476560185654L,
+        -3595551621822538331L,
+        -7524794561604320446L,
+        9033085070126839753L,
+        7399730783156305438L,
+        2442541113122447713L,
+        9068517101595958985L,
+        5730063226961377024L,
+        4315246475462200265L,
+        190248358740151668L,
+        3007484827469194708L,
+        8174105393154627662L,
+        -5757957456873467022L,
+        6009955067456771049L,
+        -5295264566742912904L,
+        -6990022176226167832L,
+        -8780105564852056534L,
+        6564474450770868116L,
+        2622600727169589283L,
+        5792451238148643107L,
+        5756433806752353001L,
+        -2589516266848534910L,
+        1144791989815662628L,
+        2918059494301816985L,
+        4360362783691702333L,
+        -6215419585700768501L,
+        1838377682832188656L,
+        -5462226052433952513L,
+        4498566494907517184L,
+        -1674375756774236096L,
+        -3957740561528919225L,
+        780075548935544749L,
+        -7283565660494207660L,
+        -59575617165381153L,
+        3726746501835107772L,
+        -177020718365671731L,
+        -4414338477843938336L,
+        8054821457109988889L,
+        8869317139360646655L,
+        4349824808000912665L,
+        -8609220572136073216L,
+        4327760550497313373L,
+        462134634739905898L,
+        8977507192212660518L,
+        -308938307303135600L,
+        2413293450320605745L,
+        2421698350773514703L,
+        -6232892393646388738L,
+        -4587657922570963421L,
+        -9152997489401281887L,
+        4550484348937753960L,
+        7457718005004075806L,
+        -5194302123203737648L,
+        -7494255771479054259L,
+        -5824760269783266029L,
+        7585484412046096672L,
+        8330037241870302860L,
+        4285510976779580518L,
+        -3201787290759414564L,
+        -4894080809404687536L,
+        8456593588066313186L,
+        -2761232609908890967L,
+        -3820890009131907967L,
+        7250578059888013020L,
+        -1024721659815583825L,
+        -3107271278797005748L,
+        5408437220139153803L,
+        -3380191987533472016L,
+        -5716754994133755016L,
+        -6807411290828340975L,
+        5073710153610988332L,
+        -8097885985814637064L,
+        -8222041473008913488L,
+        -6636697674055811950L,
+        -433037367391503927L,
+        -1324053314667970570L,
+        5808673819372757295L,
+        5836333418970186962L,
+        8377681985884772679L,
+        8477580474267979862L,
+        -3379496556484193296L,
+        2485779498460908372L,
+        8802477267869843133L,
+        -6675094206192059697L,
+        7530441400701883334L,
+        2896270054964887440L,
+        -6316603869248981155L,
+        -5284071585831128768L,
+        -8426552748820053958L,
+        -8029519863207678390L,
+        1719947327636321893L,
+        -2876632045654165996L,
+        416371775715695725L,
+        7585514129947811543L,
+        5206998634118839448L,
+        5428217431735068336L,
+        -6628115800313117555L,
+        -3329468536843284478L,
+        -2407328705859684110L,
+        5342612691018941647L,
+        4347286400377045382L,
+        2836472712193706024L,
+        3792071904558760931L,
+        -3087519235556582286L,
+        -6273371388491541671L,
+        8413691877955731462L,
+        -6065527408635321608L,
+        4544499146852488694L,
+        -7742822669925147731L,
+        -1545117018063252420L,
+        4896026754850090044L,
+        -3202581295579318889L,
+        -1995423794383759886L,
+        8600733518123544114L,
+        -1137171510695813716L,
+        5187748563242230741L,
+        -6445821042065302477L,
+        -5930011320137436873L,
+        -1819320483536063951L,
+        6086010631104045018L,
+        -8417736555308361291L,
+        4775852532539431749L,
+        -2531931515069206625L,
+        -2237899857202208145L,
+        8201424442076419648L,
+        -1332235532220360090L,
+        3482299265628233507L,
+        1955207945223604892L,
+        -4696323505253095661L,
+        657032783197283689L,
+        -3456794397132053329L,
+        8981206100335341598L,
+        -7149370262352884101L,
+        692582146607720415L,
+        -498508562210272053L,
+        3926047647442318418L,
+        732668208243892678L,
+        -7324952004183991808L,
+        -226229678769024982L,
+        5896867304408108977L,
+        -6732982216099520102L,
+        5796146044494711040L,
+        5516810972306979078L,
+        -2996759050685492321L,
+        -7089137296237313289L,
+        1587731436250346924L,
+        5760636401815807967L,
+        -205305128106727597L,
+        8737342511539725241L,
+        962890493297663921L,
+        -8775855514686062321L,
+        -223662872299297139L,
+        7370741268006371129L,
+        9005325072435387128L,
+        -233697612271247803L,
+        4733407116723921669L,
+        -2036632000379330749L,
+        -8289959929313217808L,
+        3496308441895324119L,
+        -2516974652871765071L,
+        4645330233181512327L,
+        5310782434642684367L,
+        8824074975980237288L,
+        -4858978792267471978L,
+        -196016759651951436L,
+        7605379301536062593L,
+        5840322478273754821L,
+        -5814960834725278226L,
+        1084967463984270817L,
+        -2745304549749783304L,
+        5209056199842938167L,
+        4941838843612239585L,
+        285561193147841322L,
+        -1562034780577183240L,
+        3374964454530248221L,
+        -6355234761137857433L,
+        6015291144841291388L,
+        9164600658113516011L,
+        7639543402021153140L,
+        3360996446840894909L,
+        690363692009850103L,
+        -2657156104608850287L,
+        -761518319880755723L,
+        -6743736932527329532L,
+        -1037104969371711301L,
+        8432761952354193615L,
+        -2982790874777634556L,
+        2473482574622045442L,
+        2311019835815935127L,
+        -7432742914914763782L,
+        -6804962960211498186L,
+        1400773638654289119L,
+        -2655797251271373788L,
+        -6886415527431348633L,
+        -1996797095260876105L,
+        -6461523346940626298L,
+        -1799948885851500277L,
+        5923580596892770513L,
+        2818620271398742995L,
+        -1308719432328992646L,
+        6789681145385725641L,
+        7099977584715286323L,
+        8829631528266747983L,
+        7726395616605599851L,
+        253385631241037632L,
+        -6854977115726393361L,
+        1902475390044308252L,
+        -144083518425993536L,
+        -1265761764247317661L,
+        -8944918792554080526L,
+        -4653783917563534013L,
+        -6066462480579684644L,
+        -5707892353785477701L,
+        -5674263577794941946L,
+        995001651176096096L,
+        3879712708493074305L,
+        -6653493632959618927L,
+        132303912911840918L,
+        -8829741027217893784L,
+        -5448989715493589181L,
+        3130060052339050141L,
+        4580093264061115936L,
+        -3058706935048451630L,
+        -6666328019597114409L,
+        3130769764690529514L,
+        2504839245711637749L,
+        -2253304740725352362L,
+        2372145375567319327L,
+        -2939935969668826985L,
+        -6874983558228059448L,
+        2962469544584953196L,
+        9043906151405417423L,
+        -3326038608895017030L,
+        572292788947871336L,
+        -5985844397434602737L,
+        -707800619676392305L,
+        1597677324087633572L,
+        4215067301971227644L,
+        -3116184775075659565L,
+        -480164629735538829L,
+        -5617193873416865929L,
+        -786529597210147582L,
+        7226741456580956748L,
+        -1424176494629337610L,
+        4686503172594593114L,
+        -6151871204817598510L,
+        -4441796471745854929L,
+        -4916905169359650681L,
+        6349241700265087079L,
+        -5501104093157519747L,
+        6587457225361908823L,
+        -8100259849535955588L,
+        -1015860175033743783L,
+        -4849204645765806396L,
+        3353845263854208957L,
+        -4139205914166208686L,
+        4803725686046034532L,
+        9031363872331671965L,
+        8813241051406674491L,
+        -6959517102037113026L,
+        -5964368221208030769L,
+        -1663170278493586566L,
+        7176709420007798613L,
+        -1510166868783516383L,
+        -4409119753034994257L,
+        -6137514406391463394L,
+        -7775236154231757408L,
+        -42644924226449411L,
+        3084089997781629030L,
+        3061684791078748816L,
+        5309888653673804061L,
+        -5947155217221460639L,
+        7014992362857254377L,
+        -8764418938286709314L,
+        2790168583679603111L,
+        2148678685311259826L,
+        -3921731319753712444L,
+        -200837660761758604L,
+        377294066606739109L,
+        -4974397028344210535L,
+        -6555187224514901078L,
+        -6364055697536934104L,
+        8221026237191088362L,
+        -527403972310853563L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42 = {
+        3081673479958844160L,
+        7654188204808270638L,
+        -8794016460325976309L,
+        -5714257017695101378L,
+        -7798669629380866675L,
+        6296503342723507734L,
+        -769320910780865548L,
+        5077854321933071256L,
+        7547495268437240951L,
+        -3758523810686904886L,
+        8476722789497747346L,
+        4256602379629351482L,
+        -4146042798109872402L,
+        -2687254960985939259L,
+        3593198196962911074L,
+        -6147167087354116085L,
+        106528604122462868L,
+        2272897500482948793L,
+        4881621408182069160L,
+        -1657293010219109880L,
+        -4632655703441994394L,
+        2857813036366383951L,
+        -3014304547940732110L,
+        4788831871548199079L,
+        -1738571378170496213L,
+        -8645283214565129223L,
+        -8604281234010956034L,
+        -2879270770833707530L,
+        4195490806208144029L,
+        9044135823335822016L,
+        -8908840275513542135L,
+        4701147487751355975L,
+        6357561759060885031L,
+        8339447804373327769L,
+        8079945846120002932L,
+        -6511033739492128346L,
+        1612726230394366661L,
+        -3547585873449409745L,
+        -2025693810267646400L,
+        6475675642760523802L,
+        -8041414318461246997L,
+        1513294197543560533L,
+        -6746560381348506192L,
+        -9201890742270079548L,
+        1573754065516149156L,
+        -2142631291778960560L,
+        -3542916709444214494L,
+        -5552609379959083537L,
+        1351651821989329183L,
+        -1960062210315139587L,
+        -2024396179390764189L,
+        272061375515012515L,
+        -4123742030018290338L,
+        -4523072933032314397L,
+        -860135624253370565L,
+        -8182256140915016143L,
+        8655233858749367021L,
+        7717131960032479280L,
+        -1676112322222162649L,
+        5075538084457184577L,
+        -3085575121036290729L,
+        -3453967661877382635L,
+        4560630135050633906L,
+        -2174355277668300044L,
+        -279370823505309199L,
+        7944688626823359433L,
+        4376929122133960367L,
+        7965737364766133054L,
+        150868037243778605L,
+        6857516847400895067L,
+        5144183540031430748L,
+        -8349238622181398315L,
+        -1630313490707147696L,
+        -2028255765267180433L,
+        6771779325825764781L,
+        -3498099202993360169L,
+        2076921906997474697L,
+        6049993514047448055L,
+        -259009179787804385L,
+        2928960136709792283L,
+        5565333098083048193L,
+        864755951221380991L,
+        5323127989633472484L,
+        -6459521192118260696L,
+        -8377994201904988724L,
+        411981439559481902L,
+        7297114867258422838L,
+        -701970420096062325L,
+        8729641047449875579L,
+        -2754095677592558375L,
+        3371793346524075360L,
+        -1920484662407437943L,
+        -8226056703457243681L,
+        5184519703885065838L,
+        -8982207093084495094L,
+        -5149783814283886851L,
+        7780149521661393925L,
+        9064286193452979623L,
+        2717525583014321671L,
+        9217636707662616807L,
+        -8019660945046115974L,
+        7012404734741849955L,
+        2116566795721941962L,
+        7482077549862211460L,
+        7173054327378398131L,
+        3474243405141344020L,
+        -3337123905569695008L,
+        -6034506614247087832L,
+        -816604706994108619L,
+        -7894110619581951485L,
+        -2536275391628888284L,
+        3348699130863991573L,
+        2083794577790729492L,
+        563759523897655799L,
+        862266782025062795L,
+        -811441787086502890L,
+        4873603460859409327L,
+        3582478881430920768L,
+        -9059501918982053318L,
+        -2357570540085709680L,
+        3503946257970512149L,
+        -472337006488284818L,
+        714443782456499184L,
+        484189731580837488L,
+        1903483109685223821L,
+        7230559532387030413L,
+        -5137468554628651504L,
+        6685065490245068340L,
+        7275845037933767015L,
+        5374215751022241851L,
+        5313020052604761121L,
+        1936019672946398101L,
+        -4136075540792460537L,
+        -8074438053282856452L,
+        -1797841466557687097L,
+        3093080074738819350L,
+        1643771755888982089L,
+        -7616705501593427582L,
+        -9127011730810173112L,
+        -3931538670174777988L,
+        -3158647415701223788L,
+        7018123773126754284L,
+        2098054927804522421L,
+        -7542860669178690705L,
+        -2882190443551503275L,
+        -3609216008329713381L,
+        3959622587371550496L,
+        -6104487390871363095L,
+        -5800474625879543733L,
+        -3389758980143272278L,
+        -1382468132772091422L,
+        1726320747765662444L,
+        3448580198226675176L,
+        7918120032429998222L,
+        6354211395158617580L,
+        3026771967478704300L,
+        -4730282519034581634L,
+        7710720067960815679L,
+        -4050816979900092090L,
+        5468267515272055338L,
+        6521445286067467355L,
+        -8361029208228576346L,
+        -2033642566609172139L,
+        -5325922196981972434L,
+        1425845715603146424L,
+        7665330184119732948L,
+        -4062112535194927097L,
+        8589662125319372474L,
+        6258354896803635496L,
+        4629063508920035122L,
+        4688647464942747857L,
+        7771805581549348914L,
+        5738782277101234333L,
+        3902622378959074345L,
+        -4308547291797158196L,
+        9123162947543419522L,
+        -2078724697226624735L,
+        -62915251444688041L,
+        -1710092692378367504L,
+        1531448812483280669L,
+        -7773078239803140786L,
+        6932674597776945247L,
+        1282160975709446304L,
+        -1577452069213112154L,
+        -445657286419775195L,
+        2445015852153914831L,
+        -4178163396393157601L,
+        8361652578772271666L,
+        -5347170261633234231L,
+        6908813205468952597L,
+        -2365082198285054455L,
+        -3366704547805745202L,
+        3453542494451286054L,
+        -4441531324319518154L,
+        4297844419156657435L,
+        -210929186559809533L,
+        803270219549123311L,
+        -8044991554381938411L,
+        -8842465706719672745L,
+        1444040076450158143L,
+        -3246996667353898942L,
+        8864940006682141174L,
+        1779132438712025751L,
+        4266305361150041922L,
+        6911938295306959286L,
+        -8648822698776446921L,
+        -1662766879125501571L,
+        -5989229003371982847L,
+        -8781189479111563378L,
+        -3315049329052535105L,
+        -6871384825929818392L,
+        6170006639600434354L,
+        -8908271402377300602L,
+        -4286538998649015891L,
+        -3637881072458482848L,
+        6063687814422776166L,
+        -3699971815306530917L,
+        4377554696645334184L,
+        4206203786061580755L,
+        -958782696934564370L,
+        8217164642090415545L,
+        -631999931227023811L,
+        3610418472083991114L,
+        7156587529813772410L,
+        -4027506391825920759L,
+        -1781952338465006462L,
+        -7844913754782779650L,
+        2555363785019998230L,
+        4940565914560726879L,
+        -3509786367076712436L,
+        2390742688598947346L,
+        4596125744141261468L,
+        2548301282637540076L,
+        -1641524111803319532L,
+        4067658138547004673L,
+        4154781179172712954L,
+        5685885721608050051L,
+        -159375029247344236L,
+        306666939275442988L,
+        5354946363996421338L,
+        1097035274290374370L,
+        -4729935213567544789L,
+        -1476079110537093499L,
+        -4323418066642071695L,
+        -7649389975100514495L,
+        59524733505239797L,
+        2184511665826190695L,
+        4576265063478575420L,
+        3755467896911774856L,
+        4454578709303026616L,
+        5122225393429297747L,
+        4845002822366098258L,
+        3347277540002122441L,
+        -727831029748519687L,
+        -4203190546317563702L,
+        -5232425622392064435L,
+        -4439129537137967042L,
+        -4983534885174571686L,
+        -3411686729354174396L,
+        -9184872906498677898L,
+        4093407285350702687L,
+        -6595450951993181646L,
+        -3288317879017570528L,
+        1833568167965131989L,
+        -5270157411861099710L,
+        -9072808725818898052L,
+        5510170515310730476L,
+        -7496766960344169099L,
+        -6782652842392897538L,
+        -3705298228563010486L,
+        -6833293783608943896L,
+        -6917795683492923570L,
+        -275937823897394364L,
+        -1192495404622103161L,
+        -5131172605094984750L,
+        -1051453175410614900L,
+        7860267607865386127L,
+        -4235671376858149510L,
+        -4557004443255603958L,
+        -2900828460820299122L,
+        8520052848309470377L,
+        -4770796566127247446L,
+        -3834348488583974978L,
+        -2034496015887607967L,
+        -984973243637337635L,
+        -855200910037251571L,
+        -8918650168223012728L,
+        -4896315941174042433L,
+        2519890661336623739L,
+        339259641585958335L,
+        -261335405493744871L,
+        -4166874257378867711L,
+        -1550764302049105802L,
+        -5424348853549457890L,
+        4817145262141837752L,
+        -4915659786224957703L,
+        -5182353598487410365L,
+        4241779827866744722L,
+        -1718767165341952225L,
+        4007867834892039229L,
+        6708103219993088951L,
+        -7356887984694815222L,
+        856727061066564675L,
+        -2943486555422260283L,
+        -773164314463656110L,
+        7407435574447577224L,
+        -1351334612582969025L,
+        8778625021232075833L,
+        -7922210649769357999L,
+        -977316747972696625L,
+        8577500872154751465L,
+        796225245772780568L,
+        6440735553143277001L,
+        -7230771420084013926L,
+        -5041234478199921029L,
+        -3833861466715084065L,
+        6911097983444670138L,
+        -3516513828683576198L,
+        8435147581682192106L,
+        -7869563052013318422L,
+        -98043791893825809L,
+        -2328112518243780079L,
+        889548133054948989L,
+        2688863739952941124L,
+        4289908548082809797L,
+        7564746293966538984L,
+        -1810101446388610634L,
+        -3893425432965390835L,
+        -2618747035006096757L,
+        1881289597120549267L,
+        -7284220893728626131L,
+        2966160147410422441L,
+        842851101186017552L,
+        -4192293713501769496L,
+        -1445232600648208598L,
+        1412829150686093098L,
+        2848533684716228375L,
+        -8469076699210094109L,
+        2655369903960452751L,
+        4752834335838564507L,
+        5578489137028787510L,
+        -4220518927858333632L,
+        3232437284619284814L,
+        8192132740335956638L,
+        -2482446050610772270L,
+        4599138584387627281L,
+        -6526976476132395143L,
+        1849345107886725205L,
+        -3207677005430351286L,
+        7323812954301134741L,
+        5981729152511171817L,
+        -4165684990362849534L,
+        -7875188064472703671L,
+        5228941206405667962L,
+        -3914102575858217144L,
+        4667147875239337843L,
+        1981139494415325111L,
+        -1964513497298998428L,
+        3775201783329531404L,
+        1944747857102639710L,
+        2517973109539522560L,
+        -7550206792759724939L,
+        -4537878945829300906L,
+        -35678896024938450L,
+        366532722044666036L,
+        -488475733332403956L,
+        -3019066767724764218L,
+        3123952276066120488L,
+        -8420699801338198822L,
+        -7486742671940391504L,
+        9137411272984707294L,
+        -9081680643586558263L,
+        9117630533086648831L,
+        9015708918451598201L,
+        6997300765719711141L,
+        8550249004036080683L,
+        1855344854969052767L,
+        760108222934106133L,
+        326401365590773296L,
+        6230192903766821903L,
+        -3974647016476463590L,
+        -35807433797222802L,
+        5184968127078443364L,
+        -7710395079218702708L,
+        9091368424738435555L,
+        -9205180441631256701L,
+        4035783938816940444L,
+        -7340278905133214369L,
+        6144516447127306996L,
+        -6009551166738595951L,
+        6029901230372308997L,
+        -4846983807623400053L,
+        3410761604028761981L,
+        2667646607949129491L,
+        -806756012524494013L,
+        -6405627432417854668L,
+        -1249056633022754285L,
+        9163006482161735553L,
+        -4727231610128606214L,
+        -7289472885685669229L,
+        3562963194119955495L,
+        515935581487570458L,
+        3886092323397751235L,
+        -7488837746160774799L,
+        -7283717961958313930L,
+        936764445792685910L,
+        -2938245704961122223L,
+        3026300376067087003L,
+        2897843332552957325L,
+        3313897474873957352L,
+        -1509807019170113887L,
+        -5544749834558304080L,
+        -4961854804153703353L,
+        -3541304390264692129L,
+        -6982219239036219853L,
+        -7427071400904988285L,
+        -3328426417740657310L,
+        -184175865219493554L,
+        476968686044981666L,
+        268063389928352128L,
+        2424278089354519551L,
+        -3078171604129005071L,
+        -6949198068760986362L,
+        -4163026347129494203L,
+        8406796966051106957L,
+        -116268519641308013L,
+        7439458397689060734L,
+        8030379747289926350L,
+        3488942918593554567L,
+        6386039343500525308L,
+        2416486872816604067L,
+        -7100495003972665053L,
+        -3036132727685013677L,
+        1356494816268494923L,
+        -9159994297937515187L,
+        -3973307713199037073L,
+        -8879110299510896404L,
+        7669875630678896238L,
+        3125487633488039663L,
+        4654924196262932138L,
+        8034702087729042752L,
+        -7022034985539186913L,
+        5525962892662070656L,
+        4148932150081967075L,
+        2926192640167456922L,
+        -5991359210662686666L,
+        80518722103693947L,
+        -2951672913077979391L,
+        -5782416925154500265L,
+        2193597457870448445L,
+        2822209380917060621L,
+        5511336280468069295L,
+        2302163994753549797L,
+        5711280265817627568L,
+        -1316859888163241333L,
+        5927514513179652839L,
+        560918633017957859L,
+        1087484221568488972L,
+        -2182078006110799673L,
+        -3902039590448737116L,
+        -9057513748089017547L,
+        1095271483141654060L,
+        -1144667300928413172L,
+        -8495372828608826995L,
+        1033183506528510893L,
+        -6559841876814058088L,
+        -5937455587507172691L,
+        3778245851125646479L,
+        535480827587503443L,
+        -7842380075990395687L,
+        -8239413113615640334L,
+        5923169526016864747L,
+        -5294487354425170503L,
+        236097388968488704L,
+        -855991028583383993L,
+        -5567258017550464454L,
+        1559955766490951382L,
+        -1019889747168835188L,
+        109417704947661664L,
+        -3051561736899307967L,
+        -1086487691541885372L,
+        -2122923567225639688L,
+        6808819430073634829L,
+        -1676078364885015998L,
+        3036934588033622433L,
+        6903160866452113651L,
+        -4384396217272483852L,
+        -1008235887298487521L,
+        -5554905364384997085L,
+        1859295569117249050L,
+        7261386489830036436L,
+        412492949675639540L,
+        -2340769868389750633L,
+        -2921680164559887281L,
+        3976779599337322185L,
+        -5084245438411825335L,
+        -8087012375629728709L,
+        3755636013906879904L,
+        6800375097312926634L,
+        2789958288430863676L,
+        5333923162197983833L,
+        -3579781299414787575L,
+        -6647091871020766418L,
+        6044834238130254091L,
+        -7174329097507908676L,
+        -8245508226326748115L,
+        1413181108046799601L,
+        -4731257151573299566L,
+        3022074231458027912L,
+        6949567177994349475L,
+        52066771893535483L,
+        -1028548852617191853L,
+        7071970283993297042L,
+        -2163105683171558158L,
+        -7751912993283631306L,
+        -9047453512287850795L,
+        1150837545302704401L,
+        3612660984720685720L,
+        5764317379391286936L,
+        -14855403767544385L,
+        5312663415012982973L,
+        4894980299298874556L,
+        -5841717941364037206L,
+        5855669513525544720L,
+        7954461275851241659L,
+        -178490726738644196L,
+        -7581713203046286641L,
+        5869405566690915127L,
+        -6294276768411118220L,
+        -8669450473577006465L,
+        3061778994684966117L,
+        -4237096511049907773L,
+        -2997083565850836139L,
+        -4361947044054889089L,
+        -8616535440944276806L,
+        -4553313361166006582L,
+        -3549367343092227225L,
+        9101005189787375923L,
+        4686165744369628264L,
+        -4114012105240939198L,
+        677757409911013249L,
+        -7948033640215394142L,
+        1695673235403586863L,
+        -2284157477158273208L,
+        4242483636035082498L,
+        1113408701766870974L,
+        3156927320377580183L,
+        -5005267245294235131L,
+        -7908481542939795238L,
+        -1048785326202683957L,
+        -1891143328774816656L,
+        5505252937674013902L,
+        3711149248359847471L,
+        5648843509152151549L,
+        5315559081463994192L,
+        -6513356982607847840L,
+        924168356907149291L,
+        8811203964998162680L,
+        -7932654116490671277L,
+        8575946473256591798L,
+        7889057842505905136L,
+        -4170461961186887336L,
+        992451642862777210L,
+        3776405701445237578L,
+        369477007038481275L,
+        -781877665269590863L,
+        -8602142293662725721L,
+        977554389963981851L,
+        1067759491898071513L,
+        -8105472966947169025L,
+        2949113823393280154L,
+        -5328490009313940837L,
+        -3756742635708863557L,
+        5963158080691291734L,
+        -1931114104032010344L,
+        207619771568891506L,
+        1072095776894029643L,
+        8948334635171710866L,
+        -5387550184252529264L,
+        7388446697751694015L,
+        -7892163271663408231L,
+        -8002322994390080396L,
+        4929104395474246334L,
+        -5161495626894282076L,
+        -3048217885626207294L,
+        -3572673513014931117L,
+        -3431784748204760080L,
+        3181219808418289533L,
+        561449845223262379L,
+        8429862304879680619L,
+        -620719647133518535L,
+        1933599080619224991L,
+        -7627654204257540039L,
+        -6419553444702512117L,
+        -2315229556000489114L,
+        5319759859878757489L,
+        7365112696650397915L,
+        -6204219028364527964L,
+        -8943080419312698105L,
+        7294124078650199265L,
+        -5593553600170519429L,
+        -1141211829256409085L,
+        -6656508619521428516L,
+        8923230939465613945L,
+        253286247055778565L,
+        4713015092523242659L,
+        7238666411484754650L,
+        -8135259877250997208L,
+        4013073269481638619L,
+        -4326907780456771556L,
+        -5864488500195790652L,
+        -2175931406386037276L,
+        -5549504695527372865L,
+        -5431093688248069989L,
+        -2912801092216918105L,
+        4659890271884473876L,
+        -3496317576093403851L,
+        1076706344535400406L,
+        -4764952522930579408L,
+        -4630515314442210953L,
+        2711221311438929033L,
+        5106903951687920827L,
+        -8105212350265656772L,
+        9184762406690401133L,
+        -818889434029168552L,
+        1081518728277114647L,
+        -7185805052916994132L,
+        58470872994318297L,
+        -7452701468209852725L,
+        -4359668890263708992L,
+        1520023237768775688L,
+        1435263489568217069L,
+        -3783812039466481110L,
+        7774842928712145391L,
+        2336664215022933880L,
+        -2789485209937925363L,
+        4890010241212529012L,
+        4005859413190853776L,
+        -338816289180164469L,
+        -805358615973863384L,
+        4613470718475512998L,
+        -1049857981809097084L,
+        -4485682204092276657L,
+        1796879265580164652L,
+        6438169298883119596L,
+        -5373400391026124866L,
+        -3487277230845493622L,
+        -7155028973882955160L,
+        3881666563310859752L,
+        -2486733075139919815L,
+        -6931632867819120343L,
+        2761780706643636339L,
+        -6773671469153417193L,
+        7977043635485816433L,
+        -4097672028356467267L,
+        -1619079643836498446L,
+        2442069650879895336L,
+        -408058323011537945L,
+        8042308847830601011L,
+        -7775881569212595396L,
+        9105059274266031801L,
+        -4841609655151113463L,
+        4919109866393944115L,
+        -2918065396548569240L,
+        5251457308901581364L,
+        9208043186214234981L,
+        -5149799757512811050L,
+        -9125136235468801887L,
+        7039905006853281640L,
+        -2512721126900962367L,
+        -1165570894220069535L,
+        3332013188634369814L,
+        -8909415153578773625L,
+        8888136668562914413L,
+        8466904684246703544L,
+        -4265794749698486322L,
+        5143562661510769452L,
+        -9219517556443673524L,
+        -8937632468393648944L,
+        1140619987364442886L,
+        3303084339083211749L,
+        1672776039063684228L,
+        -8670034019770705595L,
+        -3118700093036430465L,
+        -7876403266484009113L,
+        -6465084862729534761L,
+        141401514097504217L,
+        -5013912356072353003L,
+        2208369699437231832L,
+        -7386194839592536079L,
+        1260326687257057331L,
+        6032371650589210142L,
+        -7046629932423082023L,
+        -1466454689355469089L,
+        -6520045956841818951L,
+        -7782892818546362634L,
+        -6974079862530611953L,
+        -2018614482684709745L,
+        -7620525863383468643L,
+        1521675328243960397L,
+        1948814768733920839L,
+        -7565069065326542015L,
+        7803539841896299637L,
+        -3065239035902309971L,
+        7878473008950011540L,
+        -8288427541479413628L,
+        3541285346069278636L,
+        1721026189714447187L,
+        -4425194611750554244L,
+        -562992890763025589L,
+        -4849625498605712045L,
+        8312329959470534003L,
+        5826854280324112321L,
+        -8740815426772767370L,
+        -2261739138993988750L,
+        -4626547224658301379L,
+        1295795536219320912L,
+        2757041797799701592L,
+        -6135647627270013435L,
+        7015903353560058390L,
+        4957932832173626317L,
+        -6151735943333478536L,
+        -8207503568923354649L,
+        8162819529336860950L,
+        1962034078144061122L,
+        -4488712730931614257L,
+        -435137872656725358L,
+        8977941494151278739L,
+        2739622495143128540L,
+        -8625475146196623475L,
+        9070943082226008973L,
+        2095488097589992991L,
+        -8134835820194765614L,
+        -5859118013795982591L,
+        -79671668844130027L,
+        6427955623682363880L,
+        1405057997273839975L,
+        9206671158421839491L,
+        -1752322639324977472L,
+        2547424701900450756L,
+        -4869003342154065907L,
+        7372816157551602722L,
+        -1853817629448913200L,
+        -3987550772677002581L,
+        -4568168461789826578L,
+        3190759438470578254L,
+        -8929077556137323467L,
+        3815261198794678763L,
+        8298616298352011671L,
+        5163284817455996350L,
+        -5565413654461247645L,
+        7550673540312210485L,
+        -5350043669642877051L,
+        6814701923534724599L,
+        4031135527041687472L,
+        -7412225370717294344L,
+        -1915247324609507993L,
+        873027096668954654L,
+        3995994919027223098L,
+        -1748601608434763038L,
+        -6269487240162631765L,
+        7472539891721913051L,
+        1592525231238895207L,
+        4886099825490279826L,
+        5415029479761013159L,
+        7227170153922612354L,
+        7193931130921461186L,
+        -7154098685070595950L,
+        -2085467875917536790L,
+        7837220075424206671L,
+        8733422244189127193L,
+        1586346904981197457L,
+        4401012025912845531L,
+        6369641919341813783L,
+        3093081036748381859L,
+        -9032118943779581417L,
+        3210476568335899786L,
+        7160862718815997111L,
+        4251083524377378399L,
+        5993672420619211673L,
+        1601229119054429766L,
+        6772650797492833762L,
+        2653884326617472942L,
+        2884215428938553462L,
+        -2766992114243527081L,
+        -4833651829619264262L,
+        -1962029513258195908L,
+        6617131862531560501L,
+        7555873730656636210L,
+        3189333494657686255L,
+        -9028691168414830402L,
+        6455010919105777991L,
+        -7350949597408317973L,
+        -961005210798747004L,
+        -1858866715063295551L,
+        -5265863339851178960L,
+        -4660252536699281139L,
+        -1778273577265380094L,
+        3654529727274160351L,
+        -612155284076916671L,
+        -8137206457825533442L,
+        -1320467082489338768L,
+        -7902287266613068233L,
+        818846770820035864L,
+        -6254531944559910001L,
+        -9050580070496089831L,
+        415160961885008336L,
+        -1234297547198808704L,
+        -6138631018833911753L,
+        8256042998703503947L,
+        -3415927394834697735L,
+        2608355246209991563L,
+        -6072963825550817756L,
+        -2919842041768945448L,
+        -3833596672050577134L,
+        7361636590547129585L,
+        -847387573921834917L,
+        -9167651202556881311L,
+        -7690119593235157545L,
+        5135807470821790117L,
+        6026759561072438984L,
+        4761143722233467351L,
+        -5276455458046409211L,
+        -7214061501485867215L,
+        -580980651897175926L,
+        -3852102910263021266L,
+        -343949014827256306L,
+        -8220368508708444982L,
+        2953147044214607765L,
+        -5336594075410651694L,
+        7059814494373371792L,
+        4491296065797781195L,
+        -7194321964870275140L,
+        -6349927135163345856L,
+        -861282905835014652L,
+        -6169968525095771663L,
+        -2603101716426106434L,
+        2512728929274513719L,
+        4042630153990599652L,
+        5957682960484786319L,
+        973333200806921197L,
+        -8843919038814874433L,
+        -6720003610300482518L,
+        -6720108723156958781L,
+        7932754275339264434L,
+        8836565774995780305L,
+        -8755557653736747288L,
+        2247147084565904109L,
+        3520794176401714053L,
+        2625221357647681258L,
+        5343063919752089930L,
+        -7725169014648456825L,
+        5516947525686654802L,
+        8753621097405229000L,
+        -6433127447017668819L,
+        -5637955692757199720L,
+        -1337903810212644268L,
+        -7879033879158867003L,
+        2454997868489661601L,
+        6985066806091505551L,
+        236787542985944940L,
+        -8467236748502175492L,
+        4683461740636771751L,
+        -3700171251138990021L,
+        -6397281592106576628L,
+        5546699594518935680L,
+        -8012471102794006936L,
+        -7764533397601407131L,
+        -2346775612979605168L,
+        -4143980254870495102L,
+        -5706656837465901718L,
+        -7753062997271578632L,
+        1632045194965465411L,
+        5507454802277583761L,
+        2359644657518958397L,
+        8274640088655156054L,
+        -875988675668454169L,
+        -1129099144424213314L,
+        -3405259471073894040L,
+        897704861226122524L,
+        5741745849486085395L,
+        -4729502308272279319L,
+        8863702522445626818L,
+        3542312285901287606L,
+        8572829860197825846L,
+        -352471459438724629L,
+        7256549818973867086L,
+        8926919434901037610L,
+        7786456849400433423L,
+        -3379489884681564061L,
+        -235065711025316655L,
+        -1094242490821296389L,
+        -3514576977649637294L,
+        -4309037694192618410L,
+        6216105377528581604L,
+        5509696569337658856L,
+        2145315717305979643L,
+        -8090515468595817651L,
+        1772543569195190244L,
+        -7837364006187056211L,
+        -7161451220640753604L,
+        7483009457560949045L,
+        -6052580710766217517L,
+        -7907630688942714650L,
+        -5290117513436067397L,
+        7998353962302874481L,
+        -7606891221119007247L,
+        2694256394994331681L,
+        2456589573264658622L,
+        -5509166309764316185L,
+        -2743114733949088393L,
+        6551367815402898613L,
+        3083106254899144101L,
+        -1447370439334251556L,
+        -4302647382552075742L,
+        -7703823857432600681L,
+        6170865213406038380L,
+        3459817116714283651L,
+        3536395054876558804L,
+        -5247325442940013185L,
+        6843271378371151402L,
+        2890053713913580755L,
+        9096425986895810135L,
+        -7571181141664566861L,
+        -4196769886846575412L,
+        -3948906311957859647L,
+        -2350989620631954482L,
+        -239354771326064229L,
+        7702219058013706879L,
+        7912844195858292375L,
+        4706407786286409267L,
+        4294765688475788705L,
+        -8143308447580590650L,
+        7090117608770897807L,
+        -7116284043117980493L,
+        5491720047346841083L,
+        -4348455534546383874L,
+        -3051979104225492262L,
+        -8792828509699497214L,
+        7613881418107012047L,
+        -7164336427990547286L,
+        -8357689498086417290L,
+        9081140043482149122L,
+        -3736246355813209929L,
+        -1982267447368019244L,
+        -3177998909078111847L,
+        5999468417822492993L,
+        7854452063884385595L,
+        6221375792155316622L,
+        3242297709757445864L,
+        -4381084517972799568L,
+        -4396018905223405213L,
+        6681963660207790465L,
+        -4525695398238902143L,
+        -5405230341088908431L,
+        -2189174476295219200L,
+        -4147593461095288730L,
+        -7314478248242110403L,
+        7594329206537155134L,
+        -6828225514743054760L,
+        8213434371520526561L,
+        -3368239205889852247L,
+        -8359345216391266016L,
+        9064770896520866142L,
+        350746887064493172L,
+        -4278001816761997331L,
+        -8529186804768466695L,
+        -6661673581217155773L,
+        -1600472825984219991L,
+        8050007421658831457L,
+        2996965000990693934L,
+        4066940842258863961L,
+        -3394568073471453776L,
+        -2933848155772476850L,
+        4801205330766011308L,
+        -8805773258171322741L,
+        -548213197652970895L,
+        -7742600960089387133L,
+        9187289125273547167L,
+        2423512522597214374L,
+        -2601848052378978457L,
+        5372956423462438782L,
+        -1270044505515117253L,
+        -3079171404457867911L,
+        -4337231013537292239L,
+        9201549032522828631L,
+        -5812660733276762154L,
+        -676089469002467039L,
+        -2201368324772514928L,
+        -2979534547467360967L,
+        8675232773411412930L,
+        -8897371019320936490L,
+        -8714743958465112576L,
+        7908085883929560162L,
+        8855886227641137724L,
+        9135846294517202033L,
+        4530964522481080007L,
+        -7997949841961532917L,
+        -7677165966795279400L,
+        -118050547153803438L,
+        8339316260625068561L,
+        8470253075532140711L,
+        6523847712178665516L,
+        884062784546455420L,
+        -3863547610830980891L,
+        -2186983264676153801L,
+        -3340788766956269146L,
+        -1743117171368620443L,
+        1746186277613914990L,
+        -1003895120525887581L,
+        -3919758115264888782L,
+        -3085398867186750817L,
+        -2880683063870820636L,
+        -3320635354303620144L,
+        -7477776764562147387L,
+        3110316721664010696L,
+        -3420926520472491526L,
+        -1597155530004205948L,
+        3395131015690414993L,
+        -6326764062538224873L,
+        -8682070257318471038L,
+        -5830214219300597560L,
+        2273818684669969442L,
+        -6200294153689540274L,
+        7728183496068588174L,
+    };
+}
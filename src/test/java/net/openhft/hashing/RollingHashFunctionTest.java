@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class RollingHashFunctionTest {
+
+    private static final int LEN = 5000;
+
+    private static byte[] data() {
+        final byte[] data = new byte[LEN];
+        new Random(LEN).nextBytes(data);
+        return data;
+    }
+
+    @Test
+    public void testBuzhash() {
+        for (final int windowSize : new int[] {1, 2, 16, 48, 64, 65, 100, 1000}) {
+            test(RollingHashFunction.buzhash(windowSize));
+            test(RollingHashFunction.buzhash(windowSize, 42L));
+        }
+        assertNotEquals(RollingHashFunction.buzhash(16).hashBytes(data(), 0, 16),
+                RollingHashFunction.buzhash(16, 42L).hashBytes(data(), 0, 16));
+    }
+
+    @Test
+    public void testGear() {
+        test(RollingHashFunction.gear());
+        test(RollingHashFunction.gear(42L));
+        assertEquals(64, RollingHashFunction.gear().windowSize());
+        // a byte has no effect after 64 more bytes, so appending never needs to roll out
+        final RollingHashFunction f = RollingHashFunction.gear();
+        final byte[] data = data();
+        long h = 0;
+        for (int i = 0; i < 100; i++) {
+            h = f.append(h, data[i]);
+        }
+        assertEquals(f.hashBytes(data, 36, 64), h);
+    }
+
+    @Test
+    public void testRabinKarp() {
+        for (final int windowSize : new int[] {1, 2, 16, 64, 100, 1000}) {
+            test(RollingHashFunction.rabinKarp(windowSize));
+            test(RollingHashFunction.rabinKarp(windowSize, 31L));
+        }
+        // the definition
+        final byte[] data = data();
+        final long base = 0x100000001B3L;
+        long expected = 0;
+        for (int i = 0; i < 100; i++) {
+            expected = expected * base + (data[i] & 0xFF);
+        }
+        assertEquals(expected, RollingHashFunction.rabinKarp(100).hashBytes(data, 0, 100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRabinKarpEvenBase() {
+        RollingHashFunction.rabinKarp(10, 256L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadWindowSize() {
+        RollingHashFunction.buzhash(0);
+    }
+
+    private static void test(final RollingHashFunction f) {
+        final byte[] data = data();
+        final int w = f.windowSize();
+        long h = f.hashBytes(data, 0, w);
+        for (int off = 0; off + w < LEN; off++) {
+            h = f.roll(h, data[off], data[off + w]);
+            assertEquals("window " + (off + 1) + ", size " + w,
+                    f.hashBytes(data, off + 1, w), h);
+        }
+        // the last window of a longer sequence
+        assertEquals(f.hashBytes(data, LEN - w, w), f.hashBytes(data, 0, LEN));
+
+        final long[] visited = {0};
+        final long stoppedAt = f.scan(data, UnsafeAccess.INSTANCE, UnsafeAccess.BYTE_BASE, LEN,
+                new RollingHashFunction.WindowVisitor() {
+                    @Override
+                    public boolean visit(long windowOff, long hash) {
+                        final int off = (int) (windowOff - UnsafeAccess.BYTE_BASE);
+                        assertEquals(visited[0]++, off);
+                        assertEquals(f.hashBytes(data, off, w), hash);
+                        return true;
+                    }
+                });
+        assertEquals(-1, stoppedAt);
+        assertEquals(LEN - w + 1, visited[0]);
+
+        // the other inputs
+        final int off = 123;
+        final long expected = f.hashBytes(data, off, w);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(LEN);
+        direct.put(data);
+        assertEquals(expected, f.hashBytes(direct, off, w));
+        assertEquals(expected, f.hashMemory(Util.getDirectBufferAddress(direct) + off, w));
+        assertEquals(expected, f.hashBytes(ByteBuffer.wrap(data).asReadOnlyBuffer(), off, w));
+        final String s = new String(data, ISO_8859_1);
+        final Access<String> access = Access.toCharSequence(Primitives.NATIVE_LITTLE_ENDIAN ?
+                ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        final long charsHash = f.hash(s, access, off * 2L, w * 2L);
+        final byte[] chars = new byte[w * 2];
+        ByteBuffer.wrap(chars).order(ByteOrder.nativeOrder()).asCharBuffer()
+                .put(s, off, off + w);
+        assertEquals(f.hashBytes(chars, 0, w * 2), charsHash);
+    }
+
+    @Test
+    public void testScanStops() {
+        final byte[] data = data();
+        final RollingHashFunction f = RollingHashFunction.rabinKarp(8);
+        // substring search
+        final long needle = f.hashBytes(data, 1000, 8);
+        final long found = f.scan(data, UnsafeAccess.INSTANCE, UnsafeAccess.BYTE_BASE, LEN,
+                new RollingHashFunction.WindowVisitor() {
+                    @Override
+                    public boolean visit(long windowOff, long hash) {
+                        return hash != needle;
+                    }
+                });
+        assertEquals(1000, found - UnsafeAccess.BYTE_BASE);
+        assertEquals(-1, f.scan(data, UnsafeAccess.INSTANCE, UnsafeAccess.BYTE_BASE, 7,
+                new RollingHashFunction.WindowVisitor() {
+                    @Override
+                    public boolean visit(long windowOff, long hash) {
+                        throw new AssertionError();
+                    }
+                }));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import com.google.common.hash.Hashing;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class SipHashTest {
+
+    // key bytes 00 01 .. 0f, as in the reference test vectors
+    private static final long K0 = 0x0706050403020100L;
+    private static final long K1 = 0x0f0e0d0c0b0a0908L;
+
+    private static byte[] loopingBytes(int len) {
+        final byte[] data = new byte[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    @Test
+    public void testSipHash24KnownValues() {
+        final LongHashFunction f = LongHashFunction.sip_2_4(K0, K1);
+        LongHashFunctionTest.test(f, loopingBytes(0), 0x726fdb47dd0e0e31L);
+        LongHashFunctionTest.test(f, loopingBytes(1), 0x74f839c593dc67fdL);
+        LongHashFunctionTest.test(f, loopingBytes(2), 0x0d6c8009d9a94f5aL);
+        LongHashFunctionTest.test(f, loopingBytes(3), 0x85676696d7fb7e2dL);
+        LongHashFunctionTest.test(f, loopingBytes(15), 0xa129ca6149be45e5L);
+    }
+
+    @Test
+    public void testSipHash24AgainstGuava() {
+        final Random random = new Random(24);
+        for (int len = 0; len <= 1024; len++) {
+            final long k0 = random.nextLong();
+            final long k1 = random.nextLong();
+            final byte[] data = loopingBytes(len);
+            final long eh = Hashing.sipHash24(k0, k1).hashBytes(data).asLong();
+            LongHashFunctionTest.test(LongHashFunction.sip_2_4(k0, k1), data, eh);
+        }
+    }
+
+    @Test
+    public void testSipHash13() {
+        final LongHashFunction f = LongHashFunction.sip_1_3(K0, K1);
+        for (int len = 0; len < SIP_1_3_OF_LOOPING_BYTES.length; len++) {
+            LongHashFunctionTest.test(f, loopingBytes(len), SIP_1_3_OF_LOOPING_BYTES[len]);
+        }
+    }
+
+    @Test
+    public void testHalfSipHash24() {
+        final IntHashFunction f = IntHashFunction.halfSip_2_4(0x0706050403020100L);
+        for (int len = 0; len < HALF_SIP_2_4_OF_LOOPING_BYTES.length; len++) {
+            IntHashFunctionTest.test(f, loopingBytes(len), HALF_SIP_2_4_OF_LOOPING_BYTES[len]);
+        }
+    }
+
+    @Test
+    public void testRandomlyKeyed() {
+        final LongHashFunction f = LongHashFunction.randomlyKeyed();
+        assertSame(f, LongHashFunction.randomlyKeyed());
+        final byte[] data = loopingBytes(100);
+        LongHashFunctionTest.test(f, data, f.hashBytes(data));
+        // fails with the probability of 2^-64 only, if the random key happens to be zero
+        assertNotEquals(LongHashFunction.sip_1_3(0, 0).hashBytes(data), f.hashBytes(data));
+    }
+
+    @Test
+    public void testRandomlyKeyedSerialization() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(LongHashFunction.randomlyKeyed());
+        oos.close();
+        // the class descriptor of the keyed function, listing the key fields, isn't written
+        final String stream = new String(out.toByteArray(), Charset.forName("ISO-8859-1"));
+        assertFalse(stream.contains("k0"));
+        final Object copy = new ObjectInputStream(
+                new ByteArrayInputStream(out.toByteArray())).readObject();
+        assertSame(LongHashFunction.randomlyKeyed(), copy);
+    }
+
+    /**
+     * SipHash-1-3 of bytes {@code 0, 1, ..., len - 1} with the key bytes {@code 0, 1, ..., 15},
+     * output of the reference implementation compiled with {@code cROUNDS=1} and
+     * {@code dROUNDS=3}.
+     */
+    private static final long[] SIP_1_3_OF_LOOPING_BYTES = {
+            0xabac0158050fc4dcL, 0xc9f49bf37d57ca93L, 0x82cb9b024dc7d44dL,
+            0x8bf80ab8e7ddf7fbL, 0xcf75576088d38328L, 0xdef9d52f49533b67L,
+            0xc50d2b50c59f22a7L, 0xd3927d989bb11140L, 0x369095118d299a8eL,
+            0x25a48eb36c063de4L, 0x79de85ee92ff097fL, 0x70c118c1f94dc352L,
+            0x78a384b157b4d9a2L, 0x306f760c1229ffa7L, 0x605aa111c0f95d34L,
+            0xd320d86d2a519956L, 0xcc4fdd1a7d908b66L, 0x9cf2689063dbd80cL,
+            0x8ffc389cb473e63eL, 0xf21f9de58d297d1cL, 0xc0dc2f46a6cce040L,
+            0xb992abfe2b45f844L, 0x7ffe7b9ba320872eL, 0x525a0e7fdae6c123L,
+            0xf464aeb267349c8cL, 0x45cd5928705b0979L, 0x3a3e35e3ca9913a5L,
+            0xa91dc74e4ade3b35L, 0xfb0bed02ef6cd00dL, 0x88d93cb44ab1e1f4L,
+            0x540f11d643c5e663L, 0x2370dd1f8c21d1bcL, 0x81157b6c16a7b60dL,
+            0x4d54b9e57a8ff9bfL, 0x759f12781f2a753eL, 0xcea1a3bebf186b91L,
+            0x2cf508d3ada26206L, 0xb6101c2da3c33057L, 0xb3f47496ae3a36a1L,
+            0x626b57547b108392L, 0xc1d2363299e41531L, 0x667cc1923f1ad944L,
+            0x65704ffec8138825L, 0x24f280d1c28949a6L, 0xc2ca1cedfaf8876bL,
+            0xc2164bfc9f042196L, 0xa16e9c9368b1d623L, 0x49fb169c8b5114fdL,
+            0x9f3143f8df074c46L, 0xc6fdaf2412cc86b3L, 0x7eaf49d10a52098fL,
+            0x1cf313559d292f9aL, 0xc44a30dda2f41f12L, 0x36fae98943a71ed0L,
+            0x318fb34c73f0bce6L, 0xa27abf3670a7e980L, 0xb4bcc0db243c6d75L,
+            0x23f8d852fdb71513L, 0x8f035f4da67d8a08L, 0xd89cd0e5b7e8f148L,
+            0xf6f4e6bcf7a644eeL, 0xaec59ad80f1837f2L, 0xc3b2f6154b6694e0L,
+            0x9d199062b7bbb3a8L
+    };
+
+    /**
+     * HalfSipHash-2-4 with 32-bit output of bytes {@code 0, 1, ..., len - 1} with the key bytes
+     * {@code 0, 1, ..., 7}, output of the reference implementation.
+     */
+    private static final int[] HALF_SIP_2_4_OF_LOOPING_BYTES = {
+            0x5b9f35a9, 0xb85a4727, 0x03a662fa, 0x04e7fe8a, 0x89466e2a, 0x69b6fac5,
+            0x23fc6358, 0xc563cf8b, 0x8f84b8d0, 0x79e706f8, 0x3479b094, 0x50300808,
+            0x2f87f057, 0xff63e677, 0x7cf8ffd6, 0x972bfe74, 0x84acb5d9, 0x5b6474c4,
+            0x9b8d5b46, 0x87e3ef7b, 0x45104de3, 0xb3623f61, 0xfe67f370, 0xbdb8ade6,
+            0x630c4027, 0x75787826, 0x5f7b564f, 0x69e6b03a, 0x004064b0, 0xb40f67ff,
+            0x8b339e50, 0x1a9f585d, 0x1221e7fe, 0x59327533, 0x8c4f436a, 0x29b728fe,
+            0xecc65ce7, 0x548d7e69, 0x0f8b6863, 0xb4620b65, 0x4018bcb6, 0x0545075d,
+            0x2efd4224, 0x3a86b77b, 0x48d50577, 0xb10852d7, 0xc899d4b6, 0x2e209208,
+            0xe32ce169, 0xe580b58d, 0xc6649736, 0x04026e01, 0xd4f3853b, 0xbe66dbfe,
+            0x3a2a691e, 0xc08489c6, 0x40b9c5a5, 0x8ce8e99b, 0x4081bc7d, 0xc58e077c,
+            0x736ce7d4, 0xb9cb8f42, 0x7a9983bd, 0x744aea59
+    };
+}
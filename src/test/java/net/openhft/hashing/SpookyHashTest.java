@@ -0,0 +1,5270 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class SpookyHashTest {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+    @Test
+    public void testSpookyWithoutSeeds() {
+        test(LongTupleHashFunction.spooky_2(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_LOW,
+                HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_HIGH);
+        test(LongHashFunction.spooky_2(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_LOW);
+    }
+
+    @Test
+    public void testSpookyWithSeeds() {
+        test(LongTupleHashFunction.spooky_2(42L, 7L), HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_7_LOW,
+                HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_7_HIGH);
+    }
+
+    @Test
+    public void testSpooky64WithSeed() {
+        test(LongHashFunction.spooky_2(42L), HASHES_64_OF_LOOPING_BYTES_WITH_SEED_42);
+    }
+
+    /**
+     * The first results of TestResults() in TestSpookyV2.cpp, {@code Hash32(buf, len, 0)} of
+     * {@code buf[i] = i + 128}, that is the low 32 bits of {@code Hash64(buf, len, 0)}.
+     */
+    @Test
+    public void testReferenceResults() {
+        if (len >= TEST_RESULTS.length) {
+            return;
+        }
+        byte[] buf = new byte[len];
+        for (int i = 0; i < buf.length; i++) {
+            buf[i] = (byte) (i + 128);
+        }
+        assertEquals(TEST_RESULTS[len], (int) LongHashFunction.spooky_2().hashBytes(buf));
+    }
+
+    private byte[] loopingBytes() {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        return data;
+    }
+
+    private void test(LongTupleHashFunction spooky, long[] hashesOfLoopingBytesLow,
+                      long[] hashesOfLoopingBytesHigh) {
+        LongTupleHashFunctionTest.test(spooky, loopingBytes(),
+                new long[]{hashesOfLoopingBytesLow[len], hashesOfLoopingBytesHigh[len]});
+    }
+
+    private void test(LongHashFunction spooky, long[] hashesOfLoopingBytes) {
+        LongHashFunctionTest.test(spooky, loopingBytes(), hashesOfLoopingBytes[len]);
+    }
+
+    private static final int[] TEST_RESULTS = {
+            0x6bf50919, 0x70de1d26, 0xa2b37298, 0x35bc5fbf, 0x8223b279, 0x5bcb315e, 0x53fe88a1,
+            0xf9f1a233, 0xee193982, 0x54f86f29, 0xc8772d36, 0x9ed60886, 0x5f23d1da, 0x1ed9f474,
+            0xf2ef0c89, 0x83ec01f9, 0xf274736c, 0x7e9ac0df, 0xc7aed250, 0xb1015811, 0xe23470f5,
+            0x48ac20c4, 0xe2ab3cd5, 0x608f8363, 0xd0639e68, 0xc4e8e7ab, 0x863c7c5b, 0x4ea63579,
+            0x99ae8622, 0x170c658b,
+    };
+
+    /**
+     * Test data is output of the following program with SpookyV2.cpp
+     * from http://burtleburtle.net/bob/hash/spooky.html
+     * <pre>
+     * #include &lt;stdio.h&gt;
+     * #include "SpookyV2.h"
+     *
+     * int main() {
+     *     uint8 src[1024];
+     *     for (int i = 0; i &lt; 1024; i++) {
+     *         src[i] = (uint8) i;
+     *     }
+     *     for (int i = 0; i &lt;= 1024; i++) {
+     *         uint64 h1 = 0, h2 = 0;
+     *         SpookyHash::Hash128(src, i, &amp;h1, &amp;h2);
+     *         printf("%lldL, %lldL\n", (long long) h1, (long long) h2);
+     *     }
+     *     for (int i = 0; i &lt;= 1024; i++) {
+     *         uint64 h1 = 42, h2 = 7;
+     *         SpookyHash::Hash128(src, i, &amp;h1, &amp;h2);
+     *         printf("%lldL, %lldL\n", (long long) h1, (long long) h2);
+     *     }
+     *     for (int i = 0; i &lt;= 1024; i++) {
+     *         printf("%lldL,\n", (long long) SpookyHash::Hash64(src, i, 42));
+     *     }
+     * }
+     * </pre>
+     */
+    private static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_LOW = {
+            2533000996631939353L,
+            -8438914367752695168L,
+            -1949361133189865654L,
+            844237495353429690L,
+            -3693381185698703094L,
+            -638434273275764589L,
+            -8928392271479481474L,
+            -2358032316176841059L,
+            8971559986413601884L,
+            8344973900112796146L,
+            4582911854967502345L,
+            5872202212214244936L,
+            8527669008970664538L,
+            -2511505189385146406L,
+            -9009055755457629927L,
+            -2762247131688589429L,
+            3747599441836582481L,
+            -6989849837859314759L,
+            -8533536349686129833L,
+            172999441388424062L,
+            -4877517211670531356L,
+            -8106797882352200728L,
+            2667853264576899730L,
+            -1247451448535928217L,
+            3119198851540438639L,
+            -254240581331373370L,
+            904322644727142200L,
+            7960590633019558095L,
+            8276767951926270534L,
+            3582833438161896918L,
+            6563134317703122682L,
+            -6659088353694056951L,
+            6337984595696435154L,
+            4509666508916249124L,
+            413199112052511173L,
+            8045537184918091839L,
+            -5334662891984493341L,
+            284296046455067112L,
+            6990342141114512408L,
+            6971333771479414859L,
+            -2745970627083030230L,
+            8455936714395764842L,
+            1306089183718256872L,
+            7129553477783293579L,
+            -2786917097367480038L,
+            -9210423004825783312L,
+            -682705914738697946L,
+            -2875914908954279375L,
+            -7385553783353247354L,
+            -1403521290125073632L,
+            -8897481711461869697L,
+            6773049803443431949L,
+            -6549299485245000425L,
+            -3180066219085310648L,
+            8488677108150989211L,
+            -8598348303699803753L,
+            -5949072376207484078L,
+            -6123619817375344465L,
+            -7829177465322089472L,
+            7199797515283797882L,
+            8957151453486952080L,
+            871457472611903249L,
+            2489865158076927456L,
+            -1838486808690641479L,
+            945387429693550217L,
+            -1920348441806965956L,
+            -2763961108128045774L,
+            6122657815482407950L,
+            -4082029564555860215L,
+            1596438048924221995L,
+            -7596751286500912392L,
+            4360756221259282468L,
+            7751030087288244378L,
+            -2205477700334137588L,
+            -3902278390980359970L,
+            -4903159542730889755L,
+            4521362484852920065L,
+            -8651454452885072645L,
+            2342652466755771555L,
+            4774872929378514171L,
+            5377225187217073231L,
+            -4359840190479737342L,
+            -730344985038470241L,
+            8518606911598461584L,
+            4028871302701827298L,
+            9003888610001464399L,
+            -2579648373005824388L,
+            -6024125047161422346L,
+            1312677916968108435L,
+            -2131578373772188864L,
+            -8128655187529798085L,
+            7396722339792213580L,
+            -684933758776989582L,
+            2600091823279818295L,
+            -2855297277556104559L,
+            -6230552404793633834L,
+            -2555472810718319373L,
+            6927069332090603091L,
+            2469022739702961092L,
+            3997293161914708086L,
+            2484424867720105036L,
+            -8800434295823832864L,
+            1259303861160396351L,
+            -1419421512786363824L,
+            2393189412839061308L,
+            5672184507014875349L,
+            136987066859619273L,
+            -7339185377906080386L,
+            8141751221651347043L,
+            6220028007072936923L,
+            3251084628847141871L,
+            -2942462333956982528L,
+            -2894605860619256541L,
+            -2609508406638668495L,
+            -2813032512588918802L,
+            341223807265979038L,
+            -2855003538450883295L,
+            7122800514857313856L,
+            -4708158441662324865L,
+            6264577030369781831L,
+            912134926196314938L,
+            6328144395339953591L,
+            5534096353990990966L,
+            -2832209457447842441L,
+            -8147565341569928055L,
+            -4833373717892384472L,
+            -2920303973617810713L,
+            -4877111422946546716L,
+            875046411274021569L,
+            6350493401388528089L,
+            2453050208455061053L,
+            -2755615235616295104L,
+            -1347737049677316158L,
+            -6393975426845347015L,
+            5351609173748802722L,
+            -8529842443467651412L,
+            -2229862741331159752L,
+            2285262443717577326L,
+            -203427969935044369L,
+            3942797036097067217L,
+            2924228138237355958L,
+            8042610244793726464L,
+            -8744043690888759365L,
+            -5218163689094889723L,
+            6861262159573746123L,
+            -436687133056532306L,
+            -3289902433392689730L,
+            4462903979199722532L,
+            -1327699960266854988L,
+            3424979880924396995L,
+            -531943068606415852L,
+            7930962355470952748L,
+            7083600820362259549L,
+            -1926738916477321672L,
+            -119061672337193336L,
+            352589778509986481L,
+            -854624358464026943L,
+            -4966676552358781925L,
+            -600026746778112514L,
+            -2010597748575460721L,
+            -1499979645077169482L,
+            7596255190005562333L,
+            8453715692335714802L,
+            -1659620216911343310L,
+            -4874503262940680563L,
+            -6362091736245788838L,
+            7706476058083144095L,
+            8926883732450800050L,
+            6679658637457744904L,
+            7258886410748139707L,
+            -6991569204384126121L,
+            4805880314524664187L,
+            5210682759738708748L,
+            -5734496025116918041L,
+            -19059379175723716L,
+            541542558900948143L,
+            7608940769035178239L,
+            1830352578875165835L,
+            6710186800897781040L,
+            8133908427341513067L,
+            -2702558717587158766L,
+            6114385758578607398L,
+            -7037937587364194920L,
+            -4100494894921739453L,
+            583239713118854249L,
+            3251531992545149220L,
+            -4916482603310100899L,
+            -71048413449946265L,
+            -778502451857268877L,
+            -8883048099772217054L,
+            5191763531702838609L,
+            8143697813800961583L,
+            203013366093126228L,
+            3459016396807529520L,
+            -6055120679525812312L,
+            1350213587245857921L,
+            -7509071747731595917L,
+            -8746502139067509276L,
+            -4197047506896830235L,
+            -6575680033067582407L,
+            -128448837709504654L,
+            3438540989103296075L,
+            3539359636912645581L,
+            -3142403319791888486L,
+            -1938316147683980386L,
+            53147317229056710L,
+            8352659557697510173L,
+            8612999183915875104L,
+            6780609265689405570L,
+            -4335783658833793239L,
+            -4641223957001774361L,
+            4077720453936154292L,
+            6807947137816290727L,
+            7396813583647798513L,
+            -531703284587882417L,
+            -4552357868112900863L,
+            2506645222455218157L,
+            -2349102021853781144L,
+            -8121744767001920034L,
+            -404100840364500728L,
+            4365146447606730786L,
+            -4314480547030152325L,
+            -6122637548508695545L,
+            -2913357006812277653L,
+            -6173419529011869700L,
+            7885378375463056240L,
+            1913301974407043911L,
+            -1147013758293170983L,
+            6987148921252939853L,
+            8307135851258642966L,
+            -6385480949550304981L,
+            8133648832428251894L,
+            2900419435973253602L,
+            6441631124496848628L,
+            7746320600173580776L,
+            3873406593347372349L,
+            -6174533925278427261L,
+            894636180203714836L,
+            -3180741357839255199L,
+            -1786585868456066030L,
+            7071406885292023803L,
+            5783156572781942220L,
+            -2147511283888366083L,
+            -5988924443865626277L,
+            -7603500937829342477L,
+            -4434280771205890803L,
+            6749984369743611296L,
+            7919252093988867454L,
+            -7472993534014186957L,
+            -8246656372137623319L,
+            -2370205188152290644L,
+            5927880909011633941L,
+            -1912325576156318258L,
+            -7267973534265370984L,
+            342057689853959258L,
+            -1514388241733688041L,
+            2322623254537503523L,
+            -8369379001724163860L,
+            -5426502666696159783L,
+            3173209537205878454L,
+            -1445456523466172738L,
+            -7468510497625326490L,
+            -7916011399070778190L,
+            2271519151764466266L,
+            -8439782200214117915L,
+            -1753666967605018661L,
+            5639920088238091498L,
+            5871682900174732457L,
+            6244853126152645465L,
+            6237143875308691683L,
+            5897168334399663097L,
+            6875230925922907878L,
+            -3944059066046927502L,
+            3199256072553387804L,
+            6660852165407695127L,
+            4168889502634350606L,
+            -1215585075197868777L,
+            7185021182452450769L,
+            7393732074199457997L,
+            -3599643401985566845L,
+            7899400559054539641L,
+            -9213104629646305697L,
+            8683828987745239461L,
+            356843278671768269L,
+            -5766893925950919621L,
+            170038009566790558L,
+            -2362497939491213364L,
+            -3707029166658978524L,
+            -3667801509447052936L,
+            5579621226177108579L,
+            -8417680603547791474L,
+            -860129405619831454L,
+            2355363008645448149L,
+            -3601510232770890608L,
+            -7414320313380001491L,
+            998041397718865152L,
+            4252690579861476487L,
+            -7902778243854679868L,
+            2709730936282925497L,
+            527424357002009669L,
+            8972924415860564474L,
+            -3825873896798936986L,
+            -7657869478313285406L,
+            8355743895829176402L,
+            -5768068085049951572L,
+            3244242125218552540L,
+            -2979201059683852092L,
+            8133119468111011709L,
+            -6122463520680174711L,
+            8159018241320440270L,
+            -7988005697727779079L,
+            418131137095855517L,
+            -7716674742738155156L,
+            -8838005884939382081L,
+            7057032168480092312L,
+            -5854329602850013621L,
+            -6446683449147747200L,
+            -1059555703183533087L,
+            1787128269485156107L,
+            5843693775037650914L,
+            -5997144170979726925L,
+            7727086771124255041L,
+            6852955643671041591L,
+            7909267523435262559L,
+            -5053214390475829491L,
+            3441393441785867876L,
+            -6773659821487034086L,
+            8736271295804581138L,
+            1054738296802093712L,
+            -8302535279265596368L,
+            8535164607702137435L,
+            5343954805779083423L,
+            -2211622011425081075L,
+            2118470570521066014L,
+            -4077971566168148078L,
+            -7508713646094069508L,
+            -7933751505727167511L,
+            6585795948304217845L,
+            289327731680397164L,
+            -6178014699994748074L,
+            3875418627927211666L,
+            4244029610483064378L,
+            1876466154490757951L,
+            -469245609318993682L,
+            8670060646301470489L,
+            -439114373299251182L,
+            -5112515880546755679L,
+            -2723747043629959690L,
+            7774763275139510833L,
+            -678539614698090101L,
+            3420791335711535038L,
+            3532015985876053372L,
+            8081391038992693311L,
+            2837524129741643513L,
+            2433989094738298911L,
+            -1690732823226101956L,
+            8145358613439138610L,
+            -8543449286940522404L,
+            6719783749296934788L,
+            -2484239708740665949L,
+            320451162195769658L,
+            -8359180980982074044L,
+            -4659169821912926717L,
+            -4676008522559904645L,
+            7336160733249073386L,
+            -2118074859255636513L,
+            -5117149487942915527L,
+            -7553731574179939769L,
+            -746203148983014426L,
+            -4770310227700450331L,
+            -8022840153373179608L,
+            2677708607012326131L,
+            2155533599082373072L,
+            -8069692753929301871L,
+            3178199979632020059L,
+            -2098866247896540052L,
+            -4626191242302636654L,
+            6664591931427270603L,
+            2478290414073943658L,
+            -2513730737909528730L,
+            -6001220287208261887L,
+            -5198705015647767017L,
+            -8753151360460177577L,
+            5134036356709403401L,
+            565497159743711788L,
+            5223101812161723765L,
+            -6057829489136341887L,
+            4666309004548805688L,
+            59355651898875165L,
+            -9043668387954527717L,
+            -4391724108512203881L,
+            -9170155104019205981L,
+            -138979065155899800L,
+            8505298001788937141L,
+            4292785799378674861L,
+            -6940443537184015400L,
+            -3088905290538843625L,
+            6822576018535544402L,
+            -5778259111933272651L,
+            -7870910721995382152L,
+            -1081282236205328501L,
+            3987445527546571952L,
+            -3590159699817855338L,
+            822196389272484422L,
+            4684737444844347928L,
+            5320134442405846362L,
+            9206738491803000783L,
+            -1994916015574092624L,
+            -329197632273681731L,
+            3963127868137897019L,
+            -1290341056403642171L,
+            5913007896672159608L,
+            -1049957415923890158L,
+            4718911962999881664L,
+            8345856310107072826L,
+            6424299077464879294L,
+            4846841154898338408L,
+            5251160540008457337L,
+            8029537585310092904L,
+            4938344498955831358L,
+            -6437268037938778613L,
+            -4842329209416757093L,
+            8832416170555346453L,
+            -5831786538524833704L,
+            -9057254480763222804L,
+            413325009671992952L,
+            -6638573248514055423L,
+            -1551074029361764159L,
+            1327707733096839433L,
+            6256041752866550820L,
+            5381682206670865643L,
+            -4427038543349581177L,
+            4771710495995427852L,
+            -2117026876432561442L,
+            5601893050465080852L,
+            4106986941859976331L,
+            8561736400924459087L,
+            3461834354868511010L,
+            -7647491862498475225L,
+            7343045515951677634L,
+            -6169226748733818105L,
+            6944908615066295813L,
+            -148538575476187798L,
+            -9203208560344495919L,
+            -8219624800951259821L,
+            -9140327971522135937L,
+            5660957580224102245L,
+            1701106728100883437L,
+            -7682186204084598650L,
+            -351961467581243222L,
+            -7003308447587543985L,
+            7797425454842955660L,
+            -5047714311630577554L,
+            -2533707728298869755L,
+            -5559019778843652846L,
+            105917793938807961L,
+            -3245832398014463958L,
+            -1257498381255002553L,
+            257531703402694669L,
+            -8540705444683616296L,
+            -1585490508001700244L,
+            -4980901780422943420L,
+            1996067958122417786L,
+            -3594856967060751510L,
+            -6300038698854179372L,
+            -2114598509493279853L,
+            -4659505670992786915L,
+            -6698392683839342526L,
+            -1964148780915138618L,
+            -1122853211345149719L,
+            7327092410698321899L,
+            5780860337476657640L,
+            5652829645295348227L,
+            -4989199219296984239L,
+            1909652781778847522L,
+            8697351529681284978L,
+            3596940539459501094L,
+            -7455898043478596359L,
+            -1597821089389650670L,
+            -1232886604879558525L,
+            -5565046600575334615L,
+            4408305555581086330L,
+            -3897674174831304156L,
+            -2470507132767810276L,
+            7525864138320341984L,
+            -4825135206778118181L,
+            586783903386670099L,
+            -1684754792736068088L,
+            -1291832206896836272L,
+            432715399998623233L,
+            -7592311036183256530L,
+            5068744245902961636L,
+            -4613366367985246921L,
+            -5859236479889068204L,
+            -7320066060363250422L,
+            1167516933510454658L,
+            -2587108496633762774L,
+            3211010062252067001L,
+            8906443749723742259L,
+            -2505849384132871915L,
+            -7384079261213753583L,
+            -7459861802047210972L,
+            5001996541279224635L,
+            -5026609479155106034L,
+            -958670112628174305L,
+            2238074593450594620L,
+            -6263125433943014859L,
+            -1045900366951366235L,
+            -8849644799578426683L,
+            8578842787491421686L,
+            413547749057098501L,
+            -2672656948283340817L,
+            3811996531296280569L,
+            -3570231966115269169L,
+            6684120966470351760L,
+            5360998000325681575L,
+            -8098711952241384732L,
+            2733785856361091204L,
+            -4889801863498734867L,
+            -7390892483329704512L,
+            -5838039834779350098L,
+            5314960258463173866L,
+            6759541323100918497L,
+            -8815154379717302382L,
+            -6595835882497792821L,
+            -5467998530982275286L,
+            -8499021751414729112L,
+            -5434448673579311320L,
+            4126775809059143761L,
+            9058611594546157692L,
+            -8092967552648227167L,
+            -3572796324168425576L,
+            -8947671221813181400L,
+            4049898169673674326L,
+            -7019895477852216915L,
+            2528272488614124439L,
+            -2977533358251249711L,
+            -3176467072683128125L,
+            4205561470961567256L,
+            -3914522194378531786L,
+            6446385528875894684L,
+            -2049351135520009778L,
+            1367927822635871315L,
+            8362471359841441475L,
+            2503725033845837308L,
+            3870922705424905408L,
+            -8192612954473531185L,
+            -8889751034842735242L,
+            1008621297704609592L,
+            -987317576405061097L,
+            2131685744700494517L,
+            -1354776468693252225L,
+            8575299455791648936L,
+            -1333658882437013965L,
+            -753548161200433610L,
+            -7078268814895966653L,
+            3721577848788433112L,
+            9104662914255499167L,
+            -6763310231362127786L,
+            6183110499101634889L,
+            -704427903422833664L,
+            -1470741714497387614L,
+            -5649281604226851000L,
+            6894823897262020983L,
+            5545624215980058301L,
+            5105093902359091627L,
+            8010894973504231796L,
+            6868981137499274330L,
+            -5874084938306984684L,
+            -8348523906099591011L,
+            -5884096726058508216L,
+            3505129261750966211L,
+            8974883005671123515L,
+            -8868934591224540817L,
+            -4472774639019597549L,
+            -1434438820806182897L,
+            6377110402913514926L,
+            3105307312277475801L,
+            8018513486133848690L,
+            -9188513230425431068L,
+            -8742318371748492527L,
+            -1364085213033838819L,
+            -4801771519329132072L,
+            1123963831875362864L,
+            -1113102047273157287L,
+            -1242739516364554195L,
+            226007805530562838L,
+            7889146489312293623L,
+            4004890229424617499L,
+            -602631356603944514L,
+            -6739791945180553248L,
+            4325366979085234578L,
+            409398372096260880L,
+            7376990367173566814L,
+            -8291399395577608423L,
+            2737830292008041080L,
+            3485997732506381093L,
+            -4116083582249870080L,
+            -8714639322962648734L,
+            -7385832073208576123L,
+            -2553342037498233438L,
+            -5132645573853179456L,
+            -5126954565514929176L,
+            634590133971324287L,
+            -5108017476112005801L,
+            7579674607082915570L,
+            -9088625876149438127L,
+            1764942648182326460L,
+            -852779981111203800L,
+            -855055781599278730L,
+            -4438552571187363650L,
+            -7375396800300714133L,
+            6413459720589564029L,
+            3279379848614869080L,
+            1863289262018741663L,
+            -5280651213210440492L,
+            -4948825233863504825L,
+            3195731905211266683L,
+            -6935275236187869536L,
+            -5468727481792768524L,
+            7902284498310310566L,
+            -1579267781914536255L,
+            8918129750003950328L,
+            7071124774230357568L,
+            6314683072787064918L,
+            2006312300283272530L,
+            4177304973395500868L,
+            -4682954991660463707L,
+            3602199016385335095L,
+            1822184676310733346L,
+            -7418786382771379656L,
+            6174909143781944363L,
+            -326728851713863072L,
+            -6034189875349139951L,
+            3837199096065597250L,
+            2041561659700537200L,
+            -3306101439499408173L,
+            -82840618583877025L,
+            -7125481247058369532L,
+            4993860652552571862L,
+            3199856307542452943L,
+            -989087337169401536L,
+            5072934690991322775L,
+            6737992482606252167L,
+            8533769979264566885L,
+            5187046019617305479L,
+            8638854035675121629L,
+            2054552928824609937L,
+            1540748188470076411L,
+            -4590395358573578568L,
+            -1759724987366271257L,
+            1245486964173503907L,
+            -7653068664285341760L,
+            5725869323950222072L,
+            -2278519558088018699L,
+            -2819416991258919595L,
+            -6360479701661497637L,
+            8882507366192544436L,
+            6283837363983002648L,
+            -1469250813064993642L,
+            3157312866912633301L,
+            2850323753222550020L,
+            -8019960764917624518L,
+            6421980257817357759L,
+            -7858168872226642737L,
+            3182644870204022782L,
+            -4835728318004223934L,
+            -3483369697836256015L,
+            5534234995249103100L,
+            547751132495709843L,
+            2193263634046180204L,
+            1330464696270888885L,
+            2735216206945804207L,
+            7186578069374251696L,
+            7609337077292751649L,
+            1060451623495656956L,
+            136266000963765706L,
+            -5480532818513851958L,
+            -1287796632241135388L,
+            8395003868633590502L,
+            -2775575990071790593L,
+            4554111862106154542L,
+            8304056258028901568L,
+            4634775838455789825L,
+            1029961654247911376L,
+            8897608983329851836L,
+            -1801145574663184000L,
+            -5561566538196257622L,
+            -4414515755278652107L,
+            1355072505336680804L,
+            -8101200799650026283L,
+            -2790781257027481813L,
+            -1144059176382404777L,
+            -227296620525310651L,
+            -6197138996675758758L,
+            8914550614565324833L,
+            -7792545989453734433L,
+            331065274990119053L,
+            -1125039508222618899L,
+            -4419031251864781818L,
+            5067641623077647477L,
+            3318296554120964366L,
+            4504311341788597860L,
+            -425585660104275397L,
+            5917927869481035579L,
+            -7754130265148998190L,
+            3265211742049128790L,
+            2258210293986465536L,
+            -6905811680843711382L,
+            7761186625230019008L,
+            -5554726881136779113L,
+            -7643880416918370582L,
+            3188790630109852071L,
+            4603222489147958573L,
+            -4919316582358322358L,
+            1738744506762295011L,
+            -2372063485892286429L,
+            -8943399943428613875L,
+            -5679577100785087497L,
+            1839738206938330127L,
+            -9220560755648815983L,
+            -1299288259911913763L,
+            8570487233764963681L,
+            -590142462157646009L,
+            4463132414830178767L,
+            -5478949739296369945L,
+            -1667464735850771552L,
+            -3799540922983575310L,
+            -5063621385801989746L,
+            7502878143654361812L,
+            -6625653263513055857L,
+            -2911804756821930468L,
+            5142780139558969306L,
+            4886010260762646426L,
+            5615069283516062030L,
+            7587105751563256073L,
+            7323742503482575969L,
+            -4190163945719693035L,
+            5549184109720998022L,
+            -2548519259693009753L,
+            8542549554499618723L,
+            1968321558155829684L,
+            5596484551637386114L,
+            5772875633404705997L,
+            -8476339176971233802L,
+            -9109122566251575899L,
+            -8443196769136265256L,
+            6626574021001329906L,
+            4098672699389368177L,
+            -1396567987104310253L,
+            3620932356501813025L,
+            2505210474001914374L,
+            3165557542154425390L,
+            8473021325592701056L,
+            -4566049137678784834L,
+            -4224744952380806963L,
+            -4974947625435697744L,
+            2095934430678619277L,
+            7170559994181430746L,
+            -6039442962521190836L,
+            8866512548875025102L,
+            8017533257659222089L,
+            7904869646231056977L,
+            -313645278010220754L,
+            -4078486303501467124L,
+            2528351894263989474L,
+            8309742435416750598L,
+            -1974671453298615521L,
+            -8675532447539933244L,
+            -1460722594144873970L,
+            -4575402680791764753L,
+            -2950313748008676265L,
+            -7588528016728528963L,
+            -1067061870588673424L,
+            2847034157290588514L,
+            -797274072878417213L,
+            1669466080714823586L,
+            6421139953059377737L,
+            -4873407383312657847L,
+            -29029896245379901L,
+            -8611594870475754625L,
+            8659680217084266158L,
+            5995737962482673949L,
+            -1637854612950633085L,
+            7154282940870923437L,
+            5302471373878458176L,
+            6318441231228327719L,
+            5643880768315608739L,
+            710102098429798689L,
+            6520648182363189982L,
+            5947901826837630815L,
+            437235012002205802L,
+            596952725862599806L,
+            7197224726818892499L,
+            -616420945943209522L,
+            -3035888039244933821L,
+            1893238057967357870L,
+            2682179441292181064L,
+            -792848753382821845L,
+            -7658621129870946980L,
+            260567882893939237L,
+            -6894404917450971864L,
+            2862935523065412718L,
+            7306805357968190709L,
+            3335606779441851201L,
+            4646662674688037283L,
+            -6464807017665823426L,
+            3519910469590449684L,
+            361168923101240882L,
+            -5863401504390088478L,
+            -7319146043523906729L,
+            -696524802789171348L,
+            7776190738734586570L,
+            4698512387549068669L,
+            2944764551526184730L,
+            -2998881051425768291L,
+            -4107935903839384827L,
+            -8045444736516194001L,
+            5461344059178014119L,
+            4555693420398057535L,
+            9146422815752037886L,
+            -4026216984417690106L,
+            5939380300122671909L,
+            -7748993460588290290L,
+            -7487387532255804946L,
+            -6653325037494031707L,
+            -193679274791521311L,
+            -8777709561230330291L,
+            799208340444556609L,
+            -7204927282461761298L,
+            -7665670333195821174L,
+            -6254670272098805316L,
+            2809609783598354153L,
+            1014639920121086766L,
+            848902673589787619L,
+            -4133270118943417847L,
+            -8617814923949465880L,
+            -1523563154506490433L,
+            2432705736680133255L,
+            -177951721783286269L,
+            -7813864407543084249L,
+            -4704710352349081831L,
+            -1664314592572840770L,
+            -6340370971341549067L,
+            2106892124344866883L,
+            4569680399063088792L,
+            1044466537114988292L,
+            6780821161739510108L,
+            8948869939239122129L,
+            -2414500803836896528L,
+            5751970637738133198L,
+            4952125213194094861L,
+            -3195406854233439768L,
+            4344312401935035925L,
+            -2055895683466185057L,
+            -7429511053556088919L,
+            -7901390268527088766L,
+            7693741878129935327L,
+            -2810127567707551616L,
+            8314162422173688790L,
+            8572069622408963060L,
+            -6714844524126597391L,
+            -4869900133382735751L,
+            8221901887385578253L,
+            -3705709336865537536L,
+            -8663988593211694129L,
+            -3648956146135206770L,
+            2392596585736698625L,
+            6777195394890201629L,
+            -6325915443292748985L,
+            305554950657249469L,
+            1409867092514099231L,
+            5126539768568567731L,
+            -3348364763973657744L,
+            -7996475287230219789L,
+            6482647215762458712L,
+            747385686581888699L,
+            680157892693579520L,
+            -6336406498953434237L,
+            8922571168263027279L,
+            -6364222949496336512L,
+            648335938453721481L,
+            3905381558541284239L,
+            -4977013104302070085L,
+            -842830781929686982L,
+            -8336935339071701364L,
+            5926992289791891874L,
+            -5783896465140678475L,
+            -6196728201209230129L,
+            -5933506054509895185L,
+            3226553758851438394L,
+            -7330050255467378065L,
+            2842675641855401003L,
+            6179747994605924840L,
+            -5507050595279136002L,
+            486672976511408733L,
+            9165164855418667704L,
+            4928740979398586079L,
+            6622236649706880897L,
+            -4062536148873798599L,
+            -1946361985943263489L,
+            8397693146445789266L,
+            -6723635327172006405L,
+            -2755404860762918733L,
+            -7114893825334065651L,
+            -1667674920326044949L,
+            -3226375161596171522L,
+            3464434390964527792L,
+            4617285908672722328L,
+            96245957152693412L,
+            3059227229968800346L,
+            4565807954827419658L,
+            -3470065730136246589L,
+            -5572309760713457145L,
+            -948198700746995348L,
+            4066299849050168926L,
+            -4515927540700219064L,
+            -6017608102827497437L,
+            8140309839584550233L,
+            -8692830826768727186L,
+            -8063848465989105528L,
+            -1931067490002981373L,
+            1498547848635540799L,
+            -2672866235647543526L,
+            -7951513220193036283L,
+            5391015392122622102L,
+            -1521976569930100531L,
+            5617416168814339218L,
+            -5387566020096463491L,
+            6484998701655515545L,
+            -2227169934304501743L,
+            -6655098380731721929L,
+            6671253413984183022L,
+            6469198201408941239L,
+            -7178404303605660874L,
+            4238349570351533827L,
+            -1977947215134656925L,
+            -6908678504478632505L,
+            9091497676485024870L,
+            8869736883879653633L,
+            1713300507414506332L,
+            -8444310117154550964L,
+            -5029805483141986141L,
+            -5703329137438735554L,
+            -6839314981443556564L,
+            -504521338676369146L,
+            6290048885415418928L,
+            2298400635654602340L,
+            6404636765609918683L,
+            4593513019032474897L,
+            -8291331530026677132L,
+            7037157898626389998L,
+            -668132173338722122L,
+            -2975803174579334689L,
+            2911634425731969182L,
+            -381135242024972255L,
+            6210387320185979116L,
+            -6022808007044609185L,
+            -4273380218031461836L,
+            1180616428280793595L,
+            -8000246837113345325L,
+            4477135013139714245L,
+            -4428203861467409395L,
+            -1760396046215550491L,
+            -3715701783332801053L,
+            5956054995993691665L,
+            -6313743616362049490L,
+            -7740625996951689698L,
+            -8521574110423304773L,
+            -5088652796224959331L,
+            -7807905411042408028L,
+            -1737578632176784086L,
+            -1904816925057157893L,
+            -32923862952285244L,
+            -5651943957495425183L,
+            6915393655231653108L,
+            -5124116605401712338L,
+            -6388676566584013190L,
+            1660142316811134790L,
+            8012046920580545285L,
+            465558062680344836L,
+            4373768468768659996L,
+            -6497153531337306856L,
+            -4206836620269090452L,
+            -1813410453173208079L,
+            4889251126468451164L,
+            -8605639253058753157L,
+            736178693937964352L,
+            -704933385066261498L,
+            4337663674344859905L,
+            -3984631974151261808L,
+            -3798651157553257964L,
+            -2497156092839156392L,
+            7418824100076906025L,
+            -7041454393073368380L,
+            5885046831385462405L,
+            8071587890984171170L,
+            -5084589495956742932L,
+            -8083499121515502007L,
+            7675924392495395968L,
+            -2234993484472592194L,
+            -1932220301989586591L,
+            6956257770577697573L,
+            375345442493798182L,
+            6480072830577275897L,
+            3326055557222594958L,
+            -8111823258531521288L,
+            3632989489364096744L,
+            -2168729826105342438L,
+            -3406226119302496052L,
+            1473509721627448008L,
+            -1744593877514750067L,
+            4149589028893143391L,
+            -1339060040164153609L,
+            -7164495692382824986L,
+            3000997945099238196L,
+            -5634454856696279453L,
+            7365324535609827935L,
+            8006309969884682979L,
+            -266666913468108184L,
+            -2094991398013980092L,
+            -289407950470912288L,
+            -7317672062418807758L,
+            4464134429601831986L,
+            9052339427038663457L,
+    };
+
+    private static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEEDS_HIGH = {
+            -8398388234498321977L,
+            2247680430258855209L,
+            -7302686790672983598L,
+            6795319889867029018L,
+            -4455670195352646120L,
+            7500046892095808360L,
+            -7790461647373923178L,
+            5955557204491050297L,
+            3176089749944571479L,
+            -779930561631913819L,
+            1833386014252614428L,
+            6965244734322604574L,
+            -6392247474240707521L,
+            6443167102541480704L,
+            8471114197808974292L,
+            -2728049545795974640L,
+            -8615812544871114691L,
+            -1935886117886174044L,
+            5577956924004565762L,
+            7053927519815264643L,
+            610369576316075067L,
+            -1348126497499980010L,
+            162370560724653254L,
+            -8166493024323793630L,
+            -4127217627328001258L,
+            3657817593510184796L,
+            -4937716804292507855L,
+            -5220687364646199563L,
+            -3202423873068967027L,
+            5861238253597240028L,
+            8655319519952730797L,
+            7462402847947299194L,
+            -8558769003737900661L,
+            7242534607842171911L,
+            533033502236625329L,
+            1624923198794564021L,
+            4159980661401170370L,
+            5958763568773091068L,
+            -7368545730506482152L,
+            8094224963927686645L,
+            -3921988751857277235L,
+            3587855283739525007L,
+            3166102380548881432L,
+            7966261760220424776L,
+            4504152553392134713L,
+            4197184229817801303L,
+            6219112422618687595L,
+            -6159930289338064382L,
+            3570992723658447042L,
+            8415779682780775498L,
+            7789937293238204049L,
+            8146407368609668859L,
+            -714035984766934291L,
+            -1953235577668389129L,
+            -6825207533350770758L,
+            -6752664305772690736L,
+            5269384440616269987L,
+            2013152568230984983L,
+            -6188624663176745544L,
+            9203315370297130782L,
+            7682553372694586266L,
+            2911760585806600407L,
+            2153207542240441052L,
+            8537505377881824619L,
+            -5498530820141635225L,
+            -5355451082159243462L,
+            -8002198933524780778L,
+            -7823730099033376896L,
+            7611896499257982447L,
+            -6566886739829175385L,
+            -3968157965999654427L,
+            4458247397576978696L,
+            -2179803506401763990L,
+            -3234640501308180472L,
+            -7857827503064745190L,
+            -4119614056055527931L,
+            3703828032376634241L,
+            -4105838946333105939L,
+            4430100960815843968L,
+            7382160986962876747L,
+            -8816592203330199897L,
+            -8137555279886406397L,
+            -4781279134622558935L,
+            5331001356124486672L,
+            -3612533251686780715L,
+            -5891166834326488744L,
+            2666971493596776875L,
+            -5072560186242096284L,
+            -9119316890812655609L,
+            -3582438705459438541L,
+            7702008361490085582L,
+            -4975937656840553847L,
+            -2299164787707679469L,
+            4032854667536866415L,
+            -926144639284600437L,
+            -6710204011246528197L,
+            -7545318433613190310L,
+            1262785811476844384L,
+            -2348548924905008731L,
+            5964940921579225946L,
+            5497570400861489210L,
+            -7369294747673509434L,
+            7851938329102059193L,
+            5534523125354312122L,
+            -2742098278528153376L,
+            1191315574217822361L,
+            -3666145981162295405L,
+            -14809090340993131L,
+            -4637251060625302507L,
+            701647333205748014L,
+            7043522672900345207L,
+            -3884214903446324530L,
+            -6075920958703865034L,
+            8402917253175901175L,
+            3627133769105857791L,
+            2719740075865331394L,
+            -7855161922742132048L,
+            5244771547481892645L,
+            3407409285418474670L,
+            -5791631002166796652L,
+            282315986694438968L,
+            -2178495814063916208L,
+            -3177012715000577257L,
+            -7950062602782140276L,
+            -8161871469333183045L,
+            -1705669316676674978L,
+            6473747753762086347L,
+            601195720169024775L,
+            -7941376224011800641L,
+            5550928608740519206L,
+            -6260622276524775223L,
+            7984395600902879164L,
+            3882753479184944193L,
+            -7649975955153627316L,
+            -829061439982885494L,
+            2474510825683016727L,
+            6896009193081021488L,
+            -2598567218861356234L,
+            1568553071965807202L,
+            -6580967672540627876L,
+            -5921213886246425334L,
+            4556766137762476187L,
+            5749699044295302382L,
+            -6003267979691722732L,
+            1637888726827793164L,
+            3678935233952011516L,
+            -3903821536828848351L,
+            -1212371004041304769L,
+            3908144190500897658L,
+            -3776261077019906249L,
+            -3489257231743201988L,
+            5661131743061005218L,
+            6724696041324986180L,
+            6082677765796447849L,
+            -6670363538650868199L,
+            949395489533817965L,
+            3044089738630791316L,
+            -902912843815175167L,
+            -6599283199722127765L,
+            2601653952415916204L,
+            5750974149446775354L,
+            5732542677053765459L,
+            -15039212458049811L,
+            537554006921098974L,
+            4531222116180118403L,
+            -5500918428444265192L,
+            5573558481134712651L,
+            -302441245641289906L,
+            1523269773620175357L,
+            -2990462353625140860L,
+            -5736625365353055287L,
+            -893544328382909181L,
+            -6691822244287986036L,
+            3326886007362090176L,
+            -8659566954858895889L,
+            385251372437569134L,
+            1256468522766782594L,
+            3473682200100527337L,
+            9080225610387160098L,
+            3999602790624293970L,
+            -556053657250923272L,
+            -7968075260962570507L,
+            9115772462577264117L,
+            5040025689149083337L,
+            8198779959434077218L,
+            -8825139504030869192L,
+            1963475059758399588L,
+            7922481356652531031L,
+            -9013544733613654510L,
+            -7880296586478909954L,
+            -2646604377216242303L,
+            -108918924689295816L,
+            1054849308514158035L,
+            2477032741452330912L,
+            1191212562963885944L,
+            8577790476579901708L,
+            -151662223840067100L,
+            1892865623171391665L,
+            4031812475110648999L,
+            -8480980517819156109L,
+            -6728361597571281934L,
+            -2168123125472693135L,
+            7777271757648670790L,
+            3960236796871842706L,
+            -3779952834699380298L,
+            1879577485551923087L,
+            5252385971390274045L,
+            3472392095355327861L,
+            -900289677319048749L,
+            6852541072613258820L,
+            538471078087051746L,
+            -6702528228168964715L,
+            -6635590495584781529L,
+            -2530874057219273403L,
+            4556623823374986349L,
+            -3134183117972528867L,
+            -447985632296536600L,
+            7783029612215542869L,
+            -9150872519085120882L,
+            9100792546753705310L,
+            6834527621493011817L,
+            -7330883614889755049L,
+            -5847215916870210506L,
+            -68787677134359954L,
+            -4033258906309972817L,
+            1675199137775959924L,
+            -1396343121211136192L,
+            266355576837184460L,
+            562871301554135373L,
+            -9209151589003238178L,
+            -7086230785270626812L,
+            6716264232332965496L,
+            -6734555868626020183L,
+            -828779426412147219L,
+            1611274451350211681L,
+            -8140879654679341448L,
+            2314830326734474803L,
+            8570423977112042824L,
+            -9163741810264182733L,
+            -568278898287697432L,
+            2516221422305966420L,
+            5108797048495152016L,
+            6127423974560778024L,
+            -6538201898307957297L,
+            -3331241424288590273L,
+            -6085141554670564247L,
+            5965118708310227427L,
+            7990801113498349344L,
+            -6520314523394012941L,
+            -6750453279661727419L,
+            -2824488107651807481L,
+            -8819739891305093259L,
+            -2531852050409057192L,
+            -5632746701365599255L,
+            -2486987272198724833L,
+            6041204246662191333L,
+            -3992827661992198320L,
+            8954979649215912107L,
+            2810407837391216283L,
+            -9076738194298961060L,
+            -2954276811012396996L,
+            -8316923034529640171L,
+            8449456521173959143L,
+            -6378069463544018679L,
+            -6084632228779881862L,
+            -6575402629926277513L,
+            -1769640260903142684L,
+            3424002088339144784L,
+            4312551020790412554L,
+            -6973353723974816035L,
+            -4499148325194934484L,
+            7659977169588180794L,
+            7477505464496702798L,
+            2298616787501971180L,
+            -4584822435680886806L,
+            -8385506852062714017L,
+            -4861559396027889620L,
+            -3427227392420216182L,
+            -8095585102802204942L,
+            4645444595978115546L,
+            4697956779797642601L,
+            -8528055039932870453L,
+            2383926224568821609L,
+            118692792906800307L,
+            -6495179992423999590L,
+            -7413532240507787624L,
+            4644786291108473946L,
+            -3658796750620113684L,
+            4835334557833486891L,
+            810414864806594790L,
+            -7623643094337810757L,
+            -3123440345972385971L,
+            -4099379420989371892L,
+            4559416600716454341L,
+            2224943859051202516L,
+            -4796803284723666295L,
+            -758436445862759997L,
+            -1623528786651345798L,
+            -318843511857509585L,
+            -5210175855771806516L,
+            -3744050903042627633L,
+            -5037802581227560663L,
+            -5159268499662116339L,
+            8894345703205909937L,
+            7033904994521818589L,
+            4487722682458981653L,
+            3761924323687911383L,
+            3267717769777966834L,
+            3236653075566935127L,
+            -6152036228302378421L,
+            -1553894162753349952L,
+            -5967840039628523788L,
+            -5461057351737832529L,
+            -5163678851035788767L,
+            2125541476851071163L,
+            -4436461025187680774L,
+            -5559415375071949135L,
+            -7268960018590508679L,
+            7357949112298818481L,
+            2443412396739554225L,
+            5698018783270471193L,
+            9181093729046908172L,
+            -2456991721484936939L,
+            546739877469405960L,
+            6562705979500711596L,
+            3704014747099576179L,
+            -126084052139158739L,
+            -3106307031342245061L,
+            -870619597924904151L,
+            -6691395207286257486L,
+            960365570160997288L,
+            -5822231084497400340L,
+            7559744167398398738L,
+            -3682256456896351836L,
+            -7032191432092080054L,
+            7464784186848486262L,
+            -6322363745691138658L,
+            1041780209766308817L,
+            3364976089116991L,
+            -7590417285029354540L,
+            -5671100025374272327L,
+            2978415313419925882L,
+            -3131714107657265295L,
+            5359315738085065724L,
+            5032069987022597354L,
+            3218476808097039250L,
+            653458195471175436L,
+            8895645859663714575L,
+            6452901334808148111L,
+            2034013171854610602L,
+            5620069752973846206L,
+            -4950681553377867242L,
+            4695835884042602211L,
+            5434363681252566771L,
+            -3311193986071842111L,
+            -8081920057847808517L,
+            -1973854454546745472L,
+            -4094573489706078322L,
+            -539884276079952673L,
+            -699785455032911857L,
+            645845600684354342L,
+            -4780893721872381907L,
+            4634329474078661647L,
+            2756564572421166645L,
+            -4982957304933543879L,
+            5645540697413076294L,
+            409721414225351487L,
+            9172054631159133099L,
+            779589810240697410L,
+            -3008287961778101540L,
+            -9201443530017139002L,
+            864545459443621875L,
+            -1129353432754196409L,
+            6709394354401721604L,
+            703754395411934106L,
+            1762438626175976564L,
+            -971417060377822395L,
+            332021384783731100L,
+            -5885291469558124426L,
+            4411391031301836193L,
+            842754008598138457L,
+            1798473373057004429L,
+            3735255171607728865L,
+            -4465421386015429970L,
+            -9190468038856143302L,
+            6227678576445901347L,
+            7307575133164444555L,
+            -8923822595228670722L,
+            2977853069214648301L,
+            5986920862928812661L,
+            3551516427012574372L,
+            -3098663401961994215L,
+            5209991695195191472L,
+            4845177851546619716L,
+            4056209652025023547L,
+            -3380508801029142937L,
+            2226616866053803387L,
+            2510632973075638834L,
+            -2943454230076378036L,
+            5877353577683260571L,
+            4357599133840314570L,
+            -2642964435129316117L,
+            -510971462241245255L,
+            3608955355359710806L,
+            2762753902495161455L,
+            -7055402767454625118L,
+            5770579330635510158L,
+            7446040086975728177L,
+            3559893807857393894L,
+            -6489514324703157651L,
+            6133231071558036758L,
+            -2584924976031485604L,
+            -1809079058688156629L,
+            -3251652113801863620L,
+            7824663186756861428L,
+            3079866073176360246L,
+            -3675348548003156229L,
+            -8759043667951268053L,
+            3633968187021488883L,
+            5873350254101952568L,
+            8033326750322839947L,
+            -5135839055065688661L,
+            -7364006960924714692L,
+            5304544612998689865L,
+            -988686711540780458L,
+            -6068425166885200238L,
+            8893380363104628313L,
+            -3530798434105238178L,
+            -8570069632139631051L,
+            4157281481990988754L,
+            3749552310561872602L,
+            1678562058754306582L,
+            1563397521611876283L,
+            -1924705557453684587L,
+            5008029249518879258L,
+            4243126771987789880L,
+            -6501605990263996521L,
+            -8285946348483199635L,
+            4300768460692905305L,
+            5438747959871382099L,
+            -7655624079130379453L,
+            -6155501978856852425L,
+            -7582991833964067103L,
+            4005365108925566043L,
+            -2570497396358181578L,
+            -8756944319922884778L,
+            -7099110556099144256L,
+            -5205653351259855696L,
+            5782987102012027761L,
+            1960327029208162042L,
+            966980205327049055L,
+            -358151966121391255L,
+            5121835708774535491L,
+            -3369844720481494362L,
+            427042216843280679L,
+            -3360762973317059466L,
+            8924730609410858179L,
+            -106705608937164752L,
+            -1413804901461918613L,
+            -4306935740812547945L,
+            -500083264685024330L,
+            6679894234266108090L,
+            7708691375777850458L,
+            2834248715280234286L,
+            3797275265984240962L,
+            6129661166960858967L,
+            -6278466187509430500L,
+            -2029230606574196361L,
+            4275272495589721019L,
+            5671053639708334968L,
+            -1826852276691316638L,
+            817238220450899426L,
+            -3435453388746549343L,
+            7776839219177949401L,
+            8959647880694189114L,
+            -5883169182372640493L,
+            5695880426128330699L,
+            -6142489628461327724L,
+            4409484111848035065L,
+            812686654562819922L,
+            -6574390742150163052L,
+            -2484906153307179829L,
+            -3815993402707890478L,
+            -5644847959384424232L,
+            -1032862021647086759L,
+            -2892262711555067764L,
+            -5583868664526886174L,
+            5272197481934617412L,
+            5686969715490980864L,
+            -8365640911629191433L,
+            -5766326501685666622L,
+            -5558249612542148227L,
+            1102619673304705131L,
+            -8391053738608422022L,
+            1558633769079291076L,
+            -3911618812597382245L,
+            6521504368325992046L,
+            -6842800935834856203L,
+            -2882604834121429892L,
+            -6271078257488927854L,
+            8376249200081389100L,
+            6177615600317134518L,
+            7689839236852760438L,
+            3891900589216959680L,
+            5226406351785022249L,
+            7697803457909164232L,
+            9221215944780125312L,
+            -6512005676525212467L,
+            -6559407677151190595L,
+            6145078418994048489L,
+            710030722473916168L,
+            -8343524484258494833L,
+            5038433168217194542L,
+            -2708528611861139213L,
+            7995505146633867774L,
+            5744473866687306098L,
+            4050647970534165234L,
+            7206071066665688551L,
+            -6376400955575967952L,
+            -5256778537048927220L,
+            -9172668902224823681L,
+            3065749533742010325L,
+            5030811618995978239L,
+            240966392255381108L,
+            1311549072858476497L,
+            -4526582622794276961L,
+            1309154083297975556L,
+            -2363289802750027170L,
+            -432649071706770617L,
+            -1570064691537937109L,
+            -1153224814888192910L,
+            -4270698221741774506L,
+            6773823095490674596L,
+            -3165894069242352229L,
+            7409202439768799886L,
+            8900825570902960237L,
+            -7246920258221460977L,
+            -3838338672737412055L,
+            6827090810124875L,
+            -7976646167808117040L,
+            7762298440685932964L,
+            4348826914539778598L,
+            -1791327327524828972L,
+            -2609832766042870406L,
+            -6581392657262306005L,
+            5600182285460685961L,
+            -6147677292492104026L,
+            1918845567382638059L,
+            -3348292537027646931L,
+            -3860450231057416459L,
+            3547997784994114288L,
+            968712235632873032L,
+            6230260351427222109L,
+            4965210057888694997L,
+            -8715799411280811986L,
+            -7852107111425124590L,
+            3681847003179951504L,
+            910744512006042774L,
+            4109447683186604842L,
+            -3415487098626766349L,
+            -2175749993490107577L,
+            8146257608931843434L,
+            -8036934856228751759L,
+            7913477481298846633L,
+            -2921320472763039806L,
+            6491007388458948811L,
+            -5398179515547021802L,
+            4048727805599310916L,
+            -4706054486852583084L,
+            7860667139485557742L,
+            -3353124581613946840L,
+            -8280125577053286419L,
+            -4701046353468913517L,
+            6420874872353955425L,
+            -7482053962768896855L,
+            8548975114735007234L,
+            2849315490043664958L,
+            -8802810267905105063L,
+            -475166135370581628L,
+            6897428145676960432L,
+            -2081174315250641152L,
+            1703574112359822063L,
+            -5700924909623283241L,
+            -1067732310322349476L,
+            -843904672087460909L,
+            -6955094499452265245L,
+            -7701961577710132180L,
+            -6925746860721903096L,
+            -7598348279377550595L,
+            -1166422941543393772L,
+            4387010563838837773L,
+            -6014691847888702392L,
+            4856216502658963411L,
+            -4207957376644159600L,
+            1448793188345938291L,
+            -4431670998008202712L,
+            -9059277160701675520L,
+            7508787852197241263L,
+            4066063495971725673L,
+            -7410737134127983942L,
+            4267684623773698617L,
+            -3329881917741804313L,
+            3123594030189549224L,
+            -2761903338163888034L,
+            -3160687496695507756L,
+            516268106892962303L,
+            -1014934901226413409L,
+            5884006752572995203L,
+            -2031839137055589944L,
+            -6402813806038866661L,
+            6294836300509593226L,
+            1297802340765373601L,
+            -1508239597227802912L,
+            4614524646517019098L,
+            -3942512816560035044L,
+            6350900368816676330L,
+            556771348529047353L,
+            -6429431505004064608L,
+            3847400634170568660L,
+            5337086831549918581L,
+            8645609149117886183L,
+            1718199551553514256L,
+            7576820855330925009L,
+            -1607079142283902147L,
+            -1688102855816698370L,
+            -5052116494849926644L,
+            7267047355356689832L,
+            -6437827964408816004L,
+            -3565958150408864117L,
+            -5342107371687292743L,
+            -2143492467381196227L,
+            1838674356178143948L,
+            -7604516888930182219L,
+            6191301872327263588L,
+            4001124263180164036L,
+            -681893125491893887L,
+            -281322067231471200L,
+            -5124529411848748302L,
+            -8464548380133263436L,
+            655197781952636738L,
+            -2918910427675536631L,
+            -1410793930387504750L,
+            -1099131463092762866L,
+            3137314550458886408L,
+            1082170404545973260L,
+            -8690053132980227730L,
+            -6529059452669632319L,
+            -4674584945301352070L,
+            -4098899166770724184L,
+            6131083448609862093L,
+            2973921095899189459L,
+            -4107038570464916277L,
+            3791012442305363801L,
+            -4803700110509834530L,
+            -6136909216493159205L,
+            -526114842633691447L,
+            8788424057687839354L,
+            -5148818420584337082L,
+            8399007011991083814L,
+            8505752896479690398L,
+            -8989522575253866018L,
+            -4359306718558331043L,
+            8811959649326505151L,
+            -3725594961614640279L,
+            8839374084926755277L,
+            -831560595149414646L,
+            3401152756264366912L,
+            5372036405663287743L,
+            3921901492965848373L,
+            8322551243423810503L,
+            -889372451572401324L,
+            4693650703454785097L,
+            2075507531582154452L,
+            6496677843498824884L,
+            7393159847449580468L,
+            -668507945083273662L,
+            -1947449765676270571L,
+            8053130122297139734L,
+            -1307707004640943711L,
+            2441827749957238864L,
+            2179494420879508524L,
+            3410853544214578298L,
+            -3656125433712438167L,
+            -3213228881905361998L,
+            1617487806127931643L,
+            8663637715886271163L,
+            8119042511738010434L,
+            -3277992216964646738L,
+            8535152732796603415L,
+            1603520026083376977L,
+            -6598220764234558258L,
+            -5549867219590401300L,
+            -4306916456866013031L,
+            -2934756621749272231L,
+            -5395260658404247456L,
+            -2170298357686678904L,
+            2758365812764943362L,
+            -7165197046619847369L,
+            9082366627644249435L,
+            1685440754889541969L,
+            2899920006452121937L,
+            -5655275366726805255L,
+            -5061578418597902156L,
+            7561472839638652885L,
+            9150148299468626505L,
+            3113563660116895167L,
+            -6406034635104931484L,
+            3509485066118571781L,
+            8675235976921341196L,
+            -1335811009252307277L,
+            -1790696377354682269L,
+            -4024843937469174354L,
+            -8171269936756471409L,
+            7977386128759318374L,
+            1751826294868465065L,
+            7295300693274985631L,
+            -242627544329805150L,
+            -5668589185786892205L,
+            629361660545895234L,
+            6612891214935527461L,
+            6343848510102285171L,
+            -4148685362900568461L,
+            4318445070793591443L,
+            -2592190119484434567L,
+            -9053139460320529056L,
+            5536389419012277437L,
+            -8561103188385615447L,
+            1544581551387710623L,
+            6385332080578416001L,
+            -7079621560202656714L,
+            7903680255575010977L,
+            -3694592432265391427L,
+            8071848452218018603L,
+            7825149172716345530L,
+            -1653329278817168706L,
+            -5323270763556296172L,
+            -4128424666342959393L,
+            -8421023643663004914L,
+            -2672343518200976055L,
+            6120207079090983921L,
+            -2146367260031914786L,
+            -1660187009122164866L,
+            3563883078517604930L,
+            6906087419855615744L,
+            -4310459567160061598L,
+            -3098886147370369114L,
+            -1834359149884135305L,
+            1907779710370110820L,
+            -2282377443632258207L,
+            4369985723943028224L,
+            5548202684456675969L,
+            -5708342824239371666L,
+            593886149922817510L,
+            7848069062742756070L,
+            -7391744464493421428L,
+            -5046550785103975682L,
+            8236487169211127591L,
+            3215245470191885486L,
+            -3495913880649939843L,
+            -3808207750764007573L,
+            5485878660876181032L,
+            -1817272616667312896L,
+            4605184313922257065L,
+            214820035998077504L,
+            9093096319364832644L,
+            5369046077371023929L,
+            6165013407038239087L,
+            -7690538331072661291L,
+            -1397257063525517379L,
+            3767397159917622351L,
+            3399649828980232399L,
+            7270812204974510598L,
+            7068591393042608353L,
+            -5578420653029987292L,
+            -8912195150778864807L,
+            -2932279166087749067L,
+            -5711497152798257793L,
+            -7326877930398691842L,
+            -2991180444691094230L,
+            6806050285570987400L,
+            3922340110763527677L,
+            1707723388620798915L,
+            -3278589993507240718L,
+            6430360989644592437L,
+            -2308946356608110478L,
+            -1185961812398880660L,
+            4776499079288957572L,
+            610998999146068523L,
+            -3956467613456324087L,
+            496586031222039607L,
+            7553718195692974372L,
+            7386912496076954018L,
+            8921075714800533972L,
+            -2935022567861594707L,
+            6236614673543714809L,
+            2582677175879519996L,
+            -9090096697622968022L,
+            1304185272320902722L,
+            3224468431182494340L,
+            6768965378473194280L,
+            -5534507714008073748L,
+            -450647119822987633L,
+            6234689719209825084L,
+            8846193444956220913L,
+            5341712821294423617L,
+            8810592379459498376L,
+            1447949822345758236L,
+            305535194022213945L,
+            8150326529723286169L,
+            -5479325805991243626L,
+            -1499896973845056171L,
+            -6006655721529632481L,
+            9066880006112377385L,
+            -8537416995981282363L,
+            9086710882895748708L,
+            6025996619705801970L,
+            -8525563418461745973L,
+            -9208945691437111194L,
+            -8117766074292230467L,
+            -6663393676941470256L,
+            -5671657339872668276L,
+            1896710643871542541L,
+            -3503868330005688265L,
+            -6401027413525272352L,
+            2378871451313684363L,
+            8703693731672951310L,
+            -1565843845636000691L,
+            4849174736662169729L,
+            -8073939089701241461L,
+            -2564586871962067968L,
+            -5250151145492710298L,
+            -5429871809415209105L,
+            -3144340831722760553L,
+            1643859439538061604L,
+            -4133713495953414604L,
+            5675267698444489245L,
+            5930659829061063906L,
+            -1081507900879598744L,
+            3023604462668347043L,
+            -8693938984179028471L,
+            -1970332193566370466L,
+            1265595071979047460L,
+            3870698673573125007L,
+            -7419051079192862257L,
+            -258366418291775982L,
+            8328884170727888359L,
+            8862367291437965696L,
+            -6946946009347970907L,
+            -6615860405547010614L,
+            -4391081872325610399L,
+            6607726692755611903L,
+            -5908289205279466141L,
+            -4438038045650710505L,
+            -384001830834049252L,
+            -5544768005743357853L,
+            1625276652563552371L,
+            -7840889628428926029L,
+            4635997596431250238L,
+            8612886157931686858L,
+            2278158349032857657L,
+            8704094676079515549L,
+            -8365731741566293751L,
+            3202194247439163867L,
+            -6090785747097134366L,
+            -2786026462729733716L,
+            -5910355890060856819L,
+            950829554795252207L,
+            -3652546350417517621L,
+            4195576674638561987L,
+            -4733091233312107055L,
+            3216547951949148250L,
+            -5616435924907456328L,
+            -3159586833702754328L,
+            162671431375084513L,
+            5582478180565097964L,
+            -2477663742645343277L,
+            6755400147323379849L,
+            8812332183457431909L,
+            8945873922725347968L,
+            301544171090492981L,
+            8277986155922976884L,
+            5204976969862580304L,
+            4093127161916594523L,
+            -570128561110865923L,
+            -2672856780773016270L,
+            -1825637574436787964L,
+            -773008243128386898L,
+            -3423677221554527493L,
+            -946653565053492930L,
+            1246030212961842460L,
+            8423430850161693105L,
+            41372824309792119L,
+            347672532805216327L,
+            4405219683662728103L,
+            -4579231924000640039L,
+            -8361342416968959098L,
+            -1159571133921669L,
+            7787138969219499641L,
+            2557350469278009060L,
+            7993478670935244840L,
+            -5172556388301949904L,
+            4937107897670682115L,
+            -8691092391191327454L,
+            -7854975589359506452L,
+            -4528849063218823848L,
+            8346449497145515512L,
+            -142168449743000685L,
+            -7959334603043449539L,
+            -1663952499770611280L,
+            -165998961589818293L,
+            -5241546365925389784L,
+            7178182027412253569L,
+            7226817649572206188L,
+            -5881968500241897096L,
+            -4325472386289307446L,
+            -4366246630853099845L,
+            -5166227895948837570L,
+            -9151159578651241300L,
+            7716189537309111603L,
+            3660101449329801255L,
+            -3413295445185586657L,
+            5688617727465843197L,
+            -7357548237624396445L,
+            8473464325047272386L,
+            6389074619120473477L,
+            -1482600861206041363L,
+            9114898649071944836L,
+            -7262790892842405309L,
+            -305520757352664336L,
+            -8774027024366964595L,
+            -8053587002950336185L,
+            -5868551997738856526L,
+            8426723959765032374L,
+            -3648962152708946916L,
+            2828542068640151691L,
+            -2438278724958746952L,
+            4357160867446523205L,
+            -7932665067526145132L,
+            -3472568728889504744L,
+            -6584259866031662129L,
+            1958686350081663693L,
+            1311119455745102707L,
+            -8871376447267729279L,
+            -3051807718032586801L,
+            5332402717801812338L,
+            -3678964785716840913L,
+            -3591030082293511978L,
+            8747096717765015537L,
+            -3002282216291748204L,
+            -4976735520660788600L,
+            -961661650479982025L,
+            5712332992918057766L,
+            -7823835326999762866L,
+            -4631550676266377602L,
+            6666211626693689619L,
+            8982495589804787953L,
+            3320238074638506956L,
+            2473098100924063912L,
+            -3443810184048844405L,
+            3028044095581144405L,
+            5157247740768649585L,
+            8356582924185499586L,
+            -7515183929801492232L,
+            7986921700076143036L,
+            1134678408819228793L,
+            -5307373485119769117L,
+            -2067463583822546430L,
+            -8026194078897369448L,
+            3617292979916698312L,
+            -4130607771914651967L,
+            6673816899971239612L,
+            6011769014598535604L,
+            437524976193137575L,
+            6189910561176735091L,
+            1868092520445019675L,
+            4421636258716306263L,
+            -4840476447194072864L,
+            6717221642106158325L,
+            -1450917216664390263L,
+            -8213405554980388931L,
+            -519172113266175849L,
+            3202423031198605136L,
+            4571108919420352181L,
+            8684855473404409277L,
+            -1846368634794100419L,
+            -8250254587320376274L,
+            4957272710427585792L,
+            6220440404399568255L,
+            -8505457336029805911L,
+            -8614022673477985604L,
+            1208217021879477286L,
+            -8706919730432819850L,
+            2875143388215810502L,
+            6175777043882217961L,
+            -8235667816597007539L,
+            8032030058814238925L,
+            1631325980599540111L,
+            2627333359755574232L,
+            -4406746721365941724L,
+            -522541364144017082L,
+            -283957096320206745L,
+            7197168689522563689L,
+            5304482563502087600L,
+            -6865843835845563480L,
+            -7248157495359609834L,
+            7358760665326852208L,
+            -7415325757931030454L,
+            -2106605062185379798L,
+            463645497108295712L,
+            -6089706265102681411L,
+            1314811558526039316L,
+            5983489744742821004L,
+            -682977567373183486L,
+            -8072515604712280998L,
+            8530258514574048267L,
+            4965690607834278523L,
+            8012064613312552426L,
+            4674200342447497060L,
+            4879741951486693113L,
+            7999140491992193581L,
+            -4985772830232049822L,
+            -6014626163129186399L,
+            -594663305316408521L,
+            -4991857127777972784L,
+            6529186764490797067L,
+    };
+
+    private static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_7_LOW = {
+            -7846873025127781393L,
+            -5200775293728337371L,
+            4770099244687388947L,
+            7734125408581250470L,
+            -8108406648498468718L,
+            7506936080770118363L,
+            1096918561542767453L,
+            3148627634858280720L,
+            1748992501915502547L,
+            -3235477399763793639L,
+            -6749214297552993812L,
+            -2531071801349350922L,
+            -1371476775142259646L,
+            8642715203142007103L,
+            8698250371514632820L,
+            5604729278049915338L,
+            -5183812861686652342L,
+            -6737756114808196639L,
+            3432178675521494671L,
+            1981078831890127983L,
+            -6467288870901768225L,
+            -3429511361795268857L,
+            7083778125659207566L,
+            2366094445031096362L,
+            5999954769808847291L,
+            -7828500486440741947L,
+            -6075841937548027837L,
+            1990648617604577215L,
+            8611578478495551226L,
+            -1075857239526614152L,
+            -1861319757147668017L,
+            -7675500613812601778L,
+            5727143031655652271L,
+            2218567265504007793L,
+            -828944933428877648L,
+            4453619146951835306L,
+            7891525627007588739L,
+            1234000231327985867L,
+            6524666314951882806L,
+            2716709285533601882L,
+            -1259700303115571500L,
+            105445970203792514L,
+            -4097293444208392434L,
+            -883087557843750608L,
+            -4672641812382706994L,
+            1866183920252222804L,
+            1816229927790082489L,
+            -740444713697306036L,
+            -1193256896169520239L,
+            6899754576049845942L,
+            4626562121891228024L,
+            -6813412195502433585L,
+            -349932764237520486L,
+            -6658209987179898524L,
+            5206162907724981221L,
+            -4792476245556135809L,
+            -2431197993632083319L,
+            -2906499599001751973L,
+            2289851808403255029L,
+            1980940911421100177L,
+            -347453100182520574L,
+            9093708144419076438L,
+            -8121577524848330087L,
+            -2222249915160835050L,
+            4985959930875430528L,
+            37499921839498303L,
+            -8128326597872331013L,
+            8774189309228809176L,
+            4719029291918648672L,
+            -7930725499655170416L,
+            -5750203212141150325L,
+            7865077737792684635L,
+            -913171257972590506L,
+            -2769244801241487429L,
+            8377393238846719859L,
+            -3214839432926096596L,
+            -2428573104304048083L,
+            -4632081095873676163L,
+            208798866177986837L,
+            752415148231852178L,
+            -1030999002483263576L,
+            1228180567226262427L,
+            -1336060552867332669L,
+            -5750435149520908230L,
+            -3459243497751394083L,
+            -2692530971453740455L,
+            8177790467408210155L,
+            -501095614713297970L,
+            -8885750614013721708L,
+            2348775348610090756L,
+            2847256160022933174L,
+            -6961776098595547182L,
+            5805496233037450360L,
+            -4364167010541950671L,
+            -4904808835743373425L,
+            8306481892022837993L,
+            373996669009713829L,
+            -7240755829476463050L,
+            5217204835091180576L,
+            -3436649923064682043L,
+            -8241529819622806721L,
+            8618725690387931967L,
+            -3999133680677959993L,
+            6174924607341444599L,
+            769535964772566628L,
+            5596822380579940533L,
+            -1358026640817742875L,
+            -7143922251196867918L,
+            -6568950210466604857L,
+            -1681556827257364268L,
+            -8304632024814570217L,
+            6560045853051322185L,
+            1749006082416095385L,
+            -5419942819790731902L,
+            7156267588152870089L,
+            -3350731906914069149L,
+            8713015909144297495L,
+            6320323222549271444L,
+            -2347258684100027038L,
+            -4574772301620608911L,
+            -7402216108985047120L,
+            -1789867496558126500L,
+            -5257202989325692929L,
+            -4044405339277525315L,
+            5599304258757025543L,
+            -8167177189862353533L,
+            1648466755782122449L,
+            -8378753293572180480L,
+            9223275426518995029L,
+            -2052505480929051704L,
+            -1243676908065452332L,
+            -3250011318744830939L,
+            2536094841977393971L,
+            2347705392803264965L,
+            614541931770555408L,
+            -1965494998133639263L,
+            -8721321900521162571L,
+            -7070902079599695220L,
+            2418120649623201209L,
+            7289785265828871422L,
+            -1087050952480730042L,
+            -8052841900062329043L,
+            474135616859159691L,
+            -7477931954585079578L,
+            449463971106486901L,
+            -4954326025046575431L,
+            5857515439933821239L,
+            -6171306309786708766L,
+            6036212056891594988L,
+            -1048071280826481424L,
+            3146161223104191440L,
+            -8192068810903769608L,
+            -233542465177960049L,
+            -2171684954060372438L,
+            -8440481190130490643L,
+            3166079732730300518L,
+            -6520972974436409582L,
+            9219238355006544021L,
+            3955972237538930375L,
+            -8395435641392260433L,
+            -8017107541540722055L,
+            -8701131681602033769L,
+            -7670537623598925439L,
+            3953021874286825529L,
+            1545463650734616928L,
+            -5059340464058200093L,
+            -3828427556158621103L,
+            -8560412035241677667L,
+            1210420804955252264L,
+            -5816498638841721176L,
+            3137612878747503325L,
+            -3673660977119235931L,
+            7721168026824909723L,
+            8484155805443846883L,
+            7284022912642022893L,
+            -7212371102168323498L,
+            943870318379262580L,
+            6634139559063115242L,
+            1748847274716440261L,
+            -7211695895159030566L,
+            4192157161855374440L,
+            2244921470132237383L,
+            -952152914972208501L,
+            4516708659970996810L,
+            7629631140387891694L,
+            -7160463655255549165L,
+            -3842086417763079044L,
+            -1135281935736323922L,
+            3463356575049300163L,
+            -2047141581827537887L,
+            7990219367910840940L,
+            8004054943795029442L,
+            -5672208742353493250L,
+            6316468439166684544L,
+            -4301249476189429881L,
+            -1647187715408406557L,
+            -5383508076140824414L,
+            2341055559558401252L,
+            -7650722371229181377L,
+            -2630533266956245255L,
+            1053275434758955195L,
+            -6949199104921050046L,
+            5081877910428980876L,
+            -4127227837725435650L,
+            6319779187197806513L,
+            -3636574998901426852L,
+            4581154980888974286L,
+            -7426693084049985681L,
+            -4438719994150420378L,
+            -5199347085788659529L,
+            -3807773897318255504L,
+            2128223363872352710L,
+            -6319474031397897553L,
+            7541922411319058242L,
+            3892552306843339922L,
+            -5840778341441759749L,
+            7838895324905296027L,
+            -7039262848936402458L,
+            -6820900477667816448L,
+            -9516646557499131L,
+            5472890539697898835L,
+            -1203581348704257504L,
+            5184607887196421783L,
+            113694177152561167L,
+            1336635358905600252L,
+            3482702425118226147L,
+            675939737335964051L,
+            8303080230214285355L,
+            549644868310245044L,
+            -6270776206980182068L,
+            1780915427985828425L,
+            -6837911539272658031L,
+            -6276104109213153633L,
+            2370460857291807340L,
+            -3754679942451314941L,
+            -1434230787694274697L,
+            883374621027360191L,
+            8599043616229167034L,
+            -5456433182424851492L,
+            6901008899642698819L,
+            9100660681297198864L,
+            -1806851220077302131L,
+            4450273879649033283L,
+            1705130583898893642L,
+            1157319120483317510L,
+            -736110206984314689L,
+            -7597255882993369456L,
+            5400046792755727765L,
+            -5771679302180588932L,
+            7588229342114225923L,
+            -4594513816403190947L,
+            4532059857931021200L,
+            -2762491829386911215L,
+            1967556129988269656L,
+            5921343142199687464L,
+            6810959205192760523L,
+            57747422114416935L,
+            -4964336011639109151L,
+            -3288089051120544052L,
+            -8924843168125254295L,
+            184529882606551447L,
+            -3779033661053307978L,
+            -5179327483754487954L,
+            8699071651091361123L,
+            128706773092740988L,
+            -146328578818823990L,
+            -3074401944396684276L,
+            8727067120646196291L,
+            4702328435197723501L,
+            4479569352389980603L,
+            -430896624410203945L,
+            8264952491801003572L,
+            4327769799319641957L,
+            -5222692592000379192L,
+            -5499746299050359062L,
+            8472018953579291819L,
+            5645245242890865926L,
+            3588188179658487492L,
+            3724025144514223228L,
+            -2580255763074196002L,
+            723725459331115068L,
+            -1288741501731527905L,
+            -8211249185553219480L,
+            -4250915706096620379L,
+            2548983259547643022L,
+            -1475976446230654298L,
+            7285961150792956675L,
+            -4815130590636108988L,
+            7551990346880264105L,
+            -6941255094548348243L,
+            -8832674036693486466L,
+            8229143506662995798L,
+            -6049674784261369495L,
+            -3071722110384586686L,
+            -4365845853825308730L,
+            3095384758553928301L,
+            6871551280324212484L,
+            -8424524323413558892L,
+            -3564311536189750273L,
+            -2411063427987074227L,
+            5650447041617153848L,
+            8545794476635163404L,
+            5136027527081371684L,
+            3354799247588711683L,
+            -1378835250699243322L,
+            -6833996724388243925L,
+            -4742550980009273380L,
+            6642606729445908367L,
+            8866708885871625946L,
+            3488200718874948764L,
+            8982012783605904305L,
+            -6832013025676558685L,
+            6720983611354695906L,
+            7356660016006712649L,
+            1936725060265360132L,
+            1016034677806916100L,
+            -1882017121088163011L,
+            1867457787998041209L,
+            -4399666832367751653L,
+            -8033752424909826185L,
+            -4104867976410254169L,
+            -9116337448584835144L,
+            -6794785636739005586L,
+            9020389766093364277L,
+            4229996310710356563L,
+            3865267231001336332L,
+            -714104809868073640L,
+            8050883650594736464L,
+            2853583605137255951L,
+            -1580095253758849415L,
+            -8335295372222697453L,
+            -5174954352700004004L,
+            7331779602074759619L,
+            -3585042957097960680L,
+            3626179935727122703L,
+            79956892123564996L,
+            -6383654141917529265L,
+            -3062511512582693605L,
+            276653400507455292L,
+            -7325563101086464348L,
+            368484087234187085L,
+            -2556020676214780895L,
+            -5988501041849084027L,
+            3325834830096582265L,
+            -9162037379960852560L,
+            7292517036177955328L,
+            3839216675180138158L,
+            -674886446386988616L,
+            1256927167030984916L,
+            8041884867000925940L,
+            -5901014007505918264L,
+            7657498823628723037L,
+            4907382800093855817L,
+            1733367111116115031L,
+            -4337366532426184699L,
+            -2966351602304476515L,
+            7533884902520783710L,
+            19829950770467020L,
+            -8949478645055618005L,
+            8430005135057597437L,
+            -3893996665967374927L,
+            6079213395929278051L,
+            -4583712785095408254L,
+            -3105634173861404038L,
+            3168446340461139715L,
+            848785291661599429L,
+            3776905139830525016L,
+            8952169578287189466L,
+            6482143986569315489L,
+            -5641777495160815953L,
+            -5508895907252487670L,
+            -5787794362795260609L,
+            -3021688488473117485L,
+            7738651059309952023L,
+            1470577345504114194L,
+            8361835183238694221L,
+            -8385371246351221487L,
+            7760373487327842844L,
+            -966799881347824811L,
+            -1682879121892896019L,
+            850403711009396892L,
+            -9223192991598662912L,
+            -7548991009524384274L,
+            -3854770688788568176L,
+            2293454943936513315L,
+            5373589415924860040L,
+            7108747103299756306L,
+            -2665680029914458679L,
+            -1868238003677742146L,
+            6217722960739042868L,
+            -4056524737022395731L,
+            1303155958694693913L,
+            -7666938722481237710L,
+            -6676120157063654896L,
+            -5968868231941977700L,
+            6284776313045993986L,
+            2373185872072775201L,
+            -8349297951879703531L,
+            -1141856439563262291L,
+            1771507525353412990L,
+            -6355709277776223691L,
+            7697001088119739539L,
+            -8385371230626369205L,
+            8630331060436890731L,
+            -2620551429802984258L,
+            5581779100077420309L,
+            5663000565567501655L,
+            -5301741768744149919L,
+            7344973763795515690L,
+            -6510589295504259195L,
+            -3592782701394552887L,
+            -5669346682619671347L,
+            -4521045310820583700L,
+            9092920659498914228L,
+            -4138363694560553423L,
+            8188381070007788455L,
+            -3182614190763750983L,
+            -4161014149457035529L,
+            2919505594825243585L,
+            -5845653995572055999L,
+            -2425959398178653004L,
+            3076886225607651070L,
+            6635871494587446645L,
+            3884977801245438990L,
+            -4954028673192929565L,
+            -1520881731159902099L,
+            -6539147160489361022L,
+            6652776171683894983L,
+            -4802346304999439978L,
+            8433884573466955216L,
+            6545853480268064699L,
+            2427134324263634672L,
+            -3727129841753277105L,
+            -527247719468985200L,
+            5826055843685456733L,
+            -3947114193145152603L,
+            4262934139360669835L,
+            3941054247635776296L,
+            -8253835438656194891L,
+            -7396273445692842724L,
+            5408523511309022797L,
+            -2270037891900331944L,
+            -8580950040663478934L,
+            -3122560071598662977L,
+            7661377020136361653L,
+            -5270385607106143341L,
+            -5603011041471618386L,
+            2919356172401683816L,
+            6466394406220026994L,
+            -8551419713694305756L,
+            4184652843431944475L,
+            -3004871363638155234L,
+            2207978543697514668L,
+            -8181814465040651618L,
+            7979206714711372010L,
+            1735596909129414939L,
+            6278954249454097129L,
+            -3827110029628473471L,
+            -5572818401201298796L,
+            1375609303100117430L,
+            -7055681071360966974L,
+            3479859923907598225L,
+            -8935465069897886405L,
+            2438258009985186468L,
+            -2293592620656452819L,
+            -21915052348838915L,
+            -7761809042251832743L,
+            4789834171311667866L,
+            -855930901967781234L,
+            5091226750101271586L,
+            -3641624472777833135L,
+            246292741211674343L,
+            1393545898475098211L,
+            7151347479139159293L,
+            -2583315511264094365L,
+            3371550980164504619L,
+            9207889671579039315L,
+            4940976151497385753L,
+            -8650575236053171408L,
+            890791309864162178L,
+            549002708555534112L,
+            590260055542155698L,
+            -9221793027647042294L,
+            -4218929846688747400L,
+            -2062455363428406743L,
+            5797070519418775820L,
+            -1150287331798003748L,
+            -824634417658316319L,
+            5037323000830024581L,
+            5738253873729020765L,
+            4159764182449253813L,
+            -5320134156317005824L,
+            5062918443312505421L,
+            2726088229223117825L,
+            2573050632331083983L,
+            -8478876308678480230L,
+            -3947163858184000019L,
+            -2498216676241171652L,
+            -8917742575199653410L,
+            -4869939829594205102L,
+            -7709915702054120993L,
+            135870743672991499L,
+            8793273790373641212L,
+            23526249492280506L,
+            -2823715841430030525L,
+            7948856114130488022L,
+            936297488160875880L,
+            -5006015237604665794L,
+            -1655929852211852165L,
+            -9181073285360768444L,
+            -4565960829890226056L,
+            -3254154449858147534L,
+            -4696209457801048493L,
+            -6884557740015005043L,
+            -921122567632869781L,
+            5709444004389819320L,
+            -7086389900164310406L,
+            -9117413696607498457L,
+            -8417147254056676269L,
+            -2799698534102166317L,
+            -1562628392776156831L,
+            -4956552753109314161L,
+            2237848582704019834L,
+            -7145020577583292452L,
+            1744961041835196212L,
+            6963297333187505257L,
+            -5960502198088730353L,
+            -592649021306689872L,
+            -2905327674972889833L,
+            5491229320512434447L,
+            2204131139016168514L,
+            1808530445594092652L,
+            -802051408370808600L,
+            -7892174183836952724L,
+            -526562860393317271L,
+            7360543291200988609L,
+            1056770283681437750L,
+            -1895674765925249302L,
+            5529763668098085407L,
+            4366422940649192716L,
+            -762958762925566102L,
+            -3208043756003703420L,
+            362283019579618026L,
+            -6818393093684663070L,
+            263442531748433866L,
+            -2548359159706588322L,
+            -8904191255781937758L,
+            -6211271339096684953L,
+            1141881478947025927L,
+            -2325226958445498567L,
+            2715139426316888538L,
+            8570717690741139700L,
+            -3685977493425918481L,
+            4010642697063632667L,
+            -3826997198277270404L,
+            8829199947945567369L,
+            1516807194129868083L,
+            -6217764142244251204L,
+            -4165925526738176625L,
+            -7101444234697714977L,
+            -8999778055760164816L,
+            -6628206808702804095L,
+            -8632667246297899015L,
+            6957462235798360222L,
+            591809449618265204L,
+            5406571190250070913L,
+            -3441247840992061656L,
+            5621534525134862444L,
+            -3882367921332490586L,
+            -7315144110308088015L,
+            -5954383120666518879L,
+            -9112115354392199519L,
+            -7421627377465241474L,
+            6095048747053520645L,
+            -2651829496084364164L,
+            5798977158227757990L,
+            5728230225300254658L,
+            -3924399996686253766L,
+            -250145456045675411L,
+            7034669575410209063L,
+            7530337045043076854L,
+            6209472854772569779L,
+            -2354661044886339613L,
+            -4872371028744011723L,
+            -2191274031001443322L,
+            5919078666586558870L,
+            -4880713961220811592L,
+            4112763760359425509L,
+            -2893549375475484147L,
+            7321733199237420006L,
+            5652730206134208131L,
+            -6138393944787498743L,
+            -8240921847916356126L,
+            7680412563823890921L,
+            4460455720146406414L,
+            5158919174478562558L,
+            5200532205284026719L,
+            -2788083936613567134L,
+            -9064978786361696537L,
+            -5873053763529855560L,
+            3561097292700446702L,
+            -6581544401630870676L,
+            6325606818973933690L,
+            8974171285735694483L,
+            801207858995599315L,
+            1571333444915541048L,
+            7281394478158339240L,
+            733284761948886415L,
+            6035320450776648293L,
+            5946328280167786307L,
+            1969640100973258677L,
+            7008933968702351955L,
+            5069933854062095423L,
+            2379880068374477475L,
+            4608455528229806918L,
+            1882728916087064559L,
+            -4069595898395340172L,
+            3796795424894665839L,
+            6700517212629744846L,
+            -5728677883108213292L,
+            4178297443998060266L,
+            9168150375533238975L,
+            -4944265468964904658L,
+            -4683272385602042333L,
+            -2953975330542012736L,
+            844632817548669302L,
+            -7308423449977738882L,
+            -894835738053912761L,
+            2471269454857986864L,
+            -4806974859808295212L,
+            -8946447394462174210L,
+            6131689114310796410L,
+            3659184678806597214L,
+            -3380645693406282166L,
+            -6161774658762820371L,
+            -2105489799199915445L,
+            -1948306443883916203L,
+            559928040618571546L,
+            -2501728652209507488L,
+            -4746981129177949297L,
+            7915273718256501202L,
+            -4734890325440252990L,
+            5163544309784582652L,
+            -4530632670189265465L,
+            -7448966980173816769L,
+            9205851556820005845L,
+            4182453736527465194L,
+            -8910019770455116739L,
+            -4822096551146888866L,
+            4857348279364118785L,
+            1825653423882397245L,
+            -4973008668890461489L,
+            -1727470999616230803L,
+            -65597682965374644L,
+            1713419017327929436L,
+            -3061833338343445532L,
+            -2453186151219332725L,
+            -3406434256655267056L,
+            8972012412421512654L,
+            1250082462447711952L,
+            -3465723381717795694L,
+            -6566991957298785014L,
+            -1672352139505825423L,
+            98776603064544928L,
+            -6758249101698403265L,
+            4600965380688894676L,
+            3420806532570161608L,
+            -7532515762927156094L,
+            -2943685106201809042L,
+            -5118930175443326805L,
+            -6823441842517209047L,
+            -3784692097479057929L,
+            3176592997998985475L,
+            -7406712357648309790L,
+            -3286336850316658578L,
+            2413110918844067330L,
+            3196620477833062244L,
+            7794987493535993371L,
+            4945950260772503745L,
+            8897253700816827359L,
+            4579792340388966593L,
+            -2286960850647923527L,
+            453989771484760592L,
+            -341852614507588253L,
+            -8474859949226212970L,
+            -7899992795521253301L,
+            943506280697255886L,
+            5778406894767717224L,
+            1681895020700254995L,
+            -4107247778488905408L,
+            -3426816517133285061L,
+            -6266481195475566124L,
+            7153204289765077105L,
+            8906733445899432615L,
+            9172883544920441045L,
+            6318907476806538797L,
+            5931873692974765401L,
+            2949215911799188256L,
+            -8801862421658778780L,
+            -727745280370864811L,
+            6255592551589753111L,
+            -5742183065746936392L,
+            -7281581250951333688L,
+            -4799917422206361880L,
+            4835030632630522134L,
+            3635637152243025953L,
+            5667277336994239895L,
+            -2656997432680948786L,
+            9063021088346909976L,
+            208876480690297849L,
+            -6033418646828517948L,
+            -8409257855104817832L,
+            1097317857376135142L,
+            -5675875341522895739L,
+            2002712478391538421L,
+            4645036953110348075L,
+            -5111011911315726491L,
+            8166575021076571752L,
+            -1024259075381458835L,
+            5785444864998252123L,
+            2774086514774640480L,
+            4770136992586739258L,
+            -742062007832884930L,
+            2113300490308377013L,
+            -7624291118371586825L,
+            -7806715914813316033L,
+            -4001628220319994560L,
+            7422295944272580120L,
+            9026163140596012508L,
+            3418704650776447904L,
+            -5542833343542040400L,
+            7965500456340984354L,
+            8519796725446240405L,
+            1193998912307473958L,
+            7893422458959451476L,
+            -7507936103358978256L,
+            792223198681259585L,
+            -3623419602082594818L,
+            4351774408121482901L,
+            -4546355627775205904L,
+            -9155012534315996296L,
+            7442380251762991874L,
+            8437574598172009900L,
+            -6336249961736708335L,
+            -4255892534201569593L,
+            6218239403293733187L,
+            -9100373766195505137L,
+            -5903266552691396207L,
+            -1485206922328557829L,
+            2174535331066410227L,
+            5712944859493307904L,
+            -3853945851783411545L,
+            -844439645348778571L,
+            4630170211692331671L,
+            7923007817129431946L,
+            7282722229771633159L,
+            -1479389368578457780L,
+            -6872120926121892367L,
+            3479034722370043912L,
+            -4502136536925464171L,
+            2968721575705442723L,
+            -9132504966170356997L,
+            539801418172971967L,
+            9057545396963896923L,
+            -4235059112844840319L,
+            8213389094451052637L,
+            -5181778433850055871L,
+            1286241507642285270L,
+            1459468398008822181L,
+            6771918531365519938L,
+            7547093484878198389L,
+            -1325174482729051418L,
+            -4455375615591547936L,
+            2211140012306547226L,
+            -5907024162002412049L,
+            -6135832475451042898L,
+            -1353275790664702375L,
+            -6045215709651884671L,
+            -8730304193436099434L,
+            -5302187607633919338L,
+            -6519568372826235449L,
+            4340328842386921842L,
+            -6534763316294878131L,
+            7099238049536746071L,
+            8904083173725757431L,
+            7470087031214366422L,
+            4276014063612823227L,
+            -4798739204178866892L,
+            -2143593091228292817L,
+            5214491733570949550L,
+            -4720393697994549408L,
+            487676883539520786L,
+            7278614402953910099L,
+            6779250217491840252L,
+            -777533749161844109L,
+            6775877469972930787L,
+            7962398976693679655L,
+            4498715470657862692L,
+            8181369365372530654L,
+            760820410457063478L,
+            1878880030746977804L,
+            -354280482550106749L,
+            5095497531551764513L,
+            -5649776874212830799L,
+            8026449560488238898L,
+            -4885289971398461511L,
+            -5379712246809047807L,
+            8821549725220704047L,
+            -3985057176610922047L,
+            2844351713679544696L,
+            -1008729396215160449L,
+            1608246673809550767L,
+            -7980367897573466876L,
+            8464074471417487389L,
+            -1702140201808367540L,
+            7304760719775001889L,
+            1881301214803685301L,
+            273349630576464690L,
+            1802550090555348675L,
+            -4107671218963872259L,
+            1744825348399320689L,
+            -8540259474659330856L,
+            1295207020453126072L,
+            6507039712636914033L,
+            6213743365204911875L,
+            2647383797017142794L,
+            6880703632074914724L,
+            -4433385872784965637L,
+            -7167350309680924624L,
+            -7211628883405155285L,
+            4607133659409976149L,
+            6944168825502811383L,
+            -7779478654811425823L,
+            5313067224119860394L,
+            6634435473858214062L,
+            -2638898969085561073L,
+            -452640946518389884L,
+            -6859487446770571476L,
+            61380173041493943L,
+            -7088667960576377422L,
+            1085953418411224705L,
+            8367754582315742977L,
+            -2693013489980159865L,
+            -8358155963256471079L,
+            6276013075858959464L,
+            -3165754994125288316L,
+            -5319388028809480697L,
+            -4416648536591828835L,
+            3266452429886354534L,
+            -2794655158335568782L,
+            7986185859675885520L,
+            5392114794803951133L,
+            1088195006102274815L,
+            6604256144696046959L,
+            5706147538725395278L,
+            -2023338104601177470L,
+            2084072954441966646L,
+            -2298127723597197200L,
+            1657507088359728196L,
+            1941848674552202606L,
+            -8887996141800288913L,
+            6188676678675960340L,
+            -2664116768004816163L,
+            -6299130871280455222L,
+            -3665396870122688512L,
+            4660878020300574489L,
+            -4631427180949014248L,
+            -3795898615946901898L,
+            3875712241728035347L,
+            -9123532932788387074L,
+            3335149602500774127L,
+            303716176611404915L,
+            -2000688672040568610L,
+            1550598358097224227L,
+            -576410773955130104L,
+            -9073428424679176794L,
+            1476958790907887073L,
+            -1083924047413914003L,
+            -7733843893543963804L,
+            8909269366705770301L,
+            4663279495493717427L,
+            8391746835490856489L,
+            -7685383111847305461L,
+            -1017126090947495988L,
+            8833117497828831556L,
+            -1575201524776020132L,
+            8793082780760392510L,
+            -1166634699776167256L,
+            -3940718887553964280L,
+            -6568546911415993719L,
+            1522280932274860781L,
+            -6074912833892422955L,
+            -510782194785454724L,
+            3639116827382594528L,
+            7406214946232830065L,
+            -721580167765093679L,
+            -8879937787543718402L,
+            5143754944066106200L,
+            1471566767412124840L,
+            2834645507736662445L,
+            1340672033227436221L,
+            -2456516329818275846L,
+            5994262920655290054L,
+            8913130801687675022L,
+            7484182684886802617L,
+            5119496248599857108L,
+            1809997780267337624L,
+            3415346295837574043L,
+            -8300501847722721915L,
+            7328285488787579193L,
+            -3956246063134710133L,
+            -4845356476572069733L,
+            5136772033603697959L,
+            -7670952687094269833L,
+            -2254162551022984835L,
+            5017363648974790356L,
+            -4792971129763738197L,
+            8170397751755518610L,
+            6406142458345100386L,
+            4270850692923913274L,
+            -4163956619949331658L,
+            -4262902575815474496L,
+            -8047588046988350626L,
+            -4386624496755476261L,
+            7135021470383974114L,
+            6965641806464667741L,
+            -6591044383136774164L,
+            -4112762927219327368L,
+            -9198461982608950015L,
+            7004621080127342009L,
+            -2483396906610103299L,
+            -6253547021511210442L,
+            -1671848005991825196L,
+            223404840352571391L,
+            5220536757254130065L,
+            -1178438987329498736L,
+            -189324601568998058L,
+            -5310245937436539338L,
+            5644325622521843837L,
+            -88255289574157684L,
+            -8797781040047284265L,
+            -5389653284522297331L,
+            6176887459897442309L,
+            -7340170241571819327L,
+            -2566163118328076214L,
+            -3815303424812512035L,
+            -1131586888042269496L,
+            8294387183643025697L,
+            6031718866676332299L,
+            -4346349819470177205L,
+            -7530790116969201158L,
+            -1684602675134526477L,
+            -3190946879125809471L,
+            -6368089731549521491L,
+            -5470066276716689932L,
+            8574685877423617543L,
+            2406416461125452583L,
+            2434861175794441748L,
+            -50313545250144445L,
+            -94512463480012729L,
+            -2625953783383079631L,
+            -5404657203364553825L,
+            7758642384408165712L,
+            -3880361652031050293L,
+            1982216913270328162L,
+            -2387336093373977244L,
+            8123911640470688227L,
+            -9128327598234609711L,
+            1169816050792518649L,
+            2849755148081604584L,
+            229888411331667043L,
+            -5355356643274316315L,
+            -5745379384244227351L,
+            -3521733500368143525L,
+            -3181100018908975251L,
+            3249839472431068899L,
+            2059721287066289261L,
+            -2096022526159536889L,
+            5453221709687922852L,
+            -4670475297119254244L,
+            8016507163508386021L,
+            3010033754691392897L,
+            -1669625662031523673L,
+            -6049318332576162835L,
+            -7121643789336145939L,
+            -6647243841324022819L,
+            -8303485680176222171L,
+            633387805548269284L,
+            -4174707094592583132L,
+            39804655372615848L,
+            6215000918535258190L,
+            7182388970485337262L,
+            -1141400873153833560L,
+            4985688983599843676L,
+            -3628749948546086841L,
+            -3594102876901068605L,
+            7158584581706097773L,
+            508646980496152816L,
+            6817097301954160447L,
+            2376602002286559035L,
+            6213716119320582250L,
+            -1674134756963899382L,
+            -2171208414038379710L,
+            -5722023207297320934L,
+            2499784242316063589L,
+            -3415945995926192292L,
+            2172581906309061282L,
+            9144751910427348706L,
+            -5040152621317301839L,
+            5326951693820087472L,
+            -4407112587936098697L,
+            -5740922227945142559L,
+            -3453416394955867815L,
+            3333655086610637412L,
+            677331162656823586L,
+            -2810868778813489375L,
+            370195531411781139L,
+            6391864191232802753L,
+            6086435299435606784L,
+            -3929688508373629379L,
+            -6512504253196512400L,
+            -2375784610378892198L,
+            5921348641939505230L,
+            -6877553589471180820L,
+            6858867032615334985L,
+    };
+
+    private static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEEDS_42_7_HIGH = {
+            -2021917492539020320L,
+            -8045905574776180056L,
+            327762157430079008L,
+            8905848873198675812L,
+            6403555415928976893L,
+            7419322963781163334L,
+            -563305375589786514L,
+            1762461763427824218L,
+            -215136114516290527L,
+            -3737486845722353830L,
+            5706154463439351386L,
+            3939537070809438392L,
+            -8892608835484296534L,
+            3284902129084091801L,
+            2269782924052804618L,
+            -2660930988445869628L,
+            4330113053304391309L,
+            -2761425846282982474L,
+            5916604164234969513L,
+            975488896903548435L,
+            1614329789057774263L,
+            -5773150781435092212L,
+            -3202646139402766856L,
+            -3389297314634086962L,
+            8866858392533650683L,
+            -3400174659729566282L,
+            -890244950946899480L,
+            3252884308228419227L,
+            -8426336703597337734L,
+            -1313575732885816953L,
+            -1451920387021666097L,
+            -7764296043509442767L,
+            7031008309127864846L,
+            -3883769140619660286L,
+            5896852083237070840L,
+            -5963169605860629247L,
+            6646710192967936234L,
+            -2409926371893258820L,
+            5206555026790466840L,
+            -6307643011681637219L,
+            -2972684177491136491L,
+            -7023903840565675678L,
+            7741241546395313166L,
+            -3098614920078093492L,
+            7950762143770566535L,
+            -6986226663123625356L,
+            7419850930781754877L,
+            -1891425461624215049L,
+            1131548572011699465L,
+            5581950926074540572L,
+            -4573949928065530569L,
+            -6299388039636666742L,
+            -2695631735372414495L,
+            -8890056440618788460L,
+            -3087848797842523441L,
+            -6101568398723896623L,
+            -156051251191569049L,
+            -8247399532734423389L,
+            7162629030308173778L,
+            -4853478184284913290L,
+            3887142798235180767L,
+            2804591209500020760L,
+            -9045945455535022915L,
+            -2813320413870177473L,
+            1187993476551772344L,
+            6987494290272867866L,
+            -349148406602959442L,
+            8447575617390488822L,
+            2847437519375165365L,
+            -4109493656412713306L,
+            7102489275161908096L,
+            9170128411501195355L,
+            -4708400147709399464L,
+            6527740265682835768L,
+            8283784784855483008L,
+            4450177331321570712L,
+            -7134837867199731493L,
+            -7209553392882190493L,
+            3876857214458075294L,
+            -694841002715184773L,
+            -2695483313631263131L,
+            -7665766844605138613L,
+            -1620176164460771913L,
+            1302766266066405977L,
+            7139361005367431991L,
+            6439565666924397619L,
+            3535080347606575601L,
+            -457169336930609451L,
+            -1708555545158479359L,
+            -8119600250606153240L,
+            5345523941779404559L,
+            -78706648720430334L,
+            7415060964537133460L,
+            -3708947146328730405L,
+            3713445260839504033L,
+            8820460143310379605L,
+            -4230201737161131974L,
+            5607910461191880657L,
+            -3274720005535426632L,
+            1138781548681830168L,
+            -2967945290112691752L,
+            -7312813870604203396L,
+            -9190633260039628295L,
+            -5991449126487930978L,
+            20940296251601506L,
+            3442245031320919579L,
+            -2956568070957047133L,
+            6528930831599776440L,
+            7758701205562336275L,
+            -4568179681624058803L,
+            -5787616739976812446L,
+            -2417448613069358125L,
+            8647478664609272372L,
+            -5283395935522311374L,
+            7725488032518853828L,
+            -809368524670698514L,
+            9121624350436849282L,
+            -6250424319656352912L,
+            -5624143665935359482L,
+            9181924005443684326L,
+            863588879362551632L,
+            -6259602532099769598L,
+            -2052605001446847211L,
+            -516643384089741492L,
+            4946919391894628812L,
+            3903355424777055505L,
+            4370225648311589897L,
+            -2672647276769580001L,
+            -9036377833141324053L,
+            -3378134400343661734L,
+            -1195954805778618627L,
+            -1935097999528404168L,
+            8833962835216310003L,
+            3048898193087715629L,
+            7008391535162796399L,
+            -4477163854113233538L,
+            -8777494748781359696L,
+            2704495552609037756L,
+            9166484102430446934L,
+            -3231737181938133192L,
+            -5935773350839182371L,
+            -811791878591512786L,
+            -6715875499846049771L,
+            1709623065482801629L,
+            8664609548804584180L,
+            8748319041023770451L,
+            -1838283796359384390L,
+            2038121475823037227L,
+            -5616929697516271776L,
+            -3814132283506724139L,
+            4646513315647887467L,
+            -2245995021385987576L,
+            -701844773011025284L,
+            7615118229394927814L,
+            -8677893848654981880L,
+            -5220138109076267488L,
+            2446155669226331326L,
+            -547586641274324730L,
+            7402400864220379091L,
+            8286866598548711148L,
+            -2968672055850388392L,
+            -8217145241105393050L,
+            -6963896850664929443L,
+            -7324713832731395573L,
+            -1264909107168599922L,
+            2896246552390440904L,
+            -4367985485029230066L,
+            5865639953643869703L,
+            1084422395067418237L,
+            -2685499975375619009L,
+            278660503253580923L,
+            6152571672078830671L,
+            4365380078325782343L,
+            -3690845119316101630L,
+            -1495393219043989111L,
+            -2335882634455141727L,
+            2407780811509215807L,
+            6316425052374462768L,
+            -1126667511148097185L,
+            3234237781464722231L,
+            4265486216769141474L,
+            -8713361924685183899L,
+            -7677619280100173186L,
+            -2577985465829213245L,
+            -9165808858457513004L,
+            7620758399156772100L,
+            2845166509250869317L,
+            -2161825807765697851L,
+            -1973451451322781178L,
+            -625924407408115264L,
+            202430306626358667L,
+            -3981422377472949846L,
+            -5238199414921993152L,
+            -5146232494351946114L,
+            708965035986715903L,
+            -7293381901819652518L,
+            2213380649641933634L,
+            -318369196115724429L,
+            902257810435285899L,
+            -6850191337093063147L,
+            8919186945582312658L,
+            -5349063693356531599L,
+            8822885002413063619L,
+            5180768560389041039L,
+            6329962007196361344L,
+            -3699811417310445810L,
+            -1901534302756678943L,
+            2052967300224321240L,
+            -9080341982661050927L,
+            -9015127960248157993L,
+            6099454564862758540L,
+            1580366298675933018L,
+            -3478705854185836950L,
+            1705222832415987288L,
+            8756209741966762554L,
+            -3989106599934316314L,
+            7279282710266050782L,
+            -8273426553316290291L,
+            304143139944228445L,
+            -1864871450802486364L,
+            -4432921932695047737L,
+            -7426004658393085782L,
+            6670225165119958148L,
+            3915955968218172178L,
+            -2983491901316045325L,
+            1142612438601156553L,
+            -6133184918637009283L,
+            -8833552479452494479L,
+            -3127971778561142843L,
+            -7701647938705730533L,
+            -3779405232528328301L,
+            -3772769540928332361L,
+            -4822224902096367187L,
+            5927610041614412627L,
+            -8115963628454771009L,
+            -5858507756245563329L,
+            4603319499256691890L,
+            6036198233918924988L,
+            -7858119503521885127L,
+            7649631956145808424L,
+            6904778965207394836L,
+            -1289278464233715377L,
+            7910292127406493955L,
+            4416827874315392963L,
+            -7745472911057436083L,
+            6030083900420821595L,
+            8568081261933288961L,
+            7900798648613032545L,
+            -7626561813356047964L,
+            -7106771752285769722L,
+            -3770173703492493609L,
+            2357429274506170837L,
+            -2904218346941022904L,
+            -3764724148709298684L,
+            -3674856248774009747L,
+            8939549448485800404L,
+            -3163514470060407804L,
+            217694246690007385L,
+            -7604396182076462054L,
+            -7546934098979571740L,
+            5040968127038708612L,
+            11925197600109382L,
+            2068415983218899943L,
+            -8349795255891165530L,
+            -8507864331584036497L,
+            -2570055509178494268L,
+            -5640310706488601466L,
+            -4099965213007476540L,
+            7573960375523307196L,
+            -860798623821873026L,
+            -4142773767786224093L,
+            5839340924215934966L,
+            -3223528868297474782L,
+            2144601552177071381L,
+            1687466458932445942L,
+            -4150664893905095802L,
+            2115049402527045423L,
+            -5802320897942737751L,
+            333902260086590426L,
+            990010788305525163L,
+            -5077209460141599703L,
+            -1272431978360537962L,
+            -6489781191270741440L,
+            -6138656570163250188L,
+            2466658515805927455L,
+            -2833421180625148144L,
+            7438542682781775425L,
+            -1763416424252876575L,
+            -6272623959874031570L,
+            -5426685632328400923L,
+            -8898122968041843899L,
+            7240668481185814427L,
+            -8150838114287136232L,
+            8862587707692215701L,
+            5765166386843385269L,
+            -8124831298955335528L,
+            -1860980499839564313L,
+            4384699588760574486L,
+            6726049033117965561L,
+            3791088425242306007L,
+            2842084946102500794L,
+            6216474393613478978L,
+            510918607413773608L,
+            8458287063002350176L,
+            -4459314622438123398L,
+            -3814230019213456415L,
+            -3447583468360672156L,
+            7243823139295476767L,
+            -696932258210841182L,
+            4394352662666634405L,
+            5170439206942869096L,
+            -4592502396463046580L,
+            -1351374060896953528L,
+            7399320038890399111L,
+            -8009347909086630731L,
+            -8430962913799927676L,
+            -44384004637062890L,
+            1493734038134075248L,
+            1194236198520572188L,
+            1405159009505184717L,
+            5527581428314949449L,
+            1246013190642263532L,
+            9083467150568695175L,
+            5475104539580403372L,
+            -7552777379901129540L,
+            1032119956954585655L,
+            -841042958403865870L,
+            -4364162969336430646L,
+            -3675420995819751737L,
+            252824787683278292L,
+            -5342862572988658108L,
+            -6634227917314439827L,
+            -3361806293981070680L,
+            -5379766853754337727L,
+            -6662481126123954910L,
+            -9174259399070184367L,
+            -4313553463933547296L,
+            -4213573882601504675L,
+            -3716201076506473076L,
+            4120022454965623242L,
+            6623273625087203401L,
+            -9038931653936375556L,
+            -7518965304575265972L,
+            -3333350324656105999L,
+            -5994229981644166725L,
+            -4160442884211804128L,
+            -6896317175764745467L,
+            2736100888427627279L,
+            8800170599393216012L,
+            1295005815218434462L,
+            5139382336378771204L,
+            -2159720782068932905L,
+            9081573993380544494L,
+            636602816565441112L,
+            -6887618719414854399L,
+            -368314848895723415L,
+            -6209470503772707668L,
+            7981255347500399802L,
+            -4063560107614793140L,
+            -6774237475707209570L,
+            8747661327442028329L,
+            -6243205299538318055L,
+            -6863739448575053582L,
+            2502234961669622336L,
+            7799830678308687904L,
+            -5295070974841614947L,
+            7812716271554955614L,
+            -2642241462556579084L,
+            -4800221765570377376L,
+            -1473476089849492520L,
+            -7350704615924294602L,
+            -3600208261171562279L,
+            -4591333886505710210L,
+            -2223590439306956810L,
+            2092536960391569766L,
+            -4483384755835640778L,
+            -7612414014828963618L,
+            6685930043784110394L,
+            -8509485772368180266L,
+            -7061528988141630766L,
+            -1821397309983229106L,
+            8732040970933681363L,
+            5622175348818230886L,
+            8000723799487634251L,
+            -1618620906829794202L,
+            2098153546707512597L,
+            -1957202151257355516L,
+            4954034423031658523L,
+            3834529621338476913L,
+            7683223282491875178L,
+            2375014934805238481L,
+            -6635487495757661988L,
+            -1814242178609884173L,
+            -8713223215659061278L,
+            2678224520397816920L,
+            7986975909618572986L,
+            3995105641083041881L,
+            2736667390590356396L,
+            3296331925094349643L,
+            -6933207516328066876L,
+            -7592451233220876922L,
+            -2650464706188702073L,
+            6686060724637503302L,
+            -1923479569316613083L,
+            8534656671816652403L,
+            -6040503221954801581L,
+            4435651388049440498L,
+            -1146728235813817458L,
+            -8068442061035838642L,
+            5290826954033531757L,
+            6801756684043284116L,
+            -8793558703989114853L,
+            -3579651224079768019L,
+            -8731363664317288353L,
+            -8198679448349888455L,
+            4521098893189124980L,
+            1233822755383097619L,
+            -3376902820380299812L,
+            4245937466997643151L,
+            -1763698226530318201L,
+            -6047973900455903602L,
+            6872466954599544924L,
+            -2897913330965066753L,
+            -3747567451776537948L,
+            999178017823769185L,
+            -3448882253751925242L,
+            -4186187806897954949L,
+            4135220760389871945L,
+            -744655952561165083L,
+            -7562803848106088762L,
+            6327898584841787757L,
+            1104140377224817579L,
+            -5028601059333377390L,
+            -7492935604997071128L,
+            -6081153960568442040L,
+            -1169391610238817238L,
+            3621413360110287736L,
+            -5593832525682875108L,
+            -566152069697914853L,
+            -6867880047420919283L,
+            -2081884958283357785L,
+            -6598018256901633311L,
+            8809133145211576758L,
+            816505272097277483L,
+            -5382823584091801420L,
+            8004905464574683881L,
+            4450105288012084600L,
+            3870906206528756240L,
+            674269289207244865L,
+            6270353012325617419L,
+            3163321409192023150L,
+            -5302547682113026414L,
+            -6938764630483355229L,
+            -7358025177738398549L,
+            -6785499423458326064L,
+            -7269506057515465397L,
+            -4547403516375979444L,
+            8011256360086237621L,
+            8993245200827592243L,
+            907210246848321550L,
+            -547208529625326321L,
+            -5657896162037417485L,
+            -6090390534680736547L,
+            7460609633572182866L,
+            -7079242476066094273L,
+            3761063482806309383L,
+            -352782764264193726L,
+            3449804624902702418L,
+            -4196025580961699120L,
+            798511703016420084L,
+            -5205540831067412291L,
+            -5855264338957198044L,
+            -7339284341345452285L,
+            512733209806391765L,
+            4688239971773762686L,
+            -5274525535098540306L,
+            229000275997741090L,
+            8519359669485436694L,
+            4105312383274431525L,
+            3021688103425900128L,
+            7994509866444441555L,
+            5901259386291036466L,
+            -3158598283731351015L,
+            -4279891892971024902L,
+            2158499164016740844L,
+            -8547634025792364456L,
+            -1104845932358119815L,
+            7948741069690718997L,
+            8459351946474851396L,
+            4099847471238539327L,
+            3373702508959312081L,
+            -272417999724451422L,
+            -5359107350587458882L,
+            7120452800824521018L,
+            -210134593914012589L,
+            4105463782289875104L,
+            2632773607704999309L,
+            8083868545255902210L,
+            -1852756455046451432L,
+            -6475516181470531308L,
+            -5861473795837150820L,
+            -1635415497232769545L,
+            6409505618743630295L,
+            -875724905465903353L,
+            -1108613692869023160L,
+            280266189975526765L,
+            5220587891752256669L,
+            8508592852687329377L,
+            6985324344403287226L,
+            5985609716688735323L,
+            290020445353530571L,
+            6351764294300573680L,
+            980120815876304607L,
+            8888510538350105390L,
+            7581478019131332821L,
+            1916101805198438835L,
+            -4493846390785243921L,
+            7808972465126981376L,
+            1955153549491737767L,
+            -1406784042204776463L,
+            7375915871192961696L,
+            -6367320714399889262L,
+            -354301074402199036L,
+            2239908013368218759L,
+            3950484803862839474L,
+            4105989322234868498L,
+            2621054334898219791L,
+            -5869982580895074225L,
+            -4319172794809352831L,
+            3547511333880964435L,
+            1444742995791171732L,
+            -3071151178306802884L,
+            7141945214146203224L,
+            -7830620198981492892L,
+            -2728105278001064356L,
+            5314740029646821457L,
+            6623261118671082550L,
+            -7196321135299452674L,
+            8052114190574564419L,
+            6983219869516590463L,
+            4160382979448622632L,
+            -4987426250507175445L,
+            -1640894650913878353L,
+            -8804506555027681681L,
+            -2482891030558777490L,
+            -6199431911023259246L,
+            -3088093530819790083L,
+            -430958421573059122L,
+            2977325829579884585L,
+            3293604700059727644L,
+            -8130794893640923379L,
+            -3695496830788829324L,
+            2842667470252760895L,
+            2705449159018571745L,
+            3110827167004264628L,
+            5921458452999675225L,
+            9153770297101708961L,
+            -8494710594436244958L,
+            6194261268806685845L,
+            -7983032563458115199L,
+            -7219511462355732378L,
+            -2079779667986204440L,
+            2618569521388399774L,
+            -7017565595412136245L,
+            3047734353157375038L,
+            4653660608930939996L,
+            1738845162697255344L,
+            901905059197924555L,
+            6426446086200973132L,
+            7571116784158236814L,
+            8454740158900080306L,
+            -3187408761828066199L,
+            -6463246361881021420L,
+            -6149190693049187641L,
+            -8751272855710597262L,
+            2791897389888499062L,
+            4325442747583333323L,
+            8277502685627757527L,
+            -4479993727733547949L,
+            3965951167214615605L,
+            7086422634949831972L,
+            3458980990566476249L,
+            7377904454947185822L,
+            7220890724504758130L,
+            7496136365556516499L,
+            -2205274678778610353L,
+            -6607185391391278137L,
+            4182590768727983544L,
+            -4281114680509892901L,
+            -1224972433667316857L,
+            -5348763292952895353L,
+            8014101900764664143L,
+            -7677789610314692476L,
+            3714528696204893915L,
+            8759725292154439811L,
+            -584108286422799303L,
+            1139914306359868512L,
+            909008800229613222L,
+            1151901754053036135L,
+            -2475682082682631130L,
+            -7864820563398284730L,
+            148684825130125398L,
+            2287275056063220225L,
+            8002721451110425433L,
+            -5007578966964956544L,
+            -3163608233654916341L,
+            -3100698289470848598L,
+            3127959533365074353L,
+            -1812012554637333300L,
+            -215722142718978781L,
+            -5769071062427935568L,
+            1157074281823609770L,
+            -8157068213281795126L,
+            9197958954693189085L,
+            7507262498300334279L,
+            -6466609779883262362L,
+            -3291107971383336205L,
+            2836391684272169597L,
+            650048898293258940L,
+            -6082133406575007750L,
+            7434965648464911079L,
+            1495843186913786360L,
+            4040102712041477132L,
+            -6387286775168932886L,
+            -5402043928177520933L,
+            -8434603915303675794L,
+            -4244062204031490108L,
+            5108692858504790839L,
+            -2763829831842864846L,
+            5717835204460970188L,
+            -4138153606340744952L,
+            -4758847314924571617L,
+            1849561401549184821L,
+            7124062008221253862L,
+            8688720895700812672L,
+            -6673407837235573045L,
+            1253105294820259715L,
+            1319061649154586333L,
+            8850797566679680025L,
+            -5857414576103400469L,
+            -6720000545454338244L,
+            -6820569454573908148L,
+            -118893331952905263L,
+            -7865059962070758008L,
+            -5713386117552925548L,
+            -4083298395801828555L,
+            -4436698922279610509L,
+            6792639847963302036L,
+            1892970985537181040L,
+            -6447405242218813765L,
+            -7937393533411994446L,
+            5059114147022812141L,
+            -8575322862724794838L,
+            -5218161881244064015L,
+            -1977705932991719994L,
+            6892122609805250256L,
+            320532506917888917L,
+            -8868180638563938556L,
+            -3024781117749801589L,
+            -6337769042024370542L,
+            3356438087313518512L,
+            -3967828841878001317L,
+            -5101704775829166224L,
+            -6473834176458158192L,
+            5250700405234292841L,
+            -2990028642111670411L,
+            7999283814273311898L,
+            4375431616723641274L,
+            7533439227625080808L,
+            1532694494493633181L,
+            227907287401462946L,
+            3176147678193764537L,
+            695902226767817044L,
+            -8081719904787656943L,
+            4046033348349438730L,
+            -4963717917528555842L,
+            8840143679813889244L,
+            -6698784703008476381L,
+            -5458745854953012791L,
+            -7248516957431373460L,
+            -7322452499900727156L,
+            -3229042120887601652L,
+            -3714216759456564610L,
+            -8782433167587589080L,
+            3298091914805701937L,
+            -2231344868672880903L,
+            3914989758718368006L,
+            -526180045838414230L,
+            -8566663995486329568L,
+            766402451440207339L,
+            -6619243256180943147L,
+            8789219675236687597L,
+            -1953576536988594569L,
+            3868164189814261734L,
+            3468735062047138265L,
+            -385203699294219505L,
+            -7516094416143952842L,
+            2637712121292128439L,
+            3965502586074647409L,
+            4853142453967828002L,
+            -2964513140848666574L,
+            1674267584411541545L,
+            773907163437197268L,
+            -1702722999935022773L,
+            -7522572665524853143L,
+            9118649177991404568L,
+            2868652899347426272L,
+            3173499480692646490L,
+            1558683049378124022L,
+            -5005052183635841352L,
+            7300874691395943401L,
+            -3100943744466215962L,
+            -5581015108647823652L,
+            4300271717230509837L,
+            6547743646034797741L,
+            -5953941140398178818L,
+            2454821177739363927L,
+            -2620372992968363957L,
+            3458442250091393961L,
+            4834552895043931889L,
+            4617280195789833552L,
+            6665157621585717655L,
+            -5791730190720374318L,
+            3475238554571002488L,
+            8371153283463061985L,
+            3204139088020636089L,
+            4480048534372469512L,
+            3753761652400221619L,
+            5816311095178832997L,
+            8340469460164166514L,
+            -3469539065318895857L,
+            -5139537094783523068L,
+            -3302916106599502003L,
+            6948897508514209585L,
+            1757614655070150827L,
+            -7792879460783766701L,
+            6765141450333917369L,
+            6508945554808066869L,
+            8767478146692200620L,
+            -7069461793346506272L,
+            9028149099038798307L,
+            -6515748774421251976L,
+            6817795612324407259L,
+            -1463269501707631104L,
+            -5714376837029724302L,
+            2526402158452996284L,
+            -4147344010814065178L,
+            -6739058260973888412L,
+            -2829871980176336748L,
+            -5205097156486983288L,
+            -3116063317184545595L,
+            -619746129270740535L,
+            2219617043189773282L,
+            426401259933639925L,
+            -7172875740369506764L,
+            1694411304219353226L,
+            -938690973264273215L,
+            -6266115524847490734L,
+            1774257251954458517L,
+            7557365410438896075L,
+            2845361761434653043L,
+            -2310847409064372023L,
+            -8771412475452886878L,
+            -660440891903780950L,
+            -8403775135325124298L,
+            9090999536783861624L,
+            5468754414679828467L,
+            -1229794948797664667L,
+            -614031220486222607L,
+            2799374673437569952L,
+            2451275349717217677L,
+            -7745362470851365497L,
+            -5177701905675594730L,
+            6113487506045892699L,
+            5486607144596966938L,
+            5447654045184012750L,
+            -1765319757868885567L,
+            -3539493770007083479L,
+            -8435401404135813765L,
+            -5354996160872591141L,
+            -948019995241865437L,
+            -6383879523927539951L,
+            -6205496601521221622L,
+            6464206070606682149L,
+            -3119132579789916249L,
+            1181385901825304622L,
+            -3951837765546924149L,
+            3760064778232901274L,
+            -5803677073156171200L,
+            -3927150733866054264L,
+            6114505984346099133L,
+            -1204037333688024393L,
+            -4269617601733352196L,
+            -2050784278779673696L,
+            -1872671822252866778L,
+            -2701807228856033597L,
+            4461437791185737523L,
+            -8682596245220637845L,
+            5167004848738950780L,
+            901165187537497969L,
+            -3797437632675122665L,
+            -5466953567004380945L,
+            -4811557311791679623L,
+            -8977393680059946946L,
+            3973616438479018954L,
+            -845848787005936765L,
+            3931080543068834913L,
+            2494568815621767741L,
+            724499645203542182L,
+            -5473927270980290818L,
+            -2927649103184694944L,
+            4702404266341370786L,
+            3970560404698379088L,
+            960976331983007942L,
+            2083780231584108705L,
+            -5744424372819733193L,
+            -7645873118813011850L,
+            -4508782381154804644L,
+            -2909230719262854260L,
+            -3934226142245172389L,
+            -8726254763389868005L,
+            -1363190347998917742L,
+            -5720295149138940178L,
+            3684767935363792805L,
+            -2603023116612237852L,
+            -5787144155569951314L,
+            -1224001755203671966L,
+            4464600085953839670L,
+            3635092213232401942L,
+            2560550351248293826L,
+            149002253322649678L,
+            4736579686515508742L,
+            -1725705401055944828L,
+            6198859439920877763L,
+            -4115816799555055139L,
+            1460730386945675369L,
+            7469665976023872945L,
+            3396798363857893675L,
+            5998095352821948571L,
+            -1045475968373804220L,
+            7762726533574602868L,
+            -2180072914914665552L,
+            2904179444208806209L,
+            6589059700741908377L,
+            2892514533434987930L,
+            -4731774347224843289L,
+            -3064614576848491482L,
+            2771901711081959888L,
+            -5025834106282527583L,
+            9065448291763161620L,
+            -1063504694602700851L,
+            -2684646719358206658L,
+            1508463688641756519L,
+            -3344428326300151297L,
+            -3002246937708397937L,
+            7747062507874050780L,
+            1254642060250220437L,
+            8609548334941598950L,
+            -2990281129609619305L,
+            -8813332523366951859L,
+            -6014074765167803028L,
+            7497225106515411309L,
+            -2130895747881870391L,
+            -5351172615125365482L,
+            -8410226104891614276L,
+            -7168202839019996483L,
+            -7009373687555669575L,
+            -4631094565085777436L,
+            1108321041427164008L,
+            8933599903503056630L,
+            6437277069187196289L,
+            6960042203628988822L,
+            5740561483183277596L,
+            7433669799717911522L,
+            -6525862711373223295L,
+            7395627049481442873L,
+            -4675940367032394900L,
+            -684158125487188698L,
+            4490058609597447045L,
+            -5004008691135782764L,
+            658195213173635136L,
+            -7880813841584391664L,
+            -5897798875005957647L,
+            -8907568155441989121L,
+            -4741775056086096970L,
+            8546276287061518834L,
+            1432773009896323078L,
+            6048746912152612022L,
+            -6230003993538497002L,
+            -1696705885609864164L,
+            1794811636081274283L,
+            -2367484858051700942L,
+            -5855581516555309396L,
+            -5857778639712030130L,
+            -1720087807507774164L,
+            5171205320383950179L,
+            -7214075189942643148L,
+            -2531233595559908043L,
+            -3038809739039856312L,
+            7500546959381404589L,
+            -4659752090607150698L,
+            -2935690715292571273L,
+            4861195545186225173L,
+            -7042641791182094528L,
+            5511174534071215578L,
+            3008899618173440073L,
+            -3584112774589687978L,
+            -4708452063027870852L,
+            713390196103125354L,
+            -1392308046941868516L,
+            748111537179055795L,
+            -6528876084494279561L,
+            -243824102644672480L,
+            2482822620585974580L,
+            -6746253170471225719L,
+            -6372998533855272790L,
+            -9163475077637814269L,
+            3615300938134507100L,
+            -1461099224017938454L,
+            -2963751476482286623L,
+            -4955156093933025545L,
+            -1665797517591693230L,
+            -3631007926665295011L,
+            -3202389711293461602L,
+            -6765898333199915079L,
+            7553409739723541755L,
+            5087184433909335497L,
+            -4805259713641208775L,
+            -8510204695623171654L,
+            4820660011925573969L,
+            2947021942542143423L,
+            4836151770974487528L,
+            5873924798571490491L,
+            5128921668573707423L,
+            5384079118758125544L,
+            7315470753185342141L,
+            6840594644726529188L,
+            6970161785739214579L,
+            -4587347826706872908L,
+            1904073941015349001L,
+            3623089935040221308L,
+            -9155570399761651651L,
+            -5764439840377832168L,
+            -2734688089607095766L,
+            -1243275404758624838L,
+            6417290519939889226L,
+            -6507207227369074456L,
+            6198298671780361060L,
+            5501714780820060913L,
+            2736814772561140835L,
+            -6213589605454618157L,
+            1610223281569107399L,
+            6558771530195947567L,
+            1274612185785154823L,
+            -7891551616921770501L,
+            6764904871467522508L,
+            -3814000742700775383L,
+            7479336269365467262L,
+            2213484779645304362L,
+            -3703740985450581187L,
+            -4999825833210495186L,
+            6984032013000529411L,
+            -1049450996860757172L,
+            140855014687535183L,
+            -8360310676966382650L,
+            -3824032844999879527L,
+            375947192828773572L,
+            -2269738637310527394L,
+            -5327647438749508607L,
+            9117951453424601700L,
+            -2348754278821762261L,
+            -6115214918779699147L,
+            -513800839583023225L,
+            8720108176590995948L,
+            -2136224304710140801L,
+            712926294843494588L,
+            631013504834514064L,
+            8422606627455677092L,
+            5424865797820922455L,
+            1039699130538664949L,
+            5219961424197826347L,
+            8061946114004156398L,
+            -3253077384954193036L,
+            2118964565281910812L,
+            1937731570101815956L,
+            9200773207412568549L,
+            6432183478195847241L,
+            5647373175198843494L,
+            8146714200631280361L,
+            -2680996376321597291L,
+            7848841560995219825L,
+            -3657340463292350092L,
+            -7173561990764766816L,
+            7791656297894241179L,
+            2732217723069112610L,
+            -7548028733833224647L,
+            -6611712084180551542L,
+            -249317993576721964L,
+            3216523016347676756L,
+            -984511327786078434L,
+            -1325186737946972300L,
+            -2951083955663328180L,
+            3019600675751225848L,
+            1794143072782688127L,
+            1910851883213816328L,
+            4846557104954489192L,
+            1132485115944859854L,
+            3617810372936299017L,
+            -6787019581662846226L,
+            -5811426389373031643L,
+            4148074031140352906L,
+            -6452233386858173924L,
+            8159346874315427609L,
+            -4180081579216795895L,
+            -260971930405287192L,
+            -4329664149419834091L,
+            -8425189805234777634L,
+            -2020041611098747351L,
+            -3442711937263755900L,
+            -9107187400320830478L,
+            7748396583497697780L,
+            -6961167126372080994L,
+            -3114070694355922231L,
+            7774159842074458551L,
+            -5828692205642014643L,
+    };
+
+    private static final long[] HASHES_64_OF_LOOPING_BYTES_WITH_SEED_42 = {
+            -5300682499624656159L,
+            -1254486048809785983L,
+            5646367602908707302L,
+            -8641279276071190508L,
+            7818055950812498250L,
+            6595402869556753856L,
+            4148178479830443606L,
+            -5466504583983148305L,
+            2569758080175473670L,
+            8015095532303914747L,
+            1818149327141874485L,
+            -4208303158656026294L,
+            -6804290595031732400L,
+            -2977684256183293497L,
+            -1026453170133337582L,
+            -2300509197992584497L,
+            -7652190120018338560L,
+            -551743792423277127L,
+            909281554091120475L,
+            -22172793166450464L,
+            2680049711904637226L,
+            7284922641459627041L,
+            -2708397145095256212L,
+            -9217842812446384292L,
+            1074212908095979053L,
+            -3569268660465178995L,
+            2606367094941666107L,
+            5008460666503040022L,
+            -4497415834798477484L,
+            -6783628069705202132L,
+            -6605023054822083619L,
+            -5151052594745213744L,
+            8688372996814632308L,
+            -7960892760358611244L,
+            -4514684917792607844L,
+            -579390628189830685L,
+            6537833104469745368L,
+            -5258419660490571348L,
+            5779383661780445294L,
+            -9195837754268119663L,
+            -7117826871605285830L,
+            2136745335377615313L,
+            5290668892284688991L,
+            -8441017599926609874L,
+            3368960905745064360L,
+            1959892440247102897L,
+            4243811444426968982L,
+            -3889268215462938138L,
+            3605140937585462125L,
+            -5961796975820728588L,
+            2946434318629548262L,
+            -840362520431274047L,
+            2857364137006919813L,
+            204000959541070449L,
+            -8492120986159908504L,
+            469024837293192367L,
+            3410488251708903863L,
+            -524008224412565380L,
+            -4499673126076125511L,
+            4156263418063734868L,
+            -4145139573700489104L,
+            -2738826929862251004L,
+            3328876922171633455L,
+            -8771449739498942600L,
+            -2077610622805327466L,
+            3278757803320294877L,
+            5544001322843203220L,
+            6662042696023250010L,
+            777301889851960413L,
+            -6381984056237004166L,
+            3302269633613640692L,
+            -7423824920673714265L,
+            -6590584290305790583L,
+            -7803567288734585123L,
+            -3433578268393814845L,
+            5372585776400490906L,
+            5407516518867221809L,
+            2959737112903426930L,
+            4751684728894755561L,
+            -8703708282294371638L,
+            -44027970864711912L,
+            -2289806026388281051L,
+            -7578717358588047496L,
+            -5716194245529101415L,
+            8733322715221850289L,
+            6281904437148906925L,
+            -5315952456096116477L,
+            -3706586745306931082L,
+            -4736060015675264394L,
+            3427730711245147596L,
+            609832750989140485L,
+            -8757208873803661849L,
+            6221288107258416326L,
+            2067680380003604942L,
+            -6749155683899850088L,
+            2523485761922059127L,
+            3176710971706474785L,
+            -3230568579075508269L,
+            5770753719258381570L,
+            -5196461438025167659L,
+            -3468473416489230064L,
+            -4930942385200726784L,
+            -844592183514851133L,
+            -1950638966686736180L,
+            5708851877292885872L,
+            -1764873739102975234L,
+            -2756164138205124723L,
+            6986095019283148021L,
+            -5696230212576049822L,
+            4048915860732217208L,
+            6947810712913317503L,
+            2453089667850400023L,
+            -7162938978687814399L,
+            4066800562108622048L,
+            3083645267604176430L,
+            -3759799232161835278L,
+            1020928541581639290L,
+            -8585193684705865559L,
+            7491722718196995746L,
+            -4757780785924407201L,
+            -2339357759337425874L,
+            4566352785726131306L,
+            -1142253735471545613L,
+            6028729635419919220L,
+            2123437054664419176L,
+            -3007513264439879684L,
+            5549816220180685897L,
+            8839702768516773997L,
+            -1811795382307109219L,
+            -571229408975450450L,
+            -8547409078935836573L,
+            -3104513891407815947L,
+            -4384353548814117434L,
+            -6915119763412918528L,
+            -8035174710630521261L,
+            -3303427302105337296L,
+            5914312287329846350L,
+            503066852946085115L,
+            3127009457510299298L,
+            -1529554652504126655L,
+            3161790236508470398L,
+            -6480220263025909710L,
+            3609823987861073211L,
+            -3699280238863308580L,
+            -1096460584822602692L,
+            7366595095192358318L,
+            -8684692003375211598L,
+            6400683527612515346L,
+            -6612570515203339432L,
+            9154865133234105156L,
+            197790704534328577L,
+            525390883539196778L,
+            -7309751412495745879L,
+            -7199212168441305039L,
+            -4254869915898122327L,
+            4798361461140480522L,
+            -107190859681273534L,
+            -4158987784984025377L,
+            3242078625978118220L,
+            -7250480446494897139L,
+            4421711876995966765L,
+            4552352861886434351L,
+            -2260106822886781519L,
+            -3656553141557862456L,
+            8046469283190297206L,
+            -2079552121926276954L,
+            8367702642411851926L,
+            2015658980586427769L,
+            5813236024755897535L,
+            -8728844433416815786L,
+            8156443396169747124L,
+            -414966989716011031L,
+            -3279934073916546458L,
+            -149493051597973749L,
+            2760350544154500008L,
+            -6804072959280747158L,
+            -5774866865556342179L,
+            3850361483916454806L,
+            4174646342713921859L,
+            -8915190639233588540L,
+            3975646256072836535L,
+            -5399326351813579724L,
+            2242134079654812293L,
+            -6168001373937057475L,
+            -682872628156744229L,
+            5570091569465529824L,
+            2611473751158409677L,
+            2990124889007594338L,
+            -2558243427634651872L,
+            -863664922402631526L,
+            5824913167830696673L,
+            3731659074789907935L,
+            7255082114620641144L,
+            -8142198706419176641L,
+            -2283312778939798811L,
+            -8788835995592170315L,
+            4899556959013434589L,
+            -1730598808831467478L,
+            364146339140376130L,
+            -7724131200976216287L,
+            -8656630118361390251L,
+            -4078062407433891197L,
+            -1274702362575090614L,
+            -2947100707344695966L,
+            8802873730296002988L,
+            -1927417588152837397L,
+            1533061791584682901L,
+            -2533596036506591568L,
+            -8393347568499500641L,
+            -8995449002410449812L,
+            4071718726282125274L,
+            -5656037637162611017L,
+            5830669556821411244L,
+            -7523239160474703686L,
+            -3472322045920846299L,
+            -273015607976276559L,
+            6232337430635217884L,
+            1856519450137675538L,
+            -2774141751955702530L,
+            -1853955003626145921L,
+            818282001012741680L,
+            1135259280968971155L,
+            -1533224066927416985L,
+            -6317733004762494056L,
+            393464515458409340L,
+            2608326720284728325L,
+            5469532994024247722L,
+            -816856436325791064L,
+            3241915022117760454L,
+            8017329037942323060L,
+            -4320182016166913088L,
+            8684121871614110114L,
+            -7904191654440221966L,
+            8077372462937012119L,
+            -3965437394805183601L,
+            -5466767889382673769L,
+            6256301928460194155L,
+            -6207821574735805752L,
+            5819817525637745470L,
+            -6267096920937117141L,
+            798663324631864683L,
+            2703619928075181334L,
+            8131394421058507051L,
+            -4966925561352024902L,
+            -6223117530404955379L,
+            -6506996325940615525L,
+            -8824170810119217581L,
+            4187331604134138251L,
+            3694418424426400289L,
+            735880691152830881L,
+            -8770320462983710124L,
+            8289972874667695175L,
+            8027985465415097398L,
+            2684704469053781071L,
+            -5158584198571819912L,
+            -4228716106418308798L,
+            -5241072406564028278L,
+            -2607806044620980943L,
+            7498177370947408533L,
+            7643744011784086765L,
+            -8372376955121397328L,
+            -7647965184327841322L,
+            5499650656100257973L,
+            762582058370316712L,
+            -7046475752467034548L,
+            -3585833854693105102L,
+            -1339736067251318037L,
+            -3731886490621179075L,
+            -198184891600911316L,
+            3256691634950759399L,
+            -1221113834324138656L,
+            4270985978052543386L,
+            -1749728697074612647L,
+            8069408170163903837L,
+            4193351752729591671L,
+            -3324355633003434939L,
+            4856128056770202147L,
+            7905890555139411517L,
+            -7635690493099854846L,
+            -4648306346889250929L,
+            -3520363683946250652L,
+            1743610608879627865L,
+            9131361380117963913L,
+            4178073005575977564L,
+            7646804550967040088L,
+            -2750451003750071850L,
+            -2084429242561278319L,
+            2885274416479603265L,
+            1611545682925232887L,
+            -2777993447358943554L,
+            -7966674013640141612L,
+            6314253925750759443L,
+            8041980127903363161L,
+            7174312486087437459L,
+            5896487834084792863L,
+            8082971265732076230L,
+            7137972485041759293L,
+            2970155173328009303L,
+            -7718675048566355137L,
+            5229683638661750364L,
+            325770619373212132L,
+            5888150081878303918L,
+            3431181695960484279L,
+            -9080913896128151513L,
+            4560063312591716819L,
+            -4983501693946067630L,
+            1699567453861156205L,
+            -2805612820139967604L,
+            2861849977760255849L,
+            -5998649565757372722L,
+            -2861044544514868903L,
+            2765426386000726280L,
+            2992394072089388011L,
+            6177810593096948021L,
+            -3798740612227234992L,
+            1264297113309641298L,
+            157986318573078218L,
+            -6913523995000346454L,
+            -5652604666581002011L,
+            6135774374102709163L,
+            3667894705678944110L,
+            -94337424953614136L,
+            -2158333037550792705L,
+            -2499973785582983956L,
+            -8048643561118307114L,
+            -2210730578787440060L,
+            -4500566487509660749L,
+            7123262301427105831L,
+            2358862014948054893L,
+            6749771629281066545L,
+            6863543168469692270L,
+            -8260265886036012610L,
+            -619674303194528189L,
+            -5678987040444512511L,
+            2943719762827650591L,
+            -598308038981506500L,
+            2409441720260117471L,
+            6006896770007271931L,
+            3019706066486863769L,
+            7191735349993425930L,
+            1218675105975116035L,
+            -3115606308337042165L,
+            -7601848837693401222L,
+            6786116036220818174L,
+            -1220216496286372370L,
+            6540066865489005798L,
+            -6866116231674981549L,
+            4568590441652161802L,
+            5408622224421226797L,
+            -5913392070750577135L,
+            -5478280707681476366L,
+            -3510189964049959104L,
+            7158513649863178073L,
+            -5456037285438881708L,
+            2775396793928108165L,
+            -8493335072923059325L,
+            5003102143588831661L,
+            119763171573599141L,
+            5542459985503535509L,
+            1865840429707230897L,
+            4006392877320222531L,
+            -924527686781188480L,
+            701511590795897670L,
+            4795701464397650980L,
+            -7579789590111077086L,
+            3648768084563170520L,
+            -378527102263585165L,
+            -5718317669102783000L,
+            -8916867866484832317L,
+            -6719861794643655762L,
+            -5314580749520402317L,
+            215575914105767742L,
+            -4280438528412861555L,
+            -80760663751568986L,
+            -815297050409153353L,
+            -4511954737517746976L,
+            -388617345343948850L,
+            -7362126651451736348L,
+            6460279728151741220L,
+            614781687030230365L,
+            -5287844087145002421L,
+            254021266715409091L,
+            -9143220459892347729L,
+            -8623940004457824012L,
+            8356290491811393828L,
+            -7890130767542038030L,
+            3059076472050450328L,
+            -8546739142072048344L,
+            3594375701555450971L,
+            9095974490685682151L,
+            -3027781097530520413L,
+            2628353991536992336L,
+            -568635327047776310L,
+            424443104990363488L,
+            6125202153882648074L,
+            -6565956530318972028L,
+            -6486936257278641172L,
+            -2842529127992242243L,
+            3172564730676059998L,
+            -5734695035015510257L,
+            6607131570704135696L,
+            -9166500200402735118L,
+            7756783931382820447L,
+            -8676668359107869676L,
+            -7036276094623905523L,
+            -6416693663621663524L,
+            -1160704042627675328L,
+            5556854439868097480L,
+            -3825209896462468901L,
+            -3727122938071724092L,
+            -1325718474777392651L,
+            -1729547649523425071L,
+            -1567637421338621414L,
+            -2903500839796685031L,
+            1831831901359328664L,
+            -6214645473694076754L,
+            4020136183881558832L,
+            8317465587335035521L,
+            8842802864288086916L,
+            -5394880296151617447L,
+            -1137513753913710165L,
+            -6132001474064813312L,
+            -4311180280737272489L,
+            -4334528178137669231L,
+            1217680248579715110L,
+            -5474231528154932019L,
+            6546969928742112926L,
+            8382155000871503334L,
+            -1235475767861562442L,
+            -7092534155364837826L,
+            -2541299967629238988L,
+            -8881107090618690679L,
+            -8762835718770536145L,
+            -9210976211816170146L,
+            1415561861335577312L,
+            -7986166462811578842L,
+            3217223508852672417L,
+            -451327124031644505L,
+            3194210593063526322L,
+            -3617011660979236249L,
+            220800556869206642L,
+            3132357488708660346L,
+            6918457762835917295L,
+            6782817578703632874L,
+            -7211339850557882479L,
+            -3033412249531039537L,
+            9096680071715026306L,
+            -7375757509066148060L,
+            4980352684612958054L,
+            7471256627515794724L,
+            9020936217097578820L,
+            -384676842299535777L,
+            1455729433906736477L,
+            52644275363606415L,
+            6622124551529084459L,
+            -2365165517786316686L,
+            -336665902953693256L,
+            -1310411468294567693L,
+            4774261463075340649L,
+            -6135505661165835136L,
+            4014373194773783468L,
+            -6185300663260438331L,
+            -3866015699228431174L,
+            8786813622472339637L,
+            2301516587674527916L,
+            -3537648343376792776L,
+            2064102757391916395L,
+            -6433576361112840657L,
+            -6625681444826782199L,
+            -8608129735996794090L,
+            8316052819954688021L,
+            -1052032395336526604L,
+            -2848117579270202455L,
+            -2626866894753442189L,
+            -6719831686684211886L,
+            -8032713058404035885L,
+            6649983118780861415L,
+            5937702164165025838L,
+            1289692588932699013L,
+            570555968725414141L,
+            -4952041544220679949L,
+            -4957305445371112388L,
+            -8489656978406731263L,
+            -7084766223521404444L,
+            5614156655312004872L,
+            2429234232164524677L,
+            -1959035230907334975L,
+            -361464945393478832L,
+            -2846835469634171367L,
+            -5197181481080125485L,
+            -6839804147228447984L,
+            -8130772319663903756L,
+            4364482597663489499L,
+            8608047305833421998L,
+            -7936253468051140255L,
+            8294508243703117833L,
+            -6076832039332387228L,
+            -7335218345851940161L,
+            -6623576637496766306L,
+            2495069022472915930L,
+            -56383760037890231L,
+            -2060738666917235449L,
+            -8494918095440089352L,
+            2346905038114571700L,
+            5060188152653576675L,
+            1097838229804756514L,
+            8458216374057860816L,
+            -583721686942377304L,
+            7832572023180290862L,
+            -5748936330278626095L,
+            -7258969964939732856L,
+            6466272902038950206L,
+            -5293462390987422155L,
+            -250411441347563427L,
+            8778562419400902817L,
+            8814626171418231919L,
+            6567877881175224271L,
+            -6182590880090903317L,
+            6983219783805437581L,
+            -4858794502967631976L,
+            -1404335624460214169L,
+            7365136979747113685L,
+            3564734784623828732L,
+            -1898087843780594014L,
+            377537072561278221L,
+            9125431720214078734L,
+            5514631480078226968L,
+            6635777999456445678L,
+            4330369266517874710L,
+            8895795773471668848L,
+            -3762278940831638401L,
+            1363809655907167005L,
+            -6790245693011517843L,
+            2483019726794695701L,
+            -4560925841887154103L,
+            -4619931786165124301L,
+            3328561184629148794L,
+            890905995207091575L,
+            7751965035598199609L,
+            8269210790916601326L,
+            7024659647205959319L,
+            5312552294663349888L,
+            -6362088568958452092L,
+            3299924169097825603L,
+            6211380211918374217L,
+            2934903329585503252L,
+            6676030394733822582L,
+            -233410023196551995L,
+            -4227465772811506152L,
+            2063717334693578558L,
+            -7318483764582097293L,
+            -3384351743897090219L,
+            -1426270910604614933L,
+            -5230981548904795024L,
+            -3162480315867201284L,
+            -2561099847879762294L,
+            -1750553152441596528L,
+            7833451921062604848L,
+            -3892127147972697454L,
+            -5379139334459535763L,
+            -2555488826752427617L,
+            4010627803408697223L,
+            -2264197571173450532L,
+            -1783218504738252242L,
+            -384092807371036198L,
+            5645521538772178245L,
+            -5440841430620138596L,
+            -4638091096215922998L,
+            -4856686592715322089L,
+            4207244752090610586L,
+            6246186283542559075L,
+            -5848479443337103733L,
+            -6388243966980104294L,
+            -5986407125505213391L,
+            3033204222507358577L,
+            -4349985747442007798L,
+            8490718329750246054L,
+            2670866594565947850L,
+            -309545980950096884L,
+            -7012512188349041536L,
+            -1738116648666033892L,
+            7158477914747234611L,
+            6475008390810365170L,
+            6522527225111955431L,
+            -6115218230000812400L,
+            -3299356274622816181L,
+            4220469049504498207L,
+            687845626970256532L,
+            -3513127208065323457L,
+            4437902085489905827L,
+            7449409652030812443L,
+            -4681528739718496788L,
+            8631920022514804195L,
+            -7211344659388354777L,
+            2898554123297519005L,
+            3913185278846875868L,
+            -8336481207673477214L,
+            6035108801398801212L,
+            -1475239158861953582L,
+            -5593320056322962175L,
+            4273232156541124791L,
+            631395295954830132L,
+            7207514974894026359L,
+            -3210423943806351986L,
+            -1965495731692164289L,
+            7302382133967454901L,
+            -425098356228472468L,
+            688037072213544824L,
+            5099644321576834108L,
+            7008491041967053587L,
+            -4667110509218144210L,
+            1269166895501661158L,
+            -705730447537575619L,
+            4747684143643620955L,
+            4354998500604156253L,
+            -6323402998279517537L,
+            -5536268178101923553L,
+            -3001878480584110434L,
+            -659951637917384969L,
+            -1289060685015037823L,
+            1028927270814565844L,
+            -4060692726096360141L,
+            -722304494556879906L,
+            8768406728012656059L,
+            2630556700212106065L,
+            -6396534235189992121L,
+            -4583925422147747577L,
+            -5564684396316638170L,
+            -6695568808741767198L,
+            3639198984244048157L,
+            2086814555243521119L,
+            -7197608715206881632L,
+            -698915242917396484L,
+            -3573231535572514212L,
+            -6462922860342040262L,
+            1575230962060020928L,
+            -8412884176140242303L,
+            -7419538262255264203L,
+            -8663630849688559759L,
+            6873189590543352348L,
+            -1150803492385895809L,
+            8581231133650355644L,
+            -9078962708953706105L,
+            2064340104388513132L,
+            1028027107403686722L,
+            -5755234911009183168L,
+            1900408924394726212L,
+            -5821012553652268255L,
+            -9025397849997577667L,
+            7449109789218595077L,
+            -1562264107734541751L,
+            -7471839004304078634L,
+            -2614059755543748760L,
+            -7268276528302311921L,
+            -4921929879211249731L,
+            4754976895785232376L,
+            -6175953828965137321L,
+            -332399859360966445L,
+            2355595585385148399L,
+            5334594243611504785L,
+            3641373513513771076L,
+            1844188703735697620L,
+            -8241387893315454498L,
+            -3176272733395852986L,
+            7552990901777071389L,
+            4136659232318611779L,
+            6144895385107129045L,
+            -3002680168053922225L,
+            3802154384219170777L,
+            8580874385520287340L,
+            2520264786178138729L,
+            -2907951135841641589L,
+            8536475102758010186L,
+            -9093575172598588714L,
+            -1711568214649431211L,
+            5551198815682854652L,
+            -1979003145446877941L,
+            -9034926330390112597L,
+            -2384920972273732273L,
+            -2374756206508699943L,
+            -2641825519373677158L,
+            1549680872679994792L,
+            -2404678822320637357L,
+            -1215457484542099909L,
+            8548879963261596405L,
+            7872202076027637125L,
+            172599066246537514L,
+            878630811998001048L,
+            -2360659038857027423L,
+            1391770534974880012L,
+            2002497710304497871L,
+            7532946641959807821L,
+            4900247849143570402L,
+            3204587253626047206L,
+            3435472673108886737L,
+            -8562324780339406872L,
+            8544092163876498078L,
+            -5587770492562953176L,
+            8064778674803335322L,
+            1852844670480490421L,
+            5416492457075334807L,
+            -7097045014737097203L,
+            6980572707006737342L,
+            -2952992578078606281L,
+            7474091542299351753L,
+            -7461181593324843605L,
+            7149926668633093030L,
+            677435102735579136L,
+            -2484766159058405108L,
+            6788150543590112784L,
+            28465833615346011L,
+            1787259646754807340L,
+            2253778725860921852L,
+            740034593810796110L,
+            -4318315069778376445L,
+            -6914069502787145597L,
+            -6824370326903066114L,
+            -1716919985466638392L,
+            -8983369593905584722L,
+            4205655642036179114L,
+            -5801070012595968553L,
+            4878557638742525318L,
+            4719422035537645580L,
+            1233643327235477814L,
+            8186602316849937378L,
+            -6942463280207594187L,
+            -3218217841041418173L,
+            1478338861831003891L,
+            6419837960530906603L,
+            5168049887116866983L,
+            5813722700447715528L,
+            7288527665210658137L,
+            8286823257233395546L,
+            2428937995398093699L,
+            -2722125466925671987L,
+            -6495974350619060005L,
+            487785155121167069L,
+            7152590626752138491L,
+            4382441888159664716L,
+            -3310283943739815888L,
+            -4469246990546712853L,
+            -2149368905967764922L,
+            -1012161246962710979L,
+            -1659769922260595250L,
+            8828543837860629232L,
+            8686798359151977067L,
+            3634326469533239701L,
+            1986484281709359347L,
+            -8394535021718110758L,
+            5758857776989009678L,
+            -3194175753806570769L,
+            1684301301593079013L,
+            -7891482117893755667L,
+            6687994296131156914L,
+            -1518754169146008546L,
+            -5944985208458680892L,
+            5698828267484685600L,
+            -2551544293620233064L,
+            8547025828049461024L,
+            8812070734748662130L,
+            -7148908778426616290L,
+            -2663854006400040152L,
+            -7278784129049626472L,
+            -4013365707352180603L,
+            -3586120633931351266L,
+            -1118635981324998470L,
+            -6451923234480977670L,
+            650505481560005696L,
+            5844621194394523175L,
+            -1172328333551395647L,
+            -4672937913125865420L,
+            -2296983918189245778L,
+            -2355299437847481221L,
+            -1328744468449884789L,
+            -4506976597682421936L,
+            -1360318566495670129L,
+            -4073467458730989197L,
+            -8570695641962494754L,
+            3595581985596960746L,
+            1673616043447141631L,
+            -4970824073609015270L,
+            6008825524677016859L,
+            5080449835886151209L,
+            7673675603930522801L,
+            -8307589244517454471L,
+            8263242330191866014L,
+            -8057669146446802989L,
+            -1209540148001340607L,
+            -3466144468030214970L,
+            3460895214615920189L,
+            2776321341093440078L,
+            3541582334754873639L,
+            -4353420332051320407L,
+            -4385705988302409020L,
+            -4127361193507258316L,
+            5512378907337666966L,
+            -8656919351888921316L,
+            495466313278438774L,
+            7910973547800398786L,
+            -72289074545459085L,
+            -8753229039545680917L,
+            -7658755187120544974L,
+            -2568234049446529458L,
+            3850209462471184475L,
+            1268517925802473987L,
+            3327219889546455351L,
+            -1411789234836485192L,
+            -5669678648055811237L,
+            -4271501286098706551L,
+            -688352227815223842L,
+            3772540111462056334L,
+            784549107135445060L,
+            -4093862097816773440L,
+            -5948077412869830690L,
+            -1217398845405293520L,
+            3796089166928640893L,
+            -1979291509192355216L,
+            -4576565341308865370L,
+            -192130687232864726L,
+            8992258596015706364L,
+            1146110407384087905L,
+            -6771740120861896413L,
+            802629850653770860L,
+            6198175527623201472L,
+            1230102404595212843L,
+            -4740915317233519081L,
+            2421118321764996885L,
+            8897117911592601569L,
+            6189953326293188279L,
+            3303477782725402964L,
+            1560864638346173633L,
+            -6919921633012935996L,
+            -2612868991763532327L,
+            -1844691154791795766L,
+            6466006348365900166L,
+            1823044790225777954L,
+            -5857009622608603019L,
+            -766991071756160090L,
+            -2358214264695603844L,
+            -7227541905109743223L,
+            699638949839728112L,
+            5434606729956632903L,
+            6889533537397666322L,
+            6137997629242251909L,
+            -1328311771827270090L,
+            -4865674353602001709L,
+            6135958608791591201L,
+            -8131330034031242165L,
+            4972434342217155998L,
+            -5289217914237349706L,
+            699761796902038944L,
+            5639282799866872184L,
+            -6563475590550793927L,
+            2105362563154838781L,
+            -6994183536902291433L,
+            8428394607180811806L,
+            6079323540881888726L,
+            -733546146784739599L,
+            -4340515909778314337L,
+            581927820213085871L,
+            9202641535520444500L,
+            -2028010543230938857L,
+            5547429794754543408L,
+            1145257895954544302L,
+            -1611194643040042158L,
+            50184241745014461L,
+            8955226598653713828L,
+            -4859646095121863888L,
+            1960838778840354173L,
+            -346985974321679851L,
+            -7230810747324249382L,
+            6370366293018781363L,
+            -2360659925362755617L,
+            -5946322226672203842L,
+            -1439730473075388259L,
+            -543085947679165426L,
+            -8810945268969907265L,
+            -6032069538344548393L,
+            -9188359211084932650L,
+            -7795660603356237993L,
+            7772617996266070556L,
+            4871390456109137564L,
+            1979658716322803021L,
+            5478092639285607898L,
+            -3335293048026868813L,
+            6746209017459017490L,
+            2777654025535329183L,
+            -3151178538997994890L,
+            1819317577849439518L,
+            1858508555399020828L,
+            8837301947953894487L,
+            -5809838293173610767L,
+            171570372692462994L,
+            3247798300137656074L,
+            -2645548557425213452L,
+            6914808411657750213L,
+            -3973682590951797692L,
+            8614691604665997485L,
+            -6440362585774164918L,
+            -7744571101445753658L,
+            -4034497567342180699L,
+            -6656016264455563796L,
+            -2208636308393962133L,
+            -775427674302880799L,
+            6536973757301850516L,
+            1476671219670156448L,
+            2895607564359972156L,
+            -4886130266769626518L,
+            1572553485326564764L,
+            6688092650850022387L,
+            8111732553727932833L,
+            1092837946724416748L,
+            -4037531159339023992L,
+            -6071451067301400764L,
+            2013230237815702822L,
+            3827831294678380981L,
+            7861582027971339447L,
+            2607829057802390591L,
+            4562156432347588707L,
+            -5120851495646004093L,
+            1788639485819616524L,
+            1305562665776862262L,
+            -2089275519985353218L,
+            -1945837351350084780L,
+            7317126085383686594L,
+            2159972355347385841L,
+            -8550537724003801735L,
+            8407554032315736361L,
+            -856084621789104944L,
+            -2572983492625109295L,
+            7092881172908157952L,
+            2488255128187054167L,
+            -2951773926542730823L,
+            2535915445390015223L,
+            3433590471964580405L,
+            -1255439228268160829L,
+            -1327463916704061002L,
+            5821512151892723710L,
+            -4117425664202403210L,
+            -7678040829769857393L,
+            6056771564291788907L,
+            3855485807589990709L,
+            2112062252649520276L,
+            1142883294050584443L,
+            8358302557434583911L,
+            -6461427013768847545L,
+            -1984295132225205415L,
+            -888155446665872617L,
+            6326506457116218245L,
+            -2325274218457493040L,
+            5565319744238901013L,
+            -2325444264326495314L,
+            -7983358647068247663L,
+            8425541944621514711L,
+            1123639754788322264L,
+            5403007554709934093L,
+            412033519856541847L,
+            6607627409937485838L,
+            -7779233928643708771L,
+            5195716584606149197L,
+            -5027111513091903450L,
+            5912319980052096955L,
+            -4091797629826470362L,
+            -6561643539927253927L,
+            7584335255593283900L,
+            -3832065633800069123L,
+            1628737230865330285L,
+            3496083744853743804L,
+            -1028516261356767510L,
+            2737523108745916659L,
+            7423988580789469888L,
+            -3568480145650336698L,
+            7151440446644159597L,
+            -2604592960246299865L,
+            5861755564347379326L,
+            188382306604975859L,
+            -5758216829584751759L,
+            -6293071644925589910L,
+            6704589061737478098L,
+            3322237407022724726L,
+            6932718168521968069L,
+            4959087178135473327L,
+            6919332839746431263L,
+            6053691148826285955L,
+            3113799416599494444L,
+            7758396571713580987L,
+            -6524170059178664312L,
+            5002815646616152631L,
+            -274977280758247636L,
+            -8325103693767932719L,
+            808577441533069872L,
+            6204488849687945048L,
+            -2781415464825312092L,
+            8805008516829385127L,
+            -1936605409694546042L,
+            -316485908904141677L,
+            7403782706166620071L,
+            -7983578557971306955L,
+            -8984551040106416011L,
+            -4823910529382074837L,
+            5995096944973890157L,
+            -5195265252265114534L,
+            2161010838654988918L,
+            -6854926130700600357L,
+            -6056692273127732865L,
+            -1357811752256986665L,
+            -3034040335878590283L,
+            -5609786327826589800L,
+            -8174487642171047782L,
+            8164092711349561644L,
+            3182920286861599730L,
+            1529850203931779763L,
+            -26498666522836884L,
+            9078931805219725856L,
+            4082025251231218662L,
+            -3427352277013975191L,
+            -5798516711410568249L,
+            5193519430822182392L,
+            -8146491564295773641L,
+            480043826097798745L,
+            -2598884662274788188L,
+            -2057365421761759195L,
+            5968525666373888247L,
+            -5659540674436092691L,
+            -622673631380293942L,
+    };
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class StreamingHasherTest {
+
+    // a few blocks of the block-based algorithms, plus odd tails
+    private static final int MAX_LEN = 2 * 1024 + 300;
+    private static final int[] CHUNK_SIZES = {1, 3, 8, 31, 64, 100, 255, 256, 257, 1000};
+
+    @Test
+    public void testXxHash() {
+        test(StreamingHasher.xx(), LongHashFunction.xx());
+        test(StreamingHasher.xx(42L), LongHashFunction.xx(42L));
+    }
+
+    @Test
+    public void testKomiHash() {
+        test(StreamingHasher.komi(), LongHashFunction.komi());
+        test(StreamingHasher.komi(42L), LongHashFunction.komi(42L));
+    }
+
+    @Test
+    public void testMetroHash() {
+        test(StreamingHasher.metro(), LongHashFunction.metro());
+        test(StreamingHasher.metro(42L), LongHashFunction.metro(42L));
+    }
+
+    @Test
+    public void testMurmur3() {
+        test(StreamingHasher.murmur_3(), LongTupleHashFunction.murmur_3());
+        test(StreamingHasher.murmur_3(42L), LongTupleHashFunction.murmur_3(42L));
+        test(StreamingHasher.murmur_3(), LongHashFunction.murmur_3());
+        test(StreamingHasher.murmur_3(42L), LongHashFunction.murmur_3(42L));
+    }
+
+    @Test
+    public void testXXH3() {
+        test(StreamingHasher.xx3(), LongHashFunction.xx3());
+        test(StreamingHasher.xx3(42L), LongHashFunction.xx3(42L));
+    }
+
+    @Test
+    public void testXXH128() {
+        test(StreamingHasher.xx128(), LongTupleHashFunction.xx128());
+        test(StreamingHasher.xx128(42L), LongTupleHashFunction.xx128(42L));
+        test(StreamingHasher.xx128(), LongHashFunction.xx128low());
+        test(StreamingHasher.xx128(42L), LongHashFunction.xx128low(42L));
+    }
+
+    @Test
+    public void testInputStreamAndChannel() throws IOException {
+        testIo(StreamingHasher.xx3(), LongHashFunction.xx3());
+        testIo(StreamingHasher.xx3(42L), LongHashFunction.xx3(42L));
+        testIo(StreamingHasher.xx(), LongHashFunction.xx());
+        testIo(StreamingHasher.xx(42L), LongHashFunction.xx(42L));
+        testIo(StreamingHasher.komi(), LongHashFunction.komi());
+    }
+
+    private static void testIo(StreamingHasher h, LongHashFunction f) throws IOException {
+        // larger than the I/O buffer, and not a multiple of it
+        final byte[] data = new byte[StreamingHasher.IO_BUFFER_SIZE * 3 + 12345];
+        new Random(1).nextBytes(data);
+        final long eh = f.hashBytes(data);
+        assertEquals("input stream", eh, h.hash(new ByteArrayInputStream(data)));
+        assertEquals("channel", eh, h.hash(Channels.newChannel(new ByteArrayInputStream(data))));
+        assertEquals("trickling input stream", eh, h.hash(new TricklingInputStream(data)));
+        assertEquals("trickling channel", eh,
+                h.hash(Channels.newChannel(new TricklingInputStream(data))));
+        assertEquals("empty stream", f.hashVoid(), h.hash(new ByteArrayInputStream(new byte[0])));
+
+        h.reset().updateBytes(data, 0, 1000);
+        h.updateFrom(new ByteArrayInputStream(data, 1000, data.length - 1000));
+        assertEquals("update after bytes", eh, h.digest());
+    }
+
+    /**
+     * Returns short reads of varying length, as sockets do.
+     */
+    private static class TricklingInputStream extends InputStream {
+        private final byte[] data;
+        private int pos;
+
+        TricklingInputStream(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return pos < data.length ? data[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (pos == data.length) {
+                return -1;
+            }
+            final int n = Math.min(Math.min(len, 1 + pos % 1500), data.length - pos);
+            System.arraycopy(data, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+    }
+
+    private static byte[] data() {
+        final byte[] data = new byte[MAX_LEN];
+        new Random(MAX_LEN).nextBytes(data);
+        return data;
+    }
+
+    public static void test(StreamingHasher h, LongHashFunction f) {
+        final byte[] data = data();
+        for (int len = 0; len <= MAX_LEN; len++) {
+            final long eh = f.hashBytes(data, 0, len);
+            assertEquals("whole, len " + len, eh, h.reset().updateBytes(data, 0, len).digest());
+            for (final int chunk : CHUNK_SIZES) {
+                assertEquals("chunk " + chunk + ", len " + len, eh, chunked(h, data, len, chunk).digest());
+            }
+        }
+        testRandomSplits(h, data);
+        testDirectBuffer(h, data);
+        testDigestDoesNotChangeState(h, data);
+    }
+
+    public static void test(StreamingHasher h, LongTupleHashFunction f) {
+        assertEquals("bits length", f.bitsLength(), h.bitsLength());
+        testException(h);
+        final byte[] data = data();
+        final long[] actual = h.newResultArray();
+        for (int len = 0; len <= MAX_LEN; len++) {
+            final long[] eh = f.hashBytes(data, 0, len);
+            h.reset().updateBytes(data, 0, len).digest(actual);
+            assertArrayEquals("whole, len " + len, eh, actual);
+            assertEquals("low 64 bits, len " + len, eh[0], h.digest());
+            for (final int chunk : CHUNK_SIZES) {
+                chunked(h, data, len, chunk).digest(actual);
+                assertArrayEquals("chunk " + chunk + ", len " + len, eh, actual);
+            }
+        }
+    }
+
+    private static StreamingHasher chunked(StreamingHasher h, byte[] data, int len, int chunk) {
+        h.reset();
+        for (int off = 0; off < len; off += chunk) {
+            h.updateBytes(data, off, Math.min(chunk, len - off));
+        }
+        return h;
+    }
+
+    private static void testRandomSplits(StreamingHasher h, byte[] data) {
+        final Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            final int len = random.nextInt(MAX_LEN + 1);
+            final long eh = h.reset().updateBytes(data, 0, len).digest();
+            h.reset();
+            int off = 0;
+            while (off < len) {
+                final int chunk = Math.min(random.nextInt(600), len - off);
+                h.updateBytes(data, off, chunk);
+                off += chunk;
+            }
+            assertEquals("random splits, len " + len, eh, h.digest());
+        }
+    }
+
+    private static void testDirectBuffer(StreamingHasher h, byte[] data) {
+        final ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        final long eh = h.reset().updateBytes(data).digest();
+        assertEquals("direct buffer", eh, h.reset().updateBytes(direct).digest());
+        assertEquals("direct buffer position", 0, direct.position());
+
+        h.reset();
+        h.updateBytes(direct, 0, 100);
+        h.updateMemory(Util.getDirectBufferAddress(direct) + 100, 1000);
+        h.updateBytes(ByteBuffer.wrap(data), 1100, data.length - 1100);
+        assertEquals("mixed sources", eh, h.digest());
+    }
+
+    private static void testDigestDoesNotChangeState(StreamingHasher h, byte[] data) {
+        final long eh = h.reset().updateBytes(data).digest();
+        h.reset();
+        for (int off = 0; off < data.length; off += 97) {
+            final int len = Math.min(97, data.length - off);
+            h.updateBytes(data, off, len);
+            final long d = h.digest();
+            assertEquals("repeated digest", d, h.digest());
+        }
+        assertEquals("digest between updates", eh, h.digest());
+    }
+
+    private static void testException(StreamingHasher h) {
+        try {
+            h.digest(null);
+            fail("should throw NullPointerException");
+        } catch (NullPointerException expected) {
+            // expected
+        }
+        try {
+            h.digest(new long[h.newResultArray().length - 1]);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+}
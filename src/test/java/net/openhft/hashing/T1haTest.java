@@ -0,0 +1,220 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests against the reference values of the t1ha self-check, see {@code src/t1ha_selfcheck.c},
+ * {@code src/t1ha1_selfcheck.c} and {@code src/t1ha2_selfcheck.c} in
+ * https://github.com/erthink/t1ha. The probes cover every tail length, unaligned input and
+ * several loop iterations.
+ */
+public class T1haTest {
+
+    private static final byte[] PATTERN = {
+            0, 1, 2, 3, 4, 5, 6, 7, (byte) 0xFF, 0x7F, 0x3F, 0x1F, 0xF, 8, 16, 32, 64, (byte) 0x80,
+            (byte) 0xFE, (byte) 0xFC, (byte) 0xF8, (byte) 0xF0, (byte) 0xE0, (byte) 0xC0,
+            (byte) 0xFD, (byte) 0xFB, (byte) 0xF7, (byte) 0xEF, (byte) 0xDF, (byte) 0xBF, 0x55,
+            (byte) 0xAA, 11, 17, 19, 23, 29, 37, 42, 43, 'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h',
+            'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x'};
+
+    /**
+     * Checks the hash of {@code data} with the given seed against the {@code i}-th reference
+     * value.
+     */
+    private interface Probe {
+        void check(long seed, byte[] data, int i);
+    }
+
+    /**
+     * Runs the probes of {@code t1ha_selfcheck()}, returns the number of probes.
+     */
+    private static int selfCheck(Probe probe) {
+        int i = 0;
+        probe.check(0L, new byte[0], i++);
+        probe.check(~0L, new byte[0], i++);
+        probe.check(0L, PATTERN, i++);
+
+        long seed = 1;
+        for (int len = 1; len < 64; len++) {
+            probe.check(seed, slice(PATTERN, 0, len), i++);
+            seed <<= 1;
+        }
+
+        seed = ~0L;
+        for (int off = 1; off <= 7; off++) {
+            seed <<= 1;
+            probe.check(seed, slice(PATTERN, off, 64 - off), i++);
+        }
+
+        final byte[] patternLong = new byte[512];
+        for (int j = 0; j < patternLong.length; j++) {
+            patternLong[j] = (byte) j;
+        }
+        for (int off = 0; off <= 7; off++) {
+            probe.check(seed, slice(patternLong, off, 128 + off * 17), i++);
+        }
+        return i;
+    }
+
+    private static byte[] slice(byte[] data, int off, int len) {
+        final byte[] slice = new byte[len];
+        System.arraycopy(data, off, slice, 0, len);
+        return slice;
+    }
+
+    @Test
+    public void testT1ha1() {
+        final int probes = selfCheck(new Probe() {
+            @Override
+            public void check(long seed, byte[] data, int i) {
+                final LongHashFunction f =
+                        seed == 0L ? LongHashFunction.t1ha1_le() : LongHashFunction.t1ha1_le(seed);
+                LongHashFunctionTest.test(f, data, T1HA1_LE[i]);
+            }
+        });
+        assertEquals(T1HA1_LE.length, probes);
+    }
+
+    @Test
+    public void testT1ha2() {
+        final int probes = selfCheck(new Probe() {
+            @Override
+            public void check(long seed, byte[] data, int i) {
+                final LongHashFunction f = seed == 0L ? LongHashFunction.t1ha2_atonce()
+                        : LongHashFunction.t1ha2_atonce(seed);
+                LongHashFunctionTest.test(f, data, T1HA2_ATONCE[i]);
+            }
+        });
+        assertEquals(T1HA2_ATONCE.length, probes);
+    }
+
+    @Test
+    public void testT1ha2_128() {
+        assertEquals(128, LongTupleHashFunction.t1ha2_atonce128().bitsLength());
+        final int probes = selfCheck(new Probe() {
+            @Override
+            public void check(long seed, byte[] data, int i) {
+                final LongTupleHashFunction f = seed == 0L ? LongTupleHashFunction.t1ha2_atonce128()
+                        : LongTupleHashFunction.t1ha2_atonce128(seed);
+                LongTupleHashFunctionTest.test(f, data,
+                        new long[]{T1HA2_ATONCE128[i], T1HA2_ATONCE128_EXTRA[i]});
+            }
+        });
+        assertEquals(T1HA2_ATONCE128.length, probes);
+    }
+
+    private static final long[] T1HA1_LE = {
+            0x0000000000000000L, 0x6A580668D6048674L, 0xA2FE904AFF0D0879L, 0xE3AB9C06FAF4D023L,
+            0x6AF1C60874C95442L, 0xB3557E561A6C5D82L, 0x0AE73C696F3D37C0L, 0x5EF25F7062324941L,
+            0x9B784F3B4CE6AF33L, 0x6993BB206A74F070L, 0xF1E95DF109076C4CL, 0x4E1EB70C58E48540L,
+            0x5FDD7649D8EC44E4L, 0x559122C706343421L, 0x380133D58665E93DL, 0x9CE74296C8C55AE4L,
+            0x3556F9A5757AB6D0L, 0xF62751F7F25C469EL, 0x851EEC67F6516D94L, 0xED463EE3848A8695L,
+            0xDC8791FEFF8ED3ACL, 0x2569C744E1A282CFL, 0xF90EB7C1D70A80B9L, 0x68DFA6A1B8050A4CL,
+            0x94CCA5E8210D2134L, 0xF5CC0BEABC259F52L, 0x40DBC1F51618FDA7L, 0x0807945BF0FB52C6L,
+            0xE5EF7E09DE70848DL, 0x63E1DF35FEBE994AL, 0x2025E73769720D5AL, 0xAD6120B2B8A152E1L,
+            0x2A71D9F13959F2B7L, 0x8A20849A27C32548L, 0x0BCBC9FE3B57884EL, 0x0E028D255667AEADL,
+            0xBE66DAD3043AB694L, 0xB00E4C1238F9E2D4L, 0x5C54BDE5AE280E82L, 0x0E22B86754BC3BC4L,
+            0x016707EBF858B84DL, 0x990015FBC9E095EEL, 0x8B9AF0A3E71F042FL, 0x6AA56E88BD380564L,
+            0xAACE57113E681A0FL, 0x19F81514AFA9A22DL, 0x80DABA3D62BEAC79L, 0x715210412CABBF46L,
+            0xD8FA0B9E9D6AA93FL, 0x6C2FC5A4109FD3A2L, 0x5B3E60EEB51DDCD8L, 0x0A7C717017756FE7L,
+            0xA73773805CA31934L, 0x4DBD6BB7A31E85FDL, 0x24F619D3D5BC2DB4L, 0x3E4AF35A1678D636L,
+            0x84A1A8DF8D609239L, 0x359C862CD3BE4FCDL, 0xCF3A39F5C27DC125L, 0xC0FF62F8FD5F4C77L,
+            0x5E9F2493DDAA166CL, 0x17424152BE1CA266L, 0xA78AFA5AB4BBE0CDL, 0x7BFB2E2CEF118346L,
+            0x647C3E0FF3E3D241L, 0x0352E4055C13242EL, 0x6F42FC70EB660E38L, 0x0BEBAD4FABF523BAL,
+            0x9269F4214414D61DL, 0x1CA8760277E6006CL, 0x7BAD25A859D87B5DL, 0xAD645ADCF7414F1DL,
+            0xB07F517E88D7AFB3L, 0xB321C06FB5FFAB5CL, 0xD50F162A1EFDD844L, 0x1DFD3D1924FBE319L,
+            0xDFAEAB2F09EF7E78L, 0xA7603B5AF07A0B1EL, 0x41CD044C0E5A4EE3L, 0xF64D2F86E813BF33L,
+            0xFF9FDB99305EB06AL,
+    };
+
+    private static final long[] T1HA2_ATONCE = {
+            0x0000000000000000L, 0x772C7311BE32FF42L, 0x444753D23F207E03L, 0x71F6DF5DA3B4F532L,
+            0x555859635365F660L, 0xE98808F1CD39C626L, 0x2EB18FAF2163BB09L, 0x7B9DD892C8019C87L,
+            0xE2B1431C4DA4D15AL, 0x1984E718A5477F70L, 0x08DD17B266484F79L, 0x4C83A05D766AD550L,
+            0x92DCEBB131D1907DL, 0xD67BC6FC881B8549L, 0xF6A9886555FBF66BL, 0x6E31616D7F33E25EL,
+            0x36E31B7426E3049DL, 0x4F8E4FAF46A13F5FL, 0x03EB0CB3253F819FL, 0x636A7769905770D2L,
+            0x3ADF3781D16D1148L, 0x92D19CB1818BC9C2L, 0x283E68F4D459C533L, 0xFA83A8A88DECAA04L,
+            0x8C6F00368EAC538CL, 0x7B66B0CF3797B322L, 0x5131E122FDABA3FFL, 0x6E59FF515C08C7A9L,
+            0xBA2C5269B2C377B0L, 0xA9D24FD368FE8A2BL, 0x22DB13D32E33E891L, 0x7B97DFC804B876E5L,
+            0xC598BDFCD0E834F9L, 0xB256163D3687F5A7L, 0x66D7A73C6AEF50B3L, 0x25A7201C85D9E2A3L,
+            0x911573EDA15299AAL, 0x5C0062B669E18E4CL, 0x17734ADE08D54E28L, 0xFFF036E33883F43BL,
+            0xFE0756E7777DF11EL, 0x37972472D023F129L, 0x6CFCE201B55C7F57L, 0xE019D1D89F02B3E1L,
+            0xAE5CC580FA1BB7E6L, 0x295695FB7E59FC3AL, 0x76B6C820A40DD35EL, 0xB1680A1768462B17L,
+            0x2FB6AF279137DADAL, 0x28FB6B4366C78535L, 0xEC278E53924541B1L, 0x164F8AAB8A2A28B5L,
+            0xB6C330AEAC4578ADL, 0x7F6F371070085084L, 0x94DEAD60C0F448D3L, 0x99737AC232C559EFL,
+            0x6F54A6F9CA8EDD57L, 0x979B01E926BFCE0CL, 0xF7D20BC85439C5B4L, 0x64EDB27CD8087C12L,
+            0x11488DE5F79C0BE2L, 0x25541DDD1680B5A4L, 0x8B633D33BE9D1973L, 0x404A3113ACF7F6C6L,
+            0xC59DBDEF8550CD56L, 0x039D23C68F4F992CL, 0x5BBB48E4BDD6FD86L, 0x41E312248780DF5AL,
+            0xD34791CE75D4E94FL, 0xED523E5D04DCDCFFL, 0x7A6BCE0B6182D879L, 0x21FB37483CAC28D8L,
+            0x19A1B66E8DA878ADL, 0x6F804C5295B09ABEL, 0x2A4BE5014115BA81L, 0xA678ECC5FC924BE0L,
+            0x50F7A54A99A36F59L, 0x0FD7E63A39A66452L, 0x5AB1B213DD29C4E4L, 0xF3ED80D9DF6534C5L,
+            0xC736B12EF90615FDL,
+    };
+
+    // The values returned by t1ha2_atonce128(), the extra results are below
+    private static final long[] T1HA2_ATONCE128 = {
+            0x4EC7F6A48E33B00AL, 0xB7B7FAA5BD7D8C1EL, 0x3269533F66534A76L, 0x6C3EC6B687923BFCL,
+            0xC096F5E7EFA471A9L, 0x79D8AFB550CEA471L, 0xCEE0507A20FD5119L, 0xFB04CFFC14A9F4BFL,
+            0xBD4406E923807AF2L, 0x375C02FF11010491L, 0xA6EA4C2A59E173FFL, 0xE0A606F0002CADDFL,
+            0xE13BEAE6EBC07897L, 0xF069C2463E48EA10L, 0x75BEE1A97089B5FAL, 0x378F22F8DE0B8085L,
+            0x9C726FC4D53D0D8BL, 0x71F6130A2D08F788L, 0x7A9B20433FF6CF69L, 0xFF49B7CD59BF6D61L,
+            0xCCAAEE0D1CA9C6B3L, 0xC77889D86039D2ADL, 0x7B378B5BEA9B0475L, 0x6520BFA79D59AD66L,
+            0x2441490CB8A37267L, 0xA715A66B7D5CF473L, 0x9AE892C88334FD67L, 0xD2FFE9AEC1D2169AL,
+            0x790B993F18B18CBBL, 0xA0D02FBCF6A7B1ADL, 0xA90833E6F151D0C1L, 0x1AC7AFA37BD79BE0L,
+            0xD5383628B2881A24L, 0xE5526F9D63F9F8F1L, 0xC1F165A01A6D1F4DL, 0x6CCEF8FF3FCFA3F2L,
+            0x2030F18325E6DF48L, 0x289207230E3FB17AL, 0x077B66F713A3C4B9L, 0x9F39843CAF871754L,
+            0x512FDA0F808ACCF3L, 0xF4D9801CD0CD1F14L, 0x28A0C749ED323638L, 0x94844CAFA671F01CL,
+            0xD0E261876B8ACA51L, 0x8FC2A648A4792EA2L, 0x8EF87282136AF5FEL, 0x5FE6A54A9FBA6B40L,
+            0xA3CC5B8FE6223D54L, 0xA8C3C0DD651BB01CL, 0x625E9FDD534716F3L, 0x1AB2604083C33AC5L,
+            0xDE098853F8692F12L, 0x4B0813891BD87624L, 0x4AB89C4553D182ADL, 0x92C15AA2A3C27ADAL,
+            0xFF2918D68191F5D9L, 0x06363174F641C325L, 0x667112ADA74A2059L, 0x4BD605D6B5E53D7DL,
+            0xF2512C53663A14C8L, 0x21857BCB1852667CL, 0xAFBEBD0369AEE228L, 0x7049340E48FBFD6BL,
+            0x50710E1924F46954L, 0x869A75E04A976A3FL, 0x5A41ABBDD6373889L, 0xA781778389B4B188L,
+            0x21A3AFCED6C925B6L, 0x107226192EC10B42L, 0x62A862E84EC2F9B1L, 0x2B15E91659606DD7L,
+            0x613934D1F9EC5A42L, 0x4DC3A96DC5361BAFL, 0xC80BBA4CB5F12903L, 0x3E3EDAE99A7D6987L,
+            0x8F97B2D55941DCB0L, 0x4C9787364C3E4EC1L, 0xEF0A2D07BEA90CA7L, 0x5FABF32C70AEEAFBL,
+            0x3356A5CFA8F23BF4L,
+    };
+
+    private static final long[] T1HA2_ATONCE128_EXTRA = {
+            0x87971BDCEFD96B8DL, 0x16BF9D84963EA5A7L, 0x6CD1BDF7737F8273L, 0xC21677C0169E14A3L,
+            0x9D84A2ABA52CA4E2L, 0xB44D1374FD208898L, 0xE887523FDB7044DDL, 0xD2C3E60E7577228EL,
+            0xD8E3D78112B7B594L, 0x61F6911EEB9E5D6CL, 0x7E0FA0C087BCE2CCL, 0x983FE87D1E86686BL,
+            0xBE967B9D10A4FC61L, 0x30AF42245C1BCBC8L, 0x06D63092B656CD60L, 0x8FA6EE9B50421241L,
+            0xA8D1F084F73A2E9FL, 0x03062CF1AA82F10BL, 0x928F7661104EF1EEL, 0x33DBC4DEF550E2CAL,
+            0x2E440BB3FE11FE39L, 0xB9E384327889BC07L, 0xDE1D98B910B492A9L, 0xBF3035E3084FCC54L,
+            0x3F30071FC0A91318L, 0x0415A15950F8E91CL, 0x04BB87CA8B3DABA4L, 0xCF06D3F9CA10CE74L,
+            0x4AF779EB7F5747C8L, 0x90204417973F91DFL, 0x9AD394BAB428571FL, 0x1758BA2A76C78389L,
+            0x54709C9CA15EDA0AL, 0x3D4753CB860D7DAEL, 0xA924A30338D18DFAL, 0x2772429A4480A59FL,
+            0x7235BE9AB09BD3E4L, 0x8E96FBD8B70564F4L, 0xA4EA9CFD6F42C843L, 0xB5AD1EA3F88DDF35L,
+            0x7671A44383413E62L, 0xB75E1E88F78CECB9L, 0xC7C24A284496D5A2L, 0xC44E522134D0124BL,
+            0x8C100320A0AF0967L, 0x196EB7E8707FA582L, 0x29D8DD1984D5B69EL, 0xB7A0CB0916DCE89FL,
+            0x4E719D2EAD4B063BL, 0xEBB332585DC9C848L, 0x11A9B3C03535013DL, 0xDB468F5436B88839L,
+            0x3854957F69AA1F75L, 0xCEE07AB7F776A24FL, 0x0605B1963A79C631L, 0xC0A1C67A53233D68L,
+            0x4E6478991A4D4B57L, 0x97C3538482B28F8CL, 0xB1020C2085A2948BL, 0x03C8D51639BC38A1L,
+            0x41F982CBB4C7714EL, 0x28245E4CE249A15FL, 0xDCA303CB68D7EBAEL, 0x1E7C5EFEBC18B823L,
+            0x5C3FEA3F45FAC24DL, 0xEB693EC5C95D662DL, 0x425FFF5510E21B73L, 0x28C89748233CB97DL,
+            0xC46774C1221A7B1EL, 0x3C19350F566DE1EEL, 0x2694C79C5BEFF7A5L, 0x4F67D357052DAA7AL,
+            0x90770D1A026C44C6L, 0x361E34763C02BC9AL, 0x7BB53333E30D5784L, 0xF2EA2E92E7EEA98FL,
+            0x777E7E605C3FB977L, 0xEE2997AF7DED315BL, 0x065E1BF964EBB488L, 0xFB70862202D81934L,
+            0x5BFB98F01A3F4CA3L,
+    };
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class TreeHashFunctionTest {
+
+    private static final int LEAF_SIZE = 1024;
+    // deep enough for forking subtrees
+    private static final int MAX_LEN = 1024 * 1024 + 345;
+    private static final int[] LENGTHS = {0, 1, LEAF_SIZE - 1, LEAF_SIZE, LEAF_SIZE + 1,
+            2 * LEAF_SIZE, 3 * LEAF_SIZE + 7, 8 * LEAF_SIZE, 8 * LEAF_SIZE + 1, 100 * LEAF_SIZE + 3,
+            (int) TreeHashFunction.MIN_FORK_LEN + 1, MAX_LEN};
+
+    private static byte[] data() {
+        final byte[] data = new byte[MAX_LEN];
+        new Random(MAX_LEN).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Straightforward sequential implementation of the tree definition.
+     */
+    private static long[] reference(byte[] data, int off, int len, long seed, boolean is128) {
+        if (len <= LEAF_SIZE) {
+            return is128 ? LongTupleHashFunction.xx128(seed).hashBytes(data, off, len)
+                    : new long[] {LongHashFunction.xx3(seed).hashBytes(data, off, len)};
+        }
+        final int leaves = (len + LEAF_SIZE - 1) / LEAF_SIZE;
+        int leftLeaves = 1;
+        while (leftLeaves * 2 < leaves) {
+            leftLeaves *= 2;
+        }
+        final int leftLen = leftLeaves * LEAF_SIZE;
+        final long[] left = reference(data, off, leftLen, seed, is128);
+        final long[] right = reference(data, off + leftLen, len - leftLen, seed, is128);
+        final ByteBuffer children = ByteBuffer.allocate(left.length * 16)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (final long h : left) {
+            children.putLong(h);
+        }
+        for (final long h : right) {
+            children.putLong(h);
+        }
+        final long parentSeed = seed ^ 0x9E3779B97F4A7C15L;
+        return is128 ? LongTupleHashFunction.xx128(parentSeed).hashBytes(children.array())
+                : new long[] {LongHashFunction.xx3(parentSeed).hashBytes(children.array())};
+    }
+
+    @Test
+    public void testXXH3() throws IOException {
+        test(TreeHashFunction.xx3(LEAF_SIZE), 0L, false);
+        test(TreeHashFunction.xx3(LEAF_SIZE, 42L), 42L, false);
+    }
+
+    @Test
+    public void testXXH128() throws IOException {
+        test(TreeHashFunction.xx128(LEAF_SIZE), 0L, true);
+        test(TreeHashFunction.xx128(LEAF_SIZE, 42L), 42L, true);
+    }
+
+    private static void test(TreeHashFunction f, long seed, boolean is128) throws IOException {
+        assertEquals(LEAF_SIZE, f.leafSize());
+        assertEquals(is128 ? 128 : 64, f.bitsLength());
+        final byte[] data = data();
+        final ByteBuffer direct = ByteBuffer.allocateDirect(MAX_LEN);
+        direct.put(data).clear();
+        final Path path = Files.createTempFile("zero-allocation-hashing", ".bin");
+        Files.write(path, data);
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        final ForkJoinPool[] pools = {new ForkJoinPool(1), new ForkJoinPool(2), new ForkJoinPool(4)};
+        try {
+            final long[] actual = f.newResultArray();
+            for (final int len : LENGTHS) {
+                // unaligned start
+                final int off = len > 0 ? 1 : 0;
+                final long[] expected = reference(data, off, len - off, seed, is128);
+                final String message = "len " + len;
+                assertEquals(message, expected[0],
+                        f.hashBytes(ByteBuffer.wrap(data, off, len - off)));
+                for (final ForkJoinPool pool : pools) {
+                    final TreeHashFunction p = f.withPool(pool);
+                    direct.position(off).limit(len);
+                    p.hashBytes(direct, actual);
+                    assertArrayEquals(message + ", direct", expected, actual);
+                    p.hashBytes(ByteBuffer.wrap(data, off, len - off).asReadOnlyBuffer(), actual);
+                    assertArrayEquals(message + ", read-only", expected, actual);
+                    p.hashMemory(Util.getDirectBufferAddress(direct) + off, len - off, actual);
+                    assertArrayEquals(message + ", memory", expected, actual);
+                    p.hashFile(channel, off, len - off, actual);
+                    assertArrayEquals(message + ", file", expected, actual);
+                    assertEquals(message + ", file", expected[0], p.hashFile(channel, off, len - off));
+                }
+                direct.clear();
+            }
+        } finally {
+            for (final ForkJoinPool pool : pools) {
+                pool.shutdown();
+            }
+            channel.close();
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testFileWindows() throws IOException {
+        final byte[] data = data();
+        final Path path = Files.createTempFile("zero-allocation-hashing", ".bin");
+        Files.write(path, data);
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            // windows smaller than a leaf map single leaves
+            for (final long windowSize : new long[] {LEAF_SIZE / 2, LEAF_SIZE, 64 * 1024 + 5}) {
+                for (final TreeHashFunction f : new TreeHashFunction[] {
+                        TreeHashFunction.xx3(LEAF_SIZE), TreeHashFunction.xx128(LEAF_SIZE, 42L),
+                        TreeHashFunction.xx3(3 * LEAF_SIZE + 1)}) {
+                    final long[] expected = hash(f, data);
+                    final long[] actual = f.newResultArray();
+                    f.runFile(channel, 0, data.length, windowSize).store(actual);
+                    assertArrayEquals("window " + windowSize, expected, actual);
+                }
+            }
+        } finally {
+            channel.close();
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testSingleLeafIsPlainHash() {
+        final byte[] data = data();
+        assertEquals(LongHashFunction.xx3().hashBytes(data, 0, LEAF_SIZE),
+                TreeHashFunction.xx3(LEAF_SIZE).hashBytes(ByteBuffer.wrap(data, 0, LEAF_SIZE)));
+        assertArrayEquals(LongTupleHashFunction.xx128(42L).hashBytes(data),
+                hash(TreeHashFunction.xx128(MAX_LEN, 42L), data));
+        assertNotEquals(LongHashFunction.xx3().hashBytes(data),
+                TreeHashFunction.xx3(LEAF_SIZE).hashBytes(data));
+    }
+
+    private static long[] hash(TreeHashFunction f, byte[] data) {
+        final long[] result = f.newResultArray();
+        f.hashBytes(data, result);
+        return result;
+    }
+
+    @Test
+    public void testExceptions() {
+        try {
+            TreeHashFunction.xx3(0);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            TreeHashFunction.xx128(LEAF_SIZE).hashBytes(new byte[10], new long[1]);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+}
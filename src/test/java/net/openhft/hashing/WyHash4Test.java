@@ -0,0 +1,2143 @@
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class WyHash4Test {
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+    @Test
+    public void testWyHash4WithoutSeeds() {
+        test(LongHashFunction.wy_4(), HASHES_OF_LOOPING_BYTES_WITHOUT_SEED);
+    }
+
+    @Test
+    public void testWyHash4WithOneSeed() {
+        test(LongHashFunction.wy_4(42L), HASHES_OF_LOOPING_BYTES_WITH_SEED_42);
+    }
+
+    public void test(LongHashFunction f, long[] hashesOfLoopingBytes) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        LongHashFunctionTest.test(f, data, hashesOfLoopingBytes[len]);
+    }
+
+    @Test
+    public void testKnownValues() {
+        // test vectors from the wyhash final version 4 README, hashed with the given seeds
+        if (len == 0) {
+            final String[] messages = {"", "a", "abc", "message digest", "abcdefghijklmnopqrstuvwxyz",
+                    "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789",
+                    "12345678901234567890123456789012345678901234567890123456789012345678901234567890"};
+            final long[] expected = {0x93228a4de0eec5a2L, 0xc5bac3db178713c4L, 0xa97f2f7b1d9b3314L,
+                    0x786d1f1df3801df4L, 0xdca5a8138ad37c87L, 0xb9e734f117cfaf70L, 0x6cc5eab49a92d617L};
+            for (int i = 0; i < messages.length; i++) {
+                assertEquals(messages[i], expected[i],
+                        LongHashFunction.wy_4(i).hashBytes(messages[i].getBytes()));
+            }
+        }
+    }
+
+    /**
+     * Test data is output of the following program with wyhash final version 4 implementation
+     * from https://github.com/wangyi-fudan/wyhash
+     * <pre>
+     * #include &lt;stdio.h&gt;
+     * #include &lt;stdlib.h&gt;
+     * #include "wyhash.h"
+     *
+     * int main() {
+     *     char *src = (char *) malloc(1024);
+     *     const int N = 1024;
+     *     for (int i = 0; i < N; i++) {
+     *         src[i] = (char) i;
+     *     }
+     *
+     *     printf("without seed\n");
+     *     for (int i = 0; i <= N; i++) {
+     *         printf("%lldL,\n", (long long) wyhash(src, i, 0, _wyp));
+     *     }
+     *
+     *     printf("with seed 42\n");
+     *     for (int i = 0; i <= N; i++) {
+     *         printf("%lldL,\n", (long long) wyhash(src, i, 42, _wyp));
+     *     }
+     *     return 0;
+     * }
+     * </pre>
+     */
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITHOUT_SEED = {
+        -7844555533835123294L,
+        -8183802519603853116L,
+        5846158694691645621L,
+        8702267351039103533L,
+        -2266736994822849742L,
+        -8909760132134369403L,
+        -3638179179940415105L,
+        670641614267702470L,
+        -5415951884159950380L,
+        -5464798326938138178L,
+        1709655730657823429L,
+        -6548329901922916935L,
+        4947057119480859504L,
+        224757505238703124L,
+        5407692576374211395L,
+        -8652066246694926097L,
+        3485749419365246489L,
+        -3269615726035177574L,
+        -5009942661341479035L,
+        5998128193013819474L,
+        -1470170748112345181L,
+        586526771573032717L,
+        1488299008288152195L,
+        8311972032337233904L,
+        6138363763389522083L,
+        -72998760240568990L,
+        4285109483423047863L,
+        -813048420062450085L,
+        4680262681735385315L,
+        -7914987154728837787L,
+        -3868564637322562062L,
+        -1458822102516661483L,
+        6557452640279859087L,
+        6780773107105844274L,
+        -1615915726827560593L,
+        6787446190759595868L,
+        3786115130135035594L,
+        6344112466344849290L,
+        1074969783845870433L,
+        7307307064229088166L,
+        -7660928231617308648L,
+        9170901238362326603L,
+        -2418828321719942584L,
+        4112540835652792836L,
+        2361373762213038622L,
+        -2671035525404518553L,
+        -1405047116343599744L,
+        -2104490584402148327L,
+        -1312795467947722686L,
+        473424537008093841L,
+        4067185723928828145L,
+        1375411359402638433L,
+        5850410432677727320L,
+        6482097923265670260L,
+        -7851066101945480289L,
+        8614742697771459548L,
+        -3297932177812188239L,
+        -1248729651459081481L,
+        3720515290278147074L,
+        -1917154136532393800L,
+        -3862522506886507151L,
+        -4054356413214542393L,
+        5662256296530567057L,
+        -8038326338048564537L,
+        -2234264295605178099L,
+        8385741626746241077L,
+        3664120177700150261L,
+        -3159410037203266912L,
+        -677313847504855663L,
+        1415603104906786259L,
+        1375550032530856503L,
+        -8110348112015381655L,
+        -1268248378297733018L,
+        -6378477509421681302L,
+        -8079199311173740959L,
+        -1805057248795217687L,
+        -3709180982776645829L,
+        -7772297710204362451L,
+        2579008818325072236L,
+        -3524585954266348971L,
+        -2374513880739657560L,
+        9029628968538520946L,
+        9077615295400524922L,
+        8922137016796307119L,
+        -3185685407250502027L,
+        -749206720540574596L,
+        -1123512779371422413L,
+        -7671493743472511608L,
+        -4554331155388575224L,
+        -2870142072357990930L,
+        -5605930711664972562L,
+        -1852392050140998510L,
+        -7937839242877574091L,
+        1174786567717886015L,
+        1166888074781261522L,
+        -6656589667279901031L,
+        2417779207284270787L,
+        2666508486507039166L,
+        -7289408336468315738L,
+        5334856980357281239L,
+        8641733125876664759L,
+        8590674744757982153L,
+        -8794154003320976L,
+        4002827106280355386L,
+        8289480449399371318L,
+        -5812850176961910360L,
+        -842814545003613669L,
+        -6327236532807663318L,
+        6921878157510790093L,
+        4020655912032848132L,
+        -669421537610401835L,
+        -8747210216792841338L,
+        -3038121919416791993L,
+        4711438813677054170L,
+        2333335077237746874L,
+        1568741366065997806L,
+        1666029555972659335L,
+        -9121991472542107673L,
+        604871197615302187L,
+        -3792030375858173634L,
+        1517467780620995926L,
+        3038384863278927362L,
+        7190233782103325543L,
+        -8866511757055731713L,
+        -3171399647641003077L,
+        6097636018644652883L,
+        1172925994586080049L,
+        8533768083718206276L,
+        7583337688729039598L,
+        7501159673055239462L,
+        -1714465246354716050L,
+        3975544662753937741L,
+        -9134966500745936618L,
+        -1082770565552233620L,
+        -1827096759523295958L,
+        17731295351052567L,
+        -4675616351265784664L,
+        3992110590360533757L,
+        897268503167227727L,
+        -7757159155980457421L,
+        -3822969037507060293L,
+        8114708141998709730L,
+        8273917669121296802L,
+        -1720475773877223679L,
+        69711191170048301L,
+        3959842629142821912L,
+        -242377297473714287L,
+        -2115821695843704685L,
+        -5603316813617532217L,
+        -7902976629861797381L,
+        4491174204612739863L,
+        1057455078514862236L,
+        1992274322481719746L,
+        -3532256317135071830L,
+        8040860930767631547L,
+        4484217302919655647L,
+        -2215547493599396173L,
+        -2478978739465990364L,
+        -8066238506922503040L,
+        3110759079048449698L,
+        2800378343217710171L,
+        2718716354701934365L,
+        1580016568589489350L,
+        -1044511979499566587L,
+        5459021120368247431L,
+        7617962282443119750L,
+        7354967318991290807L,
+        -3880316723964645609L,
+        -1910206275792728623L,
+        -6931263045128349779L,
+        9073776713082276840L,
+        -6819911030350304709L,
+        800229479238673718L,
+        4596713714196750584L,
+        -8550641146942357271L,
+        3679179030643252882L,
+        -2988677952424378656L,
+        6179428478512807057L,
+        -48104175347476918L,
+        3185829129515915140L,
+        3624097825874691862L,
+        -6134133582619447922L,
+        8334291276175238124L,
+        -5242463065951869203L,
+        5270001489344542302L,
+        -486743949763997206L,
+        5245161708636498230L,
+        -2480476112289582496L,
+        1123510950263707585L,
+        -6029728778760187935L,
+        -6037306672639391986L,
+        -8609699904444526239L,
+        1311557823619666314L,
+        -8280459486530911273L,
+        8380516455576989573L,
+        708742385483839386L,
+        8913747092925701222L,
+        8952695363935626306L,
+        2247185067333882841L,
+        1901959335798587076L,
+        -8524325333243576330L,
+        6796227218218785442L,
+        2858707573162196456L,
+        -889406619393052747L,
+        8517476291794243239L,
+        5648739209230478989L,
+        -1822677197711135820L,
+        230939615649133496L,
+        7371468449641550615L,
+        -8601411589775303674L,
+        2847098543976195613L,
+        7770397674767459504L,
+        8985994133751494631L,
+        -3899196269073545692L,
+        -5904588753457782319L,
+        -5438231304968691645L,
+        -913128466696333043L,
+        -3680175081167755478L,
+        9206279071169431988L,
+        -5093328772650489698L,
+        9003352848606194169L,
+        8491379155828034570L,
+        -7450669159329591450L,
+        1307805200187806097L,
+        -5353491110336561669L,
+        2638005029974073093L,
+        2421658790379410458L,
+        -2850983638515817865L,
+        527636662888557704L,
+        2146957334810712153L,
+        7237103954636610253L,
+        -172171579891230598L,
+        5641725884499645041L,
+        -737844083515865560L,
+        -2013173743721673528L,
+        1599054951224102693L,
+        2309432486789909502L,
+        -883916166876393852L,
+        -6170924986395655765L,
+        -3781168322127235304L,
+        2537365844479266172L,
+        -4083119378655461409L,
+        -2442212547374951480L,
+        9067504501951043414L,
+        -2304002004763316063L,
+        -6227137166993740154L,
+        -7770129146662506022L,
+        -4633453574618982321L,
+        1847424444881900802L,
+        1262161125787504755L,
+        -104131977325887993L,
+        7492940152013418431L,
+        2116912844810622789L,
+        -3778378262154139798L,
+        -7696592766680297772L,
+        5984897738471092616L,
+        1413170037638644683L,
+        6112383676318711640L,
+        -3000338574908192811L,
+        -417966811495730451L,
+        9102201971647024219L,
+        -883211129864324114L,
+        2764066091494899687L,
+        3569731876689100696L,
+        -7777952023155236338L,
+        -1201351223288771782L,
+        -1407709259361448099L,
+        -6407748257778261698L,
+        -7933347222876671551L,
+        -6225529128964254680L,
+        -6750246801565994759L,
+        -6655496457364408170L,
+        -110288809497968802L,
+        426132530895478072L,
+        5412782426428270406L,
+        5950685291967443526L,
+        -5410790887543320683L,
+        3795219620078412626L,
+        7385195133267085324L,
+        6440467857524935832L,
+        4515083883588262150L,
+        -6597718254449780875L,
+        1887850265384549821L,
+        -4219027203968488376L,
+        -7720688318176984964L,
+        -756408283464889972L,
+        -264161997489047432L,
+        -9052703984918452560L,
+        -5163869945469491951L,
+        2205114004792773299L,
+        2989044320354965997L,
+        -1671342022758855695L,
+        -2284327230160541445L,
+        -3616074816221464228L,
+        8805414668171746187L,
+        -4974705680469187534L,
+        4885754316005234531L,
+        3534740343667776019L,
+        -6802106298279597026L,
+        8631899509080603507L,
+        1646169024276536031L,
+        3804256296410247616L,
+        8923102780196482181L,
+        6136266643290791398L,
+        -6789014761256155444L,
+        4025368763586964329L,
+        4863392528182305205L,
+        2349122078689220850L,
+        3115061076526494740L,
+        -5660843310566559281L,
+        -5403620958111075979L,
+        -8113298912422095618L,
+        3257390833183166038L,
+        5155498889069555939L,
+        6677182855060117487L,
+        1924189597472100061L,
+        7395579383944236929L,
+        4134923404009397296L,
+        -1550930846570858014L,
+        8110741164861488309L,
+        2296064999100494698L,
+        5259025287141607410L,
+        -8606931908889840707L,
+        1159871716733261223L,
+        -7420305311155771856L,
+        -2159096344259937723L,
+        -786204747870156175L,
+        9209356557909482404L,
+        6990501901291558133L,
+        -4579818435110165675L,
+        -1852790094492657405L,
+        5768070376107803057L,
+        -982810875494572971L,
+        -4859079692718699689L,
+        6098702631075116916L,
+        -3418072187364708843L,
+        -1460221477465952329L,
+        -5593044247482055575L,
+        1864419131202840982L,
+        -6328010527223400057L,
+        -8776288013025421607L,
+        -7042304506540934126L,
+        6348876857092518613L,
+        3417313099957428175L,
+        -2962583892111344781L,
+        2903157893078158499L,
+        2306730862985869454L,
+        3113241625893011501L,
+        4205905504741941810L,
+        6671610124023897786L,
+        3003981253983435279L,
+        6709433058747322204L,
+        1772669111046077923L,
+        2699023381040260498L,
+        -7189615106429567580L,
+        -2211709671696834316L,
+        8198574631250214631L,
+        6928661223688462731L,
+        5980226078282589639L,
+        -6361170885277142466L,
+        1824103952229446457L,
+        7653607455761394018L,
+        -7065370111649676633L,
+        4336098313405921671L,
+        -8721886430142710897L,
+        1849411138424653589L,
+        -5443902252792311729L,
+        -5831030633910103963L,
+        8077053002809936531L,
+        6505006488662399404L,
+        -6001460740747641302L,
+        3314119422085314036L,
+        -1288474647817003401L,
+        -3789555106841550781L,
+        -3310487448416071875L,
+        7739351330647465174L,
+        2186129760649090970L,
+        -2735932891995960771L,
+        4855704723259329065L,
+        -8310925798673783511L,
+        -4680189989736741855L,
+        4029847002886718701L,
+        -2821343498798973138L,
+        641109717200294143L,
+        1540098419087988501L,
+        8961430790176572730L,
+        -464641838630584596L,
+        -8931044408914751308L,
+        1087414542353351542L,
+        -1364228098303898181L,
+        -1281488616577578110L,
+        -2823284162614559920L,
+        2586927342827843553L,
+        -562818070581785646L,
+        2910817371687399542L,
+        5461605664082533138L,
+        -4500519339640967996L,
+        -1264749222861117804L,
+        452300462467035135L,
+        1068126565003999358L,
+        1430936633718914868L,
+        2870210149222229528L,
+        -5725943543402878098L,
+        2214354504677089416L,
+        1396767108412210560L,
+        -5050091262744998181L,
+        7678639199861883145L,
+        404037551683922355L,
+        1255985304398643948L,
+        -4940501834177681764L,
+        -2485689467822827927L,
+        -1034266461299463091L,
+        5224057458239166600L,
+        -1335377217053207426L,
+        -8279410776388860982L,
+        -8508899257277189568L,
+        5533513045833851190L,
+        2284522329359126424L,
+        6746392098430677349L,
+        3330739205173374064L,
+        7981201811068150499L,
+        -5658888700426012806L,
+        -8561732870417580942L,
+        -479693576593659085L,
+        6299519976823395097L,
+        -4043320284679261749L,
+        345563704458173987L,
+        3837888226112419282L,
+        -2692856405818700169L,
+        -6223129018675457467L,
+        3692218053794405969L,
+        -7217638147757153929L,
+        821384069381241322L,
+        -2473357494029687034L,
+        3643075789409044261L,
+        6646629213043018259L,
+        -4002515327429933625L,
+        -3527971150535856297L,
+        -1664497495600280317L,
+        -7477719012715174269L,
+        7176001123491069157L,
+        -3430965449075689732L,
+        -2546722785747546113L,
+        -380147144277287763L,
+        -4898385614705731364L,
+        4246726215052953870L,
+        4882640178372296816L,
+        7781513642588546501L,
+        4401101915890029118L,
+        -6868908398713060762L,
+        -2355658077785516052L,
+        5917962247872397416L,
+        -3601361502217873236L,
+        -3659346215507976273L,
+        -7019315171797902602L,
+        3734618880349903539L,
+        3147914797646497975L,
+        -8392627219195576758L,
+        -3612428438428780142L,
+        7926316480597468892L,
+        -3382106875580272875L,
+        -5784407975485796886L,
+        3781702343128734833L,
+        3199956159732415916L,
+        274170531862580363L,
+        -6477625284536007327L,
+        5545899971433178055L,
+        9208591702895252697L,
+        -4928374857121908636L,
+        -2885764801865973200L,
+        6750743794791700226L,
+        -1209485063556711918L,
+        7793937577701781399L,
+        5390408247574272315L,
+        -926948700725096826L,
+        1207498707064673937L,
+        6835228248175601692L,
+        -339812426220700202L,
+        4987598475211073212L,
+        7170035023209114246L,
+        5890209039882350691L,
+        -4864982379107811286L,
+        8023320356075122571L,
+        -2720665220750420846L,
+        4421688284935193043L,
+        4160788128339394441L,
+        1852526663976572142L,
+        -2739527470452318571L,
+        3220317542352918601L,
+        4569071836989815482L,
+        -3404977492293060225L,
+        8396468183049049810L,
+        -3161643296089186664L,
+        -7818568886932388911L,
+        3159869998420002798L,
+        -7247226040300383217L,
+        5958731060770457341L,
+        -2990096559069725437L,
+        8165088486309114809L,
+        -7156479936532989674L,
+        118524130862880546L,
+        7658774147010917034L,
+        -3403794583990116875L,
+        -4023492498829132101L,
+        6705868378575431645L,
+        -7665007112389081810L,
+        904867821171375710L,
+        -3293023536700080392L,
+        -1787930900201650912L,
+        -5631020999344192905L,
+        -4411381448613950103L,
+        -8564449409342507260L,
+        571451911394217632L,
+        -8087330277292614149L,
+        -4241035171120303831L,
+        -875499958933969268L,
+        -6909382206717113767L,
+        -4438476978735735673L,
+        -6490391327892699479L,
+        -2217490229045668241L,
+        6299441455179166137L,
+        -3340379134307147842L,
+        3936052635711173333L,
+        3597570100363852961L,
+        -2561651752378445016L,
+        3535938474684127826L,
+        -8542956474621750253L,
+        8810834885762898767L,
+        -2770279239440158664L,
+        -7907203089743113388L,
+        4137633420511081645L,
+        -5932958666215593047L,
+        -8635324265991351900L,
+        889062566795163755L,
+        8537855903194214163L,
+        -6564438900007633145L,
+        -1111763388562981287L,
+        772550354164046274L,
+        -8636805779805748870L,
+        -3789313980166043226L,
+        3701117970075669984L,
+        7827994504540075703L,
+        1553852503864303843L,
+        3419013364008285919L,
+        -4238890718540660932L,
+        -7109839307764486727L,
+        -6251817780336218900L,
+        7885295971827845881L,
+        -4103866886396713173L,
+        -7453026685190298947L,
+        -5588342112209267727L,
+        2904380140007634285L,
+        -5671914867890357145L,
+        -2754326005652415168L,
+        -4862420964581491673L,
+        -8738910292540202699L,
+        160050419116436715L,
+        594414002717612919L,
+        -8258831547706542247L,
+        -5936254572094048814L,
+        -1965795976494819048L,
+        -5849469513693709128L,
+        -712360958081324123L,
+        4434183404174963683L,
+        7747943755614514453L,
+        -705686478027120077L,
+        -3480475513161894939L,
+        -8820153518611752294L,
+        -5822172318707320990L,
+        -4808646187637749391L,
+        -234574982141250151L,
+        -3783114066495073503L,
+        -8331831678984776336L,
+        1427599607761098282L,
+        4826805468377826455L,
+        -1687945163954391415L,
+        -7793374900914083979L,
+        -4181737596573461686L,
+        580916881967723718L,
+        -5105028870548657954L,
+        6076354418252453342L,
+        5783635027412893368L,
+        -6580344804153161672L,
+        6886189022692463951L,
+        5635213825496683792L,
+        -6284218131736367590L,
+        -3703812446874114822L,
+        5627548649698911347L,
+        3274057476111105111L,
+        -5281784743214522902L,
+        -4953388597696765184L,
+        6198462497665532618L,
+        1338996746839375922L,
+        734064045452165463L,
+        1208817049575694496L,
+        -3018703198262412276L,
+        3379727616752392587L,
+        -1538903297095652037L,
+        8344946753925165342L,
+        1695118768829662517L,
+        -6215743918676895685L,
+        -5567076292262769015L,
+        5760207311884665811L,
+        2034903840466740594L,
+        -6697886486759801936L,
+        -5588668744761771096L,
+        2851810040371062030L,
+        -9133490013097291824L,
+        -3842373639314764945L,
+        5821128715783932956L,
+        -972599735964975285L,
+        964721041117251014L,
+        -6990601537749920486L,
+        8430173026188713141L,
+        3772380652967289021L,
+        -6983255540937806506L,
+        -6105227152203204316L,
+        -737091674830698493L,
+        -6839440361010082621L,
+        448410487865947004L,
+        -1128818269878923795L,
+        -3349223115622256827L,
+        -3879110672448610238L,
+        -4792079757589323299L,
+        3666216039110495867L,
+        2398598734871367267L,
+        1812985585974354068L,
+        595026190711837277L,
+        -3321946497361871005L,
+        4453094114631346399L,
+        -3716311615653598879L,
+        9215700218400612138L,
+        1163286072684491564L,
+        3590091252308191322L,
+        6926241431181334271L,
+        2710066502199972518L,
+        5137938782282235675L,
+        -6907976832315126384L,
+        -7103020962118127870L,
+        4025428293318223075L,
+        7988356158727541739L,
+        -6489036007338261157L,
+        4346386164525032309L,
+        -919336684081147288L,
+        -2712380663538836659L,
+        382026261102859346L,
+        9194751799669903626L,
+        -4884631844268375168L,
+        -1046903096660891683L,
+        -1144647342107486683L,
+        -1210343621586694074L,
+        6145625600344039207L,
+        4408584897759224975L,
+        2461650106689896934L,
+        -5824625628665653283L,
+        2467422871220457368L,
+        5522518257370841034L,
+        -3800895792617563520L,
+        1883817868548068806L,
+        2199801872556614009L,
+        -2106442245051478858L,
+        8765457062064734915L,
+        6479540575803113765L,
+        -608239216167749201L,
+        8756768774523727288L,
+        -3774587396215937865L,
+        2137757028877967671L,
+        6832248974192510480L,
+        -5781404620785232213L,
+        2885367404116043971L,
+        4611487032822548475L,
+        -2838814501062617076L,
+        -8569355387077131830L,
+        8403548494810933324L,
+        7779508997021979241L,
+        2867908395472562030L,
+        1182481991554775651L,
+        5931540997952732356L,
+        1363237991508258767L,
+        -7329221846302638937L,
+        -8038958532660616090L,
+        4595173473110256192L,
+        -8566683772690458608L,
+        7501383894344769478L,
+        -1864489570127956801L,
+        7960296278414315357L,
+        1087389759142022669L,
+        -8130228939212936464L,
+        4828607353153012759L,
+        4547953264567142331L,
+        8594486566052337088L,
+        -4247596493718568884L,
+        -8468598339487650840L,
+        3177601648663675951L,
+        -5994002126010001609L,
+        -144899912242908729L,
+        3540231495351153996L,
+        2917661004544858886L,
+        -3692143606476118381L,
+        -8895080021984926495L,
+        -4951992512364517548L,
+        5353301245595464252L,
+        8663668748947607580L,
+        -660699090030452918L,
+        -2278338431345960596L,
+        -4279239326231715027L,
+        4695957485421312449L,
+        -8821664659584170030L,
+        -4967540876921814290L,
+        -497913216191506392L,
+        -9210719958287924086L,
+        -9149641605590732672L,
+        -6909555001670256985L,
+        4573453661466082411L,
+        337600418026442893L,
+        6937063901475966145L,
+        5994536687412886098L,
+        -9204969126423301846L,
+        4337144624973161915L,
+        6304603815400577811L,
+        4171200787233236439L,
+        -1562960056558450496L,
+        -3179347858086728558L,
+        58874278923852901L,
+        -2574043806829479188L,
+        3304494040445988406L,
+        8522101205728828760L,
+        -2156957232819072866L,
+        -2757316128509829375L,
+        -4315890446493331698L,
+        4438971002510845016L,
+        5842547863769385562L,
+        -935538017707587768L,
+        7977776696641912476L,
+        -7528607477361796030L,
+        7810668018874771418L,
+        2647747284250748163L,
+        1018163784886892180L,
+        -3725540150097716715L,
+        6709476022131489327L,
+        -4661834206315138707L,
+        -8188280653433746120L,
+        -2604983788220639662L,
+        -3116063399674840147L,
+        5635389096117245029L,
+        8751663511046456125L,
+        -2639079641214298618L,
+        8095105774422181765L,
+        -4815223209305147120L,
+        920855287723618537L,
+        216979392062034434L,
+        -215989382146851529L,
+        -969532387920587684L,
+        2325137677432053620L,
+        -5080912416949758614L,
+        5254294913644071948L,
+        1553664767662864994L,
+        2217070758728293531L,
+        -5192238345104833623L,
+        18357936042787912L,
+        4256040243298778635L,
+        -6967024725677924589L,
+        -2546134110316014046L,
+        -1156227661551679998L,
+        -1022331069342320287L,
+        4562492149421068903L,
+        1518489751691718192L,
+        -12035402881678719L,
+        6728249467754095227L,
+        -7058849218743526024L,
+        -186301949159614243L,
+        -3744767122812135973L,
+        -3292892376582440896L,
+        -6732451992836831999L,
+        7358328047786983219L,
+        -4556386443021184535L,
+        2397808423818752905L,
+        9023466284952159765L,
+        7245002687877800719L,
+        -8570980224274469673L,
+        -7953949038323862080L,
+        8630299278761008833L,
+        -6369158435601594336L,
+        4185296910807361618L,
+        9111716309033896806L,
+        9203079744328584356L,
+        -4359802795003647211L,
+        -5538788152140354435L,
+        1088639007606630590L,
+        6710283181614477580L,
+        8028369242220795589L,
+        -2964936490684419547L,
+        -3883902121169215657L,
+        8108321155649431377L,
+        4299906986654540576L,
+        -8529732854665949704L,
+        8245512692340938154L,
+        7737547454010098127L,
+        9016141605675644312L,
+        -3729167713484236797L,
+        8492461883780391363L,
+        3842581080274731435L,
+        1715210513497900513L,
+        -5795537452366227012L,
+        6980879054806541298L,
+        -2889259619439648954L,
+        -8150084328842348057L,
+        -6992904161132168931L,
+        7765901099862005101L,
+        -5716176724259907536L,
+        2304134990113484139L,
+        1479685473828446171L,
+        -918419566304535941L,
+        -7660016812145912647L,
+        2771509109477685041L,
+        -5937902310606470759L,
+        6657812639223458278L,
+        -5406824745637882900L,
+        -3718912764890136895L,
+        -5440904472567963207L,
+        58980055605791019L,
+        5372943728136223105L,
+        -4108146253168147174L,
+        -8432541313293391884L,
+        4728893708097890657L,
+        7718736124708865566L,
+        281593178594062000L,
+        6525194589921556783L,
+        -5832737536069400671L,
+        -7620505355652203135L,
+        850192659160514018L,
+        -1796310799130794214L,
+        3801875754021339595L,
+        4352104654586813670L,
+        6442009383988651186L,
+        -6274354994876922806L,
+        -8085226264447479936L,
+        8281707443046447105L,
+        3642041982063151975L,
+        -4204255916066836425L,
+        -7775158069108247569L,
+        5444801852459223441L,
+        3526194730614868161L,
+        1740588321178901862L,
+        946116270714898355L,
+        4632938266239072427L,
+        -6316550503831644102L,
+        6790992163730470333L,
+        -518009995834967239L,
+        5892833730884572563L,
+        5335390770226564301L,
+        -2555510114009236213L,
+        -2424096738636892668L,
+        502775506038983127L,
+        1886856428670218104L,
+        3943763351659063239L,
+        -5707465843272036568L,
+        7155033523795415809L,
+        -3263761449520305256L,
+        -102145015653471337L,
+        -7488661333078855227L,
+        8447061994125367446L,
+        -1676436156341689617L,
+        6776391072168520523L,
+        8989610906733833058L,
+        -7322772569892997951L,
+        -6801916928451184879L,
+        -1544842111708730693L,
+        2943026866072718109L,
+        115995270186574794L,
+        3851853264435904267L,
+        1056118212633368277L,
+        -8830069590982561642L,
+        5870228575802668224L,
+        -249445085655049988L,
+        8692617140334622058L,
+        -840167721781742712L,
+        7964211411814668564L,
+        4519371683612628128L,
+        -5796560066682704767L,
+        6630033703274969219L,
+        -7423596205231879440L,
+        3055026200878603104L,
+        3299153733049489076L,
+        -3478552604293238956L,
+        -8147765529001334445L,
+        -3064491892685406315L,
+        -6404002293153193838L,
+        500704303589656789L,
+        3216355881010329139L,
+        825822673969125065L,
+        -4190635675803386016L,
+        -5818804565598310534L,
+        8729300177224161763L,
+        -7712073968628106269L,
+        -2754713742680513714L,
+        2267001349080869698L,
+        -8608044538933286260L,
+        1185902044078788833L,
+        -5594296303111510431L,
+        -3603352191514950985L,
+        2610094714591481084L,
+        -8105618838289823151L,
+        1879826972294899807L,
+        -5116627160976262436L,
+        -8871153635042638411L,
+        -6019181070895007117L,
+        -7029986995774174309L,
+        5578834914686978745L,
+        -8935331169837884339L,
+        5945132218383110600L,
+        -6873865696484829119L,
+        -5121078779030085368L,
+        212848443502043314L,
+        -2555535184522240625L,
+        -5897623686716377564L,
+        -6286278746125852995L,
+        971472380605496274L,
+        -5040390430861692602L,
+        6793525695875091206L,
+        6915768384822940504L,
+        5767338828014129959L,
+        6631143623313822517L,
+        45907010321390836L,
+        -8623924997861598674L,
+        4144334686666707433L,
+        3432087157937909555L,
+        -2133583257615482291L,
+        8797045097172005126L,
+        4925537659878199470L,
+        -7666609536634583871L,
+        -4141242940946962707L,
+        1060483215406303509L,
+        5745290845039799087L,
+        3369775427067497171L,
+        83646745789600855L,
+        1746016916195758741L,
+        -2047759158871112966L,
+        6544632763492315445L,
+        3449670859082959800L,
+        -3480270925290201840L,
+        1593591717160117530L,
+        699639825400476456L,
+        -7786757348853661701L,
+        -7866828438498929962L,
+        -8436774568339087156L,
+        -6872412545555744884L,
+        -1816070043607625417L,
+        -4062899020010462094L,
+        -1243680713011115900L,
+        7276418736576456519L,
+        -5116539551594415571L,
+        -7325630422840798827L,
+        -3304291759436134519L,
+        -2843441670556017376L,
+        -909874586994430690L,
+        6096298880108558353L,
+        -5677659589139334386L,
+        -2921770322671167813L,
+        8053372291302036305L,
+        -6922817227656972723L,
+        -7330385065919404239L,
+        -3755774566586511378L,
+        -8945811074876159699L,
+        -678336405423949409L,
+        -3324409281932335263L,
+        529188077576245536L,
+        -8026754215435570905L,
+        -616556145867882734L,
+        4538064308384887903L,
+        -7147869218173880743L,
+        5979723626169796044L,
+        6342390962880988208L,
+        -8214221330487541662L,
+        -5031757536562585331L,
+        -1717948607492835271L,
+        8973179735171263232L,
+        7138761980310725477L,
+        -3094168604215508503L,
+        2396039623910116537L,
+        -2401615621120920370L,
+        -1515414194794717189L,
+        6207535467596271765L,
+        6450755789731546163L,
+        3187890303775210191L,
+        -5321946367712868581L,
+        7949371942173299214L,
+        941921917064051201L,
+        -2038921441480660427L,
+        -3673613575497264686L,
+        8594992851233762155L,
+        -8317498480625716433L,
+        5534147370494009101L,
+        5510252557892803157L,
+        -6084267120165064790L,
+        -1563489708847916754L,
+        4110738480782346208L,
+        927612188976519766L,
+        -3435974899844403647L,
+        -8184101054185300189L,
+        -5716493077637950174L,
+        8092837200425894794L,
+        -7367506065199526067L,
+        5102515849787940085L,
+        -4374412049906926906L,
+        -4804124580386864101L,
+        98473792996743114L,
+        6313500269379578948L,
+        -3525191938364059225L,
+        474978850314608902L,
+        6232529769513545799L,
+        791493174027132753L,
+        -9196115489767346756L,
+        -8040074314281749086L,
+        -5615674880332818666L,
+        1444296946509960871L,
+        -7206931068831534343L,
+        -2902991997652862857L,
+        -9058192168373658390L,
+        7941054329534714929L,
+        6604326858580926227L,
+        942843111284481200L,
+        -923082870076219113L,
+        -8967394472829690729L,
+        -9201467673789181087L,
+    };
+
+    public static final long[] HASHES_OF_LOOPING_BYTES_WITH_SEED_42 = {
+        3081673479958844160L,
+        232879498773251109L,
+        -9034811082025092854L,
+        -3558575260570714220L,
+        -2774954364829399789L,
+        642445459925668591L,
+        8671686841779493849L,
+        -1130634880021943133L,
+        4527949940774416183L,
+        -5156762232949185057L,
+        8248893456269024295L,
+        7167626035169388457L,
+        -3581296485675427444L,
+        6587668281726655779L,
+        387593747835408602L,
+        -6659597967919877104L,
+        -7080745660462710764L,
+        6261246761949944914L,
+        8634538442960624930L,
+        -7366172434288161807L,
+        8931587363731104270L,
+        5268334044426420345L,
+        5733416759085008744L,
+        7853050768005965238L,
+        2599925324098220409L,
+        -6360455986313645614L,
+        8946592316205417284L,
+        5838850278514597486L,
+        -8328645199697726790L,
+        -6608731165449041321L,
+        -6538169889091608634L,
+        -6802324371777724825L,
+        7031622748083151329L,
+        2884031879728823863L,
+        -9002505493651331995L,
+        8963739934580183168L,
+        7452222260788501854L,
+        7768447741037113776L,
+        4105034803829541517L,
+        5374905940433468652L,
+        -2281208851540015808L,
+        9194090835157840934L,
+        -1617682056551223614L,
+        -1717293573683466390L,
+        8079933690569730362L,
+        2394741944142213116L,
+        -5048031594155782490L,
+        -56348058281651684L,
+        -7779784585041366110L,
+        8653099728668153532L,
+        -8557741806473098361L,
+        2402646175945892210L,
+        4706554241504007725L,
+        3776612471639742003L,
+        -2558607905917830267L,
+        -206389155639495656L,
+        -4017678484762667392L,
+        -4896697929054093610L,
+        -284617882164908835L,
+        -2265997938731391159L,
+        8606802764648066702L,
+        -8584299531150151618L,
+        -1151749421158590397L,
+        -1760563820952757203L,
+        -512568790306032136L,
+        6396791595046540779L,
+        4979192463733476003L,
+        -4025299226609449272L,
+        5122460237248854786L,
+        2130063549543665098L,
+        -805536868003441888L,
+        -2134055255183354506L,
+        -7124807891449812738L,
+        -6808405568418656590L,
+        7144798298807211459L,
+        6686169615849450611L,
+        -5148979599290521524L,
+        3986849844554036237L,
+        2411713178790507345L,
+        1566769039676949445L,
+        8194485905782417267L,
+        -6054904547198270L,
+        -47541061215515085L,
+        -1244836077308560526L,
+        783391969254035382L,
+        2396379816238207741L,
+        -7181372451007072736L,
+        7532913776481743147L,
+        2324052811137446257L,
+        -7429187969245510779L,
+        39010726100688472L,
+        3174338110592905777L,
+        3056730189096421462L,
+        -8314610303881801501L,
+        4313829269432580899L,
+        -3216344464859386013L,
+        5184966355553269117L,
+        7811500663624936577L,
+        2924775622318692367L,
+        -5597145204083846092L,
+        -8442007147626600063L,
+        1230791370702100632L,
+        6800255744236027115L,
+        -7323320726953172018L,
+        -4095404312252424585L,
+        6183475099776844358L,
+        -7534925988906713348L,
+        -807391926935362561L,
+        3048944874035755104L,
+        -2643005123688107287L,
+        3283677597501015770L,
+        -3111850566401351450L,
+        4687895028966927748L,
+        466214310864964932L,
+        2749488835307118184L,
+        6257430788381053970L,
+        -465279573874648896L,
+        -2285893721499555734L,
+        6510908040406050356L,
+        -7530456693462950528L,
+        1141014712983736849L,
+        5092738264208125254L,
+        -4721186904962506397L,
+        -5987865383152970207L,
+        -3755374290956878257L,
+        4860209675636238640L,
+        5892735898584588323L,
+        -2466315042003840609L,
+        -3560026808309707165L,
+        7732059837207122993L,
+        8891701494405995534L,
+        -4125444955918065057L,
+        4330050651914755280L,
+        -8939615473529328085L,
+        6488555246892619747L,
+        -7139722071587794379L,
+        -5326220071728450118L,
+        8481716485723221737L,
+        -1255659710874155648L,
+        6517773496661475740L,
+        462842744472356685L,
+        -1523424360590394107L,
+        -5571456495639841729L,
+        -1243011667228993342L,
+        5584762309507684311L,
+        5981631882114912800L,
+        -2031635648604554139L,
+        2620111002288173957L,
+        -4603073528660748599L,
+        -245306544138166617L,
+        6765056847543549026L,
+        3041041921501593078L,
+        488132672957729258L,
+        -1900009129927673154L,
+        4298981625786949731L,
+        6208330456872126915L,
+        6240305523490663827L,
+        -2950184947913869957L,
+        -8991001659321691345L,
+        -7268618073289499345L,
+        -8289624450206066800L,
+        -9182503831768516710L,
+        3415679467034062208L,
+        -7730512663567381938L,
+        2963883844394191368L,
+        1389906392809878942L,
+        -146482476077250755L,
+        -3144830021680526761L,
+        1712236116541808736L,
+        3886060733980201673L,
+        2377322052060584135L,
+        4502959542340220149L,
+        -4970902575796844632L,
+        3607976551717099494L,
+        -2484034078774291239L,
+        -1962580072766568263L,
+        -7662351353347217423L,
+        -8585504359982380749L,
+        -6442433062604153104L,
+        -7615912620770665556L,
+        -5379395550736024079L,
+        -3129671686398702221L,
+        3053657302699368382L,
+        6308973623514717423L,
+        -8619094435077850413L,
+        -1596153931690398754L,
+        2856816603338923900L,
+        1183568514461874040L,
+        2499986870435539166L,
+        -5004825431398266536L,
+        -3238192502165426683L,
+        5821406217231955421L,
+        -2177719554074841830L,
+        -2855726227143653232L,
+        -1026498388333343364L,
+        5597858483162492952L,
+        2784566463804688048L,
+        -3902082356908978473L,
+        8961083964999466775L,
+        7054330571550065688L,
+        -6666921674878156419L,
+        3430424913409996399L,
+        -5374911365762795899L,
+        3162510912548295415L,
+        2805063905170680498L,
+        4432527478684272756L,
+        -9150420740146438729L,
+        7958774474516860771L,
+        -4866615078704621096L,
+        -6879242658506799189L,
+        8624668815438962867L,
+        -5868577245834974026L,
+        2243301336679817094L,
+        -979855269346048910L,
+        -6006606515222806637L,
+        -8956249179078712793L,
+        2528824911958139592L,
+        3049754628972617603L,
+        -618125156401759930L,
+        2786621756861640078L,
+        1698781924438230285L,
+        3083231124176417941L,
+        -1444232155198562667L,
+        -3609763735573430987L,
+        -5819666103229958542L,
+        5122814954957772807L,
+        1155329735263565403L,
+        2814307611316548993L,
+        -4801556148530676821L,
+        43167755838006430L,
+        7358919702752386152L,
+        3514382745329289103L,
+        4629331463072797893L,
+        -8915669046651983295L,
+        3851008032016180285L,
+        -7234671379118716752L,
+        -7303880248157106295L,
+        5234525697410599634L,
+        6636536607959362049L,
+        -4932929132080434431L,
+        -5391857685139661465L,
+        5686831798783816462L,
+        4259520666895173049L,
+        -5976098598089398847L,
+        -3388065885293816259L,
+        4046582448322071631L,
+        -2188971056011601309L,
+        -2240836156765601053L,
+        -5470369023176620273L,
+        -5173722528374594372L,
+        -6815951378716323270L,
+        -694497331999298495L,
+        -4672880296996330318L,
+        2904683666610115288L,
+        -3790149320959067964L,
+        -3745705059861376050L,
+        -458928555212258041L,
+        1633316813940761374L,
+        7872515715843825226L,
+        -8273842820079353569L,
+        6315456623617649215L,
+        7995790905542456337L,
+        -1757411370952223716L,
+        -5903881190905769997L,
+        -5365011919415869456L,
+        -3694529961658812417L,
+        7138127968778268436L,
+        8675195774632378454L,
+        -6007427551066993452L,
+        -3472775413558860367L,
+        8429421391255856026L,
+        -6965393702767079286L,
+        -1997277860735666634L,
+        8659682426809128444L,
+        -120073992165993871L,
+        -1423175865590131171L,
+        -6634744167220802933L,
+        -6661094576706635921L,
+        -3922789328690933780L,
+        6546549951544112566L,
+        -6258738209741967065L,
+        5376538302843296237L,
+        3325775916975384501L,
+        -1506509549769284565L,
+        8159572942996444770L,
+        -5797677495046627377L,
+        -6960743510228845903L,
+        1694598352499050012L,
+        -6184002429666414594L,
+        8926101927853764580L,
+        2868793840078366205L,
+        -8247667105025161972L,
+        2471116408198080957L,
+        713495716257653258L,
+        -8104453560156139928L,
+        -2456742100215629245L,
+        -365340093111048897L,
+        -7766736373816447980L,
+        -6979046931842848743L,
+        4056329197454275280L,
+        -3517537529394148653L,
+        -1802539849491942320L,
+        4649808637536592390L,
+        6797555066671059595L,
+        9193586525897076569L,
+        -6989263350262516853L,
+        -5655005709159284700L,
+        2157928119735033217L,
+        8075763596478950855L,
+        -5791605219303492876L,
+        5682456026613221018L,
+        204350938421953406L,
+        7337352842617933885L,
+        -3780879594682080901L,
+        6426184483158764699L,
+        7104951082446000019L,
+        2450286230338527337L,
+        78400023453332020L,
+        3732034050873024475L,
+        5992663874267186279L,
+        8439631776135680029L,
+        -5578274866166688968L,
+        -8537814979918018558L,
+        8148697796253199031L,
+        -77980559960259191L,
+        7542016945909224317L,
+        5551397603397647466L,
+        7118575782223438128L,
+        -1777807838438140114L,
+        2669824442923295589L,
+        7170607054503902162L,
+        -6775490647429688120L,
+        4191235414434289752L,
+        -6822912709705935895L,
+        -8259063261231107964L,
+        7678577200517740742L,
+        7871290946134814756L,
+        250368704708395480L,
+        7640080929097014721L,
+        6466001437075320795L,
+        -6762540757888959627L,
+        3387829049957358296L,
+        -7178741792778166692L,
+        3769936038951435630L,
+        -3941218443941440398L,
+        5778242210573209883L,
+        -6008180845087875354L,
+        3833674242067346134L,
+        -1733629967951805091L,
+        5728209275417369256L,
+        -5783315356516043481L,
+        -3904789039089823942L,
+        -5839973882271515900L,
+        7743744361430625653L,
+        32115164843122634L,
+        6960096893485837442L,
+        3228020935012503251L,
+        -881614992867776027L,
+        -6280231619803447468L,
+        -4775508973314470807L,
+        -6359303338812988267L,
+        578543280448708731L,
+        -5277722719374117948L,
+        6961402037114820831L,
+        10257207800037889L,
+        -2415826262113608348L,
+        5734273571996702613L,
+        7464421467566319616L,
+        4916844906956001616L,
+        8119959780365618369L,
+        -8314333129047870171L,
+        -61503343771628115L,
+        6759090089814708341L,
+        4677381804944592674L,
+        -7968268488596407949L,
+        3125638541913205839L,
+        -2421003002751203525L,
+        -2188901332254755343L,
+        2091520130818758058L,
+        -6930767306609731765L,
+        4080899911045863635L,
+        4104530660170010803L,
+        4780071802488399792L,
+        3315037013863440176L,
+        3398838760992667632L,
+        -5132374351739079004L,
+        1008661418917230578L,
+        5137656171110807580L,
+        -1165317657594758772L,
+        -4693579143644373981L,
+        -9015077214423393745L,
+        7039700683810677013L,
+        -157983927043949026L,
+        -7400403498192928531L,
+        2492143510527412440L,
+        905453073884377503L,
+        -7853442768519581879L,
+        -7358306829013569430L,
+        -5209135447184958943L,
+        -2395128794965177015L,
+        8840774681001597411L,
+        -1245536697062218903L,
+        -8758650156782537474L,
+        -1828069213037897233L,
+        -7686761029805488120L,
+        -7026118193432521217L,
+        -8876770549106215025L,
+        1422021509810502091L,
+        -2332573582570315015L,
+        -940687660804042716L,
+        3598222584679472777L,
+        8100611099704084434L,
+        8023866170528940477L,
+        6238098801710644382L,
+        -3880511190920598092L,
+        -1132582886476569816L,
+        -602935681939205764L,
+        -3027412714088093859L,
+        1251674476007968674L,
+        3338480645600303980L,
+        3093584017383050998L,
+        4040158930439853818L,
+        2520906451070192808L,
+        1722874629719884090L,
+        -7555637417120121744L,
+        3644733746020808293L,
+        -6674127584550790363L,
+        8259440533371201633L,
+        -6754106566490164862L,
+        -314619989727680376L,
+        -3336235235379530817L,
+        -7490957358406553014L,
+        -1258307382156650296L,
+        -4597349197759566900L,
+        -7235692571034986029L,
+        8305626538139175412L,
+        -7086390488387874341L,
+        -4507809079476377031L,
+        8090888387876776981L,
+        5942743118346300651L,
+        4694272617549175107L,
+        -8815748844543199359L,
+        6538897041794163136L,
+        -7942598680209825450L,
+        3702823137695017134L,
+        1542659808451027862L,
+        -3545972142923221991L,
+        4467728880569662834L,
+        -4822860265572493586L,
+        -8831741717170426010L,
+        -3717923600053655037L,
+        83232174711887385L,
+        2104293064881149893L,
+        -1070187355652621576L,
+        7779481709459525373L,
+        5663231671983957331L,
+        956228920220749683L,
+        3384368269673584303L,
+        -6803018241297036178L,
+        -4445445513676990898L,
+        1866246181253832113L,
+        591699306143868950L,
+        -6405457943069711141L,
+        659365903789705356L,
+        7354189047316576914L,
+        -6694905289962869525L,
+        1825107798585840717L,
+        1938942339295217653L,
+        -7621445332081706918L,
+        607390412921632210L,
+        201750432681141413L,
+        2432020123645380648L,
+        -774705444553298445L,
+        1040281996812347005L,
+        7354553596035608838L,
+        -582147229367938043L,
+        7807907320950753151L,
+        3782468606106126846L,
+        -1112990000015185486L,
+        -3780108157137508464L,
+        6982721216725809214L,
+        -217841174872882016L,
+        -538923399719219066L,
+        -8293832411278119686L,
+        -3153729940615334242L,
+        5561086731058595768L,
+        8091904373858710145L,
+        7589624990834237993L,
+        -160602156521178826L,
+        4979177656844138222L,
+        8135600907984723936L,
+        2693323154657102240L,
+        4342917124688843647L,
+        1364948551662900876L,
+        1829234240865381033L,
+        8257169241030709242L,
+        2473414015873876359L,
+        -848772259911345037L,
+        -7953977437820130937L,
+        -6318921779996764016L,
+        8276750162049130134L,
+        -3552198767330632190L,
+        -154937573824101497L,
+        8218957180743783616L,
+        1935794974117818560L,
+        -487901121361292406L,
+        -4327946017427079161L,
+        -4776703947741488006L,
+        3350518009500332854L,
+        2893431371630161013L,
+        3941302366492481408L,
+        -7107887289634804466L,
+        8596646143309277723L,
+        4844733085054580924L,
+        -5991248689279984472L,
+        -4159856458324022851L,
+        -210831894703857916L,
+        -7540339918392602656L,
+        -5919442708012002294L,
+        -8043591100784882370L,
+        -7305959194959375622L,
+        -763933922447796507L,
+        3714115394994311937L,
+        5642851016184332456L,
+        8309908206594761715L,
+        419977914052819831L,
+        76354619200828526L,
+        5665956526433239107L,
+        -5177544730167802119L,
+        -6003470876696726167L,
+        1653382690790121991L,
+        -4676603248336166235L,
+        5292676424342262061L,
+        -5095703827421344089L,
+        -9063699588827529004L,
+        3863917195246187631L,
+        7421622764427149914L,
+        -3781602879896112050L,
+        -8337056371132269474L,
+        -4910510857113540094L,
+        -255189006711779929L,
+        -8058473801759995076L,
+        -6405034172837044323L,
+        819099213262131553L,
+        -476510155070825858L,
+        -5988415356048435163L,
+        6835788659413040966L,
+        3766230365547673255L,
+        -885364315223719113L,
+        1585918622948699900L,
+        -7456614341262992128L,
+        5846972408184670498L,
+        -3026034642107474646L,
+        5386056264035969618L,
+        -4346600724703394630L,
+        -3012136030573611982L,
+        7584579139937705620L,
+        6800135411476049282L,
+        -4547060921661008391L,
+        -3237556389459517596L,
+        -3477407114141228530L,
+        7149582791645666206L,
+        1760902364879887603L,
+        8788769859865527484L,
+        -2731906438566671084L,
+        -1866372464188382768L,
+        -7739278990277243128L,
+        -2069603625520459480L,
+        -2361505036038582039L,
+        21045726238141445L,
+        -5550797282358182785L,
+        -7749360755687097585L,
+        7793143709145680608L,
+        -5845397454949989931L,
+        -3904541212971534159L,
+        6749195761900249098L,
+        8196104383953360968L,
+        8473609497460541259L,
+        -8718620143200064071L,
+        2165127005239884538L,
+        1463531436218814516L,
+        -728435829973204942L,
+        -7531053210038673352L,
+        -3783482244997471642L,
+        8793700028774046925L,
+        -2846032723086078267L,
+        4458863670229782743L,
+        5397659937096729148L,
+        -1694385737455479587L,
+        -3417395337794469938L,
+        -768453988749510763L,
+        4791355172045129520L,
+        -2006833896136154578L,
+        -7695391387541035212L,
+        -5521562654426130350L,
+        4385739341396710890L,
+        6417045280670144967L,
+        6168145964571792248L,
+        -2965578049762457648L,
+        7647710763291567586L,
+        3141197342858466764L,
+        4334504015331347585L,
+        -1313059805324169977L,
+        -7848262856543287036L,
+        -7570379906217873347L,
+        -876894869494184318L,
+        -2128560033482987010L,
+        6254911524208602600L,
+        -8769858546261571783L,
+        -7889544849252530206L,
+        189002480613735488L,
+        7083710085676523127L,
+        -9011824012125282676L,
+        -6745318777852469177L,
+        9041714388927981548L,
+        125255412013497788L,
+        2117366968008556732L,
+        -1773711324404814681L,
+        -8400269180194051674L,
+        3708510186945694497L,
+        -7475815281789297061L,
+        -3655353397618513457L,
+        -4406975533221836756L,
+        -7002854982737339400L,
+        6278071980601238459L,
+        -8259068067461942305L,
+        6743650125088648168L,
+        4919336095559816922L,
+        -2892600337927192466L,
+        -7106055099197654500L,
+        2883993621418963907L,
+        8126825932728232272L,
+        720548200942514771L,
+        2114747988660662821L,
+        6160075934557550299L,
+        861360519444273316L,
+        4519824723107796199L,
+        -2146883179082352884L,
+        3727753000779809728L,
+        -2010734290103518004L,
+        244385682570586958L,
+        -821861568865670896L,
+        -5020073613969307204L,
+        8656890161208784174L,
+        7130974451861806656L,
+        4186875238676768845L,
+        -3114962895259178655L,
+        -7772837699330575095L,
+        -4679468848492514304L,
+        4721206084211994421L,
+        -8532844465569896207L,
+        -9121662961552348292L,
+        -5354016741898516709L,
+        26221799893011729L,
+        -4771610958202652903L,
+        -6442489260023255418L,
+        1209241114684062263L,
+        -158023791810997849L,
+        -4178400204446712635L,
+        -7698549286169420537L,
+        8657975865874999896L,
+        2982917240139893033L,
+        3489806204112505917L,
+        2923389378631705985L,
+        5572993894614181242L,
+        8229074854050083455L,
+        2304601308016809319L,
+        6172562950856819368L,
+        5319946270353511327L,
+        5720778166800452672L,
+        -7405003527305376765L,
+        8177613818560392986L,
+        -1076399908226442739L,
+        3863181566500254775L,
+        -1503028893491071830L,
+        -3909292449879938357L,
+        -3472874510376538254L,
+        -7751399252312796421L,
+        4734981018994082605L,
+        8221547613563916132L,
+        163882235197671201L,
+        3304894783915098846L,
+        330563608380082459L,
+        3503564373688124538L,
+        -1564391045802823387L,
+        3557978495755545978L,
+        4462932252631616310L,
+        1289106889236676799L,
+        -7931816398560208897L,
+        -1710235858787182685L,
+        -6373064438593821459L,
+        -6387815210779679759L,
+        8260782016450866455L,
+        3106362288457265375L,
+        -7935064337080369229L,
+        813241230139655006L,
+        -3623354894633638799L,
+        -5756697733959133080L,
+        -4909942847142301458L,
+        -5265814049559421438L,
+        -8105944040447945564L,
+        -5792458303874760925L,
+        -637035116250325631L,
+        -4736062798129176566L,
+        -7188223393712693497L,
+        2073018679072670763L,
+        5048550335224768003L,
+        2207547205482490208L,
+        -8521944801649882724L,
+        -2011282939599465350L,
+        -7668259610760542839L,
+        6937580521006016684L,
+        -2627460168060802572L,
+        -8574438123774058761L,
+        -9142463793180085656L,
+        -2615148692076343308L,
+        -8908617125190372344L,
+        2952030353538883647L,
+        -6447943417991180634L,
+        9166750791941687323L,
+        -358955511242957425L,
+        7229005438981299577L,
+        -8457216942896906587L,
+        6650063704449982558L,
+        5281862895964231578L,
+        2316051418734325416L,
+        2599050109460495508L,
+        3811526924187985236L,
+        5148224063412492583L,
+        3804399501809268483L,
+        3109447463887580315L,
+        -1657513115571203672L,
+        -7154940948854000697L,
+        8536477456184199977L,
+        4580958003495584336L,
+        8533554049176400897L,
+        -6000066423570860039L,
+        5333646709080118524L,
+        3095057621117992613L,
+        7457702633273503597L,
+        4379927432958479002L,
+        -5369316456276234588L,
+        -4549077074946474568L,
+        1470414468909589170L,
+        8282831044013826158L,
+        -2188361904420984478L,
+        -5745584241268610868L,
+        4645107287277570243L,
+        -8395267013309759742L,
+        -1180779420242177308L,
+        105753404044182853L,
+        3131679351676577717L,
+        -3590761082422067360L,
+        -4191407340843998637L,
+        1532353767909643771L,
+        7189425417035564605L,
+        -9163001191475064726L,
+        6235987787213207004L,
+        8767369472466196921L,
+        -4744625513694001285L,
+        6220911529137631641L,
+        1434460719800584353L,
+        1497565348309348936L,
+        4556342597585461188L,
+        -2167778095138912387L,
+        -5042817850277831654L,
+        -1861375684705465803L,
+        -3105301553944098678L,
+        1749036250396600477L,
+        4069864454984190049L,
+        4026673514122020567L,
+        -6416613753116658735L,
+        6372464778110531401L,
+        -4187679229025571898L,
+        -7042821285578383655L,
+        -1663560279893811285L,
+        -2119255282251588544L,
+        5636786496084342052L,
+        -2002201776674323007L,
+        -6064837060266651873L,
+        -6911486783044845807L,
+        -1120931802192311141L,
+        2077184989416746992L,
+        8882628707444664617L,
+        1393855027163737015L,
+        2612842673757962272L,
+        -9202906546613474095L,
+        699169188057539830L,
+        7402825100653749998L,
+        8008405682660548605L,
+        -8019124987226770920L,
+        2282705662823659139L,
+        4130365862262654760L,
+        -2031010226681103023L,
+        3991001620720064950L,
+        -205573234701968608L,
+        8508087297486765388L,
+        3352769502775700039L,
+        -1597924560769107270L,
+        -8202482524719604948L,
+        -8019864845996821170L,
+        4363949419311798656L,
+        -3562689396155368886L,
+        7548086260288244429L,
+        -5175305683794164683L,
+        -1803380817390589004L,
+        6643011076771854099L,
+        6414107874453601630L,
+        8800479812362868960L,
+        -3864123713194388751L,
+        1649893563400490334L,
+        7854499404632962108L,
+        1887657696091902708L,
+        -6171122316146093632L,
+        -7672211588786101109L,
+        -8471754138078490054L,
+        -4214865745330927754L,
+        -8266759526727734207L,
+        -6915820934966246241L,
+        -4285944716783031989L,
+        3217345197849513956L,
+        4209993873392183815L,
+        -1410466139824487489L,
+        1599022524441405630L,
+        8789920095374618931L,
+        -1579249228760240744L,
+        -9065077610929826956L,
+        4725132232927717578L,
+        1573575881619605375L,
+        7817068877868100842L,
+        -2882328346194847493L,
+        -632391783007112159L,
+        7690181024108706354L,
+        -8697759268166027525L,
+        -2287853431006379237L,
+        -2973951480957202090L,
+        -5147621905576799179L,
+        -6902963934153837259L,
+        7702259173039277766L,
+        -6620157914934576247L,
+        -3358045829496819268L,
+        1389166911477163473L,
+        -4281767351338440480L,
+        -4936954988406251992L,
+        -5584021017214267318L,
+        5436960310110849875L,
+        -4658222039659806805L,
+        210057900970888667L,
+        -8329021941816086269L,
+        7357185958376388761L,
+        3826463266364666137L,
+        -7970551013201255581L,
+        -540522983040975300L,
+        -5815096468788687239L,
+        2345960469567961443L,
+        1247548878814577663L,
+        3528763774847174363L,
+        6962105730118254578L,
+        6344456087378710242L,
+        -2629964911303791476L,
+        7986598722466438048L,
+        7602023458596711687L,
+        -7841921625912875240L,
+        4081628980219548762L,
+        -3459608406673425429L,
+        -974478479153143194L,
+        -3956893059599501680L,
+        4939779567460594055L,
+        2321024146343409874L,
+        -1682951786050983862L,
+        5075899406429850700L,
+        -4811956805635151881L,
+        1980694596601607326L,
+        7058749860117955818L,
+        1255742495120306380L,
+        3151545677541675570L,
+        -3495757031445385609L,
+        4256019443441734144L,
+        873722849110465058L,
+        7054929087590894917L,
+        8676279761759645734L,
+        9177038638369181034L,
+        3672745774955353901L,
+        -1153901949722654069L,
+        -1792627839617641672L,
+        -3019068944245465054L,
+        8445825094082543734L,
+        4506766520502310955L,
+        -5517867774703081760L,
+        8045294454057385344L,
+        -4540150801688599296L,
+        -19071491450693826L,
+        -606587544990999552L,
+        -874695210384617972L,
+        7619232061647612631L,
+        1958227108531728744L,
+        4014870609151803804L,
+        -6888630301650984936L,
+        -1987554829128477953L,
+        7138132455933139992L,
+        -3628069917419947338L,
+        -6133825555942553490L,
+        8961059975484670098L,
+        5135400093934694361L,
+        7626334076941939268L,
+        -3689641269725894845L,
+        3178010477021049879L,
+        2792580521576186511L,
+        8870351856032006305L,
+        -7869329813305349285L,
+        3397150070637781992L,
+        -4955604622126932832L,
+        252465359552801324L,
+        6978006594035612262L,
+        7070789742470723185L,
+        -3351862098405363306L,
+        4562338430783425147L,
+        -522652197633733348L,
+        5636388107743117581L,
+        -6414267378588509979L,
+        -3979692051494793808L,
+        1859354028530651939L,
+        -6851011066452580658L,
+        3546930699533458202L,
+        -7464591795490858025L,
+        3636375391221161168L,
+        3864917964040840672L,
+        731238558339219245L,
+        7347895736623181007L,
+        8569378089655685908L,
+        -647359699988419579L,
+        -2017538914501741447L,
+        -8837018946257058674L,
+        2844766285979623010L,
+        4176877965400548730L,
+        -7609687035485041288L,
+        7768668852774289236L,
+        -6153553916372348246L,
+        -3525005188430551026L,
+        975434638028758356L,
+        -3259253385038336585L,
+        4321072289319364674L,
+        7095310325832945826L,
+        -1311678868795541887L,
+        -8205209478166931915L,
+        -7384786805466672502L,
+        5844452002784967736L,
+        -2784909165214086486L,
+        -3864361783118354907L,
+        1021889598312091950L,
+        -4496427470665528197L,
+        7234107224505643498L,
+        4280867644485469041L,
+        -1410328462962660545L,
+        -2047611314271103155L,
+        1167194458031202682L,
+        7685666134508972322L,
+        2076060037464711252L,
+        -1688006078922465344L,
+        337292430775303107L,
+        6720961057030804833L,
+        -5543154214594242325L,
+        -7926341807928456751L,
+        -1525931873552872590L,
+        -757179118126018271L,
+        -1914699019466899725L,
+        4016592659302813176L,
+        -4692194963211757719L,
+        -9043336388470503788L,
+        -2995005496941642364L,
+        -264960801559645155L,
+        -4035453387468887799L,
+        3848454742410384106L,
+        7147523338422550901L,
+        7412191326139255402L,
+        6406844836612772390L,
+        -7716338668819141928L,
+        1297900726333250207L,
+        2776317488661100903L,
+        -1067113486930734806L,
+        -4789168463936153575L,
+        -1742815753752505126L,
+        -5690534554445709441L,
+        6849638648310443769L,
+        8234432445775149879L,
+        7307670701218697981L,
+        -1579616699607686831L,
+        5990674501073022282L,
+        -2750920629605943509L,
+        4013770499208742018L,
+        8381692647757269541L,
+        -9003250887779563740L,
+        -4599360843582954450L,
+        -311588704006032984L,
+        -982320937098397817L,
+        7776002049229747698L,
+        -7469096908310997603L,
+        -5008215401985894806L,
+        1758301785761887060L,
+        -3966906479603143327L,
+        4930703164922619853L,
+        925165022480201793L,
+        1801015072625092231L,
+        -4959641750927993031L,
+        913028189111457726L,
+        3364929628910113093L,
+        4227953341475857229L,
+        -8282768412039793919L,
+        4907617114000067271L,
+        -8790488877555006956L,
+        -8081385194258405513L,
+        6763179617387742069L,
+        -2183211260762713207L,
+        -5582321843195291211L,
+        5914918008760957876L,
+        8097316319435335110L,
+        7164659508057803717L,
+        -1494304376983830893L,
+        6797567979107335833L,
+        -1395917219802021045L,
+        1559116606767539459L,
+        -3746544935812135234L,
+        -6321965045039463714L,
+        -4350753519771015845L,
+        -69870788438911444L,
+    };
+}
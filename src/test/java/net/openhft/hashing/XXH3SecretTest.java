@@ -0,0 +1,448 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class XXH3SecretTest {
+
+    private static final int[] SECRET_SIZES = {136, 137, 191, 192, 200, 256, 1024 + 3};
+    private static final int MAX_LEN = 20000;
+
+    private static byte[] data(int len) {
+        final byte[] data = new byte[len];
+        new Random(len).nextBytes(data);
+        // LongHashFunctionTest.test() needs the first two bytes to differ, to hash the chars
+        // in the wrong byte order
+        if (len >= 2 && data[0] == data[1]) {
+            data[1] = (byte) ~data[0];
+        }
+        return data;
+    }
+
+    private static byte[] randomSecret(int size) {
+        final byte[] secret = new byte[size];
+        new Random(-size).nextBytes(secret);
+        return secret;
+    }
+
+    @Test
+    public void testDefaultSecret() {
+        // XXH3_generateSecret_fromSeed(0) is XXH3_kSecret
+        final byte[] kSecret = LongHashFunction.xx3GenerateSecret(0L);
+        assertEquals(192, kSecret.length);
+        final LongHashFunction f = LongHashFunction.xx3WithSecret(kSecret);
+        final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecret(kSecret);
+        for (int len = 0; len <= 1024; len++) {
+            final byte[] data = data(len);
+            LongHashFunctionTest.test(f, data, LongHashFunction.xx3().hashBytes(data));
+            LongTupleHashFunctionTest.test(t, data, LongTupleHashFunction.xx128().hashBytes(data));
+        }
+    }
+
+    @Test
+    public void testSecretFromSeed() {
+        for (final long seed : new long[] {42L, -1L, 0x9E3779B185EBCA87L}) {
+            final byte[] secret = LongHashFunction.xx3GenerateSecret(seed);
+            final LongHashFunction f = LongHashFunction.xx3WithSecretAndSeed(secret, seed);
+            final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecretAndSeed(secret, seed);
+            final LongHashFunction seeded = LongHashFunction.xx3(seed);
+            final LongTupleHashFunction seeded128 = LongTupleHashFunction.xx128(seed);
+            for (int len = 0; len <= 1024; len++) {
+                final byte[] data = data(len);
+                LongHashFunctionTest.test(f, data, seeded.hashBytes(data));
+                LongTupleHashFunctionTest.test(t, data, seeded128.hashBytes(data));
+            }
+        }
+    }
+
+    @Test
+    public void testSecretAndSeed() {
+        final long seed = 42L;
+        for (final int size : SECRET_SIZES) {
+            final byte[] secret = randomSecret(size);
+            final LongHashFunction f = LongHashFunction.xx3WithSecretAndSeed(secret, seed);
+            final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecretAndSeed(secret, seed);
+            final LongHashFunction withSecret = LongHashFunction.xx3WithSecret(secret);
+            final LongTupleHashFunction withSecret128 = LongTupleHashFunction.xx128WithSecret(secret);
+            for (int len = 0; len <= 1024; len += len < 300 ? 1 : 37) {
+                final byte[] data = data(len);
+                // the seed applies to short inputs only, the secret to long inputs only
+                if (len <= 240) {
+                    assertEquals(LongHashFunction.xx3(seed).hashBytes(data), f.hashBytes(data));
+                    assertArrayEquals(LongTupleHashFunction.xx128(seed).hashBytes(data), t.hashBytes(data));
+                } else {
+                    assertEquals(withSecret.hashBytes(data), f.hashBytes(data));
+                    assertArrayEquals(withSecret128.hashBytes(data), t.hashBytes(data));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCustomSecretLongInputs() {
+        for (final int size : SECRET_SIZES) {
+            final byte[] secret = randomSecret(size);
+            final LongHashFunction f = LongHashFunction.xx3WithSecret(secret);
+            final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecret(secret);
+            final int blockLen = (size - 64) / 8 * 64;
+            for (int len = 241; len <= MAX_LEN; len += 97) {
+                testLongInput(f, t, secret, len);
+            }
+            for (int blocks = 1; blocks <= 3; blocks++) {
+                for (int len = blocks * blockLen - 1; len <= blocks * blockLen + 1; len++) {
+                    if (len > 240) {
+                        testLongInput(f, t, secret, len);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void testLongInput(LongHashFunction f, LongTupleHashFunction t, byte[] secret, int len) {
+        final byte[] data = data(len);
+        final long[] eh = referenceHashLong(data, secret);
+        assertEquals("len " + len + ", secret " + secret.length, eh[0], f.hashBytes(data));
+        assertArrayEquals("len " + len + ", secret " + secret.length, eh, t.hashBytes(data));
+    }
+
+    @Test
+    public void testCustomSecretShortInputs() {
+        final byte[] secret = randomSecret(137);
+        final LongHashFunction f = LongHashFunction.xx3WithSecret(secret);
+        final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecret(secret);
+        for (int len = 0; len <= 240; len++) {
+            final byte[] data = data(len);
+            LongHashFunctionTest.test(f, data, f.hashBytes(data));
+            LongTupleHashFunctionTest.test(t, data, t.hashBytes(data));
+            // the secret is used for short inputs too
+            assertFalse(LongHashFunction.xx3().hashBytes(data) == f.hashBytes(data));
+        }
+    }
+
+    /**
+     * Test data is output of the following program with the xxHash 0.8.1 library
+     * from https://github.com/Cyan4973/xxHash
+     * <pre>
+     * #include &lt;stdio.h&gt;
+     * #include &lt;stdlib.h&gt;
+     * #define XXH_STATIC_LINKING_ONLY
+     * #include "xxhash.h"
+     *
+     * int main() {
+     *     static const int LENGTHS[] = {0, 1, 3, 4, 8, 9, 16, 17, 128, 129, 240, 241,
+     *             575, 576, 577, 1152, 1153, 4099};
+     *     const int N = sizeof(LENGTHS) / sizeof(LENGTHS[0]);
+     *     char material[100];
+     *     for (int i = 0; i &lt; 100; i++) {
+     *         material[i] = (char) i;
+     *     }
+     *     unsigned char secret[137];
+     *     XXH3_generateSecret(secret, sizeof(secret), material, sizeof(material));
+     *     char *src = (char *) malloc(4099);
+     *     for (int i = 0; i &lt; 4099; i++) {
+     *         src[i] = (char) i;
+     *     }
+     *
+     *     printf("secret\n");
+     *     for (int i = 0; i &lt; 137; i++) {
+     *         printf("%d,\n", (signed char) secret[i]);
+     *     }
+     *     printf("XXH3_64bits_withSecret\n");
+     *     for (int i = 0; i &lt; N; i++) {
+     *         printf("0x%016llxL,\n", XXH3_64bits_withSecret(src, LENGTHS[i], secret, 137));
+     *     }
+     *     printf("XXH3_64bits_withSecretandSeed, seed 42\n");
+     *     for (int i = 0; i &lt; N; i++) {
+     *         printf("0x%016llxL,\n",
+     *                 XXH3_64bits_withSecretandSeed(src, LENGTHS[i], secret, 137, 42));
+     *     }
+     *     printf("XXH3_128bits_withSecret\n");
+     *     for (int i = 0; i &lt; N; i++) {
+     *         XXH128_hash_t h = XXH3_128bits_withSecret(src, LENGTHS[i], secret, 137);
+     *         printf("{0x%016llxL, 0x%016llxL},\n", h.low64, h.high64);
+     *     }
+     *     printf("XXH3_128bits_withSecretandSeed, seed 42\n");
+     *     for (int i = 0; i &lt; N; i++) {
+     *         XXH128_hash_t h =
+     *                 XXH3_128bits_withSecretandSeed(src, LENGTHS[i], secret, 137, 42);
+     *         printf("{0x%016llxL, 0x%016llxL},\n", h.low64, h.high64);
+     *     }
+     *     return 0;
+     * }
+     * </pre>
+     */
+    private static final int[] REFERENCE_LENGTHS = {0, 1, 3, 4, 8, 9, 16, 17, 128, 129, 240, 241,
+            575, 576, 577, 1152, 1153, 4099};
+
+    private static final byte[] REFERENCE_SECRET = {
+            13, 26, 93, -12, 13, 118, 89, -3, 51, -1, 57, -30, -52, -3, 88, -57,
+            -39, 119, 74, 88, -56, 29, -97, -125, 54, 36, -110, -78, 50, 127, 108, 81,
+            51, -12, -126, 5, 77, -56, 23, -83, -101, 67, 119, -13, 28, 55, -25, 30,
+            52, -56, 12, 101, -110, -102, 13, 6, 58, 63, -47, -14, 96, 46, 92, -48,
+            -68, -35, 8, 35, -69, -100, -88, -32, -58, -85, 75, -30, 108, -125, -109, 58,
+            29, 90, -115, 13, 36, 55, -12, -67, -119, -14, 106, 74, 21, -30, -113, 3,
+            25, 94, -46, -19, 110, -56, -15, -80, 122, 38, 91, 114, 28, -33, -90, 113,
+            -53, -92, -30, -62, 11, 20, -98, -98, -15, -103, 81, -31, -66, 112, -75, -14,
+            53, -18, 120, -118, -35, 55, -51, -74, -2
+    };
+
+    private static final long[] REFERENCE_HASHES_WITH_SECRET = {
+            0x61a181f183794f3bL, 0xaa9b1a634d2b59dbL, 0xc1db37f757461287L,
+            0xb67e17b0bd739950L, 0x7cc9e541022abb76L, 0xc6cb269fd7e2c32eL,
+            0x01154facbcc3632aL, 0x6c3672f97e521fabL, 0x680e0ba053c37974L,
+            0x0dc7423457e0153eL, 0x5dbf3cc04d2f8ce4L, 0x09239e54cd86532aL,
+            0x9babce76b85c5c05L, 0xcbf6d903724bff9dL, 0x736a3b515fd7026dL,
+            0x2112dafef7afd53aL, 0xa77adbe4d36de2f9L, 0xe69aa794435ea209L
+    };
+
+    private static final long[] REFERENCE_HASHES_WITH_SECRET_AND_SEED_42 = {
+            0xb029411ff43d84d2L, 0x5cf10f10bf2dd245L, 0x75881294bdbaf34cL,
+            0xd8571bd6d6d17e42L, 0x533b2c25fa397f0bL, 0xec60d7913c5410f9L,
+            0x74891a34d3fff0a9L, 0x2668e3977d451c23L, 0xa7f863935f4a4028L,
+            0x82b80bdd4ac29db5L, 0x4c023d24e6a84d31L, 0x09239e54cd86532aL,
+            0x9babce76b85c5c05L, 0xcbf6d903724bff9dL, 0x736a3b515fd7026dL,
+            0x2112dafef7afd53aL, 0xa77adbe4d36de2f9L, 0xe69aa794435ea209L
+    };
+
+    private static final long[][] REFERENCE_HASHES_128_WITH_SECRET = {
+            {0x0a7c6d7e40659040L, 0x6f01e9eced70db14L},
+            {0xaa9b1a634d2b59dbL, 0x2c835e6038e26449L},
+            {0xc1db37f757461287L, 0xd643eb291806e86bL},
+            {0x3abe719d00a5e7cbL, 0xfdf0d1442b63e1faL},
+            {0x44d88c1ab2c0f615L, 0x83afde441c307887L},
+            {0x44aded8f5ef27b86L, 0x967f274f45458578L},
+            {0x61ca055a52304f13L, 0x554a6d10d695aea8L},
+            {0xbee42b22fc39eda6L, 0xce820262c2dc9f69L},
+            {0x6c5393ff99d08ea3L, 0xf494f25825b091e6L},
+            {0xa556f3622a7eae07L, 0xdadfad94637d1fd2L},
+            {0x8edc55c9904e3f42L, 0x20d949d0d3ab2353L},
+            {0x09239e54cd86532aL, 0x5d47a004826c8e84L},
+            {0x9babce76b85c5c05L, 0x9cca996c0fb8c401L},
+            {0xcbf6d903724bff9dL, 0x08cc2f8c6b44dd86L},
+            {0x736a3b515fd7026dL, 0x5b2954b5a7fb5f7dL},
+            {0x2112dafef7afd53aL, 0x8d3b09537ade1435L},
+            {0xa77adbe4d36de2f9L, 0x2332a064ebe5b338L},
+            {0xe69aa794435ea209L, 0xebb2a59ff15bea42L}
+    };
+
+    private static final long[][] REFERENCE_HASHES_128_WITH_SECRET_AND_SEED_42 = {
+            {0x3c1d09e9fe249164L, 0x16c20acd33f7af2fL},
+            {0x5cf10f10bf2dd245L, 0xea04d3fd8852dd2aL},
+            {0x75881294bdbaf34cL, 0xbfa7eeaf8785c322L},
+            {0xd876c6f1307e7b64L, 0x48a24076e64dae48L},
+            {0x11d820aa80c49954L, 0x724208a039d6b333L},
+            {0x93f7f6ff021d1475L, 0x8fa44248294e1bc5L},
+            {0x8397ff66a715007fL, 0x6a60d699e874c218L},
+            {0xff1759db8e15f1adL, 0xe218637beef5edb4L},
+            {0xcd7065b1aea2e4e9L, 0x2cfa5536407c26ceL},
+            {0x40b91a40e61888b9L, 0x9e41bfeaf492d7e5L},
+            {0xba3788ebe65051f7L, 0x8e76dd8a173ddbc5L},
+            {0x09239e54cd86532aL, 0x5d47a004826c8e84L},
+            {0x9babce76b85c5c05L, 0x9cca996c0fb8c401L},
+            {0xcbf6d903724bff9dL, 0x08cc2f8c6b44dd86L},
+            {0x736a3b515fd7026dL, 0x5b2954b5a7fb5f7dL},
+            {0x2112dafef7afd53aL, 0x8d3b09537ade1435L},
+            {0xa77adbe4d36de2f9L, 0x2332a064ebe5b338L},
+            {0xe69aa794435ea209L, 0xebb2a59ff15bea42L}
+    };
+
+    @Test
+    public void testReferenceImplementation() {
+        final byte[] material = new byte[100];
+        for (int i = 0; i < material.length; i++) {
+            material[i] = (byte) i;
+        }
+        final byte[] secret = LongHashFunction.xx3GenerateSecret(material, 137);
+        assertArrayEquals(REFERENCE_SECRET, secret);
+
+        final LongHashFunction f = LongHashFunction.xx3WithSecret(secret);
+        final LongHashFunction fs = LongHashFunction.xx3WithSecretAndSeed(secret, 42L);
+        final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecret(secret);
+        final LongTupleHashFunction ts = LongTupleHashFunction.xx128WithSecretAndSeed(secret, 42L);
+        for (int i = 0; i < REFERENCE_LENGTHS.length; i++) {
+            final byte[] data = new byte[REFERENCE_LENGTHS[i]];
+            for (int j = 0; j < data.length; j++) {
+                data[j] = (byte) j;
+            }
+            LongHashFunctionTest.test(f, data, REFERENCE_HASHES_WITH_SECRET[i]);
+            LongHashFunctionTest.test(fs, data, REFERENCE_HASHES_WITH_SECRET_AND_SEED_42[i]);
+            LongTupleHashFunctionTest.test(t, data, REFERENCE_HASHES_128_WITH_SECRET[i]);
+            LongTupleHashFunctionTest.test(ts, data, REFERENCE_HASHES_128_WITH_SECRET_AND_SEED_42[i]);
+        }
+    }
+
+    @Test
+    public void testStreaming() {
+        for (final int size : new int[] {136, 1024 + 3}) {
+            final byte[] secret = randomSecret(size);
+            final LongHashFunction f = LongHashFunction.xx3WithSecret(secret);
+            final LongHashFunction fs = LongHashFunction.xx3WithSecretAndSeed(secret, 42L);
+            final LongTupleHashFunction t = LongTupleHashFunction.xx128WithSecret(secret);
+            final LongTupleHashFunction ts = LongTupleHashFunction.xx128WithSecretAndSeed(secret, 42L);
+            StreamingHasherTest.test(f.newStreamingHasher(), f);
+            StreamingHasherTest.test(fs.newStreamingHasher(), fs);
+            StreamingHasherTest.test(t.newStreamingHasher(), t);
+            StreamingHasherTest.test(ts.newStreamingHasher(), ts);
+        }
+    }
+
+    @Test
+    public void testSecretIsCopied() {
+        final byte[] secret = randomSecret(200);
+        final LongHashFunction f = LongHashFunction.xx3WithSecret(secret);
+        final byte[] data = data(1000);
+        final long eh = f.hashBytes(data);
+        Arrays.fill(secret, (byte) 0);
+        assertEquals(eh, f.hashBytes(data));
+    }
+
+    @Test
+    public void testTooShortSecret() {
+        try {
+            LongHashFunction.xx3WithSecret(new byte[135]);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            LongTupleHashFunction.xx128WithSecretAndSeed(new byte[135], 42L);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+        try {
+            LongHashFunction.xx3GenerateSecret(new byte[16], 135);
+            fail("should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGenerateSecret() {
+        for (final int materialLen : new int[] {0, 1, 16, 100, 300}) {
+            final byte[] material = data(materialLen);
+            for (final int size : SECRET_SIZES) {
+                final byte[] secret = LongHashFunction.xx3GenerateSecret(material, size);
+                assertEquals(size, secret.length);
+                assertArrayEquals(referenceGenerateSecret(material, size), secret);
+            }
+        }
+        assertArrayEquals(LongHashFunction.xx3GenerateSecret(new byte[0], 192),
+                LongHashFunction.xx3GenerateSecret(LongHashFunction.xx3GenerateSecret(0L), 192));
+    }
+
+    /**
+     * XXH3_generateSecret() transcribed over the public XXH128 functions.
+     */
+    private static byte[] referenceGenerateSecret(byte[] material, int size) {
+        if (material.length == 0) {
+            material = LongHashFunction.xx3GenerateSecret(0L);
+        }
+        final ByteBuffer secret = ByteBuffer.allocate(size).order(LITTLE_ENDIAN);
+        for (int i = 0; i < size; i++) {
+            secret.put(i, material[i % material.length]);
+        }
+        final long[] h = LongTupleHashFunction.xx128().hashBytes(material);
+        final byte[] scrambler = ByteBuffer.allocate(16).order(BIG_ENDIAN)
+                .putLong(h[1]).putLong(h[0]).array();
+        for (int n = 0; n < size / 16; n++) {
+            final long[] hn = LongTupleHashFunction.xx128(n).hashBytes(scrambler);
+            secret.putLong(n * 16, secret.getLong(n * 16) ^ hn[0]);
+            secret.putLong(n * 16 + 8, secret.getLong(n * 16 + 8) ^ hn[1]);
+        }
+        secret.putLong(size - 16, secret.getLong(size - 16) ^ h[0]);
+        secret.putLong(size - 8, secret.getLong(size - 8) ^ h[1]);
+        return secret.array();
+    }
+
+    private static final long PRIME32_1 = 0x9E3779B1L;
+    private static final long PRIME32_2 = 0x85EBCA77L;
+    private static final long PRIME32_3 = 0xC2B2AE3DL;
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    /**
+     * A straightforward transcription of XXH3_hashLong_64b/128b with a custom secret of any size,
+     * for inputs longer than 240 bytes.
+     */
+    private static long[] referenceHashLong(byte[] data, byte[] secret) {
+        final ByteBuffer in = ByteBuffer.wrap(data).order(LITTLE_ENDIAN);
+        final ByteBuffer sec = ByteBuffer.wrap(secret).order(LITTLE_ENDIAN);
+        final long[] acc = {PRIME32_3, PRIME64_1, PRIME64_2, PRIME64_3,
+                PRIME64_4, PRIME32_2, PRIME64_5, PRIME32_1};
+        final int nbStripesPerBlock = (secret.length - 64) / 8;
+        final int blockLen = 64 * nbStripesPerBlock;
+        final int nbBlocks = (data.length - 1) / blockLen;
+        for (int n = 0; n < nbBlocks; n++) {
+            for (int s = 0; s < nbStripesPerBlock; s++) {
+                accumulate512(acc, in, n * blockLen + s * 64, sec, s * 8);
+            }
+            for (int i = 0; i < 8; i++) {
+                final long a = acc[i];
+                acc[i] = (a ^ (a >>> 47) ^ sec.getLong(secret.length - 64 + 8 * i)) * PRIME32_1;
+            }
+        }
+        final int nbStripes = (data.length - 1 - nbBlocks * blockLen) / 64;
+        for (int s = 0; s < nbStripes; s++) {
+            accumulate512(acc, in, nbBlocks * blockLen + s * 64, sec, s * 8);
+        }
+        accumulate512(acc, in, data.length - 64, sec, secret.length - 64 - 7);
+
+        final long len = data.length;
+        return new long[] {
+                mergeAccs(acc, sec, 11, len * PRIME64_1),
+                mergeAccs(acc, sec, secret.length - 64 - 11, ~(len * PRIME64_2))
+        };
+    }
+
+    private static void accumulate512(long[] acc, ByteBuffer in, int off, ByteBuffer sec, int secOff) {
+        for (int i = 0; i < 8; i++) {
+            final long dataVal = in.getLong(off + 8 * i);
+            final long dataKey = dataVal ^ sec.getLong(secOff + 8 * i);
+            acc[i ^ 1] += dataVal;
+            acc[i] += (dataKey & 0xFFFFFFFFL) * (dataKey >>> 32);
+        }
+    }
+
+    private static long mergeAccs(long[] acc, ByteBuffer sec, int secOff, long start) {
+        long result = start;
+        for (int i = 0; i < 4; i++) {
+            final long a = acc[2 * i] ^ sec.getLong(secOff + 16 * i);
+            final long b = acc[2 * i + 1] ^ sec.getLong(secOff + 16 * i + 8);
+            result += (a * b) ^ Maths.unsignedLongMulHigh(a, b);
+        }
+        result ^= result >>> 37;
+        result *= 0x165667919E3779F9L;
+        return result ^ (result >>> 32);
+    }
+}
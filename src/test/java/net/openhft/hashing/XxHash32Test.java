@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 Higher Frequency Trading http://www.higherfrequencytrading.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.openhft.hashing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class XxHash32Test {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        ArrayList<Object[]> data = new ArrayList<Object[]>();
+        for (int len = 0; len < 1025; len++) {
+            data.add(new Object[]{len});
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter
+    public int len;
+
+    @Test
+    public void testXxHash32WithoutSeed() {
+        test(IntHashFunction.xx32(), 0);
+    }
+
+    @Test
+    public void testXxHash32WithSeed() {
+        test(IntHashFunction.xx32(42), 42);
+        test(IntHashFunction.xx32(0x9E3779B1), 0x9E3779B1);
+    }
+
+    @Test
+    public void testKnownValues() {
+        if (len != 0)
+            return;
+        final Charset ascii = Charset.forName("US-ASCII");
+        final IntHashFunction f = IntHashFunction.xx32();
+        assertEquals(0x02CC5D05, f.hashVoid());
+        assertEquals(0x550D7456, f.hashBytes("a".getBytes(ascii)));
+        assertEquals(0x32D153FF, f.hashBytes("abc".getBytes(ascii)));
+        assertEquals(0xE2293B2F, f.hashBytes(
+                "Nobody inspects the spammish repetition".getBytes(ascii)));
+    }
+
+    private void test(IntHashFunction f, int seed) {
+        byte[] data = new byte[len];
+        for (int j = 0; j < data.length; j++) {
+            data[j] = (byte) j;
+        }
+        IntHashFunctionTest.test(f, data, referenceXxHash32(data, seed));
+    }
+
+    /**
+     * A straightforward transcription of XXH32 from the xxHash specification, reading the input
+     * byte by byte.
+     */
+    private static int referenceXxHash32(byte[] data, int seed) {
+        final int p1 = 0x9E3779B1, p2 = 0x85EBCA77, p3 = 0xC2B2AE3D, p4 = 0x27D4EB2F;
+        final int p5 = 0x165667B1;
+        int i = 0;
+        int h;
+        if (data.length >= 16) {
+            int[] acc = {seed + p1 + p2, seed + p2, seed, seed - p1};
+            for (; i + 16 <= data.length; i += 16) {
+                for (int lane = 0; lane < 4; lane++) {
+                    acc[lane] = Integer.rotateLeft(acc[lane] + le32(data, i + lane * 4) * p2, 13) * p1;
+                }
+            }
+            h = Integer.rotateLeft(acc[0], 1) + Integer.rotateLeft(acc[1], 7) +
+                    Integer.rotateLeft(acc[2], 12) + Integer.rotateLeft(acc[3], 18);
+        } else {
+            h = seed + p5;
+        }
+        h += data.length;
+        for (; i + 4 <= data.length; i += 4) {
+            h = Integer.rotateLeft(h + le32(data, i) * p3, 17) * p4;
+        }
+        for (; i < data.length; i++) {
+            h = Integer.rotateLeft(h + (data[i] & 0xFF) * p5, 11) * p1;
+        }
+        h ^= h >>> 15;
+        h *= p2;
+        h ^= h >>> 13;
+        h *= p3;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int le32(byte[] data, int i) {
+        return (data[i] & 0xFF) | (data[i + 1] & 0xFF) << 8 |
+                (data[i + 2] & 0xFF) << 16 | (data[i + 3] & 0xFF) << 24;
+    }
+}